@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Iterator;
+
+import org.eclipse.rdf4j.model.impl.CompactModel;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.testsuite.model.ModelTest;
+import org.junit.jupiter.api.Test;
+
+public class CompactModelTest extends ModelTest {
+
+	@Override
+	protected Model getNewModel() {
+		return new CompactModel();
+	}
+
+	@Test
+	public void testFilterAfterRemovalsAndCompaction() {
+		ValueFactory vf = SimpleValueFactory.getInstance();
+		IRI p = vf.createIRI("urn:p");
+		IRI g = vf.createIRI("urn:g");
+		Model model = getNewModel();
+		for (int i = 0; i < 1000; i++) {
+			model.add(vf.createIRI("urn:s" + i % 10), p, vf.createLiteral(i), i % 2 == 0 ? g : null);
+		}
+		// builds the subject index before the removals
+		assertThat(model.filter(vf.createIRI("urn:s3"), null, null)).hasSize(100);
+
+		for (Iterator<Statement> iter = model.iterator(); iter.hasNext();) {
+			if (((Literal) iter.next().getObject()).intValue() < 900) {
+				iter.remove();
+			}
+		}
+		assertThat(model).hasSize(100);
+		assertThat(model.filter(vf.createIRI("urn:s3"), null, null)).hasSize(10);
+
+		// growing again reclaims the removed slots
+		for (int i = 1000; i < 2000; i++) {
+			model.add(vf.createIRI("urn:s" + i % 10), p, vf.createLiteral(i), i % 2 == 0 ? g : null);
+		}
+		assertThat(model).hasSize(1100);
+		assertThat(model.filter(vf.createIRI("urn:s3"), null, null)).hasSize(110);
+		assertThat(model.filter(null, null, null, g)).hasSize(550);
+		assertThat(model.filter(null, p, vf.createLiteral(1500), (Resource) null)).isEmpty();
+		assertThat(model.contains(vf.createIRI("urn:s1"), p, vf.createLiteral(1501))).isTrue();
+		assertThat(model.contains(vf.createIRI("urn:s1"), p, vf.createLiteral(501))).isFalse();
+	}
+
+}
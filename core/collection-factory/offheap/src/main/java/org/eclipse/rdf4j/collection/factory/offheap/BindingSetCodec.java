@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.collection.factory.offheap;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.MutableBindingSet;
+
+/**
+ * Encodes binding sets as a list of binding name numbers and values, ended by a 0. Binding names get a number when
+ * they are first seen and keep it, so equal binding sets get the same bytes. The binding sets are read and created
+ * with the functions that the caller of the {@link OffHeapCollectionFactory} passed in.
+ */
+final class BindingSetCodec {
+
+	private final ValueCodec valueCodec;
+	private final Supplier<MutableBindingSet> create;
+	private final Function<String, Predicate<BindingSet>> getHas;
+	private final Function<String, Function<BindingSet, Value>> getGet;
+	private final Function<String, BiConsumer<Value, MutableBindingSet>> getSet;
+
+	// in the order in which the names were first seen
+	private final Map<String, Integer> names = new HashMap<>();
+	private final List<Predicate<BindingSet>> has = new ArrayList<>();
+	private final List<Function<BindingSet, Value>> get = new ArrayList<>();
+	private final List<BiConsumer<Value, MutableBindingSet>> set = new ArrayList<>();
+
+	BindingSetCodec(ValueCodec valueCodec, Supplier<MutableBindingSet> create,
+			Function<String, Predicate<BindingSet>> getHas, Function<String, Function<BindingSet, Value>> getGet,
+			Function<String, BiConsumer<Value, MutableBindingSet>> getSet) {
+		this.valueCodec = valueCodec;
+		this.create = create;
+		this.getHas = getHas;
+		this.getGet = getGet;
+		this.getSet = getSet;
+	}
+
+	/**
+	 * Writes the binding set to the output.
+	 *
+	 * @return a hash of the bindings, which is the same for equal binding sets.
+	 */
+	int write(BindingSet bindingSet, ByteOutput out) {
+		for (String name : bindingSet.getBindingNames()) {
+			if (!names.containsKey(name)) {
+				names.put(name, has.size());
+				has.add(getHas.apply(name));
+				get.add(getGet.apply(name));
+				set.add(getSet.apply(name));
+			}
+		}
+		int hash = 1;
+		for (int i = 0; i < has.size(); i++) {
+			if (has.get(i).test(bindingSet)) {
+				Value value = get.get(i).apply(bindingSet);
+				out.writeVarLong(i + 1);
+				valueCodec.write(value, out);
+				hash = 31 * (31 * hash + i) + (value == null ? 0 : value.hashCode());
+			}
+		}
+		out.writeVarLong(0);
+		return hash;
+	}
+
+	BindingSet read(ByteBuffer in) {
+		MutableBindingSet bindingSet = create.get();
+		for (int name = (int) ByteOutput.readVarLong(in); name != 0; name = (int) ByteOutput.readVarLong(in)) {
+			set.get(name - 1).accept(valueCodec.read(in), bindingSet);
+		}
+		return bindingSet;
+	}
+}
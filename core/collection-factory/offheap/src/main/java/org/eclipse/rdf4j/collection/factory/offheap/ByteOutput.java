@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.collection.factory.offheap;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A reusable, growable buffer that a record is encoded into before it is copied off-heap.
+ */
+final class ByteOutput {
+
+	private byte[] bytes = new byte[256];
+
+	private int length;
+
+	ByteOutput reset() {
+		length = 0;
+		return this;
+	}
+
+	int length() {
+		return length;
+	}
+
+	byte get(int index) {
+		return bytes[index];
+	}
+
+	void writeByte(int value) {
+		ensureCapacity(1);
+		bytes[length++] = (byte) value;
+	}
+
+	void writeInt(int value) {
+		ensureCapacity(4);
+		bytes[length++] = (byte) (value >>> 24);
+		bytes[length++] = (byte) (value >>> 16);
+		bytes[length++] = (byte) (value >>> 8);
+		bytes[length++] = (byte) value;
+	}
+
+	/**
+	 * Writes an unsigned value in seven bit groups, so that small values take a single byte.
+	 */
+	void writeVarLong(long value) {
+		ensureCapacity(10);
+		while ((value & ~0x7FL) != 0) {
+			bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		bytes[length++] = (byte) value;
+	}
+
+	void writeString(String value) {
+		byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+		writeVarLong(utf8.length);
+		ensureCapacity(utf8.length);
+		System.arraycopy(utf8, 0, bytes, length, utf8.length);
+		length += utf8.length;
+	}
+
+	/**
+	 * Copies the bytes of this buffer to the current position of the target.
+	 */
+	void copyTo(ByteBuffer target) {
+		target.put(bytes, 0, length);
+	}
+
+	private void ensureCapacity(int extra) {
+		if (length + extra > bytes.length) {
+			bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + extra));
+		}
+	}
+
+	static long readVarLong(ByteBuffer in) {
+		long value = 0;
+		for (int shift = 0;; shift += 7) {
+			byte b = in.get();
+			value |= (long) (b & 0x7F) << shift;
+			if (b >= 0) {
+				return value;
+			}
+		}
+	}
+
+	static String readString(ByteBuffer in) {
+		byte[] utf8 = new byte[(int) readVarLong(in)];
+		in.get(utf8);
+		return new String(utf8, StandardCharsets.UTF_8);
+	}
+}
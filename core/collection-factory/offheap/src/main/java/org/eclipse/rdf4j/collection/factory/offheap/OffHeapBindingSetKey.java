@@ -0,0 +1,41 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.collection.factory.offheap;
+
+import java.util.Arrays;
+
+import org.eclipse.rdf4j.collection.factory.api.BindingSetKey;
+import org.eclipse.rdf4j.model.Value;
+
+final class OffHeapBindingSetKey implements BindingSetKey {
+
+	final Value[] values;
+
+	private final int hash;
+
+	OffHeapBindingSetKey(Value[] values, int hash) {
+		this.values = values;
+		this.hash = hash;
+	}
+
+	@Override
+	public int hashCode() {
+		return hash;
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		if (other instanceof OffHeapBindingSetKey && other.hashCode() == hash) {
+			return Arrays.equals(values, ((OffHeapBindingSetKey) other).values);
+		}
+		return false;
+	}
+}
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.collection.factory.offheap;
+
+import java.util.AbstractQueue;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.eclipse.rdf4j.query.BindingSet;
+
+/**
+ * A first-in-first-out queue of binding sets that are stored encoded in off-heap memory. Segments that have been
+ * consumed completely are released while polling.
+ */
+final class OffHeapBindingSetQueue extends AbstractQueue<BindingSet> {
+
+	private final BindingSetCodec codec;
+
+	private final RecordLog log;
+
+	private final ByteOutput scratch = new ByteOutput();
+
+	private long head = -1;
+
+	private int size;
+
+	OffHeapBindingSetQueue(OffHeapMemory memory, BindingSetCodec codec) {
+		this.codec = codec;
+		this.log = new RecordLog(memory);
+	}
+
+	@Override
+	public boolean offer(BindingSet bindingSet) {
+		codec.write(bindingSet, scratch.reset());
+		long address = log.append(scratch);
+		if (size++ == 0) {
+			head = address;
+		}
+		return true;
+	}
+
+	@Override
+	public BindingSet peek() {
+		return size == 0 ? null : codec.read(log.read(head));
+	}
+
+	@Override
+	public BindingSet poll() {
+		if (size == 0) {
+			return null;
+		}
+		BindingSet bindingSet = codec.read(log.read(head));
+		if (--size == 0) {
+			clear();
+		} else {
+			head = log.next(head);
+			log.releaseBefore(head);
+		}
+		return bindingSet;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public void clear() {
+		log.clear();
+		head = -1;
+		size = 0;
+	}
+
+	@Override
+	public Iterator<BindingSet> iterator() {
+		return new Iterator<>() {
+
+			private long next = head;
+
+			private int remaining = size;
+
+			@Override
+			public boolean hasNext() {
+				return remaining > 0;
+			}
+
+			@Override
+			public BindingSet next() {
+				if (remaining == 0) {
+					throw new NoSuchElementException();
+				}
+				BindingSet bindingSet = codec.read(log.read(next));
+				if (--remaining > 0) {
+					next = log.next(next);
+				}
+				return bindingSet;
+			}
+		};
+	}
+}
@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.collection.factory.offheap;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.eclipse.rdf4j.query.BindingSet;
+
+/**
+ * A set of binding sets that are stored encoded in off-heap memory. Binding sets are found by the hash of their
+ * bindings and compared by their encoded bytes. Only if the bytes differ while the hashes are equal is the stored
+ * binding set decoded to compare it with equals. Iteration is in insertion order.
+ */
+final class OffHeapBindingSetSet extends AbstractSet<BindingSet> {
+
+	private final BindingSetCodec codec;
+
+	private final RecordLog log;
+
+	private final RecordIndex index;
+
+	private final ByteOutput scratch = new ByteOutput();
+
+	OffHeapBindingSetSet(OffHeapMemory memory, BindingSetCodec codec) {
+		this.codec = codec;
+		this.log = new RecordLog(memory);
+		this.index = new RecordIndex(memory);
+	}
+
+	@Override
+	public boolean add(BindingSet bindingSet) {
+		int hash = codec.write(bindingSet, scratch.reset());
+		if (find(hash, bindingSet) >= 0) {
+			return false;
+		}
+		index.insert(hash, log.append(scratch), 0);
+		return true;
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		if (!(o instanceof BindingSet)) {
+			return false;
+		}
+		BindingSet bindingSet = (BindingSet) o;
+		return find(codec.write(bindingSet, scratch.reset()), bindingSet) >= 0;
+	}
+
+	@Override
+	public boolean remove(Object o) {
+		if (!(o instanceof BindingSet)) {
+			return false;
+		}
+		BindingSet bindingSet = (BindingSet) o;
+		int entry = find(codec.write(bindingSet, scratch.reset()), bindingSet);
+		if (entry < 0) {
+			return false;
+		}
+		log.remove(index.address(entry));
+		index.remove(entry);
+		return true;
+	}
+
+	@Override
+	public int size() {
+		return index.size();
+	}
+
+	@Override
+	public void clear() {
+		log.clear();
+		index.clear();
+	}
+
+	@Override
+	public Iterator<BindingSet> iterator() {
+		return new Iterator<>() {
+
+			private long next = skipRemoved(log.first());
+
+			private BindingSet last;
+
+			@Override
+			public boolean hasNext() {
+				return next >= 0;
+			}
+
+			@Override
+			public BindingSet next() {
+				if (next < 0) {
+					throw new NoSuchElementException();
+				}
+				last = codec.read(log.read(next));
+				next = skipRemoved(log.next(next));
+				return last;
+			}
+
+			@Override
+			public void remove() {
+				if (last == null) {
+					throw new IllegalStateException();
+				}
+				OffHeapBindingSetSet.this.remove(last);
+				last = null;
+			}
+		};
+	}
+
+	private long skipRemoved(long address) {
+		while (address >= 0 && log.isRemoved(address)) {
+			address = log.next(address);
+		}
+		return address;
+	}
+
+	/**
+	 * @return the index entry of the binding set that was encoded into the scratch buffer, or -1.
+	 */
+	private int find(int hash, BindingSet bindingSet) {
+		return index.find(hash,
+				address -> log.hasBytes(address, scratch) || codec.read(log.read(address)).equals(bindingSet));
+	}
+}
@@ -0,0 +1,25 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.collection.factory.offheap;
+
+import org.eclipse.rdf4j.common.exception.RDF4JException;
+
+/**
+ * Thrown when an off-heap collection can not get or use its memory.
+ */
+public class OffHeapCollectionException extends RDF4JException {
+
+	private static final long serialVersionUID = -6025740829123867158L;
+
+	public OffHeapCollectionException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
@@ -0,0 +1,364 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.collection.factory.offheap;
+
+import java.util.AbstractMap;
+import java.util.AbstractQueue;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+import org.eclipse.rdf4j.collection.factory.api.BindingSetKey;
+import org.eclipse.rdf4j.collection.factory.api.CollectionFactory;
+import org.eclipse.rdf4j.collection.factory.impl.DefaultCollectionFactory;
+import org.eclipse.rdf4j.common.annotation.Experimental;
+import org.eclipse.rdf4j.common.exception.RDF4JException;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.MutableBindingSet;
+
+/**
+ * A {@link CollectionFactory} that moves sets and queues of binding sets and group by maps into off-heap memory once
+ * they grow past the iteration cache sync threshold. Unlike the MapDB based factories there is no serialization
+ * framework or B-tree in between, binding sets are encoded into a compact binary form and appended to off-heap
+ * segments that are found through an off-heap hash table.
+ * <p>
+ * Off-heap memory is taken as direct memory up to the memory budget, beyond that segments are mapped from a temporary
+ * file. All memory is given back when the factory is closed. Collections of other types are created by the delegate.
+ */
+@Experimental
+public class OffHeapCollectionFactory implements CollectionFactory {
+
+	private static final long DEFAULT_MEMORY_BUDGET = 64L * 1024 * 1024;
+
+	protected final long iterationCacheSyncThreshold;
+
+	private final long memoryBudget;
+
+	private final CollectionFactory delegate;
+
+	private volatile OffHeapMemory memory;
+
+	public OffHeapCollectionFactory(long iterationCacheSyncThreshold) {
+		this(iterationCacheSyncThreshold, DEFAULT_MEMORY_BUDGET);
+	}
+
+	public OffHeapCollectionFactory(long iterationCacheSyncThreshold, long memoryBudget) {
+		this(iterationCacheSyncThreshold, memoryBudget, new DefaultCollectionFactory());
+	}
+
+	public OffHeapCollectionFactory(long iterationCacheSyncThreshold, long memoryBudget,
+			CollectionFactory delegate) {
+		this.iterationCacheSyncThreshold = iterationCacheSyncThreshold;
+		this.memoryBudget = memoryBudget;
+		this.delegate = delegate;
+	}
+
+	OffHeapMemory memory() {
+		if (memory == null) {
+			synchronized (this) {
+				if (memory == null) {
+					memory = new OffHeapMemory(memoryBudget);
+				}
+			}
+		}
+		return memory;
+	}
+
+	/**
+	 * The value factory that values read back from off-heap memory are created with. Stores can override this to
+	 * return a value factory that creates their own values.
+	 */
+	protected ValueFactory getValueFactory() {
+		return SimpleValueFactory.getInstance();
+	}
+
+	@Override
+	public <T> List<T> createList() {
+		return delegate.createList();
+	}
+
+	@Override
+	public List<Value> createValueList() {
+		return delegate.createValueList();
+	}
+
+	@Override
+	public <T> Set<T> createSet() {
+		return delegate.createSet();
+	}
+
+	@Override
+	public Set<BindingSet> createSetOfBindingSets(Supplier<MutableBindingSet> create,
+			Function<String, Predicate<BindingSet>> getHas, Function<String, Function<BindingSet, Value>> getGet,
+			Function<String, BiConsumer<Value, MutableBindingSet>> getSet) {
+		if (iterationCacheSyncThreshold > 0) {
+			return new SpillingSet<>(delegate.createSetOfBindingSets(create, getHas, getGet, getSet),
+					() -> new OffHeapBindingSetSet(memory(),
+							new BindingSetCodec(new ValueCodec(getValueFactory()), create, getHas, getGet, getSet)));
+		} else {
+			return delegate.createSetOfBindingSets(create, getHas, getGet, getSet);
+		}
+	}
+
+	@Override
+	public Set<Value> createValueSet() {
+		return delegate.createValueSet();
+	}
+
+	@Override
+	public <K, V> Map<K, V> createMap() {
+		return delegate.createMap();
+	}
+
+	@Override
+	public <V> Map<Value, V> createValueKeyedMap() {
+		return delegate.createValueKeyedMap();
+	}
+
+	@Override
+	public <T> Queue<T> createQueue() {
+		return delegate.createQueue();
+	}
+
+	@Override
+	public Queue<Value> createValueQueue() {
+		return delegate.createValueQueue();
+	}
+
+	@Override
+	@Experimental
+	public Queue<BindingSet> createBindingSetQueue(Supplier<MutableBindingSet> create,
+			Function<String, Predicate<BindingSet>> getHas, Function<String, Function<BindingSet, Value>> getGet,
+			Function<String, BiConsumer<Value, MutableBindingSet>> getSet) {
+		if (iterationCacheSyncThreshold > 0) {
+			return new SpillingQueue<>(delegate.createBindingSetQueue(create, getHas, getGet, getSet),
+					() -> new OffHeapBindingSetQueue(memory(),
+							new BindingSetCodec(new ValueCodec(getValueFactory()), create, getHas, getGet, getSet)));
+		} else {
+			return delegate.createBindingSetQueue(create, getHas, getGet, getSet);
+		}
+	}
+
+	@Override
+	public <E> Map<BindingSetKey, E> createGroupByMap() {
+		if (iterationCacheSyncThreshold > 0) {
+			return new SpillingMap<>(delegate.createGroupByMap(),
+					() -> new OffHeapGroupByMap<>(memory(), new ValueCodec(getValueFactory())));
+		} else {
+			return delegate.createGroupByMap();
+		}
+	}
+
+	@Override
+	public final BindingSetKey createBindingSetKey(BindingSet bindingSet, List<Function<BindingSet, Value>> getValues,
+			ToIntFunction<BindingSet> hashOfBindingSetCalculator) {
+		Value[] values = new Value[getValues.size()];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = getValues.get(i).apply(bindingSet);
+		}
+		return new OffHeapBindingSetKey(values, hashOfBindingSetCalculator.applyAsInt(bindingSet));
+	}
+
+	@Override
+	public void close() throws RDF4JException {
+		try {
+			if (memory != null) {
+				memory.close();
+			}
+		} finally {
+			delegate.close();
+		}
+	}
+
+	/**
+	 * A set that stays on the heap until it is larger than the iteration cache sync threshold.
+	 */
+	private final class SpillingSet<E> extends AbstractSet<E> {
+
+		private final Supplier<Set<E>> offHeap;
+
+		private Set<E> wrapped;
+
+		private boolean spilled;
+
+		private SpillingSet(Set<E> wrapped, Supplier<Set<E>> offHeap) {
+			this.wrapped = wrapped;
+			this.offHeap = offHeap;
+		}
+
+		@Override
+		public boolean add(E e) {
+			boolean added = wrapped.add(e);
+			if (added && !spilled && wrapped.size() > iterationCacheSyncThreshold) {
+				Set<E> spill = offHeap.get();
+				spill.addAll(wrapped);
+				wrapped = spill;
+				spilled = true;
+			}
+			return added;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			return wrapped.contains(o);
+		}
+
+		@Override
+		public boolean remove(Object o) {
+			return wrapped.remove(o);
+		}
+
+		@Override
+		public void clear() {
+			wrapped.clear();
+		}
+
+		@Override
+		public Iterator<E> iterator() {
+			return wrapped.iterator();
+		}
+
+		@Override
+		public int size() {
+			return wrapped.size();
+		}
+	}
+
+	/**
+	 * A queue that stays on the heap until it is larger than the iteration cache sync threshold.
+	 */
+	private final class SpillingQueue<E> extends AbstractQueue<E> {
+
+		private final Supplier<Queue<E>> offHeap;
+
+		private Queue<E> wrapped;
+
+		private boolean spilled;
+
+		private SpillingQueue(Queue<E> wrapped, Supplier<Queue<E>> offHeap) {
+			this.wrapped = wrapped;
+			this.offHeap = offHeap;
+		}
+
+		@Override
+		public boolean offer(E e) {
+			boolean offered = wrapped.offer(e);
+			if (offered && !spilled && wrapped.size() > iterationCacheSyncThreshold) {
+				Queue<E> spill = offHeap.get();
+				spill.addAll(wrapped);
+				wrapped = spill;
+				spilled = true;
+			}
+			return offered;
+		}
+
+		@Override
+		public E peek() {
+			return wrapped.peek();
+		}
+
+		@Override
+		public E poll() {
+			return wrapped.poll();
+		}
+
+		@Override
+		public void clear() {
+			wrapped.clear();
+		}
+
+		@Override
+		public Iterator<E> iterator() {
+			return wrapped.iterator();
+		}
+
+		@Override
+		public int size() {
+			return wrapped.size();
+		}
+	}
+
+	/**
+	 * A map that stays on the heap until it is larger than the iteration cache sync threshold.
+	 */
+	private final class SpillingMap<K, V> extends AbstractMap<K, V> {
+
+		private final Supplier<Map<K, V>> offHeap;
+
+		private Map<K, V> wrapped;
+
+		private boolean spilled;
+
+		private SpillingMap(Map<K, V> wrapped, Supplier<Map<K, V>> offHeap) {
+			this.wrapped = wrapped;
+			this.offHeap = offHeap;
+		}
+
+		@Override
+		public V put(K key, V value) {
+			V previous = wrapped.put(key, value);
+			if (previous == null && !spilled && wrapped.size() > iterationCacheSyncThreshold) {
+				Map<K, V> spill = offHeap.get();
+				spill.putAll(wrapped);
+				wrapped = spill;
+				spilled = true;
+			}
+			return previous;
+		}
+
+		@Override
+		public V get(Object key) {
+			return wrapped.get(key);
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return wrapped.containsKey(key);
+		}
+
+		@Override
+		public V remove(Object key) {
+			return wrapped.remove(key);
+		}
+
+		@Override
+		public void clear() {
+			wrapped.clear();
+		}
+
+		@Override
+		public int size() {
+			return wrapped.size();
+		}
+
+		@Override
+		public Collection<V> values() {
+			return wrapped.values();
+		}
+
+		@Override
+		public Set<Entry<K, V>> entrySet() {
+			return wrapped.entrySet();
+		}
+	}
+}
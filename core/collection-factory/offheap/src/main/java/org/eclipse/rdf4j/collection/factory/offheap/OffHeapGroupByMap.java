@@ -0,0 +1,247 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.collection.factory.offheap;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.eclipse.rdf4j.collection.factory.api.BindingSetKey;
+import org.eclipse.rdf4j.model.Value;
+
+/**
+ * A map from the keys of a group by to its groups. The hashes and values of the keys are stored encoded in off-heap
+ * memory, the groups stay on the heap because the group by keeps updating them after they have been put.
+ *
+ * @param <E> the group type
+ */
+final class OffHeapGroupByMap<E> extends AbstractMap<BindingSetKey, E> {
+
+	private final ValueCodec valueCodec;
+
+	private final RecordLog log;
+
+	private final RecordIndex index;
+
+	private final ByteOutput scratch = new ByteOutput();
+
+	/**
+	 * The groups, in insertion order. The index stores the position of the group of a key as its payload.
+	 */
+	private final List<E> groups = new ArrayList<>();
+
+	/**
+	 * The addresses of the keys of the groups, -1 for removed groups.
+	 */
+	private long[] keys = new long[16];
+
+	private int size;
+
+	OffHeapGroupByMap(OffHeapMemory memory, ValueCodec valueCodec) {
+		this.valueCodec = valueCodec;
+		this.log = new RecordLog(memory);
+		this.index = new RecordIndex(memory);
+	}
+
+	@Override
+	public E get(Object key) {
+		int entry = find(key);
+		return entry < 0 ? null : groups.get(index.payload(entry));
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return find(key) >= 0;
+	}
+
+	@Override
+	public E put(BindingSetKey key, E group) {
+		int entry = find(key);
+		if (entry >= 0) {
+			return groups.set(index.payload(entry), group);
+		}
+		if (!(key instanceof OffHeapBindingSetKey)) {
+			throw new IllegalArgumentException("key was not created by an OffHeapCollectionFactory: " + key);
+		}
+		long address = log.append(scratch);
+		int position = groups.size();
+		index.insert(key.hashCode(), address, position);
+		groups.add(group);
+		if (position == keys.length) {
+			keys = Arrays.copyOf(keys, position * 2);
+		}
+		keys[position] = address;
+		size++;
+		return null;
+	}
+
+	@Override
+	public E remove(Object key) {
+		int entry = find(key);
+		if (entry < 0) {
+			return null;
+		}
+		int position = index.payload(entry);
+		log.remove(keys[position]);
+		index.remove(entry);
+		keys[position] = -1;
+		size--;
+		return groups.set(position, null);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public void clear() {
+		log.clear();
+		index.clear();
+		groups.clear();
+		size = 0;
+	}
+
+	@Override
+	public Collection<E> values() {
+		// iterating the groups does not need to decode the keys
+		return new AbstractCollection<>() {
+
+			@Override
+			public Iterator<E> iterator() {
+				return new PositionIterator<>() {
+
+					@Override
+					E get(int position) {
+						return groups.get(position);
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
+	@Override
+	public Set<Entry<BindingSetKey, E>> entrySet() {
+		return new AbstractSet<>() {
+
+			@Override
+			public Iterator<Entry<BindingSetKey, E>> iterator() {
+				return new PositionIterator<>() {
+
+					@Override
+					Entry<BindingSetKey, E> get(int position) {
+						return new SimpleEntry<>(readKey(keys[position]), groups.get(position)) {
+
+							private static final long serialVersionUID = 1L;
+
+							@Override
+							public E setValue(E group) {
+								super.setValue(group);
+								return groups.set(position, group);
+							}
+						};
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
+	/**
+	 * Iterates the positions of the groups that have not been removed.
+	 */
+	private abstract class PositionIterator<T> implements Iterator<T> {
+
+		private final int end = groups.size();
+
+		private int next = skipRemoved(0);
+
+		private int last = -1;
+
+		abstract T get(int position);
+
+		@Override
+		public boolean hasNext() {
+			return next < end;
+		}
+
+		@Override
+		public T next() {
+			if (next >= end) {
+				throw new NoSuchElementException();
+			}
+			last = next;
+			next = skipRemoved(next + 1);
+			return get(last);
+		}
+
+		@Override
+		public void remove() {
+			if (last < 0 || keys[last] < 0) {
+				throw new IllegalStateException();
+			}
+			OffHeapGroupByMap.this.remove(readKey(keys[last]));
+		}
+
+		private int skipRemoved(int position) {
+			while (position < end && keys[position] < 0) {
+				position++;
+			}
+			return position;
+		}
+	}
+
+	/**
+	 * Encodes the key into the scratch buffer and looks it up.
+	 *
+	 * @return the index entry of the key, or -1.
+	 */
+	private int find(Object key) {
+		if (!(key instanceof OffHeapBindingSetKey)) {
+			return -1;
+		}
+		OffHeapBindingSetKey bindingSetKey = (OffHeapBindingSetKey) key;
+		scratch.reset().writeInt(key.hashCode());
+		scratch.writeVarLong(bindingSetKey.values.length);
+		for (Value value : bindingSetKey.values) {
+			valueCodec.write(value, scratch);
+		}
+		return index.find(key.hashCode(),
+				address -> log.hasBytes(address, scratch) || readKey(address).equals(bindingSetKey));
+	}
+
+	private OffHeapBindingSetKey readKey(long address) {
+		ByteBuffer in = log.read(address);
+		int hash = in.getInt();
+		Value[] values = new Value[(int) ByteOutput.readVarLong(in)];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = valueCodec.read(in);
+		}
+		return new OffHeapBindingSetKey(values, hash);
+	}
+}
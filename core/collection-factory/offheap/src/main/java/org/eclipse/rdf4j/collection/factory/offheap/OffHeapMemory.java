@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.collection.factory.offheap;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Hands out off-heap buffers for the collections of one {@link OffHeapCollectionFactory}. Buffers are allocated as
+ * direct memory as long as the memory budget allows it, further buffers are mapped from a temporary file that is
+ * deleted when this memory is closed.
+ * <p>
+ * Direct memory can not be freed explicitly, released buffers only return their size to the budget and are reclaimed
+ * by the garbage collector. The space of released mapped buffers is only reclaimed on close. The collections of one
+ * factory may be used by different threads, so the bookkeeping is synchronized.
+ */
+class OffHeapMemory implements AutoCloseable {
+
+	private final long budget;
+
+	private final Set<ByteBuffer> directBuffers = Collections.newSetFromMap(new IdentityHashMap<>());
+
+	private long directBytes;
+
+	private FileChannel overflow;
+
+	private long overflowBytes;
+
+	OffHeapMemory(long budget) {
+		this.budget = budget;
+	}
+
+	/**
+	 * @return a buffer of the given size, filled with zeros.
+	 */
+	synchronized ByteBuffer allocate(int bytes) {
+		if (directBytes + bytes <= budget) {
+			ByteBuffer buffer = ByteBuffer.allocateDirect(bytes);
+			directBuffers.add(buffer);
+			directBytes += bytes;
+			return buffer;
+		}
+		try {
+			if (overflow == null) {
+				Path file = Files.createTempFile("rdf4j-collection", ".segments");
+				overflow = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+						StandardOpenOption.DELETE_ON_CLOSE);
+			}
+			ByteBuffer buffer = overflow.map(FileChannel.MapMode.READ_WRITE, overflowBytes, bytes);
+			overflowBytes += bytes;
+			return buffer;
+		} catch (IOException e) {
+			throw new OffHeapCollectionException("could not map an overflow segment", e);
+		}
+	}
+
+	/**
+	 * Returns the given buffer, which must not be used anymore.
+	 */
+	synchronized void release(ByteBuffer buffer) {
+		if (directBuffers.remove(buffer)) {
+			directBytes -= buffer.capacity();
+		}
+	}
+
+	/**
+	 * @return the number of bytes of direct memory that are in use.
+	 */
+	synchronized long getDirectBytes() {
+		return directBytes;
+	}
+
+	/**
+	 * @return the number of bytes that have been mapped from the overflow file.
+	 */
+	synchronized long getOverflowBytes() {
+		return overflowBytes;
+	}
+
+	@Override
+	public synchronized void close() {
+		if (overflow != null) {
+			try {
+				overflow.close();
+			} catch (IOException e) {
+				throw new OffHeapCollectionException("could not delete the overflow file", e);
+			} finally {
+				overflow = null;
+				overflowBytes = 0;
+			}
+		}
+		directBuffers.clear();
+		directBytes = 0;
+	}
+}
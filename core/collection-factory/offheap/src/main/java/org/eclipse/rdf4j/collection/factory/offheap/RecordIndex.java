@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.collection.factory.offheap;
+
+import java.nio.ByteBuffer;
+
+/**
+ * An open addressing hash table in off-heap memory that finds records of a {@link RecordLog} by hash. Each entry is 16
+ * bytes: the hash of the record, an int that the collection can use for its own purposes and the address of the
+ * record + 1. An address of 0 marks an empty entry and -1 a removed one.
+ */
+final class RecordIndex {
+
+	private static final int ENTRY_SIZE = 16;
+
+	private static final int INITIAL_CAPACITY = 256;
+
+	private static final long REMOVED = -1;
+
+	/**
+	 * Decides whether the record at an address is the one that is looked for.
+	 */
+	interface Matcher {
+		boolean matches(long address);
+	}
+
+	private final OffHeapMemory memory;
+
+	private ByteBuffer table;
+
+	private int capacity;
+
+	private int size;
+
+	/**
+	 * Live and removed entries.
+	 */
+	private int used;
+
+	RecordIndex(OffHeapMemory memory) {
+		this.memory = memory;
+	}
+
+	int size() {
+		return size;
+	}
+
+	/**
+	 * @return the entry of the record with the given hash that the matcher accepts, or -1 if there is none.
+	 */
+	int find(int hash, Matcher matcher) {
+		if (table == null) {
+			return -1;
+		}
+		int mask = capacity - 1;
+		for (int entry = mix(hash) & mask;; entry = (entry + 1) & mask) {
+			long stored = table.getLong(entry * ENTRY_SIZE + 8);
+			if (stored == 0) {
+				return -1;
+			} else if (stored != REMOVED && table.getInt(entry * ENTRY_SIZE) == hash && matcher.matches(stored - 1)) {
+				return entry;
+			}
+		}
+	}
+
+	long address(int entry) {
+		return table.getLong(entry * ENTRY_SIZE + 8) - 1;
+	}
+
+	int payload(int entry) {
+		return table.getInt(entry * ENTRY_SIZE + 4);
+	}
+
+	/**
+	 * Adds an entry for a record that is not in the index yet.
+	 */
+	void insert(int hash, long address, int payload) {
+		if (table == null) {
+			resize(INITIAL_CAPACITY);
+		} else if ((used + 1) * 2 > capacity) {
+			// removed entries are dropped while rehashing, so the table only grows if it is filled with live entries
+			resize(size * 4 > capacity ? capacity * 2 : capacity);
+		}
+		int mask = capacity - 1;
+		int entry = mix(hash) & mask;
+		long stored;
+		while ((stored = table.getLong(entry * ENTRY_SIZE + 8)) != 0 && stored != REMOVED) {
+			entry = (entry + 1) & mask;
+		}
+		if (stored == 0) {
+			used++;
+		}
+		table.putInt(entry * ENTRY_SIZE, hash);
+		table.putInt(entry * ENTRY_SIZE + 4, payload);
+		table.putLong(entry * ENTRY_SIZE + 8, address + 1);
+		size++;
+	}
+
+	void remove(int entry) {
+		table.putLong(entry * ENTRY_SIZE + 8, REMOVED);
+		size--;
+	}
+
+	void clear() {
+		if (table != null) {
+			memory.release(table);
+			table = null;
+		}
+		capacity = 0;
+		size = 0;
+		used = 0;
+	}
+
+	private void resize(int newCapacity) {
+		ByteBuffer old = table;
+		int oldCapacity = capacity;
+		table = memory.allocate(newCapacity * ENTRY_SIZE);
+		capacity = newCapacity;
+		size = 0;
+		used = 0;
+		for (int entry = 0; entry < oldCapacity; entry++) {
+			long stored = old.getLong(entry * ENTRY_SIZE + 8);
+			if (stored != 0 && stored != REMOVED) {
+				insert(old.getInt(entry * ENTRY_SIZE), stored - 1, old.getInt(entry * ENTRY_SIZE + 4));
+			}
+		}
+		if (old != null) {
+			memory.release(old);
+		}
+	}
+
+	private static int mix(int hash) {
+		hash *= 0x9E3779B9;
+		return hash ^ (hash >>> 16);
+	}
+}
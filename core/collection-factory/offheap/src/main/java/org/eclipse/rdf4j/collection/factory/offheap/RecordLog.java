@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.collection.factory.offheap;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Append-only storage of byte records in off-heap segments. Each record is an int length followed by its bytes and is
+ * addressed by its segment number in the high and its offset in the low half of a long. Records never span segments,
+ * segments start small and grow, so that small collections take little memory.
+ * <p>
+ * Removed records keep their space, their length is stored as its complement.
+ */
+final class RecordLog {
+
+	private static final int FIRST_SEGMENT_SIZE = 64 * 1024;
+
+	private static final int MAX_SEGMENT_SIZE = 4 * 1024 * 1024;
+
+	private final OffHeapMemory memory;
+
+	/**
+	 * The segments, null once released. The position of a segment is the end of its last record.
+	 */
+	private final List<ByteBuffer> segments = new ArrayList<>();
+
+	private int nextSegmentSize = FIRST_SEGMENT_SIZE;
+
+	RecordLog(OffHeapMemory memory) {
+		this.memory = memory;
+	}
+
+	/**
+	 * @return the address of the new record with the bytes of the output.
+	 */
+	long append(ByteOutput record) {
+		int bytes = 4 + record.length();
+		ByteBuffer segment = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+		if (segment == null || segment.remaining() < bytes) {
+			segment = memory.allocate(Math.max(nextSegmentSize, bytes));
+			segments.add(segment);
+			nextSegmentSize = Math.min(nextSegmentSize * 2, MAX_SEGMENT_SIZE);
+		}
+		long address = (long) (segments.size() - 1) << 32 | segment.position();
+		segment.putInt(record.length());
+		record.copyTo(segment);
+		return address;
+	}
+
+	/**
+	 * @return a buffer over the bytes of the record.
+	 */
+	ByteBuffer read(long address) {
+		ByteBuffer segment = segment(address);
+		int offset = offset(address);
+		int length = segment.getInt(offset);
+		if (length < 0) {
+			length = ~length;
+		}
+		return segment.duplicate().limit(offset + 4 + length).position(offset + 4);
+	}
+
+	/**
+	 * @return true if the record has exactly the bytes of the output.
+	 */
+	boolean hasBytes(long address, ByteOutput bytes) {
+		ByteBuffer segment = segment(address);
+		int offset = offset(address);
+		if (segment.getInt(offset) != bytes.length()) {
+			return false;
+		}
+		offset += 4;
+		for (int i = 0; i < bytes.length(); i++) {
+			if (segment.get(offset + i) != bytes.get(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	void remove(long address) {
+		ByteBuffer segment = segment(address);
+		int offset = offset(address);
+		int length = segment.getInt(offset);
+		if (length >= 0) {
+			segment.putInt(offset, ~length);
+		}
+	}
+
+	boolean isRemoved(long address) {
+		return segment(address).getInt(offset(address)) < 0;
+	}
+
+	/**
+	 * @return the address of the first record, or -1 if there is none.
+	 */
+	long first() {
+		for (int i = 0; i < segments.size(); i++) {
+			ByteBuffer segment = segments.get(i);
+			if (segment != null && segment.position() > 0) {
+				return (long) i << 32;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @return the address of the record after the given one, or -1 if it is the last record.
+	 */
+	long next(long address) {
+		int index = (int) (address >>> 32);
+		ByteBuffer segment = segments.get(index);
+		int offset = offset(address);
+		int length = segment.getInt(offset);
+		offset += 4 + (length < 0 ? ~length : length);
+		if (offset < segment.position()) {
+			return (long) index << 32 | offset;
+		}
+		return index + 1 < segments.size() && segments.get(index + 1).position() > 0 ? (long) (index + 1) << 32 : -1;
+	}
+
+	/**
+	 * Releases the segments before the segment of the given address, which must not be read anymore.
+	 */
+	void releaseBefore(long address) {
+		int index = (int) (address >>> 32);
+		for (int i = index - 1; i >= 0 && segments.get(i) != null; i--) {
+			memory.release(segments.get(i));
+			segments.set(i, null);
+		}
+	}
+
+	void clear() {
+		for (ByteBuffer segment : segments) {
+			if (segment != null) {
+				memory.release(segment);
+			}
+		}
+		segments.clear();
+		nextSegmentSize = FIRST_SEGMENT_SIZE;
+	}
+
+	private ByteBuffer segment(long address) {
+		return segments.get((int) (address >>> 32));
+	}
+
+	private static int offset(long address) {
+		return (int) address;
+	}
+}
@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.collection.factory.offheap;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+
+import org.eclipse.rdf4j.model.BNode;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Triple;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.base.CoreDatatype;
+
+/**
+ * A compact binary encoding of values. Every value starts with a one byte tag, strings are written as UTF-8 with a
+ * variable length prefix and literals with a core datatype store the datatype as an ordinal. Integer literals with a
+ * canonical label are stored as a variable length number instead of as a string.
+ * <p>
+ * Equal values that are written the same way get the same bytes, the only exception being language tags, which are
+ * written as given but compared case insensitively.
+ */
+final class ValueCodec {
+
+	private static final int NULL_VALUE = 0;
+	private static final int IRI_VALUE = 1;
+	private static final int BNODE_VALUE = 2;
+	private static final int LANGUAGE_LITERAL = 3;
+	private static final int XSD_LITERAL = 4;
+	private static final int XSD_INTEGER_LITERAL = 5;
+	private static final int RDF_LITERAL = 6;
+	private static final int GEO_LITERAL = 7;
+	private static final int DATATYPE_LITERAL = 8;
+	private static final int TRIPLE_VALUE = 9;
+
+	private static final CoreDatatype.XSD[] XSD_DATATYPES = CoreDatatype.XSD.values();
+	private static final CoreDatatype.RDF[] RDF_DATATYPES = CoreDatatype.RDF.values();
+	private static final CoreDatatype.GEO[] GEO_DATATYPES = CoreDatatype.GEO.values();
+
+	private final ValueFactory vf;
+
+	ValueCodec(ValueFactory vf) {
+		this.vf = vf;
+	}
+
+	void write(Value value, ByteOutput out) {
+		if (value == null) {
+			out.writeByte(NULL_VALUE);
+		} else if (value.isIRI()) {
+			out.writeByte(IRI_VALUE);
+			out.writeString(value.stringValue());
+		} else if (value.isBNode()) {
+			out.writeByte(BNODE_VALUE);
+			out.writeString(((BNode) value).getID());
+		} else if (value.isLiteral()) {
+			writeLiteral((Literal) value, out);
+		} else if (value.isTriple()) {
+			Triple triple = (Triple) value;
+			out.writeByte(TRIPLE_VALUE);
+			write(triple.getSubject(), out);
+			write(triple.getPredicate(), out);
+			write(triple.getObject(), out);
+		} else {
+			throw new IllegalArgumentException("Unknown kind of value: " + value);
+		}
+	}
+
+	private void writeLiteral(Literal literal, ByteOutput out) {
+		Optional<String> language = literal.getLanguage();
+		if (language.isPresent()) {
+			out.writeByte(LANGUAGE_LITERAL);
+			out.writeString(language.get());
+			out.writeString(literal.getLabel());
+			return;
+		}
+		CoreDatatype datatype = literal.getCoreDatatype();
+		if (datatype == null) {
+			datatype = CoreDatatype.NONE;
+		}
+		if (datatype.isXSDDatatype()) {
+			CoreDatatype.XSD xsd = (CoreDatatype.XSD) datatype;
+			String label = literal.getLabel();
+			if (xsd.isIntegerDatatype() && isCanonicalLong(label)) {
+				out.writeByte(XSD_INTEGER_LITERAL);
+				out.writeByte(xsd.ordinal());
+				long number = Long.parseLong(label);
+				// zigzag, so that small negative numbers are short as well
+				out.writeVarLong((number << 1) ^ (number >> 63));
+			} else {
+				out.writeByte(XSD_LITERAL);
+				out.writeByte(xsd.ordinal());
+				out.writeString(label);
+			}
+		} else if (datatype.isRDFDatatype()) {
+			out.writeByte(RDF_LITERAL);
+			out.writeByte(((CoreDatatype.RDF) datatype).ordinal());
+			out.writeString(literal.getLabel());
+		} else if (datatype.isGEODatatype()) {
+			out.writeByte(GEO_LITERAL);
+			out.writeByte(((CoreDatatype.GEO) datatype).ordinal());
+			out.writeString(literal.getLabel());
+		} else {
+			out.writeByte(DATATYPE_LITERAL);
+			out.writeString(literal.getDatatype().stringValue());
+			out.writeString(literal.getLabel());
+		}
+	}
+
+	/**
+	 * @return true if the label is a long without sign, leading zeros or other characters, so that it is written back
+	 *         exactly as it was.
+	 */
+	private static boolean isCanonicalLong(String label) {
+		int length = label.length();
+		int start = length > 1 && label.charAt(0) == '-' ? 1 : 0;
+		// at most 18 digits, which always fit in a long
+		if (length == start || length - start > 18 || label.charAt(start) == '0' && length > 1) {
+			return false;
+		}
+		for (int i = start; i < length; i++) {
+			char c = label.charAt(i);
+			if (c < '0' || c > '9') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	Value read(ByteBuffer in) {
+		int tag = in.get();
+		switch (tag) {
+		case NULL_VALUE:
+			return null;
+		case IRI_VALUE:
+			return vf.createIRI(ByteOutput.readString(in));
+		case BNODE_VALUE:
+			return vf.createBNode(ByteOutput.readString(in));
+		case LANGUAGE_LITERAL: {
+			String language = ByteOutput.readString(in);
+			return vf.createLiteral(ByteOutput.readString(in), language);
+		}
+		case XSD_INTEGER_LITERAL: {
+			CoreDatatype.XSD datatype = XSD_DATATYPES[in.get() & 0xFF];
+			long zigzag = ByteOutput.readVarLong(in);
+			return vf.createLiteral(Long.toString((zigzag >>> 1) ^ -(zigzag & 1)), datatype);
+		}
+		case XSD_LITERAL: {
+			CoreDatatype.XSD datatype = XSD_DATATYPES[in.get() & 0xFF];
+			return vf.createLiteral(ByteOutput.readString(in), datatype);
+		}
+		case RDF_LITERAL: {
+			CoreDatatype.RDF datatype = RDF_DATATYPES[in.get() & 0xFF];
+			return vf.createLiteral(ByteOutput.readString(in), datatype);
+		}
+		case GEO_LITERAL: {
+			CoreDatatype.GEO datatype = GEO_DATATYPES[in.get() & 0xFF];
+			return vf.createLiteral(ByteOutput.readString(in), datatype);
+		}
+		case DATATYPE_LITERAL: {
+			IRI datatype = vf.createIRI(ByteOutput.readString(in));
+			return vf.createLiteral(ByteOutput.readString(in), datatype);
+		}
+		case TRIPLE_VALUE: {
+			Resource subject = (Resource) read(in);
+			IRI predicate = (IRI) read(in);
+			return vf.createTriple(subject, predicate, read(in));
+		}
+		default:
+			throw new IllegalStateException("Unknown value tag " + tag);
+		}
+	}
+}
@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.collection.factory.offheap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+import org.eclipse.rdf4j.collection.factory.api.BindingSetKey;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.impl.MapBindingSet;
+import org.junit.jupiter.api.Test;
+
+public class OffHeapCollectionFactoryTest {
+	private static final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	@Test
+	void queueKeepsOrder() {
+		try (OffHeapCollectionFactory factory = new OffHeapCollectionFactory(1)) {
+			Queue<BindingSet> q = factory.createBindingSetQueue();
+			int size = 100_000;
+			for (int i = 0; i < size; i++) {
+				assertTrue(q.offer(bindingSet(i)));
+			}
+			assertEquals(size, q.size());
+			Iterator<BindingSet> iter = q.iterator();
+			for (int i = 0; i < size; i++) {
+				assertEquals(bindingSet(i), iter.next());
+			}
+			assertFalse(iter.hasNext());
+			for (int i = 0; i < size; i++) {
+				assertEquals(bindingSet(i), q.peek());
+				assertEquals(bindingSet(i), q.poll());
+			}
+			assertNull(q.poll());
+			assertEquals(0, q.size());
+			assertTrue(q.offer(bindingSet(1)));
+			assertEquals(bindingSet(1), q.poll());
+		}
+	}
+
+	@Test
+	void setRemovesDuplicates() {
+		try (OffHeapCollectionFactory factory = new OffHeapCollectionFactory(1)) {
+			Set<BindingSet> set = factory.createSetOfBindingSets();
+			int size = 10_000;
+			for (int i = 0; i < size; i++) {
+				assertTrue(set.add(bindingSet(i)));
+			}
+			for (int i = 0; i < size; i++) {
+				assertFalse(set.add(bindingSet(i)));
+				assertTrue(set.contains(bindingSet(i)));
+			}
+			assertFalse(set.contains(bindingSet(size)));
+			assertEquals(size, set.size());
+
+			assertTrue(set.remove(bindingSet(0)));
+			assertFalse(set.remove(bindingSet(0)));
+			assertFalse(set.contains(bindingSet(0)));
+			assertEquals(size - 1, set.size());
+
+			int i = 1;
+			for (BindingSet bindingSet : set) {
+				assertEquals(bindingSet(i++), bindingSet);
+			}
+			assertEquals(size, i);
+		}
+	}
+
+	@Test
+	void setComparesBindingsNotNames() {
+		try (OffHeapCollectionFactory factory = new OffHeapCollectionFactory(1)) {
+			Set<BindingSet> set = factory.createSetOfBindingSets();
+			MapBindingSet a = new MapBindingSet();
+			a.addBinding("a", vf.createLiteral(1));
+			MapBindingSet b = new MapBindingSet();
+			b.addBinding("b", vf.createLiteral(1));
+			MapBindingSet ab = new MapBindingSet();
+			ab.addBinding("b", vf.createLiteral(1));
+			ab.addBinding("a", vf.createLiteral(1));
+			MapBindingSet ba = new MapBindingSet();
+			ba.addBinding("a", vf.createLiteral(1));
+			ba.addBinding("b", vf.createLiteral(1));
+			for (int i = 0; i < 4; i++) {
+				set.add(bindingSet(i));
+			}
+			assertTrue(set.add(a));
+			assertTrue(set.add(b));
+			assertTrue(set.add(ab));
+			assertFalse(set.add(ba));
+			assertTrue(set.add(new MapBindingSet()));
+			assertFalse(set.add(new MapBindingSet()));
+			assertEquals(8, set.size());
+		}
+	}
+
+	@Test
+	void groupByMap() {
+		try (OffHeapCollectionFactory factory = new OffHeapCollectionFactory(1)) {
+			List<Function<BindingSet, Value>> getValues = List.of(bs -> bs.getValue("x"), bs -> bs.getValue("y"));
+			ToIntFunction<BindingSet> hash = factory.hashOfBindingSetFuntion(getValues);
+			Map<BindingSetKey, List<Integer>> map = factory.createGroupByMap();
+			int groups = 1_000;
+			for (int i = 0; i < groups * 3; i++) {
+				BindingSetKey key = factory.createBindingSetKey(bindingSet(i % groups), getValues, hash);
+				List<Integer> group = map.get(key);
+				if (group == null) {
+					group = new ArrayList<>();
+					map.put(key, group);
+				}
+				group.add(i);
+			}
+			assertEquals(groups, map.size());
+			int i = 0;
+			for (List<Integer> group : map.values()) {
+				assertEquals(List.of(i, i + groups, i + 2 * groups), group);
+				i++;
+			}
+			for (Map.Entry<BindingSetKey, List<Integer>> entry : map.entrySet()) {
+				assertEquals(entry.getValue(), map.get(entry.getKey()));
+			}
+			BindingSetKey first = factory.createBindingSetKey(bindingSet(0), getValues, hash);
+			assertEquals(List.of(0, groups, 2 * groups), map.remove(first));
+			assertNull(map.get(first));
+			assertEquals(groups - 1, map.size());
+		}
+	}
+
+	@Test
+	void spillsBeyondTheMemoryBudget() {
+		try (OffHeapCollectionFactory factory = new OffHeapCollectionFactory(1, 64 * 1024)) {
+			Queue<BindingSet> q = factory.createBindingSetQueue();
+			int size = 100_000;
+			for (int i = 0; i < size; i++) {
+				q.add(bindingSet(i));
+			}
+			assertTrue(factory.memory().getOverflowBytes() > 0);
+			for (int i = 0; i < size; i++) {
+				assertEquals(bindingSet(i), q.poll());
+			}
+		}
+	}
+
+	private static BindingSet bindingSet(int i) {
+		MapBindingSet bindingSet = new MapBindingSet();
+		bindingSet.addBinding("x", vf.createIRI("http://example.org/" + i));
+		if (i % 3 != 0) {
+			bindingSet.addBinding("y", vf.createLiteral(i));
+		}
+		return bindingSet;
+	}
+}
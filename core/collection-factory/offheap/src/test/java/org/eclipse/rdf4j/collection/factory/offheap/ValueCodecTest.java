@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.collection.factory.offheap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.base.CoreDatatype;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.junit.jupiter.api.Test;
+
+public class ValueCodecTest {
+	private static final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	private final ValueCodec codec = new ValueCodec(vf);
+
+	@Test
+	void iriAndBNode() {
+		assertRoundTrip(vf.createIRI("http://example.org/ä"));
+		assertRoundTrip(vf.createBNode("b1"));
+	}
+
+	@Test
+	void literals() {
+		assertRoundTrip(vf.createLiteral("plain"));
+		assertRoundTrip(vf.createLiteral("hallo", "de-CH"));
+		assertRoundTrip(vf.createLiteral(2.0f));
+		assertRoundTrip(vf.createLiteral("1", CoreDatatype.XSD.INT));
+		assertRoundTrip(vf.createLiteral("<a/>", CoreDatatype.RDF.XMLLITERAL));
+		assertRoundTrip(vf.createLiteral("POINT(1 2)", CoreDatatype.GEO.WKT_LITERAL));
+		assertRoundTrip(vf.createLiteral("x", vf.createIRI("http://example.org/type")));
+	}
+
+	@Test
+	void integers() {
+		assertRoundTrip(vf.createLiteral(BigInteger.ZERO));
+		assertRoundTrip(vf.createLiteral(BigInteger.valueOf(-42)));
+		assertRoundTrip(vf.createLiteral(new BigInteger("123456789012345678901234567890")));
+		// not canonical, must keep its label
+		assertRoundTrip(vf.createLiteral("007", CoreDatatype.XSD.INTEGER));
+		assertRoundTrip(vf.createLiteral("+7", CoreDatatype.XSD.INTEGER));
+	}
+
+	@Test
+	void tripleAndNull() {
+		assertRoundTrip(vf.createTriple(vf.createIRI("http://example.org/s"), vf.createIRI("http://example.org/p"),
+				vf.createLiteral(1)));
+		assertRoundTrip(null);
+	}
+
+	private void assertRoundTrip(Value value) {
+		ByteOutput out = new ByteOutput();
+		codec.write(value, out);
+		ByteBuffer in = ByteBuffer.allocate(out.length());
+		out.copyTo(in);
+		in.flip();
+		Value read = codec.read(in);
+		assertEquals(value, read);
+		if (value != null && value.isLiteral()) {
+			assertEquals(value.stringValue(), read.stringValue());
+		}
+		assertEquals(0, in.remaining());
+	}
+}
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.collection.factory.offheap.benchmark;
+
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rdf4j.collection.factory.api.CollectionFactory;
+import org.eclipse.rdf4j.collection.factory.impl.DefaultCollectionFactory;
+import org.eclipse.rdf4j.collection.factory.mapdb.MapDb3CollectionFactory;
+import org.eclipse.rdf4j.collection.factory.offheap.OffHeapCollectionFactory;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.MutableBindingSet;
+import org.eclipse.rdf4j.query.impl.MapBindingSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the off-heap collections with the MapDB 3 backed ones that the stores use, and with plain heap collections.
+ * Both disk backed factories switch at the same threshold.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5)
+@BenchmarkMode({ Mode.AverageTime })
+@Fork(value = 1, jvmArgs = { "-Xms1G", "-Xmx1G" })
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OffHeapCollectionFactoryBenchmark {
+	private static final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	@Param(value = { "offheap", "mapdb3", "heap" })
+	public String factory;
+
+	@Param(value = { "1000", "10000" })
+	public int size;
+
+	@Param(value = { "1", "16" })
+	public int bsSize;
+
+	@Benchmark
+	public long distinctBindingSets() {
+		try (CollectionFactory cf = createFactory()) {
+			Set<BindingSet> sbs = cf.createSetOfBindingSets();
+			for (int round = 0; round < 2; round++) {
+				for (int i = 0; i < size; i++) {
+					sbs.add(bindingSet(i));
+				}
+			}
+			return sbs.size();
+		}
+	}
+
+	@Benchmark
+	public long queueBindingSets() {
+		try (CollectionFactory cf = createFactory()) {
+			Queue<BindingSet> queue = cf.createBindingSetQueue();
+			for (int i = 0; i < size; i++) {
+				queue.add(bindingSet(i));
+			}
+			long bindings = 0;
+			for (BindingSet bs = queue.poll(); bs != null; bs = queue.poll()) {
+				bindings += bs.size();
+			}
+			return bindings;
+		}
+	}
+
+	private CollectionFactory createFactory() {
+		switch (factory) {
+		case "offheap":
+			return new OffHeapCollectionFactory(1000);
+		case "mapdb3":
+			return new MapDb3CollectionFactory(1000);
+		default:
+			return new DefaultCollectionFactory();
+		}
+	}
+
+	private BindingSet bindingSet(int i) {
+		MutableBindingSet bs = new MapBindingSet();
+		for (int j = 0; j < bsSize; j++) {
+			// distinct values, equal ones would cancel out in the xor based hash code of binding sets
+			int value = i * bsSize + j;
+			bs.addBinding(Integer.toString(j),
+					j % 2 == 0 ? vf.createLiteral(value) : vf.createIRI("urn:x:", "v" + value));
+		}
+		return bs;
+	}
+}
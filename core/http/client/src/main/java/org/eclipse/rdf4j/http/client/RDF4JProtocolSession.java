@@ -117,6 +117,8 @@ public class RDF4JProtocolSession extends SPARQLProtocolSession {
 
 	private final ScheduledExecutorService pingScheduler;
 
+	private final ExecutorService executor;
+
 	private ScheduledFuture<?> ping;
 
 	private long pingDelay = PINGDELAY;
@@ -131,6 +133,7 @@ public class RDF4JProtocolSession extends SPARQLProtocolSession {
 
 	public RDF4JProtocolSession(HttpClient client, ExecutorService executor) {
 		super(client, executor);
+		this.executor = executor;
 
 		// we want to preserve bnode ids to allow RDF4J API methods to match
 		// blank nodes.
@@ -911,6 +914,40 @@ public class RDF4JProtocolSession extends SPARQLProtocolSession {
 		upload(contents, baseURI, dataFormat, false, true, Action.DELETE, contexts);
 	}
 
+	/**
+	 * Opens a {@link TransactionStatementStream} that sends statements to the active transaction in a single chunked
+	 * request while they are being produced. Unlike {@link #addData(InputStream, String, RDFFormat, Resource...)}, the
+	 * caller does not need to serialize the complete payload up front: at most {@code chunkSize * maxPendingChunks}
+	 * bytes are buffered on the client, and the server parses and applies the statements incrementally as the chunks
+	 * arrive.
+	 * <p>
+	 * The transaction must not be used for other operations until the returned stream has been closed or aborted.
+	 *
+	 * @param action           the transaction action, either {@link Action#ADD} or {@link Action#DELETE}.
+	 * @param dataFormat       the format used to encode the statements, typically {@link RDFFormat#BINARY}.
+	 * @param chunkSize        the size in bytes of each chunk handed to the request.
+	 * @param maxPendingChunks the maximum number of chunks buffered on the client before the producer blocks.
+	 * @return a new, open statement stream.
+	 * @throws IllegalStateException if no transaction is active.
+	 */
+	public TransactionStatementStream openTransactionStatementStream(Action action, RDFFormat dataFormat,
+			int chunkSize, int maxPendingChunks) {
+		checkRepositoryURL();
+		if (getTransactionURL() == null) {
+			throw new IllegalStateException("statement streams require an active transaction");
+		}
+		if (action != Action.ADD && action != Action.DELETE) {
+			throw new IllegalArgumentException("statement streams only support ADD and DELETE actions: " + action);
+		}
+
+		TransactionStatementStream stream = new TransactionStatementStream(dataFormat, chunkSize, maxPendingChunks);
+		stream.setRequest(executor.submit(() -> {
+			upload(stream.getEntity(), null, false, true, action);
+			return null;
+		}));
+		return stream;
+	}
+
 	public void upload(InputStream contents, String baseURI, RDFFormat dataFormat, boolean overwrite,
 			boolean preserveNodeIds, Resource... contexts)
 			throws IOException, RDFParseException, RepositoryException, UnauthorizedException {
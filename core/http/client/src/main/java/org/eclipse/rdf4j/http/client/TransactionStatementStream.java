@@ -0,0 +1,319 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.http.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.Header;
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.message.BasicHeader;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.repository.RepositoryException;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.RDFHandlerException;
+import org.eclipse.rdf4j.rio.RDFWriter;
+import org.eclipse.rdf4j.rio.Rio;
+
+/**
+ * A stream of statements that is sent to an active transaction on an RDF4J Server as a single chunked HTTP request.
+ * Statements are encoded with the configured {@link RDFFormat} (typically {@link RDFFormat#BINARY}) and handed off to
+ * the request in fixed-size chunks while the caller is still producing them, so that neither the client nor the server
+ * has to hold the complete payload in memory. At most {@code maxPendingChunks} chunks are buffered on the client; if
+ * the server falls behind, {@link #add(Statement)} blocks until there is room again.
+ * <p>
+ * A stream is not thread-safe and is expected to be used by the thread that owns the transaction. It must be completed
+ * with {@link #close()}, which waits for the server to acknowledge the request, or discarded with {@link #abort()}.
+ *
+ * @see RDF4JProtocolSession#openTransactionStatementStream(org.eclipse.rdf4j.http.protocol.Protocol.Action, RDFFormat,
+ *      int, int)
+ */
+public class TransactionStatementStream implements AutoCloseable {
+
+	private static final byte[] END_OF_STREAM = new byte[0];
+
+	private static final byte[] ABORTED = new byte[0];
+
+	/**
+	 * How long the producer waits for a free slot before checking whether the request has failed.
+	 */
+	private static final long OFFER_TIMEOUT_MS = 100;
+
+	private final RDFFormat format;
+
+	private final BlockingQueue<byte[]> chunks;
+
+	private final ChunkOutputStream out;
+
+	private final RDFWriter writer;
+
+	private Future<?> request;
+
+	private long statementCount;
+
+	private boolean closed;
+
+	TransactionStatementStream(RDFFormat format, int chunkSize, int maxPendingChunks) {
+		if (chunkSize <= 0) {
+			throw new IllegalArgumentException("chunk size must be positive");
+		}
+		if (maxPendingChunks <= 0) {
+			throw new IllegalArgumentException("maximum number of pending chunks must be positive");
+		}
+		this.format = format;
+		this.chunks = new ArrayBlockingQueue<>(maxPendingChunks + 1);
+		this.out = new ChunkOutputStream(chunkSize);
+		this.writer = Rio.createWriter(format, out);
+		this.writer.startRDF();
+	}
+
+	/**
+	 * Binds this stream to the asynchronous request that consumes its chunks.
+	 */
+	void setRequest(Future<?> request) {
+		this.request = request;
+	}
+
+	/**
+	 * @return the entity that transfers the chunks produced by this stream to the server.
+	 */
+	AbstractHttpEntity getEntity() {
+		return new ChunkEntity();
+	}
+
+	/**
+	 * Adds a statement to the stream.
+	 *
+	 * @param st the statement to send.
+	 * @throws RepositoryException if the upload failed or the stream was already closed.
+	 */
+	public void add(Statement st) throws RepositoryException {
+		if (closed) {
+			throw new RepositoryException("statement stream already closed");
+		}
+		try {
+			writer.handleStatement(st);
+			statementCount++;
+		} catch (RDFHandlerException e) {
+			abort();
+			throw unwrap(e);
+		}
+	}
+
+	/**
+	 * @return the number of statements added to this stream so far.
+	 */
+	public long size() {
+		return statementCount;
+	}
+
+	/**
+	 * Completes the stream and waits until the server has processed all statements.
+	 *
+	 * @throws RepositoryException if the server rejected the data or the upload failed.
+	 */
+	@Override
+	public void close() throws RepositoryException {
+		if (closed) {
+			return;
+		}
+		try {
+			writer.endRDF();
+			out.close();
+		} catch (RDFHandlerException | IOException e) {
+			abort();
+			throw unwrap(e);
+		}
+		closed = true;
+		awaitRequest();
+	}
+
+	/**
+	 * Discards the stream. The pending request is failed on the client side so the server never sees a complete
+	 * payload; any error reported by the request is ignored.
+	 */
+	public void abort() {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		chunks.clear();
+		chunks.offer(ABORTED);
+		if (request != null) {
+			try {
+				request.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} catch (ExecutionException e) {
+				// expected, the request was failed on purpose
+			}
+		}
+	}
+
+	private void awaitRequest() throws RepositoryException {
+		try {
+			request.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RepositoryException(e);
+		} catch (ExecutionException e) {
+			throw unwrap(e.getCause());
+		}
+	}
+
+	private void enqueue(byte[] chunk) throws IOException {
+		try {
+			while (!chunks.offer(chunk, OFFER_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+				if (request != null && request.isDone()) {
+					// the request is no longer consuming chunks; surface its failure
+					try {
+						request.get();
+					} catch (ExecutionException e) {
+						throw new IOException(e.getCause());
+					}
+					throw new IOException("statement upload ended prematurely");
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("interrupted while waiting for statement upload");
+		}
+	}
+
+	private static RepositoryException unwrap(Throwable e) {
+		while ((e instanceof RDFHandlerException || e instanceof IOException) && e.getCause() != null
+				&& e.getCause() != e) {
+			e = e.getCause();
+		}
+		if (e instanceof RepositoryException) {
+			return (RepositoryException) e;
+		}
+		return new RepositoryException(e);
+	}
+
+	/**
+	 * Buffers the serialized statements and publishes them as fixed-size chunks.
+	 */
+	private class ChunkOutputStream extends OutputStream {
+
+		private final int chunkSize;
+
+		private byte[] buffer;
+
+		private int position;
+
+		ChunkOutputStream(int chunkSize) {
+			this.chunkSize = chunkSize;
+			this.buffer = new byte[chunkSize];
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			if (position == chunkSize) {
+				publish();
+			}
+			buffer[position++] = (byte) b;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			while (len > 0) {
+				if (position == chunkSize) {
+					publish();
+				}
+				int n = Math.min(len, chunkSize - position);
+				System.arraycopy(b, off, buffer, position, n);
+				position += n;
+				off += n;
+				len -= n;
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (buffer != null) {
+				publish();
+				buffer = null;
+				enqueue(END_OF_STREAM);
+			}
+		}
+
+		private void publish() throws IOException {
+			if (position == 0) {
+				return;
+			}
+			byte[] chunk = position == chunkSize ? buffer : Arrays.copyOf(buffer, position);
+			enqueue(chunk);
+			buffer = new byte[chunkSize];
+			position = 0;
+		}
+	}
+
+	/**
+	 * Request entity that writes chunks to the connection as they are published. The content length is unknown, so
+	 * the HTTP client uses chunked transfer encoding.
+	 */
+	private class ChunkEntity extends AbstractHttpEntity {
+
+		@Override
+		public boolean isRepeatable() {
+			return false;
+		}
+
+		@Override
+		public long getContentLength() {
+			return -1;
+		}
+
+		@Override
+		public Header getContentType() {
+			return new BasicHeader("Content-Type", format.getDefaultMIMEType());
+		}
+
+		@Override
+		public InputStream getContent() {
+			throw new UnsupportedOperationException("statement stream can only be written");
+		}
+
+		@Override
+		public void writeTo(OutputStream outStream) throws IOException {
+			try {
+				while (true) {
+					byte[] chunk = chunks.take();
+					if (chunk == END_OF_STREAM) {
+						outStream.flush();
+						return;
+					}
+					if (chunk == ABORTED) {
+						throw new IOException("statement upload aborted");
+					}
+					outStream.write(chunk);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("interrupted while streaming statements");
+			}
+		}
+
+		@Override
+		public boolean isStreaming() {
+			return true;
+		}
+	}
+}
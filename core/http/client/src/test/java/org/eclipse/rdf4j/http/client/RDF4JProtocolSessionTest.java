@@ -11,6 +11,7 @@
 package org.eclipse.rdf4j.http.client;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockserver.model.HttpRequest.request;
 import static org.mockserver.model.HttpResponse.response;
 
@@ -20,6 +21,10 @@ import java.util.HashMap;
 
 import org.eclipse.rdf4j.common.transaction.IsolationLevels;
 import org.eclipse.rdf4j.http.protocol.Protocol;
+import org.eclipse.rdf4j.http.protocol.Protocol.Action;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
 import org.eclipse.rdf4j.query.resultio.TupleQueryResultFormat;
 import org.eclipse.rdf4j.repository.config.RepositoryConfig;
 import org.eclipse.rdf4j.rio.RDFFormat;
@@ -184,6 +189,52 @@ public class RDF4JProtocolSessionTest extends SPARQLProtocolSessionTest {
 		);
 	}
 
+	@Test
+	public void testTransactionStatementStreamSendsSingleBinaryRequest(MockServerClient client) throws Exception {
+		String transactionStartUrl = Protocol.getTransactionsLocation(getRDF4JSession().getRepositoryURL());
+		client.when(
+				request()
+						.withMethod("POST")
+						.withPath("/rdf4j-server/repositories/test/transactions"),
+				Times.once())
+				.respond(response().withStatusCode(201).withHeader("Location", transactionStartUrl + "/1"));
+		client.when(
+				request()
+						.withMethod("PUT")
+						.withPath("/rdf4j-server/repositories/test/transactions/1")
+						.withQueryStringParameter("action", "ADD"),
+				Times.once())
+				.respond(response().withStatusCode(204));
+
+		getRDF4JSession().beginTransaction(IsolationLevels.SNAPSHOT);
+
+		ValueFactory vf = SimpleValueFactory.getInstance();
+		// small chunks so the payload is split over several chunks and the producer has to wait for the request
+		try (TransactionStatementStream stream = getRDF4JSession().openTransactionStatementStream(Action.ADD,
+				RDFFormat.BINARY, 128, 2)) {
+			for (int i = 0; i < 1000; i++) {
+				stream.add(vf.createStatement(vf.createIRI("urn:s" + i), RDF.VALUE, vf.createLiteral(i)));
+			}
+			assertThat(stream.size()).isEqualTo(1000);
+		}
+
+		client.verify(
+				request()
+						.withMethod("PUT")
+						.withPath("/rdf4j-server/repositories/test/transactions/1")
+						.withQueryStringParameter("action", "ADD")
+						.withHeader("Content-Type", RDFFormat.BINARY.getDefaultMIMEType())
+						.withHeader(testHeader, testValue),
+				VerificationTimes.once()
+		);
+	}
+
+	@Test
+	public void testTransactionStatementStreamRequiresTransaction() {
+		assertThatThrownBy(() -> getRDF4JSession().openTransactionStatementStream(Action.ADD, RDFFormat.BINARY, 128, 2))
+				.isInstanceOf(IllegalStateException.class);
+	}
+
 	@Test
 	public void testUpdateRepositoryExecutesPost(MockServerClient client) throws Exception {
 		RepositoryConfig config = new RepositoryConfig("test");
@@ -241,6 +241,12 @@ public class CONFIG {
 
 		/** <var>tag:rdf4j.org,2023:config/mem.syncDelay</var> */
 		public final static IRI syncDelay = createIRI(NAMESPACE, "mem.syncDelay");
+
+		/** <var>tag:rdf4j.org,2023:config/mem.incrementalSync</var> */
+		public final static IRI incrementalSync = createIRI(NAMESPACE, "mem.incrementalSync");
+
+		/** <var>tag:rdf4j.org,2023:config/mem.compactStorage</var> */
+		public final static IRI compactStorage = createIRI(NAMESPACE, "mem.compactStorage");
 	}
 
 	/**
@@ -298,6 +304,10 @@ public class CONFIG {
 		public final static IRI walAutoRecoverOnOpen = createIRI(NAMESPACE, "native.walAutoRecoverOnOpen");
 		/** <var>tag:rdf4j.org,2025:config/native.walEnabled</var> */
 		public final static IRI walEnabled = createIRI(NAMESPACE, "native.walEnabled");
+		/** <var>tag:rdf4j.org,2025:config/native.offHeapChangesets</var> */
+		public final static IRI offHeapChangesets = createIRI(NAMESPACE, "native.offHeapChangesets");
+		/** <var>tag:rdf4j.org,2025:config/native.versionedIndexes</var> */
+		public final static IRI versionedIndexes = createIRI(NAMESPACE, "native.versionedIndexes");
 	}
 
 	/**
@@ -370,6 +380,7 @@ public class CONFIG {
 				"shacl.validationResultsLimitPerConstraint");
 		public final static IRI transactionalValidationLimit = createIRI(NAMESPACE,
 				"shacl.transactionalValidationLimit");
+		public final static IRI bulkValidationFallback = createIRI(NAMESPACE, "shacl.bulkValidationFallback");
 
 		public final static IRI shapesGraph = createIRI(NAMESPACE, "shacl.shapesGraph");
 	}
@@ -0,0 +1,733 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.model.impl;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Namespace;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+
+/**
+ * A {@link Model} for large graphs that keeps each statement as a tuple of four int IDs in one array instead of as a
+ * {@link Statement} object with its own index entries. Every distinct value is stored once in a dictionary and gets a
+ * dense ID, ID 0 is the default graph. An open addressing hash table over the tuples answers {@link #contains} and
+ * finds duplicates, {@link Statement} objects are only created while iterating.
+ * <p>
+ * Patterns with a bound term are answered from a per-position index that links all tuples with the same subject,
+ * predicate, object or context. An index is built on the first pattern that needs it and is maintained from then on,
+ * so a model that is only added to and iterated over never pays for indexes. The index with the fewest tuples for the
+ * bound terms of a pattern is used.
+ * <p>
+ * Removed tuples are marked and skipped, their space is reclaimed when the tuple array would otherwise grow. Values
+ * that are no longer used are dropped from the dictionary at the same time. Statements are iterated in insertion
+ * order. Like {@link LinkedHashModel} this model is not thread safe and its iterators fail fast on concurrent
+ * modification.
+ *
+ * @see CompactModelFactory
+ * @see DynamicModel#DynamicModel(org.eclipse.rdf4j.model.ModelFactory, int)
+ */
+public class CompactModel extends AbstractModel {
+
+	private static final long serialVersionUID = -3172589461059134352L;
+
+	private static final ValueFactory VF = SimpleValueFactory.getInstance();
+
+	private static final Resource[] NULL_CTX = new Resource[] { null };
+
+	/**
+	 * Subject ID of a removed tuple, value IDs of subjects start at 1.
+	 */
+	private static final int REMOVED = 0;
+
+	private static final int SUBJ = 0, PRED = 1, OBJ = 2, CTX = 3;
+
+	/**
+	 * Order in which indexes are built for a pattern when none of its bound positions is indexed yet, most selective
+	 * first.
+	 */
+	private static final int[] BUILD_ORDER = { SUBJ, OBJ, CTX, PRED };
+
+	private final Set<Namespace> namespaces = new LinkedHashSet<>();
+
+	/**
+	 * Values by ID, ID 0 is the default graph.
+	 */
+	private Value[] values;
+
+	private int valueCount;
+
+	/**
+	 * Open addressing table of value IDs, 0 marks an empty slot.
+	 */
+	private int[] valueTable;
+
+	/**
+	 * Tuples in insertion order, four ints per slot. The subject of removed tuples is {@link #REMOVED}.
+	 */
+	private int[] quads;
+
+	private int slots;
+
+	private int removedSlots;
+
+	/**
+	 * Open addressing table of tuple slot + 1, 0 marks an empty entry and -1 a removed tuple.
+	 */
+	private int[] table;
+
+	private int tableUsed;
+
+	/**
+	 * Indexes by tuple position, null until first needed.
+	 */
+	private Index[] indexes;
+
+	private int size;
+
+	/**
+	 * Incremented on every modification, to fail iterators over a model that was modified by someone else.
+	 */
+	private int modCount;
+
+	public CompactModel() {
+		clear();
+	}
+
+	public CompactModel(Set<Namespace> namespaces) {
+		this();
+		this.namespaces.addAll(namespaces);
+	}
+
+	@Override
+	public Set<Namespace> getNamespaces() {
+		return namespaces;
+	}
+
+	@Override
+	public Optional<Namespace> getNamespace(String prefix) {
+		return namespaces.stream().filter(namespace -> namespace.getPrefix().equals(prefix)).findAny();
+	}
+
+	@Override
+	public Namespace setNamespace(String prefix, String name) {
+		Namespace namespace = new SimpleNamespace(prefix, name);
+		setNamespace(namespace);
+		return namespace;
+	}
+
+	@Override
+	public void setNamespace(Namespace namespace) {
+		removeNamespace(namespace.getPrefix());
+		namespaces.add(namespace);
+	}
+
+	@Override
+	public Optional<Namespace> removeNamespace(String prefix) {
+		Optional<Namespace> namespace = getNamespace(prefix);
+		namespace.ifPresent(namespaces::remove);
+		return namespace;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public boolean add(Resource subj, IRI pred, Value obj, Resource... contexts) {
+		if (subj == null || pred == null || obj == null) {
+			throw new UnsupportedOperationException("Incomplete statement");
+		}
+		if (contexts == null || contexts.length == 0) {
+			contexts = NULL_CTX;
+		}
+		ensureCapacity(contexts.length);
+		int subjID = storeValue(subj);
+		int predID = storeValue(pred);
+		int objID = storeValue(obj);
+		boolean added = false;
+		for (Resource context : contexts) {
+			added |= addQuad(subjID, predID, objID, storeValue(context));
+		}
+		return added;
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		if (o instanceof Statement) {
+			Statement st = (Statement) o;
+			return findSlot(lookupValue(st.getSubject()), lookupValue(st.getPredicate()), lookupValue(st.getObject()),
+					lookupValue(st.getContext())) >= 0;
+		}
+		return false;
+	}
+
+	@Override
+	public boolean contains(Resource subj, IRI pred, Value obj, Resource... contexts) {
+		if (subj != null && pred != null && obj != null && contexts != null && contexts.length == 1) {
+			return findSlot(lookupValue(subj), lookupValue(pred), lookupValue(obj), lookupValue(contexts[0])) >= 0;
+		}
+		return match(subj, pred, obj, contexts).hasNext();
+	}
+
+	@Override
+	public boolean remove(Object o) {
+		if (o instanceof Statement) {
+			Statement st = (Statement) o;
+			int slot = findSlot(lookupValue(st.getSubject()), lookupValue(st.getPredicate()),
+					lookupValue(st.getObject()), lookupValue(st.getContext()));
+			if (slot >= 0) {
+				removeSlot(slot);
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public boolean remove(Resource subj, IRI pred, Value obj, Resource... contexts) {
+		boolean removed = false;
+		for (Iterator<Statement> iter = match(subj, pred, obj, contexts); iter.hasNext();) {
+			iter.next();
+			iter.remove();
+			removed = true;
+		}
+		return removed;
+	}
+
+	@Override
+	public boolean clear(Resource... contexts) {
+		return remove(null, null, null, contexts);
+	}
+
+	@Override
+	public void clear() {
+		values = new Value[16];
+		valueCount = 1;
+		valueTable = new int[32];
+		quads = new int[16 * 4];
+		slots = 0;
+		removedSlots = 0;
+		table = new int[32];
+		tableUsed = 0;
+		indexes = new Index[4];
+		size = 0;
+		modCount++;
+	}
+
+	@Override
+	public Iterator<Statement> iterator() {
+		return match(null, null, null);
+	}
+
+	@Override
+	public Model filter(Resource subj, IRI pred, Value obj, Resource... contexts) {
+		return new FilteredModel(this, subj, pred, obj, contexts) {
+
+			private static final long serialVersionUID = -5316227905378460197L;
+
+			@Override
+			public Iterator<Statement> iterator() {
+				return match(subj, pred, obj, contexts);
+			}
+
+			@Override
+			protected void removeFilteredTermIteration(Iterator<Statement> iter, Resource subj, IRI pred, Value obj,
+					Resource... contexts) {
+				CompactModel.this.removeTermIteration(iter, subj, pred, obj, contexts);
+			}
+		};
+	}
+
+	@Override
+	public void removeTermIteration(Iterator<Statement> iter, Resource subj, IRI pred, Value obj,
+			Resource... contexts) {
+		remove(subj, pred, obj, contexts);
+		// removed tuples are only marked, so the iterator can skip them and continue
+		if (iter instanceof QuadIterator && ((QuadIterator) iter).owner() == this) {
+			((QuadIterator) iter).expectedModCount = modCount;
+		}
+	}
+
+	private int lookupValue(Value value) {
+		if (value == null) {
+			return 0;
+		}
+		int mask = valueTable.length - 1;
+		for (int i = mix(value.hashCode()) & mask;; i = (i + 1) & mask) {
+			int id = valueTable[i];
+			if (id == 0) {
+				return -1;
+			} else if (values[id].equals(value)) {
+				return id;
+			}
+		}
+	}
+
+	private int storeValue(Value value) {
+		if (value == null) {
+			return 0;
+		}
+		int mask = valueTable.length - 1;
+		int i = mix(value.hashCode()) & mask;
+		for (int id = valueTable[i]; id != 0; id = valueTable[i]) {
+			if (values[id].equals(value)) {
+				return id;
+			}
+			i = (i + 1) & mask;
+		}
+
+		int id = valueCount++;
+		if (id == values.length) {
+			values = Arrays.copyOf(values, id * 2);
+		}
+		values[id] = value;
+		valueTable[i] = id;
+		if (valueCount * 2 > valueTable.length) {
+			valueTable = new int[valueTable.length * 2];
+			rehashValues();
+		}
+		return id;
+	}
+
+	private void rehashValues() {
+		int mask = valueTable.length - 1;
+		for (int id = 1; id < valueCount; id++) {
+			int i = mix(values[id].hashCode()) & mask;
+			while (valueTable[i] != 0) {
+				i = (i + 1) & mask;
+			}
+			valueTable[i] = id;
+		}
+	}
+
+	/**
+	 * @return the slot of the tuple, or -1 if it is not in this model.
+	 */
+	private int findSlot(int subj, int pred, int obj, int context) {
+		int entry = findEntry(subj, pred, obj, context);
+		return entry < 0 ? -1 : table[entry] - 1;
+	}
+
+	/**
+	 * @return the position of the tuple in {@link #table}, or -1 if it is not in this model.
+	 */
+	private int findEntry(int subj, int pred, int obj, int context) {
+		if (subj <= 0 || pred <= 0 || obj <= 0 || context < 0) {
+			return -1;
+		}
+		int mask = table.length - 1;
+		for (int i = hash(subj, pred, obj, context) & mask;; i = (i + 1) & mask) {
+			int entry = table[i];
+			if (entry == 0) {
+				return -1;
+			} else if (entry > 0) {
+				int offset = (entry - 1) * 4;
+				if (quads[offset] == subj && quads[offset + 1] == pred && quads[offset + 2] == obj
+						&& quads[offset + 3] == context) {
+					return i;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Makes room for the given number of tuples, by first reclaiming the slots of removed tuples if there are many.
+	 * Value IDs can change, so this must be called before looking up the IDs of the values to add.
+	 */
+	private void ensureCapacity(int tuples) {
+		if ((slots + tuples) * 4 > quads.length && removedSlots * 2 >= slots) {
+			compact();
+		}
+		while ((slots + tuples) * 4 > quads.length) {
+			quads = Arrays.copyOf(quads, quads.length * 2);
+		}
+	}
+
+	private boolean addQuad(int subj, int pred, int obj, int context) {
+		if (findEntry(subj, pred, obj, context) >= 0) {
+			return false;
+		}
+		int slot = slots++;
+		int offset = slot * 4;
+		quads[offset] = subj;
+		quads[offset + 1] = pred;
+		quads[offset + 2] = obj;
+		quads[offset + 3] = context;
+		insertEntry(slot);
+		for (int position = 0; position < 4; position++) {
+			if (indexes[position] != null) {
+				indexes[position].link(slot, quads[offset + position]);
+			}
+		}
+		size++;
+		modCount++;
+		return true;
+	}
+
+	private void insertEntry(int slot) {
+		int offset = slot * 4;
+		int mask = table.length - 1;
+		int i = hash(quads[offset], quads[offset + 1], quads[offset + 2], quads[offset + 3]) & mask;
+		while (table[i] > 0) {
+			i = (i + 1) & mask;
+		}
+		if (table[i] == 0) {
+			tableUsed++;
+		}
+		table[i] = slot + 1;
+		if (tableUsed * 2 > table.length) {
+			rehashEntries();
+		}
+	}
+
+	/**
+	 * Rebuilds the tuple table without removed entries, doubling it if the live tuples need more space.
+	 */
+	private void rehashEntries() {
+		int length = table.length;
+		while (size * 4 >= length) {
+			length *= 2;
+		}
+		table = new int[length];
+		tableUsed = 0;
+		for (int slot = 0; slot < slots; slot++) {
+			if (quads[slot * 4] != REMOVED) {
+				insertEntry(slot);
+			}
+		}
+	}
+
+	private void removeSlot(int slot) {
+		int offset = slot * 4;
+		table[findEntry(quads[offset], quads[offset + 1], quads[offset + 2], quads[offset + 3])] = -1;
+		for (int position = 0; position < 4; position++) {
+			if (indexes[position] != null) {
+				indexes[position].counts[quads[offset + position]]--;
+			}
+		}
+		quads[offset] = REMOVED;
+		removedSlots++;
+		size--;
+		modCount++;
+	}
+
+	/**
+	 * Moves the live tuples to the front of the tuple array and drops values that are no longer used. Tuple slots and
+	 * value IDs change, so the indexes are dropped to be rebuilt when next needed.
+	 */
+	private void compact() {
+		int[] ids = new int[valueCount];
+		Value[] live = new Value[Math.max(16, values.length)];
+		int liveCount = 1;
+		int target = 0;
+		for (int slot = 0; slot < slots; slot++) {
+			int offset = slot * 4;
+			if (quads[offset] == REMOVED) {
+				continue;
+			}
+			int targetOffset = target++ * 4;
+			for (int position = 0; position < 4; position++) {
+				int id = quads[offset + position];
+				if (id != 0 && ids[id] == 0) {
+					ids[id] = liveCount;
+					live[liveCount++] = values[id];
+				}
+				quads[targetOffset + position] = id == 0 ? 0 : ids[id];
+			}
+		}
+		values = live;
+		valueCount = liveCount;
+		Arrays.fill(valueTable, 0);
+		rehashValues();
+		slots = target;
+		removedSlots = 0;
+		table = new int[table.length];
+		tableUsed = 0;
+		for (int slot = 0; slot < slots; slot++) {
+			insertEntry(slot);
+		}
+		Arrays.fill(indexes, null);
+		modCount++;
+	}
+
+	/**
+	 * @return the index of the given tuple position, which is built if it does not exist yet.
+	 */
+	private Index index(int position) {
+		Index index = indexes[position];
+		if (index == null) {
+			index = new Index(values.length, quads.length / 4);
+			for (int slot = 0; slot < slots; slot++) {
+				int offset = slot * 4;
+				if (quads[offset] != REMOVED) {
+					index.link(slot, quads[offset + position]);
+				}
+			}
+			indexes[position] = index;
+		}
+		return index;
+	}
+
+	/**
+	 * Iterates over the tuples that match the pattern, following the index with the fewest tuples for a bound term.
+	 */
+	private Iterator<Statement> match(Resource subj, IRI pred, Value obj, Resource... contexts) {
+		int[] bound = new int[4];
+		Value[] terms = { subj, pred, obj };
+		for (int position = 0; position < 3; position++) {
+			if (terms[position] != null) {
+				bound[position] = lookupValue(terms[position]);
+				if (bound[position] <= 0) {
+					return Collections.emptyIterator();
+				}
+			}
+		}
+
+		int[] contextIDs = null;
+		if (contexts == null) {
+			contextIDs = new int[] { 0 };
+		} else if (contexts.length > 0) {
+			contextIDs = new int[contexts.length];
+			int known = 0;
+			for (Resource context : contexts) {
+				int id = lookupValue(context);
+				if (id >= 0) {
+					contextIDs[known++] = id;
+				}
+			}
+			if (known == 0) {
+				return Collections.emptyIterator();
+			}
+			contextIDs = Arrays.copyOf(contextIDs, known);
+		}
+		boolean contextBound = contextIDs != null && contextIDs.length == 1;
+		if (contextBound) {
+			bound[CTX] = contextIDs[0];
+		}
+
+		int best = -1;
+		for (int position = 0; position < 4; position++) {
+			if (indexes[position] != null && (position < CTX ? bound[position] != 0 : contextBound)
+					&& (best < 0 || indexes[position].count(bound[position]) < indexes[best].count(bound[best]))) {
+				best = position;
+			}
+		}
+		if (best < 0) {
+			for (int position : BUILD_ORDER) {
+				if (position < CTX ? bound[position] != 0 : contextBound) {
+					best = position;
+					break;
+				}
+			}
+		}
+		if (best < 0) {
+			return new QuadIterator(bound, contextIDs, null, 0);
+		}
+		Index index = index(best);
+		return new QuadIterator(bound, contextIDs, index, index.first(bound[best]));
+	}
+
+	private final class QuadIterator implements Iterator<Statement> {
+
+		private final int[] bound;
+
+		private final int[] contextIDs;
+
+		/**
+		 * The index whose chain is followed, or null to scan all slots.
+		 */
+		private final Index index;
+
+		private int expectedModCount = modCount;
+
+		/**
+		 * The next slot to look at + 1, 0 once the iteration has ended.
+		 */
+		private int cursor;
+
+		private int nextSlot = -1;
+
+		private int lastSlot = -1;
+
+		QuadIterator(int[] bound, int[] contextIDs, Index index, int first) {
+			this.bound = bound;
+			this.contextIDs = contextIDs;
+			this.index = index;
+			this.cursor = index == null ? 1 : first;
+		}
+
+		private CompactModel owner() {
+			return CompactModel.this;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (nextSlot >= 0) {
+				return true;
+			}
+			if (cursor == 0) {
+				return false;
+			}
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			while (cursor > 0 && cursor <= slots) {
+				int slot = cursor - 1;
+				cursor = index == null ? cursor + 1 : index.next[slot];
+				if (matches(slot * 4)) {
+					nextSlot = slot;
+					return true;
+				}
+			}
+			cursor = 0;
+			return false;
+		}
+
+		private boolean matches(int offset) {
+			if (quads[offset] == REMOVED) {
+				return false;
+			}
+			for (int position = 0; position < 3; position++) {
+				if (bound[position] != 0 && quads[offset + position] != bound[position]) {
+					return false;
+				}
+			}
+			if (contextIDs == null) {
+				return true;
+			}
+			int context = quads[offset + CTX];
+			for (int contextID : contextIDs) {
+				if (contextID == context) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public Statement next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			lastSlot = nextSlot;
+			nextSlot = -1;
+			int offset = lastSlot * 4;
+			Resource subj = (Resource) values[quads[offset]];
+			IRI pred = (IRI) values[quads[offset + 1]];
+			Value obj = values[quads[offset + 2]];
+			Resource context = (Resource) values[quads[offset + 3]];
+			return context == null ? VF.createStatement(subj, pred, obj) : VF.createStatement(subj, pred, obj, context);
+		}
+
+		@Override
+		public void remove() {
+			if (lastSlot < 0) {
+				throw new IllegalStateException();
+			}
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			removeSlot(lastSlot);
+			expectedModCount = modCount;
+			lastSlot = -1;
+		}
+	}
+
+	/**
+	 * Links the tuples with the same value at one tuple position in insertion order.
+	 */
+	private static final class Index implements Serializable {
+
+		private static final long serialVersionUID = 5093346628186930185L;
+
+		/**
+		 * First and last slot + 1 by value ID.
+		 */
+		private int[] heads, tails;
+
+		/**
+		 * Live tuples by value ID.
+		 */
+		private int[] counts;
+
+		/**
+		 * Next slot + 1 with the same value by slot, 0 at the end of a chain.
+		 */
+		private int[] next;
+
+		Index(int valueCapacity, int slotCapacity) {
+			heads = new int[valueCapacity];
+			tails = new int[valueCapacity];
+			counts = new int[valueCapacity];
+			next = new int[slotCapacity];
+		}
+
+		int first(int id) {
+			return id < heads.length ? heads[id] : 0;
+		}
+
+		int count(int id) {
+			return id < counts.length ? counts[id] : 0;
+		}
+
+		void link(int slot, int id) {
+			if (id >= heads.length) {
+				int capacity = Math.max(id + 1, heads.length * 2);
+				heads = Arrays.copyOf(heads, capacity);
+				tails = Arrays.copyOf(tails, capacity);
+				counts = Arrays.copyOf(counts, capacity);
+			}
+			if (slot >= next.length) {
+				next = Arrays.copyOf(next, Math.max(slot + 1, next.length * 2));
+			}
+			if (heads[id] == 0) {
+				heads[id] = slot + 1;
+			} else {
+				next[tails[id] - 1] = slot + 1;
+			}
+			tails[id] = slot + 1;
+			next[slot] = 0;
+			counts[id]++;
+		}
+	}
+
+	private static int hash(int subj, int pred, int obj, int context) {
+		int hash = subj;
+		hash = 31 * hash + pred;
+		hash = 31 * hash + obj;
+		hash = 31 * hash + context;
+		return mix(hash);
+	}
+
+	private static int mix(int hash) {
+		hash *= 0x9E3779B9;
+		return hash ^ (hash >>> 16);
+	}
+}
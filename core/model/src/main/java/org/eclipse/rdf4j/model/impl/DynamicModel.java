@@ -42,6 +42,13 @@ import org.eclipse.rdf4j.model.Value;
  * protected by the actual upgrade method being synchronized. The LinkedHashMap storage is not removed once upgraded, so
  * concurrent reads that have started reading from the LinkedHashMap can continue to read even during an upgrade. We do
  * make the LinkedHashMap unmodifiable to reduce the chance of there being a bug.
+ * <p>
+ * A DynamicModel can be given a compact threshold, in which case it is promoted to a {@link CompactModel} as soon as
+ * it holds more statements than the threshold, and a later upgrade of a model above the threshold also creates a
+ * CompactModel instead of a model from the modelFactory. A model that has already been upgraded is promoted once it
+ * grows above the threshold, unless views of it (e.g. from {@link #filter(Resource, IRI, Value, Resource...)} or
+ * {@link #subjects()}) have been handed out, since those would no longer reflect changes to the promoted model. This
+ * keeps the memory use of large graphs down.
  *
  * @author Håvard Mikkelsen Ottestad
  */
@@ -58,14 +65,28 @@ public class DynamicModel extends AbstractSet<Statement> implements Model {
 
 	private final ModelFactory modelFactory;
 
+	private final int compactThreshold;
+
+	// whether views of the model have been handed out, which would no longer reflect changes if the model is promoted
+	private volatile boolean modelShared;
+
 	public DynamicModel(ModelFactory modelFactory) {
+		this(modelFactory, 0);
+	}
+
+	/**
+	 * @param modelFactory     creates the model to upgrade to
+	 * @param compactThreshold the number of statements above which this model is promoted to a {@link CompactModel},
+	 *                         or 0 to never promote
+	 */
+	public DynamicModel(ModelFactory modelFactory, int compactThreshold) {
 		this.modelFactory = modelFactory;
+		this.compactThreshold = compactThreshold;
 	}
 
 	@Override
 	public Model unmodifiable() {
-		upgrade();
-		return model.unmodifiable();
+		return sharedModel().unmodifiable();
 	}
 
 	@Override
@@ -87,7 +108,7 @@ public class DynamicModel extends AbstractSet<Statement> implements Model {
 		if (model == null) {
 			return namespaces;
 		} else {
-			return model.getNamespaces();
+			return sharedModel().getNamespaces();
 		}
 	}
 
@@ -140,12 +161,15 @@ public class DynamicModel extends AbstractSet<Statement> implements Model {
 			boolean added = false;
 			for (Resource context : contexts) {
 				Statement statement = SimpleValueFactory.getInstance().createStatement(subj, pred, obj, context);
-				added = added
-						| statements.put(statement, statement) == null;
+				added = added | add(statement);
 			}
 			return added;
 		} else {
-			return model.add(subj, pred, obj, contexts);
+			boolean added = model.add(subj, pred, obj, contexts);
+			if (added) {
+				compactIfNeeded();
+			}
+			return added;
 		}
 	}
 
@@ -176,32 +200,27 @@ public class DynamicModel extends AbstractSet<Statement> implements Model {
 
 	@Override
 	public Model filter(Resource subj, IRI pred, Value obj, Resource... contexts) {
-		upgrade();
-		return model.filter(subj, pred, obj, contexts);
+		return sharedModel().filter(subj, pred, obj, contexts);
 	}
 
 	@Override
 	public Set<Resource> subjects() {
-		upgrade();
-		return model.subjects();
+		return sharedModel().subjects();
 	}
 
 	@Override
 	public Set<IRI> predicates() {
-		upgrade();
-		return model.predicates();
+		return sharedModel().predicates();
 	}
 
 	@Override
 	public Set<Value> objects() {
-		upgrade();
-		return model.objects();
+		return sharedModel().objects();
 	}
 
 	@Override
 	public Set<Resource> contexts() {
-		upgrade();
-		return model.contexts();
+		return sharedModel().contexts();
 	}
 
 	@Override
@@ -257,9 +276,17 @@ public class DynamicModel extends AbstractSet<Statement> implements Model {
 	public boolean add(Statement statement) {
 		Objects.requireNonNull(statement);
 		if (model == null) {
-			return statements.put(statement, statement) == null;
+			boolean added = statements.put(statement, statement) == null;
+			if (added && exceedsCompactThreshold()) {
+				upgrade();
+			}
+			return added;
+		}
+		boolean added = model.add(statement);
+		if (added) {
+			compactIfNeeded();
 		}
-		return model.add(statement);
+		return added;
 	}
 
 	@Override
@@ -284,15 +311,23 @@ public class DynamicModel extends AbstractSet<Statement> implements Model {
 	public boolean addAll(Collection<? extends Statement> c) {
 		Objects.requireNonNull(c);
 		if (model == null) {
-			return c.stream()
+			boolean added = c.stream()
 					.map(s -> {
 						Objects.requireNonNull(s);
 						return statements.put(s, s) == null;
 					})
 					.reduce((a, b) -> a || b)
 					.orElse(false);
+			if (added && exceedsCompactThreshold()) {
+				upgrade();
+			}
+			return added;
 		}
-		return model.addAll(c);
+		boolean added = model.addAll(c);
+		if (added) {
+			compactIfNeeded();
+		}
+		return added;
 	}
 
 	@Override
@@ -340,8 +375,7 @@ public class DynamicModel extends AbstractSet<Statement> implements Model {
 				&& contexts.length == 0) {
 			return this;
 		} else {
-			upgrade();
-			return model.getStatements(subject, predicate, object, contexts);
+			return sharedModel().getStatements(subject, predicate, object, contexts);
 		}
 	}
 
@@ -356,13 +390,38 @@ public class DynamicModel extends AbstractSet<Statement> implements Model {
 			// make statements unmodifiable first, to increase chance of an early failure if the user is doing
 			// concurrent write with reads
 			statements = Collections.unmodifiableMap(statements);
-			Model tempModel = modelFactory.createEmptyModel();
+			Model tempModel = exceedsCompactThreshold() ? new CompactModel() : modelFactory.createEmptyModel();
 			tempModel.addAll(statements.values());
 			namespaces.forEach(tempModel::setNamespace);
 			model = tempModel;
 		}
 	}
 
+	private Model sharedModel() {
+		upgrade();
+		modelShared = true;
+		return model;
+	}
+
+	private void compactIfNeeded() {
+		if (exceedsCompactThreshold() && !modelShared && !(model instanceof CompactModel)) {
+			synchronizedCompact();
+		}
+	}
+
+	synchronized private void synchronizedCompact() {
+		if (!modelShared && !(model instanceof CompactModel)) {
+			Model compactModel = new CompactModel();
+			compactModel.addAll(model);
+			model.getNamespaces().forEach(compactModel::setNamespace);
+			model = compactModel;
+		}
+	}
+
+	private boolean exceedsCompactThreshold() {
+		return compactThreshold > 0 && size() > compactThreshold;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) {
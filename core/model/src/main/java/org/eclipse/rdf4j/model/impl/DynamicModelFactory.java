@@ -17,9 +17,23 @@ import org.eclipse.rdf4j.model.ModelFactory;
  */
 public class DynamicModelFactory implements ModelFactory {
 
+	private final int compactThreshold;
+
+	public DynamicModelFactory() {
+		this(0);
+	}
+
+	/**
+	 * @param compactThreshold the number of statements above which created models are promoted to a
+	 *                         {@link CompactModel}, or 0 to never promote
+	 */
+	public DynamicModelFactory(int compactThreshold) {
+		this.compactThreshold = compactThreshold;
+	}
+
 	@Override
 	public DynamicModel createEmptyModel() {
-		return new DynamicModel(new LinkedHashModelFactory());
+		return new DynamicModel(new LinkedHashModelFactory(), compactThreshold);
 	}
 
 }
@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.model.impl;
+
+import org.eclipse.rdf4j.common.annotation.Experimental;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.base.CoreDatatype;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+/**
+ * A {@link ValueFactory} that returns the same object for equal IRIs and literals, by looking every created IRI and
+ * literal up in a dictionary that is shared by all instances of this factory. The dictionary is concurrent and only
+ * references its values weakly, so values that are no longer used elsewhere are garbage collected.
+ * <p>
+ * Parsing data with many repeated terms, for instance with an RDF parser or a query result parser that is given this
+ * factory, keeps one object per distinct term instead of one per occurrence. Values from this factory compare equal to
+ * each other by reference, and two different values that both came out of the dictionary are known to be unequal
+ * without comparing their strings. Hash codes are those of the IRI string or label, which {@link String} already
+ * caches.
+ * <p>
+ * Blank nodes, and literals that are created from Java objects such as numbers and dates, are not interned.
+ */
+@Experimental
+public class InterningValueFactory extends SimpleValueFactory {
+
+	private static final Interner<Value> dictionary = Interners.newWeakInterner();
+
+	private static final InterningValueFactory sharedInstance = new InterningValueFactory();
+
+	/**
+	 * Provide a single shared instance of an InterningValueFactory.
+	 *
+	 * @return a singleton instance of InterningValueFactory.
+	 */
+	public static InterningValueFactory getInstance() {
+		return sharedInstance;
+	}
+
+	/**
+	 * Hidden constructor to enforce singleton pattern.
+	 */
+	protected InterningValueFactory() {
+	}
+
+	@Override
+	public IRI createIRI(String iri) {
+		return intern(new InternedIRI(iri));
+	}
+
+	@Override
+	public IRI createIRI(String namespace, String localName) {
+		return intern(new InternedIRI(namespace, localName));
+	}
+
+	@Override
+	public Literal createLiteral(String value) {
+		return intern(new InternedLiteral(value));
+	}
+
+	@Override
+	public Literal createLiteral(String value, String language) {
+		InternedLiteral literal = new InternedLiteral(value, language);
+		Literal interned = intern(literal);
+		// language tags are compared case insensitively, keep the tag as it was given
+		return interned.getLanguage().get().equals(language) ? interned : literal;
+	}
+
+	@Override
+	public Literal createLiteral(String value, IRI datatype) {
+		return intern(new InternedLiteral(value, datatype));
+	}
+
+	@Override
+	public Literal createLiteral(String label, CoreDatatype datatype) {
+		return (Literal) dictionary.intern(super.createLiteral(label, datatype));
+	}
+
+	@Override
+	public Literal createLiteral(String label, IRI datatype, CoreDatatype coreDatatype) {
+		return (Literal) dictionary.intern(super.createLiteral(label, datatype, coreDatatype));
+	}
+
+	private static IRI intern(InternedIRI iri) {
+		IRI interned = (IRI) dictionary.intern(iri);
+		if (interned == iri) {
+			iri.interned = true;
+		}
+		return interned;
+	}
+
+	private static Literal intern(InternedLiteral literal) {
+		Literal interned = (Literal) dictionary.intern(literal);
+		if (interned == literal) {
+			literal.interned = true;
+		}
+		return interned;
+	}
+
+	private static final class InternedIRI extends SimpleIRI {
+
+		private static final long serialVersionUID = -2840152587233542616L;
+
+		/**
+		 * Whether this is the object in the dictionary. Deserialized copies are not.
+		 */
+		private transient boolean interned;
+
+		InternedIRI(String iriString) {
+			super(iriString);
+		}
+
+		InternedIRI(String namespace, String localName) {
+			super(namespace, localName);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (o == this) {
+				return true;
+			}
+			if (interned && o instanceof InternedIRI && ((InternedIRI) o).interned) {
+				return false;
+			}
+			return super.equals(o);
+		}
+	}
+
+	private static final class InternedLiteral extends SimpleLiteral {
+
+		private static final long serialVersionUID = 6281304683541126407L;
+
+		/**
+		 * Whether this is the object in the dictionary. Deserialized copies are not.
+		 */
+		private transient boolean interned;
+
+		InternedLiteral(String label) {
+			super(label, CoreDatatype.XSD.STRING);
+		}
+
+		InternedLiteral(String label, String language) {
+			super(label, language);
+		}
+
+		InternedLiteral(String label, IRI datatype) {
+			super(label, datatype);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (o == this) {
+				return true;
+			}
+			if (interned && o instanceof InternedLiteral && ((InternedLiteral) o).interned) {
+				return false;
+			}
+			return super.equals(o);
+		}
+	}
+}
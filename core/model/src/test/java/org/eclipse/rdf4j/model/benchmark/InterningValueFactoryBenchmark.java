@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.model.benchmark;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.InterningValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Creates values from freshly allocated strings with many repeated terms, like a parser does, and adds them to a model
+ * or looks them up in a hash set.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+public class InterningValueFactoryBenchmark {
+
+	private static final int statements = 200_000;
+
+	@Param({ "simple", "interning" })
+	public String factoryType;
+
+	private ValueFactory factory;
+
+	private int[][] terms;
+
+	private Set<Statement> lookup;
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(InterningValueFactoryBenchmark.class.getSimpleName())
+				.build()
+		).run();
+	}
+
+	@Setup
+	public void setup() {
+		factory = "interning".equals(factoryType) ? InterningValueFactory.getInstance()
+				: SimpleValueFactory.getInstance();
+		Random random = new Random(42);
+		terms = new int[statements][];
+		for (int i = 0; i < statements; i++) {
+			terms[i] = new int[] { random.nextInt(20_000), random.nextInt(50), random.nextInt(5_000) };
+		}
+		lookup = new HashSet<>(parse());
+	}
+
+	@Benchmark
+	public LinkedHashModel parseIntoModel() {
+		return parse();
+	}
+
+	@Benchmark
+	public long parseAndLookup() {
+		long found = 0;
+		for (Statement statement : parse()) {
+			if (lookup.contains(statement)) {
+				found++;
+			}
+		}
+		return found;
+	}
+
+	private LinkedHashModel parse() {
+		LinkedHashModel model = new LinkedHashModel();
+		for (int[] term : terms) {
+			// new strings for every occurrence, as a parser reads them
+			model.add(factory.createIRI(new StringBuilder("http://example.com/resource/").append(term[0]).toString()),
+					factory.createIRI(new StringBuilder("http://example.com/property/").append(term[1]).toString()),
+					factory.createLiteral(new StringBuilder("label ").append(term[2]).toString()));
+		}
+		return model;
+	}
+}
@@ -13,8 +13,10 @@ package org.eclipse.rdf4j.model.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Model;
 import org.eclipse.rdf4j.model.Namespace;
+import org.eclipse.rdf4j.model.Statement;
 import org.junit.jupiter.api.Test;
 
 public class DynamicModelTest {
@@ -65,4 +67,75 @@ public class DynamicModelTest {
 				.isFalse();
 	}
 
+	@Test
+	public void testPromoteToCompactModel() {
+		SimpleValueFactory vf = SimpleValueFactory.getInstance();
+		IRI p = vf.createIRI("urn:p");
+
+		Model model = new DynamicModelFactory(10).createEmptyModel();
+		model.setNamespace("ex", "urn:");
+		for (int i = 0; i < 10; i++) {
+			model.add(vf.createIRI("urn:s" + i), p, vf.createLiteral(i));
+		}
+		Statement last = vf.createStatement(vf.createIRI("urn:s10"), p, vf.createLiteral(10));
+		model.add(last);
+
+		assertThat(model).hasSize(11);
+		assertThat(model.filter(null, p, null)).hasSize(11).contains(last);
+		assertThat(model.iterator().getClass().getEnclosingClass()).isEqualTo(CompactModel.class);
+		assertThat(model.getNamespace("ex")).isPresent();
+		assertThat(((DynamicModel) model).unmodifiable().contains(last)).isTrue();
+	}
+
+	@Test
+	public void testUpgradeBelowCompactThreshold() {
+		SimpleValueFactory vf = SimpleValueFactory.getInstance();
+		Model model = new DynamicModelFactory(10).createEmptyModel();
+		model.add(vf.createIRI("urn:s"), vf.createIRI("urn:p"), vf.createLiteral(1));
+
+		assertThat(model.filter(null, null, null)).hasSize(1);
+		assertThat(model.iterator().getClass().getEnclosingClass()).isNotEqualTo(CompactModel.class);
+	}
+
+	@Test
+	public void testPromoteToCompactModelAfterUpgrade() {
+		SimpleValueFactory vf = SimpleValueFactory.getInstance();
+		IRI p = vf.createIRI("urn:p");
+
+		Model model = new DynamicModelFactory(10).createEmptyModel();
+		model.setNamespace("ex", "urn:");
+		model.add(vf.createIRI("urn:s0"), p, vf.createLiteral(0));
+
+		// upgrades the model below the threshold
+		assertThat(model.contains(null, p, null)).isTrue();
+		assertThat(model.iterator().getClass().getEnclosingClass()).isNotEqualTo(CompactModel.class);
+
+		for (int i = 1; i <= 10; i++) {
+			model.add(vf.createIRI("urn:s" + i), p, vf.createLiteral(i));
+		}
+
+		assertThat(model).hasSize(11);
+		assertThat(model.iterator().getClass().getEnclosingClass()).isEqualTo(CompactModel.class);
+		assertThat(model.filter(null, p, vf.createLiteral(10))).hasSize(1);
+		assertThat(model.getNamespace("ex")).isPresent();
+	}
+
+	@Test
+	public void testNoPromotionWhileViewsAreShared() {
+		SimpleValueFactory vf = SimpleValueFactory.getInstance();
+		IRI p = vf.createIRI("urn:p");
+
+		Model model = new DynamicModelFactory(10).createEmptyModel();
+		model.add(vf.createIRI("urn:s0"), p, vf.createLiteral(0));
+		Model view = model.filter(null, p, null);
+
+		for (int i = 1; i <= 10; i++) {
+			model.add(vf.createIRI("urn:s" + i), p, vf.createLiteral(i));
+		}
+
+		// the view has to keep reflecting the model
+		assertThat(view).hasSize(11);
+		assertThat(model.iterator().getClass().getEnclosingClass()).isNotEqualTo(CompactModel.class);
+	}
+
 }
@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.model.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.ValueFactoryTest;
+import org.eclipse.rdf4j.model.base.CoreDatatype;
+import org.eclipse.rdf4j.model.vocabulary.XSD;
+import org.junit.jupiter.api.Test;
+
+public class InterningValueFactoryTest extends ValueFactoryTest {
+
+	private final InterningValueFactory vf = InterningValueFactory.getInstance();
+
+	@Override
+	protected ValueFactory factory() {
+		return vf;
+	}
+
+	@Test
+	public void testEqualValuesAreSame() {
+		assertThat(vf.createIRI(new String("urn:a"))).isSameAs(vf.createIRI("urn:a"));
+		assertThat(vf.createIRI("urn:", "a")).isSameAs(vf.createIRI("urn:a"));
+		assertThat(vf.createLiteral(new String("a"))).isSameAs(vf.createLiteral("a"));
+		assertThat(vf.createLiteral("a", XSD.STRING)).isSameAs(vf.createLiteral("a"));
+		assertThat(vf.createLiteral("a", "en")).isSameAs(vf.createLiteral("a", "en"));
+		assertThat(vf.createLiteral("a", CoreDatatype.XSD.TOKEN))
+				.isSameAs(vf.createLiteral("a", vf.createIRI(XSD.TOKEN.stringValue())));
+	}
+
+	@Test
+	public void testDifferentValuesAreNotEqual() {
+		IRI a = vf.createIRI("urn:a");
+		IRI b = vf.createIRI("urn:b");
+		assertThat(a).isNotEqualTo(b);
+		assertThat(vf.createLiteral("a")).isNotEqualTo(vf.createLiteral("a", "en"));
+		assertThat(vf.createLiteral("1", XSD.INT)).isNotEqualTo(vf.createLiteral("1", XSD.LONG));
+	}
+
+	@Test
+	public void testEqualToValuesOfOtherFactories() {
+		SimpleValueFactory simple = SimpleValueFactory.getInstance();
+		assertThat(vf.createIRI("urn:a")).isEqualTo(simple.createIRI("urn:a"))
+				.hasSameHashCodeAs(simple.createIRI("urn:a"));
+		assertThat(simple.createIRI("urn:a")).isEqualTo(vf.createIRI("urn:a"));
+		assertThat(vf.createLiteral("a", "en")).isEqualTo(simple.createLiteral("a", "en"));
+		assertThat(simple.createLiteral("a", XSD.TOKEN)).isEqualTo(vf.createLiteral("a", XSD.TOKEN));
+	}
+
+	@Test
+	public void testLanguageTagIsKept() {
+		Literal lower = vf.createLiteral("colour", "en-gb");
+		Literal upper = vf.createLiteral("colour", "en-GB");
+
+		assertThat(lower.getLanguage()).contains("en-gb");
+		assertThat(upper.getLanguage()).contains("en-GB");
+		assertThat(upper).isEqualTo(lower);
+		assertThat(lower).isEqualTo(upper);
+	}
+
+	@Test
+	public void testDeserializedValueIsEqual() throws IOException, ClassNotFoundException {
+		IRI iri = vf.createIRI("urn:serialized");
+		Literal literal = vf.createLiteral("serialized", "en");
+
+		IRI iriCopy = (IRI) copy(iri);
+		Literal literalCopy = (Literal) copy(literal);
+
+		assertThat(iriCopy).isNotSameAs(iri).isEqualTo(iri);
+		assertThat(iri).isEqualTo(iriCopy);
+		assertThat(literalCopy).isNotSameAs(literal).isEqualTo(literal);
+		assertThat(literal).isEqualTo(literalCopy);
+	}
+
+	private static Object copy(Object object) throws IOException, ClassNotFoundException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(object);
+		}
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			return in.readObject();
+		}
+	}
+}
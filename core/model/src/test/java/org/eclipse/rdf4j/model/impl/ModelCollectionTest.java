@@ -38,6 +38,8 @@ public class ModelCollectionTest {
 		suite.addTest(testModelImpl("LinkedHashModel", new LinkedHashModelFactory()));
 		suite.addTest(testModelImpl("TreeModel", new TreeModelFactory()));
 		suite.addTest(testModelImpl("DynamicModel", new DynamicModelFactory()));
+		suite.addTest(testModelImpl("CompactModel", new CompactModelFactory()));
+		suite.addTest(testModelImpl("PromotedDynamicModel", new DynamicModelFactory(2)));
 		return suite;
 	}
 
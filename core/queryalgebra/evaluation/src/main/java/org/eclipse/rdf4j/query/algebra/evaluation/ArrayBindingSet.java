@@ -462,10 +462,85 @@ public class ArrayBindingSet extends AbstractBindingSet implements MutableBindin
 
 	}
 
+	/**
+	 * Adds the bindings of the other binding set for which this binding set has no binding yet. Bindings with a null
+	 * value are skipped.
+	 *
+	 * @param other the binding set to take the missing bindings from
+	 */
+	public void addAllMissing(BindingSet other) {
+		if (other instanceof ArrayBindingSet && ((ArrayBindingSet) other).bindingNames == bindingNames) {
+			Value[] otherValues = ((ArrayBindingSet) other).values;
+			boolean changed = false;
+			for (int i = 0; i < values.length; i++) {
+				if (values[i] == null && otherValues[i] != null && otherValues[i] != NULL_VALUE) {
+					values[i] = otherValues[i];
+					changed = true;
+				}
+			}
+			if (changed) {
+				empty = false;
+				clearCache();
+			}
+		} else {
+			for (String name : other.getBindingNames()) {
+				if (!hasBinding(name)) {
+					Value value = other.getValue(name);
+					if (value != null) {
+						addBinding(name, value);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Replaces all bindings of this binding set with the bindings of the other binding set. The result is the same as
+	 * creating a new binding set from the other one, which allows an operator to refill a single binding set for every
+	 * solution.
+	 *
+	 * @param other the binding set to copy the bindings from
+	 */
+	public void setAll(BindingSet other) {
+		if (other instanceof ArrayBindingSet && ((ArrayBindingSet) other).values.length == values.length) {
+			ArrayBindingSet otherArrayBindingSet = (ArrayBindingSet) other;
+			System.arraycopy(otherArrayBindingSet.values, 0, values, 0, values.length);
+			empty = otherArrayBindingSet.empty;
+		} else {
+			Arrays.fill(values, null);
+			for (int i = 0; i < bindingNames.length; i++) {
+				Binding binding = other.getBinding(bindingNames[i]);
+				if (binding != null) {
+					values[i] = binding.getValue() == null ? NULL_VALUE : binding.getValue();
+				}
+			}
+			empty = other.isEmpty();
+		}
+		clearCache();
+	}
+
+	/**
+	 * Removes all bindings from this binding set.
+	 */
+	public void clear() {
+		Arrays.fill(values, null);
+		empty = true;
+		clearCache();
+	}
+
 	@Override
 	public int hashCode() {
 		if (cachedHashCode == 0) {
-			cachedHashCode = super.hashCode();
+			// same hash code as AbstractBindingSet, without creating a binding for every value
+			int hashCode = 0;
+			if (!empty) {
+				for (int i = 0; i < values.length; i++) {
+					if (values[i] != null && values[i] != NULL_VALUE) {
+						hashCode ^= bindingNames[i].hashCode() ^ values[i].hashCode();
+					}
+				}
+			}
+			cachedHashCode = hashCode;
 		}
 		return cachedHashCode;
 	}
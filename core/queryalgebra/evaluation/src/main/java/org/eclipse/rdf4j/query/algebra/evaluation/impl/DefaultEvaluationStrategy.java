@@ -21,6 +21,7 @@ import java.util.function.Supplier;
 
 import org.eclipse.rdf4j.collection.factory.api.CollectionFactory;
 import org.eclipse.rdf4j.collection.factory.impl.DefaultCollectionFactory;
+import org.eclipse.rdf4j.common.annotation.Experimental;
 import org.eclipse.rdf4j.common.iteration.CloseableIteration;
 import org.eclipse.rdf4j.common.iteration.DistinctIteration;
 import org.eclipse.rdf4j.common.iteration.IndexReportingIterator;
@@ -201,6 +202,9 @@ public class DefaultEvaluationStrategy implements EvaluationStrategy, FederatedS
 	// track the exeution time of each node in the plan
 	private boolean trackTime;
 
+	// refill a single binding set per iterator where the consumer copies the solutions it receives
+	private boolean reuseBindingSets;
+
 	private UUID uuid;
 
 	private QueryOptimizerPipeline pipeline;
@@ -630,7 +634,7 @@ public class DefaultEvaluationStrategy implements EvaluationStrategy, FederatedS
 	protected QueryEvaluationStep prepare(Projection node, QueryEvaluationContext context)
 			throws QueryEvaluationException {
 		QueryEvaluationStep temp = precompile(node.getArg(), context);
-		return new ProjectionQueryEvaluationStep(node, temp, context);
+		return new ProjectionQueryEvaluationStep(node, temp, context, mayReuseBindingSets(node, context));
 	}
 
 	protected QueryEvaluationStep prepare(QueryRoot node, QueryEvaluationContext context)
@@ -642,7 +646,8 @@ public class DefaultEvaluationStrategy implements EvaluationStrategy, FederatedS
 
 	protected QueryEvaluationStep prepare(StatementPattern node, QueryEvaluationContext context)
 			throws QueryEvaluationException {
-		return new StatementPatternQueryEvaluationStep(node, context, tripleSource);
+		return new StatementPatternQueryEvaluationStep(node, context, tripleSource,
+				mayReuseBindingSets(node, context));
 	}
 
 	protected QueryEvaluationStep prepare(Union node, QueryEvaluationContext context) throws QueryEvaluationException {
@@ -663,7 +668,29 @@ public class DefaultEvaluationStrategy implements EvaluationStrategy, FederatedS
 		boolean setNullOnError = !isWithinMinusRightArg(node);
 		Consumer<MutableBindingSet> consumer = ExtensionIterator.buildLambdaToEvaluateTheExpressions(node, this,
 				context, setNullOnError);
-		return new ExtensionQueryEvaluationStep(arg, consumer, context);
+		return new ExtensionQueryEvaluationStep(arg, consumer, context, mayReuseBindingSets(node, context));
+	}
+
+	/**
+	 * Whether the step of the node may refill a single binding set for all the solutions it returns. That is only the
+	 * case when the solutions reach a {@link Projection} or an {@link Extension}, which copy the values of a solution
+	 * before they ask for the next one. The solutions of the right argument of a nested loop join (see
+	 * {@link JoinQueryEvaluationStep#isEvaluatedByJoinIterator}) are passed on as they are, so there it depends on the
+	 * consumer of the join. Every other consumer receives a new binding set per solution.
+	 */
+	private boolean mayReuseBindingSets(TupleExpr node, QueryEvaluationContext context) {
+		if (!reuseBindingSets) {
+			return false;
+		}
+		QueryModelNode parent = node.getParentNode();
+		if (parent instanceof Projection || parent instanceof Extension) {
+			return true;
+		}
+		if (parent instanceof Join && ((Join) parent).getRightArg() == node
+				&& JoinQueryEvaluationStep.isEvaluatedByJoinIterator((Join) parent, context)) {
+			return mayReuseBindingSets((Join) parent, context);
+		}
+		return false;
 	}
 
 	private static boolean isWithinMinusRightArg(QueryModelNode node) {
@@ -1809,6 +1836,29 @@ public class DefaultEvaluationStrategy implements EvaluationStrategy, FederatedS
 		return trackTime;
 	}
 
+	/**
+	 * Enable or disable the reuse of binding sets. When enabled, statement patterns, extensions and projections whose
+	 * solutions are consumed by a projection or an extension refill a single binding set for every solution instead of
+	 * creating a new one. Solutions that reach any other operator, or leave the query, are still new binding sets.
+	 * <p>
+	 * This relies on the default evaluation of projections, extensions and joins. Subclasses that override how these
+	 * are prepared should leave it disabled. Only takes effect for queries that are prepared after the change.
+	 *
+	 * @param reuseBindingSets true to reuse binding sets.
+	 */
+	@Experimental
+	public void setReuseBindingSets(boolean reuseBindingSets) {
+		this.reuseBindingSets = reuseBindingSets;
+	}
+
+	/**
+	 * @return true if binding sets are reused where the consumer copies the solutions it receives.
+	 */
+	@Experimental
+	public boolean isReuseBindingSets() {
+		return reuseBindingSets;
+	}
+
 	/**
 	 * Supply a QueryValueEvalationStep that will invoke the function (operator passed in). It will try to optimise
 	 * constant argument to be called only once per query run,
@@ -23,12 +23,19 @@ public final class ExtensionQueryEvaluationStep implements QueryEvaluationStep {
 	private final QueryEvaluationStep arg;
 	private final Consumer<MutableBindingSet> consumer;
 	private final QueryEvaluationContext context;
+	private final boolean reuseBindingSets;
 
 	ExtensionQueryEvaluationStep(QueryEvaluationStep arg, Consumer<MutableBindingSet> consumer,
 			QueryEvaluationContext context) {
+		this(arg, consumer, context, false);
+	}
+
+	ExtensionQueryEvaluationStep(QueryEvaluationStep arg, Consumer<MutableBindingSet> consumer,
+			QueryEvaluationContext context, boolean reuseBindingSets) {
 		this.arg = arg;
 		this.consumer = consumer;
 		this.context = context;
+		this.reuseBindingSets = reuseBindingSets;
 	}
 
 	@Override
@@ -42,6 +49,6 @@ public final class ExtensionQueryEvaluationStep implements QueryEvaluationStep {
 			// result in zero bindings.
 			result = QueryEvaluationStep.EMPTY_ITERATION;
 		}
-		return new ExtensionIterator(result, consumer, context);
+		return new ExtensionIterator(result, consumer, context, reuseBindingSets);
 	}
 }
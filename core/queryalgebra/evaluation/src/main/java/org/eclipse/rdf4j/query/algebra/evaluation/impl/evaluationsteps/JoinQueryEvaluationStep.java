@@ -63,6 +63,19 @@ public class JoinQueryEvaluationStep implements QueryEvaluationStep {
 		return eval.apply(bindings);
 	}
 
+	/**
+	 * Whether the join is evaluated by a {@link JoinIterator}. That iterator returns the solutions of the right argument
+	 * as they are and asks for the next one only once the previous one is returned.
+	 *
+	 * @param join    the join
+	 * @param context in which the join is evaluated
+	 * @return true if the join is evaluated by a {@link JoinIterator}
+	 */
+	public static boolean isEvaluatedByJoinIterator(Join join, QueryEvaluationContext context) {
+		return !(join.getRightArg() instanceof Service) && !isOutOfScopeForLeftArgBindings(join.getRightArg())
+				&& !(join.isMergeJoin() && context.getComparator() != null);
+	}
+
 	private static boolean isOutOfScopeForLeftArgBindings(TupleExpr expr) {
 		return TupleExprs.isVariableScopeChange(expr) || TupleExprs.containsSubquery(expr);
 	}
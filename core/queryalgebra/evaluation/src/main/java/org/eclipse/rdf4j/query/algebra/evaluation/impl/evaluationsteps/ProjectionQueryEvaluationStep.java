@@ -21,12 +21,24 @@ public final class ProjectionQueryEvaluationStep implements QueryEvaluationStep
 	private final Projection projection;
 	private final QueryEvaluationStep qes;
 	private final QueryEvaluationContext context;
+	private final boolean reuseBindingSets;
 
 	public ProjectionQueryEvaluationStep(Projection projection, QueryEvaluationStep qes,
 			QueryEvaluationContext context) {
+		this(projection, qes, context, false);
+	}
+
+	/**
+	 * @param reuseBindingSets whether the projection may refill and return the same binding set for every solution.
+	 *                         Only allowed when the consumer of this step is done with a solution before it asks for
+	 *                         the next one.
+	 */
+	public ProjectionQueryEvaluationStep(Projection projection, QueryEvaluationStep qes,
+			QueryEvaluationContext context, boolean reuseBindingSets) {
 		this.projection = projection;
 		this.qes = qes;
 		this.context = context;
+		this.reuseBindingSets = reuseBindingSets;
 	}
 
 	@Override
@@ -35,7 +47,7 @@ public final class ProjectionQueryEvaluationStep implements QueryEvaluationStep
 
 		try {
 			evaluate = qes.evaluate(bindings);
-			return new ProjectionIterator(projection, evaluate, bindings, context);
+			return new ProjectionIterator(projection, evaluate, bindings, context, reuseBindingSets);
 		} catch (Throwable t) {
 			if (evaluate != null) {
 				evaluate.close();
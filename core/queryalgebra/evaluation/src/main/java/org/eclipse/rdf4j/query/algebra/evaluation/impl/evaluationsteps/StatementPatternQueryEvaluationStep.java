@@ -36,6 +36,7 @@ import org.eclipse.rdf4j.query.QueryEvaluationException;
 import org.eclipse.rdf4j.query.algebra.StatementPattern;
 import org.eclipse.rdf4j.query.algebra.StatementPattern.Scope;
 import org.eclipse.rdf4j.query.algebra.Var;
+import org.eclipse.rdf4j.query.algebra.evaluation.ArrayBindingSet;
 import org.eclipse.rdf4j.query.algebra.evaluation.QueryEvaluationStep;
 import org.eclipse.rdf4j.query.algebra.evaluation.TripleSource;
 import org.eclipse.rdf4j.query.algebra.evaluation.impl.QueryEvaluationContext;
@@ -75,11 +76,24 @@ public class StatementPatternQueryEvaluationStep implements QueryEvaluationStep
 	private final Var normalizedObjectVar;
 	private final Var normalizedContextVar;
 
+	private final boolean reuseBindingSets;
+
 	// We try to do as much work as possible in the constructor.
 	// With the aim of making the evaluate method as cheap as possible.
 	public StatementPatternQueryEvaluationStep(StatementPattern statementPattern, QueryEvaluationContext context,
 			TripleSource tripleSource) {
+		this(statementPattern, context, tripleSource, false);
+	}
+
+	/**
+	 * @param reuseBindingSets whether the iterations may refill and return the same binding set for every statement.
+	 *                         Only allowed when the consumer of this step is done with a solution before it asks for
+	 *                         the next one.
+	 */
+	public StatementPatternQueryEvaluationStep(StatementPattern statementPattern, QueryEvaluationContext context,
+			TripleSource tripleSource, boolean reuseBindingSets) {
 		super();
+		this.reuseBindingSets = reuseBindingSets;
 		this.statementPatternForMetrics = statementPattern;
 		this.order = statementPattern.getStatementOrder();
 		this.context = context;
@@ -351,7 +365,8 @@ public class StatementPatternQueryEvaluationStep implements QueryEvaluationStep
 			iteration = handleFilter(contexts, (Resource) subject, (IRI) predicate, object, iteration);
 
 			// Return an iterator that converts the statements to var bindings
-			return new JoinStatementWithBindingSetIterator(iteration, getConverter(), bindings, context);
+			return new JoinStatementWithBindingSetIterator(iteration, getConverter(), bindings, context,
+					reuseBindingSets);
 		} catch (Throwable t) {
 			if (iteration != null) {
 				iteration.close();
@@ -406,7 +421,8 @@ public class StatementPatternQueryEvaluationStep implements QueryEvaluationStep
 			iteration = handleFilter(contexts, (Resource) subject, (IRI) predicate, object, iteration);
 
 			// Return an iterator that converts the statements to var bindings
-			return new ConvertStatementToBindingSetIterator(iteration, getConvertStatementConverter(), context);
+			return new ConvertStatementToBindingSetIterator(iteration, getConvertStatementConverter(), context,
+					reuseBindingSets);
 		} catch (Throwable t) {
 			if (iteration != null) {
 				iteration.close();
@@ -633,19 +649,32 @@ public class StatementPatternQueryEvaluationStep implements QueryEvaluationStep
 		private final BiConsumer<MutableBindingSet, Statement> converter;
 		private final QueryEvaluationContext context;
 		private final CloseableIteration<? extends Statement> iteration;
+		private final boolean reuseBindingSets;
+		private ArrayBindingSet reusedBindings;
 		private boolean closed = false;
 
 		private ConvertStatementToBindingSetIterator(
 				CloseableIteration<? extends Statement> iteration,
-				BiConsumer<MutableBindingSet, Statement> converter, QueryEvaluationContext context) {
+				BiConsumer<MutableBindingSet, Statement> converter, QueryEvaluationContext context,
+				boolean reuseBindingSets) {
 			assert iteration != null;
 			this.iteration = iteration;
 			this.converter = converter;
 			this.context = context;
+			this.reuseBindingSets = reuseBindingSets;
 		}
 
 		private BindingSet convert(Statement st) {
-			MutableBindingSet made = context.createBindingSet();
+			MutableBindingSet made;
+			if (reusedBindings != null) {
+				reusedBindings.clear();
+				made = reusedBindings;
+			} else {
+				made = context.createBindingSet();
+				if (reuseBindingSets && made instanceof ArrayBindingSet) {
+					reusedBindings = (ArrayBindingSet) made;
+				}
+			}
 			converter.accept(made, st);
 			return made;
 		}
@@ -709,23 +738,34 @@ public class StatementPatternQueryEvaluationStep implements QueryEvaluationStep
 		private final QueryEvaluationContext context;
 		private final BindingSet bindings;
 		private final CloseableIteration<? extends Statement> iteration;
+		private final boolean reuseBindingSets;
+		private ArrayBindingSet reusedBindings;
 		private boolean closed = false;
 
 		private JoinStatementWithBindingSetIterator(
 				CloseableIteration<? extends Statement> iteration,
 				BiConsumer<MutableBindingSet, Statement> converter, BindingSet bindings,
-				QueryEvaluationContext context) {
+				QueryEvaluationContext context, boolean reuseBindingSets) {
 			assert iteration != null;
 			this.iteration = iteration;
 			assert !bindings.isEmpty();
 			this.converter = converter;
 			this.context = context;
 			this.bindings = bindings;
-
+			this.reuseBindingSets = reuseBindingSets;
 		}
 
 		private BindingSet convert(Statement st) {
-			MutableBindingSet made = context.createBindingSet(bindings);
+			MutableBindingSet made;
+			if (reusedBindings != null) {
+				reusedBindings.setAll(bindings);
+				made = reusedBindings;
+			} else {
+				made = context.createBindingSet(bindings);
+				if (reuseBindingSets && made instanceof ArrayBindingSet) {
+					reusedBindings = (ArrayBindingSet) made;
+				}
+			}
 			converter.accept(made, st);
 			return made;
 		}
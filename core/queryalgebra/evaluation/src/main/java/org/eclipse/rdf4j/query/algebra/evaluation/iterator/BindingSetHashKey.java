@@ -12,6 +12,7 @@ package org.eclipse.rdf4j.query.algebra.evaluation.iterator;
 
 import java.io.Serializable;
 import java.util.Arrays;
+import java.util.function.Function;
 
 import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.query.BindingSet;
@@ -47,6 +48,47 @@ public class BindingSetHashKey implements Serializable {
 		return key;
 	}
 
+	/**
+	 * Creates a key from the values that the given functions read from the bindings. With the functions of a
+	 * {@link org.eclipse.rdf4j.query.algebra.evaluation.impl.QueryEvaluationContext} the values are read by slot
+	 * instead of by name.
+	 */
+	public static BindingSetHashKey create(Function<BindingSet, Value>[] getValues, BindingSet bindings) {
+		int size = getValues.length;
+		if (size == 0) {
+			return BindingSetHashKey.EMPTY;
+		}
+		Value[] keyValues = new Value[size];
+		for (int i = 0; i < size; i++) {
+			keyValues[i] = getValues[i].apply(bindings);
+		}
+		return new BindingSetHashKey(keyValues);
+	}
+
+	/**
+	 * Creates a key that can be refilled with {@link #probe(Function[], BindingSet)} to look up one row after the
+	 * other without creating a key for each. Such a key must never be stored.
+	 */
+	static BindingSetHashKey createProbe(int size) {
+		return size == 0 ? BindingSetHashKey.EMPTY : new BindingSetHashKey(new Value[size]);
+	}
+
+	/**
+	 * Replaces the values of a key created with {@link #createProbe(int)}.
+	 *
+	 * @return this key
+	 */
+	BindingSetHashKey probe(Function<BindingSet, Value>[] getValues, BindingSet bindings) {
+		if (values.length == 0) {
+			return this;
+		}
+		for (int i = 0; i < values.length; i++) {
+			values[i] = getValues[i].apply(bindings);
+		}
+		hashcode = 0;
+		return this;
+	}
+
 	private BindingSetHashKey(Value[] values) {
 		this.values = values;
 	}
@@ -23,6 +23,7 @@ import org.eclipse.rdf4j.query.algebra.AggregateOperator;
 import org.eclipse.rdf4j.query.algebra.Extension;
 import org.eclipse.rdf4j.query.algebra.ExtensionElem;
 import org.eclipse.rdf4j.query.algebra.ValueExpr;
+import org.eclipse.rdf4j.query.algebra.evaluation.ArrayBindingSet;
 import org.eclipse.rdf4j.query.algebra.evaluation.EvaluationStrategy;
 import org.eclipse.rdf4j.query.algebra.evaluation.QueryValueEvaluationStep;
 import org.eclipse.rdf4j.query.algebra.evaluation.ValueExprEvaluationException;
@@ -32,19 +33,33 @@ public class ExtensionIterator extends ConvertingIteration<BindingSet, BindingSe
 
 	private final Consumer<MutableBindingSet> setter;
 	private final QueryEvaluationContext context;
+	private final boolean reuseBindingSets;
+	private ArrayBindingSet reusedBindings;
 
 	public ExtensionIterator(Extension extension, CloseableIteration<BindingSet> iter,
 			EvaluationStrategy strategy, QueryEvaluationContext context) throws QueryEvaluationException {
 		super(iter);
 		this.context = context;
 		this.setter = buildLambdaToEvaluateTheExpressions(extension, strategy, context, true);
+		this.reuseBindingSets = false;
 	}
 
 	public ExtensionIterator(CloseableIteration<BindingSet> iter,
 			Consumer<MutableBindingSet> setter, QueryEvaluationContext context) throws QueryEvaluationException {
+		this(iter, setter, context, false);
+	}
+
+	/**
+	 * @param reuseBindingSets whether the same binding set may be refilled and returned for every solution. Only
+	 *                         allowed when the consumer of this iterator is done with a solution before it asks for
+	 *                         the next one.
+	 */
+	public ExtensionIterator(CloseableIteration<BindingSet> iter, Consumer<MutableBindingSet> setter,
+			QueryEvaluationContext context, boolean reuseBindingSets) throws QueryEvaluationException {
 		super(iter);
 		this.setter = setter;
 		this.context = context;
+		this.reuseBindingSets = reuseBindingSets;
 	}
 
 	public static Consumer<MutableBindingSet> buildLambdaToEvaluateTheExpressions(Extension extension,
@@ -102,7 +117,16 @@ public class ExtensionIterator extends ConvertingIteration<BindingSet, BindingSe
 
 	@Override
 	public BindingSet convert(BindingSet sourceBindings) throws QueryEvaluationException {
-		MutableBindingSet targetBindings = context.createBindingSet(sourceBindings);
+		MutableBindingSet targetBindings;
+		if (reusedBindings != null) {
+			reusedBindings.setAll(sourceBindings);
+			targetBindings = reusedBindings;
+		} else {
+			targetBindings = context.createBindingSet(sourceBindings);
+			if (reuseBindingSets && targetBindings instanceof ArrayBindingSet) {
+				reusedBindings = (ArrayBindingSet) targetBindings;
+			}
+		}
 		setter.accept(targetBindings);
 		return targetBindings;
 	}
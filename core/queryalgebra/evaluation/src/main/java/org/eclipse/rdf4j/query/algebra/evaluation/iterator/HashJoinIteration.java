@@ -31,6 +31,7 @@ import org.eclipse.rdf4j.query.MutableBindingSet;
 import org.eclipse.rdf4j.query.QueryEvaluationException;
 import org.eclipse.rdf4j.query.algebra.Join;
 import org.eclipse.rdf4j.query.algebra.LeftJoin;
+import org.eclipse.rdf4j.query.algebra.evaluation.ArrayBindingSet;
 import org.eclipse.rdf4j.query.algebra.evaluation.QueryBindingSet;
 import org.eclipse.rdf4j.query.algebra.evaluation.QueryEvaluationStep;
 import org.eclipse.rdf4j.query.algebra.evaluation.impl.QueryEvaluationContext;
@@ -59,6 +60,16 @@ public class HashJoinIteration extends LookAheadIteration<BindingSet> {
 	private final IntFunction<List<BindingSet>> mapValueMaker;
 	private final Function<BindingSet, MutableBindingSet> bsMaker;
 
+	/**
+	 * Reads the values of the join attributes, by slot if the context supports it.
+	 */
+	private final Function<BindingSet, Value>[] joinValues;
+
+	/**
+	 * Refilled for every scanned binding set, the keys in the hash table are created separately.
+	 */
+	private final BindingSetHashKey probeKey;
+
 	/*--------------*
 	 * Constructors *
 	 *--------------*/
@@ -74,6 +85,8 @@ public class HashJoinIteration extends LookAheadIteration<BindingSet> {
 		this.mapMaker = this::makeHashTable;
 		this.mapValueMaker = this::makeHashValue;
 		this.bsMaker = context::createBindingSet;
+		this.joinValues = joinValueGetters(joinAttributes, context::getValue);
+		this.probeKey = BindingSetHashKey.createProbe(joinAttributes.length);
 	}
 
 	@Deprecated(since = "5.0.0", forRemoval = true) // there are still some tests that use this constructor
@@ -91,6 +104,18 @@ public class HashJoinIteration extends LookAheadIteration<BindingSet> {
 		this.leftJoin = leftJoin;
 		this.mapValueMaker = this::makeHashValue;
 		this.bsMaker = QueryBindingSet::new;
+		this.joinValues = joinValueGetters(joinAttributes, name -> bs -> bs.getValue(name));
+		this.probeKey = BindingSetHashKey.createProbe(joinAttributes.length);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Function<BindingSet, Value>[] joinValueGetters(String[] joinAttributes,
+			Function<String, Function<BindingSet, Value>> getValue) {
+		Function<BindingSet, Value>[] getters = new Function[joinAttributes.length];
+		for (int i = 0; i < joinAttributes.length; i++) {
+			getters[i] = getValue.apply(joinAttributes[i]);
+		}
+		return getters;
 	}
 
 	/*---------*
@@ -133,8 +158,7 @@ public class HashJoinIteration extends LookAheadIteration<BindingSet> {
 						nextHashTableValues = hashTableValues = null;
 					}
 				} else {
-					BindingSetHashKey key = BindingSetHashKey.create(joinAttributes, currentScanElem);
-					List<BindingSet> hashValue = nextHashTable.get(key);
+					List<BindingSet> hashValue = nextHashTable.get(probeKey.probe(joinValues, currentScanElem));
 					if (hashValue != null && !hashValue.isEmpty()) {
 						nextHashTableValues = hashTableValues = hashValue.iterator();
 					} else if (leftJoin) {
@@ -154,11 +178,15 @@ public class HashJoinIteration extends LookAheadIteration<BindingSet> {
 
 			MutableBindingSet result = bsMaker.apply(currentScanElem);
 
-			for (String name : nextHashTableValue.getBindingNames()) {
-				if (!result.hasBinding(name)) {
-					Value v = nextHashTableValue.getValue(name);
-					if (v != null) {
-						result.addBinding(name, v);
+			if (result instanceof ArrayBindingSet) {
+				((ArrayBindingSet) result).addAllMissing(nextHashTableValue);
+			} else {
+				for (String name : nextHashTableValue.getBindingNames()) {
+					if (!result.hasBinding(name)) {
+						Value v = nextHashTableValue.getValue(name);
+						if (v != null) {
+							result.addBinding(name, v);
+						}
 					}
 				}
 			}
@@ -252,7 +280,7 @@ public class HashJoinIteration extends LookAheadIteration<BindingSet> {
 		Map<BindingSetHashKey, List<BindingSet>> resultHashTable = mapMaker.apply(smallestResult.size());
 		int maxListSize = 1;
 		for (BindingSet b : smallestResult) {
-			BindingSetHashKey hashKey = BindingSetHashKey.create(joinAttributes, b);
+			BindingSetHashKey hashKey = BindingSetHashKey.create(joinValues, b);
 
 			List<BindingSet> hashValue = resultHashTable.get(hashKey);
 			boolean newEntry = hashValue == null;
@@ -22,6 +22,11 @@ import org.eclipse.rdf4j.query.algebra.evaluation.QueryEvaluationStep;
  * This join iterator produces results by interleaving results from its left argument into its right argument to speed
  * up bindings and produce fail-fast results. Note that this join strategy is only valid in cases where all bindings
  * from the left argument can be considered in scope for the right argument.
+ * <p>
+ * The solutions of the right argument are returned as they are, and the next one is only requested after the previous
+ * one was returned. When the consumer of the join copies every solution before it asks for the next one, the right
+ * argument may therefore refill the same binding set for all its solutions, see
+ * {@link org.eclipse.rdf4j.query.algebra.evaluation.impl.DefaultEvaluationStrategy#setReuseBindingSets(boolean)}.
  *
  * @author Jeen Broekstra
  */
@@ -11,6 +11,7 @@
 package org.eclipse.rdf4j.query.algebra.evaluation.iterator;
 
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -25,6 +26,7 @@ import org.eclipse.rdf4j.query.algebra.Projection;
 import org.eclipse.rdf4j.query.algebra.ProjectionElem;
 import org.eclipse.rdf4j.query.algebra.ProjectionElemList;
 import org.eclipse.rdf4j.query.algebra.QueryModelNode;
+import org.eclipse.rdf4j.query.algebra.evaluation.ArrayBindingSet;
 import org.eclipse.rdf4j.query.algebra.evaluation.QueryBindingSet;
 import org.eclipse.rdf4j.query.algebra.evaluation.impl.QueryEvaluationContext;
 
@@ -38,6 +40,12 @@ public class ProjectionIterator extends ConvertingIteration<BindingSet, BindingS
 
 	private final Supplier<MutableBindingSet> maker;
 
+	private final Consumer<ArrayBindingSet> resetter;
+
+	private final boolean reuseBindingSets;
+
+	private ArrayBindingSet reusedBindings;
+
 	/*--------------*
 	 * Constructors *
 	 *--------------*/
@@ -63,6 +71,17 @@ public class ProjectionIterator extends ConvertingIteration<BindingSet, BindingS
 
 	public ProjectionIterator(Projection projection, CloseableIteration<BindingSet> iter,
 			BindingSet parentBindings, QueryEvaluationContext context) throws QueryEvaluationException {
+		this(projection, iter, parentBindings, context, false);
+	}
+
+	/**
+	 * @param reuseBindingSets whether the same binding set may be refilled and returned for every solution. Only
+	 *                         allowed when the consumer of this iterator is done with a solution before it asks for
+	 *                         the next one.
+	 */
+	public ProjectionIterator(Projection projection, CloseableIteration<BindingSet> iter,
+			BindingSet parentBindings, QueryEvaluationContext context, boolean reuseBindingSets)
+			throws QueryEvaluationException {
 		super(iter);
 		ProjectionElemList projectionElemList = projection.getProjectionElemList();
 		boolean isOuterProjection = determineOuterProjection(projection);
@@ -109,10 +128,13 @@ public class ProjectionIterator extends ConvertingIteration<BindingSet, BindingS
 
 		if (includeAllParentBindings) {
 			this.maker = () -> context.createBindingSet(parentBindings);
+			this.resetter = bs -> bs.setAll(parentBindings);
 		} else {
 			this.maker = context::createBindingSet;
+			this.resetter = ArrayBindingSet::clear;
 		}
 		this.projector = consumer;
+		this.reuseBindingSets = reuseBindingSets;
 	}
 
 	private BiConsumer<MutableBindingSet, BindingSet> andThen(BiConsumer<MutableBindingSet, BindingSet> consumer,
@@ -140,7 +162,16 @@ public class ProjectionIterator extends ConvertingIteration<BindingSet, BindingS
 
 	@Override
 	protected BindingSet convert(BindingSet sourceBindings) throws QueryEvaluationException {
-		MutableBindingSet qbs = maker.get();
+		MutableBindingSet qbs;
+		if (reusedBindings != null) {
+			resetter.accept(reusedBindings);
+			qbs = reusedBindings;
+		} else {
+			qbs = maker.get();
+			if (reuseBindingSets && qbs instanceof ArrayBindingSet) {
+				reusedBindings = (ArrayBindingSet) qbs;
+			}
+		}
 		projector.accept(qbs, sourceBindings);
 		return qbs;
 	}
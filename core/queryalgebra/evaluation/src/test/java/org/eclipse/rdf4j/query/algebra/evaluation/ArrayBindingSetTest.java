@@ -161,4 +161,69 @@ public class ArrayBindingSetTest {
 			assertNotNull(e);
 		}
 	}
+
+	@Test
+	public void testHashcodeSkipsNullValues() {
+		ArrayBindingSet bs = new ArrayBindingSet("x", "y", "z");
+		bs.getDirectSetBinding("x").accept(RDF.ALT, bs);
+		bs.getDirectSetBinding("y").accept(null, bs);
+		MapBindingSet expected = new MapBindingSet();
+		expected.addBinding("x", RDF.ALT);
+		assertEquals(expected.hashCode(), bs.hashCode());
+
+		bs.getDirectSetBinding("z").accept(RDF.BAG, bs);
+		expected.addBinding("z", RDF.BAG);
+		assertEquals(expected.hashCode(), bs.hashCode());
+	}
+
+	@Test
+	public void testAddAllMissing() {
+		String[] names = { "x", "y", "z" };
+		ArrayBindingSet bs = new ArrayBindingSet(names);
+		bs.getDirectSetBinding("x").accept(RDF.ALT, bs);
+		ArrayBindingSet other = new ArrayBindingSet(names);
+		other.getDirectSetBinding("x").accept(RDF.BAG, other);
+		other.getDirectSetBinding("y").accept(null, other);
+		other.getDirectSetBinding("z").accept(RDF.FIRST, other);
+		int hashBefore = bs.hashCode();
+
+		bs.addAllMissing(other);
+		assertEquals(RDF.ALT, bs.getValue("x"));
+		assertFalse(bs.hasBinding("y"));
+		assertEquals(RDF.FIRST, bs.getValue("z"));
+		assertEquals(2, bs.size());
+		assertFalse(hashBefore == bs.hashCode());
+
+		MapBindingSet map = new MapBindingSet();
+		map.addBinding("y", RDF.BAG);
+		bs.addAllMissing(map);
+		assertEquals(RDF.BAG, bs.getValue("y"));
+	}
+
+	@Test
+	public void testSetAllAndClear() {
+		String[] names = { "x", "y", "z" };
+		ArrayBindingSet bs = new ArrayBindingSet(names);
+		bs.getDirectSetBinding("x").accept(RDF.ALT, bs);
+		bs.getDirectSetBinding("z").accept(RDF.REST, bs);
+		int hashBefore = bs.hashCode();
+
+		ArrayBindingSet other = new ArrayBindingSet(names);
+		other.getDirectSetBinding("y").accept(RDF.BAG, other);
+		bs.setAll(other);
+		assertEquals(other, bs);
+		assertFalse(bs.hasBinding("x"));
+		assertFalse(hashBefore == bs.hashCode());
+
+		MapBindingSet map = new MapBindingSet();
+		map.addBinding("z", RDF.FIRST);
+		bs.setAll(map);
+		assertEquals(map, bs);
+		assertEquals(map.hashCode(), bs.hashCode());
+
+		bs.clear();
+		assertTrue(bs.isEmpty());
+		assertEquals(0, bs.size());
+		assertFalse(bs.iterator().hasNext());
+	}
 }
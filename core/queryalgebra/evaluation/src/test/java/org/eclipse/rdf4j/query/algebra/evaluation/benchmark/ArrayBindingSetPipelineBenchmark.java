@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.algebra.evaluation.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.CloseableIteratorIteration;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.algebra.Extension;
+import org.eclipse.rdf4j.query.algebra.ExtensionElem;
+import org.eclipse.rdf4j.query.algebra.Join;
+import org.eclipse.rdf4j.query.algebra.Projection;
+import org.eclipse.rdf4j.query.algebra.ProjectionElem;
+import org.eclipse.rdf4j.query.algebra.ProjectionElemList;
+import org.eclipse.rdf4j.query.algebra.QueryRoot;
+import org.eclipse.rdf4j.query.algebra.StatementPattern;
+import org.eclipse.rdf4j.query.algebra.Var;
+import org.eclipse.rdf4j.query.algebra.evaluation.ArrayBindingSet;
+import org.eclipse.rdf4j.query.algebra.evaluation.QueryEvaluationStep;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.ArrayBindingBasedQueryEvaluationContext;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.DefaultEvaluationStrategy;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.ListTripleSource;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.QueryEvaluationContext;
+import org.eclipse.rdf4j.query.algebra.evaluation.iterator.HashJoinIteration;
+import org.eclipse.rdf4j.query.impl.EmptyBindingSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the cost per row of operators over slot indexed binding sets. Run with <code>-prof gc</code> to see the
+ * bytes allocated per operation. The pipeline benchmarks evaluate a projection of an extension of a join, which returns
+ * {@link #fanOut} solutions for every one of the {@link #rows} subjects.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = { "-Xms1G", "-Xmx1G" })
+public class ArrayBindingSetPipelineBenchmark {
+
+	private static final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	@Param({ "10000" })
+	public int rows;
+
+	@Param({ "10" })
+	public int fanOut;
+
+	private final ArrayBindingBasedQueryEvaluationContext context = new ArrayBindingBasedQueryEvaluationContext(
+			new QueryEvaluationContext.Minimal(null), new String[] { "s", "p", "o", "a", "b", "i" }, null);
+
+	private List<BindingSet> left;
+
+	private List<BindingSet> right;
+
+	private QueryEvaluationStep pipeline;
+
+	private QueryEvaluationStep pipelineReusingBindingSets;
+
+	@Setup
+	public void setup() {
+		left = new ArrayList<>(rows);
+		right = new ArrayList<>(rows);
+		for (int i = 0; i < rows; i++) {
+			left.add(row("a", i, i));
+			// every key of the left side matches exactly one row of the right side
+			right.add(row("b", i, rows - i - 1));
+		}
+
+		IRI name = vf.createIRI("urn:name");
+		IRI age = vf.createIRI("urn:age");
+		List<Statement> statements = new ArrayList<>();
+		for (int i = 0; i < rows; i++) {
+			IRI person = vf.createIRI("urn:person:", Integer.toString(i));
+			statements.add(vf.createStatement(person, name, vf.createLiteral(i)));
+			for (int j = 0; j < fanOut; j++) {
+				statements.add(vf.createStatement(person, age, vf.createLiteral(j)));
+			}
+		}
+		ListTripleSource tripleSource = new ListTripleSource(statements);
+
+		DefaultEvaluationStrategy strategy = new DefaultEvaluationStrategy(tripleSource, null);
+		pipeline = strategy.precompile(pipelineQuery(name, age));
+		strategy.setReuseBindingSets(true);
+		pipelineReusingBindingSets = strategy.precompile(pipelineQuery(name, age));
+	}
+
+	private static QueryRoot pipelineQuery(IRI name, IRI age) {
+		Join join = new Join(new StatementPattern(new Var("s"), new Var("p1", name), new Var("n")),
+				new StatementPattern(new Var("s"), new Var("p2", age), new Var("a")));
+		Extension extension = new Extension(join, new ExtensionElem(new Var("a"), "x"));
+		return new QueryRoot(new Projection(extension, new ProjectionElemList(new ProjectionElem("s"),
+				new ProjectionElem("n"), new ProjectionElem("x"))));
+	}
+
+	private BindingSet row(String name, int i, int key) {
+		ArrayBindingSet bs = context.createBindingSet();
+		context.setBinding("s").accept(vf.createIRI("urn:s:", Integer.toString(i)), bs);
+		context.setBinding("p").accept(vf.createIRI("urn:p:", name), bs);
+		context.setBinding(name).accept(vf.createLiteral(i), bs);
+		context.setBinding("i").accept(vf.createLiteral(key), bs);
+		return bs;
+	}
+
+	@Benchmark
+	public void hashJoin(Blackhole blackhole) {
+		try (HashJoinIteration iter = new HashJoinIteration(bs -> new CloseableIteratorIteration<>(left.iterator()),
+				bs -> new CloseableIteratorIteration<>(right.iterator()), EmptyBindingSet.getInstance(), false,
+				new String[] { "i" }, context)) {
+			while (iter.hasNext()) {
+				blackhole.consume(iter.next());
+			}
+		}
+	}
+
+	@Benchmark
+	public int distinct() {
+		Set<BindingSet> seen = new HashSet<>(rows * 2);
+		for (BindingSet bs : left) {
+			// a copy has no cached hash code, as for rows that a distinct receives from a join
+			seen.add(context.createBindingSet(bs));
+		}
+		return seen.size();
+	}
+
+	@Benchmark
+	public void pipeline(Blackhole blackhole) {
+		evaluate(pipeline, blackhole);
+	}
+
+	@Benchmark
+	public void pipelineReusingBindingSets(Blackhole blackhole) {
+		evaluate(pipelineReusingBindingSets, blackhole);
+	}
+
+	private static void evaluate(QueryEvaluationStep step, Blackhole blackhole) {
+		try (CloseableIteration<BindingSet> iter = step.evaluate(EmptyBindingSet.getInstance())) {
+			while (iter.hasNext()) {
+				blackhole.consume(iter.next());
+			}
+		}
+	}
+}
@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.algebra.evaluation.impl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.CloseableIteratorIteration;
+import org.eclipse.rdf4j.common.iteration.FilterIteration;
+import org.eclipse.rdf4j.common.order.StatementOrder;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.query.QueryEvaluationException;
+import org.eclipse.rdf4j.query.algebra.evaluation.TripleSource;
+
+/**
+ * A triple source over a list of statements. Patterns with a subject only scan the statements of that subject.
+ */
+public class ListTripleSource implements TripleSource {
+
+	private final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	private final List<Statement> statements;
+
+	private final Map<Resource, List<Statement>> bySubject = new HashMap<>();
+
+	public ListTripleSource(List<Statement> statements) {
+		this.statements = statements;
+		for (Statement st : statements) {
+			bySubject.computeIfAbsent(st.getSubject(), s -> new ArrayList<>()).add(st);
+		}
+	}
+
+	@Override
+	public ValueFactory getValueFactory() {
+		return vf;
+	}
+
+	@Override
+	public CloseableIteration<? extends Statement> getStatements(Resource subj, IRI pred,
+			Value obj, Resource... contexts) throws QueryEvaluationException {
+		List<Statement> candidates = subj == null ? statements : bySubject.getOrDefault(subj, List.of());
+		return new FilterIteration<Statement>(new CloseableIteratorIteration<>(candidates.iterator())) {
+
+			@Override
+			protected boolean accept(Statement st) {
+				return (pred == null || pred.equals(st.getPredicate())) && (obj == null || obj.equals(st.getObject()));
+			}
+
+			@Override
+			protected void handleClose() {
+			}
+		};
+	}
+
+	@Override
+	public CloseableIteration<? extends Statement> getStatements(StatementOrder order, Resource subj, IRI pred,
+			Value obj, Resource... contexts) throws QueryEvaluationException {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public Comparator<Value> getComparator() {
+		return null;
+	}
+}
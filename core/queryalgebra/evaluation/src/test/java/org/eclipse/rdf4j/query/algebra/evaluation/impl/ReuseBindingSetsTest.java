@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.query.algebra.evaluation.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.algebra.Distinct;
+import org.eclipse.rdf4j.query.algebra.Extension;
+import org.eclipse.rdf4j.query.algebra.ExtensionElem;
+import org.eclipse.rdf4j.query.algebra.Join;
+import org.eclipse.rdf4j.query.algebra.Order;
+import org.eclipse.rdf4j.query.algebra.OrderElem;
+import org.eclipse.rdf4j.query.algebra.Projection;
+import org.eclipse.rdf4j.query.algebra.ProjectionElem;
+import org.eclipse.rdf4j.query.algebra.ProjectionElemList;
+import org.eclipse.rdf4j.query.algebra.QueryRoot;
+import org.eclipse.rdf4j.query.algebra.StatementPattern;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+import org.eclipse.rdf4j.query.algebra.Var;
+import org.eclipse.rdf4j.query.impl.EmptyBindingSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that solutions are the same with and without {@link DefaultEvaluationStrategy#setReuseBindingSets(boolean)},
+ * and that binding sets are only reused where the consumer copies them.
+ */
+public class ReuseBindingSetsTest {
+
+	private static final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	private static final IRI name = vf.createIRI("urn:name");
+	private static final IRI age = vf.createIRI("urn:age");
+
+	private ListTripleSource tripleSource;
+
+	@BeforeEach
+	public void setUp() {
+		List<Statement> statements = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			IRI person = vf.createIRI("urn:person:" + i);
+			statements.add(vf.createStatement(person, name, vf.createLiteral("person " + i)));
+			if (i % 2 == 0) {
+				statements.add(vf.createStatement(person, age, vf.createLiteral(i)));
+				statements.add(vf.createStatement(person, age, vf.createLiteral(i + 100)));
+			}
+		}
+		tripleSource = new ListTripleSource(statements);
+	}
+
+	@Test
+	public void testProjectionOfExtensionOfJoin() {
+		assertSameSolutions(() -> new QueryRoot(projection(extension(join()))), 20);
+	}
+
+	@Test
+	public void testDistinctProjection() {
+		assertSameSolutions(() -> new QueryRoot(new Distinct(projection(extension(join())))), 20);
+	}
+
+	@Test
+	public void testOrderBelowProjection() {
+		// the order buffers the solutions of the extension, so these must not be reused
+		assertSameSolutions(() -> new QueryRoot(projection(new Order(extension(join()), new OrderElem(new Var("x"))))),
+				20);
+	}
+
+	@Test
+	public void testSubselectOnRightSideOfJoin() {
+		assertSameSolutions(() -> new QueryRoot(projection(new Join(
+				new StatementPattern(new Var("s"), new Var("p1", name), new Var("n")),
+				new Extension(new Projection(new StatementPattern(new Var("s"), new Var("p2", age), new Var("a")),
+						new ProjectionElemList(new ProjectionElem("s"), new ProjectionElem("a"))),
+						new ExtensionElem(new Var("a"), "x"))))),
+				20);
+	}
+
+	@Test
+	public void testReusedOnlyWhereCopiedByConsumer() {
+		QueryRoot root = new QueryRoot(new Distinct(projection(extension(join()))));
+		Projection projection = (Projection) ((Distinct) root.getArg()).getArg();
+		Extension extension = (Extension) projection.getArg();
+
+		DefaultEvaluationStrategy strategy = new DefaultEvaluationStrategy(tripleSource, null);
+		strategy.setReuseBindingSets(true);
+		QueryEvaluationContext context = new ArrayBindingBasedQueryEvaluationContext(
+				new QueryEvaluationContext.Minimal(null),
+				ArrayBindingBasedQueryEvaluationContext.findAllVariablesUsedInQuery(root), null);
+
+		// the projection copies the solutions of the extension, the distinct keeps the solutions of the projection
+		assertThat(distinctInstances(strategy.precompile(extension, context).evaluate(EmptyBindingSet.getInstance())))
+				.isEqualTo(1);
+		assertThat(distinctInstances(strategy.precompile(projection, context).evaluate(EmptyBindingSet.getInstance())))
+				.isEqualTo(20);
+
+		strategy.setReuseBindingSets(false);
+		assertThat(distinctInstances(strategy.precompile(extension, context).evaluate(EmptyBindingSet.getInstance())))
+				.isEqualTo(20);
+	}
+
+	private void assertSameSolutions(Supplier<TupleExpr> query, int expectedSize) {
+		List<BindingSet> expected = evaluate(query.get(), false);
+		List<BindingSet> actual = evaluate(query.get(), true);
+
+		assertThat(expected).hasSize(expectedSize);
+		// a reused binding set would have been refilled with the last solution
+		assertThat(actual).containsExactlyElementsOf(expected);
+	}
+
+	private List<BindingSet> evaluate(TupleExpr query, boolean reuseBindingSets) {
+		DefaultEvaluationStrategy strategy = new DefaultEvaluationStrategy(tripleSource, null);
+		strategy.setReuseBindingSets(reuseBindingSets);
+		List<BindingSet> solutions = new ArrayList<>();
+		try (CloseableIteration<BindingSet> iter = strategy.precompile(query).evaluate(EmptyBindingSet.getInstance())) {
+			iter.forEachRemaining(solutions::add);
+		}
+		return solutions;
+	}
+
+	private static int distinctInstances(CloseableIteration<BindingSet> iter) {
+		try (iter) {
+			Set<BindingSet> instances = Collections.newSetFromMap(new IdentityHashMap<>());
+			iter.forEachRemaining(instances::add);
+			return instances.size();
+		}
+	}
+
+	private static Join join() {
+		return new Join(new StatementPattern(new Var("s"), new Var("p1", name), new Var("n")),
+				new StatementPattern(new Var("s"), new Var("p2", age), new Var("a")));
+	}
+
+	private static Extension extension(TupleExpr arg) {
+		return new Extension(arg, new ExtensionElem(new Var("a"), "x"));
+	}
+
+	private static Projection projection(TupleExpr arg) {
+		return new Projection(arg, new ProjectionElemList(new ProjectionElem("s"), new ProjectionElem("n"),
+				new ProjectionElem("x")));
+	}
+}
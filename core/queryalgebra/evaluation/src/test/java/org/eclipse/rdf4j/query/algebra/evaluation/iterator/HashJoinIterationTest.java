@@ -13,9 +13,13 @@ package org.eclipse.rdf4j.query.algebra.evaluation.iterator;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.CloseableIteratorIteration;
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Statement;
@@ -25,9 +29,12 @@ import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
 import org.eclipse.rdf4j.query.BindingSet;
 import org.eclipse.rdf4j.query.QueryEvaluationException;
 import org.eclipse.rdf4j.query.algebra.BindingSetAssignment;
+import org.eclipse.rdf4j.query.algebra.evaluation.ArrayBindingSet;
 import org.eclipse.rdf4j.query.algebra.evaluation.EvaluationStrategy;
 import org.eclipse.rdf4j.query.algebra.evaluation.QueryBindingSet;
 import org.eclipse.rdf4j.query.algebra.evaluation.TripleSource;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.ArrayBindingBasedQueryEvaluationContext;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.QueryEvaluationContext;
 import org.eclipse.rdf4j.query.algebra.evaluation.impl.StrictEvaluationStrategy;
 import org.eclipse.rdf4j.query.impl.EmptyBindingSet;
 import org.junit.jupiter.api.Test;
@@ -134,4 +141,43 @@ public class HashJoinIterationTest {
 		assertEquals("x", actual.getValue("i").stringValue());
 		assertFalse(actual.hasBinding("b"));
 	}
+
+	@Test
+	public void testInnerJoinOfArrayBindingSets() throws QueryEvaluationException {
+		ArrayBindingBasedQueryEvaluationContext context = new ArrayBindingBasedQueryEvaluationContext(
+				new QueryEvaluationContext.Minimal(null), new String[] { "a", "b", "i" }, null);
+		List<BindingSet> left = new ArrayList<>();
+		List<BindingSet> right = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			ArrayBindingSet leftb = context.createBindingSet();
+			context.setBinding("a").accept(vf.createLiteral("a" + i), leftb);
+			context.setBinding("i").accept(vf.createLiteral(i % 5), leftb);
+			left.add(leftb);
+			ArrayBindingSet rightb = context.createBindingSet();
+			context.setBinding("b").accept(vf.createLiteral("b" + i), rightb);
+			context.setBinding("i").accept(vf.createLiteral(i % 2), rightb);
+			right.add(rightb);
+		}
+
+		Set<String> actual = new HashSet<>();
+		try (HashJoinIteration iter = new HashJoinIteration(bs -> new CloseableIteratorIteration<>(left.iterator()),
+				bs -> new CloseableIteratorIteration<>(right.iterator()), EmptyBindingSet.getInstance(), false,
+				new String[] { "i" }, context)) {
+			while (iter.hasNext()) {
+				BindingSet bs = iter.next();
+				assertEquals(3, bs.size());
+				actual.add(bs.getValue("a").stringValue() + bs.getValue("b").stringValue());
+			}
+		}
+
+		Set<String> expected = new HashSet<>();
+		for (int l = 0; l < 10; l++) {
+			for (int r = 0; r < 10; r++) {
+				if (l % 5 == r % 2) {
+					expected.add("a" + l + "b" + r);
+				}
+			}
+		}
+		assertEquals(expected, actual);
+	}
 }
@@ -34,6 +34,7 @@ import org.eclipse.rdf4j.common.iteration.CloseableIteratorIteration;
 import org.eclipse.rdf4j.common.transaction.TransactionSetting;
 import org.eclipse.rdf4j.http.client.HttpClientDependent;
 import org.eclipse.rdf4j.http.client.RDF4JProtocolSession;
+import org.eclipse.rdf4j.http.client.TransactionStatementStream;
 import org.eclipse.rdf4j.http.protocol.Protocol;
 import org.eclipse.rdf4j.http.protocol.Protocol.Action;
 import org.eclipse.rdf4j.http.protocol.transaction.operations.AddStatementOperation;
@@ -109,6 +110,8 @@ class HTTPRepositoryConnection extends AbstractRepositoryConnection implements H
 
 	private Model toRemove;
 
+	private TransactionStatementStream addStream;
+
 	/*--------------*
 	 * Constructors *
 	 *--------------*/
@@ -550,6 +553,11 @@ class HTTPRepositoryConnection extends AbstractRepositoryConnection implements H
 			return;
 		}
 
+		if (getParserConfig().get(HTTPRepositorySettings.STREAMING_TRANSACTION_UPLOADS)) {
+			addToStream(subject, predicate, object, contexts);
+			return;
+		}
+
 		flushTransactionState(Protocol.Action.ADD);
 
 		if (toAdd == null) {
@@ -558,6 +566,42 @@ class HTTPRepositoryConnection extends AbstractRepositoryConnection implements H
 		toAdd.add(subject, predicate, object, contexts);
 	}
 
+	private void addToStream(Resource subject, IRI predicate, Value object, Resource... contexts)
+			throws RepositoryException {
+		if (toRemove != null) {
+			removeModel(toRemove);
+			toRemove = null;
+		}
+		if (toAdd != null) {
+			addModel(toAdd);
+			toAdd = null;
+		}
+
+		if (addStream == null) {
+			addStream = client.openTransactionStatementStream(Action.ADD, RDFFormat.BINARY,
+					getParserConfig().get(HTTPRepositorySettings.STREAMING_CHUNK_SIZE),
+					getParserConfig().get(HTTPRepositorySettings.STREAMING_MAX_PENDING_CHUNKS));
+		}
+
+		if (contexts.length == 0) {
+			addStream.add(getValueFactory().createStatement(subject, predicate, object));
+		} else {
+			for (Resource context : contexts) {
+				addStream.add(getValueFactory().createStatement(subject, predicate, object, context));
+			}
+		}
+	}
+
+	private void closeAddStream() throws RepositoryException {
+		if (addStream != null) {
+			try {
+				addStream.close();
+			} finally {
+				addStream = null;
+			}
+		}
+	}
+
 	private void addModel(Model m) throws RepositoryException {
 		// TODO we should dynamically pick a format from the available writers
 		// perhaps?
@@ -597,6 +641,16 @@ class HTTPRepositoryConnection extends AbstractRepositoryConnection implements H
 		}
 
 		if (isActive()) {
+			// an open statement stream occupies the transaction, so it must be completed before anything else is sent
+			if (addStream != null) {
+				if (action == Action.ROLLBACK) {
+					addStream.abort();
+					addStream = null;
+				} else {
+					closeAddStream();
+				}
+			}
+
 			int maxBufferSize = getParserConfig().get(HTTPRepositorySettings.MAX_STATEMENT_BUFFER_SIZE);
 			switch (action) {
 			case ADD:
@@ -11,6 +11,7 @@
 package org.eclipse.rdf4j.repository.http.helpers;
 
 import org.eclipse.rdf4j.repository.http.HTTPRepository;
+import org.eclipse.rdf4j.rio.helpers.BooleanRioSetting;
 import org.eclipse.rdf4j.rio.helpers.IntegerRioSetting;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,4 +34,29 @@ public class HTTPRepositorySettings {
 	public static final IntegerRioSetting MAX_STATEMENT_BUFFER_SIZE = new IntegerRioSetting(
 			"org.eclipse.rdf4j.http.maxstatementbuffersize", "Maximum number of statement buffered in memory", 200000);
 
+	/**
+	 * Whether statements added inside a transaction are streamed to the server instead of being buffered.
+	 * <p>
+	 * When enabled, {@link org.eclipse.rdf4j.repository.http.HTTPRepositoryConnection} sends consecutive additions as
+	 * one chunked {@link org.eclipse.rdf4j.rio.RDFFormat#BINARY} request that stays open until another operation needs
+	 * the transaction, rather than collecting up to {@link #MAX_STATEMENT_BUFFER_SIZE} statements in a model first.
+	 * Ignored when the repository communicates with the server in compatible mode. Defaults to false.
+	 */
+	public static final BooleanRioSetting STREAMING_TRANSACTION_UPLOADS = new BooleanRioSetting(
+			"org.eclipse.rdf4j.http.streamingtransactionuploads", "Stream transaction additions to the server", false);
+
+	/**
+	 * Size in bytes of the chunks in which streamed transaction additions are sent to the server. Defaults to 64 KiB.
+	 */
+	public static final IntegerRioSetting STREAMING_CHUNK_SIZE = new IntegerRioSetting(
+			"org.eclipse.rdf4j.http.streamingchunksize", "Size of streamed transaction chunks in bytes", 64 * 1024);
+
+	/**
+	 * Maximum number of chunks of streamed transaction additions buffered on the client before further additions
+	 * block. Together with {@link #STREAMING_CHUNK_SIZE} this bounds the client-side memory used by a stream. Defaults
+	 * to 16.
+	 */
+	public static final IntegerRioSetting STREAMING_MAX_PENDING_CHUNKS = new IntegerRioSetting(
+			"org.eclipse.rdf4j.http.streamingmaxpendingchunks", "Maximum number of buffered transaction chunks", 16);
+
 }
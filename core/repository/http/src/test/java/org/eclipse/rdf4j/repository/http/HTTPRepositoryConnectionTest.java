@@ -13,9 +13,13 @@ package org.eclipse.rdf4j.repository.http;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.mockserver.model.HttpRequest.request;
 import static org.mockserver.model.HttpResponse.response;
 
@@ -23,6 +27,14 @@ import java.io.InputStream;
 import java.net.URL;
 
 import org.eclipse.rdf4j.http.client.RDF4JProtocolSession;
+import org.eclipse.rdf4j.http.client.TransactionStatementStream;
+import org.eclipse.rdf4j.http.protocol.Protocol.Action;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.model.vocabulary.RDFS;
+import org.eclipse.rdf4j.repository.http.helpers.HTTPRepositorySettings;
 import org.eclipse.rdf4j.rio.RDFFormat;
 import org.eclipse.rdf4j.rio.UnsupportedRDFormatException;
 import org.junit.jupiter.api.BeforeAll;
@@ -103,6 +115,35 @@ public class HTTPRepositoryConnectionTest {
 				anyBoolean());
 	}
 
+	@Test
+	public void testStreamingTransactionUploads() throws Exception {
+		RDF4JProtocolSession streamingSession = mock(RDF4JProtocolSession.class);
+		TransactionStatementStream stream = mock(TransactionStatementStream.class);
+		when(streamingSession.openTransactionStatementStream(eq(Action.ADD), eq(RDFFormat.BINARY), anyInt(), anyInt()))
+				.thenReturn(stream);
+
+		ValueFactory vf = SimpleValueFactory.getInstance();
+		HTTPRepository repository = mock(HTTPRepository.class);
+		when(repository.getValueFactory()).thenReturn(vf);
+
+		IRI graph = vf.createIRI("urn:g");
+		try (HTTPRepositoryConnection repoConn = new HTTPRepositoryConnection(repository, streamingSession)) {
+			repoConn.getParserConfig().set(HTTPRepositorySettings.STREAMING_TRANSACTION_UPLOADS, true);
+			repoConn.begin();
+			repoConn.add(vf.createIRI("urn:a"), RDF.TYPE, RDFS.RESOURCE);
+			repoConn.add(vf.createIRI("urn:b"), RDF.TYPE, RDFS.RESOURCE, graph);
+			repoConn.commit();
+		}
+
+		verify(streamingSession, times(1)).openTransactionStatementStream(eq(Action.ADD), eq(RDFFormat.BINARY),
+				anyInt(), anyInt());
+		verify(stream).add(vf.createStatement(vf.createIRI("urn:a"), RDF.TYPE, RDFS.RESOURCE));
+		verify(stream).add(vf.createStatement(vf.createIRI("urn:b"), RDF.TYPE, RDFS.RESOURCE, graph));
+		verify(stream).close();
+		verify(streamingSession, never()).addData(any(InputStream.class), any(), any());
+		verify(streamingSession).commitTransaction();
+	}
+
 	@Test
 	public void testAddFromURL_FormatUndetermined(MockServerClient client) throws Exception {
 		URL url = new URL("http://localhost:" + client.getPort() + "/Plato");
@@ -10,6 +10,8 @@
  *******************************************************************************/
 package org.eclipse.rdf4j.sail.base;
 
+import org.eclipse.rdf4j.common.transaction.IsolationLevels;
+import org.eclipse.rdf4j.model.impl.DynamicModelFactory;
 import org.eclipse.rdf4j.sail.SailException;
 
 /**
@@ -22,7 +24,16 @@ public abstract class BackingSailSource implements SailSource {
 
 	@Override
 	public SailSource fork() {
-		return new SailSourceBranch(this);
+		return new SailSourceBranch(this, new DynamicModelFactory(), false, false,
+				getSerializableConflictStatistics());
+	}
+
+	/**
+	 * @return where the {@link IsolationLevels#SERIALIZABLE} conflict checks of the forks of this source are counted,
+	 *         or null if they are not counted
+	 */
+	protected SerializableConflictStatistics getSerializableConflictStatistics() {
+		return null;
 	}
 
 	@Override
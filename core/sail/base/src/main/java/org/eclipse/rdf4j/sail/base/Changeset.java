@@ -73,7 +73,7 @@ public abstract class Changeset implements SailSink, ModelFactory {
 	 * When in {@link IsolationLevels#SERIALIZABLE} this contains all the observed {@link StatementPattern}s that were
 	 * observed by {@link ObservingSailDataset}.
 	 */
-	private volatile Set<SimpleStatementPattern> observed;
+	private volatile ObservedPatterns observed;
 
 	/**
 	 * Statements that have been added as part of a transaction, but has not yet been committed.
@@ -172,26 +172,82 @@ public abstract class Changeset implements SailSink, ModelFactory {
 
 	@Override
 	public void prepare() throws SailException {
+		prepare(null);
+	}
+
+	/**
+	 * Checks that no {@link #prepend(Changeset) concurrent changeset} changed statements that were observed.
+	 *
+	 * @param statistics where the check is counted, or null to not count it
+	 * @throws SailConflictException if an observed statement was changed
+	 */
+	@Experimental
+	public void prepare(SerializableConflictStatistics statistics) throws SailException {
 		assert !closed;
 		if (prepend != null && observed != null) {
-			for (SimpleStatementPattern p : observed) {
-				Resource subj = p.getSubject();
-				IRI pred = p.getPredicate();
-				Value obj = p.getObject();
-				Resource context = p.getContext();
-				Resource[] contexts;
-				if (p.isAllContexts()) {
-					contexts = new Resource[0];
-				} else {
-					contexts = new Resource[] { context };
+			long changes = 0;
+			for (Changeset changeset : prepend) {
+				changes += changeset.getChangeCount();
+				if (changeset.hasChangesMatching(observed)) {
+					if (statistics != null) {
+						statistics.recordCheck(changes, true);
+					}
+					throw new SailConflictException("Observed State has Changed");
+				}
+			}
+			if (statistics != null) {
+				statistics.recordCheck(changes, false);
+			}
+		}
+	}
+
+	private long getChangeCount() {
+		boolean readLock = readWriteLock.readLock();
+		try {
+			return (approved == null ? 0 : approved.size()) + (deprecated == null ? 0 : deprecated.size());
+		} finally {
+			readWriteLock.unlockReader(readLock);
+		}
+	}
+
+	/**
+	 * Checks whether any statement that this changeset approved or deprecated, or any context that it cleared, could
+	 * match one of the observed patterns. When there are fewer patterns than changes the patterns are looked up in the
+	 * changed statements, otherwise each changed statement is looked up in the patterns.
+	 */
+	private boolean hasChangesMatching(ObservedPatterns observed) {
+		boolean readLock = readWriteLock.readLock();
+		try {
+			if (statementCleared && !observed.isEmpty()) {
+				return true;
+			}
+			if (deprecatedContexts != null) {
+				for (Resource context : deprecatedContexts) {
+					if (observed.matchesContext(context)) {
+						return true;
+					}
 				}
-				for (Changeset changeset : prepend) {
-					if (changeset.hasApproved(subj, pred, obj, contexts)
-							|| (changeset.hasDeprecated(subj, pred, obj, contexts))) {
-						throw new SailConflictException("Observed State has Changed");
+			}
+
+			Model approved = approvedEmpty ? null : this.approved;
+			Model deprecated = deprecatedEmpty ? null : this.deprecated;
+			long changes = (approved == null ? 0 : approved.size()) + (deprecated == null ? 0 : deprecated.size());
+			if (observed.size() < changes) {
+				for (SimpleStatementPattern p : observed) {
+					Resource[] contexts = p.isAllContexts() ? new Resource[0] : new Resource[] { p.getContext() };
+					if (approved != null && approved.contains(p.getSubject(), p.getPredicate(), p.getObject(), contexts)
+							|| deprecated != null
+									&& deprecated.contains(p.getSubject(), p.getPredicate(), p.getObject(), contexts)) {
+						return true;
 					}
 				}
+				return false;
 			}
+
+			return approved != null && approved.stream().anyMatch(observed::matches)
+					|| deprecated != null && deprecated.stream().anyMatch(observed::matches);
+		} finally {
+			readWriteLock.unlockReader(readLock);
 		}
 	}
 
@@ -350,17 +406,9 @@ public abstract class Changeset implements SailSink, ModelFactory {
 		long writeLock = readWriteLock.writeLock();
 		try {
 			if (observed == null) {
-				observed = new HashSet<>();
-			}
-			if (contexts == null) {
-				observed.add(new SimpleStatementPattern(subj, pred, obj, null, false));
-			} else if (contexts.length == 0) {
-				observed.add(new SimpleStatementPattern(subj, pred, obj, null, true));
-			} else {
-				for (Resource ctx : contexts) {
-					observed.add(new SimpleStatementPattern(subj, pred, obj, ctx, false));
-				}
+				observed = new ObservedPatterns();
 			}
+			observed.observe(subj, pred, obj, contexts);
 		} finally {
 			readWriteLock.unlockWriter(writeLock);
 		}
@@ -375,7 +423,7 @@ public abstract class Changeset implements SailSink, ModelFactory {
 		long writeLock = readWriteLock.writeLock();
 		try {
 			if (observed == null) {
-				observed = new HashSet<>();
+				observed = new ObservedPatterns();
 			}
 
 			observed.add(new SimpleStatementPattern(subj, pred, obj, context, false));
@@ -392,7 +440,7 @@ public abstract class Changeset implements SailSink, ModelFactory {
 		long writeLock = readWriteLock.writeLock();
 		try {
 			if (this.observed == null) {
-				this.observed = new HashSet<>(observed);
+				this.observed = new ObservedPatterns(observed);
 			} else {
 				this.observed.addAll(observed);
 			}
@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.base;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.rdf4j.common.annotation.Experimental;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.sail.base.Changeset.SimpleStatementPattern;
+
+/**
+ * The {@link SimpleStatementPattern}s observed by a {@link Changeset}, grouped by which of their positions are bound.
+ * Whether a statement matches any of the patterns is checked with one hash lookup per group, so the cost of checking
+ * the changes of a concurrent transaction depends on the number of changes and not on the number of patterns.
+ */
+@Experimental
+public class ObservedPatterns extends AbstractSet<SimpleStatementPattern> {
+
+	private static final int SUBJECT = 1;
+	private static final int PREDICATE = 2;
+	private static final int OBJECT = 4;
+	private static final int ALL_CONTEXTS = 8;
+
+	/**
+	 * Patterns by the bit mask of their bound positions.
+	 */
+	@SuppressWarnings("unchecked")
+	private final Set<SimpleStatementPattern>[] byBoundPositions = new Set[16];
+
+	private int size;
+
+	public ObservedPatterns() {
+	}
+
+	public ObservedPatterns(Set<SimpleStatementPattern> patterns) {
+		addAll(patterns);
+	}
+
+	/**
+	 * Adds the pattern of an observation, see {@link SailSink#observe(Resource, IRI, Value, Resource...)}.
+	 *
+	 * @param subj     the subject, or null for any subject
+	 * @param pred     the predicate, or null for any predicate
+	 * @param obj      the object, or null for any object
+	 * @param contexts the contexts, null for the default graph or none for any context
+	 */
+	public void observe(Resource subj, IRI pred, Value obj, Resource... contexts) {
+		if (contexts == null) {
+			add(new SimpleStatementPattern(subj, pred, obj, null, false));
+		} else if (contexts.length == 0) {
+			add(new SimpleStatementPattern(subj, pred, obj, null, true));
+		} else {
+			for (Resource ctx : contexts) {
+				add(new SimpleStatementPattern(subj, pred, obj, ctx, false));
+			}
+		}
+	}
+
+	@Override
+	public boolean add(SimpleStatementPattern pattern) {
+		int mask = mask(pattern);
+		if (byBoundPositions[mask] == null) {
+			byBoundPositions[mask] = new HashSet<>();
+		}
+		if (byBoundPositions[mask].add(pattern)) {
+			size++;
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		if (!(o instanceof SimpleStatementPattern)) {
+			return false;
+		}
+		Set<SimpleStatementPattern> patterns = byBoundPositions[mask((SimpleStatementPattern) o)];
+		return patterns != null && patterns.contains(o);
+	}
+
+	@Override
+	public Iterator<SimpleStatementPattern> iterator() {
+		return Arrays.stream(byBoundPositions)
+				.filter(Objects::nonNull)
+				.flatMap(Set::stream)
+				.iterator();
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return true if the statement matches any of the patterns.
+	 */
+	public boolean matches(Statement statement) {
+		for (int mask = 0; mask < byBoundPositions.length; mask++) {
+			Set<SimpleStatementPattern> patterns = byBoundPositions[mask];
+			if (patterns != null && !patterns.isEmpty()) {
+				boolean allContexts = (mask & ALL_CONTEXTS) != 0;
+				SimpleStatementPattern probe = new SimpleStatementPattern(
+						(mask & SUBJECT) != 0 ? statement.getSubject() : null,
+						(mask & PREDICATE) != 0 ? statement.getPredicate() : null,
+						(mask & OBJECT) != 0 ? statement.getObject() : null,
+						allContexts ? null : statement.getContext(), allContexts);
+				if (patterns.contains(probe)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return true if any of the patterns may match a statement in the context, which is null for the default graph.
+	 */
+	boolean matchesContext(Resource context) {
+		for (int mask = 0; mask < byBoundPositions.length; mask++) {
+			Set<SimpleStatementPattern> patterns = byBoundPositions[mask];
+			if (patterns == null || patterns.isEmpty()) {
+				continue;
+			}
+			if ((mask & ALL_CONTEXTS) != 0) {
+				return true;
+			}
+			for (SimpleStatementPattern pattern : patterns) {
+				if (Objects.equals(pattern.getContext(), context)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private static int mask(SimpleStatementPattern pattern) {
+		int mask = 0;
+		if (pattern.getSubject() != null) {
+			mask |= SUBJECT;
+		}
+		if (pattern.getPredicate() != null) {
+			mask |= PREDICATE;
+		}
+		if (pattern.getObject() != null) {
+			mask |= OBJECT;
+		}
+		if (pattern.isAllContexts()) {
+			mask |= ALL_CONTEXTS;
+		}
+		return mask;
+	}
+}
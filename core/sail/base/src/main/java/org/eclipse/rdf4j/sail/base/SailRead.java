@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.base;
+
+import org.eclipse.rdf4j.common.annotation.Experimental;
+import org.eclipse.rdf4j.common.transaction.IsolationLevel;
+import org.eclipse.rdf4j.sail.SailException;
+
+/**
+ * A read of a {@link SailStore}. The datasets of the explicit and inferred {@link SailSource}s of the store that are
+ * opened through the same read show the same state of the store, even if changes are flushed to the store in between.
+ *
+ * @see SailStore#startRead()
+ */
+@Experimental
+@FunctionalInterface
+public interface SailRead extends SailClosable {
+
+	/**
+	 * Opens a dataset of a {@link SailSource} that is, or is derived from, a source of the {@link SailStore} that this
+	 * read was started on.
+	 *
+	 * @param source the source to read from
+	 * @param level  the isolation level of the dataset
+	 * @return the opened dataset
+	 */
+	SailDataset dataset(SailSource source, IsolationLevel level) throws SailException;
+
+	/**
+	 * Ends this read. Datasets that were opened through this read stay open until they are closed themselves.
+	 */
+	@Override
+	default void close() throws SailException {
+		// no-op
+	}
+}
@@ -80,6 +80,19 @@ class SailSourceBranch implements SailSource {
 	 */
 	private final boolean autoFlush;
 
+	/**
+	 * If the datasets of the backing {@link SailSource} are isolated snapshots, that are not affected by later flushes
+	 * into the backing {@link SailSource}. Changes are then also flushed while datasets of this {@link SailSource} are
+	 * in use.
+	 */
+	private final boolean backingSnapshots;
+
+	/**
+	 * Counts the {@link IsolationLevels#SERIALIZABLE} conflict checks of the changesets of this branch and its forks, or
+	 * null if they are not counted.
+	 */
+	private final SerializableConflictStatistics conflictStatistics;
+
 	/**
 	 * Non-null when in {@link IsolationLevels#SNAPSHOT} (or higher) mode.
 	 */
@@ -123,9 +136,41 @@ class SailSourceBranch implements SailSource {
 	 * @param autoFlush
 	 */
 	public SailSourceBranch(SailSource backingSource, ModelFactory modelFactory, boolean autoFlush) {
+		this(backingSource, modelFactory, autoFlush, false);
+	}
+
+	/**
+	 * Creates a new {@link SailSource} derived from the given {@link SailSource} and if <code>autoFlush</code> is true,
+	 * will automatically call {@link #flush()} when not in use, or as soon as possible if <code>backingSnapshots</code>
+	 * is true.
+	 *
+	 * @param backingSource
+	 * @param modelFactory
+	 * @param autoFlush
+	 * @param backingSnapshots true if the datasets of the backing {@link SailSource} are isolated snapshots
+	 */
+	public SailSourceBranch(SailSource backingSource, ModelFactory modelFactory, boolean autoFlush,
+			boolean backingSnapshots) {
+		this(backingSource, modelFactory, autoFlush, backingSnapshots, null);
+	}
+
+	/**
+	 * Creates a new {@link SailSource} derived from the given {@link SailSource}, that counts the conflict checks of its
+	 * changesets and those of its forks in the given statistics.
+	 *
+	 * @param backingSource
+	 * @param modelFactory
+	 * @param autoFlush
+	 * @param backingSnapshots   true if the datasets of the backing {@link SailSource} are isolated snapshots
+	 * @param conflictStatistics where {@link IsolationLevels#SERIALIZABLE} conflict checks are counted, or null
+	 */
+	public SailSourceBranch(SailSource backingSource, ModelFactory modelFactory, boolean autoFlush,
+			boolean backingSnapshots, SerializableConflictStatistics conflictStatistics) {
 		this.backingSource = backingSource;
 		this.modelFactory = modelFactory;
 		this.autoFlush = autoFlush;
+		this.backingSnapshots = backingSnapshots;
+		this.conflictStatistics = conflictStatistics;
 	}
 
 	@Override
@@ -171,7 +216,7 @@ class SailSourceBranch implements SailSource {
 					preparedChangeset(this);
 					prepared = true;
 				}
-				super.prepare();
+				super.prepare(conflictStatistics);
 			}
 
 			@Override
@@ -306,7 +351,7 @@ class SailSourceBranch implements SailSource {
 
 	@Override
 	public SailSource fork() {
-		return new SailSourceBranch(this, modelFactory);
+		return new SailSourceBranch(this, modelFactory, false, false, conflictStatistics);
 	}
 
 	@Override
@@ -454,7 +499,7 @@ class SailSourceBranch implements SailSource {
 	void autoFlush() throws SailException {
 		if (autoFlush && semaphore.tryLock()) {
 			try {
-				if (observers.isEmpty()) {
+				if (observers.isEmpty() || backingSnapshots) {
 					flush();
 				}
 			} finally {
@@ -488,7 +533,10 @@ class SailSourceBranch implements SailSource {
 		try {
 			semaphore.lock();
 			SailDataset derivedFrom;
-			if (this.snapshot != null) {
+			if (backingSnapshots) {
+				// every dataset of the backing source is a snapshot of its own
+				derivedFrom = backingSource.dataset(level);
+			} else if (this.snapshot != null) {
 				// this object is already has at least snapshot isolation
 				derivedFrom = new DelegatingSailDataset(this.snapshot) {
 
@@ -127,6 +127,12 @@ public abstract class SailSourceConnection extends AbstractNotifyingSailConnecti
 	 */
 	private volatile SailSource includeInferredBranch;
 
+	/**
+	 * The {@link SailRead} that all datasets of an isolated transaction at {@link IsolationLevels#SNAPSHOT} or higher
+	 * are opened through.
+	 */
+	private volatile SailRead transactionRead;
+
 	/**
 	 * {@link EvaluationStrategyFactory} to use.
 	 */
@@ -238,7 +244,7 @@ public abstract class SailSourceConnection extends AbstractNotifyingSailConnecti
 		boolean allGood = false;
 		try {
 			branch = branch(IncludeInferred.fromBoolean(includeInferred));
-			rdfDataset = branch.dataset(getIsolationLevel());
+			rdfDataset = dataset(branch, getIsolationLevel());
 
 			TripleSource tripleSource = new SailDatasetTripleSource(vf, rdfDataset);
 			EvaluationStrategy strategy = getEvaluationStrategy(dataset, tripleSource);
@@ -418,7 +424,7 @@ public abstract class SailSourceConnection extends AbstractNotifyingSailConnecti
 	@Override
 	protected CloseableIteration<? extends Resource> getContextIDsInternal() throws SailException {
 		SailSource branch = branch(IncludeInferred.explicitOnly);
-		SailDataset snapshot = branch.dataset(getIsolationLevel());
+		SailDataset snapshot = dataset(branch, getIsolationLevel());
 		return SailClosingIteration.makeClosable(snapshot.getContextIDs(), snapshot, branch);
 	}
 
@@ -426,7 +432,7 @@ public abstract class SailSourceConnection extends AbstractNotifyingSailConnecti
 	protected CloseableIteration<? extends Statement> getStatementsInternal(Resource subj, IRI pred,
 			Value obj, boolean includeInferred, Resource... contexts) throws SailException {
 		SailSource branch = branch(IncludeInferred.fromBoolean(includeInferred));
-		SailDataset snapshot = branch.dataset(getIsolationLevel());
+		SailDataset snapshot = dataset(branch, getIsolationLevel());
 		return SailClosingIteration.makeClosable(snapshot.getStatements(subj, pred, obj, contexts), snapshot, branch);
 	}
 
@@ -435,7 +441,7 @@ public abstract class SailSourceConnection extends AbstractNotifyingSailConnecti
 			IRI pred,
 			Value obj, boolean includeInferred, Resource... contexts) throws SailException {
 		SailSource branch = branch(IncludeInferred.fromBoolean(includeInferred));
-		SailDataset snapshot = branch.dataset(getIsolationLevel());
+		SailDataset snapshot = dataset(branch, getIsolationLevel());
 		return SailClosingIteration.makeClosable(snapshot.getStatements(order, subj, pred, obj, contexts), snapshot,
 				branch);
 	}
@@ -443,7 +449,7 @@ public abstract class SailSourceConnection extends AbstractNotifyingSailConnecti
 	@Override
 	public Comparator<Value> getComparator() {
 		try (SailSource branch = branch(IncludeInferred.fromBoolean(false))) {
-			try (SailDataset snapshot = branch.dataset(getIsolationLevel())) {
+			try (SailDataset snapshot = dataset(branch, getIsolationLevel())) {
 				return snapshot.getComparator();
 			}
 		}
@@ -459,7 +465,7 @@ public abstract class SailSourceConnection extends AbstractNotifyingSailConnecti
 	@Override
 	protected CloseableIteration<? extends Namespace> getNamespacesInternal() throws SailException {
 		SailSource branch = branch(IncludeInferred.explicitOnly);
-		SailDataset snapshot = branch.dataset(getIsolationLevel());
+		SailDataset snapshot = dataset(branch, getIsolationLevel());
 		return SailClosingIteration.makeClosable(snapshot.getNamespaces(), snapshot, branch);
 	}
 
@@ -469,7 +475,7 @@ public abstract class SailSourceConnection extends AbstractNotifyingSailConnecti
 		SailDataset snapshot = null;
 		try {
 			branch = branch(IncludeInferred.explicitOnly);
-			snapshot = branch.dataset(getIsolationLevel());
+			snapshot = dataset(branch, getIsolationLevel());
 			return snapshot.getNamespace(prefix);
 		} finally {
 			try {
@@ -500,12 +506,17 @@ public abstract class SailSourceConnection extends AbstractNotifyingSailConnecti
 		assert explicitOnlyBranch == null;
 		assert inferredOnlyBranch == null;
 		assert includeInferredBranch == null;
+		assert transactionRead == null;
 		IsolationLevel level = getTransactionIsolation();
 		if (!IsolationLevels.NONE.isCompatibleWith(level)) {
 			// only create transaction branches if transaction is isolated
 			explicitOnlyBranch = store.getExplicitSailSource().fork();
 			inferredOnlyBranch = store.getInferredSailSource().fork();
 			includeInferredBranch = new UnionSailSource(inferredOnlyBranch, explicitOnlyBranch);
+			if (level.isCompatibleWith(IsolationLevels.SNAPSHOT)) {
+				// explicit and inferred snapshots of the transaction show the same state of the store
+				transactionRead = store.startRead();
+			}
 		}
 	}
 
@@ -530,8 +541,12 @@ public abstract class SailSourceConnection extends AbstractNotifyingSailConnecti
 				toCloseInferredBranch.flush();
 			}
 		} finally {
-			if (toCloseInferredBranch != null) {
-				toCloseInferredBranch.close();
+			try {
+				if (toCloseInferredBranch != null) {
+					toCloseInferredBranch.close();
+				}
+			} finally {
+				endTransactionRead();
 			}
 		}
 	}
@@ -589,8 +604,12 @@ public abstract class SailSourceConnection extends AbstractNotifyingSailConnecti
 											toCloseInferredSink.close();
 										}
 									} finally {
-										if (toCloseIncludeInferredBranch != null) {
-											toCloseIncludeInferredBranch.close();
+										try {
+											if (toCloseIncludeInferredBranch != null) {
+												toCloseIncludeInferredBranch.close();
+											}
+										} finally {
+											endTransactionRead();
 										}
 									}
 								}
@@ -621,7 +640,7 @@ public abstract class SailSourceConnection extends AbstractNotifyingSailConnecti
 				} else {
 					source = branch(IncludeInferred.explicitOnly);
 				}
-				datasets.put(op, source.dataset(level));
+				datasets.put(op, dataset(source, level));
 				explicitSinks.put(op, source.sink(level));
 			}
 		}
@@ -635,7 +654,7 @@ public abstract class SailSourceConnection extends AbstractNotifyingSailConnecti
 		synchronized (datasets) {
 			if (op == null && !datasets.containsKey(null)) {
 				SailSource source = branch(IncludeInferred.explicitOnly);
-				datasets.put(null, source.dataset(getIsolationLevel()));
+				datasets.put(null, dataset(source, getIsolationLevel()));
 				explicitSinks.put(null, source.sink(getIsolationLevel()));
 			}
 			assert explicitSinks.containsKey(op);
@@ -652,7 +671,7 @@ public abstract class SailSourceConnection extends AbstractNotifyingSailConnecti
 		synchronized (datasets) {
 			if (op == null && !datasets.containsKey(null)) {
 				SailSource source = branch(IncludeInferred.explicitOnly);
-				datasets.put(null, source.dataset(getIsolationLevel()));
+				datasets.put(null, dataset(source, getIsolationLevel()));
 				explicitSinks.put(null, source.sink(getIsolationLevel()));
 			}
 			assert explicitSinks.containsKey(op);
@@ -733,9 +752,11 @@ public abstract class SailSourceConnection extends AbstractNotifyingSailConnecti
 		synchronized (datasets) {
 			if (inferredOnlySink == null) {
 				SailSource branch = branch(IncludeInferred.inferredOnly);
-				inferredOnlyDataset = branch.dataset(level);
+				try (SailRead read = startRead()) {
+					inferredOnlyDataset = read.dataset(branch, level);
+					explicitOnlyDataset = read.dataset(branch(IncludeInferred.explicitOnly), level);
+				}
 				inferredOnlySink = branch.sink(level);
-				explicitOnlyDataset = branch(IncludeInferred.explicitOnly).dataset(level);
 			}
 			boolean modified = false;
 			if (contexts.length == 0 || contexts.length == 1 && contexts[0] == null) {
@@ -834,9 +855,11 @@ public abstract class SailSourceConnection extends AbstractNotifyingSailConnecti
 			IsolationLevel level = getIsolationLevel();
 			if (inferredOnlySink == null) {
 				SailSource branch = branch(IncludeInferred.inferredOnly);
-				inferredOnlyDataset = branch.dataset(level);
+				try (SailRead read = startRead()) {
+					inferredOnlyDataset = read.dataset(branch, level);
+					explicitOnlyDataset = read.dataset(branch(IncludeInferred.explicitOnly), level);
+				}
 				inferredOnlySink = branch.sink(level);
-				explicitOnlyDataset = branch(IncludeInferred.explicitOnly).dataset(level);
 			}
 			removeStatementsInternal(subj, pred, obj, contexts);
 			boolean removed = remove(subj, pred, obj, true, inferredOnlyDataset, inferredOnlySink, contexts);
@@ -877,7 +900,7 @@ public abstract class SailSourceConnection extends AbstractNotifyingSailConnecti
 		synchronized (datasets) {
 			if (!datasets.containsKey(null)) {
 				SailSource source = branch(IncludeInferred.explicitOnly);
-				datasets.put(null, source.dataset(getIsolationLevel()));
+				datasets.put(null, dataset(source, getIsolationLevel()));
 				explicitSinks.put(null, source.sink(getIsolationLevel()));
 			}
 			assert explicitSinks.containsKey(null);
@@ -896,9 +919,11 @@ public abstract class SailSourceConnection extends AbstractNotifyingSailConnecti
 			if (inferredOnlySink == null) {
 				IsolationLevel level = getIsolationLevel();
 				SailSource branch = branch(IncludeInferred.inferredOnly);
-				inferredOnlyDataset = branch.dataset(level);
+				try (SailRead read = startRead()) {
+					inferredOnlyDataset = read.dataset(branch, level);
+					explicitOnlyDataset = read.dataset(branch(IncludeInferred.explicitOnly), level);
+				}
 				inferredOnlySink = branch.sink(level);
-				explicitOnlyDataset = branch(IncludeInferred.explicitOnly).dataset(level);
 			}
 			if (this.hasConnectionListeners()) {
 				remove(null, null, null, true, inferredOnlyDataset, inferredOnlySink, contexts);
@@ -1005,6 +1030,33 @@ public abstract class SailSourceConnection extends AbstractNotifyingSailConnecti
 	 * @return read operation {@link SailSource}
 	 * @throws SailException
 	 */
+	/**
+	 * Starts a read of the store, or continues the read of the current transaction, so that the datasets that are
+	 * opened through it show the same state of the store.
+	 */
+	private SailRead startRead() {
+		SailRead read = transactionRead;
+		if (read != null) {
+			// the transaction read is ended with the transaction
+			return read::dataset;
+		}
+		return store.startRead();
+	}
+
+	private SailDataset dataset(SailSource source, IsolationLevel level) throws SailException {
+		try (SailRead read = startRead()) {
+			return read.dataset(source, level);
+		}
+	}
+
+	private void endTransactionRead() throws SailException {
+		SailRead read = transactionRead;
+		transactionRead = null;
+		if (read != null) {
+			read.close();
+		}
+	}
+
 	private SailSource branch(IncludeInferred includeinferred) throws SailException {
 		boolean active = isActive();
 		IsolationLevel level = getIsolationLevel();
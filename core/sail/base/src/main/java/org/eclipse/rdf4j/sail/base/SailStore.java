@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.eclipse.rdf4j.sail.base;
 
+import org.eclipse.rdf4j.common.annotation.Experimental;
 import org.eclipse.rdf4j.model.ValueFactory;
 import org.eclipse.rdf4j.query.algebra.evaluation.impl.EvaluationStatistics;
 
@@ -44,4 +45,15 @@ public interface SailStore extends SailClosable {
 	 */
 	SailSource getInferredSailSource();
 
+	/**
+	 * Starts a read of this store, so that datasets of the explicit and inferred sources that are opened through it show
+	 * the same state of this store. By default, every dataset shows the state of this store at the time it is opened.
+	 *
+	 * @return a new {@link SailRead} that must be closed when no more datasets are opened through it
+	 */
+	@Experimental
+	default SailRead startRead() {
+		return SailSource::dataset;
+	}
+
 }
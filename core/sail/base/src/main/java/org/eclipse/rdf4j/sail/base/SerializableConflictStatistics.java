@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.base;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.rdf4j.common.annotation.Experimental;
+import org.eclipse.rdf4j.common.transaction.IsolationLevels;
+
+/**
+ * Counts how often {@link IsolationLevels#SERIALIZABLE} transactions of a store are checked for conflicts with
+ * concurrently committed transactions, and how often such a conflict is found.
+ *
+ * @see SnapshotSailStore#getSerializableConflictStatistics()
+ */
+@Experimental
+public class SerializableConflictStatistics {
+
+	private final LongAdder checked = new LongAdder();
+	private final LongAdder conflicts = new LongAdder();
+	private final LongAdder checkedChanges = new LongAdder();
+
+	/**
+	 * Records that a transaction was checked against concurrent transactions.
+	 *
+	 * @param changes  the number of statements added or removed by the concurrent transactions
+	 * @param conflict whether a concurrent transaction changed what the transaction observed
+	 */
+	public void recordCheck(long changes, boolean conflict) {
+		checked.increment();
+		checkedChanges.add(changes);
+		if (conflict) {
+			conflicts.increment();
+		}
+	}
+
+	/**
+	 * @return the number of transactions that observed statements and were checked against concurrent transactions.
+	 */
+	public long getCheckedTransactions() {
+		return checked.sum();
+	}
+
+	/**
+	 * @return the number of transactions that were aborted because a concurrent transaction changed what they observed.
+	 */
+	public long getConflicts() {
+		return conflicts.sum();
+	}
+
+	/**
+	 * @return the number of statements added or removed by concurrent transactions that were checked for conflicts.
+	 */
+	public long getCheckedChanges() {
+		return checkedChanges.sum();
+	}
+
+	/**
+	 * @return the fraction of checked transactions that had a conflict, or 0 if none were checked.
+	 */
+	public double getConflictRate() {
+		long checked = getCheckedTransactions();
+		return checked == 0 ? 0 : (double) getConflicts() / checked;
+	}
+
+	/**
+	 * Sets all counts back to zero.
+	 */
+	public void reset() {
+		checked.reset();
+		conflicts.reset();
+		checkedChanges.reset();
+	}
+
+	@Override
+	public String toString() {
+		return "SerializableConflictStatistics{" +
+				"checkedTransactions=" + getCheckedTransactions() +
+				", conflicts=" + getConflicts() +
+				", checkedChanges=" + getCheckedChanges() +
+				'}';
+	}
+}
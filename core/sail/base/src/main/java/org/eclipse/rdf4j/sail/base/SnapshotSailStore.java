@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.eclipse.rdf4j.sail.base;
 
+import org.eclipse.rdf4j.common.annotation.Experimental;
 import org.eclipse.rdf4j.common.transaction.IsolationLevels;
 import org.eclipse.rdf4j.model.ModelFactory;
 import org.eclipse.rdf4j.model.ValueFactory;
@@ -39,6 +40,11 @@ public class SnapshotSailStore implements SailStore {
 	 */
 	private final SailSourceBranch inferredAutoFlush;
 
+	/**
+	 * Counts the conflict checks of {@link IsolationLevels#SERIALIZABLE} transactions.
+	 */
+	private final SerializableConflictStatistics conflictStatistics;
+
 	/**
 	 * Wraps an {@link SailStore}, tracking changes in {@link ModelFactory} instances.
 	 *
@@ -46,9 +52,39 @@ public class SnapshotSailStore implements SailStore {
 	 * @param modelFactory
 	 */
 	public SnapshotSailStore(SailStore backingStore, ModelFactory modelFactory) {
+		this(backingStore, modelFactory, false);
+	}
+
+	/**
+	 * Wraps an {@link SailStore}, tracking changes in {@link ModelFactory} instances. If the datasets of the backing
+	 * store are isolated snapshots, that are not affected by later writes to the backing store, committed changes are
+	 * written to the backing store right away, instead of being kept in memory until no dataset is in use.
+	 *
+	 * @param backingStore
+	 * @param modelFactory
+	 * @param backingSnapshots true if the datasets of the backing store are isolated snapshots
+	 */
+	public SnapshotSailStore(SailStore backingStore, ModelFactory modelFactory, boolean backingSnapshots) {
+		this(backingStore, modelFactory, backingSnapshots, new SerializableConflictStatistics());
+	}
+
+	/**
+	 * Wraps an {@link SailStore}, tracking changes in {@link ModelFactory} instances and counting the conflict checks of
+	 * {@link IsolationLevels#SERIALIZABLE} transactions in the given statistics.
+	 *
+	 * @param backingStore
+	 * @param modelFactory
+	 * @param backingSnapshots   true if the datasets of the backing store are isolated snapshots
+	 * @param conflictStatistics where the conflict checks are counted
+	 */
+	public SnapshotSailStore(SailStore backingStore, ModelFactory modelFactory, boolean backingSnapshots,
+			SerializableConflictStatistics conflictStatistics) {
 		this.backingStore = backingStore;
-		explicitAutoFlush = new SailSourceBranch(backingStore.getExplicitSailSource(), modelFactory, true);
-		inferredAutoFlush = new SailSourceBranch(backingStore.getInferredSailSource(), modelFactory, true);
+		this.conflictStatistics = conflictStatistics;
+		explicitAutoFlush = new SailSourceBranch(backingStore.getExplicitSailSource(), modelFactory, true,
+				backingSnapshots, conflictStatistics);
+		inferredAutoFlush = new SailSourceBranch(backingStore.getInferredSailSource(), modelFactory, true,
+				backingSnapshots, conflictStatistics);
 	}
 
 	@Override
@@ -86,4 +122,20 @@ public class SnapshotSailStore implements SailStore {
 		return inferredAutoFlush;
 	}
 
+	@Override
+	public SailRead startRead() {
+		return backingStore.startRead();
+	}
+
+	/**
+	 * Gets statistics about the conflict checks of {@link IsolationLevels#SERIALIZABLE} transactions, such as how many
+	 * transactions were checked and how many of them had a conflict.
+	 *
+	 * @return the serializable conflict statistics
+	 */
+	@Experimental
+	public SerializableConflictStatistics getSerializableConflictStatistics() {
+		return conflictStatistics;
+	}
+
 }
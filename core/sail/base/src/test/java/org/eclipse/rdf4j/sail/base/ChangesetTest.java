@@ -10,7 +10,9 @@
  *******************************************************************************/
 package org.eclipse.rdf4j.sail.base;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Iterator;
@@ -28,6 +30,7 @@ import org.eclipse.rdf4j.model.impl.LinkedHashModel;
 import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
 import org.eclipse.rdf4j.model.vocabulary.RDF;
 import org.eclipse.rdf4j.model.vocabulary.RDFS;
+import org.eclipse.rdf4j.sail.SailConflictException;
 import org.eclipse.rdf4j.sail.SailException;
 import org.junit.jupiter.api.Test;
 
@@ -120,6 +123,72 @@ public class ChangesetTest {
 		assertFalse(Changeset.isOrderIndependent(statementsOnly, mixedChanges));
 	}
 
+	@Test
+	public void testSerializableConflictWithMatchingChange() {
+		SerializableConflictStatistics statistics = new SerializableConflictStatistics();
+		Changeset observer = getChangeset();
+		observer.observe(null, RDF.TYPE, null);
+
+		Changeset concurrent = getChangeset();
+		for (int i = 0; i < 100; i++) {
+			concurrent.approve(vf.createStatement(vf.createIRI("urn:s" + i), RDFS.LABEL, vf.createLiteral(i)));
+		}
+		concurrent.approve(vf.createStatement(vf.createIRI("urn:s"), RDF.TYPE, RDFS.RESOURCE));
+		observer.prepend(concurrent);
+
+		assertThrows(SailConflictException.class, () -> observer.prepare(statistics));
+		assertEquals(1, statistics.getConflicts());
+		assertEquals(1.0, statistics.getConflictRate());
+	}
+
+	@Test
+	public void testSerializableNoConflictWithOtherChanges() {
+		SerializableConflictStatistics statistics = new SerializableConflictStatistics();
+		Changeset observer = getChangeset();
+		for (int i = 0; i < 100; i++) {
+			observer.observe(vf.createIRI("urn:s" + i), RDF.TYPE, null, vf.createIRI("urn:ctx"));
+		}
+
+		Changeset concurrent = getChangeset();
+		concurrent.approve(vf.createStatement(vf.createIRI("urn:s1"), RDFS.LABEL, vf.createLiteral("label")));
+		concurrent.approve(vf.createStatement(vf.createIRI("urn:s1"), RDF.TYPE, RDFS.RESOURCE));
+		concurrent.deprecate(vf.createStatement(vf.createIRI("urn:s1"), RDF.TYPE, RDFS.CLASS,
+				vf.createIRI("urn:other")));
+		observer.prepend(concurrent);
+
+		observer.prepare(statistics);
+		assertEquals(1, statistics.getCheckedTransactions());
+		assertEquals(3, statistics.getCheckedChanges());
+		assertEquals(0, statistics.getConflicts());
+	}
+
+	@Test
+	public void testSerializableConflictWithDeprecatedStatementInContext() {
+		Changeset observer = getChangeset();
+		for (int i = 0; i < 100; i++) {
+			observer.observe(vf.createIRI("urn:s" + i), RDF.TYPE, null, vf.createIRI("urn:ctx"));
+		}
+
+		Changeset concurrent = getChangeset();
+		concurrent.deprecate(vf.createStatement(vf.createIRI("urn:s1"), RDF.TYPE, RDFS.CLASS,
+				vf.createIRI("urn:ctx")));
+		observer.prepend(concurrent);
+
+		assertThrows(SailConflictException.class, observer::prepare);
+	}
+
+	@Test
+	public void testSerializableConflictWithClearedContext() {
+		Changeset observer = getChangeset();
+		observer.observe(vf.createIRI("urn:s"), null, null, allGraph);
+
+		Changeset concurrent = getChangeset();
+		concurrent.clear(vf.createIRI("urn:ctx"));
+		observer.prepend(concurrent);
+
+		assertThrows(SailConflictException.class, observer::prepare);
+	}
+
 	@Test
 	public void testConcurrency() {
 
@@ -0,0 +1,246 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.extensiblestore;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.order.StatementOrder;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.sail.InterruptedSailException;
+import org.eclipse.rdf4j.sail.SailException;
+import org.eclipse.rdf4j.sail.extensiblestore.valuefactory.ExtensibleStatement;
+
+/**
+ * Writes added and removed statements to the underlying data structure in batches on a background thread, so that the
+ * writing thread can continue while a batch is being written. At most a fixed number of batches are queued or being
+ * written at the same time, further writes block until a batch has been written.
+ * <p>
+ * Batches are written one at a time and in the order in which they were submitted, so the underlying data structure
+ * does not need to be thread safe and a statement that is added and removed again ends up removed. All batches are
+ * awaited before reading from the underlying data structure or flushing it, so that reads see all previous writes and
+ * any error while writing a batch is thrown from the read or flush.
+ *
+ * @see ExtensibleStore#setMaxInFlightWriteBatches(int)
+ */
+class AsyncWriteDataStructure implements DataStructureInterface {
+
+	private static final AtomicInteger threadCounter = new AtomicInteger();
+
+	private final DataStructureInterface delegate;
+	private final int batchSize;
+	private final Semaphore inFlight;
+	private final ExecutorService executor;
+
+	private final List<Future<?>> pending = new ArrayList<>();
+	private List<ExtensibleStatement> batch;
+	private boolean batchIsAdded;
+
+	AsyncWriteDataStructure(DataStructureInterface delegate, int batchSize, int maxInFlightBatches) {
+		this.delegate = delegate;
+		this.batchSize = batchSize;
+		this.inFlight = new Semaphore(maxInFlightBatches);
+		this.executor = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "rdf4j-extensiblestore-writer-" + threadCounter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.batch = new ArrayList<>(batchSize);
+	}
+
+	@Override
+	public synchronized void addStatement(ExtensibleStatement statement) {
+		add(statement, true);
+	}
+
+	@Override
+	public synchronized void removeStatement(ExtensibleStatement statement) {
+		add(statement, false);
+	}
+
+	@Override
+	public synchronized void addStatement(Collection<ExtensibleStatement> statements) {
+		for (ExtensibleStatement statement : statements) {
+			add(statement, true);
+		}
+	}
+
+	@Override
+	public synchronized void removeStatement(Collection<ExtensibleStatement> statements) {
+		for (ExtensibleStatement statement : statements) {
+			add(statement, false);
+		}
+	}
+
+	private void add(ExtensibleStatement statement, boolean added) {
+		if (!batch.isEmpty() && batchIsAdded != added) {
+			submitBatch();
+		}
+		batchIsAdded = added;
+		batch.add(statement);
+		if (batch.size() >= batchSize) {
+			submitBatch();
+		}
+	}
+
+	private void submitBatch() {
+		if (batch.isEmpty()) {
+			return;
+		}
+
+		List<ExtensibleStatement> statements = batch;
+		boolean added = batchIsAdded;
+		batch = new ArrayList<>(batchSize);
+
+		try {
+			inFlight.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedSailException(e);
+		}
+		try {
+			pending.add(executor.submit(() -> {
+				try {
+					if (added) {
+						delegate.addStatement(statements);
+					} else {
+						delegate.removeStatement(statements);
+					}
+				} finally {
+					inFlight.release();
+				}
+			}));
+		} catch (RuntimeException e) {
+			inFlight.release();
+			throw e;
+		}
+	}
+
+	/**
+	 * Writes the current batch and waits until all batches have been written.
+	 */
+	synchronized void flushPendingWrites() {
+		submitBatch();
+		awaitPendingBatches();
+	}
+
+	private void awaitPendingBatches() {
+		Throwable failure = null;
+		try {
+			for (Future<?> future : pending) {
+				try {
+					future.get();
+				} catch (ExecutionException e) {
+					if (failure == null) {
+						failure = e.getCause();
+					}
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedSailException(e);
+		} finally {
+			pending.removeIf(Future::isDone);
+		}
+
+		if (failure instanceof SailException) {
+			throw (SailException) failure;
+		} else if (failure instanceof Error) {
+			throw (Error) failure;
+		} else if (failure != null) {
+			throw new SailException("Failed to write statements", failure);
+		}
+	}
+
+	@Override
+	public CloseableIteration<? extends ExtensibleStatement> getStatements(Resource subject, IRI predicate,
+			Value object, boolean inferred, Resource... contexts) {
+		flushPendingWrites();
+		return delegate.getStatements(subject, predicate, object, inferred, contexts);
+	}
+
+	@Override
+	public CloseableIteration<? extends ExtensibleStatement> getStatements(StatementOrder statementOrder,
+			Resource subject, IRI predicate, Value object, boolean inferred, Resource... contexts) {
+		flushPendingWrites();
+		return delegate.getStatements(statementOrder, subject, predicate, object, inferred, contexts);
+	}
+
+	@Override
+	public void flushForReading() {
+		flushPendingWrites();
+		delegate.flushForReading();
+	}
+
+	@Override
+	public void init() {
+		delegate.init();
+	}
+
+	@Override
+	public void clear(boolean inferred, Resource[] contexts) {
+		flushPendingWrites();
+		delegate.clear(inferred, contexts);
+	}
+
+	@Override
+	public void flushForCommit() {
+		flushPendingWrites();
+		delegate.flushForCommit();
+	}
+
+	@Override
+	public boolean removeStatementsByQuery(Resource subj, IRI pred, Value obj, boolean inferred,
+			Resource[] contexts) {
+		flushPendingWrites();
+		return delegate.removeStatementsByQuery(subj, pred, obj, inferred, contexts);
+	}
+
+	@Override
+	public long getEstimatedSize() {
+		flushPendingWrites();
+		return delegate.getEstimatedSize();
+	}
+
+	@Override
+	public Set<StatementOrder> getSupportedOrders(Resource subj, IRI pred, Value obj, boolean inferred,
+			Resource... contexts) {
+		return delegate.getSupportedOrders(subj, pred, obj, inferred, contexts);
+	}
+
+	@Override
+	public Comparator<Value> getComparator() {
+		return delegate.getComparator();
+	}
+
+	/**
+	 * Writes all remaining statements and stops the background thread.
+	 */
+	void shutDown() {
+		try {
+			flushPendingWrites();
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
@@ -10,6 +10,14 @@
  *******************************************************************************/
 package org.eclipse.rdf4j.sail.extensiblestore;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
 import org.eclipse.rdf4j.common.iteration.CloseableIteration;
 import org.eclipse.rdf4j.model.ValueFactory;
 import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
@@ -20,6 +28,7 @@ import org.eclipse.rdf4j.sail.base.SailStore;
 import org.eclipse.rdf4j.sail.extensiblestore.evaluationstatistics.DynamicStatistics;
 import org.eclipse.rdf4j.sail.extensiblestore.evaluationstatistics.EvaluationStatisticsEnum;
 import org.eclipse.rdf4j.sail.extensiblestore.evaluationstatistics.EvaluationStatisticsWrapper;
+import org.eclipse.rdf4j.sail.extensiblestore.evaluationstatistics.ExtensibleDynamicEvaluationStatistics;
 import org.eclipse.rdf4j.sail.extensiblestore.evaluationstatistics.ExtensibleEvaluationStatistics;
 import org.eclipse.rdf4j.sail.extensiblestore.valuefactory.ExtensibleStatement;
 import org.eclipse.rdf4j.sail.extensiblestore.valuefactory.ExtensibleStatementHelper;
@@ -37,7 +46,8 @@ public class ExtensibleSailStore implements SailStore {
 	private final ExtensibleSailSource sailSource;
 	private final ExtensibleSailSource sailSourceInferred;
 	private final EvaluationStatisticsEnum evaluationStatisticsEnum;
-	private ExtensibleEvaluationStatistics evaluationStatistics;
+	private volatile ExtensibleEvaluationStatistics evaluationStatistics;
+	private final File evaluationStatisticsFile;
 	private Thread evaluationStatisticsMaintainerThread;
 	private final DataStructureInterface dataStructure;
 	private volatile boolean closed;
@@ -45,11 +55,24 @@ public class ExtensibleSailStore implements SailStore {
 	public ExtensibleSailStore(DataStructureInterface dataStructure,
 			NamespaceStoreInterface namespaceStore, EvaluationStatisticsEnum evaluationStatisticsEnum,
 			ExtensibleStatementHelper extensibleStatementHelper) {
+		this(dataStructure, namespaceStore, evaluationStatisticsEnum, extensibleStatementHelper, null);
+	}
+
+	/**
+	 * @param evaluationStatisticsFile the file to save dynamic evaluation statistics to when the store is closed and
+	 *                                 periodically while it is open, and to load them from when the store is created,
+	 *                                 so that they do not need to be recalculated from all statements. May be null.
+	 */
+	public ExtensibleSailStore(DataStructureInterface dataStructure,
+			NamespaceStoreInterface namespaceStore, EvaluationStatisticsEnum evaluationStatisticsEnum,
+			ExtensibleStatementHelper extensibleStatementHelper, File evaluationStatisticsFile) {
 
 		this.evaluationStatisticsEnum = evaluationStatisticsEnum;
 		this.evaluationStatistics = evaluationStatisticsEnum.getInstance(this);
+		this.evaluationStatisticsFile = evaluationStatisticsFile;
 
 		if (evaluationStatistics instanceof DynamicStatistics) {
+			loadEvaluationStatistics();
 			dataStructure = new EvaluationStatisticsWrapper(dataStructure, (DynamicStatistics) evaluationStatistics);
 			startEvaluationStatisticsMaintainerThread();
 		}
@@ -61,7 +84,7 @@ public class ExtensibleSailStore implements SailStore {
 	}
 
 	synchronized private void startEvaluationStatisticsMaintainerThread() {
-		if (!closed) {
+		if (closed) {
 			return;
 		}
 		evaluationStatisticsMaintainerThread = new Thread(new EvaluationStatisticsThread());
@@ -75,8 +98,53 @@ public class ExtensibleSailStore implements SailStore {
 		if (evaluationStatisticsMaintainerThread != null) {
 			evaluationStatisticsMaintainerThread.interrupt();
 		}
-		sailSource.close();
-		sailSourceInferred.close();
+		try {
+			saveEvaluationStatistics();
+		} finally {
+			sailSource.close();
+			sailSourceInferred.close();
+		}
+	}
+
+	private void loadEvaluationStatistics() {
+		if (evaluationStatisticsFile == null || !evaluationStatisticsFile.exists()
+				|| !(evaluationStatistics instanceof ExtensibleDynamicEvaluationStatistics)) {
+			return;
+		}
+
+		try (InputStream in = Files.newInputStream(evaluationStatisticsFile.toPath())) {
+			((ExtensibleDynamicEvaluationStatistics) evaluationStatistics).merge(in);
+			logger.debug("Loaded evaluation statistics from {}", evaluationStatisticsFile);
+		} catch (IOException e) {
+			logger.warn("Could not load evaluation statistics from {}, they will be recalculated",
+					evaluationStatisticsFile, e);
+		}
+	}
+
+	synchronized private void saveEvaluationStatistics() {
+		ExtensibleEvaluationStatistics evaluationStatistics = this.evaluationStatistics;
+		if (evaluationStatisticsFile == null
+				|| !(evaluationStatistics instanceof ExtensibleDynamicEvaluationStatistics)) {
+			return;
+		}
+		ExtensibleDynamicEvaluationStatistics statistics = (ExtensibleDynamicEvaluationStatistics) evaluationStatistics;
+		if (!statistics.hasUnsavedChanges() && evaluationStatisticsFile.exists()) {
+			return;
+		}
+
+		// write to a temporary file first, so that a crash while writing does not leave a corrupt file behind
+		Path file = evaluationStatisticsFile.toPath();
+		Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+		try {
+			Files.createDirectories(file.toAbsolutePath().getParent());
+			try (OutputStream out = Files.newOutputStream(tempFile)) {
+				statistics.save(out);
+			}
+			Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			logger.debug("Saved evaluation statistics to {}", evaluationStatisticsFile);
+		} catch (IOException e) {
+			logger.warn("Could not save evaluation statistics to {}", evaluationStatisticsFile, e);
+		}
 	}
 
 	@Override
@@ -170,6 +238,8 @@ public class ExtensibleSailStore implements SailStore {
 
 				}
 
+				saveEvaluationStatistics();
+
 			} catch (Exception e) {
 				if (!(closed || Thread.interrupted())) {
 					throw new RuntimeException(e);
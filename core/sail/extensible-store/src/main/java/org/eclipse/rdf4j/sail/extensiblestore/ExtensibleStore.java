@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.eclipse.rdf4j.sail.extensiblestore;
 
+import java.io.File;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
@@ -58,6 +59,8 @@ public abstract class ExtensibleStore<T extends DataStructureInterface, N extend
 
 	private static final Logger logger = LoggerFactory.getLogger(ExtensibleStore.class);
 
+	private static final String EVALUATION_STATISTICS_FILE = "evaluationstatistics.hll";
+
 	protected ExtensibleSailStore sailStore;
 
 	protected N namespaceStore;
@@ -66,6 +69,10 @@ public abstract class ExtensibleStore<T extends DataStructureInterface, N extend
 
 	private final Cache cache;
 
+	private int writeBatchSize = 1024;
+	private int maxInFlightWriteBatches;
+	private AsyncWriteDataStructure asyncWriteDataStructure;
+
 	private EvaluationStrategyFactory evalStratFactory;
 	private SPARQLServiceResolver dependentServiceResolver;
 	private FederatedServiceResolver serviceResolver;
@@ -87,9 +94,19 @@ public abstract class ExtensibleStore<T extends DataStructureInterface, N extend
 		if (sailStore != null) {
 			sailStore.close();
 		}
+		if (asyncWriteDataStructure != null) {
+			asyncWriteDataStructure.shutDown();
+			asyncWriteDataStructure = null;
+		}
 
 		DataStructureInterface dataStructure = Objects.requireNonNull(this.dataStructure);
 
+		if (maxInFlightWriteBatches > 0) {
+			asyncWriteDataStructure = new AsyncWriteDataStructure(dataStructure, writeBatchSize,
+					maxInFlightWriteBatches);
+			dataStructure = asyncWriteDataStructure;
+		}
+
 		switch (cache) {
 		case EAGER:
 			dataStructure = new EagerReadCache(dataStructure);
@@ -103,8 +120,13 @@ public abstract class ExtensibleStore<T extends DataStructureInterface, N extend
 			throw new IllegalStateException();
 		}
 
+		// dynamic evaluation statistics are kept in the data dir when there is one, so that they are available
+		// immediately after a restart instead of being recalculated from all statements
+		File evaluationStatisticsFile = getDataDir() != null ? new File(getDataDir(), EVALUATION_STATISTICS_FILE)
+				: null;
+
 		sailStore = new ExtensibleSailStore(dataStructure, Objects.requireNonNull(namespaceStore),
-				getEvaluationStatisticsType(), getExtensibleStatementHelper());
+				getEvaluationStatisticsType(), getExtensibleStatementHelper(), evaluationStatisticsFile);
 
 		sailStore.init();
 		namespaceStore.init();
@@ -155,12 +177,58 @@ public abstract class ExtensibleStore<T extends DataStructureInterface, N extend
 
 	@Override
 	synchronized protected void shutDownInternal() throws SailException {
-		sailStore.close();
+		try {
+			sailStore.close();
+		} finally {
+			if (asyncWriteDataStructure != null) {
+				asyncWriteDataStructure.shutDown();
+				asyncWriteDataStructure = null;
+			}
+		}
 		sailStore = null;
 		dataStructure = null;
 		namespaceStore = null;
 	}
 
+	/**
+	 * Sets the number of added or removed statements which are written to the {@link DataStructureInterface} at once
+	 * when {@link #setMaxInFlightWriteBatches(int) writing in the background} is enabled. Defaults to 1024.
+	 *
+	 * @param writeBatchSize the number of statements per batch, must be positive
+	 */
+	public void setWriteBatchSize(int writeBatchSize) {
+		if (writeBatchSize <= 0) {
+			throw new IllegalArgumentException("Write batch size must be positive: " + writeBatchSize);
+		}
+		this.writeBatchSize = writeBatchSize;
+	}
+
+	public int getWriteBatchSize() {
+		return writeBatchSize;
+	}
+
+	/**
+	 * Sets the number of batches of added or removed statements which may be queued for writing to the
+	 * {@link DataStructureInterface} in the background. Batches are written one at a time, in order, by a single
+	 * background thread. Writing a statement blocks while this number of batches is queued or being written. Reading
+	 * from or flushing the data structure waits for all batches to be written. Defaults to 0, which writes all
+	 * statements on the calling thread. Takes effect when the store is initialized.
+	 *
+	 * @param maxInFlightWriteBatches the maximum number of batches queued or being written, or 0 to disable writing in
+	 *                                the background
+	 */
+	public void setMaxInFlightWriteBatches(int maxInFlightWriteBatches) {
+		if (maxInFlightWriteBatches < 0) {
+			throw new IllegalArgumentException(
+					"Max in flight write batches must not be negative: " + maxInFlightWriteBatches);
+		}
+		this.maxInFlightWriteBatches = maxInFlightWriteBatches;
+	}
+
+	public int getMaxInFlightWriteBatches() {
+		return maxInFlightWriteBatches;
+	}
+
 	// override this method to change which evaluation statistics to use
 	public EvaluationStatisticsEnum getEvaluationStatisticsType() {
 		return EvaluationStatisticsEnum.dynamic;
@@ -10,8 +10,17 @@
  *******************************************************************************/
 package org.eclipse.rdf4j.sail.extensiblestore.evaluationstatistics;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -63,12 +72,19 @@ import net.agkn.hll.HLL;
  * cardinalities this class needs to be monitored by calling the staleness(...) method. This will automatically be done
  * every 60 seconds by the ExtensibleSailStore.
  * </p>
+ *
+ * <p>
+ * The sets can be saved with {@link #save(OutputStream)} and merged into the sets of another instance with
+ * {@link #merge(InputStream)}, so that the statistics do not need to be recalculated from all statements when a store
+ * is restarted.
+ * </p>
  */
 @Experimental
 public class ExtensibleDynamicEvaluationStatistics extends ExtensibleEvaluationStatistics implements DynamicStatistics {
 	private static final Logger logger = LoggerFactory.getLogger(ExtensibleDynamicEvaluationStatistics.class);
 	private static final int QUEUE_LIMIT = 128;
 	private static final int SINGLE_DIMENSION_INDEX_SIZE = 1024;
+	private static final int SERIALIZATION_VERSION = 1;
 
 	ConcurrentLinkedQueue<StatementQueueItem> queue = new ConcurrentLinkedQueue<>();
 
@@ -101,6 +117,7 @@ public class ExtensibleDynamicEvaluationStatistics extends ExtensibleEvaluationS
 	private final HLL[][] subjectPredicateIndex_removed = new HLL[64][64];
 	private final HLL[][] predicateObjectIndex_removed = new HLL[64][64];
 	volatile private Thread queueConsumingThread;
+	private boolean changedSinceSave;
 
 	public ExtensibleDynamicEvaluationStatistics(ExtensibleSailStore extensibleSailStore) {
 		super(extensibleSailStore);
@@ -280,26 +297,9 @@ public class ExtensibleDynamicEvaluationStatistics extends ExtensibleEvaluationS
 					try {
 						while (!queue.isEmpty()) {
 							StatementQueueItem poll = queue.poll();
-							queueSize.decrementAndGet();
-							Statement statement = poll.statement;
-							long statementHash = HASH_FUNCTION
-									.hashString(statement.toString(), StandardCharsets.UTF_8)
-									.asLong();
-
-							if (poll.type == StatementQueueItem.Type.added) {
-
-								handleStatement(statement, statementHash, size, subjectIndex, predicateIndex,
-										objectIndex,
-										subjectPredicateIndex, predicateObjectIndex, defaultContext, contextIndex);
-
-							} else { // removed
-
-								assert poll.type == StatementQueueItem.Type.removed;
-
-								handleStatement(statement, statementHash, size_removed, subjectIndex_removed,
-										predicateIndex_removed, objectIndex_removed, subjectPredicateIndex_removed,
-										predicateObjectIndex_removed, defaultContext_removed, contextIndex_removed);
-
+							if (poll != null) {
+								queueSize.decrementAndGet();
+								handleQueueItem(poll);
 							}
 
 							if (queue.isEmpty()) {
@@ -323,12 +323,36 @@ public class ExtensibleDynamicEvaluationStatistics extends ExtensibleEvaluationS
 		}
 	}
 
+	private void handleQueueItem(StatementQueueItem poll) {
+		Statement statement = poll.statement;
+		long statementHash = HASH_FUNCTION
+				.hashString(statement.toString(), StandardCharsets.UTF_8)
+				.asLong();
+
+		if (poll.type == StatementQueueItem.Type.added) {
+
+			handleStatement(statement, statementHash, size, subjectIndex, predicateIndex,
+					objectIndex,
+					subjectPredicateIndex, predicateObjectIndex, defaultContext, contextIndex);
+
+		} else { // removed
+
+			assert poll.type == StatementQueueItem.Type.removed;
+
+			handleStatement(statement, statementHash, size_removed, subjectIndex_removed,
+					predicateIndex_removed, objectIndex_removed, subjectPredicateIndex_removed,
+					predicateObjectIndex_removed, defaultContext_removed, contextIndex_removed);
+
+		}
+	}
+
 	private void handleStatement(Statement statement, long statementHash, HLL size,
 			Map<Integer, HLL> subjectIndex, Map<Integer, HLL> predicateIndex,
 			Map<Integer, HLL> objectIndex, HLL[][] subjectPredicateIndex,
 			HLL[][] predicateObjectIndex, HLL defaultContext,
 			Map<Integer, HLL> contextIndex) {
 		synchronized (monitor) {
+			changedSinceSave = true;
 			size.addRaw(statementHash);
 
 			int subjectHash = statement.getSubject().hashCode();
@@ -408,4 +432,135 @@ public class ExtensibleDynamicEvaluationStatistics extends ExtensibleEvaluationS
 			}
 		}
 	}
+
+	/**
+	 * @return true if statements were added or removed since the statistics were last saved or merged
+	 */
+	public boolean hasUnsavedChanges() {
+		synchronized (monitor) {
+			return changedSinceSave || !queue.isEmpty();
+		}
+	}
+
+	/**
+	 * Writes all sets to the given stream after processing any queued statements. The stream is not closed.
+	 */
+	public void save(OutputStream outputStream) throws IOException {
+		StatementQueueItem poll;
+		while ((poll = queue.poll()) != null) {
+			queueSize.decrementAndGet();
+			handleQueueItem(poll);
+		}
+
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(outputStream));
+		synchronized (monitor) {
+			out.writeInt(SERIALIZATION_VERSION);
+			for (HLL hll : new HLL[] { size, size_removed, defaultContext, defaultContext_removed }) {
+				writeHll(out, hll);
+			}
+			for (Map<Integer, HLL> index : List.of(subjectIndex, predicateIndex, objectIndex, contextIndex,
+					subjectIndex_removed, predicateIndex_removed, objectIndex_removed, contextIndex_removed)) {
+				out.writeInt(index.size());
+				for (Map.Entry<Integer, HLL> entry : index.entrySet()) {
+					out.writeInt(entry.getKey());
+					writeHll(out, entry.getValue());
+				}
+			}
+			for (HLL[][] index : List.of(subjectPredicateIndex, predicateObjectIndex, subjectPredicateIndex_removed,
+					predicateObjectIndex_removed)) {
+				for (HLL[] hlls : index) {
+					for (HLL hll : hlls) {
+						writeHll(out, hll);
+					}
+				}
+			}
+			changedSinceSave = false;
+		}
+		out.flush();
+	}
+
+	/**
+	 * Reads sets written by {@link #save(OutputStream)} and merges them into the sets of this instance. The stream is
+	 * not closed.
+	 *
+	 * @throws IOException if the stream could not be read or was not written by a compatible version
+	 */
+	public void merge(InputStream inputStream) throws IOException {
+		DataInputStream in = new DataInputStream(new BufferedInputStream(inputStream));
+		int version = in.readInt();
+		if (version != SERIALIZATION_VERSION) {
+			throw new IOException("Unsupported evaluation statistics version: " + version);
+		}
+
+		// read everything before merging, so that a truncated stream leaves the statistics unchanged
+		HLL[] sizes = new HLL[4];
+		for (int i = 0; i < sizes.length; i++) {
+			sizes[i] = readHll(in);
+		}
+		List<Map<Integer, HLL>> indexes = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			int count = in.readInt();
+			Map<Integer, HLL> index = new HashMap<>();
+			for (int j = 0; j < count; j++) {
+				index.put(in.readInt(), readHll(in));
+			}
+			indexes.add(index);
+		}
+		List<HLL[][]> twoDimensionalIndexes = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			HLL[][] index = new HLL[64][64];
+			for (HLL[] hlls : index) {
+				for (int j = 0; j < hlls.length; j++) {
+					hlls[j] = readHll(in);
+				}
+			}
+			twoDimensionalIndexes.add(index);
+		}
+
+		synchronized (monitor) {
+			size.union(sizes[0]);
+			size_removed.union(sizes[1]);
+			defaultContext.union(sizes[2]);
+			defaultContext_removed.union(sizes[3]);
+
+			List<Map<Integer, HLL>> targetIndexes = List.of(subjectIndex, predicateIndex, objectIndex, contextIndex,
+					subjectIndex_removed, predicateIndex_removed, objectIndex_removed, contextIndex_removed);
+			for (int i = 0; i < targetIndexes.size(); i++) {
+				Map<Integer, HLL> target = targetIndexes.get(i);
+				indexes.get(i).forEach((key, hll) -> target.computeIfAbsent(key, k -> getHLL()).union(hll));
+			}
+
+			List<HLL[][]> targetTwoDimensionalIndexes = List.of(subjectPredicateIndex, predicateObjectIndex,
+					subjectPredicateIndex_removed, predicateObjectIndex_removed);
+			for (int i = 0; i < targetTwoDimensionalIndexes.size(); i++) {
+				HLL[][] target = targetTwoDimensionalIndexes.get(i);
+				HLL[][] source = twoDimensionalIndexes.get(i);
+				for (int j = 0; j < target.length; j++) {
+					for (int k = 0; k < target[j].length; k++) {
+						target[j][k].union(source[j][k]);
+					}
+				}
+			}
+		}
+	}
+
+	private static void writeHll(DataOutputStream out, HLL hll) throws IOException {
+		byte[] bytes = hll.toBytes();
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static HLL readHll(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0) {
+			throw new IOException("Corrupt evaluation statistics");
+		}
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		try {
+			return HLL.fromBytes(bytes);
+		} catch (RuntimeException e) {
+			throw new IOException("Corrupt evaluation statistics", e);
+		}
+	}
 }
@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.extensiblestore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.Iterations;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.model.vocabulary.RDFS;
+import org.eclipse.rdf4j.sail.SailException;
+import org.eclipse.rdf4j.sail.extensiblestore.valuefactory.ExtensibleStatement;
+import org.eclipse.rdf4j.sail.extensiblestore.valuefactory.ExtensibleStatementHelper;
+import org.junit.jupiter.api.Test;
+
+public class AsyncWriteDataStructureTest {
+
+	private static final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	@Test
+	public void testAllBatchesAreWrittenBeforeReading() {
+		SlowDataStructure delegate = new SlowDataStructure();
+		AsyncWriteDataStructure dataStructure = new AsyncWriteDataStructure(delegate, 10, 2);
+		try {
+			for (int i = 0; i < 95; i++) {
+				dataStructure.addStatement(statement(i));
+			}
+
+			assertThat(size(dataStructure)).isEqualTo(95);
+			assertThat(delegate.batches).hasValue(10);
+		} finally {
+			dataStructure.shutDown();
+		}
+	}
+
+	@Test
+	public void testRemovalsAreWrittenAfterAdditions() {
+		SlowDataStructure delegate = new SlowDataStructure();
+		AsyncWriteDataStructure dataStructure = new AsyncWriteDataStructure(delegate, 3, 4);
+		try {
+			for (int i = 0; i < 10; i++) {
+				dataStructure.addStatement(statement(i));
+			}
+			for (int i = 0; i < 10; i += 2) {
+				dataStructure.removeStatement(statement(i));
+			}
+			dataStructure.addStatement(statement(0));
+
+			dataStructure.flushForCommit();
+			assertThat(delegate.statements).containsExactlyInAnyOrder(statement(0), statement(1), statement(3),
+					statement(5), statement(7), statement(9));
+		} finally {
+			dataStructure.shutDown();
+		}
+	}
+
+	@Test
+	public void testBatchesAreWrittenOneAtATimeInOrder() {
+		SlowDataStructure delegate = new SlowDataStructure();
+		AsyncWriteDataStructure dataStructure = new AsyncWriteDataStructure(delegate, 2, 8);
+		try {
+			for (int i = 0; i < 40; i++) {
+				dataStructure.addStatement(statement(i));
+				if (i % 3 == 0) {
+					dataStructure.removeStatement(statement(i));
+				}
+			}
+
+			dataStructure.flushForCommit();
+			assertThat(delegate.maxConcurrentWrites).hasValue(1);
+			assertThat(delegate.statements).hasSize(26).doesNotContain(statement(0), statement(3), statement(39));
+		} finally {
+			dataStructure.shutDown();
+		}
+	}
+
+	@Test
+	public void testFailedBatchIsThrownOnFlush() {
+		NaiveHashSetDataStructure delegate = new NaiveHashSetDataStructure() {
+			@Override
+			public void addStatement(Collection<ExtensibleStatement> statements) {
+				throw new SailException("write failed");
+			}
+		};
+		AsyncWriteDataStructure dataStructure = new AsyncWriteDataStructure(delegate, 2, 1);
+		try {
+			dataStructure.addStatement(statement(0));
+			dataStructure.addStatement(statement(1));
+
+			assertThatThrownBy(dataStructure::flushForCommit).isInstanceOf(SailException.class)
+					.hasMessage("write failed");
+		} finally {
+			dataStructure.shutDown();
+		}
+	}
+
+	private static long size(DataStructureInterface dataStructure) {
+		try (CloseableIteration<? extends ExtensibleStatement> statements = dataStructure.getStatements(null, null,
+				null, false)) {
+			return Iterations.asList(statements).size();
+		}
+	}
+
+	private static ExtensibleStatement statement(int i) {
+		return ExtensibleStatementHelper.getDefaultImpl()
+				.fromStatement(vf.createStatement(vf.createIRI("http://example.com/" + i), RDF.TYPE, RDFS.RESOURCE),
+						false);
+	}
+
+	/**
+	 * Simulates a data structure with a high write latency, such as a remote database, which is not thread safe.
+	 */
+	private static class SlowDataStructure extends NaiveHashSetDataStructure {
+
+		private final AtomicInteger batches = new AtomicInteger();
+		private final AtomicInteger concurrentWrites = new AtomicInteger();
+		private final AtomicInteger maxConcurrentWrites = new AtomicInteger();
+
+		@Override
+		public void addStatement(Collection<ExtensibleStatement> statements) {
+			write(statements, true);
+		}
+
+		@Override
+		public void removeStatement(Collection<ExtensibleStatement> statements) {
+			write(statements, false);
+		}
+
+		private void write(Collection<ExtensibleStatement> statements, boolean added) {
+			batches.incrementAndGet();
+			maxConcurrentWrites.accumulateAndGet(concurrentWrites.incrementAndGet(), Math::max);
+			try {
+				Thread.sleep(5);
+				if (added) {
+					this.statements.addAll(statements);
+				} else {
+					this.statements.removeAll(statements);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new SailException(e);
+			} finally {
+				concurrentWrites.decrementAndGet();
+			}
+		}
+	}
+}
@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.extensiblestore.evaluationstatistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.model.vocabulary.RDFS;
+import org.eclipse.rdf4j.query.algebra.StatementPattern;
+import org.eclipse.rdf4j.query.algebra.Var;
+import org.eclipse.rdf4j.sail.SailConnection;
+import org.eclipse.rdf4j.sail.extensiblestore.ExtensibleStoreImplForTests;
+import org.eclipse.rdf4j.sail.extensiblestore.valuefactory.ExtensibleStatementHelper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PersistentEvaluationStatisticsTest {
+
+	private static final SimpleValueFactory vf = SimpleValueFactory.getInstance();
+	private static final ExtensibleStatementHelper ex = ExtensibleStatementHelper.getDefaultImpl();
+	private static final IRI PERSON = vf.createIRI("http://example.com/Person");
+
+	@Test
+	public void testSaveAndMerge() throws IOException {
+		ExtensibleDynamicEvaluationStatistics statistics = new ExtensibleDynamicEvaluationStatistics(null);
+		for (int i = 0; i < 1000; i++) {
+			statistics.add(ex.fromStatement(vf.createStatement(vf.createBNode(), RDF.TYPE, PERSON), false));
+			statistics.add(ex.fromStatement(vf.createStatement(vf.createBNode(), RDFS.LABEL, vf.createLiteral(i)),
+					false));
+		}
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		statistics.save(out);
+		assertThat(statistics.hasUnsavedChanges()).isFalse();
+
+		ExtensibleDynamicEvaluationStatistics loaded = new ExtensibleDynamicEvaluationStatistics(null);
+		loaded.merge(new ByteArrayInputStream(out.toByteArray()));
+
+		assertThat(loaded.getCardinality(typePerson())).isEqualTo(statistics.getCardinality(typePerson()))
+				.isBetween(950.0, 1050.0);
+		assertThat(loaded.staleness(2000)).isLessThan(0.1);
+		assertThat(loaded.hasUnsavedChanges()).isFalse();
+	}
+
+	@Test
+	public void testTruncatedStreamIsRejected() throws IOException {
+		ExtensibleDynamicEvaluationStatistics statistics = new ExtensibleDynamicEvaluationStatistics(null);
+		statistics.add(ex.fromStatement(vf.createStatement(vf.createBNode(), RDF.TYPE, PERSON), false));
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		statistics.save(out);
+		byte[] truncated = Arrays.copyOf(out.toByteArray(), out.size() / 2);
+
+		ExtensibleDynamicEvaluationStatistics loaded = new ExtensibleDynamicEvaluationStatistics(null);
+		assertThatThrownBy(() -> loaded.merge(new ByteArrayInputStream(truncated))).isInstanceOf(IOException.class);
+		assertThat(loaded.getCardinality(typePerson())).isZero();
+	}
+
+	@Test
+	public void testStatisticsAreAvailableAfterRestart(@TempDir File dataDir) {
+		ExtensibleStoreImplForTests store = new ExtensibleStoreImplForTests();
+		store.setDataDir(dataDir);
+		store.init();
+		try (SailConnection connection = store.getConnection()) {
+			connection.begin();
+			for (int i = 0; i < 1000; i++) {
+				connection.addStatement(vf.createBNode(), RDF.TYPE, PERSON);
+			}
+			connection.commit();
+		}
+		store.shutDown();
+
+		// the data structure of the test store is not persistent, only the statistics survive the restart
+		ExtensibleStoreImplForTests restarted = new ExtensibleStoreImplForTests();
+		restarted.setDataDir(dataDir);
+		restarted.init();
+		try {
+			assertThat(restarted.getEvalStats().getCardinality(typePerson())).isBetween(950.0, 1050.0);
+		} finally {
+			restarted.shutDown();
+		}
+	}
+
+	private static StatementPattern typePerson() {
+		// a new pattern every time, since the calculated cardinality is cached in the pattern
+		return new StatementPattern(Var.of("a", null), Var.of("b", RDF.TYPE), Var.of("c", PERSON));
+	}
+}
@@ -13,6 +13,8 @@ package org.eclipse.rdf4j.sail.inferencer.fc;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import org.eclipse.rdf4j.common.iteration.CloseableIteration;
 import org.eclipse.rdf4j.model.IRI;
@@ -63,6 +65,8 @@ public class CustomGraphQueryInferencer extends NotifyingSailWrapper {
 
 	private boolean hasWatchValues;
 
+	private boolean parallelEvaluation;
+
 	public CustomGraphQueryInferencer() {
 		super();
 	}
@@ -188,6 +192,32 @@ public class CustomGraphQueryInferencer extends NotifyingSailWrapper {
 		return Collections.unmodifiableCollection(watchObjects);
 	}
 
+	/**
+	 * Whether the rule query and the matcher query are evaluated concurrently. Both queries are read-only and are
+	 * evaluated on the same connection, hence this requires a base Sail which supports concurrent reads on a single
+	 * connection, such as the MemoryStore or the NativeStore.
+	 * <p>
+	 * Note that this only overlaps the evaluation of the two queries, each query is still evaluated as a whole on a
+	 * single thread. The rule is neither partitioned nor evaluated semi-naively, i.e. all statements are matched again
+	 * on every update.
+	 *
+	 * @return true if the queries are evaluated concurrently
+	 */
+	public boolean isParallelEvaluation() {
+		return parallelEvaluation;
+	}
+
+	/**
+	 * Set whether the rule query and the matcher query are evaluated concurrently, on the common {@link ForkJoinPool}.
+	 * Defaults to false.
+	 *
+	 * @param parallelEvaluation true to evaluate the queries concurrently
+	 * @see #isParallelEvaluation()
+	 */
+	public void setParallelEvaluation(boolean parallelEvaluation) {
+		this.parallelEvaluation = parallelEvaluation;
+	}
+
 	private class Connection extends InferencerConnectionWrapper implements SailConnectionListener {
 
 		/**
@@ -258,8 +288,18 @@ public class CustomGraphQueryInferencer extends NotifyingSailWrapper {
 
 		private void buildDeltaSets(Collection<Statement> forRemoval, Collection<Statement> forAddition)
 				throws SailException, RDFHandlerException, QueryEvaluationException {
-			evaluateIntoStatements(customMatcher, forRemoval);
-			evaluateIntoStatements(customQuery, forAddition);
+			if (parallelEvaluation) {
+				ForkJoinTask<?> matcherTask = ForkJoinPool.commonPool()
+						.submit(() -> evaluateIntoStatements(customMatcher, forRemoval));
+				try {
+					evaluateIntoStatements(customQuery, forAddition);
+				} finally {
+					matcherTask.join();
+				}
+			} else {
+				evaluateIntoStatements(customMatcher, forRemoval);
+				evaluateIntoStatements(customQuery, forAddition);
+			}
 			logger.debug("existing virtual properties: {}", forRemoval.size());
 			logger.debug("new virtual properties: {}", forAddition.size());
 			Collection<Statement> inCommon = new HashSet<>(forRemoval);
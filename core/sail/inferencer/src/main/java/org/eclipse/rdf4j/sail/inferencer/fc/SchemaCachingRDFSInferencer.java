@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -64,6 +65,8 @@ public class SchemaCachingRDFSInferencer extends NotifyingSailWrapper {
 	private static final Logger logger = LoggerFactory.getLogger(SchemaCachingRDFSInferencer.class);
 	private static final Resource[] DEFAULT_CONTEXT = { null };
 
+	public static final int DEFAULT_INCREMENTAL_REMOVAL_LIMIT = 100_000;
+
 	// An optional predifinedSchema that the user has provided
 	Repository predefinedSchema;
 
@@ -106,6 +109,12 @@ public class SchemaCachingRDFSInferencer extends NotifyingSailWrapper {
 	private boolean addInferredStatementsToDefaultContext = false;
 	private volatile boolean unmodifiable;
 
+	// Maximum number of removed statements per flush for which the inferred statements are maintained incrementally
+	private int incrementalRemovalLimit = DEFAULT_INCREMENTAL_REMOVAL_LIMIT;
+
+	// Number of partitions that are forward chained concurrently when inferring from all explicit statements
+	private int inferencingParallelism = 1;
+
 	/**
 	 * Instantiate a new SchemaCachingRDFSInferencer
 	 */
@@ -826,6 +835,63 @@ public class SchemaCachingRDFSInferencer extends NotifyingSailWrapper {
 		this.addInferredStatementsToDefaultContext = addInferredStatementsToDefaultContext;
 	}
 
+	/**
+	 * <p>
+	 * When explicit statements are removed, the statements inferred from them are retracted incrementally: only the
+	 * inferred statements that can no longer be derived from the remaining statements are removed (Delete and
+	 * Rederive). Removals that change the schema, e.g. removing an rdfs:subClassOf statement, still cause all inferred
+	 * statements to be recomputed from scratch.
+	 * </p>
+	 * <p>
+	 * If more statements are removed within a single transaction than this limit, all inferred statements are
+	 * recomputed instead, which is cheaper for large removals and avoids keeping track of all removed statements.
+	 * </p>
+	 *
+	 * @return the maximum number of removed statements that are handled incrementally
+	 */
+	public int getIncrementalRemovalLimit() {
+		return incrementalRemovalLimit;
+	}
+
+	/**
+	 * Set the maximum number of removed statements per transaction for which the inferred statements are maintained
+	 * incrementally. A value of 0 disables incremental maintenance, such that any removal causes all inferred
+	 * statements to be recomputed.
+	 *
+	 * @param incrementalRemovalLimit the maximum number of removed statements, defaults to
+	 *                                {@link #DEFAULT_INCREMENTAL_REMOVAL_LIMIT}
+	 * @see #getIncrementalRemovalLimit()
+	 */
+	public void setIncrementalRemovalLimit(int incrementalRemovalLimit) {
+		this.incrementalRemovalLimit = incrementalRemovalLimit;
+	}
+
+	/**
+	 * <p>
+	 * When all explicit statements need to be forward chained, e.g. after the schema changed or when loading data
+	 * that introduces new properties or types, the statements are partitioned by subject and the partitions are
+	 * forward chained concurrently on the common {@link ForkJoinPool}. The inferred statements are merged into the
+	 * underlying store in batches.
+	 * </p>
+	 *
+	 * @return the number of partitions that are forward chained concurrently
+	 */
+	public int getInferencingParallelism() {
+		return inferencingParallelism;
+	}
+
+	/**
+	 * Set the number of partitions that are forward chained concurrently. A value of 1 forward chains all statements
+	 * on the thread that flushes the transaction. Since larger values use the common {@link ForkJoinPool}, which is
+	 * shared with the rest of the JVM, from within the commit, parallel forward chaining is opt-in.
+	 *
+	 * @param inferencingParallelism the number of partitions, defaults to 1
+	 * @see #getInferencingParallelism()
+	 */
+	public void setInferencingParallelism(int inferencingParallelism) {
+		this.inferencingParallelism = inferencingParallelism;
+	}
+
 	boolean usesPredefinedSchema() {
 		return predefinedSchema != null || sharedSchema;
 	}
@@ -11,8 +11,15 @@
 
 package org.eclipse.rdf4j.sail.inferencer.fc;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import org.eclipse.rdf4j.common.iteration.CloseableIteration;
 import org.eclipse.rdf4j.common.transaction.IsolationLevel;
@@ -44,6 +51,11 @@ public class SchemaCachingRDFSInferencerConnection extends InferencerConnectionW
 	private static final Logger logger = LoggerFactory.getLogger(SchemaCachingRDFSInferencerConnection.class);
 	private static final Resource[] DEFAULT_CONTEXT = { null };
 
+	/**
+	 * Number of explicit statements that are forward chained in parallel before the inferred statements are merged.
+	 */
+	private static final int PARALLEL_INFERENCING_BATCH_SIZE = 100_000;
+
 	private final SchemaCachingRDFSInferencer sail;
 
 	private final NotifyingSailConnection connection;
@@ -62,13 +74,37 @@ public class SchemaCachingRDFSInferencerConnection extends InferencerConnectionW
 	 * Predicates that determine if a statement changes the schema cache
 	 */
 	private final List<IRI> schemaPredicates = Arrays.asList(RDFS.SUBCLASSOF, RDFS.SUBPROPERTYOF, RDFS.RANGE,
-			RDFS.DOMAIN, RDF.TYPE);
+			RDFS.DOMAIN);
+
+	/**
+	 * Objects that determine if an rdf:type statement changes the schema cache
+	 */
+	private final List<IRI> schemaTypes = Arrays.asList(RDF.PROPERTY, RDFS.CLASS, RDFS.DATATYPE,
+			RDFS.CONTAINERMEMBERSHIPPROPERTY);
 
 	/**
 	 * true iff the schema was changed as part of the transaction.
 	 */
 	private boolean schemaChange;
 
+	/**
+	 * Explicit statements removed since the last flush, used to incrementally retract the statements inferred from
+	 * them. Only tracked while {@link #fullRecomputationNeeded} is false.
+	 */
+	private final List<Statement> removedStatements = new ArrayList<>();
+
+	/**
+	 * true if the removals since the last flush can not be handled incrementally, e.g. because an inferred statement
+	 * was removed by the user or because too many statements were removed.
+	 */
+	private boolean fullRecomputationNeeded;
+
+	/**
+	 * true while this connection removes inferred statements itself, such that the corresponding notifications are
+	 * ignored.
+	 */
+	private boolean maintainingInferredStatements;
+
 	private long addedInferredStatementsCount = 0;
 
 	SchemaCachingRDFSInferencerConnection(SchemaCachingRDFSInferencer sail, InferencerConnection connection) {
@@ -144,15 +180,18 @@ public class SchemaCachingRDFSInferencerConnection extends InferencerConnectionW
 		statementsRemoved = false;
 		statementsAdded = false;
 		schemaChange = false;
+		resetRemovedStatements();
 
 		sail.releaseExclusiveWriteLock();
 	}
 
 	void doInferencing() throws SailException {
 		logger.debug("Do inferencing");
+		boolean schemaCacheRegenerated = false;
 		if (!sail.usesPredefinedSchema() && schemaChange) {
 			regenerateCacheAndInferenceMaps(true);
 			inferredCleared = true;
+			schemaCacheRegenerated = true;
 		}
 
 		if (!inferredCleared) {
@@ -164,6 +203,15 @@ public class SchemaCachingRDFSInferencerConnection extends InferencerConnectionW
 
 		try (CloseableIteration<? extends Statement> statements = connection.getStatements(null, null,
 				null, false)) {
+			// the schema cache already covers all explicit statements, so the statements only need to be forward
+			// chained, which can be done in parallel
+			if (sail.getInferencingParallelism() > 1 && (schemaCacheRegenerated || sail.usesPredefinedSchema())) {
+				forwardChainInParallel(statements, sail.getInferencingParallelism());
+				inferredCleared = false;
+				logger.debug("Inferencing complete");
+				return;
+			}
+
 			while (statements.hasNext()) {
 				Statement next = statements.next();
 				addStatement(false, next.getSubject(), next.getPredicate(), next.getObject(), next.getContext());
@@ -180,6 +228,62 @@ public class SchemaCachingRDFSInferencerConnection extends InferencerConnectionW
 
 	}
 
+	/**
+	 * Forward chain the given explicit statements on the common {@link ForkJoinPool}. The statements are read in
+	 * batches and each batch is partitioned by the hash of the subject, such that the many statements inferred for the
+	 * same subject (e.g. its rdf:type statements) are deduplicated within a partition. The inferred statements of each
+	 * partition are merged into the underlying connection by the calling thread, since the connection is not thread
+	 * safe for updates.
+	 */
+	private void forwardChainInParallel(CloseableIteration<? extends Statement> statements, int parallelism) {
+		long count = 0;
+		while (statements.hasNext()) {
+			List<List<Statement>> partitions = new ArrayList<>(parallelism);
+			for (int i = 0; i < parallelism; i++) {
+				partitions.add(new ArrayList<>());
+			}
+			for (int i = 0; i < PARALLEL_INFERENCING_BATCH_SIZE && statements.hasNext(); i++) {
+				Statement next = statements.next();
+				partitions.get(Math.floorMod(next.getSubject().hashCode(), parallelism)).add(next);
+				count++;
+			}
+
+			List<ForkJoinTask<Set<Statement>>> tasks = new ArrayList<>(parallelism);
+			for (List<Statement> partition : partitions) {
+				if (!partition.isEmpty()) {
+					tasks.add(ForkJoinPool.commonPool().submit(() -> forwardChain(partition)));
+				}
+			}
+
+			try {
+				for (ForkJoinTask<Set<Statement>> task : tasks) {
+					for (Statement inferred : task.join()) {
+						addInferredStatementInternal(inferred.getSubject(), inferred.getPredicate(),
+								inferred.getObject(), inferred.getContext());
+					}
+				}
+			} finally {
+				tasks.forEach(task -> task.cancel(false));
+			}
+
+			logger.debug("Forward chained {} statements", count);
+		}
+	}
+
+	private Set<Statement> forwardChain(List<Statement> statements) {
+		ValueFactory vf = sail.getValueFactory();
+		Set<Statement> inferred = new HashSet<>();
+		for (Statement st : statements) {
+			forwardChain(st.getSubject(), st.getPredicate(), st.getObject(), getInferredContext(st),
+					(subj, pred, obj, contexts) -> {
+						for (Resource context : contexts) {
+							inferred.add(vf.createStatement(subj, pred, obj, context));
+						}
+					});
+		}
+		return inferred;
+	}
+
 	private void regenerateCacheAndInferenceMaps(boolean addInferredStatements) {
 		logger.debug("Regenerate cache and inference maps");
 		sail.clearInferenceTables();
@@ -243,88 +347,93 @@ public class SchemaCachingRDFSInferencerConnection extends InferencerConnectionW
 				processForSchemaCache(sail.getValueFactory().createStatement(subject, predicate, object));
 			}
 
-			if (sail.useAllRdfsRules) {
-				addInferredStatementInternal(subject, RDF.TYPE, RDFS.RESOURCE, inferredContext);
+			forwardChain(subject, predicate, object, inferredContext, this::addInferredStatementInternal);
+		}
 
-				if (object instanceof Resource) {
-					addInferredStatementInternal((Resource) object, RDF.TYPE, RDFS.RESOURCE, inferredContext);
-				}
-			}
+		if (actuallyAdd) {
+			connection.addStatement(subject, predicate, object, context);
+		}
+	}
 
-			if (predicate.getNamespace().equals(RDF.NAMESPACE) && predicate.getLocalName().charAt(0) == '_') {
+	/**
+	 * Apply the RDFS rules to a single statement using the cached schema and pass all inferred statements to the given
+	 * handler. Since the schema cache is forward chained, the inferred statements never need to be forward chained
+	 * themselves.
+	 */
+	private void forwardChain(Resource subject, IRI predicate, Value object, Resource[] inferredContext,
+			InferredStatementHandler handler) {
 
-				try {
-					int i = Integer.parseInt(predicate.getLocalName().substring(1));
-					if (i >= 1) {
-						addInferredStatementInternal(subject, RDFS.MEMBER, object, inferredContext);
-						addInferredStatementInternal(predicate, RDF.TYPE, RDFS.RESOURCE, inferredContext);
-						addInferredStatementInternal(predicate, RDF.TYPE, RDFS.CONTAINERMEMBERSHIPPROPERTY,
-								inferredContext);
-						addInferredStatementInternal(predicate, RDF.TYPE, RDF.PROPERTY, inferredContext);
-						addInferredStatementInternal(predicate, RDFS.SUBPROPERTYOF, predicate, inferredContext);
-						addInferredStatementInternal(predicate, RDFS.SUBPROPERTYOF, RDFS.MEMBER, inferredContext);
+		if (sail.useAllRdfsRules) {
+			handler.handle(subject, RDF.TYPE, RDFS.RESOURCE, inferredContext);
 
-					}
-				} catch (NumberFormatException e) {
-					// Ignore exception.
+			if (object instanceof Resource) {
+				handler.handle((Resource) object, RDF.TYPE, RDFS.RESOURCE, inferredContext);
+			}
+		}
+
+		if (predicate.getNamespace().equals(RDF.NAMESPACE) && predicate.getLocalName().charAt(0) == '_') {
+
+			try {
+				int i = Integer.parseInt(predicate.getLocalName().substring(1));
+				if (i >= 1) {
+					handler.handle(subject, RDFS.MEMBER, object, inferredContext);
+					handler.handle(predicate, RDF.TYPE, RDFS.RESOURCE, inferredContext);
+					handler.handle(predicate, RDF.TYPE, RDFS.CONTAINERMEMBERSHIPPROPERTY, inferredContext);
+					handler.handle(predicate, RDF.TYPE, RDF.PROPERTY, inferredContext);
+					handler.handle(predicate, RDFS.SUBPROPERTYOF, predicate, inferredContext);
+					handler.handle(predicate, RDFS.SUBPROPERTYOF, RDFS.MEMBER, inferredContext);
 
-					// Means that the predicate started with rdf:_ but does not
-					// comply with the container membership format of rdf:_nnn
-					// and we can safely ignore this exception since it just means
-					// that we didn't need to infer anything about container membership
 				}
+			} catch (NumberFormatException e) {
+				// Ignore exception.
 
+				// Means that the predicate started with rdf:_ but does not
+				// comply with the container membership format of rdf:_nnn
+				// and we can safely ignore this exception since it just means
+				// that we didn't need to infer anything about container membership
 			}
 
-			if (predicate.equals(RDF.TYPE) && object instanceof Resource) {
-				sail.resolveTypes((Resource) object)
-						.stream()
-						.peek(inferredType -> {
-							if (sail.useAllRdfsRules && inferredType.equals(RDFS.CLASS)) {
-								addInferredStatementInternal(subject, RDFS.SUBCLASSOF, RDFS.RESOURCE, inferredContext);
-							}
-						})
-						.filter(inferredType -> !inferredType.equals(object))
-						.forEach(inferredType -> addInferredStatementInternal(subject, RDF.TYPE, inferredType,
-								inferredContext));
-			}
+		}
 
-			sail.resolveProperties(predicate)
+		if (predicate.equals(RDF.TYPE) && object instanceof Resource) {
+			sail.resolveTypes((Resource) object)
 					.stream()
-					.filter(inferredProperty -> !inferredProperty.equals(predicate))
-					.filter(inferredPropery -> inferredPropery instanceof IRI)
-					.map(inferredPropery -> ((IRI) inferredPropery))
-					.forEach(inferredProperty -> addInferredStatementInternal(subject, inferredProperty, object,
-							inferredContext));
+					.peek(inferredType -> {
+						if (sail.useAllRdfsRules && inferredType.equals(RDFS.CLASS)) {
+							handler.handle(subject, RDFS.SUBCLASSOF, RDFS.RESOURCE, inferredContext);
+						}
+					})
+					.filter(inferredType -> !inferredType.equals(object))
+					.forEach(inferredType -> handler.handle(subject, RDF.TYPE, inferredType, inferredContext));
+		}
 
-			if (object instanceof Resource) {
-				sail.resolveRangeTypes(predicate)
-						.stream()
-						.peek(inferredType -> {
-							if (sail.useAllRdfsRules && inferredType.equals(RDFS.CLASS)) {
-								addInferredStatementInternal(((Resource) object), RDFS.SUBCLASSOF, RDFS.RESOURCE,
-										inferredContext);
-							}
-						})
-						.forEach(inferredType -> addInferredStatementInternal(((Resource) object), RDF.TYPE,
-								inferredType, inferredContext));
-			}
+		sail.resolveProperties(predicate)
+				.stream()
+				.filter(inferredProperty -> !inferredProperty.equals(predicate))
+				.filter(inferredPropery -> inferredPropery instanceof IRI)
+				.map(inferredPropery -> ((IRI) inferredPropery))
+				.forEach(inferredProperty -> handler.handle(subject, inferredProperty, object, inferredContext));
 
-			sail.resolveDomainTypes(predicate)
+		if (object instanceof Resource) {
+			sail.resolveRangeTypes(predicate)
 					.stream()
 					.peek(inferredType -> {
 						if (sail.useAllRdfsRules && inferredType.equals(RDFS.CLASS)) {
-							addInferredStatementInternal(subject, RDFS.SUBCLASSOF, RDFS.RESOURCE, inferredContext);
+							handler.handle(((Resource) object), RDFS.SUBCLASSOF, RDFS.RESOURCE, inferredContext);
 						}
 					})
-					.forEach(inferredType -> addInferredStatementInternal((subject), RDF.TYPE, inferredType,
+					.forEach(inferredType -> handler.handle(((Resource) object), RDF.TYPE, inferredType,
 							inferredContext));
-
 		}
 
-		if (actuallyAdd) {
-			connection.addStatement(subject, predicate, object, context);
-		}
+		sail.resolveDomainTypes(predicate)
+				.stream()
+				.peek(inferredType -> {
+					if (sail.useAllRdfsRules && inferredType.equals(RDFS.CLASS)) {
+						handler.handle(subject, RDFS.SUBCLASSOF, RDFS.RESOURCE, inferredContext);
+					}
+				})
+				.forEach(inferredType -> handler.handle((subject), RDF.TYPE, inferredType, inferredContext));
 	}
 
 	void addAxiomStatements() {
@@ -917,6 +1026,7 @@ public class SchemaCachingRDFSInferencerConnection extends InferencerConnectionW
 		statementsRemoved = false;
 		statementsAdded = false;
 		schemaChange = false;
+		resetRemovedStatements();
 
 		sail.releaseExclusiveWriteLock();
 	}
@@ -947,15 +1057,19 @@ public class SchemaCachingRDFSInferencerConnection extends InferencerConnectionW
 	@Override
 	public void flushUpdates() throws SailException {
 		logger.debug("Flush updates");
-		if (statementsRemoved) {
-			logger.debug("full recomputation needed, starting inferencing from scratch");
-			clearInferred();
-			super.flushUpdates();
-
-			addAxiomStatements();
-			super.flushUpdates();
-			doInferencing();
+		if (statementsRemoved && (schemaChange || fullRecomputationNeeded)) {
+			recomputeInferredStatements();
+		} else if (statementsRemoved) {
 			super.flushUpdates();
+			if (!sail.usesPredefinedSchema() && removesLastUsage()) {
+				// the schema cache has to be regenerated, it would otherwise keep stale properties and types
+				schemaChange = true;
+				recomputeInferredStatements();
+			} else {
+				retractInferredStatements();
+				super.flushUpdates();
+				doInferencing();
+			}
 		} else if (statementsAdded) {
 			super.flushUpdates();
 			doInferencing();
@@ -965,6 +1079,167 @@ public class SchemaCachingRDFSInferencerConnection extends InferencerConnectionW
 
 		statementsAdded = false;
 		statementsRemoved = false;
+		resetRemovedStatements();
+	}
+
+	private void recomputeInferredStatements() {
+		logger.debug("full recomputation needed, starting inferencing from scratch");
+		maintainingInferredStatements = true;
+		try {
+			clearInferred();
+		} finally {
+			maintainingInferredStatements = false;
+		}
+		super.flushUpdates();
+
+		addAxiomStatements();
+		super.flushUpdates();
+		doInferencing();
+		super.flushUpdates();
+	}
+
+	/**
+	 * Incrementally retract the statements that were inferred from the removed explicit statements (Delete and
+	 * Rederive). The candidates for retraction are the statements inferred from each removed statement. Since all RDFS
+	 * rules have a single premise once the schema is cached, a candidate can only be inferred from an explicit
+	 * statement that mentions the subject of the candidate. Only candidates that can not be inferred from any of the
+	 * remaining explicit statements mentioning that subject (or from the cached schema) are removed.
+	 */
+	private void retractInferredStatements() {
+		sail.acquireExclusiveWriteLock();
+
+		logger.debug("Incrementally retracting statements inferred from {} removed statements",
+				removedStatements.size());
+
+		ValueFactory vf = sail.getValueFactory();
+
+		// candidates grouped by the resource that any supporting statement has to mention
+		Map<Resource, Set<Statement>> candidates = new HashMap<>();
+		for (Statement removed : removedStatements) {
+			forwardChain(removed.getSubject(), removed.getPredicate(), removed.getObject(),
+					getInferredContext(removed), (subj, pred, obj, contexts) -> {
+						for (Resource context : contexts) {
+							Statement candidate = vf.createStatement(subj, pred, obj, context);
+							if (!isInferredFromSchema(candidate)) {
+								candidates.computeIfAbsent(subj, k -> new HashSet<>()).add(candidate);
+							}
+						}
+					});
+		}
+
+		// rederive: remove all candidates that are still supported by the remaining explicit statements
+		candidates.forEach((resource, unsupported) -> {
+			removeSupported(resource, unsupported, connection.getStatements(resource, null, null, false));
+			removeSupported(resource, unsupported, connection.getStatements(null, null, resource, false));
+			if (resource instanceof IRI) {
+				removeSupported(resource, unsupported, connection.getStatements(null, (IRI) resource, null, false));
+			}
+		});
+
+		boolean axiomsAffected = false;
+		maintainingInferredStatements = true;
+		try {
+			for (Set<Statement> unsupported : candidates.values()) {
+				for (Statement st : unsupported) {
+					if (logger.isTraceEnabled()) {
+						logger.trace("Retracting inferred statement: {}", st);
+					}
+					removeInferredStatement(st.getSubject(), st.getPredicate(), st.getObject(), st.getContext());
+					axiomsAffected |= isVocabulary(st.getSubject());
+				}
+			}
+		} finally {
+			maintainingInferredStatements = false;
+		}
+
+		if (axiomsAffected) {
+			// a retracted statement may also be an axiom, the axioms are already part of the schema cache so adding
+			// them again does not change the schema
+			boolean schemaChangeBefore = schemaChange;
+			addAxiomStatements();
+			schemaChange = schemaChangeBefore;
+		}
+	}
+
+	/**
+	 * Remove all statements from the given set of candidates that are inferred from one of the given explicit
+	 * statements. Stops as soon as all candidates are supported.
+	 */
+	private void removeSupported(Resource resource, Set<Statement> unsupported,
+			CloseableIteration<? extends Statement> statements) {
+		ValueFactory vf = sail.getValueFactory();
+		try (statements) {
+			while (!unsupported.isEmpty() && statements.hasNext()) {
+				Statement next = statements.next();
+				forwardChain(next.getSubject(), next.getPredicate(), next.getObject(), getInferredContext(next),
+						(subj, pred, obj, contexts) -> {
+							if (subj.equals(resource)) {
+								for (Resource context : contexts) {
+									unsupported.remove(vf.createStatement(subj, pred, obj, context));
+								}
+							}
+						});
+			}
+		}
+	}
+
+	/**
+	 * @return true if, after removing the tracked statements, a predicate or type is no longer used by any explicit
+	 *         statement
+	 */
+	private boolean removesLastUsage() {
+		Set<IRI> predicates = new HashSet<>();
+		Set<Value> types = new HashSet<>();
+		for (Statement removed : removedStatements) {
+			if (predicates.add(removed.getPredicate())
+					&& !connection.hasStatement(null, removed.getPredicate(), null, false)) {
+				return true;
+			}
+			if (removed.getPredicate().equals(RDF.TYPE) && types.add(removed.getObject())
+					&& !connection.hasStatement(null, RDF.TYPE, removed.getObject(), false)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return true if the statement is one of the rdfs:subClassOf, rdfs:subPropertyOf and rdf:type rdf:Property
+	 *         statements inferred when calculating the inference maps
+	 */
+	private boolean isInferredFromSchema(Statement st) {
+		if (st.getContext() != null) {
+			return false;
+		}
+		IRI predicate = st.getPredicate();
+		if (predicate.equals(RDFS.SUBCLASSOF)) {
+			return sail.resolveTypes(st.getSubject()).contains(st.getObject());
+		} else if (predicate.equals(RDFS.SUBPROPERTYOF)) {
+			return sail.resolveProperties(st.getSubject()).contains(st.getObject());
+		} else if (predicate.equals(RDF.TYPE) && st.getObject().equals(RDF.PROPERTY)) {
+			return sail.hasProperty(st.getSubject());
+		}
+		return false;
+	}
+
+	private static boolean isVocabulary(Resource resource) {
+		if (!resource.isIRI()) {
+			return false;
+		}
+		String namespace = ((IRI) resource).getNamespace();
+		return namespace.equals(RDF.NAMESPACE) || namespace.equals(RDFS.NAMESPACE);
+	}
+
+	private Resource[] getInferredContext(Statement st) {
+		if (sail.isAddInferredStatementsToDefaultContext()) {
+			return DEFAULT_CONTEXT;
+		}
+		return new Resource[] { st.getContext() };
+	}
+
+	private void resetRemovedStatements() {
+		removedStatements.clear();
+		fullRecomputationNeeded = false;
 	}
 
 	// Called by base sail
@@ -976,17 +1251,48 @@ public class SchemaCachingRDFSInferencerConnection extends InferencerConnectionW
 	// Called by base sail
 	@Override
 	public void statementRemoved(Statement st) {
+		statementRemoved(st, false);
+	}
+
+	// Called by base sail
+	@Override
+	public void statementRemoved(Statement st, boolean inferred) {
+		if (maintainingInferredStatements) {
+			return;
+		}
 		statementsRemoved = true;
 		if (!schemaChange && isSchemaStatement(st)) {
 			schemaChange = true;
 		}
+		if (fullRecomputationNeeded || schemaChange) {
+			return;
+		}
+		if (inferred || sail.useInferredToCreateSchema
+				|| removedStatements.size() >= sail.getIncrementalRemovalLimit()) {
+			fullRecomputationNeeded = true;
+			removedStatements.clear();
+		} else {
+			removedStatements.add(st);
+		}
 	}
 
 	private boolean isSchemaStatement(Statement st) {
 		final IRI predicate = st.getPredicate();
+		if (predicate.equals(RDF.TYPE)) {
+			// only rdf:type statements with one of these objects are used for more than the set of known types
+			return schemaTypes.contains(st.getObject());
+		}
 		return schemaPredicates.contains(predicate);
 	}
 
+	/**
+	 * Functional interface for consuming inferred statements.
+	 */
+	@FunctionalInterface
+	private interface InferredStatementHandler {
+		void handle(Resource subject, IRI predicate, Value object, Resource... contexts);
+	}
+
 	@Override
 	public void addStatement(UpdateContext modify, Resource subj, IRI pred, Value obj, Resource... contexts)
 			throws SailException {
@@ -167,4 +167,15 @@ public abstract class CustomGraphQueryInferencerTest {
 		runTest(createRepository(false, resourceFolder, language), resourceFolder, testData);
 	}
 
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("parameters")
+	public void testCustomQueryInferenceParallelEvaluation(String resourceFolder, Expectation testData,
+			QueryLanguage language)
+			throws RepositoryException, RDFParseException, MalformedQueryException, UpdateExecutionException,
+			IOException, UnsupportedQueryLanguageException, SailException {
+		CustomGraphQueryInferencer inferencer = createRepository(true, resourceFolder, language);
+		inferencer.setParallelEvaluation(true);
+		runTest(inferencer, resourceFolder, testData);
+	}
+
 }
@@ -0,0 +1,273 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.inferencer.fc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.Iterations;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.model.vocabulary.RDFS;
+import org.eclipse.rdf4j.sail.SailConnectionListener;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that removals which are handled incrementally result in exactly the same inferred statements as a full
+ * recomputation.
+ */
+public class SchemaCachingRDFSInferencerIncrementalRemovalTest {
+
+	private static final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	private static final String EX = "http://example.org/";
+
+	private static final IRI person = vf.createIRI(EX, "Person");
+	private static final IRI agent = vf.createIRI(EX, "Agent");
+	private static final IRI knows = vf.createIRI(EX, "knows");
+	private static final IRI hasChild = vf.createIRI(EX, "hasChild");
+	private static final IRI related = vf.createIRI(EX, "related");
+	private static final IRI a = vf.createIRI(EX, "a");
+	private static final IRI b = vf.createIRI(EX, "b");
+	private static final IRI c = vf.createIRI(EX, "c");
+	private static final IRI d = vf.createIRI(EX, "d");
+	private static final IRI e = vf.createIRI(EX, "e");
+	private static final IRI member1 = vf.createIRI(RDF.NAMESPACE, "_1");
+	private static final IRI graph1 = vf.createIRI(EX, "graph1");
+	private static final IRI graph2 = vf.createIRI(EX, "graph2");
+
+	@Test
+	public void testRemoveStatement() {
+		assertSameAsFullRecomputation(false, connection -> connection.removeStatements(a, knows, b));
+	}
+
+	@Test
+	public void testRemoveStatementWithRemainingSupport() {
+		assertSameAsFullRecomputation(false, connection -> {
+			connection.removeStatements(a, knows, c);
+			connection.removeStatements(c, RDFS.LABEL, null);
+		});
+	}
+
+	@Test
+	public void testRemoveFromOneContext() {
+		assertSameAsFullRecomputation(false, connection -> connection.removeStatements(d, knows, e, graph1));
+		assertSameAsFullRecomputation(true, connection -> connection.removeStatements(d, knows, e, graph1));
+	}
+
+	@Test
+	public void testRemoveAndAddInSameTransaction() {
+		assertSameAsFullRecomputation(false, connection -> {
+			connection.removeStatements(a, hasChild, c);
+			connection.addStatement(a, hasChild, c);
+			connection.removeStatements(a, knows, b);
+			connection.addStatement(d, knows, a);
+		});
+	}
+
+	@Test
+	public void testRemoveContainerMembership() {
+		assertSameAsFullRecomputation(false, connection -> connection.removeStatements(b, member1, c));
+	}
+
+	@Test
+	public void testRemoveLastUsageOfPredicate() {
+		assertSameAsFullRecomputation(false, connection -> connection.removeStatements(null, hasChild, null));
+	}
+
+	@Test
+	public void testRemoveSchemaStatement() {
+		assertSameAsFullRecomputation(false, connection -> connection.removeStatements(person, RDFS.SUBCLASSOF, agent));
+	}
+
+	@Test
+	public void testRemoveAll() {
+		assertSameAsFullRecomputation(false, connection -> connection.removeStatements(null, null, null));
+	}
+
+	@Test
+	public void testOnlyAffectedStatementsAreRetracted() {
+		SchemaCachingRDFSInferencer sail = createSail(false,
+				SchemaCachingRDFSInferencer.DEFAULT_INCREMENTAL_REMOVAL_LIMIT);
+		try (SchemaCachingRDFSInferencerConnection connection = sail.getConnection()) {
+			AtomicInteger removedInferred = new AtomicInteger();
+			connection.addConnectionListener(new SailConnectionListener() {
+				@Override
+				public void statementAdded(Statement st) {
+				}
+
+				@Override
+				public void statementRemoved(Statement st) {
+				}
+
+				@Override
+				public void statementRemoved(Statement st, boolean inferred) {
+					if (inferred) {
+						removedInferred.incrementAndGet();
+					}
+				}
+			});
+
+			connection.begin();
+			connection.removeStatements(a, knows, b);
+			connection.commit();
+
+			// b is no longer a person, the other inferred statements are kept
+			assertFalse(connection.hasStatement(b, RDF.TYPE, person, true));
+			assertTrue(connection.hasStatement(a, RDF.TYPE, person, true));
+			assertTrue(removedInferred.get() > 0);
+			assertTrue(removedInferred.get() < 5, "Only the affected statements should be retracted");
+		} finally {
+			sail.shutDown();
+		}
+	}
+
+	@Test
+	public void testRemovalLimit() {
+		SchemaCachingRDFSInferencer sail = createSail(false, 1);
+		try (SchemaCachingRDFSInferencerConnection connection = sail.getConnection()) {
+			connection.begin();
+			connection.removeStatements(a, knows, null);
+			connection.commit();
+
+			assertFalse(connection.hasStatement(b, RDF.TYPE, person, true));
+			assertTrue(connection.hasStatement(c, RDF.TYPE, person, true));
+		} finally {
+			sail.shutDown();
+		}
+	}
+
+	@Test
+	public void testRemoveLastUsageOfTypeAndAddAgain() {
+		IRI thing = vf.createIRI(EX, "Thing");
+		assertSameAsFreshSailAfterReAdding(connection -> connection.addStatement(a, RDF.TYPE, thing),
+				connection -> connection.removeStatements(a, RDF.TYPE, thing),
+				connection -> connection.addStatement(b, RDF.TYPE, thing));
+	}
+
+	@Test
+	public void testRemoveLastUsageOfPredicateAndAddAgain() {
+		assertSameAsFreshSailAfterReAdding(connection -> {
+		}, connection -> connection.removeStatements(null, hasChild, null),
+				connection -> connection.addStatement(d, hasChild, e));
+	}
+
+	/**
+	 * Asserts that adding statements after the last usage of a type or predicate was removed results in the same
+	 * statements as in a fresh sail with the same explicit statements, both when the removal is handled incrementally
+	 * and by a full recomputation.
+	 */
+	private void assertSameAsFreshSailAfterReAdding(Consumer<SchemaCachingRDFSInferencerConnection> initial,
+			Consumer<SchemaCachingRDFSInferencerConnection> removal,
+			Consumer<SchemaCachingRDFSInferencerConnection> addition) {
+		for (int incrementalRemovalLimit : new int[] { SchemaCachingRDFSInferencer.DEFAULT_INCREMENTAL_REMOVAL_LIMIT,
+				0 }) {
+			SchemaCachingRDFSInferencer sail = createSail(false, incrementalRemovalLimit);
+			SchemaCachingRDFSInferencer fresh = new SchemaCachingRDFSInferencer(new MemoryStore());
+			fresh.init();
+			try (SchemaCachingRDFSInferencerConnection connection = sail.getConnection();
+					SchemaCachingRDFSInferencerConnection freshConnection = fresh.getConnection()) {
+				for (Consumer<SchemaCachingRDFSInferencerConnection> update : List.of(initial, removal, addition)) {
+					connection.begin();
+					update.accept(connection);
+					connection.commit();
+				}
+
+				freshConnection.begin();
+				try (CloseableIteration<? extends Statement> explicit = connection.getStatements(null, null, null,
+						false)) {
+					explicit.stream()
+							.forEach(st -> freshConnection.addStatement(st.getSubject(), st.getPredicate(),
+									st.getObject(), st.getContext()));
+				}
+				freshConnection.commit();
+
+				assertEquals(getStatements(freshConnection), getStatements(connection));
+			} finally {
+				sail.shutDown();
+				fresh.shutDown();
+			}
+		}
+	}
+
+	private Set<Statement> getStatements(SchemaCachingRDFSInferencerConnection connection) {
+		try (CloseableIteration<? extends Statement> statements = connection.getStatements(null, null, null, true)) {
+			return Iterations.asSet(statements);
+		}
+	}
+
+	private void assertSameAsFullRecomputation(boolean addInferredStatementsToDefaultContext,
+			Consumer<SchemaCachingRDFSInferencerConnection> removal) {
+		Set<Statement> incremental = applyRemoval(
+				createSail(addInferredStatementsToDefaultContext,
+						SchemaCachingRDFSInferencer.DEFAULT_INCREMENTAL_REMOVAL_LIMIT),
+				removal);
+		Set<Statement> full = applyRemoval(createSail(addInferredStatementsToDefaultContext, 0), removal);
+
+		assertEquals(full, incremental);
+	}
+
+	private Set<Statement> applyRemoval(SchemaCachingRDFSInferencer sail,
+			Consumer<SchemaCachingRDFSInferencerConnection> removal) {
+		try (SchemaCachingRDFSInferencerConnection connection = sail.getConnection()) {
+			connection.begin();
+			removal.accept(connection);
+			connection.commit();
+
+			try (CloseableIteration<? extends Statement> statements = connection.getStatements(null, null, null,
+					true)) {
+				return Iterations.asSet(statements);
+			}
+		} finally {
+			sail.shutDown();
+		}
+	}
+
+	private SchemaCachingRDFSInferencer createSail(boolean addInferredStatementsToDefaultContext,
+			int incrementalRemovalLimit) {
+		SchemaCachingRDFSInferencer sail = new SchemaCachingRDFSInferencer(new MemoryStore());
+		sail.setAddInferredStatementsToDefaultContext(addInferredStatementsToDefaultContext);
+		sail.setIncrementalRemovalLimit(incrementalRemovalLimit);
+		sail.init();
+
+		try (SchemaCachingRDFSInferencerConnection connection = sail.getConnection()) {
+			connection.begin();
+			connection.addStatement(person, RDFS.SUBCLASSOF, agent);
+			connection.addStatement(knows, RDFS.DOMAIN, person);
+			connection.addStatement(knows, RDFS.RANGE, person);
+			connection.addStatement(hasChild, RDFS.SUBPROPERTYOF, related);
+			connection.commit();
+
+			connection.begin();
+			connection.addStatement(a, knows, b);
+			connection.addStatement(a, knows, c);
+			connection.addStatement(c, RDF.TYPE, person);
+			connection.addStatement(c, RDFS.LABEL, vf.createLiteral("c"));
+			connection.addStatement(a, hasChild, c);
+			connection.addStatement(b, member1, c);
+			connection.addStatement(d, knows, e, graph1);
+			connection.addStatement(d, knows, e, graph2);
+			connection.commit();
+		}
+		return sail;
+	}
+}
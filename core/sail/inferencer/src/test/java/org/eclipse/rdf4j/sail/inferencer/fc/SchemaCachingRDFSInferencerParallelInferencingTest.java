@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.inferencer.fc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.Iterations;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.model.vocabulary.RDFS;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that forward chaining all statements in parallel infers the same statements as forward chaining on a
+ * single thread.
+ */
+public class SchemaCachingRDFSInferencerParallelInferencingTest {
+
+	private static final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	private static final String EX = "http://example.org/";
+
+	private static final IRI knows = vf.createIRI(EX, "knows");
+	private static final IRI friendOf = vf.createIRI(EX, "friendOf");
+	private static final IRI person = vf.createIRI(EX, "Person");
+	private static final IRI graph = vf.createIRI(EX, "graph");
+
+	@Test
+	public void testSequentialByDefault() {
+		assertEquals(1, new SchemaCachingRDFSInferencer(new MemoryStore()).getInferencingParallelism());
+	}
+
+	@Test
+	public void testLoadWithSchema() {
+		assertEquals(load(1, false), load(4, false));
+	}
+
+	@Test
+	public void testLoadWithSchemaToDefaultContext() {
+		assertEquals(load(1, true), load(4, true));
+	}
+
+	@Test
+	public void testSchemaChangeAfterLoad() {
+		Set<Statement> expected = loadAndChangeSchema(1);
+		Set<Statement> actual = loadAndChangeSchema(4);
+
+		assertEquals(expected, actual);
+		assertTrue(actual.contains(vf.createStatement(instance(1), RDF.TYPE, vf.createIRI(EX, "Agent"), graph)));
+	}
+
+	private Set<Statement> load(int parallelism, boolean addInferredStatementsToDefaultContext) {
+		SchemaCachingRDFSInferencer sail = new SchemaCachingRDFSInferencer(new MemoryStore());
+		sail.setInferencingParallelism(parallelism);
+		sail.setAddInferredStatementsToDefaultContext(addInferredStatementsToDefaultContext);
+		sail.init();
+		try (SchemaCachingRDFSInferencerConnection connection = sail.getConnection()) {
+			connection.begin();
+			addData(connection);
+			connection.commit();
+
+			return getAllStatements(connection);
+		} finally {
+			sail.shutDown();
+		}
+	}
+
+	private Set<Statement> loadAndChangeSchema(int parallelism) {
+		SchemaCachingRDFSInferencer sail = new SchemaCachingRDFSInferencer(new MemoryStore());
+		sail.setInferencingParallelism(parallelism);
+		sail.init();
+		try (SchemaCachingRDFSInferencerConnection connection = sail.getConnection()) {
+			connection.begin();
+			addData(connection);
+			connection.commit();
+
+			connection.begin();
+			connection.addStatement(person, RDFS.SUBCLASSOF, vf.createIRI(EX, "Agent"));
+			connection.commit();
+
+			return getAllStatements(connection);
+		} finally {
+			sail.shutDown();
+		}
+	}
+
+	private static void addData(SchemaCachingRDFSInferencerConnection connection) {
+		connection.addStatement(knows, RDFS.SUBPROPERTYOF, friendOf);
+		connection.addStatement(knows, RDFS.DOMAIN, person);
+		connection.addStatement(knows, RDFS.RANGE, person);
+		for (int i = 0; i < 1000; i++) {
+			connection.addStatement(instance(i), knows, instance((i + 1) % 1000), graph);
+			connection.addStatement(instance(i), RDF.TYPE, vf.createIRI(EX, "Class" + (i % 10)), graph);
+			connection.addStatement(instance(i), RDFS.LABEL, vf.createLiteral("instance " + i));
+		}
+	}
+
+	private static Set<Statement> getAllStatements(SchemaCachingRDFSInferencerConnection connection) {
+		try (CloseableIteration<? extends Statement> statements = connection.getStatements(null, null, null, true)) {
+			return Iterations.asSet(statements);
+		}
+	}
+
+	private static IRI instance(int i) {
+		return vf.createIRI(EX, "instance" + i);
+	}
+}
@@ -41,6 +41,7 @@ import org.eclipse.rdf4j.sail.NotifyingSailConnection;
 import org.eclipse.rdf4j.sail.SailException;
 import org.eclipse.rdf4j.sail.base.SailSource;
 import org.eclipse.rdf4j.sail.base.SailStore;
+import org.eclipse.rdf4j.sail.base.SerializableConflictStatistics;
 import org.eclipse.rdf4j.sail.base.SnapshotSailStore;
 import org.eclipse.rdf4j.sail.helpers.AbstractNotifyingSail;
 import org.eclipse.rdf4j.sail.helpers.DirectoryLockManager;
@@ -72,6 +73,8 @@ public class LmdbStore extends AbstractNotifyingSail implements FederatedService
 
 	private SailStore store;
 
+	private final SerializableConflictStatistics serializableConflictStatistics = new SerializableConflictStatistics();
+
 	private LmdbSailStore backingStore;
 
 	// used to decide if store is writable, is true if the store was writable during initialization
@@ -267,7 +270,7 @@ public class LmdbStore extends AbstractNotifyingSail implements FederatedService
 					lmdbSailStore.enableMultiThreading = false;
 					return lmdbSailStore;
 				}
-			}) {
+			}, false, serializableConflictStatistics) {
 
 				@Override
 				public SailSource getExplicitSailSource() {
@@ -347,6 +350,18 @@ public class LmdbStore extends AbstractNotifyingSail implements FederatedService
 		return isWritable;
 	}
 
+	/**
+	 * Gets statistics about the conflict checks of {@link IsolationLevels#SERIALIZABLE} transactions, such as how many
+	 * transactions were checked and how many of them had a conflict. The statistics cover all transactions since this
+	 * store was created.
+	 *
+	 * @return the serializable conflict statistics
+	 */
+	@Experimental
+	public SerializableConflictStatistics getSerializableConflictStatistics() {
+		return serializableConflictStatistics;
+	}
+
 	@Override
 	protected NotifyingSailConnection getConnectionInternal() throws SailException {
 		return new LmdbStoreConnection(this);
@@ -73,6 +73,8 @@ public abstract class AbstractSearchIndex implements SearchIndex {
 
 	protected Set<String> wktFields = Collections.singleton(SearchFields.getPropertyField(GEO.AS_WKT));
 
+	protected Set<String> vectorFields = Collections.emptySet();
+
 	private Set<String> indexedLangs;
 
 	private Map<IRI, Set<IRI>> indexedTypeMapping;
@@ -108,6 +110,11 @@ public abstract class AbstractSearchIndex implements SearchIndex {
 			wktFields = Sets.newHashSet(wktFieldParam.split("\\s+"));
 		}
 
+		String vectorFieldParam = parameters.getProperty(LuceneSail.VECTOR_FIELDS);
+		if (vectorFieldParam != null) {
+			vectorFields = Sets.newHashSet(vectorFieldParam.trim().split("\\s+"));
+		}
+
 		if (parameters.containsKey(LuceneSail.INDEXEDLANG)) {
 			String indexedlangString = parameters.getProperty(LuceneSail.INDEXEDLANG);
 
@@ -185,6 +192,15 @@ public abstract class AbstractSearchIndex implements SearchIndex {
 		return (wktFields != null) && wktFields.contains(fieldName);
 	}
 
+	/**
+	 * Returns whether the values of the given field are indexed as dense vectors.
+	 *
+	 * @see LuceneSail#VECTOR_FIELDS
+	 */
+	public boolean isVectorField(String fieldName) {
+		return (vectorFields != null) && vectorFields.contains(fieldName);
+	}
+
 	@Override
 	public boolean isTypeStatement(Statement statement) {
 		return isTypeFilteringEnabled()
@@ -521,6 +537,8 @@ public abstract class AbstractSearchIndex implements SearchIndex {
 	private void addProperty(String field, String value, SearchDocument document) {
 		if (isGeoField(field)) {
 			document.addGeoProperty(field, value);
+		} else if (isVectorField(field)) {
+			document.addVectorProperty(field, value);
 		} else {
 			document.addProperty(field, value);
 		}
@@ -546,6 +564,20 @@ public abstract class AbstractSearchIndex implements SearchIndex {
 		}
 	}
 
+	@Override
+	public long estimateResultSize(SearchQueryEvaluator evaluator) {
+		if (!(evaluator instanceof QuerySpec)) {
+			return -1;
+		}
+		QuerySpec query = (QuerySpec) evaluator;
+		try {
+			return count(query);
+		} catch (Exception e) {
+			logger.debug("Could not estimate the result size of query '{}'", query.getCatQuery(), e);
+			return -1;
+		}
+	}
+
 	/**
 	 * Evaluates one Lucene Query. It distinguishes between two cases, the one where no subject is given and the one
 	 * were it is given.
@@ -556,6 +588,12 @@ public abstract class AbstractSearchIndex implements SearchIndex {
 	private Iterable<? extends DocumentScore> evaluateQuery(QuerySpec query) {
 		Iterable<? extends DocumentScore> hits = null;
 
+		Set<Resource> candidateSubjects = query.getCandidateSubjects();
+		if (candidateSubjects != null && candidateSubjects.isEmpty()) {
+			// nothing to join with
+			return null;
+		}
+
 		try {
 			if (query.getQueryPatterns()
 					.stream()
@@ -1027,6 +1065,16 @@ public abstract class AbstractSearchIndex implements SearchIndex {
 	protected abstract Iterable<? extends DocumentScore> query(Resource subject, QuerySpec param)
 			throws MalformedQueryException, IOException;
 
+	/**
+	 * Counts the results of the given query, including the restriction to its candidate subjects, without retrieving
+	 * them.
+	 *
+	 * @return the number of results, or -1 if the index can not count them
+	 */
+	protected long count(QuerySpec param) throws MalformedQueryException, IOException {
+		return -1;
+	}
+
 	protected abstract Iterable<? extends DocumentDistance> geoQuery(IRI geoProperty, Point p, IRI units,
 			double distance, String distanceVar, Var context) throws MalformedQueryException, IOException;
 
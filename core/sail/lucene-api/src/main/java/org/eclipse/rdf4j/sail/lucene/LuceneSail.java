@@ -184,6 +184,21 @@ import org.slf4j.LoggerFactory;
  * fr en
  * </pre>
  *
+ * <h2 name="vectorsyntax">Vector similarity queries</h2> The values of the properties configured with
+ * {@link #VECTOR_FIELDS} are indexed as dense vectors. If a query is restricted to such a property, its query string is
+ * interpreted as a query vector and the matching resources are the nearest neighbours of that vector, scored by the
+ * {@link #VECTOR_SIMILARITY_KEY similarity function}. The number of neighbours is given by search:numDocs:
+ *
+ * <pre>
+ * {@code
+ * ?subj search:matches [
+ * 	      search:query "[0.12, -0.5, 0.33]";
+ * 	      search:property my:embedding;
+ * 	      search:numDocs 10;
+ * 	      search:score ?score ] .
+ * }
+ * </pre>
+ *
  * <h2>Datatypes</h2> Datatypes are ignored in the LuceneSail.
  */
 public class LuceneSail extends NotifyingSailWrapper {
@@ -323,6 +338,34 @@ public class LuceneSail extends NotifyingSailWrapper {
 	 */
 	public static final long DEFAULT_FSYNC_INTERVAL = 10_000L;
 
+	/**
+	 * Set the key "nrt=true" as sail parameter to enable near-real-time search (false by default). Searches are then
+	 * served from readers which are opened directly from the IndexWriter and refreshed in the background (see
+	 * {@link #NRT_REFRESH_INTERVAL_KEY}), so changes become visible independently of the fsync interval and searches
+	 * are not blocked by concurrent updates of the index. As uncommitted changes are visible to readers, this requires
+	 * {@link #TRANSACTIONAL_KEY} to be set to false (rollbacks disabled).
+	 */
+	public static final String NRT_KEY = "nrt";
+
+	/**
+	 * Default value for {@link #NRT_KEY}, false (readers are reopened after commits or fsyncs).
+	 */
+	public static final boolean DEFAULT_NRT = false;
+
+	/**
+	 * Set the key "nrtRefreshInterval=&lt;t&gt;" as sail parameter to configure the maximum time in milliseconds
+	 * until changes in the index become visible to searches, default is defined in
+	 * {@link #DEFAULT_NRT_REFRESH_INTERVAL}. This must be set to a value &gt; 0. This setting is only used when
+	 * {@link #NRT_KEY} is set to true.
+	 */
+	public static final String NRT_REFRESH_INTERVAL_KEY = "nrtRefreshInterval";
+
+	/**
+	 * Default near-real-time refresh interval in milliseconds, used when {@link #NRT_REFRESH_INTERVAL_KEY} is not set
+	 * and {@link #NRT_KEY} is set to true.
+	 */
+	public static final long DEFAULT_NRT_REFRESH_INTERVAL = 100L;
+
 	/**
 	 * Set the key "defaultNumDocs=&lt;n&gt;" as sail parameter to limit the maximum number of documents to return from
 	 * a search query. The default is to return all documents. NB: this may involve extra cost for some SearchIndex
@@ -343,6 +386,20 @@ public class LuceneSail extends NotifyingSailWrapper {
 	 */
 	public static final String WKT_FIELDS = "wktFields";
 
+	/**
+	 * Set this key to configure which fields contain dense vectors (e.g. embeddings) and should be indexed for vector
+	 * similarity search. The value should be a space-separated list of URIs. The values of these fields must be lists
+	 * of numbers separated by commas and/or whitespace, optionally enclosed in square brackets, e.g. "[0.12, -0.5,
+	 * 0.33]". By default no fields are indexed as vectors.
+	 */
+	public static final String VECTOR_FIELDS = "vectorFields";
+
+	/**
+	 * Set the key "vectorSimilarity=&lt;function&gt;" as sail parameter to configure the function used to score
+	 * vectors against a query vector, one of COSINE, DOT_PRODUCT or EUCLIDEAN. Default is COSINE.
+	 */
+	public static final String VECTOR_SIMILARITY_KEY = "vectorSimilarity";
+
 	/**
 	 * Set this key to configure the SearchIndex class implementation. Default is
 	 * org.eclipse.rdf4j.sail.lucene.LuceneIndex.
@@ -391,6 +448,17 @@ public class LuceneSail extends NotifyingSailWrapper {
 	 */
 	public static final String FUZZY_PREFIX_LENGTH_KEY = "fuzzyPrefixLength";
 
+	/**
+	 * Set this key as sail parameter to configure the maximum number of subjects which are pushed into a search query
+	 * from a statement pattern joined with it. If such a pattern binds fewer subjects than the search query is
+	 * estimated to return, the pattern is evaluated first and the search is restricted to its subjects, instead of
+	 * retrieving all search results and joining them afterwards. Set to 0 to always evaluate search queries first.
+	 * Default is 1024.
+	 */
+	public static final String SEARCH_JOIN_PUSHDOWN_LIMIT_KEY = "searchJoinPushdownLimit";
+
+	public static final int DEFAULT_SEARCH_JOIN_PUSHDOWN_LIMIT = 1024;
+
 	/**
 	 * The LuceneIndex holding the indexed literals.
 	 */
@@ -404,6 +472,8 @@ public class LuceneSail extends NotifyingSailWrapper {
 
 	private volatile TupleFunctionEvaluationMode evaluationMode = TupleFunctionEvaluationMode.TRIPLE_SOURCE;
 
+	private volatile int searchJoinPushdownLimit = DEFAULT_SEARCH_JOIN_PUSHDOWN_LIMIT;
+
 	private volatile TypeBacktraceMode indexBacktraceMode = TypeBacktraceMode.DEFAULT_TYPE_BACKTRACE_MODE;
 
 	private TupleFunctionRegistry tupleFunctionRegistry = TupleFunctionRegistry.getInstance();
@@ -506,6 +576,10 @@ public class LuceneSail extends NotifyingSailWrapper {
 			if (parameters.containsKey(EVALUATION_MODE_KEY)) {
 				setEvaluationMode(TupleFunctionEvaluationMode.valueOf(parameters.getProperty(EVALUATION_MODE_KEY)));
 			}
+			if (parameters.containsKey(SEARCH_JOIN_PUSHDOWN_LIMIT_KEY)) {
+				setSearchJoinPushdownLimit(NumberUtils.toInt(parameters.getProperty(SEARCH_JOIN_PUSHDOWN_LIMIT_KEY),
+						DEFAULT_SEARCH_JOIN_PUSHDOWN_LIMIT));
+			}
 			if (parameters.containsKey(FUZZY_PREFIX_LENGTH_KEY)) {
 				setFuzzyPrefixLength(NumberUtils.toInt(parameters.getProperty(FUZZY_PREFIX_LENGTH_KEY), 0));
 			}
@@ -599,6 +673,21 @@ public class LuceneSail extends NotifyingSailWrapper {
 		this.evaluationMode = mode;
 	}
 
+	/**
+	 * See {@link #SEARCH_JOIN_PUSHDOWN_LIMIT_KEY} parameter.
+	 */
+	public int getSearchJoinPushdownLimit() {
+		return searchJoinPushdownLimit;
+	}
+
+	/**
+	 * See {@link #SEARCH_JOIN_PUSHDOWN_LIMIT_KEY} parameter.
+	 */
+	public void setSearchJoinPushdownLimit(int searchJoinPushdownLimit) {
+		this.setParameter(SEARCH_JOIN_PUSHDOWN_LIMIT_KEY, String.valueOf(searchJoinPushdownLimit));
+		this.searchJoinPushdownLimit = searchJoinPushdownLimit;
+	}
+
 	/**
 	 * See {@link #INDEX_TYPE_BACKTRACE_MODE} parameter.
 	 */
@@ -491,8 +491,14 @@ public class LuceneSailConnection extends NotifyingSailConnectionWrapper {
 			throw new SailException("Sail has been closed already");
 		}
 
+		SearchJoinOptimizer joinOptimizer = new SearchJoinOptimizer(this, luceneIndex,
+				sail.getSearchJoinPushdownLimit());
+
 		// evaluate queries, generate binding sets, and remove queries
 		for (SearchQueryEvaluator query : queries) {
+			// restrict the query to the subjects of a more selective joined pattern
+			joinOptimizer.optimize(query);
+
 			// evaluate the Lucene query and generate bindings
 			final Collection<BindingSet> bindingSets = luceneIndex.evaluate(query);
 
@@ -79,6 +79,8 @@ public class QuerySpec extends AbstractSearchQueryEvaluator {
 
 	private final Integer numDocs;
 
+	private Set<Resource> candidateSubjects;
+
 	public QuerySpec(StatementPattern matchesPattern, Collection<QueryParam> queryPatterns,
 			StatementPattern scorePattern, StatementPattern typePattern,
 			StatementPattern idPattern, Resource subject) {
@@ -219,6 +221,26 @@ public class QuerySpec extends AbstractSearchQueryEvaluator {
 		return subject;
 	}
 
+	/**
+	 * The subjects which the rest of the query can join with the results of this query, the results are restricted to
+	 * these subjects.
+	 *
+	 * @return the candidate subjects or null, if the results are not restricted
+	 */
+	public Set<Resource> getCandidateSubjects() {
+		return candidateSubjects;
+	}
+
+	/**
+	 * Restricts the results to the given subjects. This must only be used for subjects of statement patterns which are
+	 * joined with the matches pattern, so that the results which are filtered out could not have been joined anyway.
+	 *
+	 * @param candidateSubjects the candidate subjects or null, to not restrict the results
+	 */
+	public void setCandidateSubjects(Set<Resource> candidateSubjects) {
+		this.candidateSubjects = candidateSubjects;
+	}
+
 	public boolean isEvaluable() {
 		return queryPatterns.stream().allMatch(QueryParam::isEvaluable);
 	}
@@ -232,6 +254,9 @@ public class QuerySpec extends AbstractSearchQueryEvaluator {
 		StringBuilder buffer = new StringBuilder();
 		buffer.append("QuerySpec\n");
 		buffer.append("   subject=" + subject + "\n");
+		if (candidateSubjects != null) {
+			buffer.append("   candidateSubjects=" + candidateSubjects.size() + "\n");
+		}
 		append(matchesPattern, buffer);
 		buffer.append("   queryPatterns=").append(queryPatterns);
 		append(scorePattern, buffer);
@@ -38,6 +38,14 @@ public interface SearchDocument {
 
 	void addGeoProperty(String name, String value);
 
+	/**
+	 * Adds a dense vector to the property with the given name, see {@link SearchFields#parseVector(String)} for the
+	 * format of the value. Implementations which do not support vector search index the value as ordinary property.
+	 */
+	default void addVectorProperty(String name, String value) {
+		addProperty(name, value);
+	}
+
 	/**
 	 * Checks whether a field occurs with a specified value in a Document.
 	 */
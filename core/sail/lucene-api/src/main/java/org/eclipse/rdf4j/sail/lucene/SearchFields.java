@@ -146,6 +146,33 @@ public final class SearchFields {
 				&& fieldName.charAt(0) != '_';
 	}
 
+	/**
+	 * Parses a dense vector, given as list of numbers separated by commas and/or whitespace which is optionally
+	 * enclosed in square brackets, e.g. "[0.12, -0.5, 0.33]".
+	 *
+	 * @param value the vector as string
+	 * @return the components of the vector
+	 * @throws IllegalArgumentException if the value is not a valid vector
+	 */
+	public static float[] parseVector(String value) {
+		String components = value.trim();
+		if (components.startsWith("[") && components.endsWith("]")) {
+			components = components.substring(1, components.length() - 1).trim();
+		}
+		if (components.isEmpty()) {
+			throw new IllegalArgumentException("Empty vector: " + value);
+		}
+		String[] parts = components.split("[\\s,]+");
+		float[] vector = new float[parts.length];
+		for (int i = 0; i < parts.length; i++) {
+			vector[i] = Float.parseFloat(parts[i]);
+			if (!Float.isFinite(vector[i])) {
+				throw new IllegalArgumentException("Vector components must be finite: " + value);
+			}
+		}
+		return vector;
+	}
+
 	public static String formIdString(String resourceId, String contextId) {
 		StringBuilder idBuilder = new StringBuilder(resourceId);
 		idBuilder.append("|");
@@ -36,6 +36,17 @@ public interface SearchIndex {
 
 	Collection<BindingSet> evaluate(SearchQueryEvaluator query) throws SailException;
 
+	/**
+	 * Estimates the number of results of the given query without retrieving them. The LuceneSail uses the estimate to
+	 * decide whether the subjects bound by the rest of the SPARQL query should be pushed into the search query.
+	 *
+	 * @param query the query to estimate
+	 * @return the estimated number of results, or -1 if the index can not estimate it
+	 */
+	default long estimateResultSize(SearchQueryEvaluator query) {
+		return -1;
+	}
+
 	void shutDown() throws IOException;
 
 	/**
@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.lucene;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.query.algebra.Join;
+import org.eclipse.rdf4j.query.algebra.QueryModelNode;
+import org.eclipse.rdf4j.query.algebra.StatementPattern;
+import org.eclipse.rdf4j.query.algebra.Var;
+import org.eclipse.rdf4j.sail.SailConnection;
+import org.eclipse.rdf4j.sail.SailException;
+
+/**
+ * Chooses between evaluating a search query first and joining the rest of the query with all of its results, or
+ * evaluating a statement pattern which is joined with the search query first and restricting the search to the
+ * subjects bound by it. The latter avoids retrieving many search results which are dropped by the join, when the
+ * statement pattern is more selective than the search query.
+ * <p>
+ * Only statement patterns which are inner joined with the matches pattern of the search query are considered, so that
+ * the search results which are filtered out could not have been joined anyway. The statement patterns are evaluated
+ * against all contexts and including inferred statements, which yields a superset of the subjects they can bind.
+ * Search queries with a limit on the number of results (search:numDocs) are never restricted, as the restriction would
+ * change which documents are the top results.
+ *
+ * @see LuceneSail#SEARCH_JOIN_PUSHDOWN_LIMIT_KEY
+ */
+class SearchJoinOptimizer {
+
+	private final SailConnection connection;
+
+	private final SearchIndex searchIndex;
+
+	private final int limit;
+
+	/**
+	 * @param connection  the connection to evaluate the statement patterns with
+	 * @param searchIndex the index to estimate the number of search results with
+	 * @param limit       the maximum number of subjects to push into a search query
+	 */
+	SearchJoinOptimizer(SailConnection connection, SearchIndex searchIndex, int limit) {
+		this.connection = connection;
+		this.searchIndex = searchIndex;
+		this.limit = limit;
+	}
+
+	/**
+	 * Restricts the given query to the subjects of a joined statement pattern if the pattern binds fewer subjects than
+	 * the query is estimated to return.
+	 */
+	void optimize(SearchQueryEvaluator evaluator) throws SailException {
+		if (limit <= 0 || !(evaluator instanceof QuerySpec)) {
+			return;
+		}
+		QuerySpec query = (QuerySpec) evaluator;
+		if (query.getSubject() != null || query.getNumDocs() != null || query.getMatchesPattern() == null
+				|| query.getCandidateSubjects() != null) {
+			return;
+		}
+
+		String matchesVar = query.getMatchesVariableName();
+		Set<Resource> candidates = null;
+		for (StatementPattern pattern : getJoinedPatterns(query.getMatchesPattern())) {
+			int max = candidates == null ? limit : candidates.size() - 1;
+			Set<Resource> subjects = getSubjects(pattern, matchesVar, max);
+			if (subjects != null) {
+				candidates = subjects;
+				if (candidates.isEmpty()) {
+					break;
+				}
+			}
+		}
+		if (candidates == null) {
+			return;
+		}
+
+		long estimatedHits = searchIndex.estimateResultSize(query);
+		if (estimatedHits > candidates.size()) {
+			query.setCandidateSubjects(candidates);
+		}
+	}
+
+	/**
+	 * Returns the statement patterns which are inner joined with the given pattern, excluding the patterns of search
+	 * queries.
+	 */
+	private static List<StatementPattern> getJoinedPatterns(StatementPattern pattern) {
+		QueryModelNode root = pattern;
+		while (root.getParentNode() instanceof Join) {
+			root = root.getParentNode();
+		}
+		List<StatementPattern> patterns = new ArrayList<>();
+		collectPatterns(root, patterns);
+		return patterns;
+	}
+
+	private static void collectPatterns(QueryModelNode node, List<StatementPattern> patterns) {
+		if (node instanceof Join) {
+			collectPatterns(((Join) node).getLeftArg(), patterns);
+			collectPatterns(((Join) node).getRightArg(), patterns);
+		} else if (node instanceof StatementPattern) {
+			StatementPattern pattern = (StatementPattern) node;
+			Value predicate = pattern.getPredicateVar().getValue();
+			if (!(predicate instanceof IRI && LuceneSailSchema.NAMESPACE.equals(((IRI) predicate).getNamespace()))) {
+				patterns.add(pattern);
+			}
+		}
+	}
+
+	/**
+	 * Returns the resources which the given pattern binds to the variable, or null if the pattern can not be used to
+	 * restrict the variable or binds more than the given maximum of resources.
+	 */
+	private Set<Resource> getSubjects(StatementPattern pattern, String varName, int max) throws SailException {
+		Var subjectVar = pattern.getSubjectVar();
+		Var predicateVar = pattern.getPredicateVar();
+		Var objectVar = pattern.getObjectVar();
+		Var contextVar = pattern.getContextVar();
+
+		boolean bindsSubject = isVariable(subjectVar, varName);
+		boolean bindsObject = isVariable(objectVar, varName);
+		if (bindsSubject == bindsObject || isVariable(predicateVar, varName) || isVariable(contextVar, varName)) {
+			return null;
+		}
+		Value predicate = predicateVar.getValue();
+		Value other = bindsSubject ? objectVar.getValue() : subjectVar.getValue();
+		if (predicate == null && other == null) {
+			// would have to scan all statements
+			return null;
+		}
+		Value context = contextVar != null ? contextVar.getValue() : null;
+		if ((predicate != null && !predicate.isIRI()) || (bindsObject && other != null && !other.isResource())
+				|| (context != null && !context.isResource())) {
+			// can not match any statement
+			return Set.of();
+		}
+
+		Resource[] contexts = context != null ? new Resource[] { (Resource) context } : new Resource[0];
+		Set<Resource> subjects = new HashSet<>();
+		try (CloseableIteration<? extends Statement> statements = connection.getStatements(
+				bindsSubject ? null : (Resource) other, (IRI) predicate, bindsSubject ? other : null, true,
+				contexts)) {
+			while (statements.hasNext()) {
+				Statement statement = statements.next();
+				Value value = bindsSubject ? statement.getSubject() : statement.getObject();
+				if (value.isResource() && subjects.add((Resource) value) && subjects.size() > max) {
+					return null;
+				}
+			}
+		}
+		return subjects;
+	}
+
+	private static boolean isVariable(Var var, String varName) {
+		return var != null && !var.hasValue() && var.getName().equals(varName);
+	}
+}
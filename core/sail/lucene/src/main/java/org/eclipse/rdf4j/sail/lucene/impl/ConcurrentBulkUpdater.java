@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.lucene.impl;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexWriter;
+import org.eclipse.rdf4j.sail.lucene.BulkUpdater;
+import org.eclipse.rdf4j.sail.lucene.LuceneSail;
+import org.eclipse.rdf4j.sail.lucene.SearchDocument;
+
+/**
+ * A {@link BulkUpdater} which buffers the updates and applies them to the {@link IndexWriter} from several threads of
+ * the common {@link ForkJoinPool} when the bulk update ends. The IndexWriter is thread-safe and indexes concurrently
+ * added documents into separate segments, so the analysis of the documents is not serialized. The updates of a bulk
+ * update target distinct documents, hence the order in which they are applied does not matter.
+ *
+ * @see LuceneSail#NRT_KEY
+ */
+class ConcurrentBulkUpdater implements BulkUpdater {
+
+	/**
+	 * The minimum number of updates per task, smaller bulk updates are applied by the calling thread.
+	 */
+	static final int MIN_UPDATES_PER_TASK = 64;
+
+	private final LuceneIndex index;
+
+	private final List<Update> updates = new ArrayList<>();
+
+	ConcurrentBulkUpdater(LuceneIndex index) {
+		this.index = index;
+	}
+
+	@Override
+	public void add(SearchDocument doc) {
+		Document document = ((LuceneDocument) doc).getDocument();
+		updates.add(writer -> writer.addDocument(document));
+	}
+
+	@Override
+	public void update(SearchDocument doc) {
+		Document document = ((LuceneDocument) doc).getDocument();
+		updates.add(writer -> writer.updateDocument(LuceneIndex.idTerm(doc.getId()), document));
+	}
+
+	@Override
+	public void delete(SearchDocument doc) {
+		updates.add(writer -> writer.deleteDocuments(LuceneIndex.idTerm(doc.getId())));
+	}
+
+	@Override
+	public void end() throws IOException {
+		if (updates.isEmpty()) {
+			return;
+		}
+		IndexWriter writer = index.getIndexWriter();
+		int parallelism = Math.min(ForkJoinPool.getCommonPoolParallelism(), updates.size() / MIN_UPDATES_PER_TASK);
+		try {
+			if (parallelism <= 1) {
+				index.updateWriteGeneration(apply(writer, updates));
+			} else {
+				index.updateWriteGeneration(applyInParallel(writer, parallelism));
+			}
+		} finally {
+			updates.clear();
+		}
+	}
+
+	private long applyInParallel(IndexWriter writer, int parallelism) throws IOException {
+		int size = updates.size();
+		List<ForkJoinTask<Long>> tasks = new ArrayList<>(parallelism);
+		for (int i = 0; i < parallelism; i++) {
+			List<Update> partition = updates.subList(i * size / parallelism, (i + 1) * size / parallelism);
+			tasks.add(ForkJoinPool.commonPool().submit(() -> apply(writer, partition)));
+		}
+
+		try {
+			long generation = -1;
+			for (ForkJoinTask<Long> task : tasks) {
+				generation = Math.max(generation, task.get());
+			}
+			return generation;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while updating the Lucene index");
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			}
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw new IOException(cause);
+		} finally {
+			tasks.forEach(task -> task.cancel(false));
+		}
+	}
+
+	private static long apply(IndexWriter writer, List<Update> updates) throws IOException {
+		long generation = -1;
+		for (Update update : updates) {
+			generation = Math.max(generation, update.apply(writer));
+		}
+		return generation;
+	}
+
+	@FunctionalInterface
+	private interface Update {
+
+		/**
+		 * @return the sequence number of the update
+		 */
+		long apply(IndexWriter writer) throws IOException;
+	}
+}
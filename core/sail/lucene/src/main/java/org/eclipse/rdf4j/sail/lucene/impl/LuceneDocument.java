@@ -22,12 +22,15 @@ import org.apache.lucene.document.Field;
 import org.apache.lucene.document.LatLonBoundingBox;
 import org.apache.lucene.document.LatLonPoint;
 import org.apache.lucene.document.LatLonShape;
+import org.apache.lucene.document.SortedSetDocValuesField;
 import org.apache.lucene.geo.Line;
 import org.apache.lucene.geo.Polygon;
 import org.apache.lucene.geo.Rectangle;
 import org.apache.lucene.geo.SimpleWKTShapeParser;
+import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.spatial.SpatialStrategy;
+import org.apache.lucene.util.BytesRef;
 import org.eclipse.rdf4j.sail.lucene.LuceneSail;
 import org.eclipse.rdf4j.sail.lucene.SearchDocument;
 import org.eclipse.rdf4j.sail.lucene.SearchFields;
@@ -196,4 +199,22 @@ public class LuceneDocument implements SearchDocument {
 			logger.warn("error while parsing wkt geometry", e);
 		}
 	}
+
+	@Override
+	public void addVectorProperty(String field, String value) {
+		LuceneIndex.addStoredOnlyPredicateField(field, value, doc);
+		float[] vector;
+		try {
+			vector = SearchFields.parseVector(value);
+		} catch (IllegalArgumentException e) {
+			logger.warn("error while parsing vector", e);
+			return;
+		}
+		BytesRef encoded = VectorSimilarityValuesSource.encode(vector);
+		if (encoded.length > IndexWriter.MAX_TERM_LENGTH) {
+			logger.warn("vector of field {} with {} dimensions is too large to be indexed", field, vector.length);
+			return;
+		}
+		doc.add(new SortedSetDocValuesField(LuceneIndex.VECTOR_FIELD_PREFIX + field, encoded));
+	}
 }
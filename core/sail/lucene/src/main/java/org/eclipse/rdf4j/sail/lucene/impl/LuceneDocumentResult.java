@@ -10,9 +10,11 @@
  *******************************************************************************/
 package org.eclipse.rdf4j.sail.lucene.impl;
 
+import java.io.IOException;
 import java.util.Set;
 
 import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.search.ScoreDoc;
 import org.eclipse.rdf4j.sail.lucene.DocumentResult;
 import org.eclipse.rdf4j.sail.lucene.SearchDocument;
@@ -41,4 +43,12 @@ public class LuceneDocumentResult implements DocumentResult {
 		}
 		return fullDoc;
 	}
+
+	/**
+	 * Loads the document from the IndexReader which produced the hit.
+	 */
+	void loadDocument(IndexReader reader) throws IOException {
+		Document doc = LuceneIndex.readDocument(reader, scoreDoc.doc, fields);
+		fullDoc = new LuceneDocument(doc, index.getSpatialStrategyMapper());
+	}
 }
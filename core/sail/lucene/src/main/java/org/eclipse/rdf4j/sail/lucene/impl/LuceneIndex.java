@@ -13,6 +13,7 @@ package org.eclipse.rdf4j.sail.lucene.impl;
 import static org.eclipse.rdf4j.sail.lucene.LuceneSail.FUZZY_PREFIX_LENGTH_KEY;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.StringReader;
 import java.lang.reflect.UndeclaredThrowableException;
 import java.nio.charset.StandardCharsets;
@@ -24,6 +25,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
@@ -31,6 +33,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 
 import org.apache.commons.lang3.math.NumberUtils;
@@ -66,9 +69,14 @@ import org.apache.lucene.queryparser.classic.QueryParser;
 import org.apache.lucene.search.BooleanClause.Occur;
 import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ReferenceManager;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherFactory;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermInSetQuery;
 import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.highlight.Formatter;
@@ -86,6 +94,7 @@ import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.FSDirectory;
 import org.apache.lucene.store.RAMDirectory;
 import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.BytesRef;
 import org.eclipse.rdf4j.common.iterator.EmptyIterator;
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Resource;
@@ -133,6 +142,7 @@ public class LuceneIndex extends AbstractLuceneIndex {
 
 	private static final String GEO_FIELD_PREFIX = "_geo_";
 	private static final String POINT_FIELD_PREFIX = "_pt_";
+	static final String VECTOR_FIELD_PREFIX = "_vec_";
 
 	private final Logger logger = LoggerFactory.getLogger(getClass());
 
@@ -152,12 +162,34 @@ public class LuceneIndex extends AbstractLuceneIndex {
 
 	private volatile int fuzzyPrefixLength;
 
+	private volatile VectorSimilarity vectorSimilarity = VectorSimilarity.COSINE;
+
 	private boolean transactionsEnabled = LuceneSail.DEFAULT_TRANSACTIONAL;
 
 	private long fsyncIntervalMillis = LuceneSail.DEFAULT_FSYNC_INTERVAL;
 
 	private ScheduledThreadPoolExecutor fsyncScheduler;
 
+	private boolean nrtEnabled = LuceneSail.DEFAULT_NRT;
+
+	private long nrtRefreshIntervalMillis = LuceneSail.DEFAULT_NRT_REFRESH_INTERVAL;
+
+	/**
+	 * Provides the near-real-time IndexSearchers, opened from the IndexWriter. Only used if NRT is enabled, created
+	 * together with the IndexWriter.
+	 */
+	private volatile SearcherManager searcherManager;
+
+	/**
+	 * Refreshes the near-real-time IndexSearchers in the background.
+	 */
+	private volatile ControlledRealTimeReopenThread<IndexSearcher> reopenThread;
+
+	/**
+	 * The highest sequence number returned by the IndexWriter for an update of the index, or -1 if there was none yet.
+	 */
+	private final AtomicLong lastWriteGeneration = new AtomicLong(-1);
+
 	/**
 	 * The IndexWriter that can be used to alter the index' contents. Created lazily.
 	 */
@@ -220,6 +252,10 @@ public class LuceneIndex extends AbstractLuceneIndex {
 		if (parameters.containsKey(FUZZY_PREFIX_LENGTH_KEY)) {
 			this.fuzzyPrefixLength = NumberUtils.toInt(parameters.getProperty(FUZZY_PREFIX_LENGTH_KEY), 0);
 		}
+		if (parameters.containsKey(LuceneSail.VECTOR_SIMILARITY_KEY)) {
+			this.vectorSimilarity = VectorSimilarity.valueOf(
+					parameters.getProperty(LuceneSail.VECTOR_SIMILARITY_KEY).trim().toUpperCase(Locale.ROOT));
+		}
 
 		if (parameters.containsKey(LuceneSail.TRANSACTIONAL_KEY)) {
 			this.transactionsEnabled = Boolean.parseBoolean(
@@ -233,8 +269,28 @@ public class LuceneIndex extends AbstractLuceneIndex {
 				throw new IllegalArgumentException(LuceneSail.FSYNC_INTERVAL_KEY + " must be > 0");
 			}
 		}
+		if (parameters.containsKey(LuceneSail.NRT_KEY)) {
+			this.nrtEnabled = Boolean.parseBoolean(parameters.getProperty(LuceneSail.NRT_KEY));
+		}
+		if (parameters.containsKey(LuceneSail.NRT_REFRESH_INTERVAL_KEY)) {
+			this.nrtRefreshIntervalMillis = NumberUtils.toLong(
+					parameters.getProperty(LuceneSail.NRT_REFRESH_INTERVAL_KEY),
+					LuceneSail.DEFAULT_NRT_REFRESH_INTERVAL);
+			if (this.nrtRefreshIntervalMillis <= 0) {
+				throw new IllegalArgumentException(LuceneSail.NRT_REFRESH_INTERVAL_KEY + " must be > 0");
+			}
+		}
+		if (this.nrtEnabled && this.transactionsEnabled) {
+			throw new IllegalArgumentException(
+					LuceneSail.NRT_KEY + " requires " + LuceneSail.TRANSACTIONAL_KEY + " to be set to false");
+		}
 
 		postInit();
+
+		if (this.nrtEnabled) {
+			// open the IndexWriter and the near-real-time searchers eagerly
+			getIndexWriter();
+		}
 	}
 
 	protected Directory createDirectory(Properties parameters) throws IOException {
@@ -317,7 +373,10 @@ public class LuceneIndex extends AbstractLuceneIndex {
 					try {
 						if (this.getIndexWriter().hasUncommittedChanges()) {
 							this.getIndexWriter().commit();
-							invalidateReaders();
+							// near-real-time readers are refreshed independently of commits
+							if (!this.nrtEnabled) {
+								invalidateReaders();
+							}
 						}
 					} catch (Throwable e) {
 						// We just log errors here, there's not much else we can do.
@@ -394,7 +453,15 @@ public class LuceneIndex extends AbstractLuceneIndex {
 			throw new SailException("Index has been closed");
 		}
 		if (currentMonitor == null) {
-			currentMonitor = new ReaderMonitor(this, directory);
+			if (nrtEnabled) {
+				try {
+					currentMonitor = new ReaderMonitor(this, getSearcherManager());
+				} catch (IOException e) {
+					throw new SailException(e);
+				}
+			} else {
+				currentMonitor = new ReaderMonitor(this, directory);
+			}
 		}
 		return currentMonitor;
 	}
@@ -406,16 +473,117 @@ public class LuceneIndex extends AbstractLuceneIndex {
 		if (indexWriter == null || !indexWriter.isOpen()) {
 			IndexWriterConfig indexWriterConfig = getIndexWriterConfig();
 			indexWriter = new IndexWriter(directory, indexWriterConfig);
+			if (nrtEnabled) {
+				openNearRealTimeSearch(indexWriter);
+			}
 		}
 		return indexWriter;
 	}
 
+	/**
+	 * Returns the SearcherManager for near-real-time search. This does not lock the index once the IndexWriter has
+	 * been created, so searches are not blocked by concurrent updates.
+	 */
+	private SearcherManager getSearcherManager() throws IOException {
+		if (closed.get()) {
+			throw new SailException("Index has been closed");
+		}
+		SearcherManager manager = searcherManager;
+		if (manager == null) {
+			// creates the SearcherManager together with the IndexWriter
+			getIndexWriter();
+			manager = searcherManager;
+		}
+		return manager;
+	}
+
+	private void openNearRealTimeSearch(IndexWriter writer) throws IOException {
+		closeNearRealTimeSearch();
+
+		SearcherManager manager = new SearcherManager(writer, new SearcherFactory() {
+			@Override
+			public IndexSearcher newSearcher(IndexReader reader, IndexReader previousReader) {
+				IndexSearcher indexSearcher = new IndexSearcher(reader);
+				indexSearcher.setSimilarity(similarity);
+				return indexSearcher;
+			}
+		});
+		manager.addListener(new ReferenceManager.RefreshListener() {
+			@Override
+			public void beforeRefresh() {
+			}
+
+			@Override
+			public void afterRefresh(boolean didRefresh) throws IOException {
+				if (didRefresh) {
+					// must not lock the index, as updates may wait for the refresh
+					releaseReaders();
+				}
+			}
+		});
+
+		// the minimum staleness of 0 refreshes immediately if an update waits for its changes to become visible
+		ControlledRealTimeReopenThread<IndexSearcher> thread = new ControlledRealTimeReopenThread<>(writer, manager,
+				nrtRefreshIntervalMillis / 1000.0, 0);
+		thread.setDaemon(true);
+		thread.setName("rdf4j-lucene-nrt-" + thread.getId());
+		thread.start();
+
+		searcherManager = manager;
+		reopenThread = thread;
+	}
+
+	private void closeNearRealTimeSearch() throws IOException {
+		ControlledRealTimeReopenThread<IndexSearcher> toCloseReopenThread = reopenThread;
+		SearcherManager toCloseSearcherManager = searcherManager;
+		reopenThread = null;
+		searcherManager = null;
+		// sequence numbers are only meaningful for the IndexWriter that returned them
+		lastWriteGeneration.set(-1);
+		try {
+			if (toCloseReopenThread != null) {
+				toCloseReopenThread.close();
+			}
+		} finally {
+			if (toCloseSearcherManager != null) {
+				toCloseSearcherManager.close();
+			}
+		}
+	}
+
+	/**
+	 * Remembers the sequence number of an update of the index, such that subsequent reads of documents for updating
+	 * them can wait until the update is visible.
+	 */
+	void updateWriteGeneration(long generation) {
+		lastWriteGeneration.accumulateAndGet(generation, Math::max);
+	}
+
+	private void awaitLastWrite() throws IOException {
+		ControlledRealTimeReopenThread<IndexSearcher> thread = reopenThread;
+		long generation = lastWriteGeneration.get();
+		if (thread != null && generation >= 0) {
+			try {
+				thread.waitForGeneration(generation);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted while waiting for the Lucene index to be refreshed");
+			}
+		}
+	}
+
 	@Override
 	public void shutDown() throws IOException {
 		// try-finally setup ensures that closing of an instance is not skipped
 		// when an earlier instance resulted in an IOException
 		// FIXME: is there a more elegant way to ensure this?
 		if (closed.compareAndSet(false, true)) {
+			try {
+				// stop refreshing the near-real-time searchers
+				closeNearRealTimeSearch();
+			} catch (Throwable e) {
+				logger.error("Failed to close Lucene near-real-time searchers", e);
+			}
 			try {
 				// This close oldMonitors which hold InderReader and
 				// IndexSeracher
@@ -525,34 +693,64 @@ public class LuceneIndex extends AbstractLuceneIndex {
 
 	@Override
 	protected synchronized void addDocument(SearchDocument doc) throws IOException {
-		getIndexWriter().addDocument(((LuceneDocument) doc).getDocument());
+		updateWriteGeneration(getIndexWriter().addDocument(((LuceneDocument) doc).getDocument()));
 	}
 
 	@Override
 	protected synchronized void updateDocument(SearchDocument doc) throws IOException {
-		getIndexWriter().updateDocument(idTerm(doc.getId()), ((LuceneDocument) doc).getDocument());
+		updateWriteGeneration(
+				getIndexWriter().updateDocument(idTerm(doc.getId()), ((LuceneDocument) doc).getDocument()));
 	}
 
 	@Override
 	protected synchronized void deleteDocument(SearchDocument doc) throws IOException {
-		getIndexWriter().deleteDocuments(idTerm(doc.getId()));
+		updateWriteGeneration(getIndexWriter().deleteDocuments(idTerm(doc.getId())));
 	}
 
 	@Override
 	protected synchronized BulkUpdater newBulkUpdate() {
+		if (nrtEnabled) {
+			return new ConcurrentBulkUpdater(this);
+		}
 		return new SimpleBulkUpdater(this);
 	}
 
-	private Term idTerm(String id) {
+	static Term idTerm(String id) {
 		return new Term(SearchFields.ID_FIELD_NAME, id);
 	}
 
+	/**
+	 * Applies the given function to the IndexReader holding the latest state of the index. In near-real-time mode this
+	 * waits until the last update of the index is visible.
+	 */
+	private <T> T readLatest(ReaderFunction<T> function) throws IOException {
+		if (!nrtEnabled) {
+			return function.apply(getIndexReader());
+		}
+		SearcherManager manager = getSearcherManager();
+		awaitLastWrite();
+		IndexSearcher searcher = manager.acquire();
+		try {
+			return function.apply(searcher.getIndexReader());
+		} finally {
+			manager.release(searcher);
+		}
+	}
+
+	@FunctionalInterface
+	private interface ReaderFunction<T> {
+		T apply(IndexReader reader) throws IOException;
+	}
+
 	/**
 	 * Returns a Document representing the specified document ID (combination of resource and context), or null when no
 	 * such Document exists yet.
 	 */
 	private Document getDocument(Term idTerm) throws IOException {
-		IndexReader reader = getIndexReader();
+		return readLatest(reader -> findDocument(reader, idTerm));
+	}
+
+	private static Document findDocument(IndexReader reader, Term idTerm) throws IOException {
 		List<LeafReaderContext> leaves = reader.leaves();
 		int size = leaves.size();
 		for (int i = 0; i < size; i++) {
@@ -594,17 +792,18 @@ public class LuceneIndex extends AbstractLuceneIndex {
 	 * context
 	 */
 	private List<Document> getDocuments(Term uriTerm) throws IOException {
-		List<Document> result = new ArrayList<>();
+		return readLatest(reader -> {
+			List<Document> result = new ArrayList<>();
 
-		IndexReader reader = getIndexReader();
-		List<LeafReaderContext> leaves = reader.leaves();
-		int size = leaves.size();
-		for (int i = 0; i < size; i++) {
-			LeafReader lreader = leaves.get(i).reader();
-			addDocuments(lreader, uriTerm, result);
-		}
+			List<LeafReaderContext> leaves = reader.leaves();
+			int size = leaves.size();
+			for (int i = 0; i < size; i++) {
+				LeafReader lreader = leaves.get(i).reader();
+				addDocuments(lreader, uriTerm, result);
+			}
 
-		return result;
+			return result;
+		});
 	}
 
 	private static void addDocuments(LeafReader reader, Term term, Collection<Document> documents) throws IOException {
@@ -709,6 +908,27 @@ public class LuceneIndex extends AbstractLuceneIndex {
 	 * @throws IOException
 	 */
 	private void invalidateReaders() throws IOException {
+		synchronized (oldmonitors) {
+			// check if all readers were closed
+			if (releaseReaders()) {
+				logger.debug("Deleting unused files from Lucene index");
+
+				// clean up unused files (marked as 'deletable' in Luke
+				// Filewalker)
+				getIndexWriter().deleteUnusedFiles();
+
+				// logIndexStats();
+			}
+		}
+	}
+
+	/**
+	 * Moves the current monitor to the old monitors and closes all old monitors which are no longer in use.
+	 *
+	 * @return true if all old monitors were closed
+	 * @throws IOException
+	 */
+	private boolean releaseReaders() throws IOException {
 		synchronized (oldmonitors) {
 			// Move current monitor to old monitors and set null
 			if (currentMonitor != null) {
@@ -728,17 +948,7 @@ public class LuceneIndex extends AbstractLuceneIndex {
 					i.remove();
 				}
 			}
-
-			// check if all readers were closed
-			if (oldmonitors.isEmpty()) {
-				logger.debug("Deleting unused files from Lucene index");
-
-				// clean up unused files (marked as 'deletable' in Luke
-				// Filewalker)
-				getIndexWriter().deleteUnusedFiles();
-
-				// logIndexStats();
-			}
+			return oldmonitors.isEmpty();
 		}
 	}
 
@@ -863,14 +1073,86 @@ public class LuceneIndex extends AbstractLuceneIndex {
 			numDocs = -1;
 		}
 
-		TopDocs docs;
+		q = restrictToSubjects(subject, spec, q);
+		return search(q, numDocs, (ScoreDoc doc) -> new LuceneDocumentScore(doc, highlighter, LuceneIndex.this));
+	}
+
+	@Override
+	protected long count(QuerySpec spec) throws MalformedQueryException, IOException {
+		Query q;
+		try {
+			q = createQuery(spec.getQueryPatterns());
+		} catch (ParseException e) {
+			throw new MalformedQueryException(e);
+		}
+
+		if (q == null) {
+			return 0;
+		}
+		q = restrictToSubjects(spec.getSubject(), spec, q);
+
+		if (!nrtEnabled) {
+			synchronized (this) {
+				return getIndexSearcher().count(q);
+			}
+		}
+		SearcherManager manager = getSearcherManager();
+		IndexSearcher searcher = manager.acquire();
+		try {
+			return searcher.count(q);
+		} finally {
+			manager.release(searcher);
+		}
+	}
+
+	/**
+	 * Restricts the query to the given subject or, if there is none, to the candidate subjects of the spec.
+	 */
+	private Query restrictToSubjects(Resource subject, QuerySpec spec, Query query) {
 		if (subject != null) {
-			docs = search(subject, q, numDocs);
-		} else {
-			docs = search(q, numDocs);
+			return restrictToResource(subject, query);
+		}
+		Set<Resource> candidateSubjects = spec.getCandidateSubjects();
+		if (candidateSubjects == null) {
+			return query;
+		}
+		List<BytesRef> ids = new ArrayList<>(candidateSubjects.size());
+		for (Resource candidate : candidateSubjects) {
+			ids.add(new BytesRef(SearchFields.getResourceID(candidate)));
+		}
+		// a filter clause, as the candidates must not influence the scores
+		BooleanQuery.Builder combinedQuery = new BooleanQuery.Builder();
+		combinedQuery.add(query, Occur.MUST);
+		combinedQuery.add(new TermInSetQuery(SearchFields.URI_FIELD_NAME, ids), Occur.FILTER);
+		return combinedQuery.build();
+	}
+
+	/**
+	 * Evaluates the given query and creates a result for each hit. In near-real-time mode the documents of the hits are
+	 * loaded before the IndexSearcher is released, as the document ids are only valid for the IndexReader which was
+	 * searched and the IndexReader may be replaced by a refresh at any time.
+	 */
+	private <T extends LuceneDocumentResult> Iterable<T> search(Query query, int numDocs,
+			Function<ScoreDoc, T> resultFactory) throws IOException {
+		if (!nrtEnabled) {
+			TopDocs docs = search(query, numDocs);
+			return Iterables.transform(Arrays.asList(docs.scoreDocs), resultFactory);
+		}
+
+		SearcherManager manager = getSearcherManager();
+		IndexSearcher searcher = manager.acquire();
+		try {
+			TopDocs docs = search(searcher, query, numDocs);
+			List<T> results = new ArrayList<>(docs.scoreDocs.length);
+			for (ScoreDoc doc : docs.scoreDocs) {
+				T result = resultFactory.apply(doc);
+				result.loadDocument(searcher.getIndexReader());
+				results.add(result);
+			}
+			return results;
+		} finally {
+			manager.release(searcher);
 		}
-		return Iterables.transform(Arrays.asList(docs.scoreDocs),
-				(ScoreDoc doc) -> new LuceneDocumentScore(doc, highlighter, LuceneIndex.this));
 	}
 
 	/**
@@ -889,7 +1171,7 @@ public class LuceneIndex extends AbstractLuceneIndex {
 
 		QuerySpec.QueryParam first = it.next();
 
-		Query q = getQueryParser(first.getProperty()).parse(first.getQuery());
+		Query q = parseQuery(first);
 		if (!it.hasNext()) {
 			return q;
 		}
@@ -901,7 +1183,7 @@ public class LuceneIndex extends AbstractLuceneIndex {
 		bld.add(q, Occur.SHOULD);
 		do {
 			QuerySpec.QueryParam param = it.next();
-			Query parsedQuery = getQueryParser(param.getProperty()).parse(param.getQuery());
+			Query parsedQuery = parseQuery(param);
 			if (param.getBoost() != null) {
 				parsedQuery = new BoostQuery(parsedQuery, param.getBoost());
 			}
@@ -911,6 +1193,27 @@ public class LuceneIndex extends AbstractLuceneIndex {
 		return bld.build();
 	}
 
+	/**
+	 * Parses the query of a param. If the param is restricted to a vector field, the query is a vector and all
+	 * documents with a vector in that field match, scored by their similarity to it.
+	 */
+	private Query parseQuery(QuerySpec.QueryParam param) throws ParseException {
+		if (param.getProperty() != null) {
+			String field = SearchFields.getPropertyField(param.getProperty());
+			if (isVectorField(field)) {
+				float[] vector;
+				try {
+					vector = SearchFields.parseVector(param.getQuery());
+				} catch (IllegalArgumentException e) {
+					throw new ParseException("Invalid query vector for " + field + ": " + e.getMessage());
+				}
+				return VectorSimilarityValuesSource.newNearestNeighboursQuery(VECTOR_FIELD_PREFIX + field, vector,
+						vectorSimilarity);
+			}
+		}
+		return getQueryParser(param.getProperty()).parse(param.getQuery());
+	}
+
 	@Override
 	protected Iterable<? extends DocumentDistance> geoQuery(final IRI geoProperty, Point p, final IRI units,
 			double distance, String distanceVar, Var contextVar) throws MalformedQueryException, IOException {
@@ -926,9 +1229,8 @@ public class LuceneIndex extends AbstractLuceneIndex {
 			q = addContextTerm(q, (Resource) contextVar.getValue());
 		}
 
-		TopDocs docs = search(q);
 		final boolean requireContext = (contextVar != null && !contextVar.hasValue());
-		return Iterables.transform(Arrays.asList(docs.scoreDocs),
+		return search(q, -1,
 				(ScoreDoc doc) -> new LuceneDocumentDistance(doc, geoField, units, boundingCircle.getCenter(),
 						requireContext,
 						LuceneIndex.this));
@@ -965,13 +1267,11 @@ public class LuceneIndex extends AbstractLuceneIndex {
 			q = addContextTerm(q, (Resource) contextVar.getValue());
 		}
 
-		TopDocs docs = search(q);
 		final Set<String> fields = Sets.newHashSet(SearchFields.URI_FIELD_NAME, geoField);
 		if (contextVar != null && !contextVar.hasValue()) {
 			fields.add(SearchFields.CONTEXT_FIELD_NAME);
 		}
-		return Iterables.transform(Arrays.asList(docs.scoreDocs),
-				(ScoreDoc doc) -> new LuceneDocumentResult(doc, LuceneIndex.this, fields));
+		return search(q, -1, (ScoreDoc doc) -> new LuceneDocumentResult(doc, LuceneIndex.this, fields));
 	}
 
 	private ShapeField.QueryRelation getRelation(SpatialOperation op) {
@@ -1051,7 +1351,7 @@ public class LuceneIndex extends AbstractLuceneIndex {
 		}
 	}
 
-	public synchronized String getSnippet(String fieldName, String text, Highlighter highlighter) {
+	public String getSnippet(String fieldName, String text, Highlighter highlighter) {
 		String snippet;
 		try {
 			TokenStream tokenStream = getAnalyzer().tokenStream(fieldName, new StringReader(text));
@@ -1085,12 +1385,16 @@ public class LuceneIndex extends AbstractLuceneIndex {
 	 * @throws IOException
 	 */
 	public synchronized TopDocs search(Resource resource, Query query, int numDocs) throws IOException {
+		return search(restrictToResource(resource, query), numDocs);
+	}
+
+	private Query restrictToResource(Resource resource, Query query) {
 		// rewrite the query
 		TermQuery idQuery = new TermQuery(new Term(SearchFields.URI_FIELD_NAME, SearchFields.getResourceID(resource)));
 		BooleanQuery.Builder combinedQuery = new BooleanQuery.Builder();
 		combinedQuery.add(idQuery, Occur.MUST);
 		combinedQuery.add(query, Occur.MUST);
-		return search(combinedQuery.build(), numDocs);
+		return combinedQuery.build();
 	}
 
 	/**
@@ -1113,6 +1417,10 @@ public class LuceneIndex extends AbstractLuceneIndex {
 	 * @throws IOException
 	 */
 	public synchronized TopDocs search(Query query, int numDocs) throws IOException {
+		return search(getIndexSearcher(), query, numDocs);
+	}
+
+	private TopDocs search(IndexSearcher searcher, Query query, int numDocs) throws IOException {
 		if (numDocs < -1) {
 			throw new IllegalArgumentException("numDocs should be 0 or greater if defined by the user");
 		}
@@ -1124,9 +1432,9 @@ public class LuceneIndex extends AbstractLuceneIndex {
 			size = Math.min(maxDocs, numDocs);
 		}
 		if (size < 0) {
-			size = Math.max(getIndexReader().numDocs(), 1);
+			size = Math.max(searcher.getIndexReader().numDocs(), 1);
 		}
-		return getIndexSearcher().search(query, size);
+		return searcher.search(query, size);
 	}
 
 	private QueryParser getQueryParser(IRI propertyURI) {
@@ -1165,7 +1473,7 @@ public class LuceneIndex extends AbstractLuceneIndex {
 			Term contextTerm = new Term(SearchFields.CONTEXT_FIELD_NAME, contextString);
 
 			// now delete all documents from the deleted context
-			getIndexWriter().deleteDocuments(contextTerm);
+			updateWriteGeneration(getIndexWriter().deleteDocuments(contextTerm));
 		}
 	}
 
@@ -1180,6 +1488,7 @@ public class LuceneIndex extends AbstractLuceneIndex {
 		// clear
 		// the old IndexReaders/Searchers are not outdated
 		invalidateReaders();
+		closeNearRealTimeSearch();
 		if (indexWriter != null) {
 			indexWriter.close();
 		}
@@ -1227,7 +1536,7 @@ public class LuceneIndex extends AbstractLuceneIndex {
 		}
 	}
 
-	private static Document readDocument(IndexReader reader, int docId, Set<String> fieldsToLoad) throws IOException {
+	static Document readDocument(IndexReader reader, int docId, Set<String> fieldsToLoad) throws IOException {
 		DocumentStoredFieldVisitor visitor = new DocumentStoredFieldVisitor(fieldsToLoad);
 		reader.document(docId, visitor);
 		return visitor.getDocument();
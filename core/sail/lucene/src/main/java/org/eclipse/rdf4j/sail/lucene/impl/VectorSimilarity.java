@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.lucene.impl;
+
+import java.nio.ByteBuffer;
+
+import org.eclipse.rdf4j.sail.lucene.LuceneSail;
+
+/**
+ * The functions to score an indexed vector against a query vector. The scores are non-negative and higher scores mean
+ * more similar vectors, as required for Lucene scores.
+ *
+ * @see LuceneSail#VECTOR_SIMILARITY_KEY
+ */
+public enum VectorSimilarity {
+
+	/**
+	 * Scores by the euclidean distance, as 1 / (1 + squared distance).
+	 */
+	EUCLIDEAN {
+		@Override
+		float score(float[] query, ByteBuffer vector, int offset) {
+			float squareDistance = 0;
+			for (int i = 0; i < query.length; i++) {
+				float difference = query[i] - vector.getFloat(offset + i * Float.BYTES);
+				squareDistance += difference * difference;
+			}
+			return 1 / (1 + squareDistance);
+		}
+	},
+
+	/**
+	 * Scores by the dot product, as (1 + dot product) / 2. This is only meaningful for normalized vectors, for which it
+	 * is equivalent to {@link #COSINE} but cheaper to compute.
+	 */
+	DOT_PRODUCT {
+		@Override
+		float score(float[] query, ByteBuffer vector, int offset) {
+			float dotProduct = 0;
+			for (int i = 0; i < query.length; i++) {
+				dotProduct += query[i] * vector.getFloat(offset + i * Float.BYTES);
+			}
+			return Math.max((1 + dotProduct) / 2, 0);
+		}
+	},
+
+	/**
+	 * Scores by the cosine of the angle between the vectors, as (1 + cosine) / 2.
+	 */
+	COSINE {
+		@Override
+		float score(float[] query, ByteBuffer vector, int offset) {
+			float dotProduct = 0;
+			float queryNorm = 0;
+			float vectorNorm = 0;
+			for (int i = 0; i < query.length; i++) {
+				float component = vector.getFloat(offset + i * Float.BYTES);
+				dotProduct += query[i] * component;
+				queryNorm += query[i] * query[i];
+				vectorNorm += component * component;
+			}
+			if (queryNorm == 0 || vectorNorm == 0) {
+				return 0;
+			}
+			float cosine = (float) (dotProduct / Math.sqrt((double) queryNorm * vectorNorm));
+			return Math.max((1 + cosine) / 2, 0);
+		}
+	};
+
+	/**
+	 * Scores the vector which is encoded in the given buffer, starting at the given offset, against the query vector.
+	 * The vectors must have the same dimension.
+	 */
+	abstract float score(float[] query, ByteBuffer vector, int offset);
+}
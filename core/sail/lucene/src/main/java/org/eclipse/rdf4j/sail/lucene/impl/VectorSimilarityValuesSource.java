@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.lucene.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.queries.function.FunctionMatchQuery;
+import org.apache.lucene.queries.function.FunctionScoreQuery;
+import org.apache.lucene.search.DoubleValues;
+import org.apache.lucene.search.DoubleValuesSource;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.util.BytesRef;
+
+/**
+ * Provides the similarity of the vectors of a document to a query vector as values, computed from the vectors which
+ * are indexed as doc values. If a document has multiple vectors in the field, the highest similarity is used, vectors
+ * with a different dimension than the query vector are ignored.
+ */
+class VectorSimilarityValuesSource extends DoubleValuesSource {
+
+	private final String field;
+
+	private final float[] query;
+
+	private final VectorSimilarity similarity;
+
+	VectorSimilarityValuesSource(String field, float[] query, VectorSimilarity similarity) {
+		this.field = field;
+		this.query = query;
+		this.similarity = similarity;
+	}
+
+	/**
+	 * Creates a query which matches all documents with a vector in the given doc values field, scored by the
+	 * similarity to the query vector. Searching for the top n documents therefore yields the n nearest neighbours.
+	 */
+	static Query newNearestNeighboursQuery(String field, float[] query, VectorSimilarity similarity) {
+		VectorSimilarityValuesSource source = new VectorSimilarityValuesSource(field, query, similarity);
+		return new FunctionScoreQuery(new FunctionMatchQuery(source, score -> true), source);
+	}
+
+	static BytesRef encode(float[] vector) {
+		ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES);
+		for (float component : vector) {
+			buffer.putFloat(component);
+		}
+		return new BytesRef(buffer.array());
+	}
+
+	@Override
+	public DoubleValues getValues(LeafReaderContext ctx, DoubleValues scores) throws IOException {
+		SortedSetDocValues vectors = DocValues.getSortedSet(ctx.reader(), field);
+		int length = query.length * Float.BYTES;
+		return new DoubleValues() {
+
+			private double value;
+
+			@Override
+			public double doubleValue() {
+				return value;
+			}
+
+			@Override
+			public boolean advanceExact(int doc) throws IOException {
+				if (!vectors.advanceExact(doc)) {
+					return false;
+				}
+				boolean found = false;
+				double best = 0;
+				for (long ord = vectors.nextOrd(); ord != SortedSetDocValues.NO_MORE_ORDS; ord = vectors.nextOrd()) {
+					BytesRef vector = vectors.lookupOrd(ord);
+					if (vector.length != length) {
+						continue;
+					}
+					ByteBuffer buffer = ByteBuffer.wrap(vector.bytes, vector.offset, vector.length);
+					best = Math.max(best, similarity.score(query, buffer, vector.offset));
+					found = true;
+				}
+				value = best;
+				return found;
+			}
+		};
+	}
+
+	@Override
+	public boolean needsScores() {
+		return false;
+	}
+
+	@Override
+	public DoubleValuesSource rewrite(IndexSearcher reader) {
+		return this;
+	}
+
+	@Override
+	public boolean isCacheable(LeafReaderContext ctx) {
+		return DocValues.isCacheable(ctx, field);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(field, Arrays.hashCode(query), similarity);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		VectorSimilarityValuesSource other = (VectorSimilarityValuesSource) obj;
+		return field.equals(other.field) && Arrays.equals(query, other.query) && similarity == other.similarity;
+	}
+
+	@Override
+	public String toString() {
+		return similarity + "(" + field + ", " + Arrays.toString(query) + ")";
+	}
+}
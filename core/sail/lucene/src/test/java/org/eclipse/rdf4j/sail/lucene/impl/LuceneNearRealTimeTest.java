@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.lucene.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.store.NIOFSDirectory;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.sail.lucene.LuceneSail;
+import org.eclipse.rdf4j.sail.lucene.SearchFields;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Runs the generic tests with near-real-time search enabled, and verifies that changes become visible to searches
+ * without waiting for the periodic fsync.
+ */
+public class LuceneNearRealTimeTest extends AbstractGenericLuceneTest {
+
+	@TempDir
+	public File dataDir;
+
+	private LuceneIndex index;
+
+	@Override
+	protected void configure(LuceneSail sail) throws IOException {
+		index = new LuceneIndex(new NIOFSDirectory(dataDir.toPath()), new StandardAnalyzer());
+		var params = new Properties();
+		params.setProperty(LuceneSail.TRANSACTIONAL_KEY, "false");
+		// changes must become visible long before the fsync
+		params.setProperty(LuceneSail.FSYNC_INTERVAL_KEY, "600000");
+		params.setProperty(LuceneSail.NRT_KEY, "true");
+		params.setProperty(LuceneSail.NRT_REFRESH_INTERVAL_KEY, "20");
+		params.setProperty(LuceneSail.LUCENE_DIR_KEY, dataDir.getAbsolutePath());
+		try {
+			index.initialize(params);
+		} catch (Exception e) {
+			throw new RuntimeException(e);
+		}
+		sail.setLuceneIndex(index);
+	}
+
+	@Override
+	protected long waitAfterCommitMillis() {
+		return 100;
+	}
+
+	@Test
+	public void testReopenThreadIsRunning() {
+		long matchingThreads = Thread.getAllStackTraces()
+				.keySet()
+				.stream()
+				.filter(t -> t.getName().startsWith("rdf4j-lucene-nrt-"))
+				.count();
+		assertThat(matchingThreads).isGreaterThan(0);
+	}
+
+	@Test
+	public void testUpdatesAcrossTransactionsBeforeRefresh() throws Exception {
+		// the document of the resource is read again for the second update, which must see the first one
+		for (int i = 0; i < 10; i++) {
+			connection.begin();
+			connection.add(SUBJECT_4, PREDICATE_1, vf.createLiteral("value" + i));
+			connection.commit();
+		}
+
+		Document document = index.getDocument(SUBJECT_4, null);
+		assertNotNull(document);
+		assertEquals(10, document.getValues(SearchFields.getPropertyField(PREDICATE_1)).length);
+		assertEquals(1, index.getDocuments(SUBJECT_4).size());
+
+		connection.begin();
+		connection.remove(SUBJECT_4, null, null);
+		connection.commit();
+		assertNull(index.getDocument(SUBJECT_4, null));
+	}
+
+	@Test
+	public void testConcurrentBulkUpdate() throws Exception {
+		int resources = ConcurrentBulkUpdater.MIN_UPDATES_PER_TASK * 8;
+		connection.begin();
+		for (int i = 0; i < resources; i++) {
+			connection.add(resource(i), PREDICATE_1, vf.createLiteral("bulk" + i));
+		}
+		connection.commit();
+
+		// update all documents in a single transaction
+		connection.begin();
+		for (int i = 0; i < resources; i++) {
+			connection.add(resource(i), PREDICATE_2, vf.createLiteral("updated" + i));
+		}
+		connection.commit();
+		sleepAfterCommitIfNeeded();
+
+		for (int i = 0; i < resources; i += 37) {
+			assertQueryResult("bulk" + i, PREDICATE_1, resource(i));
+			assertQueryResult("updated" + i, PREDICATE_2, resource(i));
+			assertEquals(1, index.getDocuments(resource(i)).size());
+		}
+	}
+
+	@Test
+	public void testSearchDuringUpdates() throws Exception {
+		AtomicBoolean done = new AtomicBoolean();
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<?> writer = executor.submit(() -> {
+				try (RepositoryConnection writeConnection = repository.getConnection()) {
+					for (int i = 0; i < 50; i++) {
+						writeConnection.begin();
+						writeConnection.add(resource(i), PREDICATE_1, vf.createLiteral("concurrent" + i));
+						writeConnection.commit();
+					}
+				} finally {
+					done.set(true);
+				}
+			});
+
+			// searches return consistent results while the index is updated and refreshed
+			while (!done.get()) {
+				assertQueryResult("five", PREDICATE_1, SUBJECT_1);
+			}
+			writer.get();
+		} finally {
+			executor.shutdownNow();
+		}
+
+		sleepAfterCommitIfNeeded();
+		for (int i = 0; i < 50; i++) {
+			assertQueryResult("concurrent" + i, PREDICATE_1, resource(i));
+		}
+	}
+
+	@Test
+	public void testSearchAfterClear() throws Exception {
+		connection.begin();
+		connection.clear();
+		connection.commit();
+		sleepAfterCommitIfNeeded();
+		assertNoQueryResult("one");
+
+		connection.begin();
+		connection.add(SUBJECT_1, PREDICATE_1, vf.createLiteral("one"));
+		connection.commit();
+		sleepAfterCommitIfNeeded();
+		assertQueryResult("one", PREDICATE_1, SUBJECT_1);
+	}
+
+	private static IRI resource(int i) {
+		return vf.createIRI("urn:resource" + i);
+	}
+}
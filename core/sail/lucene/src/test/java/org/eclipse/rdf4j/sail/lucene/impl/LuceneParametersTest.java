@@ -50,4 +50,32 @@ public class LuceneParametersTest {
 				"Message should mention fsync interval"
 		);
 	}
+
+	@Test
+	public void testNrtRequiresNonTransactional() {
+		var index = new LuceneIndex();
+		var params = new Properties();
+		params.setProperty(LuceneSail.NRT_KEY, "true");
+		params.setProperty(LuceneSail.LUCENE_RAMDIR_KEY, "true");
+		var e = assertThrows(IllegalArgumentException.class, () -> index.initialize(params));
+		Assertions.assertTrue(
+				e.getMessage().contains(LuceneSail.TRANSACTIONAL_KEY),
+				"Message should mention transactional"
+		);
+	}
+
+	@Test
+	public void testZeroNrtRefreshInterval() {
+		var index = new LuceneIndex();
+		var params = new Properties();
+		params.setProperty(LuceneSail.TRANSACTIONAL_KEY, "false");
+		params.setProperty(LuceneSail.NRT_KEY, "true");
+		params.setProperty(LuceneSail.NRT_REFRESH_INTERVAL_KEY, "0");
+		params.setProperty(LuceneSail.LUCENE_RAMDIR_KEY, "true");
+		var e = assertThrows(IllegalArgumentException.class, () -> index.initialize(params));
+		Assertions.assertTrue(
+				e.getMessage().contains(LuceneSail.NRT_REFRESH_INTERVAL_KEY),
+				"Message should mention NRT refresh interval"
+		);
+	}
 }
@@ -0,0 +1,199 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.lucene.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDFS;
+import org.eclipse.rdf4j.query.MalformedQueryException;
+import org.eclipse.rdf4j.query.TupleQueryResult;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.sail.lucene.DocumentScore;
+import org.eclipse.rdf4j.sail.lucene.LuceneSail;
+import org.eclipse.rdf4j.sail.lucene.LuceneSailSchema;
+import org.eclipse.rdf4j.sail.lucene.QuerySpec;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class LuceneSearchJoinPushdownTest {
+
+	private static final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	private static final String NS = "urn:test:";
+
+	private static final IRI PROJECT = vf.createIRI(NS, "project");
+
+	private static final IRI SMALL_PROJECT = vf.createIRI(NS, "small");
+
+	private static final IRI LARGE_PROJECT = vf.createIRI(NS, "large");
+
+	private static final int DOCUMENTS = 100;
+
+	private static final String PREFIXES = "PREFIX search: <" + LuceneSailSchema.NAMESPACE + "> "
+			+ "PREFIX rdfs: <" + RDFS.NAMESPACE + "> "
+			+ "PREFIX ex: <" + NS + "> ";
+
+	private LuceneSail sail;
+
+	private SailRepository repository;
+
+	private RepositoryConnection connection;
+
+	@BeforeEach
+	public void setUp() {
+		sail = new LuceneSail();
+		sail.setParameter(LuceneSail.LUCENE_RAMDIR_KEY, "true");
+		sail.setParameter(LuceneSail.INDEX_CLASS_KEY, RecordingLuceneIndex.class.getName());
+		sail.setBaseSail(new MemoryStore());
+		repository = new SailRepository(sail);
+		repository.init();
+		connection = repository.getConnection();
+
+		connection.begin();
+		for (int i = 0; i < DOCUMENTS; i++) {
+			IRI document = document(i);
+			connection.add(document, RDFS.LABEL, vf.createLiteral("common document " + i));
+			// every tenth document is in the small project
+			connection.add(document, PROJECT, i % 10 == 0 ? SMALL_PROJECT : LARGE_PROJECT);
+		}
+		connection.commit();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		try {
+			connection.close();
+		} finally {
+			repository.shutDown();
+		}
+	}
+
+	@Test
+	public void testSelectivePatternIsPushedDown() {
+		List<String> results = evaluate("SELECT ?doc WHERE { ?doc search:matches [ search:query \"common\" ] . "
+				+ "?doc ex:project ex:small . }");
+
+		assertThat(results).hasSize(DOCUMENTS / 10).allMatch(doc -> doc.endsWith("0"));
+		assertThat(index().candidateSubjects).hasSize(DOCUMENTS / 10);
+	}
+
+	@Test
+	public void testSameResultsWithoutPushdown() {
+		String query = "SELECT ?doc ?score WHERE { ?doc search:matches [ search:query \"common\"; "
+				+ "search:score ?score ] . ?doc ex:project ex:small . } ORDER BY ?doc";
+		List<String> pushedDown = evaluate(query);
+		assertThat(index().candidateSubjects).isNotNull();
+
+		sail.setSearchJoinPushdownLimit(0);
+		List<String> searchFirst = evaluate(query);
+		assertThat(index().candidateSubjects).isNull();
+		assertThat(pushedDown).isEqualTo(searchFirst);
+	}
+
+	@Test
+	public void testUnselectivePatternIsNotPushedDown() {
+		// the search matches a single document, the pattern binds most of the documents
+		List<String> results = evaluate("SELECT ?doc WHERE { ?doc search:matches [ search:query \"11\" ] . "
+				+ "?doc ex:project ex:large . }");
+
+		assertThat(results).containsExactly(document(11).stringValue());
+		assertThat(index().candidateSubjects).isNull();
+	}
+
+	@Test
+	public void testPatternExceedingLimitIsNotPushedDown() {
+		sail.setSearchJoinPushdownLimit(5);
+		List<String> results = evaluate("SELECT ?doc WHERE { ?doc search:matches [ search:query \"common\" ] . "
+				+ "?doc ex:project ex:small . }");
+
+		assertThat(results).hasSize(DOCUMENTS / 10);
+		assertThat(index().candidateSubjects).isNull();
+	}
+
+	@Test
+	public void testOptionalPatternIsNotPushedDown() {
+		List<String> results = evaluate("SELECT ?doc WHERE { ?doc search:matches [ search:query \"common\" ] . "
+				+ "OPTIONAL { ?doc ex:project ex:small . } }");
+
+		assertThat(results).hasSize(DOCUMENTS);
+		assertThat(index().candidateSubjects).isNull();
+	}
+
+	@Test
+	public void testNumDocsIsNotPushedDown() {
+		evaluate("SELECT ?doc WHERE { ?doc search:matches [ search:query \"common\"; search:numDocs 5 ] . "
+				+ "?doc ex:project ex:small . }");
+
+		assertThat(index().candidateSubjects).isNull();
+	}
+
+	@Test
+	public void testEmptyPatternYieldsNoResults() {
+		List<String> results = evaluate("SELECT ?doc WHERE { ?doc search:matches [ search:query \"common\" ] . "
+				+ "?doc ex:project ex:unknown . }");
+
+		assertThat(results).isEmpty();
+	}
+
+	@Test
+	public void testObjectPatternIsPushedDown() {
+		connection.add(vf.createIRI(NS, "list"), vf.createIRI(NS, "contains"), document(42));
+		List<String> results = evaluate("SELECT ?doc WHERE { ?doc search:matches [ search:query \"common\" ] . "
+				+ "ex:list ex:contains ?doc . }");
+
+		assertThat(results).containsExactly(document(42).stringValue());
+		assertThat(index().candidateSubjects).containsExactly(document(42));
+	}
+
+	private List<String> evaluate(String query) {
+		index().candidateSubjects = null;
+		List<String> results = new ArrayList<>();
+		try (TupleQueryResult result = connection.prepareTupleQuery(PREFIXES + query).evaluate()) {
+			result.forEach(bindings -> results.add(bindings.getValue("doc").stringValue()));
+		}
+		return results;
+	}
+
+	private RecordingLuceneIndex index() {
+		return (RecordingLuceneIndex) sail.getLuceneIndex();
+	}
+
+	private static IRI document(int i) {
+		return vf.createIRI(NS, "document" + i);
+	}
+
+	/**
+	 * Records the candidate subjects of the last evaluated query.
+	 */
+	public static class RecordingLuceneIndex extends LuceneIndex {
+
+		volatile Set<Resource> candidateSubjects;
+
+		@Override
+		protected Iterable<? extends DocumentScore> query(Resource subject, QuerySpec spec)
+				throws MalformedQueryException, IOException {
+			candidateSubjects = spec.getCandidateSubjects();
+			return super.query(subject, spec);
+		}
+	}
+}
@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.lucene.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDFS;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.TupleQueryResult;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.sail.lucene.LuceneSail;
+import org.eclipse.rdf4j.sail.lucene.LuceneSailSchema;
+import org.eclipse.rdf4j.sail.lucene.SearchFields;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class LuceneVectorSearchTest {
+
+	private static final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	private static final String NS = "urn:test:";
+
+	private static final IRI EMBEDDING = vf.createIRI(NS, "embedding");
+
+	private static final IRI CAT = vf.createIRI(NS, "cat");
+	private static final IRI DOG = vf.createIRI(NS, "dog");
+	private static final IRI CAR = vf.createIRI(NS, "car");
+
+	private SailRepository repository;
+
+	private RepositoryConnection connection;
+
+	@BeforeEach
+	public void setUp() {
+		LuceneSail lucene = new LuceneSail();
+		lucene.setParameter(LuceneSail.LUCENE_RAMDIR_KEY, "true");
+		lucene.setParameter(LuceneSail.VECTOR_FIELDS, EMBEDDING.stringValue());
+		lucene.setBaseSail(new MemoryStore());
+		repository = new SailRepository(lucene);
+		repository.init();
+		connection = repository.getConnection();
+
+		connection.begin();
+		connection.add(CAT, EMBEDDING, vf.createLiteral("[1.0, 0.1, 0.0]"));
+		connection.add(CAT, RDFS.LABEL, vf.createLiteral("cat"));
+		connection.add(DOG, EMBEDDING, vf.createLiteral("0.9 0.3 0.0"));
+		connection.add(DOG, RDFS.LABEL, vf.createLiteral("dog"));
+		connection.add(CAR, EMBEDDING, vf.createLiteral("[0.0, 0.2, 1.0]"));
+		connection.add(CAR, RDFS.LABEL, vf.createLiteral("car"));
+		connection.commit();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		try {
+			connection.close();
+		} finally {
+			repository.shutDown();
+		}
+	}
+
+	@Test
+	public void testNearestNeighbours() {
+		List<BindingSet> results = nearest("[1.0, 0.0, 0.0]", 3);
+		assertThat(subjects(results)).containsExactly(CAT, DOG, CAR);
+
+		float[] scores = new float[results.size()];
+		for (int i = 0; i < scores.length; i++) {
+			scores[i] = ((Literal) results.get(i).getValue("score")).floatValue();
+		}
+		assertThat(scores[0]).isGreaterThan(scores[1]);
+		assertThat(scores[1]).isGreaterThan(scores[2]);
+		// cosine of 1.0 / sqrt(1.01)
+		assertEquals((1 + 1 / Math.sqrt(1.01)) / 2, scores[0], 1e-5);
+	}
+
+	@Test
+	public void testNumDocsLimitsNeighbours() {
+		assertThat(subjects(nearest("[0.0, 0.0, 1.0]", 1))).containsExactly(CAR);
+		assertThat(subjects(nearest("[1.0, 0.4, 0.0]", 2))).containsExactly(DOG, CAT);
+	}
+
+	@Test
+	public void testJoinWithGraphPattern() {
+		String query = "PREFIX search: <" + LuceneSailSchema.NAMESPACE + "> "
+				+ "SELECT ?label WHERE { "
+				+ "  ?subj search:matches [ search:query \"[1.0, 0.0, 0.0]\"; search:property <" + EMBEDDING + ">; "
+				+ "    search:numDocs 2 ] . "
+				+ "  ?subj <" + RDFS.LABEL + "> ?label . "
+				+ "  FILTER (?label != \"cat\") "
+				+ "}";
+		try (TupleQueryResult result = connection.prepareTupleQuery(query).evaluate()) {
+			List<String> labels = new ArrayList<>();
+			result.forEach(bindings -> labels.add(bindings.getValue("label").stringValue()));
+			assertThat(labels).containsExactly("dog");
+		}
+	}
+
+	@Test
+	public void testUpdateAndRemoveVector() {
+		connection.begin();
+		connection.remove(CAR, EMBEDDING, null);
+		connection.add(CAR, EMBEDDING, vf.createLiteral("[1.0, 0.0, 0.0]"));
+		connection.commit();
+		assertThat(subjects(nearest("[1.0, 0.0, 0.0]", 1))).containsExactly(CAR);
+
+		connection.begin();
+		connection.remove(CAR, EMBEDDING, null);
+		connection.commit();
+		assertThat(subjects(nearest("[1.0, 0.0, 0.0]", 3))).containsExactly(CAT, DOG);
+	}
+
+	@Test
+	public void testVectorsWithOtherDimensionsAreIgnored() {
+		connection.begin();
+		connection.add(vf.createIRI(NS, "plane"), EMBEDDING, vf.createLiteral("[1.0, 0.0]"));
+		connection.add(vf.createIRI(NS, "invalid"), EMBEDDING, vf.createLiteral("not a vector"));
+		connection.commit();
+
+		assertThat(subjects(nearest("[1.0, 0.0, 0.0]", 10))).containsExactly(CAT, DOG, CAR);
+		assertThat(subjects(nearest("[1.0, 0.0]", 10))).containsExactly(vf.createIRI(NS, "plane"));
+	}
+
+	@Test
+	public void testInvalidQueryVector() {
+		// like other malformed search queries, this is reported as an assertion error when assertions are enabled
+		assertThatThrownBy(() -> nearest("one two", 1)).hasMessageContaining("one two");
+	}
+
+	@Test
+	public void testParseVector() {
+		assertThat(SearchFields.parseVector(" [0.5,-1, 2e-1] ")).containsExactly(0.5f, -1f, 0.2f);
+		assertThat(SearchFields.parseVector("1 2\t3")).containsExactly(1f, 2f, 3f);
+		assertThatThrownBy(() -> SearchFields.parseVector("[]")).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> SearchFields.parseVector("[1, NaN]")).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> SearchFields.parseVector("[1, a]")).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private List<BindingSet> nearest(String vector, int k) {
+		String query = "PREFIX search: <" + LuceneSailSchema.NAMESPACE + "> "
+				+ "SELECT ?subj ?score WHERE { "
+				+ "  ?subj search:matches [ search:query \"" + vector + "\"; search:property <" + EMBEDDING + ">; "
+				+ "    search:numDocs " + k + "; search:score ?score ] . "
+				+ "} ORDER BY DESC(?score)";
+		List<BindingSet> results = new ArrayList<>();
+		try (TupleQueryResult result = connection.prepareTupleQuery(query).evaluate()) {
+			result.forEach(results::add);
+		}
+		return results;
+	}
+
+	private static List<IRI> subjects(List<BindingSet> results) {
+		List<IRI> subjects = new ArrayList<>();
+		results.forEach(bindings -> subjects.add((IRI) bindings.getValue("subj")));
+		return subjects;
+	}
+}
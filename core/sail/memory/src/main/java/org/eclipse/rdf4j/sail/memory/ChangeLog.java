@@ -0,0 +1,512 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.memory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import org.eclipse.rdf4j.common.io.IOUtil;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.sail.SailException;
+import org.eclipse.rdf4j.sail.base.SailSink;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An append-only log of the changes committed to a MemoryStore, which is used instead of rewriting the whole data file
+ * on every sync. The log consists of numbered segment files in the data directory. Each segment starts with a header
+ * followed by one record per flushed sink. A record is the length of its operations, the operations and a checksum,
+ * so that a record that was only partially written before a crash is detected and ignored when the log is replayed.
+ * <p>
+ * Records are collected in memory when transactions commit and are written to the current segment by {@link #sync()},
+ * so that a single write and fsync covers all transactions committed since the previous sync. The log is compacted by
+ * {@link #rotate(Runnable) starting a new segment}, writing a snapshot that contains the changes of all older segments
+ * and then {@link #compacted(List) deleting} those segments.
+ * <p>
+ * Replaying a sequence of operations a second time does not change the result, since the last operation that affects
+ * a statement or namespace determines whether it exists. Segments which are already contained in the data file, due
+ * to a crash between writing the snapshot and deleting the segments, can therefore be replayed safely.
+ */
+class ChangeLog implements Closeable {
+
+	private static final Logger logger = LoggerFactory.getLogger(ChangeLog.class);
+
+	private static final String SEGMENT_PREFIX = "memorystore.";
+
+	private static final String SEGMENT_SUFFIX = ".log";
+
+	/**
+	 * Magic number for Binary Memory Store Log files
+	 */
+	private static final byte[] MAGIC_NUMBER = new byte[] { 'B', 'M', 'S', 'L' };
+
+	private static final int FORMAT_VERSION = 1;
+
+	/* OPERATION TYPES */
+	private static final int APPROVE_MARKER = 1;
+
+	private static final int DEPRECATE_MARKER = 2;
+
+	private static final int CLEAR_MARKER = 3;
+
+	private static final int DEPRECATE_BY_QUERY_MARKER = 4;
+
+	private static final int SET_NAMESPACE_MARKER = 5;
+
+	private static final int REMOVE_NAMESPACE_MARKER = 6;
+
+	private static final int CLEAR_NAMESPACES_MARKER = 7;
+
+	private final File dataDir;
+
+	private final List<File> segments;
+
+	/**
+	 * Guards the records that have not been written yet, see {@link #append(Transaction, Runnable)}.
+	 */
+	private final Object appendLock = new Object();
+
+	/**
+	 * Guards the current segment, see {@link #sync()}.
+	 */
+	private final Object writeLock = new Object();
+
+	private ByteArrayOutputStream pending = new ByteArrayOutputStream();
+
+	private long generation;
+
+	private FileChannel channel;
+
+	private volatile long size;
+
+	/**
+	 * Opens a new segment after the existing segments in the given directory.
+	 */
+	ChangeLog(File dataDir) throws IOException {
+		this.dataDir = dataDir;
+		this.segments = getSegments(dataDir);
+		for (File segment : segments) {
+			size += segment.length();
+		}
+		generation = segments.isEmpty() ? 0 : getGeneration(segments.get(segments.size() - 1));
+		openNextSegment();
+	}
+
+	/**
+	 * @return the existing segments in the given directory, oldest first
+	 */
+	static List<File> getSegments(File dataDir) {
+		File[] files = dataDir.listFiles((dir, name) -> name.startsWith(SEGMENT_PREFIX)
+				&& name.endsWith(SEGMENT_SUFFIX) && getGeneration(name) >= 0);
+		if (files == null) {
+			return new ArrayList<>();
+		}
+		Arrays.sort(files, Comparator.comparingLong(ChangeLog::getGeneration));
+		return new ArrayList<>(Arrays.asList(files));
+	}
+
+	private static long getGeneration(File segment) {
+		return getGeneration(segment.getName());
+	}
+
+	private static long getGeneration(String name) {
+		try {
+			return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+		} catch (NumberFormatException | IndexOutOfBoundsException e) {
+			return -1;
+		}
+	}
+
+	/**
+	 * Applies the operations of all complete records in the given segment to the sinks.
+	 *
+	 * @return false if the segment ends with an incomplete or corrupt record, which was ignored
+	 */
+	static boolean replay(File segment, ValueFactory vf, SailSink explicit, SailSink inferred)
+			throws IOException, SailException {
+		try (InputStream in = Files.newInputStream(segment.toPath())) {
+			byte[] magicNumber = IOUtil.readBytes(in, MAGIC_NUMBER.length);
+			if (magicNumber.length < MAGIC_NUMBER.length) {
+				// the header was not completely written
+				return false;
+			}
+			if (!Arrays.equals(magicNumber, MAGIC_NUMBER)) {
+				throw new IOException("File is not a binary MemoryStore log file: " + segment);
+			}
+			int formatVersion = in.read();
+			if (formatVersion < 0) {
+				return false;
+			}
+			if (formatVersion != FORMAT_VERSION) {
+				throw new IOException("Incompatible log format version: " + formatVersion);
+			}
+
+			DataInputStream dataIn = new DataInputStream(in);
+			FileIO fileIO = new FileIO(vf);
+			int firstByte;
+			while ((firstByte = dataIn.read()) >= 0) {
+				byte[] record;
+				try {
+					int length = firstByte << 24 | dataIn.readUnsignedByte() << 16 | dataIn.readUnsignedByte() << 8
+							| dataIn.readUnsignedByte();
+					if (length < 0 || length > segment.length()) {
+						return false;
+					}
+					record = IOUtil.readBytes(dataIn, length);
+					if (record.length != length || dataIn.readInt() != checksum(record, record.length)) {
+						return false;
+					}
+				} catch (EOFException e) {
+					return false;
+				}
+				replayRecord(record, fileIO, vf, explicit, inferred);
+			}
+			return true;
+		}
+	}
+
+	private static void replayRecord(byte[] record, FileIO fileIO, ValueFactory vf, SailSink explicit,
+			SailSink inferred) throws IOException {
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(record));
+		while (in.available() > 0) {
+			int marker = in.readByte();
+			switch (marker) {
+			case APPROVE_MARKER: {
+				SailSink sink = in.readBoolean() ? explicit : inferred;
+				sink.approve((Resource) fileIO.readValue(in), (IRI) fileIO.readValue(in), fileIO.readValue(in),
+						(Resource) readNullableValue(in, fileIO));
+				break;
+			}
+			case DEPRECATE_MARKER: {
+				SailSink sink = in.readBoolean() ? explicit : inferred;
+				sink.deprecate(vf.createStatement((Resource) fileIO.readValue(in), (IRI) fileIO.readValue(in),
+						fileIO.readValue(in), (Resource) readNullableValue(in, fileIO)));
+				break;
+			}
+			case CLEAR_MARKER: {
+				SailSink sink = in.readBoolean() ? explicit : inferred;
+				sink.clear(readContexts(in, fileIO));
+				break;
+			}
+			case DEPRECATE_BY_QUERY_MARKER: {
+				SailSink sink = in.readBoolean() ? explicit : inferred;
+				sink.deprecateByQuery((Resource) readNullableValue(in, fileIO), (IRI) readNullableValue(in, fileIO),
+						readNullableValue(in, fileIO), readContexts(in, fileIO));
+				break;
+			}
+			case SET_NAMESPACE_MARKER:
+				explicit.setNamespace(fileIO.readString(in), fileIO.readString(in));
+				break;
+			case REMOVE_NAMESPACE_MARKER:
+				explicit.removeNamespace(fileIO.readString(in));
+				break;
+			case CLEAR_NAMESPACES_MARKER:
+				explicit.clearNamespaces();
+				break;
+			default:
+				throw new IOException("Invalid operation marker: " + marker);
+			}
+		}
+	}
+
+	private static Value readNullableValue(DataInputStream in, FileIO fileIO) throws IOException {
+		return in.readBoolean() ? fileIO.readValue(in) : null;
+	}
+
+	private static Resource[] readContexts(DataInputStream in, FileIO fileIO) throws IOException {
+		int count = in.readInt();
+		if (count < 0) {
+			return null;
+		}
+		Resource[] contexts = new Resource[count];
+		for (int i = 0; i < count; i++) {
+			contexts[i] = (Resource) readNullableValue(in, fileIO);
+		}
+		return contexts;
+	}
+
+	private static int checksum(byte[] bytes, int length) {
+		CRC32 crc = new CRC32();
+		crc.update(bytes, 0, length);
+		return (int) crc.getValue();
+	}
+
+	/**
+	 * @return a new transaction to collect the operations of a sink
+	 */
+	Transaction newTransaction(boolean explicit, ValueFactory vf) {
+		return new Transaction(explicit, vf);
+	}
+
+	/**
+	 * Adds the operations of the given transaction to the log and calls the given action, without any
+	 * {@link #rotate(Runnable) rotation} in between. The operations are written by the next {@link #sync()}.
+	 *
+	 * @param transaction the operations to append, may be null if there are none
+	 */
+	void append(Transaction transaction, Runnable commit) {
+		synchronized (appendLock) {
+			if (transaction != null && !transaction.isEmpty()) {
+				byte[] record = transaction.bytes.toByteArray();
+				writeRecord(record);
+				size += record.length + 8;
+			}
+			commit.run();
+		}
+	}
+
+	private void writeRecord(byte[] record) {
+		pending.write(record.length >>> 24);
+		pending.write(record.length >>> 16);
+		pending.write(record.length >>> 8);
+		pending.write(record.length);
+		pending.writeBytes(record);
+		int checksum = checksum(record, record.length);
+		pending.write(checksum >>> 24);
+		pending.write(checksum >>> 16);
+		pending.write(checksum >>> 8);
+		pending.write(checksum);
+	}
+
+	/**
+	 * Writes all appended records to the current segment and forces them to disk. Records that are appended while
+	 * this method is writing are written by the next call.
+	 */
+	void sync() throws IOException {
+		synchronized (writeLock) {
+			byte[] records;
+			synchronized (appendLock) {
+				if (pending.size() == 0) {
+					return;
+				}
+				records = pending.toByteArray();
+				pending = new ByteArrayOutputStream();
+			}
+			write(records);
+		}
+	}
+
+	private void write(byte[] records) throws IOException {
+		ByteBuffer buffer = ByteBuffer.wrap(records);
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		channel.force(false);
+	}
+
+	/**
+	 * Writes all appended records, starts a new segment and calls the given action before any further transaction
+	 * can be appended. The action can thereby take a snapshot of the store which contains the changes of exactly the
+	 * returned segments.
+	 *
+	 * @return the segments before the new segment
+	 */
+	List<File> rotate(Runnable takeSnapshot) throws IOException {
+		synchronized (writeLock) {
+			synchronized (appendLock) {
+				if (pending.size() > 0) {
+					write(pending.toByteArray());
+					pending = new ByteArrayOutputStream();
+				}
+				channel.close();
+				List<File> rotated = new ArrayList<>(segments);
+				openNextSegment();
+				takeSnapshot.run();
+				return rotated;
+			}
+		}
+	}
+
+	/**
+	 * Deletes the given segments, after a snapshot containing their changes has been written.
+	 */
+	void compacted(List<File> compactedSegments) {
+		synchronized (appendLock) {
+			for (File segment : compactedSegments) {
+				long length = segment.length();
+				if (segment.delete() || !segment.exists()) {
+					segments.remove(segment);
+					size -= length;
+				} else {
+					logger.warn("Failed to delete compacted log file {}", segment);
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return the number of bytes in all segments, including records that have not been written yet
+	 */
+	long size() {
+		return size;
+	}
+
+	private void openNextSegment() throws IOException {
+		generation++;
+		File segment = new File(dataDir, SEGMENT_PREFIX + generation + SEGMENT_SUFFIX);
+		channel = FileChannel.open(segment.toPath(), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+		segments.add(segment);
+
+		ByteArrayOutputStream header = new ByteArrayOutputStream();
+		header.writeBytes(MAGIC_NUMBER);
+		header.write(FORMAT_VERSION);
+		write(header.toByteArray());
+		size += header.size();
+	}
+
+	@Override
+	public void close() throws IOException {
+		synchronized (writeLock) {
+			try {
+				sync();
+			} finally {
+				channel.close();
+			}
+		}
+	}
+
+	/**
+	 * The operations of a sink, which are appended to the log when the sink is flushed.
+	 */
+	static class Transaction {
+
+		private final boolean explicit;
+
+		private final FileIO fileIO;
+
+		private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		private final DataOutputStream out = new DataOutputStream(bytes);
+
+		private Transaction(boolean explicit, ValueFactory vf) {
+			this.explicit = explicit;
+			this.fileIO = new FileIO(vf);
+		}
+
+		boolean isEmpty() {
+			return bytes.size() == 0;
+		}
+
+		void approve(Resource subj, IRI pred, Value obj, Resource ctx) {
+			try {
+				out.writeByte(APPROVE_MARKER);
+				out.writeBoolean(explicit);
+				fileIO.writeValue(subj, out);
+				fileIO.writeValue(pred, out);
+				fileIO.writeValue(obj, out);
+				writeNullableValue(ctx);
+			} catch (IOException e) {
+				throw new SailException(e);
+			}
+		}
+
+		void deprecate(Statement statement) {
+			try {
+				out.writeByte(DEPRECATE_MARKER);
+				out.writeBoolean(explicit);
+				fileIO.writeValue(statement.getSubject(), out);
+				fileIO.writeValue(statement.getPredicate(), out);
+				fileIO.writeValue(statement.getObject(), out);
+				writeNullableValue(statement.getContext());
+			} catch (IOException e) {
+				throw new SailException(e);
+			}
+		}
+
+		void clear(Resource... contexts) {
+			try {
+				out.writeByte(CLEAR_MARKER);
+				out.writeBoolean(explicit);
+				writeContexts(contexts);
+			} catch (IOException e) {
+				throw new SailException(e);
+			}
+		}
+
+		void deprecateByQuery(Resource subj, IRI pred, Value obj, Resource[] contexts) {
+			try {
+				out.writeByte(DEPRECATE_BY_QUERY_MARKER);
+				out.writeBoolean(explicit);
+				writeNullableValue(subj);
+				writeNullableValue(pred);
+				writeNullableValue(obj);
+				writeContexts(contexts);
+			} catch (IOException e) {
+				throw new SailException(e);
+			}
+		}
+
+		void setNamespace(String prefix, String name) {
+			try {
+				out.writeByte(SET_NAMESPACE_MARKER);
+				fileIO.writeString(prefix, out);
+				fileIO.writeString(name, out);
+			} catch (IOException e) {
+				throw new SailException(e);
+			}
+		}
+
+		void removeNamespace(String prefix) {
+			try {
+				out.writeByte(REMOVE_NAMESPACE_MARKER);
+				fileIO.writeString(prefix, out);
+			} catch (IOException e) {
+				throw new SailException(e);
+			}
+		}
+
+		void clearNamespaces() {
+			try {
+				out.writeByte(CLEAR_NAMESPACES_MARKER);
+			} catch (IOException e) {
+				throw new SailException(e);
+			}
+		}
+
+		private void writeNullableValue(Value value) throws IOException {
+			out.writeBoolean(value != null);
+			if (value != null) {
+				fileIO.writeValue(value, out);
+			}
+		}
+
+		private void writeContexts(Resource[] contexts) throws IOException {
+			if (contexts == null) {
+				out.writeInt(-1);
+				return;
+			}
+			out.writeInt(contexts.length);
+			for (Resource context : contexts) {
+				writeNullableValue(context);
+			}
+		}
+	}
+}
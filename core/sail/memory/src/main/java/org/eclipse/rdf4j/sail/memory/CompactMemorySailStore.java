@@ -0,0 +1,601 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.memory;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rdf4j.common.concurrent.locks.ExclusiveReentrantLockManager;
+import org.eclipse.rdf4j.common.concurrent.locks.Lock;
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.CloseableIteratorIteration;
+import org.eclipse.rdf4j.common.iteration.EmptyIteration;
+import org.eclipse.rdf4j.common.transaction.IsolationLevel;
+import org.eclipse.rdf4j.common.transaction.IsolationLevels;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Namespace;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Triple;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.query.algebra.StatementPattern;
+import org.eclipse.rdf4j.query.algebra.Var;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.EvaluationStatistics;
+import org.eclipse.rdf4j.sail.SailConflictException;
+import org.eclipse.rdf4j.sail.SailException;
+import org.eclipse.rdf4j.sail.base.BackingSailSource;
+import org.eclipse.rdf4j.sail.base.Changeset.SimpleStatementPattern;
+import org.eclipse.rdf4j.sail.base.ObservedPatterns;
+import org.eclipse.rdf4j.sail.base.SailDataset;
+import org.eclipse.rdf4j.sail.base.SailSink;
+import org.eclipse.rdf4j.sail.base.SailSource;
+import org.eclipse.rdf4j.sail.base.SailStore;
+import org.eclipse.rdf4j.sail.base.SerializableConflictStatistics;
+import org.eclipse.rdf4j.sail.memory.CompactStatementTable.CompactStatement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An implementation of {@link SailStore} that keeps committed statements in a {@link CompactStatementTable}. It offers
+ * the same snapshot semantics as {@link MemorySailStore}, but needs a fraction of the heap per statement because
+ * statements are stored as int IDs in sorted primitive arrays instead of as objects that link to each other.
+ *
+ * @see MemoryStore#setCompactStorage(boolean)
+ */
+class CompactMemorySailStore implements SailStore {
+
+	private static final Logger logger = LoggerFactory.getLogger(CompactMemorySailStore.class);
+
+	private final ValueFactory valueFactory = SimpleValueFactory.getInstance();
+
+	private final CompactStatementTable statements = new CompactStatementTable();
+
+	/**
+	 * Set to true when the first inferred statement is added, see MemorySailStore.mayHaveInferred.
+	 */
+	private volatile boolean mayHaveInferred = false;
+
+	/**
+	 * Identifies the current snapshot.
+	 */
+	private volatile int currentSnapshot;
+
+	final MemorySailStore.SnapshotMonitor snapshotMonitor;
+
+	private final MemNamespaceStore namespaceStore = new MemNamespaceStore();
+
+	/**
+	 * Lock manager used to prevent concurrent writes.
+	 */
+	private final ExclusiveReentrantLockManager txnLockManager = new ExclusiveReentrantLockManager(
+			"CompactMemorySailStore-txnLockManager");
+
+	/**
+	 * Cleanup thread that merges new statements and removes deprecated statements, see
+	 * {@link #scheduleSnapshotCleanup()}.
+	 */
+	private volatile Thread snapshotCleanupThread;
+
+	private final Object snapshotCleanupThreadLockObject = new Object();
+
+	/**
+	 * The log that committed changes are appended to, or null if changes are not logged.
+	 */
+	private volatile ChangeLog changeLog;
+
+	private final SnapshotCleanupStatistics cleanupStatistics;
+
+	private final SerializableConflictStatistics conflictStatistics;
+
+	CompactMemorySailStore(boolean debug, SnapshotCleanupStatistics cleanupStatistics,
+			SerializableConflictStatistics conflictStatistics) {
+		snapshotMonitor = new MemorySailStore.SnapshotMonitor(debug);
+		this.cleanupStatistics = cleanupStatistics;
+		this.conflictStatistics = conflictStatistics;
+	}
+
+	@Override
+	public ValueFactory getValueFactory() {
+		return valueFactory;
+	}
+
+	@Override
+	public void close() {
+		synchronized (snapshotCleanupThreadLockObject) {
+			if (snapshotCleanupThread != null) {
+				snapshotCleanupThread.interrupt();
+				snapshotCleanupThread = null;
+			}
+		}
+		statements.clear();
+		namespaceStore.clear();
+	}
+
+	/**
+	 * Appends the changes of all following transactions to the given log, or stops logging changes if it is null.
+	 */
+	void setChangeLog(ChangeLog changeLog) {
+		this.changeLog = changeLog;
+	}
+
+	@Override
+	public EvaluationStatistics getEvaluationStatistics() {
+		return new CompactEvaluationStatistics();
+	}
+
+	@Override
+	public SailSource getExplicitSailSource() {
+		return new CompactSailSource(true);
+	}
+
+	@Override
+	public SailSource getInferredSailSource() {
+		return new CompactSailSource(false);
+	}
+
+	private CloseableIteration<CompactStatement> createStatementIterator(Resource subj, IRI pred, Value obj,
+			Boolean explicit, int snapshot, Resource... contexts) {
+		if (explicit != null && !explicit && !mayHaveInferred && snapshot >= 0) {
+			return new EmptyIteration<>();
+		}
+		return statements.getStatements(subj, pred, obj, explicit, snapshot, contexts);
+	}
+
+	/**
+	 * Merges the statements that were added since the last cleanup into the sorted statements, and removes the
+	 * statements that are no longer visible in any snapshot that is in use.
+	 */
+	void cleanSnapshots() throws InterruptedException {
+		int highestUnusedTillSnapshot = snapshotMonitor.getFirstUnusedOrElse(currentSnapshot - 1);
+		long start = System.nanoTime();
+		int removed = statements.merge(highestUnusedTillSnapshot);
+		long duration = System.nanoTime() - start;
+		cleanupStatistics.record(duration, removed);
+		logger.debug("Cleaning snapshots took {} ms and removed {} statements.",
+				TimeUnit.NANOSECONDS.toMillis(duration), removed);
+	}
+
+	private void scheduleSnapshotCleanup() {
+		// we don't schedule snapshot cleanup on small memory stores
+		if (statements.size() < 1000) {
+			return;
+		}
+
+		synchronized (snapshotCleanupThreadLockObject) {
+			if (snapshotCleanupThread == null || !snapshotCleanupThread.isAlive()) {
+				snapshotCleanupThread = new Thread(() -> {
+					try {
+						while (true) {
+							int snapshot = currentSnapshot;
+							if (!statements.isMergeDue()) {
+								// give running transactions the chance to release their snapshots
+								Thread.sleep(1000);
+							}
+							// while transactions keep committing, only merge once enough changes have accumulated
+							if (snapshot == currentSnapshot || statements.isMergeDue()) {
+								cleanSnapshots();
+							}
+							synchronized (snapshotCleanupThreadLockObject) {
+								// transactions that committed in the meantime did not schedule a cleanup of their own
+								if (snapshot == currentSnapshot || !statements.needsMerge()) {
+									if (snapshotCleanupThread == Thread.currentThread()) {
+										snapshotCleanupThread = null;
+									}
+									return;
+								}
+							}
+						}
+					} catch (InterruptedException e) {
+						logger.debug("snapshot cleanup interrupted");
+					}
+				}, "CompactMemoryStore snapshot cleanup");
+				snapshotCleanupThread.setDaemon(true);
+				snapshotCleanupThread.start();
+			}
+		}
+	}
+
+	private final class CompactSailSource extends BackingSailSource {
+
+		private final boolean explicit;
+
+		public CompactSailSource(boolean explicit) {
+			this.explicit = explicit;
+		}
+
+		@Override
+		public SailSink sink(IsolationLevel level) throws SailException {
+			return new CompactSailSink(explicit, level.isCompatibleWith(IsolationLevels.SERIALIZABLE));
+		}
+
+		@Override
+		protected SerializableConflictStatistics getSerializableConflictStatistics() {
+			return conflictStatistics;
+		}
+
+		@Override
+		public SailDataset dataset(IsolationLevel level) throws SailException {
+			if (level.isCompatibleWith(IsolationLevels.SNAPSHOT_READ)) {
+				return new CompactSailDataset(explicit, currentSnapshot);
+			} else {
+				return new CompactSailDataset(explicit);
+			}
+		}
+	}
+
+	private final class CompactSailSink implements SailSink {
+
+		private volatile boolean closed = false;
+
+		private final boolean explicit;
+
+		private final int serializable;
+		private final MemorySailStore.SnapshotMonitor.ReservedSnapshot reservedSnapshot;
+
+		private int nextSnapshot;
+
+		private ObservedPatterns observations;
+		private volatile Lock txnLock;
+
+		private boolean requireCleanup;
+
+		private ChangeLog.Transaction loggedChanges;
+
+		public CompactSailSink(boolean explicit, boolean serializable) {
+			this.explicit = explicit;
+			if (serializable) {
+				this.serializable = currentSnapshot;
+				this.reservedSnapshot = snapshotMonitor.reserve(this.serializable, this);
+			} else {
+				this.serializable = Integer.MAX_VALUE;
+				this.reservedSnapshot = null;
+			}
+		}
+
+		@Override
+		public synchronized void prepare() throws SailException {
+			acquireExclusiveTransactionLock();
+			if (observations != null) {
+				boolean conflict = hasObservedStatementChanged();
+				// the changes of concurrent transactions are not recorded, so they are not counted
+				conflictStatistics.recordCheck(0, conflict);
+				if (conflict) {
+					throw new SailConflictException("Observed State has Changed");
+				}
+			}
+		}
+
+		private boolean hasObservedStatementChanged() {
+			for (SimpleStatementPattern p : observations) {
+				Resource[] contexts = p.isAllContexts() ? new Resource[0] : new Resource[] { p.getContext() };
+				try (CloseableIteration<CompactStatement> iter = createStatementIterator(p.getSubject(),
+						p.getPredicate(), p.getObject(), null, -1, contexts)) {
+					while (iter.hasNext()) {
+						if (statements.changedBetween(iter.next(), serializable, nextSnapshot)) {
+							return true;
+						}
+					}
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public synchronized void flush() throws SailException {
+			if (txnLock != null && txnLock.isActive()) {
+				ChangeLog changeLog = CompactMemorySailStore.this.changeLog;
+				if (changeLog != null) {
+					changeLog.append(loggedChanges, () -> currentSnapshot = Math.max(currentSnapshot, nextSnapshot));
+					loggedChanges = null;
+				} else {
+					currentSnapshot = Math.max(currentSnapshot, nextSnapshot);
+				}
+				if (requireCleanup || statements.needsMerge()) {
+					scheduleSnapshotCleanup();
+				}
+			}
+		}
+
+		@Override
+		public void close() {
+			if (!closed) {
+				closed = true;
+				try {
+					if (reservedSnapshot != null) {
+						reservedSnapshot.release();
+					}
+				} finally {
+					try {
+						releaseLock();
+					} finally {
+						observations = null;
+						loggedChanges = null;
+					}
+				}
+			}
+		}
+
+		synchronized private void releaseLock() {
+			if (txnLock != null) {
+				assert txnLock.isActive();
+				txnLock.release();
+				txnLock = null;
+			}
+		}
+
+		/**
+		 * @return the changes of this sink that are appended to the change log when it is flushed, or null if changes
+		 *         are not logged
+		 */
+		private ChangeLog.Transaction loggedChanges() {
+			if (loggedChanges == null && changeLog != null) {
+				loggedChanges = changeLog.newTransaction(explicit, valueFactory);
+			}
+			return loggedChanges;
+		}
+
+		@Override
+		public synchronized void setNamespace(String prefix, String name) {
+			acquireExclusiveTransactionLock();
+			namespaceStore.setNamespace(prefix, name);
+			if (loggedChanges() != null) {
+				loggedChanges.setNamespace(prefix, name);
+			}
+		}
+
+		@Override
+		public synchronized void removeNamespace(String prefix) {
+			acquireExclusiveTransactionLock();
+			namespaceStore.removeNamespace(prefix);
+			if (loggedChanges() != null) {
+				loggedChanges.removeNamespace(prefix);
+			}
+		}
+
+		@Override
+		public synchronized void clearNamespaces() {
+			acquireExclusiveTransactionLock();
+			namespaceStore.clear();
+			if (loggedChanges() != null) {
+				loggedChanges.clearNamespaces();
+			}
+		}
+
+		@Override
+		public synchronized void observe(Resource subj, IRI pred, Value obj, Resource... contexts)
+				throws SailException {
+			if (observations == null) {
+				observations = new ObservedPatterns();
+			}
+			observations.observe(subj, pred, obj, contexts);
+		}
+
+		@Override
+		public synchronized void clear(Resource... contexts) {
+			acquireExclusiveTransactionLock();
+			requireCleanup = true;
+			deprecateMatching(null, null, null, contexts);
+			if (loggedChanges() != null) {
+				loggedChanges.clear(contexts);
+			}
+		}
+
+		@Override
+		public synchronized void approve(Resource subj, IRI pred, Value obj, Resource ctx) {
+			acquireExclusiveTransactionLock();
+			addStatement(subj, pred, obj, ctx);
+			if (loggedChanges() != null) {
+				loggedChanges.approve(subj, pred, obj, ctx);
+			}
+		}
+
+		@Override
+		public synchronized void approveAll(Set<Statement> approved, Set<Resource> approvedContexts) {
+			acquireExclusiveTransactionLock();
+			for (Statement statement : approved) {
+				addStatement(statement.getSubject(), statement.getPredicate(), statement.getObject(),
+						statement.getContext());
+				if (loggedChanges() != null) {
+					loggedChanges.approve(statement.getSubject(), statement.getPredicate(), statement.getObject(),
+							statement.getContext());
+				}
+			}
+		}
+
+		@Override
+		public synchronized void deprecateAll(Set<Statement> deprecated) {
+			acquireExclusiveTransactionLock();
+			requireCleanup = true;
+			for (Statement statement : deprecated) {
+				innerDeprecate(statement);
+				if (loggedChanges() != null) {
+					loggedChanges.deprecate(statement);
+				}
+			}
+		}
+
+		@Override
+		public synchronized void deprecate(Statement statement) throws SailException {
+			acquireExclusiveTransactionLock();
+			requireCleanup = true;
+			innerDeprecate(statement);
+			if (loggedChanges() != null) {
+				loggedChanges.deprecate(statement);
+			}
+		}
+
+		private void innerDeprecate(Statement statement) {
+			if (statement instanceof LinkedHashModel.ModelStatement) {
+				// the Changeset keeps a reference to the statement that was read from the store
+				statement = ((LinkedHashModel.ModelStatement) statement).getStatement();
+			}
+			statements.deprecate(statement, explicit, nextSnapshot);
+		}
+
+		@Override
+		public synchronized boolean deprecateByQuery(Resource subj, IRI pred, Value obj, Resource[] contexts) {
+			acquireExclusiveTransactionLock();
+			requireCleanup = true;
+			boolean deprecated = deprecateMatching(subj, pred, obj, contexts);
+			if (deprecated && loggedChanges() != null) {
+				loggedChanges.deprecateByQuery(subj, pred, obj, contexts);
+			}
+			return deprecated;
+		}
+
+		private boolean deprecateMatching(Resource subj, IRI pred, Value obj, Resource... contexts) {
+			boolean deprecated = false;
+			try (CloseableIteration<CompactStatement> iter = createStatementIterator(subj, pred, obj, explicit,
+					nextSnapshot, contexts)) {
+				while (iter.hasNext()) {
+					statements.deprecate(iter.next(), nextSnapshot);
+					deprecated = true;
+				}
+			}
+			return deprecated;
+		}
+
+		private void addStatement(Resource subj, IRI pred, Value obj, Resource ctx) {
+			if (!explicit) {
+				mayHaveInferred = true;
+			}
+			if (statements.add(subj, pred, obj, ctx, explicit, nextSnapshot) && statements.isMergeDue()) {
+				// merge in the background while the transaction keeps adding statements
+				scheduleSnapshotCleanup();
+			}
+		}
+
+		private void acquireExclusiveTransactionLock() throws SailException {
+			if (txnLock == null) {
+				synchronized (this) {
+					if (txnLock == null) {
+						try {
+							txnLock = txnLockManager.getExclusiveLock();
+							nextSnapshot = currentSnapshot + 1;
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+							throw new SailException(e);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	private final class CompactSailDataset implements SailDataset {
+
+		private final boolean explicit;
+
+		private final int snapshot;
+		private final MemorySailStore.SnapshotMonitor.ReservedSnapshot reservedSnapshot;
+		private volatile boolean closed;
+
+		public CompactSailDataset(boolean explicit) {
+			this.explicit = explicit;
+			this.snapshot = -1;
+			this.reservedSnapshot = null;
+		}
+
+		public CompactSailDataset(boolean explicit, int snapshot) {
+			this.explicit = explicit;
+			this.snapshot = snapshot;
+			this.reservedSnapshot = snapshotMonitor.reserve(snapshot, this);
+		}
+
+		@Override
+		public void close() {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			if (reservedSnapshot != null) {
+				reservedSnapshot.release();
+			}
+		}
+
+		@Override
+		public String getNamespace(String prefix) throws SailException {
+			return namespaceStore.getNamespace(prefix);
+		}
+
+		@Override
+		public CloseableIteration<? extends Namespace> getNamespaces() {
+			return new CloseableIteratorIteration<>(namespaceStore.iterator());
+		}
+
+		@Override
+		public CloseableIteration<? extends Resource> getContextIDs() throws SailException {
+			return new CloseableIteratorIteration<>(statements.getContextIDs(getCurrentSnapshot()).iterator());
+		}
+
+		@Override
+		public CloseableIteration<? extends Statement> getStatements(Resource subj, IRI pred, Value obj,
+				Resource... contexts) throws SailException {
+			return createStatementIterator(subj, pred, obj, explicit, getCurrentSnapshot(), contexts);
+		}
+
+		@Override
+		public CloseableIteration<? extends Triple> getTriples(Resource subj, IRI pred, Value obj)
+				throws SailException {
+			return new CloseableIteratorIteration<>(
+					statements.getTriples(subj, pred, obj, getCurrentSnapshot()).iterator());
+		}
+
+		private int getCurrentSnapshot() {
+			if (snapshot >= 0) {
+				return snapshot;
+			} else {
+				return currentSnapshot;
+			}
+		}
+	}
+
+	private final class CompactEvaluationStatistics extends EvaluationStatistics {
+
+		@Override
+		protected CardinalityCalculator createCardinalityCalculator() {
+			return new CompactCardinalityCalculator();
+		}
+
+		private final class CompactCardinalityCalculator extends CardinalityCalculator {
+
+			@Override
+			public double getCardinality(StatementPattern sp) {
+				Value subj = getConstantValue(sp.getSubjectVar());
+				Value pred = getConstantValue(sp.getPredicateVar());
+				Value obj = getConstantValue(sp.getObjectVar());
+				Value context = getConstantValue(sp.getContextVar());
+
+				int cardinality = statements.size();
+				if (subj != null && subj.isResource()) {
+					cardinality = Math.min(cardinality, statements.count(CompactStatementTable.SUBJECT, subj));
+				}
+				if (pred != null && pred.isIRI()) {
+					cardinality = Math.min(cardinality, statements.count(CompactStatementTable.PREDICATE, pred));
+				}
+				if (obj != null) {
+					cardinality = Math.min(cardinality, statements.count(CompactStatementTable.OBJECT, obj));
+				}
+				if (context != null && context.isResource()) {
+					cardinality = Math.min(cardinality, statements.count(CompactStatementTable.CONTEXT, context));
+				}
+				return cardinality;
+			}
+
+			private Value getConstantValue(Var var) {
+				return var != null ? var.getValue() : null;
+			}
+		}
+	}
+}
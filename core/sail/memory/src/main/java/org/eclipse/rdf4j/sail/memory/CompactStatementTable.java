@@ -0,0 +1,1780 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.memory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.StampedLock;
+
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.EmptyIteration;
+import org.eclipse.rdf4j.common.iteration.LookAheadIteration;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Triple;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.impl.GenericStatement;
+
+/**
+ * The statements of a {@link CompactMemorySailStore}, kept in primitive arrays instead of one object per statement.
+ * <p>
+ * A dictionary assigns every value an int ID and counts the statements that use it. A statement is stored as the IDs
+ * of its subject, predicate, object and context in parallel columns, together with the snapshots it is visible in.
+ * Most statements are kept in a sorted segment, whose rows are sorted by subject, predicate, object and context. Its
+ * posting lists for the predicates, objects and contexts are stored back to back in one array per role, sorted by value
+ * and then by row, and its columns with few distinct IDs store a byte or short code per row. New statements are
+ * appended to a delta, which keeps a posting list of ascending rows per value and role. {@link #merge(int)} merges the
+ * delta into a new sorted segment, removes the statements that are no longer visible in any snapshot in use and
+ * releases the IDs of the values that are no longer used by any statement.
+ * <p>
+ * Segments are replaced instead of changed, apart from the snapshot in which a statement is deprecated, so that an
+ * iterator can keep reading the segments it started with. Readers hold a read lock only while they copy a small batch
+ * of matching statements, and a merge builds the new segment while holding a read lock for a small batch of rows at a
+ * time, so that writers are never blocked for long.
+ */
+class CompactStatementTable {
+
+	static final int SUBJECT = 0;
+	static final int PREDICATE = 1;
+	static final int OBJECT = 2;
+	static final int CONTEXT = 3;
+
+	/**
+	 * The ID of the default graph, no value is ever assigned this ID.
+	 */
+	private static final int NULL_CONTEXT = 0;
+
+	private static final int BATCH_SIZE = 64;
+
+	private static final int MAX_SCANNED_PER_BATCH = 4096;
+
+	/**
+	 * The minimum number of statements in the delta before a merge is due, see {@link #isMergeDue()}.
+	 */
+	private static final int MIN_MERGE_SIZE = 1 << 16;
+
+	private static final int[] EMPTY = {};
+
+	private final StampedLock lock = new StampedLock();
+
+	/**
+	 * Held while merging, so that only one merge runs at a time.
+	 */
+	private final Object mergeLock = new Object();
+
+	private Value[] values = new Value[256];
+	private int[] references = new int[256];
+	private int[] valueTable = new int[512];
+
+	/**
+	 * The ID that is assigned next if there is no free ID.
+	 */
+	private int nextId = 1;
+
+	/**
+	 * The number of values in the dictionary.
+	 */
+	private int valueCount;
+
+	private int[] freeIds = new int[16];
+	private int freeIdCount;
+
+	private int lastSegmentId;
+
+	private Run base;
+
+	/**
+	 * The delta that is being merged into a new sorted segment, or null if no merge is running.
+	 */
+	private Delta frozen;
+
+	private Delta delta;
+
+	/**
+	 * The deprecations of statements in the segments that are being merged, as triples of segment (0 for the sorted
+	 * segment, 1 for the frozen delta), row and snapshot, or null if no merge is running.
+	 */
+	private int[] mergeLog;
+	private int mergeLogSize;
+
+	/**
+	 * The statements that were deprecated in or before this snapshot have been removed, and the values that only they
+	 * used may have been released. Iterators skip these statements in the segments they started with.
+	 */
+	private int removedTill = -1;
+
+	/**
+	 * Changed by {@link #clear()}, so that running iterators and merges notice that the table has been cleared.
+	 */
+	private int generation;
+
+	/**
+	 * The number of statements, including deprecated statements that have not been removed yet.
+	 */
+	private volatile int size;
+
+	CompactStatementTable() {
+		base = newRun(0);
+		delta = newDelta();
+	}
+
+	/**
+	 * @return the number of statements, including deprecated statements that have not been removed yet
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * @return the number of values that are used by a statement
+	 */
+	int valueCount() {
+		long stamp = lock.readLock();
+		try {
+			return valueCount;
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * @return the number of statements that use the value in the given role, or 0 if the value is unknown
+	 */
+	int count(int role, Value value) {
+		long stamp = lock.readLock();
+		try {
+			int id = lookup(value);
+			if (id <= 0) {
+				return 0;
+			}
+			int count = base.count(role, id) + delta.count(role, id);
+			if (frozen != null) {
+				count += frozen.count(role, id);
+			}
+			return count;
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * Adds a statement that is visible from the given snapshot on, unless an equal statement is already visible in the
+	 * snapshot. An inferred statement that is added explicitly is replaced by an explicit statement.
+	 *
+	 * @return true if a statement was added
+	 */
+	boolean add(Resource subj, IRI pred, Value obj, Resource ctx, boolean explicit, int snapshot) {
+		long stamp = lock.writeLock();
+		try {
+			int s = getOrCreateId(subj);
+			int p = getOrCreateId(pred);
+			int o = getOrCreateId(obj);
+			int c = ctx == null ? NULL_CONTEXT : getOrCreateId(ctx);
+
+			long existing = find(s, p, o, c, (segment, row) -> segment.isInSnapshot(row, snapshot));
+			if (existing >= 0) {
+				Segment segment = segment(existing);
+				if (!segment.isExplicit((int) existing) && explicit) {
+					// inferred statement is now added explicitly
+					deprecate(segment, (int) existing, snapshot);
+				} else {
+					return false;
+				}
+			}
+
+			delta.append(s, p, o, c, explicit, snapshot);
+			references[s]++;
+			references[p]++;
+			references[o]++;
+			if (c != NULL_CONTEXT) {
+				references[c]++;
+			}
+			size++;
+			return true;
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Deprecates the statement in the given snapshot, if it is visible in the snapshot and has the given
+	 * explicit/inferred status.
+	 */
+	void deprecate(Statement statement, boolean explicit, int snapshot) {
+		long stamp = lock.writeLock();
+		try {
+			if (statement instanceof CompactStatement && ((CompactStatement) statement).table == this) {
+				CompactStatement compactStatement = (CompactStatement) statement;
+				Segment segment = currentSegment(compactStatement);
+				if (segment != null) {
+					if (segment.isInSnapshot(compactStatement.row, snapshot)
+							&& segment.isExplicit(compactStatement.row) == explicit) {
+						deprecate(segment, compactStatement.row, snapshot);
+					}
+					return;
+				}
+				// the statement has been merged into a new sorted segment since it was read
+			}
+
+			long found = find(statement, snapshot);
+			if (found >= 0 && segment(found).isExplicit((int) found) == explicit) {
+				deprecate(segment(found), (int) found, snapshot);
+			}
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Deprecates the statement, which is visible in the given snapshot, in the snapshot.
+	 */
+	void deprecate(CompactStatement statement, int snapshot) {
+		assert statement.table == this;
+		long stamp = lock.writeLock();
+		try {
+			Segment segment = currentSegment(statement);
+			if (segment != null) {
+				deprecate(segment, statement.row, snapshot);
+			} else {
+				long found = find(statement, snapshot);
+				if (found >= 0) {
+					deprecate(segment(found), (int) found, snapshot);
+				}
+			}
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * @return true if the statement was added or deprecated after the first and before the second snapshot
+	 */
+	boolean changedBetween(CompactStatement statement, int fromSnapshot, int toSnapshot) {
+		long stamp = lock.readLock();
+		try {
+			Segment segment = currentSegment(statement);
+			if (segment != null) {
+				return segment.changedBetween(statement.row, fromSnapshot, toSnapshot);
+			}
+			// the statement has been merged into a new sorted segment since it was read, so check all its versions
+			int s = lookup(statement.getSubject());
+			int p = lookup(statement.getPredicate());
+			int o = lookup(statement.getObject());
+			int c = statement.getContext() == null ? NULL_CONTEXT : lookup(statement.getContext());
+			return s > 0 && p > 0 && o > 0 && c >= 0 && find(s, p, o, c,
+					(candidate, row) -> candidate.changedBetween(row, fromSnapshot, toSnapshot)) >= 0;
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * Creates an iteration over the statements that match the pattern and are visible in the snapshot. A negative
+	 * snapshot matches all statements that have not been removed yet.
+	 *
+	 * @param explicit true for explicit statements, false for inferred statements, null for both
+	 * @param ctxs     the contexts to match, all contexts if empty
+	 */
+	CloseableIteration<CompactStatement> getStatements(Resource subj, IRI pred, Value obj, Boolean explicit,
+			int snapshot, Resource... ctxs) {
+		long stamp = lock.readLock();
+		try {
+			if (size == 0) {
+				return new EmptyIteration<>();
+			}
+
+			int s = subj == null ? 0 : lookup(subj);
+			int p = pred == null ? 0 : lookup(pred);
+			int o = obj == null ? 0 : lookup(obj);
+			if (s < 0 || p < 0 || o < 0) {
+				return new EmptyIteration<>();
+			}
+
+			int[] c = EMPTY;
+			if (ctxs.length > 0) {
+				c = new int[ctxs.length];
+				int known = 0;
+				for (Resource ctx : ctxs) {
+					int id = ctx == null ? NULL_CONTEXT : lookup(ctx);
+					if (id >= 0) {
+						c[known++] = id;
+					}
+				}
+				if (known == 0) {
+					return new EmptyIteration<>();
+				}
+				c = Arrays.copyOf(c, known);
+			}
+
+			int ctx = c.length == 1 ? c[0] : -1;
+			Cursor[] cursors = frozen == null
+					? new Cursor[] { base.cursor(s, p, o, ctx), delta.cursor(s, p, o, ctx) }
+					: new Cursor[] { base.cursor(s, p, o, ctx), frozen.cursor(s, p, o, ctx),
+							delta.cursor(s, p, o, ctx) };
+			int candidateCount = 0;
+			for (Cursor cursor : cursors) {
+				candidateCount += cursor.end - cursor.position;
+			}
+			if (candidateCount == 0) {
+				return new EmptyIteration<>();
+			}
+
+			return new StatementIterator(cursors, candidateCount, s, p, o, c, explicit, snapshot);
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * @return the values that are used as the context of a statement that is visible in the snapshot
+	 */
+	List<Resource> getContextIDs(int snapshot) {
+		Set<Resource> contextIDs = new LinkedHashSet<>();
+		for (Segment segment : segments()) {
+			if (segment instanceof Run) {
+				addContextIDs((Run) segment, snapshot, contextIDs);
+			} else {
+				addContextIDs((Delta) segment, snapshot, contextIDs);
+			}
+		}
+		return new ArrayList<>(contextIDs);
+	}
+
+	private void addContextIDs(Run run, int snapshot, Set<Resource> contextIDs) {
+		if (run.byContext == null) {
+			return;
+		}
+		int position = 0;
+		while (position < run.size) {
+			long stamp = lock.readLock();
+			try {
+				int end = Math.min(run.size, position + MAX_SCANNED_PER_BATCH);
+				while (position < end) {
+					int row = run.byContext[position];
+					int c = run.contexts.get(row);
+					if (c != NULL_CONTEXT && isVisible(run, row, snapshot)) {
+						contextIDs.add((Resource) values[c]);
+						// skip the other statements in the context
+						position = upperBound(run.byContext, position, run.size, run.contexts,
+								run.contexts.codeAt(row));
+					} else {
+						position++;
+					}
+				}
+			} finally {
+				lock.unlockRead(stamp);
+			}
+		}
+	}
+
+	private void addContextIDs(Delta delta, int snapshot, Set<Resource> contextIDs) {
+		long stamp = lock.readLock();
+		try {
+			PostingLists postings = delta.postings[CONTEXT];
+			for (int i = 0; i < postings.ids.length; i++) {
+				int[] list = postings.lists[i];
+				for (int j = 0; j < postings.sizes[i]; j++) {
+					if (isVisible(delta, list[j], snapshot)) {
+						contextIDs.add((Resource) values[postings.ids[i]]);
+						break;
+					}
+				}
+			}
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * @return the triples that match the pattern and are used as the subject or object of a statement that is visible
+	 *         in the snapshot
+	 */
+	List<Triple> getTriples(Resource subj, IRI pred, Value obj, int snapshot) {
+		List<Triple> triples = new ArrayList<>();
+		for (Segment segment : segments()) {
+			int row = 0;
+			while (true) {
+				long stamp = lock.readLock();
+				try {
+					int end = Math.min(segment.size, row + MAX_SCANNED_PER_BATCH);
+					if (row >= end) {
+						break;
+					}
+					for (; row < end; row++) {
+						if (!isVisible(segment, row, snapshot)) {
+							continue;
+						}
+						Value subject = values[segment.subject(row)];
+						Value object = values[segment.object(row)];
+						if (subject.isTriple() && matches((Triple) subject, subj, pred, obj)) {
+							triples.add((Triple) subject);
+						} else if (object.isTriple() && matches((Triple) object, subj, pred, obj)) {
+							triples.add((Triple) object);
+						}
+					}
+				} finally {
+					lock.unlockRead(stamp);
+				}
+			}
+		}
+		return triples;
+	}
+
+	private static boolean matches(Triple triple, Resource subj, IRI pred, Value obj) {
+		return (subj == null || subj.equals(triple.getSubject()))
+				&& (pred == null || pred.equals(triple.getPredicate()))
+				&& (obj == null || obj.equals(triple.getObject()));
+	}
+
+	/**
+	 * @return true if enough statements have been added or deprecated since the last merge that they should be merged
+	 *         even though the table is still in use
+	 */
+	boolean isMergeDue() {
+		long stamp = lock.readLock();
+		try {
+			int threshold = Math.max(MIN_MERGE_SIZE, base.size >> 2);
+			return frozen != null || delta.size >= threshold || base.deprecated + delta.deprecated >= threshold;
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * @return true if there are statements that have been added or deprecated since the last merge
+	 */
+	boolean needsMerge() {
+		long stamp = lock.readLock();
+		try {
+			return frozen != null || delta.size > 0 || base.deprecated > 0;
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * Merges the statements that were added since the last merge into a new sorted segment, removes all statements
+	 * that were deprecated in or before the given snapshot and releases the values that are no longer used. Statements
+	 * can be added, deprecated and read while the merge is running.
+	 *
+	 * @return the number of removed statements
+	 */
+	int merge(int highestUnusedTillSnapshot) throws InterruptedException {
+		synchronized (mergeLock) {
+			Merge merge;
+			int generation;
+			long stamp = lock.writeLock();
+			try {
+				if (frozen == null) {
+					if (delta.size == 0 && base.deprecated == 0) {
+						return 0;
+					}
+					// statements are added to a new delta while the current one is merged
+					frozen = delta;
+					delta = newDelta();
+				}
+				merge = new Merge(base, frozen, highestUnusedTillSnapshot);
+				generation = this.generation;
+				mergeLog = new int[48];
+				mergeLogSize = 0;
+			} finally {
+				lock.unlockWrite(stamp);
+			}
+
+			Run merged = null;
+			try {
+				merged = merge.build();
+			} finally {
+				stamp = lock.writeLock();
+				try {
+					if (generation == this.generation) {
+						if (merged != null) {
+							merge.publish(merged);
+						}
+						// an interrupted merge leaves the frozen delta to the next merge
+						mergeLog = null;
+					}
+				} finally {
+					lock.unlockWrite(stamp);
+				}
+			}
+			return generation == this.generation ? merge.removed : 0;
+		}
+	}
+
+	private static void checkInterrupted() throws InterruptedException {
+		if (Thread.interrupted()) {
+			throw new InterruptedException();
+		}
+	}
+
+	/**
+	 * Removes all statements and values.
+	 */
+	void clear() {
+		long stamp = lock.writeLock();
+		try {
+			values = new Value[256];
+			references = new int[256];
+			valueTable = new int[512];
+			nextId = 1;
+			valueCount = 0;
+			freeIdCount = 0;
+			base = newRun(0);
+			frozen = null;
+			delta = newDelta();
+			mergeLog = null;
+			generation++;
+			size = 0;
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	private Run newRun(int size) {
+		Run run = new Run(size);
+		run.id = ++lastSegmentId;
+		return run;
+	}
+
+	private Delta newDelta() {
+		Delta delta = new Delta();
+		delta.id = ++lastSegmentId;
+		return delta;
+	}
+
+	private List<Segment> segments() {
+		long stamp = lock.readLock();
+		try {
+			return frozen == null ? List.of(base, delta) : List.of(base, frozen, delta);
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * @return the segment the statement was read from, or null if it has been merged into a new sorted segment since
+	 */
+	private Segment currentSegment(CompactStatement statement) {
+		if (statement.segment == base.id) {
+			return base;
+		} else if (statement.segment == delta.id) {
+			return delta;
+		} else if (frozen != null && statement.segment == frozen.id) {
+			return frozen;
+		}
+		return null;
+	}
+
+	private Segment segment(long location) {
+		int segment = (int) (location >>> 32);
+		return segment == 0 ? base : segment == 1 ? frozen : delta;
+	}
+
+	private boolean isVisible(Segment segment, int row, int snapshot) {
+		int till = segment.till(row);
+		return till > removedTill && (snapshot < 0 || segment.since(row) <= snapshot && snapshot < till);
+	}
+
+	private void deprecate(Segment segment, int row, int snapshot) {
+		segment.setTill(row, snapshot);
+		if (mergeLog != null && segment != delta) {
+			// the statement is being merged into a new sorted segment, which has to be deprecated as well
+			if (mergeLogSize == mergeLog.length) {
+				mergeLog = Arrays.copyOf(mergeLog, mergeLogSize * 2);
+			}
+			mergeLog[mergeLogSize++] = segment == base ? 0 : 1;
+			mergeLog[mergeLogSize++] = row;
+			mergeLog[mergeLogSize++] = snapshot;
+		}
+	}
+
+	/**
+	 * @return the location of the statement that is visible in the snapshot, or -1 if there is none
+	 */
+	private long find(Statement statement, int snapshot) {
+		int s = lookup(statement.getSubject());
+		int p = lookup(statement.getPredicate());
+		int o = lookup(statement.getObject());
+		int c = statement.getContext() == null ? NULL_CONTEXT : lookup(statement.getContext());
+		if (s < 0 || p < 0 || o < 0 || c < 0) {
+			return -1;
+		}
+		return find(s, p, o, c, (segment, row) -> segment.isInSnapshot(row, snapshot));
+	}
+
+	/**
+	 * @return the location of a statement with the given IDs that is accepted by the condition, as the index of the
+	 *         segment (0 for the sorted segment, 1 for the frozen delta, 2 for the delta) in the upper and the row in
+	 *         the lower 32 bits, or -1 if there is none
+	 */
+	private long find(int s, int p, int o, int c, RowCondition condition) {
+		int row = base.find(s, p, o, c, condition);
+		if (row >= 0) {
+			return row;
+		}
+		if (frozen != null) {
+			row = frozen.find(s, p, o, c, condition);
+			if (row >= 0) {
+				return 1L << 32 | row;
+			}
+		}
+		row = delta.find(s, p, o, c, condition);
+		if (row >= 0) {
+			return 2L << 32 | row;
+		}
+		return -1;
+	}
+
+	/**
+	 * @return the ID of the value, or -1 if the value is unknown
+	 */
+	private int lookup(Value value) {
+		int mask = valueTable.length - 1;
+		for (int i = hash(value) & mask;; i = (i + 1) & mask) {
+			int id = valueTable[i];
+			if (id == 0) {
+				return -1;
+			} else if (values[id].equals(value)) {
+				return id;
+			}
+		}
+	}
+
+	/**
+	 * Returns the ID of the value, assigning it a new ID if it has none. A new ID is released again once the last
+	 * statement that uses it has been removed, so callers have to add a statement that uses it.
+	 */
+	private int getOrCreateId(Value value) {
+		int id = lookup(value);
+		if (id > 0) {
+			return id;
+		}
+
+		if (freeIdCount > 0) {
+			id = freeIds[--freeIdCount];
+		} else {
+			id = nextId++;
+			if (id == values.length) {
+				int capacity = id + (id >> 1);
+				values = Arrays.copyOf(values, capacity);
+				references = Arrays.copyOf(references, capacity);
+			}
+		}
+		values[id] = value;
+		valueCount++;
+
+		if (valueCount * 4L > valueTable.length * 3L) {
+			valueTable = new int[valueTable.length * 2];
+			for (int i = 1; i < nextId; i++) {
+				if (values[i] != null) {
+					insert(i);
+				}
+			}
+		} else {
+			insert(id);
+		}
+		return id;
+	}
+
+	private void insert(int id) {
+		int mask = valueTable.length - 1;
+		int i = hash(values[id]) & mask;
+		while (valueTable[i] != 0) {
+			i = (i + 1) & mask;
+		}
+		valueTable[i] = id;
+	}
+
+	/**
+	 * Releases one reference to the value, and the ID of the value once there are no references left.
+	 */
+	private void release(int id) {
+		if (--references[id] > 0) {
+			return;
+		}
+
+		int mask = valueTable.length - 1;
+		int i = hash(values[id]) & mask;
+		while (valueTable[i] != id) {
+			i = (i + 1) & mask;
+		}
+		// move the following values of the probe sequence up, so that they can still be found
+		for (int j = (i + 1) & mask; valueTable[j] != 0; j = (j + 1) & mask) {
+			int home = hash(values[valueTable[j]]) & mask;
+			if (i <= j ? i < home && home <= j : i < home || home <= j) {
+				continue;
+			}
+			valueTable[i] = valueTable[j];
+			i = j;
+		}
+		valueTable[i] = 0;
+
+		values[id] = null;
+		valueCount--;
+		if (freeIdCount == freeIds.length) {
+			freeIds = Arrays.copyOf(freeIds, freeIdCount * 2);
+		}
+		freeIds[freeIdCount++] = id;
+	}
+
+	private static int hash(Value value) {
+		int h = value.hashCode();
+		return h ^ (h >>> 16);
+	}
+
+	private static int compareStatements(Segment a, int rowA, Segment b, int rowB) {
+		int cmp = Integer.compare(a.subject(rowA), b.subject(rowB));
+		if (cmp == 0) {
+			cmp = Integer.compare(a.predicate(rowA), b.predicate(rowB));
+		}
+		if (cmp == 0) {
+			cmp = Integer.compare(a.object(rowA), b.object(rowB));
+		}
+		if (cmp == 0) {
+			cmp = Integer.compare(a.context(rowA), b.context(rowB));
+		}
+		return cmp;
+	}
+
+	/**
+	 * @return the first position in the range whose row has a code of at least the given code in the column
+	 */
+	private static int lowerBound(int[] rows, int from, int to, Column column, int code) {
+		while (from < to) {
+			int middle = (from + to) >>> 1;
+			if (column.codeAt(rows == null ? middle : rows[middle]) < code) {
+				from = middle + 1;
+			} else {
+				to = middle;
+			}
+		}
+		return from;
+	}
+
+	/**
+	 * @return the first position in the range whose row has a code greater than the given code in the column
+	 */
+	private static int upperBound(int[] rows, int from, int to, Column column, int code) {
+		while (from < to) {
+			int middle = (from + to) >>> 1;
+			if (column.codeAt(rows == null ? middle : rows[middle]) <= code) {
+				from = middle + 1;
+			} else {
+				to = middle;
+			}
+		}
+		return from;
+	}
+
+	private static void sort(int[] rows, RowComparator comparator) {
+		int[] source = rows;
+		int[] target = new int[rows.length];
+		for (int width = 1; width < rows.length; width <<= 1) {
+			for (int from = 0; from < rows.length; from += width << 1) {
+				int middle = Math.min(from + width, rows.length);
+				int to = Math.min(middle + width, rows.length);
+				merge(source, from, middle, source, middle, to, target, from, comparator);
+			}
+			int[] swap = source;
+			source = target;
+			target = swap;
+		}
+		if (source != rows) {
+			System.arraycopy(source, 0, rows, 0, rows.length);
+		}
+	}
+
+	private static void merge(int[] a, int aFrom, int aTo, int[] b, int bFrom, int bTo, int[] target, int targetFrom,
+			RowComparator comparator) {
+		while (aFrom < aTo && bFrom < bTo) {
+			target[targetFrom++] = comparator.compare(a[aFrom], b[bFrom]) <= 0 ? a[aFrom++] : b[bFrom++];
+		}
+		System.arraycopy(a, aFrom, target, targetFrom, aTo - aFrom);
+		System.arraycopy(b, bFrom, target, targetFrom + aTo - aFrom, bTo - bFrom);
+	}
+
+	private interface RowComparator {
+		int compare(int a, int b);
+	}
+
+	private interface RowCondition {
+		boolean test(Segment segment, int row);
+	}
+
+	/**
+	 * A set of statements stored in columns.
+	 */
+	private abstract static class Segment {
+
+		int id;
+
+		int size;
+
+		/**
+		 * The snapshots in which the statements were deprecated, or null if no statement has been deprecated.
+		 */
+		int[] tills;
+
+		/**
+		 * A bit set of the inferred statements, or null if all statements are explicit.
+		 */
+		long[] inferred;
+
+		/**
+		 * The number of deprecated statements.
+		 */
+		int deprecated;
+
+		abstract int subject(int row);
+
+		abstract int predicate(int row);
+
+		abstract int object(int row);
+
+		abstract int context(int row);
+
+		/**
+		 * @return the snapshot from which on the statement is visible
+		 */
+		abstract int since(int row);
+
+		/**
+		 * @return the number of rows the columns have room for
+		 */
+		abstract int capacity();
+
+		int till(int row) {
+			return tills == null ? Integer.MAX_VALUE : tills[row];
+		}
+
+		boolean isExplicit(int row) {
+			return inferred == null || (inferred[row >>> 6] & 1L << row) == 0;
+		}
+
+		boolean isInSnapshot(int row, int snapshot) {
+			return since(row) <= snapshot && snapshot < till(row);
+		}
+
+		boolean changedBetween(int row, int fromSnapshot, int toSnapshot) {
+			int since = since(row);
+			int till = till(row);
+			return fromSnapshot < since && since < toSnapshot || fromSnapshot < till && till < toSnapshot;
+		}
+
+		void setTill(int row, int till) {
+			if (tills == null) {
+				tills = new int[capacity()];
+				Arrays.fill(tills, Integer.MAX_VALUE);
+			}
+			if (tills[row] == Integer.MAX_VALUE) {
+				deprecated++;
+			}
+			tills[row] = till;
+		}
+
+		void setInferred(int row) {
+			if (inferred == null) {
+				inferred = new long[(capacity() + 63) >>> 6];
+			}
+			inferred[row >>> 6] |= 1L << row;
+		}
+
+		/**
+		 * @return the number of statements that use the value in the given role
+		 */
+		abstract int count(int role, int id);
+
+		/**
+		 * @param ctx the ID of the context, or -1 for any context
+		 * @return a cursor over the rows that may match the IDs, 0 matches any value
+		 */
+		abstract Cursor cursor(int s, int p, int o, int ctx);
+
+		/**
+		 * @return the row of a statement with the given IDs that is accepted by the condition, or -1 if there is none
+		 */
+		abstract int find(int s, int p, int o, int c, RowCondition condition);
+	}
+
+	/**
+	 * An immutable column of value IDs in a sorted segment. If the column has few distinct IDs, it stores a byte or
+	 * short code per row, which is the index of the ID in a sorted table of the distinct IDs, so codes are ordered
+	 * like the IDs they stand for.
+	 */
+	private static final class Column {
+
+		private static final Column EMPTY_COLUMN = of(EMPTY);
+
+		/**
+		 * The distinct IDs, or null if the codes are the IDs.
+		 */
+		private final int[] ids;
+		private final byte[] bytes;
+		private final short[] shorts;
+		private final int[] ints;
+
+		private Column(int[] ids, byte[] bytes, short[] shorts, int[] ints) {
+			this.ids = ids;
+			this.bytes = bytes;
+			this.shorts = shorts;
+			this.ints = ints;
+		}
+
+		static Column of(int[] column) {
+			int[] ids = distinct(column, 1 << 16);
+			if (ids == null) {
+				return new Column(null, null, null, column);
+			} else if (ids.length <= 1 << 8) {
+				byte[] bytes = new byte[column.length];
+				for (int row = 0; row < column.length; row++) {
+					bytes[row] = (byte) Arrays.binarySearch(ids, column[row]);
+				}
+				return new Column(ids, bytes, null, null);
+			} else {
+				short[] shorts = new short[column.length];
+				for (int row = 0; row < column.length; row++) {
+					shorts[row] = (short) Arrays.binarySearch(ids, column[row]);
+				}
+				return new Column(ids, null, shorts, null);
+			}
+		}
+
+		/**
+		 * @return the sorted distinct values of the column, or null if there are more than the maximum
+		 */
+		private static int[] distinct(int[] column, int maximum) {
+			int[] set = new int[Integer.highestOneBit(Math.min(column.length, maximum) * 2 + 1) * 2];
+			int mask = set.length - 1;
+			int count = 0;
+			for (int value : column) {
+				// IDs are positive apart from the default graph, so store them plus one to keep 0 for empty slots
+				int h = (value + 1) * 0x9E3779B9;
+				int slot = (h ^ (h >>> 16)) & mask;
+				while (set[slot] != 0 && set[slot] != value + 1) {
+					slot = (slot + 1) & mask;
+				}
+				if (set[slot] == 0) {
+					if (++count > maximum) {
+						return null;
+					}
+					set[slot] = value + 1;
+				}
+			}
+
+			int[] distinct = new int[count];
+			int i = 0;
+			for (int value : set) {
+				if (value != 0) {
+					distinct[i++] = value - 1;
+				}
+			}
+			Arrays.sort(distinct);
+			return distinct;
+		}
+
+		int get(int row) {
+			return ids == null ? ints[row] : ids[codeAt(row)];
+		}
+
+		int codeAt(int row) {
+			if (bytes != null) {
+				return bytes[row] & 0xFF;
+			} else if (shorts != null) {
+				return shorts[row] & 0xFFFF;
+			}
+			return ints[row];
+		}
+
+		/**
+		 * @return the code of the ID, or -1 if the column does not contain the ID
+		 */
+		int code(int id) {
+			if (ids == null) {
+				return id;
+			}
+			int code = Arrays.binarySearch(ids, id);
+			return code < 0 ? -1 : code;
+		}
+	}
+
+	/**
+	 * An immutable segment that is sorted by subject, predicate, object and context, with sorted posting lists for
+	 * the other roles.
+	 */
+	private static final class Run extends Segment {
+
+		Column subjects = Column.EMPTY_COLUMN;
+		Column predicates = Column.EMPTY_COLUMN;
+		Column objects = Column.EMPTY_COLUMN;
+
+		/**
+		 * The contexts, or null if all statements are in the default graph.
+		 */
+		Column contexts;
+
+		/**
+		 * A bit set of the statements that are not visible in every snapshot in use, or null if there are none. The
+		 * snapshots they are visible from are stored by ascending row in the following arrays.
+		 */
+		long[] sinceFlags;
+		int[] sinceRows;
+		int[] sinces;
+		int sinceCount;
+
+		/**
+		 * The rows sorted by predicate, object and row, i.e. the posting lists of the predicates.
+		 */
+		int[] byPredicate = EMPTY;
+
+		/**
+		 * The rows sorted by object and row, i.e. the posting lists of the objects.
+		 */
+		int[] byObject = EMPTY;
+
+		/**
+		 * The rows sorted by context and row, or null if all statements are in the default graph.
+		 */
+		int[] byContext;
+
+		Run(int size) {
+			this.size = size;
+		}
+
+		@Override
+		int subject(int row) {
+			return subjects.get(row);
+		}
+
+		@Override
+		int predicate(int row) {
+			return predicates.get(row);
+		}
+
+		@Override
+		int object(int row) {
+			return objects.get(row);
+		}
+
+		@Override
+		int context(int row) {
+			return contexts == null ? NULL_CONTEXT : contexts.get(row);
+		}
+
+		@Override
+		int since(int row) {
+			if (sinceFlags == null || (sinceFlags[row >>> 6] & 1L << row) == 0) {
+				return 0;
+			}
+			return sinces[Arrays.binarySearch(sinceRows, 0, sinceCount, row)];
+		}
+
+		/**
+		 * Sets the snapshot from which on the statement is visible, rows have to be set in ascending order.
+		 */
+		void setSince(int row, int since) {
+			if (sinceFlags == null) {
+				sinceFlags = new long[(size + 63) >>> 6];
+				sinceRows = new int[16];
+				sinces = new int[16];
+			} else if (sinceCount == sinceRows.length) {
+				sinceRows = Arrays.copyOf(sinceRows, sinceCount * 2);
+				sinces = Arrays.copyOf(sinces, sinceCount * 2);
+			}
+			sinceFlags[row >>> 6] |= 1L << row;
+			sinceRows[sinceCount] = row;
+			sinces[sinceCount++] = since;
+		}
+
+		@Override
+		int capacity() {
+			return size;
+		}
+
+		@Override
+		int count(int role, int id) {
+			switch (role) {
+			case SUBJECT:
+				return count(null, subjects, id);
+			case PREDICATE:
+				return count(byPredicate, predicates, id);
+			case OBJECT:
+				return count(byObject, objects, id);
+			default:
+				return contexts == null ? 0 : count(byContext, contexts, id);
+			}
+		}
+
+		private int count(int[] rows, Column column, int id) {
+			int code = column.code(id);
+			if (code < 0) {
+				return 0;
+			}
+			return upperBound(rows, 0, size, column, code) - lowerBound(rows, 0, size, column, code);
+		}
+
+		@Override
+		Cursor cursor(int s, int p, int o, int ctx) {
+			int subjectCode = s == 0 ? 0 : subjects.code(s);
+			int predicateCode = p == 0 ? 0 : predicates.code(p);
+			int objectCode = o == 0 ? 0 : objects.code(o);
+			int contextCode = ctx < 0 ? 0 : contexts != null ? contexts.code(ctx) : ctx == NULL_CONTEXT ? 0 : -1;
+			if (subjectCode < 0 || predicateCode < 0 || objectCode < 0 || contextCode < 0) {
+				return new Cursor(this, null, 0, 0);
+			}
+
+			if (s != 0) {
+				int from = lowerBound(null, 0, size, subjects, subjectCode);
+				int to = upperBound(null, from, size, subjects, subjectCode);
+				if (p != 0) {
+					from = lowerBound(null, from, to, predicates, predicateCode);
+					to = upperBound(null, from, to, predicates, predicateCode);
+					if (o != 0) {
+						from = lowerBound(null, from, to, objects, objectCode);
+						to = upperBound(null, from, to, objects, objectCode);
+					}
+				}
+				return new Cursor(this, null, from, to);
+			} else if (p != 0) {
+				int from = lowerBound(byPredicate, 0, size, predicates, predicateCode);
+				int to = upperBound(byPredicate, from, size, predicates, predicateCode);
+				if (o != 0) {
+					from = lowerBound(byPredicate, from, to, objects, objectCode);
+					to = upperBound(byPredicate, from, to, objects, objectCode);
+				}
+				return new Cursor(this, byPredicate, from, to);
+			} else if (o != 0) {
+				int from = lowerBound(byObject, 0, size, objects, objectCode);
+				return new Cursor(this, byObject, from, upperBound(byObject, from, size, objects, objectCode));
+			} else if (ctx >= 0 && contexts != null) {
+				int from = lowerBound(byContext, 0, size, contexts, contextCode);
+				return new Cursor(this, byContext, from, upperBound(byContext, from, size, contexts, contextCode));
+			}
+			return new Cursor(this, null, 0, size);
+		}
+
+		@Override
+		int find(int s, int p, int o, int c, RowCondition condition) {
+			int subjectCode = subjects.code(s);
+			int predicateCode = predicates.code(p);
+			int objectCode = objects.code(o);
+			if (subjectCode < 0 || predicateCode < 0 || objectCode < 0) {
+				return -1;
+			}
+			int from = lowerBound(null, 0, size, subjects, subjectCode);
+			int to = upperBound(null, from, size, subjects, subjectCode);
+			from = lowerBound(null, from, to, predicates, predicateCode);
+			to = upperBound(null, from, to, predicates, predicateCode);
+			from = lowerBound(null, from, to, objects, objectCode);
+			to = upperBound(null, from, to, objects, objectCode);
+			for (int row = from; row < to; row++) {
+				if (context(row) == c && condition.test(this, row)) {
+					return row;
+				}
+			}
+			return -1;
+		}
+	}
+
+	/**
+	 * The statements that were added since the last merge, in the order in which they were added.
+	 */
+	private static final class Delta extends Segment {
+
+		int[] subjects = new int[256];
+		int[] predicates = new int[256];
+		int[] objects = new int[256];
+
+		/**
+		 * The contexts, or null if all statements are in the default graph.
+		 */
+		int[] contexts;
+
+		int[] sinces = new int[256];
+
+		final PostingLists[] postings = { new PostingLists(), new PostingLists(), new PostingLists(),
+				new PostingLists() };
+
+		@Override
+		int subject(int row) {
+			return subjects[row];
+		}
+
+		@Override
+		int predicate(int row) {
+			return predicates[row];
+		}
+
+		@Override
+		int object(int row) {
+			return objects[row];
+		}
+
+		@Override
+		int context(int row) {
+			return contexts == null ? NULL_CONTEXT : contexts[row];
+		}
+
+		@Override
+		int since(int row) {
+			return sinces[row];
+		}
+
+		@Override
+		int capacity() {
+			return subjects.length;
+		}
+
+		void append(int s, int p, int o, int c, boolean explicit, int snapshot) {
+			if (size == subjects.length) {
+				int capacity = size + (size >> 1);
+				subjects = Arrays.copyOf(subjects, capacity);
+				predicates = Arrays.copyOf(predicates, capacity);
+				objects = Arrays.copyOf(objects, capacity);
+				sinces = Arrays.copyOf(sinces, capacity);
+				if (contexts != null) {
+					contexts = Arrays.copyOf(contexts, capacity);
+				}
+				if (tills != null) {
+					tills = Arrays.copyOf(tills, capacity);
+					Arrays.fill(tills, size, capacity, Integer.MAX_VALUE);
+				}
+				if (inferred != null) {
+					inferred = Arrays.copyOf(inferred, (capacity + 63) >>> 6);
+				}
+			}
+
+			int row = size;
+			subjects[row] = s;
+			predicates[row] = p;
+			objects[row] = o;
+			sinces[row] = snapshot;
+			if (c != NULL_CONTEXT) {
+				if (contexts == null) {
+					contexts = new int[subjects.length];
+				}
+				contexts[row] = c;
+			}
+			if (!explicit) {
+				setInferred(row);
+			}
+
+			postings[SUBJECT].add(s, row);
+			postings[PREDICATE].add(p, row);
+			postings[OBJECT].add(o, row);
+			if (c != NULL_CONTEXT) {
+				postings[CONTEXT].add(c, row);
+			}
+			size++;
+		}
+
+		@Override
+		int count(int role, int id) {
+			return postings[role].size(id);
+		}
+
+		@Override
+		Cursor cursor(int s, int p, int o, int ctx) {
+			int[] rows = null;
+			int count = size;
+			int[] ids = { s, p, o, ctx };
+			for (int role = SUBJECT; role <= CONTEXT; role++) {
+				// statements in the default graph are not indexed by context
+				if (ids[role] > 0 && postings[role].size(ids[role]) < count) {
+					rows = postings[role].list(ids[role]);
+					count = postings[role].size(ids[role]);
+				}
+			}
+			return new Cursor(this, rows, 0, count);
+		}
+
+		@Override
+		int find(int s, int p, int o, int c, RowCondition condition) {
+			PostingLists smallest = postings[SUBJECT];
+			int id = s;
+			if (postings[PREDICATE].size(p) < smallest.size(id)) {
+				smallest = postings[PREDICATE];
+				id = p;
+			}
+			if (postings[OBJECT].size(o) < smallest.size(id)) {
+				smallest = postings[OBJECT];
+				id = o;
+			}
+			if (c != NULL_CONTEXT && postings[CONTEXT].size(c) < smallest.size(id)) {
+				smallest = postings[CONTEXT];
+				id = c;
+			}
+
+			int[] list = smallest.list(id);
+			int listSize = smallest.size(id);
+			for (int i = 0; i < listSize; i++) {
+				int row = list[i];
+				if (subjects[row] == s && predicates[row] == p && objects[row] == o && context(row) == c
+						&& condition.test(this, row)) {
+					return row;
+				}
+			}
+			return -1;
+		}
+	}
+
+	/**
+	 * The posting lists of one role in a {@link Delta}, which hold the rows that use a value in ascending order. Lists
+	 * are only ever appended to in place, so that an iterator can keep reading the list it started with.
+	 */
+	private static final class PostingLists {
+
+		int[] ids = new int[16];
+		int[][] lists = new int[16][];
+		int[] sizes = new int[16];
+		private int count;
+
+		int size(int id) {
+			return sizes[slot(id)];
+		}
+
+		int[] list(int id) {
+			return lists[slot(id)];
+		}
+
+		void add(int id, int row) {
+			int slot = slot(id);
+			if (ids[slot] == 0) {
+				if ((count + 1) * 2 > ids.length) {
+					rehash();
+					slot = slot(id);
+				}
+				ids[slot] = id;
+				lists[slot] = new int[2];
+				count++;
+			} else if (sizes[slot] == lists[slot].length) {
+				lists[slot] = Arrays.copyOf(lists[slot], sizes[slot] + (sizes[slot] >> 1));
+			}
+			lists[slot][sizes[slot]++] = row;
+		}
+
+		private int slot(int id) {
+			int mask = ids.length - 1;
+			int h = id * 0x9E3779B9;
+			int slot = (h ^ (h >>> 16)) & mask;
+			while (ids[slot] != 0 && ids[slot] != id) {
+				slot = (slot + 1) & mask;
+			}
+			return slot;
+		}
+
+		private void rehash() {
+			int[] oldIds = ids;
+			int[][] oldLists = lists;
+			int[] oldSizes = sizes;
+			ids = new int[oldIds.length * 2];
+			lists = new int[ids.length][];
+			sizes = new int[ids.length];
+			for (int i = 0; i < oldIds.length; i++) {
+				if (oldIds[i] != 0) {
+					int slot = slot(oldIds[i]);
+					ids[slot] = oldIds[i];
+					lists[slot] = oldLists[i];
+					sizes[slot] = oldSizes[i];
+				}
+			}
+		}
+	}
+
+	/**
+	 * The candidate rows of a segment for a pattern: the positions from the start to the end of a posting list, or
+	 * the rows themselves if there is no posting list.
+	 */
+	private static final class Cursor {
+
+		final Segment segment;
+		final int[] rows;
+		int position;
+		final int end;
+
+		Cursor(Segment segment, int[] rows, int position, int end) {
+			this.segment = segment;
+			this.rows = rows;
+			this.position = position;
+			this.end = end;
+		}
+	}
+
+	/**
+	 * Merges a sorted segment and a frozen delta into a new sorted segment.
+	 */
+	private final class Merge {
+
+		private final Run run;
+		private final Delta delta;
+		private final int highestUnusedTillSnapshot;
+
+		/**
+		 * The row of each statement of the sorted segment and the delta in the new segment, or -1 if it is removed.
+		 */
+		private final int[] runRows;
+		private final int[] deltaRows;
+
+		/**
+		 * The IDs of the values used by the removed statements.
+		 */
+		private int[] released = new int[16];
+		private int releasedCount;
+
+		private int removed;
+
+		/**
+		 * The columns of the new segment, before they are encoded.
+		 */
+		private int[] subjects;
+		private int[] predicates;
+		private int[] objects;
+		private int[] contexts;
+
+		Merge(Run run, Delta delta, int highestUnusedTillSnapshot) {
+			this.run = run;
+			this.delta = delta;
+			this.highestUnusedTillSnapshot = highestUnusedTillSnapshot;
+			this.runRows = new int[run.size];
+			this.deltaRows = new int[delta.size];
+		}
+
+		Run build() throws InterruptedException {
+			int keptRun = markRemoved(run, runRows);
+			int keptDelta = markRemoved(delta, deltaRows);
+
+			int[] sortedDelta = new int[keptDelta];
+			for (int row = 0, i = 0; row < delta.size; row++) {
+				if (deltaRows[row] >= 0) {
+					sortedDelta[i++] = row;
+				}
+			}
+			sort(sortedDelta, (a, b) -> compareStatements(delta, a, delta, b));
+
+			Run merged = new Run(keptRun + keptDelta);
+			subjects = new int[merged.size];
+			predicates = new int[merged.size];
+			objects = new int[merged.size];
+			int i = 0;
+			int j = 0;
+			int k = 0;
+			while (k < merged.size) {
+				checkInterrupted();
+				long stamp = lock.readLock();
+				try {
+					int end = Math.min(merged.size, k + MAX_SCANNED_PER_BATCH);
+					while (k < end) {
+						while (i < run.size && runRows[i] < 0) {
+							i++;
+						}
+						if (i < run.size && (j == keptDelta
+								|| compareStatements(run, i, delta, sortedDelta[j]) <= 0)) {
+							copy(run, i, merged, k);
+							runRows[i++] = k++;
+						} else {
+							copy(delta, sortedDelta[j], merged, k);
+							deltaRows[sortedDelta[j++]] = k++;
+						}
+					}
+				} finally {
+					lock.unlockRead(stamp);
+				}
+			}
+
+			checkInterrupted();
+			// the delta statements were copied in sorted order, so their new rows are ascending
+			int[] newDeltaRows = new int[keptDelta];
+			for (int d = 0; d < keptDelta; d++) {
+				newDeltaRows[d] = deltaRows[sortedDelta[d]];
+			}
+			merged.byPredicate = index(run.byPredicate, keptRun, newDeltaRows, (a, b) -> {
+				int cmp = Integer.compare(predicates[a], predicates[b]);
+				if (cmp == 0) {
+					cmp = Integer.compare(objects[a], objects[b]);
+				}
+				return cmp == 0 ? Integer.compare(a, b) : cmp;
+			});
+			checkInterrupted();
+			merged.byObject = index(run.byObject, keptRun, newDeltaRows, (a, b) -> {
+				int cmp = Integer.compare(objects[a], objects[b]);
+				return cmp == 0 ? Integer.compare(a, b) : cmp;
+			});
+			if (contexts != null) {
+				checkInterrupted();
+				// without contexts, the statements of the sorted segment are all in the default graph and in row order
+				merged.byContext = index(run.byContext, keptRun, newDeltaRows, (a, b) -> {
+					int cmp = Integer.compare(contexts[a], contexts[b]);
+					return cmp == 0 ? Integer.compare(a, b) : cmp;
+				});
+			}
+
+			checkInterrupted();
+			merged.subjects = Column.of(subjects);
+			merged.predicates = Column.of(predicates);
+			merged.objects = Column.of(objects);
+			if (contexts != null) {
+				merged.contexts = Column.of(contexts);
+			}
+			if (merged.sinceFlags != null) {
+				merged.sinceRows = Arrays.copyOf(merged.sinceRows, merged.sinceCount);
+				merged.sinces = Arrays.copyOf(merged.sinces, merged.sinceCount);
+			}
+			return merged;
+		}
+
+		/**
+		 * Marks the rows of the statements that were deprecated in or before the highest unused snapshot with -1, and
+		 * remembers the values they use.
+		 *
+		 * @return the number of rows that are kept
+		 */
+		private int markRemoved(Segment segment, int[] rows) throws InterruptedException {
+			int kept = 0;
+			int row = 0;
+			while (row < segment.size) {
+				checkInterrupted();
+				long stamp = lock.readLock();
+				try {
+					int end = Math.min(segment.size, row + MAX_SCANNED_PER_BATCH);
+					for (; row < end; row++) {
+						// a statement that is deprecated in a later snapshot is never deprecated in an unused one
+						if (segment.till(row) <= highestUnusedTillSnapshot) {
+							rows[row] = -1;
+							removed++;
+							release(segment.subject(row));
+							release(segment.predicate(row));
+							release(segment.object(row));
+							if (segment.context(row) != NULL_CONTEXT) {
+								release(segment.context(row));
+							}
+						} else {
+							kept++;
+						}
+					}
+				} finally {
+					lock.unlockRead(stamp);
+				}
+			}
+			return kept;
+		}
+
+		private void release(int id) {
+			if (releasedCount == released.length) {
+				released = Arrays.copyOf(released, releasedCount * 2);
+			}
+			released[releasedCount++] = id;
+		}
+
+		private void copy(Segment source, int row, Run target, int targetRow) {
+			subjects[targetRow] = source.subject(row);
+			predicates[targetRow] = source.predicate(row);
+			objects[targetRow] = source.object(row);
+			if (source.context(row) != NULL_CONTEXT) {
+				if (contexts == null) {
+					contexts = new int[target.size];
+				}
+				contexts[targetRow] = source.context(row);
+			}
+			// every snapshot in use can see statements added in or before the highest unused snapshot
+			if (source.since(row) > highestUnusedTillSnapshot) {
+				target.setSince(targetRow, source.since(row));
+			}
+			if (source.till(row) != Integer.MAX_VALUE) {
+				target.setTill(targetRow, source.till(row));
+			}
+			if (!source.isExplicit(row)) {
+				target.setInferred(targetRow);
+			}
+		}
+
+		/**
+		 * @param runIndex the posting lists of the sorted segment, or null if they are in row order
+		 * @return the posting lists of the merged segment
+		 */
+		private int[] index(int[] runIndex, int keptRun, int[] newDeltaRows, RowComparator comparator) {
+			// the rows are renumbered in the same order, so the posting lists of the sorted segment stay sorted
+			int[] runPostings = new int[keptRun];
+			int n = 0;
+			for (int i = 0; i < run.size; i++) {
+				int row = runRows[runIndex == null ? i : runIndex[i]];
+				if (row >= 0) {
+					runPostings[n++] = row;
+				}
+			}
+			int[] deltaPostings = newDeltaRows.clone();
+			sort(deltaPostings, comparator);
+
+			int[] index = new int[runPostings.length + deltaPostings.length];
+			merge(runPostings, 0, runPostings.length, deltaPostings, 0, deltaPostings.length, index, 0, comparator);
+			return index;
+		}
+
+		/**
+		 * Replaces the merged segments with the new segment. Must be called while holding the write lock.
+		 */
+		void publish(Run merged) {
+			for (int i = 0; i < mergeLogSize; i += 3) {
+				int row = (mergeLog[i] == 0 ? runRows : deltaRows)[mergeLog[i + 1]];
+				if (row >= 0) {
+					merged.setTill(row, mergeLog[i + 2]);
+				}
+			}
+			merged.id = ++lastSegmentId;
+			base = merged;
+			frozen = null;
+			size -= removed;
+			removedTill = Math.max(removedTill, highestUnusedTillSnapshot);
+			for (int i = 0; i < releasedCount; i++) {
+				CompactStatementTable.this.release(released[i]);
+			}
+		}
+	}
+
+	/**
+	 * A statement read from a {@link CompactStatementTable}, which remembers the segment and row it was read from.
+	 */
+	static final class CompactStatement extends GenericStatement<Resource, IRI, Value> {
+
+		private static final long serialVersionUID = 4932184372938175163L;
+
+		private final transient CompactStatementTable table;
+
+		private final transient int segment;
+
+		private final transient int row;
+
+		private final boolean explicit;
+
+		private CompactStatement(CompactStatementTable table, int segment, int row, Resource subject, IRI predicate,
+				Value object, Resource context, boolean explicit) {
+			super(subject, predicate, object, context);
+			this.table = table;
+			this.segment = segment;
+			this.row = row;
+			this.explicit = explicit;
+		}
+
+		boolean isExplicit() {
+			return explicit;
+		}
+	}
+
+	private final class StatementIterator extends LookAheadIteration<CompactStatement> {
+
+		private final Cursor[] cursors;
+		private int cursorIndex;
+
+		private final int subj;
+		private final int pred;
+		private final int obj;
+		private final int[] ctxs;
+		private final Boolean explicit;
+		private final int snapshot;
+		private final int generation;
+
+		private final CompactStatement[] batch;
+		private int batchPosition;
+		private int batchSize;
+
+		private StatementIterator(Cursor[] cursors, int candidateCount, int subj, int pred, int obj, int[] ctxs,
+				Boolean explicit, int snapshot) {
+			this.cursors = cursors;
+			this.subj = subj;
+			this.pred = pred;
+			this.obj = obj;
+			this.ctxs = ctxs;
+			this.explicit = explicit;
+			this.snapshot = snapshot;
+			this.generation = CompactStatementTable.this.generation;
+			this.batch = new CompactStatement[Math.min(BATCH_SIZE, candidateCount)];
+		}
+
+		@Override
+		protected CompactStatement getNextElement() {
+			while (batchPosition == batchSize) {
+				if (cursorIndex == cursors.length) {
+					return null;
+				}
+				readBatch();
+			}
+			CompactStatement next = batch[batchPosition];
+			batch[batchPosition++] = null;
+			return next;
+		}
+
+		private void readBatch() {
+			batchPosition = 0;
+			batchSize = 0;
+			int scanned = 0;
+			long stamp = lock.readLock();
+			try {
+				if (generation != CompactStatementTable.this.generation) {
+					// the table has been cleared
+					cursorIndex = cursors.length;
+					return;
+				}
+				while (cursorIndex < cursors.length && batchSize < batch.length
+						&& scanned < MAX_SCANNED_PER_BATCH) {
+					Cursor cursor = cursors[cursorIndex];
+					if (cursor.position == cursor.end) {
+						cursorIndex++;
+						continue;
+					}
+					Segment segment = cursor.segment;
+					int row = cursor.rows == null ? cursor.position : cursor.rows[cursor.position];
+					cursor.position++;
+					scanned++;
+					if (matches(segment, row)) {
+						batch[batchSize++] = new CompactStatement(CompactStatementTable.this, segment.id, row,
+								(Resource) values[segment.subject(row)], (IRI) values[segment.predicate(row)],
+								values[segment.object(row)], (Resource) values[segment.context(row)],
+								segment.isExplicit(row));
+					}
+				}
+			} finally {
+				lock.unlockRead(stamp);
+			}
+		}
+
+		private boolean matches(Segment segment, int row) {
+			if (subj != 0 && segment.subject(row) != subj || pred != 0 && segment.predicate(row) != pred
+					|| obj != 0 && segment.object(row) != obj) {
+				return false;
+			}
+			if (ctxs.length > 0) {
+				int context = segment.context(row);
+				boolean matchesContext = false;
+				for (int ctx : ctxs) {
+					if (context == ctx) {
+						matchesContext = true;
+						break;
+					}
+				}
+				if (!matchesContext) {
+					return false;
+				}
+			}
+			return (explicit == null || explicit == segment.isExplicit(row)) && isVisible(segment, row, snapshot);
+		}
+
+		@Override
+		protected void handleClose() {
+			Arrays.fill(batch, null);
+			// don't keep segments that have been merged since reachable
+			Arrays.fill(cursors, null);
+			cursorIndex = cursors.length;
+		}
+	}
+}
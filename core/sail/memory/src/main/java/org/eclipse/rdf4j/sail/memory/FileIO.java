@@ -37,6 +37,7 @@ import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.Triple;
 import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
 import org.eclipse.rdf4j.model.util.Literals;
 import org.eclipse.rdf4j.rio.helpers.RDFStarUtil;
 import org.eclipse.rdf4j.sail.SailException;
@@ -101,7 +102,7 @@ class FileIO {
 	 * Variables *
 	 *-----------*/
 
-	private final MemValueFactory vf;
+	private final ValueFactory vf;
 
 	private final CharsetEncoder charsetEncoder = StandardCharsets.UTF_8.newEncoder();
 
@@ -114,6 +115,10 @@ class FileIO {
 	 *--------------*/
 
 	public FileIO(MemValueFactory vf) {
+		this((ValueFactory) vf);
+	}
+
+	FileIO(ValueFactory vf) {
 		this.vf = vf;
 	}
 
@@ -269,7 +274,7 @@ class FileIO {
 		}
 	}
 
-	private void writeValue(Value value, DataOutputStream dataOut) throws IOException {
+	void writeValue(Value value, DataOutputStream dataOut) throws IOException {
 		if (value.isIRI()) {
 			dataOut.writeByte(URI_MARKER);
 			writeString(((IRI) value).stringValue(), dataOut);
@@ -299,7 +304,7 @@ class FileIO {
 		}
 	}
 
-	private Value readValue(DataInputStream dataIn) throws IOException, ClassCastException {
+	Value readValue(DataInputStream dataIn) throws IOException, ClassCastException {
 		int valueTypeMarker = dataIn.readByte();
 
 		if (valueTypeMarker == URI_MARKER) {
@@ -322,19 +327,19 @@ class FileIO {
 		} else if (valueTypeMarker == RDFSTAR_TRIPLE_MARKER) {
 			IRI rdfStarEncodedTriple = (IRI) readValue(dataIn);
 			Triple triple = (Triple) RDFStarUtil.fromRDFEncodedValue(rdfStarEncodedTriple, vf);
-			return vf.getOrCreateMemTriple(triple);
+			return vf instanceof MemValueFactory ? ((MemValueFactory) vf).getOrCreateMemTriple(triple) : triple;
 		} else {
 			throw new IOException("Invalid value type marker: " + valueTypeMarker);
 		}
 	}
 
-	private void writeString(String s, DataOutputStream dataOut) throws IOException {
+	void writeString(String s, DataOutputStream dataOut) throws IOException {
 		ByteBuffer byteBuf = charsetEncoder.encode(CharBuffer.wrap(s));
 		dataOut.writeInt(byteBuf.remaining());
 		dataOut.write(byteBuf.array(), 0, byteBuf.remaining());
 	}
 
-	private String readString(DataInputStream dataIn) throws IOException {
+	String readString(DataInputStream dataIn) throws IOException {
 		if (formatVersion == 1) {
 			return readStringV1(dataIn);
 		} else {
@@ -14,16 +14,19 @@ import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
 import java.lang.ref.Cleaner;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.LongAdder;
 
-import org.apache.commons.lang3.time.StopWatch;
 import org.eclipse.rdf4j.common.concurrent.locks.ExclusiveReentrantLockManager;
 import org.eclipse.rdf4j.common.concurrent.locks.Lock;
 import org.eclipse.rdf4j.common.concurrent.locks.diagnostics.ConcurrentCleaner;
@@ -39,17 +42,18 @@ import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.model.ValueFactory;
 import org.eclipse.rdf4j.model.impl.LinkedHashModel;
-import org.eclipse.rdf4j.query.algebra.StatementPattern;
-import org.eclipse.rdf4j.query.algebra.Var;
 import org.eclipse.rdf4j.query.algebra.evaluation.impl.EvaluationStatistics;
 import org.eclipse.rdf4j.query.algebra.evaluation.impl.evaluationsteps.StatementPatternQueryEvaluationStep;
 import org.eclipse.rdf4j.sail.SailConflictException;
 import org.eclipse.rdf4j.sail.SailException;
 import org.eclipse.rdf4j.sail.base.BackingSailSource;
+import org.eclipse.rdf4j.sail.base.Changeset.SimpleStatementPattern;
+import org.eclipse.rdf4j.sail.base.ObservedPatterns;
 import org.eclipse.rdf4j.sail.base.SailDataset;
 import org.eclipse.rdf4j.sail.base.SailSink;
 import org.eclipse.rdf4j.sail.base.SailSource;
 import org.eclipse.rdf4j.sail.base.SailStore;
+import org.eclipse.rdf4j.sail.base.SerializableConflictStatistics;
 import org.eclipse.rdf4j.sail.memory.model.MemBNode;
 import org.eclipse.rdf4j.sail.memory.model.MemIRI;
 import org.eclipse.rdf4j.sail.memory.model.MemResource;
@@ -89,6 +93,12 @@ class MemorySailStore implements SailStore {
 	// we prioritise cleanup if there is less than 128 MB of free memory.
 	private static final double CLEANUP_MINIMUM_FREE_MEMORY_RATIO = 1.0 / 8;
 
+	// The number of statements in a chunk of the main statement list that is cleaned by a single thread.
+	private static final int CLEANUP_CHUNK_SIZE = 64 * 1024;
+
+	// The maximum number of threads that clean snapshots concurrently.
+	static final int CLEANUP_PARALLELISM = Math.max(1, Math.min(4, RUNTIME.availableProcessors() / 2));
+
 	public static final EmptyIteration<MemStatement> EMPTY_ITERATION = (EmptyIteration<MemStatement>) StatementPatternQueryEvaluationStep.EMPTY_ITERATION;
 	public static final EmptyIteration<MemTriple> EMPTY_TRIPLE_ITERATION = new EmptyIteration<>();
 	public static final MemResource[] EMPTY_CONTEXT = {};
@@ -150,8 +160,48 @@ class MemorySailStore implements SailStore {
 	 */
 	private final Object snapshotCleanupThreadLockObject = new Object();
 
+	/**
+	 * The log that committed changes are appended to, or null if changes are not logged.
+	 */
+	private volatile ChangeLog changeLog;
+
+	/**
+	 * Statistics that each run of {@link #cleanSnapshots()} is recorded in.
+	 */
+	private final SnapshotCleanupStatistics cleanupStatistics;
+
+	/**
+	 * Statistics that the conflict checks of {@link IsolationLevels#SERIALIZABLE} transactions are recorded in.
+	 */
+	private final SerializableConflictStatistics conflictStatistics;
+
+	/**
+	 * The open {@link IsolationLevels#SERIALIZABLE} sinks. While there are any, committed transactions publish the
+	 * statements they changed in {@link #concurrentChanges}. Both are guarded by the lock on this set. Sinks are weakly
+	 * referenced, so that a sink that is never closed can still be garbage collected and release its snapshot.
+	 */
+	private final Set<MemorySailSink> serializableSinks = Collections.newSetFromMap(new WeakHashMap<>());
+
+	/**
+	 * The statements changed by the transactions that were committed while serializable sinks were open, by the
+	 * snapshot of the transaction. A null value marks a transaction whose changes were not recorded, because it
+	 * started before the first serializable sink was opened.
+	 */
+	private final NavigableMap<Integer, List<MemStatement>> concurrentChanges = new TreeMap<>();
+
 	public MemorySailStore(boolean debug) {
+		this(debug, new SnapshotCleanupStatistics());
+	}
+
+	public MemorySailStore(boolean debug, SnapshotCleanupStatistics cleanupStatistics) {
+		this(debug, cleanupStatistics, new SerializableConflictStatistics());
+	}
+
+	public MemorySailStore(boolean debug, SnapshotCleanupStatistics cleanupStatistics,
+			SerializableConflictStatistics conflictStatistics) {
 		snapshotMonitor = new SnapshotMonitor(debug);
+		this.cleanupStatistics = cleanupStatistics;
+		this.conflictStatistics = conflictStatistics;
 	}
 
 	@Override
@@ -177,6 +227,13 @@ class MemorySailStore implements SailStore {
 		iteratorCache.invalidateCache();
 	}
 
+	/**
+	 * Appends the changes of all following transactions to the given log, or stops logging changes if it is null.
+	 */
+	void setChangeLog(ChangeLog changeLog) {
+		this.changeLog = changeLog;
+	}
+
 	@Override
 	public EvaluationStatistics getEvaluationStatistics() {
 		return new MemEvaluationStatistics(valueFactory, statements);
@@ -375,8 +432,11 @@ class MemorySailStore implements SailStore {
 	}
 
 	/**
-	 * Removes statements from old snapshots from the main statement list and resets the snapshot to 1 for the rest of
-	 * the statements.
+	 * Removes statements from old snapshots from the main statement list and from the statement lists of their values.
+	 * The main statement list is split into chunks that are cleaned concurrently by up to {@link #CLEANUP_PARALLELISM}
+	 * threads. The statement lists are only ever modified with compare-and-set operations, so transactions are not
+	 * blocked while cleaning, unless memory is low and cleaning is prioritised, in which case adding a statement waits
+	 * for the next chunk to be cleaned.
 	 *
 	 * @throws InterruptedException
 	 */
@@ -388,35 +448,108 @@ class MemorySailStore implements SailStore {
 					highestUnusedTillSnapshot, currentSnapshot);
 		}
 
-		try {
-
-			boolean prioritiseCleaning = false;
+		long start = System.nanoTime();
+		logger.debug("Started cleaning snapshots.");
 
-			StopWatch stopWatch = null;
-			if (logger.isDebugEnabled()) {
-				stopWatch = StopWatch.createStarted();
-				logger.debug("Started cleaning snapshots.");
+		SnapshotCleanup cleanup = new SnapshotCleanup(this.statements.getStatements(), highestUnusedTillSnapshot);
+		try {
+			cleanup.prioritiseIfLowOnMemory();
+
+			int helpers = Math.min(CLEANUP_PARALLELISM, cleanup.chunkCount) - 1;
+			List<Thread> helperThreads = new ArrayList<>(helpers);
+			for (int i = 0; i < helpers; i++) {
+				Thread helper = new Thread(cleanup::cleanChunks, "MemoryStore snapshot cleanup helper " + (i + 1));
+				helper.setDaemon(true);
+				helper.start();
+				helperThreads.add(helper);
 			}
 
-			prioritiseCleaning = prioritiseSnapshotCleaningIfLowOnMemory(prioritiseCleaning);
+			try {
+				cleanup.cleanChunks();
+				for (Thread helper : helperThreads) {
+					helper.join();
+				}
+			} finally {
+				for (Thread helper : helperThreads) {
+					helper.interrupt();
+				}
+			}
+		} finally {
+			if (cleanup.prioritised) {
+				statements.setPrioritiseCleanup(false);
+			}
+		}
 
-			// Sets used to keep track of which lists have already been processed
-			HashSet<MemValue> processedSubjects = new HashSet<>();
-			HashSet<MemValue> processedPredicates = new HashSet<>();
-			HashSet<MemValue> processedObjects = new HashSet<>();
-			HashSet<MemValue> processedContexts = new HashSet<>();
+		long duration = System.nanoTime() - start;
+		long reclaimed = cleanup.reclaimed.sum();
+		cleanupStatistics.record(duration, reclaimed);
+		logger.debug("Cleaning snapshots took {} ms and removed {} statements.",
+				TimeUnit.NANOSECONDS.toMillis(duration), reclaimed);
+	}
 
-			MemStatement[] statements = this.statements.getStatements();
+	/**
+	 * The state of a single run of {@link #cleanSnapshots()}, shared by the threads that clean the chunks of the main
+	 * statement list.
+	 */
+	private final class SnapshotCleanup {
+
+		private final MemStatement[] statements;
+		private final int highestUnusedTillSnapshot;
+		private final int chunkCount;
+		private final AtomicInteger nextChunk = new AtomicInteger();
+		private final LongAdder reclaimed = new LongAdder();
+		private final Thread owner = Thread.currentThread();
+
+		// Sets used to keep track of which lists have already been processed
+		private volatile Set<MemValue> processedSubjects = ConcurrentHashMap.newKeySet();
+		private volatile Set<MemValue> processedPredicates = ConcurrentHashMap.newKeySet();
+		private volatile Set<MemValue> processedObjects = ConcurrentHashMap.newKeySet();
+		private volatile Set<MemValue> processedContexts = ConcurrentHashMap.newKeySet();
+
+		private boolean prioritised;
+
+		private SnapshotCleanup(MemStatement[] statements, int highestUnusedTillSnapshot) {
+			this.statements = statements;
+			this.highestUnusedTillSnapshot = highestUnusedTillSnapshot;
+			this.chunkCount = (statements.length + CLEANUP_CHUNK_SIZE - 1) / CLEANUP_CHUNK_SIZE;
+		}
 
-			/*
-			 * The order of the statement list won't change from lastStmtPos down while we don't have the write lock (it
-			 * might shrink or grow) as (1) new statements are always appended last, (2) we are the only process that
-			 * removes statements, (3) this list is cleared on close.
-			 */
+		/**
+		 * Cleans chunks until all chunks have been claimed. The chunks are cleaned from the end of the list to the
+		 * start, because new statements are appended at the end.
+		 */
+		private void cleanChunks() {
+			try {
+				int chunk;
+				while ((chunk = nextChunk.getAndIncrement()) < chunkCount) {
+					int from = Math.max(0, statements.length - (chunk + 1) * CLEANUP_CHUNK_SIZE);
+					int to = statements.length - chunk * CLEANUP_CHUNK_SIZE;
+					cleanChunk(from, to);
+					MemorySailStore.this.statements.cleanupProgressed();
+					if (Thread.currentThread() == owner) {
+						prioritiseIfLowOnMemory();
+						if (getFreeToAllocateMemory() < CLEANUP_MINIMUM_FREE_MEMORY / 2) {
+							processedSubjects = ConcurrentHashMap.newKeySet();
+							processedPredicates = ConcurrentHashMap.newKeySet();
+							processedObjects = ConcurrentHashMap.newKeySet();
+							processedContexts = ConcurrentHashMap.newKeySet();
+							System.gc();
+						}
+					}
+				}
+			} catch (InterruptedException e) {
+				// stop claiming chunks in all threads
+				nextChunk.set(chunkCount);
+				if (Thread.currentThread() == owner) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
 
-			for (int i = statements.length - 1; i >= 0; i--) {
+		private void cleanChunk(int from, int to) throws InterruptedException {
+			for (int i = to - 1; i >= from; i--) {
 				if (Thread.currentThread().isInterrupted()) {
-					break;
+					throw new InterruptedException();
 				}
 
 				MemStatement st = statements[i];
@@ -446,50 +579,30 @@ class MemorySailStore implements SailStore {
 					}
 
 					// stale statement
-					this.statements.optimisticRemove(st, i);
-					prioritiseCleaning = prioritiseSnapshotCleaningIfLowOnMemory(prioritiseCleaning);
-				}
-
-				if (i % 100_000 == 0) {
-					if (getFreeToAllocateMemory() < CLEANUP_MINIMUM_FREE_MEMORY / 2) {
-						prioritiseCleaning = prioritiseSnapshotCleaningIfLowOnMemory(prioritiseCleaning);
-						processedSubjects = new HashSet<>();
-						processedPredicates = new HashSet<>();
-						processedObjects = new HashSet<>();
-						processedContexts = new HashSet<>();
-						System.gc();
+					if (MemorySailStore.this.statements.optimisticRemove(st, i)) {
+						reclaimed.increment();
 					}
 				}
 			}
-
-			processedSubjects.clear();
-			processedPredicates.clear();
-			processedObjects.clear();
-			processedContexts.clear();
-
-			if (logger.isDebugEnabled() && stopWatch != null) {
-				stopWatch.stop();
-				logger.debug("Cleaning snapshots took {} seconds.", stopWatch.getTime(TimeUnit.SECONDS));
-			}
-
-		} finally {
-			statements.setPrioritiseCleanup(false);
 		}
-	}
-
-	private boolean prioritiseSnapshotCleaningIfLowOnMemory(boolean prioritiseCleaning) {
-		if (!prioritiseCleaning && MAX_MEMORY >= CLEANUP_MAX_MEMORY_THRESHOLD) {
-			long freeToAllocateMemory = getFreeToAllocateMemory();
 
-			if (memoryIsLow(freeToAllocateMemory)) {
-				logger.debug(
-						"Low free memory ({} MB)! Prioritising cleaning of removed statements from the MemoryStore.",
-						freeToAllocateMemory / 1024 / 1024);
-				prioritiseCleaning = true;
-				this.statements.setPrioritiseCleanup(true);
+		/**
+		 * Makes threads that add statements wait for the cleanup when memory is low. Must only be called by the thread
+		 * that runs the cleanup.
+		 */
+		private void prioritiseIfLowOnMemory() {
+			if (!prioritised && MAX_MEMORY >= CLEANUP_MAX_MEMORY_THRESHOLD) {
+				long freeToAllocateMemory = getFreeToAllocateMemory();
+
+				if (memoryIsLow(freeToAllocateMemory)) {
+					logger.debug(
+							"Low free memory ({} MB)! Prioritising cleaning of removed statements from the MemoryStore.",
+							freeToAllocateMemory / 1024 / 1024);
+					prioritised = true;
+					MemorySailStore.this.statements.setPrioritiseCleanup(true);
+				}
 			}
 		}
-		return prioritiseCleaning;
 	}
 
 	private static boolean memoryIsLow(long freeToAllocateMemory) {
@@ -558,6 +671,11 @@ class MemorySailStore implements SailStore {
 			return new MemorySailSink(explicit, level.isCompatibleWith(IsolationLevels.SERIALIZABLE));
 		}
 
+		@Override
+		protected SerializableConflictStatistics getSerializableConflictStatistics() {
+			return conflictStatistics;
+		}
+
 		@Override
 		public MemorySailDataset dataset(IsolationLevel level) throws SailException {
 			if (level.isCompatibleWith(IsolationLevels.SNAPSHOT_READ)) {
@@ -579,15 +697,26 @@ class MemorySailStore implements SailStore {
 
 		private int nextSnapshot;
 
-		private Set<StatementPattern> observations;
+		private ObservedPatterns observations;
 		private volatile Lock txnLock;
 
+		/**
+		 * The statements changed by this sink, or null if they are not recorded because no serializable sink was open
+		 * when this sink acquired the transaction lock.
+		 */
+		private List<MemStatement> changes;
+
 		private boolean requireCleanup;
 
+		private ChangeLog.Transaction loggedChanges;
+
 		public MemorySailSink(boolean explicit, boolean serializable) throws SailException {
 			this.explicit = explicit;
 			if (serializable) {
-				this.serializable = currentSnapshot;
+				synchronized (serializableSinks) {
+					serializableSinks.add(this);
+					this.serializable = currentSnapshot;
+				}
 				this.reservedSnapshot = snapshotMonitor.reserve(this.serializable, this);
 			} else {
 				this.serializable = Integer.MAX_VALUE;
@@ -616,41 +745,106 @@ class MemorySailStore implements SailStore {
 		public synchronized void prepare() throws SailException {
 			acquireExclusiveTransactionLock();
 			if (observations != null) {
-				for (StatementPattern p : observations) {
-					Resource subj = (Resource) p.getSubjectVar().getValue();
-					IRI pred = (IRI) p.getPredicateVar().getValue();
-					Value obj = p.getObjectVar().getValue();
-					Var ctxVar = p.getContextVar();
-					Resource[] contexts;
-					if (ctxVar == null) {
-						contexts = new Resource[0];
-					} else {
-						contexts = new Resource[] { (Resource) ctxVar.getValue() };
+				List<List<MemStatement>> concurrent = getConcurrentChanges();
+				long changeCount = concurrent == null ? 0 : concurrent.stream().mapToLong(List::size).sum();
+				boolean conflict;
+				if (concurrent == null || observations.size() < changeCount) {
+					conflict = hasObservedStatementChanged();
+				} else {
+					// look up the changed statements in the observed patterns, which costs O(changes)
+					conflict = concurrent.stream().flatMap(List::stream).anyMatch(observations::matches);
+				}
+				conflictStatistics.recordCheck(changeCount, conflict);
+				if (conflict) {
+					throw new SailConflictException("Observed State has Changed");
+				}
+			}
+
+		}
+
+		/**
+		 * @return the statements changed by the transactions committed since this sink was opened, or null if the
+		 *         changes of some of these transactions were not recorded
+		 */
+		private List<List<MemStatement>> getConcurrentChanges() {
+			synchronized (serializableSinks) {
+				List<List<MemStatement>> concurrent = new ArrayList<>();
+				for (List<MemStatement> changed : concurrentChanges.subMap(serializable, false, nextSnapshot, false)
+						.values()) {
+					if (changed == null) {
+						return null;
 					}
-					try (CloseableIteration<MemStatement> iter = createStatementIterator(subj, pred, obj,
-							null, -1, contexts)) {
-						while (iter.hasNext()) {
-							MemStatement st = iter.next();
-							int since = st.getSinceSnapshot();
-							int till = st.getTillSnapshot();
-							if (serializable < since && since < nextSnapshot
-									|| serializable < till && till < nextSnapshot) {
-								throw new SailConflictException("Observed State has Changed");
-							}
+					concurrent.add(changed);
+				}
+				return concurrent;
+			}
+		}
+
+		/**
+		 * Looks up the observed patterns in the store and checks whether a matching statement was added or removed
+		 * since this sink was opened.
+		 */
+		private boolean hasObservedStatementChanged() {
+			for (SimpleStatementPattern p : observations) {
+				Resource[] contexts = p.isAllContexts() ? new Resource[0] : new Resource[] { p.getContext() };
+				try (CloseableIteration<MemStatement> iter = createStatementIterator(p.getSubject(),
+						p.getPredicate(), p.getObject(), null, -1, contexts)) {
+					while (iter.hasNext()) {
+						MemStatement st = iter.next();
+						int since = st.getSinceSnapshot();
+						int till = st.getTillSnapshot();
+						if (serializable < since && since < nextSnapshot
+								|| serializable < till && till < nextSnapshot) {
+							return true;
 						}
-					} catch (InterruptedException e) {
-						throw convertToSailException(e);
+					}
+				} catch (InterruptedException e) {
+					throw convertToSailException(e);
+				}
+			}
+			return false;
+		}
+
+		/**
+		 * Makes the statements changed by this sink available to the conflict checks of the open serializable sinks.
+		 */
+		private void publishChanges() {
+			synchronized (serializableSinks) {
+				if (!serializableSinks.isEmpty()) {
+					// the explicit and the inferred sink of a transaction share a snapshot
+					if (changes == null || concurrentChanges.containsKey(nextSnapshot)
+							&& concurrentChanges.get(nextSnapshot) == null) {
+						concurrentChanges.put(nextSnapshot, null);
+					} else {
+						concurrentChanges.computeIfAbsent(nextSnapshot, k -> new ArrayList<>()).addAll(changes);
 					}
 				}
+				pruneConcurrentChanges();
+				changes = null;
 			}
+		}
 
+		private void changed(MemStatement statement) {
+			if (changes != null) {
+				changes.add(statement);
+			}
 		}
 
 		@Override
 		public synchronized void flush() throws SailException {
 			if (txnLock != null && txnLock.isActive()) {
 				invalidateCache();
-				currentSnapshot = Math.max(currentSnapshot, nextSnapshot);
+				ChangeLog changeLog = MemorySailStore.this.changeLog;
+				if (changeLog != null) {
+					// the changes become visible together with appending them, see ChangeLog.rotate(...)
+					changeLog.append(loggedChanges, () -> currentSnapshot = Math.max(currentSnapshot, nextSnapshot));
+					loggedChanges = null;
+				} else {
+					currentSnapshot = Math.max(currentSnapshot, nextSnapshot);
+				}
+				// published after the snapshot became current, so that a serializable sink opened after checking for
+				// open serializable sinks does not see this transaction as concurrent
+				publishChanges();
 				if (requireCleanup) {
 					scheduleSnapshotCleanup();
 				}
@@ -664,12 +858,14 @@ class MemorySailStore implements SailStore {
 				try {
 					if (reservedSnapshot != null) {
 						reservedSnapshot.release();
+						unregisterSerializableSink();
 					}
 				} finally {
 					try {
 						releaseLock();
 					} finally {
 						observations = null;
+						loggedChanges = null;
 					}
 
 				}
@@ -677,6 +873,23 @@ class MemorySailStore implements SailStore {
 			}
 		}
 
+		private void unregisterSerializableSink() {
+			synchronized (serializableSinks) {
+				serializableSinks.remove(this);
+				pruneConcurrentChanges();
+			}
+		}
+
+		private void pruneConcurrentChanges() {
+			assert Thread.holdsLock(serializableSinks);
+			// the changes are only needed by sinks that were opened before they were committed
+			int oldest = serializableSinks.stream()
+					.mapToInt(sink -> sink.serializable)
+					.min()
+					.orElse(Integer.MAX_VALUE);
+			concurrentChanges.headMap(oldest, true).clear();
+		}
+
 		synchronized private void releaseLock() {
 			if (txnLock != null) {
 				assert txnLock.isActive();
@@ -685,10 +898,24 @@ class MemorySailStore implements SailStore {
 			}
 		}
 
+		/**
+		 * @return the changes of this sink that are appended to the change log when it is flushed, or null if changes
+		 *         are not logged
+		 */
+		private ChangeLog.Transaction loggedChanges() {
+			if (loggedChanges == null && changeLog != null) {
+				loggedChanges = changeLog.newTransaction(explicit, valueFactory);
+			}
+			return loggedChanges;
+		}
+
 		@Override
 		public synchronized void setNamespace(String prefix, String name) {
 			acquireExclusiveTransactionLock();
 			namespaceStore.setNamespace(prefix, name);
+			if (loggedChanges() != null) {
+				loggedChanges.setNamespace(prefix, name);
+			}
 
 		}
 
@@ -696,6 +923,9 @@ class MemorySailStore implements SailStore {
 		public synchronized void removeNamespace(String prefix) {
 			acquireExclusiveTransactionLock();
 			namespaceStore.removeNamespace(prefix);
+			if (loggedChanges() != null) {
+				loggedChanges.removeNamespace(prefix);
+			}
 
 		}
 
@@ -703,6 +933,9 @@ class MemorySailStore implements SailStore {
 		public synchronized void clearNamespaces() {
 			acquireExclusiveTransactionLock();
 			namespaceStore.clear();
+			if (loggedChanges() != null) {
+				loggedChanges.clearNamespaces();
+			}
 
 		}
 
@@ -710,19 +943,9 @@ class MemorySailStore implements SailStore {
 		public synchronized void observe(Resource subj, IRI pred, Value obj, Resource... contexts)
 				throws SailException {
 			if (observations == null) {
-				observations = new HashSet<>();
-			}
-			if (contexts == null) {
-				observations.add(new StatementPattern(Var.of("s", subj), Var.of("p", pred), Var.of("o", obj),
-						Var.of("g", null)));
-			} else if (contexts.length == 0) {
-				observations.add(new StatementPattern(Var.of("s", subj), Var.of("p", pred), Var.of("o", obj)));
-			} else {
-				for (Resource ctx : contexts) {
-					observations.add(new StatementPattern(Var.of("s", subj), Var.of("p", pred), Var.of("o", obj),
-							Var.of("g", ctx)));
-				}
+				observations = new ObservedPatterns();
 			}
+			observations.observe(subj, pred, obj, contexts);
 		}
 
 		@Override
@@ -735,10 +958,14 @@ class MemorySailStore implements SailStore {
 				while (iter.hasNext()) {
 					MemStatement st = iter.next();
 					st.setTillSnapshot(nextSnapshot);
+					changed(st);
 				}
 			} catch (InterruptedException e) {
 				throw convertToSailException(e);
 			}
+			if (loggedChanges() != null) {
+				loggedChanges.clear(contexts);
+			}
 
 		}
 
@@ -751,6 +978,9 @@ class MemorySailStore implements SailStore {
 			} catch (InterruptedException e) {
 				throw convertToSailException(e);
 			}
+			if (loggedChanges() != null) {
+				loggedChanges.approve(subj, pred, obj, ctx);
+			}
 
 		}
 
@@ -762,6 +992,10 @@ class MemorySailStore implements SailStore {
 				for (Statement statement : approved) {
 					addStatement(statement.getSubject(), statement.getPredicate(), statement.getObject(),
 							statement.getContext(), explicit);
+					if (loggedChanges() != null) {
+						loggedChanges.approve(statement.getSubject(), statement.getPredicate(), statement.getObject(),
+								statement.getContext());
+					}
 				}
 			} catch (InterruptedException e) {
 				throw convertToSailException(e);
@@ -777,6 +1011,9 @@ class MemorySailStore implements SailStore {
 			int nextSnapshot = this.nextSnapshot;
 			for (Statement statement : deprecated) {
 				innerDeprecate(statement, nextSnapshot);
+				if (loggedChanges() != null) {
+					loggedChanges.deprecate(statement);
+				}
 			}
 
 		}
@@ -787,6 +1024,9 @@ class MemorySailStore implements SailStore {
 			invalidateCache();
 			requireCleanup = true;
 			innerDeprecate(statement, nextSnapshot);
+			if (loggedChanges() != null) {
+				loggedChanges.deprecate(statement);
+			}
 
 		}
 
@@ -796,6 +1036,7 @@ class MemorySailStore implements SailStore {
 				if ((nextSnapshot < 0 || toDeprecate.isInSnapshot(nextSnapshot))
 						&& toDeprecate.isExplicit() == explicit) {
 					toDeprecate.setTillSnapshot(nextSnapshot);
+					changed(toDeprecate);
 				}
 			} else if (statement instanceof LinkedHashModel.ModelStatement
 					&& ((LinkedHashModel.ModelStatement) statement).getStatement() instanceof MemStatement) {
@@ -805,6 +1046,7 @@ class MemorySailStore implements SailStore {
 				if ((nextSnapshot < 0 || toDeprecate.isInSnapshot(nextSnapshot))
 						&& toDeprecate.isExplicit() == explicit) {
 					toDeprecate.setTillSnapshot(nextSnapshot);
+					changed(toDeprecate);
 				}
 			} else {
 				try (CloseableIteration<MemStatement> iter = createStatementIterator(
@@ -813,6 +1055,7 @@ class MemorySailStore implements SailStore {
 					while (iter.hasNext()) {
 						MemStatement st = iter.next();
 						st.setTillSnapshot(nextSnapshot);
+						changed(st);
 					}
 				} catch (InterruptedException e) {
 					throw convertToSailException(e);
@@ -827,6 +1070,9 @@ class MemorySailStore implements SailStore {
 						try {
 							txnLock = txnLockManager.getExclusiveLock();
 							nextSnapshot = currentSnapshot + 1;
+							synchronized (serializableSinks) {
+								changes = serializableSinks.isEmpty() ? null : new ArrayList<>();
+							}
 						} catch (InterruptedException e) {
 							throw convertToSailException(e);
 						}
@@ -862,6 +1108,7 @@ class MemorySailStore implements SailStore {
 			MemStatement st = new MemStatement(memSubj, memPred, memObj, memContext, explicit, nextSnapshot);
 			statements.add(st);
 			st.addToComponentLists();
+			changed(st);
 			invalidateCache();
 			return st;
 		}
@@ -877,6 +1124,7 @@ class MemorySailStore implements SailStore {
 				if (!memStatement.isExplicit() && explicit) {
 					// Implicit statement is now added explicitly
 					memStatement.setTillSnapshot(this.nextSnapshot);
+					changed(memStatement);
 				} else {
 					// statement already exists
 					return true;
@@ -927,11 +1175,15 @@ class MemorySailStore implements SailStore {
 					deprecated = true;
 					MemStatement st = iter.next();
 					st.setTillSnapshot(nextSnapshot);
+					changed(st);
 				}
 			} catch (InterruptedException e) {
 				throw convertToSailException(e);
 			}
 			invalidateCache();
+			if (deprecated && loggedChanges() != null) {
+				loggedChanges.deprecateByQuery(subj, pred, obj, contexts);
+			}
 
 			return deprecated;
 		}
@@ -12,9 +12,11 @@ package org.eclipse.rdf4j.sail.memory;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.List;
 import java.util.Timer;
 import java.util.TimerTask;
 
+import org.eclipse.rdf4j.common.annotation.Experimental;
 import org.eclipse.rdf4j.common.concurrent.locks.Lock;
 import org.eclipse.rdf4j.common.transaction.IsolationLevels;
 import org.eclipse.rdf4j.model.ValueFactory;
@@ -30,9 +32,9 @@ import org.eclipse.rdf4j.sail.SailException;
 import org.eclipse.rdf4j.sail.base.SailDataset;
 import org.eclipse.rdf4j.sail.base.SailSink;
 import org.eclipse.rdf4j.sail.base.SailStore;
+import org.eclipse.rdf4j.sail.base.SerializableConflictStatistics;
 import org.eclipse.rdf4j.sail.helpers.AbstractNotifyingSail;
 import org.eclipse.rdf4j.sail.helpers.DirectoryLockManager;
-import org.eclipse.rdf4j.sail.memory.model.MemValueFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -73,6 +75,29 @@ public class MemoryStore extends AbstractNotifyingSail implements FederatedServi
 
 	private volatile boolean persist = false;
 
+	private volatile boolean incrementalSync = false;
+
+	private volatile boolean compactStorage = false;
+
+	private final SnapshotCleanupStatistics snapshotCleanupStatistics = new SnapshotCleanupStatistics();
+
+	private final SerializableConflictStatistics serializableConflictStatistics = new SerializableConflictStatistics();
+
+	/**
+	 * The log that committed changes are appended to when syncing incrementally, null otherwise.
+	 */
+	private volatile ChangeLog changeLog;
+
+	/**
+	 * The thread that compacts the change log into the data file, null if no compaction is running.
+	 */
+	private volatile Thread compactionThread;
+
+	/**
+	 * The minimum size of the change log before it is compacted into the data file.
+	 */
+	long minCompactionLogSize = 16 * 1024 * 1024;
+
 	/**
 	 * The file used for data persistence, null if this is a volatile RDF store.
 	 */
@@ -193,6 +218,67 @@ public class MemoryStore extends AbstractNotifyingSail implements FederatedServi
 		this.syncDelay = syncDelay;
 	}
 
+	/**
+	 * Sets whether a persistent store appends the changes of each transaction to a log instead of rewriting the whole
+	 * data file on every sync, which makes the cost of a sync proportional to the size of the changes. The log is
+	 * compacted into the data file in the background once it has grown large compared to the data file, and it is
+	 * replayed when the store is initialized. Defaults to false.
+	 *
+	 * @param incrementalSync true to append changes to a log
+	 */
+	public void setIncrementalSync(boolean incrementalSync) {
+		if (isInitialized()) {
+			throw new IllegalStateException("sail has already been initialized");
+		}
+
+		this.incrementalSync = incrementalSync;
+	}
+
+	public boolean isIncrementalSync() {
+		return incrementalSync;
+	}
+
+	/**
+	 * Sets whether statements are kept in a compact layout of primitive arrays instead of as linked objects. The
+	 * compact layout uses several times less heap per statement, at the cost of allocating the statement objects that
+	 * are returned by queries. Defaults to false.
+	 *
+	 * @param compactStorage true to keep statements in the compact layout
+	 */
+	public void setCompactStorage(boolean compactStorage) {
+		if (isInitialized()) {
+			throw new IllegalStateException("sail has already been initialized");
+		}
+
+		this.compactStorage = compactStorage;
+	}
+
+	public boolean isCompactStorage() {
+		return compactStorage;
+	}
+
+	/**
+	 * Gets statistics about the background removal of deprecated statements, such as how long it took and how many
+	 * statements it removed. The statistics cover all cleanups since this store was created.
+	 *
+	 * @return the snapshot cleanup statistics
+	 */
+	public SnapshotCleanupStatistics getSnapshotCleanupStatistics() {
+		return snapshotCleanupStatistics;
+	}
+
+	/**
+	 * Gets statistics about the conflict checks of {@link IsolationLevels#SERIALIZABLE} transactions, such as how many
+	 * transactions were checked and how many of them had a conflict. The statistics cover all transactions since this
+	 * store was created.
+	 *
+	 * @return the serializable conflict statistics
+	 */
+	@Experimental
+	public SerializableConflictStatistics getSerializableConflictStatistics() {
+		return serializableConflictStatistics;
+	}
+
 	/**
 	 * Gets the currently configured sync delay.
 	 *
@@ -258,7 +344,13 @@ public class MemoryStore extends AbstractNotifyingSail implements FederatedServi
 	protected void initializeInternal() throws SailException {
 		logger.debug("Initializing MemoryStore...");
 
-		this.store = new MemorySailStore(debugEnabled());
+		if (compactStorage) {
+			this.store = new CompactMemorySailStore(debugEnabled(), snapshotCleanupStatistics,
+					serializableConflictStatistics);
+		} else {
+			this.store = new MemorySailStore(debugEnabled(), snapshotCleanupStatistics,
+					serializableConflictStatistics);
+		}
 
 		if (persist) {
 			File dataDir = getDataDir();
@@ -287,7 +379,7 @@ public class MemoryStore extends AbstractNotifyingSail implements FederatedServi
 					SailSink explicit = store.getExplicitSailSource().sink(IsolationLevels.NONE);
 					SailSink inferred = store.getInferredSailSource().sink(IsolationLevels.NONE);
 					try {
-						new FileIO((MemValueFactory) store.getValueFactory()).read(dataFile, explicit, inferred);
+						new FileIO(store.getValueFactory()).read(dataFile, explicit, inferred);
 						logger.debug("Data file read successfully");
 					} catch (IOException e) {
 						logger.error("Failed to read data file", e);
@@ -318,8 +410,7 @@ public class MemoryStore extends AbstractNotifyingSail implements FederatedServi
 					logger.debug("Initializing data file...");
 					try (SailDataset explicit = store.getExplicitSailSource().dataset(IsolationLevels.SNAPSHOT);
 							SailDataset inferred = store.getInferredSailSource().dataset(IsolationLevels.SNAPSHOT)) {
-						new FileIO((MemValueFactory) store.getValueFactory()).write(explicit, inferred, syncFile,
-								dataFile);
+						new FileIO(store.getValueFactory()).write(explicit, inferred, syncFile, dataFile);
 					}
 					logger.debug("Data file initialized");
 				} catch (IOException | SailException e) {
@@ -327,6 +418,28 @@ public class MemoryStore extends AbstractNotifyingSail implements FederatedServi
 					throw new SailException("Failed to initialize data file " + dataFile, e);
 				}
 			}
+
+			List<File> replayedSegments = replayChangeLog(dataDir);
+
+			if (dirLock != null) {
+				if (incrementalSync) {
+					try {
+						changeLog = new ChangeLog(dataDir);
+					} catch (IOException e) {
+						throw new SailException("Failed to open change log in " + dataDir, e);
+					}
+					setChangeLog(changeLog);
+				} else if (!replayedSegments.isEmpty()) {
+					// the store no longer syncs incrementally, move the changes from the log to the data file
+					contentsChanged = true;
+					sync();
+					for (File segment : replayedSegments) {
+						if (!segment.delete()) {
+							logger.warn("Failed to delete change log file: {}", segment);
+						}
+					}
+				}
+			}
 		}
 
 		contentsChanged = false;
@@ -334,11 +447,66 @@ public class MemoryStore extends AbstractNotifyingSail implements FederatedServi
 		logger.debug("MemoryStore initialized");
 	}
 
+	/**
+	 * Applies the changes in the change log to the store.
+	 *
+	 * @return the replayed log files
+	 */
+	private List<File> replayChangeLog(File dataDir) throws SailException {
+		List<File> segments = ChangeLog.getSegments(dataDir);
+		if (segments.isEmpty()) {
+			return segments;
+		}
+
+		logger.debug("Replaying change log...");
+		SailSink explicit = store.getExplicitSailSource().sink(IsolationLevels.NONE);
+		SailSink inferred = store.getInferredSailSource().sink(IsolationLevels.NONE);
+		try {
+			for (File segment : segments) {
+				if (!ChangeLog.replay(segment, store.getValueFactory(), explicit, inferred)) {
+					logger.warn("Ignoring incomplete record at the end of change log file: {}", segment);
+				}
+			}
+			logger.debug("Change log replayed successfully");
+		} catch (IOException e) {
+			logger.error("Failed to replay change log", e);
+			throw new SailException(e);
+		} finally {
+			explicit.prepare();
+			explicit.flush();
+			explicit.close();
+			inferred.prepare();
+			inferred.flush();
+			inferred.close();
+		}
+		return segments;
+	}
+
+	private void setChangeLog(ChangeLog changeLog) {
+		if (store instanceof CompactMemorySailStore) {
+			((CompactMemorySailStore) store).setChangeLog(changeLog);
+		} else {
+			((MemorySailStore) store).setChangeLog(changeLog);
+		}
+	}
+
 	@Override
 	protected void shutDownInternal() throws SailException {
 		try {
 			cancelSyncTimer();
 			sync();
+			awaitCompaction();
+
+			if (changeLog != null) {
+				setChangeLog(null);
+				try {
+					changeLog.close();
+				} catch (IOException e) {
+					throw new SailException(e);
+				} finally {
+					changeLog = null;
+				}
+			}
 
 			store.close();
 			dataFile = null;
@@ -448,14 +616,26 @@ public class MemoryStore extends AbstractNotifyingSail implements FederatedServi
 	public void sync() throws SailException {
 		// syncSemaphore prevents concurrent file synchronizations
 		synchronized (syncSemaphore) {
-			if (persist && contentsChanged) {
+			if (changeLog != null) {
+				try {
+					changeLog.sync();
+				} catch (IOException e) {
+					logger.error("Failed to sync change log", e);
+					throw new SailException(e);
+				}
+				contentsChanged = false;
+
+				// replaying the uncompressed log is about as fast as reading a data file of a quarter of its size
+				if (changeLog.size() > Math.max(minCompactionLogSize, 4 * dataFile.length())) {
+					startCompaction();
+				}
+			} else if (persist && contentsChanged) {
 				logger.debug("syncing data to file...");
 				try {
 					IsolationLevels level = IsolationLevels.SNAPSHOT;
 					try (SailDataset explicit = store.getExplicitSailSource().dataset(level);
 							SailDataset inferred = store.getInferredSailSource().dataset(level)) {
-						new FileIO((MemValueFactory) store.getValueFactory()).write(explicit, inferred, syncFile,
-								dataFile);
+						new FileIO(store.getValueFactory()).write(explicit, inferred, syncFile, dataFile);
 					}
 					contentsChanged = false;
 					logger.debug("Data synced to file");
@@ -467,6 +647,65 @@ public class MemoryStore extends AbstractNotifyingSail implements FederatedServi
 		}
 	}
 
+	/**
+	 * Starts compacting the change log in the background, unless a compaction is already running. Must be called
+	 * while holding the {@link #syncSemaphore}.
+	 */
+	private void startCompaction() {
+		if (compactionThread == null) {
+			compactionThread = new Thread(this::compact, "MemoryStore compaction");
+			compactionThread.setDaemon(true);
+			compactionThread.start();
+		}
+	}
+
+	/**
+	 * Writes a snapshot of the store to the data file and deletes the parts of the change log it contains.
+	 */
+	private void compact() {
+		try {
+			logger.debug("Compacting change log...");
+			SailDataset[] snapshot = new SailDataset[2];
+			try {
+				List<File> compacted = changeLog.rotate(() -> {
+					snapshot[0] = store.getExplicitSailSource().dataset(IsolationLevels.SNAPSHOT);
+					snapshot[1] = store.getInferredSailSource().dataset(IsolationLevels.SNAPSHOT);
+				});
+				new FileIO(store.getValueFactory()).write(snapshot[0], snapshot[1], syncFile, dataFile);
+				changeLog.compacted(compacted);
+				logger.debug("Change log compacted");
+			} finally {
+				try {
+					if (snapshot[0] != null) {
+						snapshot[0].close();
+					}
+				} finally {
+					if (snapshot[1] != null) {
+						snapshot[1].close();
+					}
+				}
+			}
+		} catch (IOException | SailException e) {
+			logger.error("Failed to compact change log", e);
+		} finally {
+			synchronized (syncSemaphore) {
+				compactionThread = null;
+			}
+		}
+	}
+
+	private void awaitCompaction() {
+		Thread compactionThread = this.compactionThread;
+		if (compactionThread != null) {
+			try {
+				compactionThread.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new SailException(e);
+			}
+		}
+	}
+
 	SailStore getSailStore() {
 		return store;
 	}
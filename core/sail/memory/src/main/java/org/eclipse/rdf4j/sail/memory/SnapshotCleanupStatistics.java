@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.memory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Statistics about the removal of deprecated statements that are no longer visible in any snapshot in use, which a
+ * {@link MemoryStore} does in the background after transactions that removed statements.
+ *
+ * @see MemoryStore#getSnapshotCleanupStatistics()
+ */
+public class SnapshotCleanupStatistics {
+
+	private long cleanupCount;
+
+	private long totalCleanupNanos;
+
+	private long lastCleanupNanos;
+
+	private long reclaimedStatements;
+
+	private long lastReclaimedStatements;
+
+	synchronized void record(long cleanupNanos, long reclaimed) {
+		cleanupCount++;
+		totalCleanupNanos += cleanupNanos;
+		lastCleanupNanos = cleanupNanos;
+		reclaimedStatements += reclaimed;
+		lastReclaimedStatements = reclaimed;
+	}
+
+	/**
+	 * @return the number of cleanups that have run
+	 */
+	public synchronized long getCleanupCount() {
+		return cleanupCount;
+	}
+
+	/**
+	 * @return the time spent in all cleanups, in milliseconds
+	 */
+	public synchronized long getTotalCleanupTime() {
+		return TimeUnit.NANOSECONDS.toMillis(totalCleanupNanos);
+	}
+
+	/**
+	 * @return the duration of the last cleanup, in milliseconds
+	 */
+	public synchronized long getLastCleanupTime() {
+		return TimeUnit.NANOSECONDS.toMillis(lastCleanupNanos);
+	}
+
+	/**
+	 * @return the number of statements removed by all cleanups
+	 */
+	public synchronized long getReclaimedStatements() {
+		return reclaimedStatements;
+	}
+
+	/**
+	 * @return the number of statements removed by the last cleanup
+	 */
+	public synchronized long getLastReclaimedStatements() {
+		return lastReclaimedStatements;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "SnapshotCleanupStatistics{" +
+				"cleanupCount=" + cleanupCount +
+				", totalCleanupTime=" + getTotalCleanupTime() +
+				", lastCleanupTime=" + getLastCleanupTime() +
+				", reclaimedStatements=" + reclaimedStatements +
+				", lastReclaimedStatements=" + lastReclaimedStatements +
+				'}';
+	}
+}
@@ -32,6 +32,10 @@ public class MemoryStoreConfig extends BaseSailConfig {
 
 	private long syncDelay = 0L;
 
+	private boolean incrementalSync = false;
+
+	private boolean compactStorage = false;
+
 	public MemoryStoreConfig() {
 		super(MemoryStoreFactory.SAIL_TYPE);
 	}
@@ -62,6 +66,22 @@ public class MemoryStoreConfig extends BaseSailConfig {
 		this.syncDelay = syncDelay;
 	}
 
+	public boolean getIncrementalSync() {
+		return incrementalSync;
+	}
+
+	public void setIncrementalSync(boolean incrementalSync) {
+		this.incrementalSync = incrementalSync;
+	}
+
+	public boolean getCompactStorage() {
+		return compactStorage;
+	}
+
+	public void setCompactStorage(boolean compactStorage) {
+		this.compactStorage = compactStorage;
+	}
+
 	@Override
 	public Resource export(Model m) {
 		if (Configurations.useLegacyConfig()) {
@@ -79,6 +99,14 @@ public class MemoryStoreConfig extends BaseSailConfig {
 			m.add(implNode, CONFIG.Mem.syncDelay, literal(syncDelay));
 		}
 
+		if (incrementalSync) {
+			m.add(implNode, CONFIG.Mem.incrementalSync, BooleanLiteral.TRUE);
+		}
+
+		if (compactStorage) {
+			m.add(implNode, CONFIG.Mem.compactStorage, BooleanLiteral.TRUE);
+		}
+
 		return implNode;
 	}
 
@@ -122,6 +150,26 @@ public class MemoryStoreConfig extends BaseSailConfig {
 											+ syncDelayValue);
 						}
 					});
+
+			Configurations.getLiteralValue(graph, implNode, CONFIG.Mem.incrementalSync)
+					.ifPresent(incrementalSyncValue -> {
+						try {
+							setIncrementalSync(incrementalSyncValue.booleanValue());
+						} catch (IllegalArgumentException e) {
+							throw new SailConfigException("Boolean value required for " + CONFIG.Mem.incrementalSync
+									+ " property, found " + incrementalSyncValue);
+						}
+					});
+
+			Configurations.getLiteralValue(graph, implNode, CONFIG.Mem.compactStorage)
+					.ifPresent(compactStorageValue -> {
+						try {
+							setCompactStorage(compactStorageValue.booleanValue());
+						} catch (IllegalArgumentException e) {
+							throw new SailConfigException("Boolean value required for " + CONFIG.Mem.compactStorage
+									+ " property, found " + compactStorageValue);
+						}
+					});
 		} catch (ModelException e) {
 			throw new SailConfigException(e.getMessage(), e);
 		}
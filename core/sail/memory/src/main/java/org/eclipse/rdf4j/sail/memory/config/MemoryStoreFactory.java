@@ -58,6 +58,8 @@ public class MemoryStoreFactory implements SailFactory {
 			memConfig.getDefaultQueryEvaluationMode().ifPresent(memoryStore::setDefaultQueryEvaluationMode);
 			memoryStore.setPersist(memConfig.getPersist());
 			memoryStore.setSyncDelay(memConfig.getSyncDelay());
+			memoryStore.setIncrementalSync(memConfig.getIncrementalSync());
+			memoryStore.setCompactStorage(memConfig.getCompactStorage());
 
 			if (memConfig.getIterationCacheSyncThreshold() > 0) {
 				memoryStore.setIterationCacheSyncThreshold(memConfig.getIterationCacheSyncThreshold());
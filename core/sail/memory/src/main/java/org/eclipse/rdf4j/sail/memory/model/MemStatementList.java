@@ -47,6 +47,10 @@ public class MemStatementList {
 
 	private final AtomicReference<Thread> prioritisedThread = new AtomicReference<>();
 
+	// Incremented by a prioritised cleanup every time it has finished a chunk of work. Threads that add statements while
+	// the cleanup is prioritised only wait for the next chunk to finish, instead of for the whole cleanup.
+	private volatile int cleanupProgress;
+
 	public MemStatementList() {
 	}
 
@@ -65,10 +69,12 @@ public class MemStatementList {
 	public void add(MemStatement st) throws InterruptedException {
 
 		if (((boolean) PRIORITISE_CLEANUP.getOpaque(this))) {
+			int progress = cleanupProgress;
 			long start = System.currentTimeMillis();
 			long stop = start + TimeUnit.SECONDS.toMillis(30);
-			while (stop > System.currentTimeMillis() && ((boolean) PRIORITISE_CLEANUP.getVolatile(this))) {
-				LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+			while (stop > System.currentTimeMillis() && ((boolean) PRIORITISE_CLEANUP.getVolatile(this))
+					&& progress == cleanupProgress) {
+				LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
 			}
 		}
 
@@ -300,6 +306,14 @@ public class MemStatementList {
 		return ((int) GUARANTEED_LAST_INDEX_IN_USE.getAcquire(this));
 	}
 
+	/**
+	 * Lets threads that are waiting for a prioritised cleanup to add statements continue, see
+	 * {@link #setPrioritiseCleanup(boolean)}.
+	 */
+	public void cleanupProgressed() {
+		cleanupProgress++;
+	}
+
 	public void setPrioritiseCleanup(boolean prioritiseCleanup) {
 		if (!prioritiseCleanup) {
 			if (prioritisedThread.compareAndSet(Thread.currentThread(), null)) {
@@ -0,0 +1,29 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.memory;
+
+import org.eclipse.rdf4j.sail.Sail;
+import org.eclipse.rdf4j.sail.SailException;
+import org.eclipse.rdf4j.testsuite.sail.SailIsolationLevelTest;
+
+/**
+ * An extension of {@link SailIsolationLevelTest} for testing a {@link MemoryStore} which keeps its statements in the
+ * compact layout.
+ */
+public class CompactMemoryStoreIsolationLevelTest extends SailIsolationLevelTest {
+
+	@Override
+	protected Sail createSail() throws SailException {
+		MemoryStore sail = new MemoryStore();
+		sail.setCompactStorage(true);
+		return sail;
+	}
+}
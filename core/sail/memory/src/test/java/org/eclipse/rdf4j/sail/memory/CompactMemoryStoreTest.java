@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.memory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.model.vocabulary.RDFS;
+import org.eclipse.rdf4j.sail.NotifyingSail;
+import org.eclipse.rdf4j.sail.SailConnection;
+import org.eclipse.rdf4j.sail.SailException;
+import org.eclipse.rdf4j.testsuite.sail.RDFNotifyingStoreTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * An extension of RDFStoreTest for testing a {@link MemoryStore} which keeps its statements in the compact layout.
+ */
+public class CompactMemoryStoreTest extends RDFNotifyingStoreTest {
+
+	@Override
+	protected NotifyingSail createSail() throws SailException {
+		MemoryStore sail = new MemoryStore();
+		sail.setCompactStorage(true);
+		sail.init();
+		return sail;
+	}
+
+	@Test
+	public void testPersistence(@TempDir File dataDir) {
+		MemoryStore store = new MemoryStore(dataDir);
+		store.setCompactStorage(true);
+		store.setIncrementalSync(true);
+		store.init();
+		IRI subj = store.getValueFactory().createIRI("http://example.org/s");
+		try (SailConnection connection = store.getConnection()) {
+			connection.begin();
+			connection.addStatement(subj, RDF.TYPE, RDFS.CLASS);
+			connection.addStatement(subj, RDFS.LABEL, store.getValueFactory().createLiteral("s"), subj);
+			connection.commit();
+			connection.begin();
+			connection.removeStatements(subj, RDF.TYPE, null);
+			connection.commit();
+		}
+		store.shutDown();
+
+		store = new MemoryStore(dataDir);
+		store.setCompactStorage(true);
+		store.init();
+		try (SailConnection connection = store.getConnection()) {
+			assertThat(connection.size()).isEqualTo(1);
+			assertThat(connection.hasStatement(subj, RDFS.LABEL, null, false, subj)).isTrue();
+		} finally {
+			store.shutDown();
+		}
+	}
+}
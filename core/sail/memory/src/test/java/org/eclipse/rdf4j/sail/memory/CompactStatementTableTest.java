@@ -0,0 +1,219 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.memory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.sail.memory.CompactStatementTable.CompactStatement;
+import org.junit.jupiter.api.Test;
+
+public class CompactStatementTableTest {
+
+	private static final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	private static final IRI PRED = vf.createIRI("http://example.org/p");
+	private static final IRI GRAPH = vf.createIRI("http://example.org/g");
+
+	private final CompactStatementTable table = new CompactStatementTable();
+
+	@Test
+	public void testSnapshots() {
+		IRI subj = vf.createIRI("http://example.org/s");
+		assertThat(table.add(subj, PRED, vf.createLiteral(1), GRAPH, true, 1)).isTrue();
+		assertThat(table.add(subj, PRED, vf.createLiteral(1), GRAPH, true, 1)).isFalse();
+		table.deprecate(vf.createStatement(subj, PRED, vf.createLiteral(1), GRAPH), true, 2);
+
+		assertThat(read(null, 0)).isEmpty();
+		assertThat(read(null, 1)).hasSize(1);
+		assertThat(read(null, 2)).isEmpty();
+		assertThat(read(subj, 1)).hasSize(1);
+		assertThat(table.getContextIDs(1)).containsExactly(GRAPH);
+		assertThat(table.getContextIDs(2)).isEmpty();
+	}
+
+	@Test
+	public void testInferredStatementIsReplacedByExplicitStatement() {
+		IRI subj = vf.createIRI("http://example.org/s");
+		table.add(subj, PRED, subj, null, false, 1);
+		assertThat(table.add(subj, PRED, subj, null, true, 2)).isTrue();
+
+		assertThat(read(null, 1)).singleElement().extracting(CompactStatement::isExplicit).isEqualTo(false);
+		assertThat(read(null, 2)).singleElement().extracting(CompactStatement::isExplicit).isEqualTo(true);
+	}
+
+	@Test
+	public void testDeprecatedStatementsAreRemoved() throws InterruptedException {
+		for (int i = 0; i < 300; i++) {
+			table.add(vf.createIRI("http://example.org/s" + i), PRED, vf.createLiteral(i), null, true, 1);
+		}
+		for (int i = 0; i < 300; i += 2) {
+			table.deprecate(vf.createStatement(vf.createIRI("http://example.org/s" + i), PRED, vf.createLiteral(i)),
+					true, 2);
+		}
+		assertThat(table.valueCount()).isEqualTo(601);
+
+		try (CloseableIteration<CompactStatement> iter = table.getStatements(null, PRED, null, true, 2)) {
+			List<Statement> statements = new ArrayList<>();
+			statements.add(iter.next());
+
+			// release the values of the removed statements and reuse them while the iteration is in progress
+			assertThat(table.merge(2)).isEqualTo(150);
+			assertThat(table.valueCount()).isEqualTo(301);
+			for (int i = 0; i < 150; i++) {
+				table.add(vf.createIRI("http://example.org/new" + i), PRED, vf.createLiteral(i), null, true, 3);
+			}
+
+			iter.forEachRemaining(statements::add);
+			assertThat(statements).hasSize(150)
+					.allMatch(st -> ((IRI) st.getSubject()).getLocalName().startsWith("s"));
+		}
+
+		assertThat(table.size()).isEqualTo(300);
+		assertThat(table.valueCount()).isEqualTo(526);
+		assertThat(read(null, 3)).hasSize(300);
+		assertThat(table.count(CompactStatementTable.PREDICATE, PRED)).isEqualTo(300);
+	}
+
+	@Test
+	public void testMergedAndNewStatements() throws InterruptedException {
+		IRI other = vf.createIRI("http://example.org/other");
+		for (int i = 0; i < 100; i++) {
+			table.add(vf.createIRI("http://example.org/s" + i % 10), i % 2 == 0 ? PRED : other, vf.createLiteral(i),
+					i % 3 == 0 ? GRAPH : null, true, 1);
+		}
+		assertThat(table.merge(0)).isZero();
+		assertThat(table.needsMerge()).isFalse();
+
+		for (int i = 100; i < 200; i++) {
+			table.add(vf.createIRI("http://example.org/s" + i % 10), i % 2 == 0 ? PRED : other, vf.createLiteral(i),
+					i % 3 == 0 ? GRAPH : null, true, 2);
+		}
+		table.deprecate(vf.createStatement(vf.createIRI("http://example.org/s0"), PRED, vf.createLiteral(0), GRAPH),
+				true, 3);
+
+		for (boolean merged : new boolean[] { false, true }) {
+			assertThat(read(vf.createIRI("http://example.org/s1"), 1)).hasSize(10);
+			assertThat(read(vf.createIRI("http://example.org/s1"), 2)).hasSize(20);
+			assertThat(read(vf.createIRI("http://example.org/s0"), 3)).hasSize(19);
+			assertThat(count(null, PRED, null, 2)).isEqualTo(100);
+			assertThat(count(null, PRED, vf.createLiteral(150), 2)).isEqualTo(1);
+			assertThat(count(null, null, vf.createLiteral(151), 1)).isZero();
+			assertThat(count(null, null, null, 2, GRAPH)).isEqualTo(67);
+			assertThat(count(null, null, null, 2, (IRI) null)).isEqualTo(133);
+			assertThat(count(null, null, null, 3, GRAPH)).isEqualTo(66);
+			assertThat(table.count(CompactStatementTable.SUBJECT, vf.createIRI("http://example.org/s0"))).isEqualTo(20);
+			assertThat(table.count(CompactStatementTable.CONTEXT, GRAPH)).isEqualTo(67);
+			assertThat(table.getContextIDs(2)).containsExactly(GRAPH);
+
+			if (!merged) {
+				// statements added after the highest unused snapshot stay invisible in older snapshots
+				assertThat(table.merge(1)).isZero();
+				assertThat(table.needsMerge()).isTrue();
+			}
+		}
+	}
+
+	@Test
+	public void testStatementReadBeforeMerge() throws InterruptedException {
+		IRI subj = vf.createIRI("http://example.org/s");
+		table.add(subj, PRED, vf.createLiteral(1), null, true, 1);
+		table.add(subj, PRED, vf.createLiteral(2), null, true, 1);
+		CompactStatement statement = read(null, 1).get(0);
+
+		table.merge(0);
+		assertThat(table.changedBetween(statement, 0, 2)).isTrue();
+		assertThat(table.changedBetween(statement, 1, 3)).isFalse();
+
+		table.deprecate(statement, 2);
+		assertThat(read(null, 2)).hasSize(1).doesNotContain(statement);
+		assertThat(table.changedBetween(statement, 1, 3)).isTrue();
+
+		table.merge(2);
+		assertThat(table.size()).isEqualTo(1);
+		assertThat(table.valueCount()).isEqualTo(3);
+	}
+
+	@Test
+	public void testConcurrentMerges() throws Exception {
+		AtomicBoolean done = new AtomicBoolean();
+		AtomicInteger highestUnusedSnapshot = new AtomicInteger();
+		Thread merger = new Thread(() -> {
+			try {
+				while (!done.get()) {
+					table.merge(highestUnusedSnapshot.get());
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		merger.start();
+
+		Set<String> expected = new HashSet<>();
+		Random random = new Random(42);
+		try {
+			for (int snapshot = 1; snapshot <= 200; snapshot++) {
+				for (int i = 0; i < 100; i++) {
+					int value = random.nextInt(1000);
+					IRI subj = vf.createIRI("http://example.org/s" + value);
+					if (expected.add(subj.stringValue())) {
+						table.add(subj, PRED, vf.createLiteral(value), null, true, snapshot);
+					} else {
+						expected.remove(subj.stringValue());
+						table.deprecate(vf.createStatement(subj, PRED, vf.createLiteral(value)), true, snapshot);
+					}
+				}
+				highestUnusedSnapshot.set(snapshot - 1);
+			}
+		} finally {
+			done.set(true);
+			merger.join();
+		}
+		table.merge(200);
+
+		Set<String> actual = new HashSet<>();
+		for (CompactStatement statement : read(null, 200)) {
+			actual.add(statement.getSubject().stringValue());
+		}
+		assertThat(actual).isEqualTo(expected);
+		assertThat(table.size()).isEqualTo(expected.size());
+		assertThat(table.valueCount()).isEqualTo(expected.size() * 2 + 1);
+	}
+
+	private int count(IRI subj, IRI pred, Value obj, int snapshot, Resource... contexts) {
+		try (CloseableIteration<CompactStatement> iter = table.getStatements(subj, pred, obj, null, snapshot,
+				contexts)) {
+			return (int) iter.stream().count();
+		}
+	}
+
+	private List<CompactStatement> read(IRI subj, int snapshot) {
+		List<CompactStatement> statements = new ArrayList<>();
+		try (CloseableIteration<CompactStatement> iter = table.getStatements(subj, null, null, null, snapshot)) {
+			iter.forEachRemaining(statements::add);
+		}
+		return statements;
+	}
+}
@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.memory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.List;
+
+import org.eclipse.rdf4j.common.iteration.Iterations;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.model.vocabulary.RDFS;
+import org.eclipse.rdf4j.sail.SailConnection;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MemoryStoreChangeLogTest {
+
+	private static final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	private static final IRI GRAPH = vf.createIRI("http://example.com/graph");
+
+	@TempDir
+	File dataDir;
+
+	@Test
+	public void testChangesSurviveRestart() {
+		MemoryStore store = createStore(true);
+		try (MemoryStoreConnection connection = (MemoryStoreConnection) store.getConnection()) {
+			connection.begin();
+			connection.setNamespace("ex", "http://example.com/");
+			connection.setNamespace("foaf", "http://xmlns.com/foaf/0.1/");
+			connection.addStatement(resource(1), RDF.TYPE, RDFS.CLASS);
+			connection.addStatement(resource(2), RDF.TYPE, RDFS.CLASS);
+			connection.addStatement(resource(3), RDFS.LABEL, vf.createLiteral("three", "en"), GRAPH);
+			connection.addStatement(resource(4), RDFS.LABEL, vf.createLiteral(4), GRAPH);
+			connection.addInferredStatement(resource(1), RDF.TYPE, RDFS.RESOURCE);
+			connection.commit();
+
+			connection.begin();
+			connection.removeStatements(resource(2), null, null);
+			connection.removeNamespace("foaf");
+			connection.clear(GRAPH);
+			connection.addStatement(resource(5), RDFS.LABEL, vf.createLiteral("five"), GRAPH);
+			connection.commit();
+		}
+		store.shutDown();
+
+		store = createStore(true);
+		try (SailConnection connection = store.getConnection()) {
+			assertThat(statements(connection, false)).containsExactlyInAnyOrder(
+					vf.createStatement(resource(1), RDF.TYPE, RDFS.CLASS),
+					vf.createStatement(resource(5), RDFS.LABEL, vf.createLiteral("five"), GRAPH));
+			assertThat(statements(connection, true))
+					.contains(vf.createStatement(resource(1), RDF.TYPE, RDFS.RESOURCE));
+			assertThat(connection.getNamespace("ex")).isEqualTo("http://example.com/");
+			assertThat(connection.getNamespace("foaf")).isNull();
+		} finally {
+			store.shutDown();
+		}
+	}
+
+	@Test
+	public void testCommitDoesNotRewriteDataFile() throws IOException {
+		MemoryStore store = createStore(true);
+		try (SailConnection connection = store.getConnection()) {
+			File dataFile = new File(dataDir, MemoryStore.DATA_FILE_NAME);
+			long dataFileModified = dataFile.lastModified();
+			long dataFileLength = dataFile.length();
+
+			for (int i = 0; i < 10; i++) {
+				connection.begin();
+				connection.addStatement(resource(i), RDF.TYPE, RDFS.CLASS);
+				connection.commit();
+			}
+
+			assertThat(dataFile.lastModified()).isEqualTo(dataFileModified);
+			assertThat(dataFile.length()).isEqualTo(dataFileLength);
+			assertThat(ChangeLog.getSegments(dataDir)).hasSize(1);
+			assertThat(ChangeLog.getSegments(dataDir).get(0).length()).isGreaterThan(10 * 16);
+		} finally {
+			store.shutDown();
+		}
+	}
+
+	@Test
+	public void testCompaction() {
+		MemoryStore store = createStore(true);
+		store.minCompactionLogSize = 0;
+		try (SailConnection connection = store.getConnection()) {
+			for (int i = 0; i < 100; i++) {
+				connection.begin();
+				connection.addStatement(resource(i), RDF.TYPE, RDFS.CLASS);
+				if (i % 2 == 1) {
+					connection.removeStatements(resource(i - 1), RDF.TYPE, RDFS.CLASS);
+				}
+				connection.commit();
+			}
+		} finally {
+			store.shutDown();
+		}
+		// the compacted log files have been deleted
+		assertThat(ChangeLog.getSegments(dataDir)).hasSizeLessThanOrEqualTo(2);
+
+		store = createStore(true);
+		try (SailConnection connection = store.getConnection()) {
+			assertThat(statements(connection, false)).hasSize(50)
+					.allMatch(statement -> statement.getSubject().stringValue().matches(".*[13579]"));
+		} finally {
+			store.shutDown();
+		}
+	}
+
+	@Test
+	public void testIncompleteRecordIsIgnored() throws IOException {
+		MemoryStore store = createStore(true);
+		try (SailConnection connection = store.getConnection()) {
+			connection.begin();
+			connection.addStatement(resource(1), RDF.TYPE, RDFS.CLASS);
+			connection.commit();
+			connection.begin();
+			connection.addStatement(resource(2), RDF.TYPE, RDFS.CLASS);
+			connection.commit();
+		} finally {
+			store.shutDown();
+		}
+
+		// simulate a crash while the last record was written
+		List<File> segments = ChangeLog.getSegments(dataDir);
+		try (RandomAccessFile file = new RandomAccessFile(segments.get(segments.size() - 1), "rw")) {
+			file.setLength(file.length() - 3);
+		}
+
+		store = createStore(true);
+		try (SailConnection connection = store.getConnection()) {
+			assertThat(statements(connection, false))
+					.containsExactly(vf.createStatement(resource(1), RDF.TYPE, RDFS.CLASS));
+
+			// the store keeps logging changes after the incomplete record
+			connection.begin();
+			connection.addStatement(resource(3), RDF.TYPE, RDFS.CLASS);
+			connection.commit();
+		} finally {
+			store.shutDown();
+		}
+
+		store = createStore(true);
+		try (SailConnection connection = store.getConnection()) {
+			assertThat(statements(connection, false)).hasSize(2);
+		} finally {
+			store.shutDown();
+		}
+	}
+
+	@Test
+	public void testDisablingIncrementalSyncMovesLogToDataFile() {
+		MemoryStore store = createStore(true);
+		try (SailConnection connection = store.getConnection()) {
+			connection.begin();
+			connection.addStatement(resource(1), RDF.TYPE, RDFS.CLASS);
+			connection.commit();
+		} finally {
+			store.shutDown();
+		}
+
+		store = createStore(false);
+		try (SailConnection connection = store.getConnection()) {
+			assertThat(statements(connection, false)).hasSize(1);
+			assertThat(ChangeLog.getSegments(dataDir)).isEmpty();
+		} finally {
+			store.shutDown();
+		}
+
+		store = createStore(false);
+		try (SailConnection connection = store.getConnection()) {
+			assertThat(statements(connection, false)).hasSize(1);
+		} finally {
+			store.shutDown();
+		}
+	}
+
+	private MemoryStore createStore(boolean incrementalSync) {
+		MemoryStore store = new MemoryStore(dataDir);
+		store.setIncrementalSync(incrementalSync);
+		store.init();
+		return store;
+	}
+
+	private static List<Statement> statements(SailConnection connection, boolean includeInferred) {
+		return Iterations.asList(connection.getStatements(null, null, null, includeInferred));
+	}
+
+	private static IRI resource(int i) {
+		return vf.createIRI("http://example.com/resource" + i);
+	}
+}
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.memory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.eclipse.rdf4j.common.transaction.IsolationLevels;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.sail.SailConflictException;
+import org.eclipse.rdf4j.sail.SailConnection;
+import org.eclipse.rdf4j.sail.SailException;
+import org.eclipse.rdf4j.sail.base.SerializableConflictStatistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SerializableConflictTest {
+
+	private MemoryStore store;
+	private ValueFactory vf;
+	private IRI alice;
+	private IRI bob;
+	private IRI knows;
+
+	@BeforeEach
+	public void setUp() {
+		store = new MemoryStore();
+		store.init();
+		vf = store.getValueFactory();
+		alice = vf.createIRI("http://example.org/alice");
+		bob = vf.createIRI("http://example.org/bob");
+		knows = vf.createIRI("http://example.org/knows");
+	}
+
+	@AfterEach
+	public void tearDown() {
+		store.shutDown();
+	}
+
+	@Test
+	public void testConflictWithConcurrentChange() {
+		try (SailConnection connection = store.getConnection(); SailConnection other = store.getConnection()) {
+			connection.begin(IsolationLevels.SERIALIZABLE);
+			observeAlice(connection);
+
+			other.begin(IsolationLevels.SERIALIZABLE);
+			other.addStatement(alice, knows, vf.createLiteral("carol"));
+			other.commit();
+
+			connection.addStatement(bob, knows, alice);
+			assertThatThrownBy(connection::commit).isInstanceOf(SailConflictException.class);
+		}
+
+		SerializableConflictStatistics statistics = store.getSerializableConflictStatistics();
+		assertThat(statistics.getConflicts()).isEqualTo(1);
+		// the recorded change of the concurrent transaction was looked up in the observed patterns
+		assertThat(statistics.getCheckedChanges()).isEqualTo(1);
+	}
+
+	@Test
+	public void testNoConflictWithUnobservedChange() {
+		try (SailConnection connection = store.getConnection(); SailConnection other = store.getConnection()) {
+			connection.begin(IsolationLevels.SERIALIZABLE);
+			observeAlice(connection);
+
+			other.begin(IsolationLevels.SERIALIZABLE);
+			other.addStatement(bob, knows, vf.createLiteral("carol"));
+			other.commit();
+
+			connection.addStatement(bob, knows, alice);
+			connection.commit();
+		}
+
+		SerializableConflictStatistics statistics = store.getSerializableConflictStatistics();
+		assertThat(statistics.getCheckedTransactions()).isEqualTo(1);
+		assertThat(statistics.getConflicts()).isZero();
+		assertThat(statistics.getCheckedChanges()).isEqualTo(1);
+	}
+
+	@Test
+	public void testConflictWithTransactionStartedBeforeSerializableTransaction() {
+		try (SailConnection connection = store.getConnection(); SailConnection other = store.getConnection()) {
+			// takes the transaction lock before the serializable transaction starts, so its changes are not recorded
+			other.begin(IsolationLevels.NONE);
+			other.addStatement(alice, knows, vf.createLiteral("carol"));
+
+			connection.begin(IsolationLevels.SERIALIZABLE);
+			observeAlice(connection);
+
+			other.commit();
+
+			connection.addStatement(bob, knows, alice);
+			assertThatThrownBy(connection::commit).isInstanceOf(SailConflictException.class);
+		}
+
+		assertThat(store.getSerializableConflictStatistics().getConflicts()).isEqualTo(1);
+	}
+
+	private void observeAlice(SailConnection connection) throws SailException {
+		try (var statements = connection.getStatements(alice, knows, null, false)) {
+			assertThat(statements.stream().count()).isZero();
+		}
+	}
+}
@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.memory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.rdf4j.common.transaction.IsolationLevels;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.query.algebra.StatementPattern;
+import org.eclipse.rdf4j.query.algebra.Var;
+import org.eclipse.rdf4j.query.algebra.evaluation.impl.EvaluationStatistics;
+import org.eclipse.rdf4j.sail.SailConnection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+public class SnapshotCleanupTest {
+
+	private static final int SIZE = 200_000;
+
+	private MemoryStore store;
+	private ValueFactory vf;
+	private IRI removed;
+	private IRI kept;
+
+	@BeforeEach
+	public void setUp() {
+		store = new MemoryStore();
+		store.init();
+		vf = store.getValueFactory();
+		removed = vf.createIRI("http://example.org/removed");
+		kept = vf.createIRI("http://example.org/kept");
+	}
+
+	@AfterEach
+	public void tearDown() {
+		store.shutDown();
+	}
+
+	@Test
+	@Timeout(60)
+	public void testCleanupRemovesStatementsFromAllChunks() throws InterruptedException {
+		addStatements(0, SIZE);
+		removeStatements();
+
+		MemorySailStore sailStore = (MemorySailStore) store.getSailStore();
+		sailStore.cleanSnapshots();
+
+		EvaluationStatistics statistics = sailStore.getEvaluationStatistics();
+		assertThat(statistics.getCardinality(pattern(null))).isEqualTo(SIZE / 2 + 2);
+		assertThat(statistics.getCardinality(pattern(removed))).isZero();
+		assertThat(statistics.getCardinality(pattern(kept))).isEqualTo(SIZE / 2 + 2);
+		assertThat(store.getSnapshotCleanupStatistics().getCleanupCount()).isPositive();
+	}
+
+	@Test
+	@Timeout(60)
+	public void testTransactionsContinueDuringCleanup() throws Exception {
+		addStatements(0, SIZE);
+		removeStatements();
+
+		MemorySailStore sailStore = (MemorySailStore) store.getSailStore();
+		CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> addStatements(SIZE, SIZE + 10_000));
+		sailStore.cleanSnapshots();
+		writer.get();
+
+		try (SailConnection connection = store.getConnection()) {
+			assertThat(connection.size()).isEqualTo(SIZE / 2 + 2 + 10_000);
+		}
+	}
+
+	/**
+	 * Removes the statements with the removed predicate, and commits two more transactions so that the snapshot in
+	 * which they were removed is old enough to be cleaned.
+	 */
+	private void removeStatements() {
+		try (SailConnection connection = store.getConnection()) {
+			connection.begin(IsolationLevels.NONE);
+			connection.removeStatements(null, removed, null);
+			connection.commit();
+			for (int i = 0; i < 2; i++) {
+				connection.begin(IsolationLevels.NONE);
+				connection.addStatement(kept, kept, vf.createLiteral(i));
+				connection.commit();
+			}
+		}
+	}
+
+	private void addStatements(int from, int to) {
+		try (SailConnection connection = store.getConnection()) {
+			connection.begin(IsolationLevels.NONE);
+			for (int i = from; i < to; i++) {
+				connection.addStatement(vf.createIRI("http://example.org/s" + i), i % 2 == 0 ? removed : kept,
+						vf.createLiteral(i));
+				if (i % 1000 == 999) {
+					connection.commit();
+					connection.begin(IsolationLevels.NONE);
+				}
+			}
+			connection.commit();
+		}
+	}
+
+	private static StatementPattern pattern(IRI predicate) {
+		return new StatementPattern(Var.of("s"), predicate == null ? Var.of("p") : Var.of("p", predicate),
+				Var.of("o"));
+	}
+}
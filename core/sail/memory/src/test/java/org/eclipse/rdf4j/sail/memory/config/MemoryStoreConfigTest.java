@@ -17,7 +17,10 @@ import static org.eclipse.rdf4j.model.util.Values.bnode;
 import org.eclipse.rdf4j.common.transaction.QueryEvaluationMode;
 import org.eclipse.rdf4j.model.BNode;
 import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
 import org.eclipse.rdf4j.model.util.ModelBuilder;
+import org.eclipse.rdf4j.model.vocabulary.CONFIG;
 import org.eclipse.rdf4j.sail.base.config.BaseSailSchema;
 import org.junit.jupiter.api.Test;
 
@@ -45,4 +48,42 @@ public class MemoryStoreConfigTest {
 		assertThat(config.getPersist()).isTrue();
 		assertThat(config.getSyncDelay()).isEqualTo(1000);
 	}
+
+	@Test
+	void testIncrementalSync() {
+		BNode implNode = bnode();
+		Model serializedConfig = new ModelBuilder()
+				.subject(implNode)
+				.add(CONFIG.Mem.incrementalSync, true)
+				.build();
+
+		MemoryStoreConfig config = new MemoryStoreConfig();
+		config.parse(serializedConfig, implNode);
+		assertThat(config.getIncrementalSync()).isTrue();
+
+		Model exported = new LinkedHashModel();
+		Resource exportedNode = config.export(exported);
+		MemoryStoreConfig parsed = new MemoryStoreConfig();
+		parsed.parse(exported, exportedNode);
+		assertThat(parsed.getIncrementalSync()).isTrue();
+	}
+
+	@Test
+	void testCompactStorage() {
+		BNode implNode = bnode();
+		Model serializedConfig = new ModelBuilder()
+				.subject(implNode)
+				.add(CONFIG.Mem.compactStorage, true)
+				.build();
+
+		MemoryStoreConfig config = new MemoryStoreConfig();
+		config.parse(serializedConfig, implNode);
+		assertThat(config.getCompactStorage()).isTrue();
+
+		Model exported = new LinkedHashModel();
+		Resource exportedNode = config.export(exported);
+		MemoryStoreConfig parsed = new MemoryStoreConfig();
+		parsed.parse(exported, exportedNode);
+		assertThat(parsed.getCompactStorage()).isTrue();
+	}
 }
@@ -27,10 +27,15 @@ import java.util.Objects;
 import java.util.OptionalLong;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Pattern;
 
+import org.eclipse.rdf4j.common.io.ByteArrayUtil;
 import org.eclipse.rdf4j.common.iteration.CloseableIteration;
 import org.eclipse.rdf4j.common.iteration.CloseableIteratorIteration;
 import org.eclipse.rdf4j.common.iteration.ConvertingIteration;
@@ -38,6 +43,7 @@ import org.eclipse.rdf4j.common.iteration.EmptyIteration;
 import org.eclipse.rdf4j.common.iteration.FilterIteration;
 import org.eclipse.rdf4j.common.iteration.UnionIteration;
 import org.eclipse.rdf4j.common.transaction.IsolationLevel;
+import org.eclipse.rdf4j.common.transaction.IsolationLevels;
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Namespace;
 import org.eclipse.rdf4j.model.Resource;
@@ -49,6 +55,7 @@ import org.eclipse.rdf4j.sail.SailException;
 import org.eclipse.rdf4j.sail.base.BackingSailSource;
 import org.eclipse.rdf4j.sail.base.Changeset;
 import org.eclipse.rdf4j.sail.base.SailDataset;
+import org.eclipse.rdf4j.sail.base.SailRead;
 import org.eclipse.rdf4j.sail.base.SailSink;
 import org.eclipse.rdf4j.sail.base.SailSource;
 import org.eclipse.rdf4j.sail.base.SailStore;
@@ -93,6 +100,23 @@ class NativeSailStore implements SailStore {
 	 */
 	private final AtomicBoolean storeTxnStarted = new AtomicBoolean(false);
 
+	/**
+	 * Removes the states and tombstones of triples that are no longer needed by any pinned version, non-null if
+	 * {@link #enableVersions() versions are enabled}.
+	 */
+	private volatile ExecutorService versionCollector;
+
+	/**
+	 * Boolean indicating whether the {@link #versionCollector} has a pending task.
+	 */
+	private final AtomicBoolean versionCollectionScheduled = new AtomicBoolean(false);
+
+	/**
+	 * The {@link NativeSailRead} that datasets are opened through by the current thread, see
+	 * {@link NativeSailRead#dataset(SailSource, IsolationLevel)}.
+	 */
+	private final ThreadLocal<NativeSailRead> currentRead = new ThreadLocal<>();
+
 	/**
 	 * Creates a new {@link NativeSailStore} with the default cache sizes.
 	 */
@@ -307,8 +331,66 @@ class NativeSailStore implements SailStore {
 		return valueStore;
 	}
 
+	/**
+	 * Makes every dataset of this store read the version of the store at the time the dataset was created, while later
+	 * transactions are committed to the same indexes. The states of the triples that are changed while a version is in
+	 * use are kept in the {@link TripleStore} and removed in the background once no dataset uses that version any more.
+	 * Must be called before the store is used.
+	 */
+	void enableVersions() {
+		tripleStore.enableVersions();
+		versionCollector = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "rdf4j-nativestore-version-collector");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	boolean isVersioned() {
+		return tripleStore.isVersioned();
+	}
+
+	private void scheduleVersionCollection() {
+		ExecutorService collector = versionCollector;
+		if (collector != null && versionCollectionScheduled.compareAndSet(false, true)) {
+			try {
+				collector.execute(() -> {
+					versionCollectionScheduled.set(false);
+					collectVersions();
+				});
+			} catch (RejectedExecutionException e) {
+				// the store is being closed, which collects all versions
+				versionCollectionScheduled.set(false);
+			}
+		}
+	}
+
+	private void collectVersions() {
+		sinkStoreAccessLock.lock();
+		try {
+			tripleStore.collectVersions();
+		} catch (IOException | RuntimeException e) {
+			logger.warn("Failed to remove old versions of triples", e);
+		} finally {
+			sinkStoreAccessLock.unlock();
+		}
+	}
+
 	@Override
 	public void close() throws SailException {
+		ExecutorService collector = versionCollector;
+		if (collector != null) {
+			versionCollector = null;
+			collector.shutdown();
+			try {
+				if (!collector.awaitTermination(1, TimeUnit.MINUTES)) {
+					logger.warn("Timed out waiting for the removal of old versions of triples");
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			collectVersions();
+		}
 		try {
 			try {
 				if (namespaceStore != null) {
@@ -359,6 +441,14 @@ class NativeSailStore implements SailStore {
 		return new NativeSailSource(false);
 	}
 
+	@Override
+	public SailRead startRead() {
+		if (tripleStore.isVersioned()) {
+			return new NativeSailRead();
+		}
+		return SailStore.super.startRead();
+	}
+
 	List<Integer> getContextIDs(Resource... contexts) throws IOException {
 		assert contexts.length > 0 : "contexts must not be empty";
 
@@ -413,6 +503,29 @@ class NativeSailStore implements SailStore {
 		};
 	}
 
+	/**
+	 * Gets the contexts that contain explicit or inferred statements at a pinned version.
+	 */
+	CloseableIteration<Resource> getContexts(long version) throws IOException {
+		Set<Integer> contextIDs = new LinkedHashSet<>();
+		for (boolean explicit : new boolean[] { true, false }) {
+			try (RecordIterator iter = tripleStore.getTriples(-1, -1, -1, -1, explicit, version)) {
+				byte[] data;
+				while ((data = iter.next()) != null) {
+					int contextID = ByteArrayUtil.getInt(data, TripleStore.CONTEXT_IDX);
+					if (contextID != 0) {
+						contextIDs.add(contextID);
+					}
+				}
+			}
+		}
+		List<Resource> contexts = new ArrayList<>(contextIDs.size());
+		for (int contextID : contextIDs) {
+			contexts.add((Resource) valueStore.getValue(contextID));
+		}
+		return new CloseableIteratorIteration<>(contexts.iterator());
+	}
+
 	/**
 	 * Creates a statement iterator based on the supplied pattern.
 	 *
@@ -425,6 +538,19 @@ class NativeSailStore implements SailStore {
 	 */
 	CloseableIteration<? extends Statement> createStatementIterator(Resource subj, IRI pred, Value obj,
 			boolean explicit, Resource... contexts) throws IOException {
+		return createStatementIterator(subj, pred, obj, explicit, -1, contexts);
+	}
+
+	/**
+	 * Creates a statement iterator based on the supplied pattern.
+	 *
+	 * @param version  A version pinned by {@link TripleStore#pinVersion()}, or <var>-1</var> to read the last
+	 *                 committed statements.
+	 * @param contexts The context(s) of the pattern.
+	 * @see #createStatementIterator(Resource, IRI, Value, boolean, Resource...)
+	 */
+	private CloseableIteration<? extends Statement> createStatementIterator(Resource subj, IRI pred, Value obj,
+			boolean explicit, long version, Resource... contexts) throws IOException {
 		int subjID = NativeValue.UNKNOWN_ID;
 		if (subj != null) {
 			subjID = valueStore.getID(subj);
@@ -470,7 +596,9 @@ class NativeSailStore implements SailStore {
 		ArrayList<NativeStatementIterator> perContextIterList = new ArrayList<>(contextIDList.size());
 
 		for (int contextID : contextIDList) {
-			RecordIterator btreeIter = tripleStore.getTriples(subjID, predID, objID, contextID, explicit, false);
+			RecordIterator btreeIter = version < 0
+					? tripleStore.getTriples(subjID, predID, objID, contextID, explicit, false)
+					: tripleStore.getTriples(subjID, predID, objID, contextID, explicit, version);
 
 			perContextIterList.add(new NativeStatementIterator(btreeIter, valueStore));
 		}
@@ -542,11 +670,68 @@ class NativeSailStore implements SailStore {
 
 		@Override
 		public NativeSailDataset dataset(IsolationLevel level) throws SailException {
-			return new NativeSailDataset(explicit);
+			if (!tripleStore.isVersioned() || IsolationLevels.NONE.isCompatibleWith(level)) {
+				return new NativeSailDataset(explicit);
+			}
+			NativeSailRead read = currentRead.get();
+			return new NativeSailDataset(explicit, read != null ? read.pinVersion() : tripleStore.pinVersion());
 		}
 
 	}
 
+	/**
+	 * Pins a version when the first dataset is opened through it, and opens all other datasets at the same version.
+	 */
+	private final class NativeSailRead implements SailRead {
+
+		/**
+		 * The version pinned by this read, or -1 until the first dataset is opened, guarded by <var>this</var>.
+		 */
+		private long version = -1;
+
+		private boolean closed;
+
+		@Override
+		public SailDataset dataset(SailSource source, IsolationLevel level) throws SailException {
+			NativeSailRead previous = currentRead.get();
+			currentRead.set(this);
+			try {
+				return source.dataset(level);
+			} finally {
+				if (previous == null) {
+					currentRead.remove();
+				} else {
+					currentRead.set(previous);
+				}
+			}
+		}
+
+		/**
+		 * Pins the version of this read once more for a dataset.
+		 */
+		synchronized long pinVersion() {
+			if (closed) {
+				return tripleStore.pinVersion();
+			}
+			if (version < 0) {
+				// the pin of this read itself, released on close
+				version = tripleStore.pinVersion();
+			}
+			tripleStore.pinVersion(version);
+			return version;
+		}
+
+		@Override
+		public synchronized void close() {
+			if (!closed) {
+				closed = true;
+				if (version >= 0 && tripleStore.unpinVersion(version)) {
+					scheduleVersionCollection();
+				}
+			}
+		}
+	}
+
 	private final class NativeSailSink implements SailSink {
 
 		private final boolean explicit;
@@ -683,6 +868,10 @@ class NativeSailStore implements SailStore {
 			startTriplestoreTransaction();
 
 			try {
+				if (approved instanceof OffHeapChangesetModel) {
+					approveAll((OffHeapChangesetModel) approved);
+					return;
+				}
 				for (Statement statement : approved) {
 					Resource subj = statement.getSubject();
 					IRI pred = statement.getPredicate();
@@ -718,6 +907,30 @@ class NativeSailStore implements SailStore {
 
 		}
 
+		/**
+		 * Stores the tuples of the model sorted by the IDs of their values in the value store, storing each distinct
+		 * value of the model only once.
+		 */
+		private void approveAll(OffHeapChangesetModel approved) throws IOException {
+			int[] storeIDs = new int[approved.getValueCount()];
+			approved.forEachMappedQuad(id -> id == 0 ? 0 : storeValueId(approved, storeIDs, id),
+					(subj, pred, obj, context) -> {
+						boolean wasNew = tripleStore.storeTriple(subj, pred, obj, context, explicit);
+						if (wasNew && context != 0) {
+							contextStore.increment((Resource) valueStore.getValue(context));
+						}
+					});
+		}
+
+		private int storeValueId(OffHeapChangesetModel approved, int[] storeIDs, int id) throws IOException {
+			int storeID = storeIDs[id];
+			if (storeID == 0) {
+				storeID = storeValueId(approved.getValue(id));
+				storeIDs[id] = storeID;
+			}
+			return storeID;
+		}
+
 		@Override
 		public void deprecate(Statement statement) throws SailException {
 			removeStatements(statement.getSubject(), statement.getPredicate(), statement.getObject(), explicit,
@@ -877,13 +1090,27 @@ class NativeSailStore implements SailStore {
 
 		private final boolean explicit;
 
+		/**
+		 * The version pinned by this dataset, or -1 if this dataset reads the last committed statements.
+		 */
+		private final long version;
+
+		private final AtomicBoolean closed = new AtomicBoolean(false);
+
 		public NativeSailDataset(boolean explicit) throws SailException {
+			this(explicit, -1);
+		}
+
+		public NativeSailDataset(boolean explicit, long version) throws SailException {
 			this.explicit = explicit;
+			this.version = version;
 		}
 
 		@Override
 		public void close() {
-			// no-op
+			if (version >= 0 && closed.compareAndSet(false, true) && tripleStore.unpinVersion(version)) {
+				scheduleVersionCollection();
+			}
 		}
 
 		@Override
@@ -898,14 +1125,23 @@ class NativeSailStore implements SailStore {
 
 		@Override
 		public CloseableIteration<? extends Resource> getContextIDs() throws SailException {
+			if (version >= 0 && !tripleStore.isLatestVersion(version)) {
+				// the context store only knows the contexts of the last committed version
+				try {
+					return getContexts(version);
+				} catch (IOException e) {
+					throw new SailException("Unable to get contexts", e);
+				}
+			}
 			return new CloseableIteratorIteration<>(contextStore.iterator());
 		}
 
+
 		@Override
 		public CloseableIteration<? extends Statement> getStatements(Resource subj, IRI pred, Value obj,
 				Resource... contexts) throws SailException {
 			try {
-				return createStatementIterator(subj, pred, obj, explicit, contexts);
+				return createStatementIterator(subj, pred, obj, explicit, version, contexts);
 			} catch (IOException e) {
 				throw new SailException("Unable to get statements", e);
 			}
@@ -31,6 +31,7 @@ import org.eclipse.rdf4j.common.concurrent.locks.LockManager;
 import org.eclipse.rdf4j.common.io.MavenUtil;
 import org.eclipse.rdf4j.common.transaction.IsolationLevel;
 import org.eclipse.rdf4j.common.transaction.IsolationLevels;
+import org.eclipse.rdf4j.model.ModelFactory;
 import org.eclipse.rdf4j.model.ValueFactory;
 import org.eclipse.rdf4j.query.algebra.evaluation.EvaluationStrategy;
 import org.eclipse.rdf4j.query.algebra.evaluation.EvaluationStrategyFactory;
@@ -43,6 +44,7 @@ import org.eclipse.rdf4j.sail.NotifyingSailConnection;
 import org.eclipse.rdf4j.sail.SailException;
 import org.eclipse.rdf4j.sail.base.SailSource;
 import org.eclipse.rdf4j.sail.base.SailStore;
+import org.eclipse.rdf4j.sail.base.SerializableConflictStatistics;
 import org.eclipse.rdf4j.sail.base.SnapshotSailStore;
 import org.eclipse.rdf4j.sail.helpers.AbstractNotifyingSail;
 import org.eclipse.rdf4j.sail.helpers.DirectoryLockManager;
@@ -146,6 +148,8 @@ public class NativeStore extends AbstractNotifyingSail implements FederatedServi
 
 	private SailStore store;
 
+	private final SerializableConflictStatistics serializableConflictStatistics = new SerializableConflictStatistics();
+
 	// used to decide if store is writable, is true if the store was writable during initialization
 	private boolean isWritable;
 
@@ -196,6 +200,10 @@ public class NativeStore extends AbstractNotifyingSail implements FederatedServi
 	private boolean walAutoRecoverOnOpen = false;
 	private boolean walEnabled = true;
 
+	private volatile boolean offHeapChangesets = false;
+
+	private volatile boolean versionedIndexes = false;
+
 	/*--------------*
 	 * Constructors *
 	 *--------------*/
@@ -379,6 +387,58 @@ public class NativeStore extends AbstractNotifyingSail implements FederatedServi
 		return walEnabled;
 	}
 
+	/**
+	 * Keep the statements added and removed in isolated transactions as tuples of int IDs in sorted off-heap runs,
+	 * instead of in a model that overflows into a temporary native store when memory runs low. This uses far less heap
+	 * for large transactions and writes their statements to the store in sorted order. Must be set before the store is
+	 * initialized.
+	 */
+	@Experimental
+	public void setOffHeapChangesets(boolean offHeapChangesets) {
+		if (isInitialized()) {
+			throw new IllegalStateException("sail has already been initialized");
+		}
+		this.offHeapChangesets = offHeapChangesets;
+	}
+
+	@Experimental
+	public boolean isOffHeapChangesets() {
+		return offHeapChangesets;
+	}
+
+	/**
+	 * Write committed transactions to the triple indexes right away, also while other connections are reading. Readers
+	 * keep reading the version of the indexes that was committed last when they started, from the indexes themselves:
+	 * removed statements are kept as tombstones and the earlier states of changed statements are kept in version
+	 * chains, until no reader uses an earlier version any more. Without this, committed transactions are kept in memory
+	 * until no connection is reading, which can take long with long-running queries. Must be set before the store is
+	 * initialized.
+	 */
+	@Experimental
+	public void setVersionedIndexes(boolean versionedIndexes) {
+		if (isInitialized()) {
+			throw new IllegalStateException("sail has already been initialized");
+		}
+		this.versionedIndexes = versionedIndexes;
+	}
+
+	@Experimental
+	public boolean isVersionedIndexes() {
+		return versionedIndexes;
+	}
+
+	/**
+	 * Gets statistics about the conflict checks of {@link IsolationLevels#SERIALIZABLE} transactions, such as how many
+	 * transactions were checked and how many of them had a conflict. The statistics cover all transactions since this
+	 * store was created.
+	 *
+	 * @return the serializable conflict statistics
+	 */
+	@Experimental
+	public SerializableConflictStatistics getSerializableConflictStatistics() {
+		return serializableConflictStatistics;
+	}
+
 	/**
 	 * @return Returns the {@link EvaluationStrategy}.
 	 */
@@ -493,7 +553,13 @@ public class NativeStore extends AbstractNotifyingSail implements FederatedServi
 					walSyncBootstrapOnOpen,
 					walAutoRecoverOnOpen,
 					walEnabled);
-			this.store = new SnapshotSailStore(mainStore, MemoryOverflowIntoNativeStore::new) {
+			if (versionedIndexes) {
+				mainStore.enableVersions();
+			}
+			ModelFactory changesetModelFactory = offHeapChangesets ? OffHeapChangesetModel::new
+					: MemoryOverflowIntoNativeStore::new;
+			this.store = new SnapshotSailStore(mainStore, changesetModelFactory, versionedIndexes,
+					serializableConflictStatistics) {
 
 				@Override
 				public SailSource getExplicitSailSource() {
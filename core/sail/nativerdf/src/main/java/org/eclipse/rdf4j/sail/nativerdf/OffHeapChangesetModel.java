@@ -0,0 +1,956 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.nativerdf;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Namespace;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.AbstractModel;
+import org.eclipse.rdf4j.model.impl.FilteredModel;
+import org.eclipse.rdf4j.model.impl.SimpleNamespace;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.util.ModelException;
+
+/**
+ * A {@link Model} for the approved and deprecated statements of a transaction that keeps each statement as a tuple of
+ * four int IDs instead of as a {@link Statement} object. Values get transaction local IDs from an in-memory
+ * dictionary. New tuples are collected in a small on-heap hash table, which is sorted in subject, predicate, object,
+ * context order and moved into an off-heap run once it is full. Runs of similar size are merged, so that n statements
+ * are kept in O(log n) runs that are each searched with a binary search. Once the runs take up more than the direct
+ * memory limit, further runs are written to memory mapped temporary files.
+ * <p>
+ * Removed tuples are marked in a bit set of their run and are dropped when the run is merged. Mutations must not run
+ * concurrently with other operations, reads may run concurrently with each other. {@link NativeSailStore} writes the
+ * tuples of this model to its triple store sorted by the IDs of their values in the store, storing each distinct value
+ * only once.
+ *
+ * @see NativeStore#setOffHeapChangesets(boolean)
+ */
+class OffHeapChangesetModel extends AbstractModel {
+
+	private static final long serialVersionUID = -2964357297040437610L;
+
+	/**
+	 * The number of tuples that are collected on-heap before they are sorted into a run.
+	 */
+	static final int DEFAULT_BUFFER_CAPACITY = 8192;
+
+	/**
+	 * The number of bytes of direct memory used for runs before further runs are memory mapped from temporary files.
+	 */
+	static final long DEFAULT_MAX_DIRECT_MEMORY = 64L * 1024 * 1024;
+
+	private static final int REMOVED = -1;
+
+	private static final ValueFactory VF = SimpleValueFactory.getInstance();
+
+	/**
+	 * Receives the tuples of the model.
+	 */
+	interface QuadConsumer {
+		void accept(int subj, int pred, int obj, int context) throws IOException;
+	}
+
+	/**
+	 * Maps the value IDs of the model to other IDs, e.g. the IDs of the values in a store.
+	 */
+	interface IdMapper {
+		int map(int id) throws IOException;
+	}
+
+	private final Set<Namespace> namespaces = new LinkedHashSet<>();
+
+	private final int bufferCapacity;
+
+	private final long maxDirectMemory;
+
+	/**
+	 * Values by ID, ID 0 is the default graph.
+	 */
+	private Value[] values = new Value[16];
+
+	private int valueCount = 1;
+
+	/**
+	 * Open addressing table of value IDs, 0 marks an empty slot.
+	 */
+	private int[] valueTable = new int[32];
+
+	/**
+	 * Tuples that are not in a run yet, four ints per entry. The subject of removed entries is {@link #REMOVED}.
+	 */
+	private final int[] buffer;
+
+	private final IntBuffer bufferView;
+
+	private int bufferEntries;
+
+	/**
+	 * Open addressing table of buffer entry index + 1, 0 marks an empty slot and -1 a removed entry.
+	 */
+	private final int[] bufferTable;
+
+	private final List<Run> runs = new ArrayList<>();
+
+	private long directMemory;
+
+	private int size;
+
+	/**
+	 * Incremented on every modification, to fail iterators over a model that was modified by someone else.
+	 */
+	private int modCount;
+
+	OffHeapChangesetModel() {
+		this(DEFAULT_BUFFER_CAPACITY, DEFAULT_MAX_DIRECT_MEMORY);
+	}
+
+	OffHeapChangesetModel(int bufferCapacity, long maxDirectMemory) {
+		this.bufferCapacity = bufferCapacity;
+		this.maxDirectMemory = maxDirectMemory;
+		this.buffer = new int[bufferCapacity * 4];
+		this.bufferView = IntBuffer.wrap(buffer);
+		this.bufferTable = new int[Integer.highestOneBit(bufferCapacity * 2 - 1) << 1];
+	}
+
+	@Override
+	public Set<Namespace> getNamespaces() {
+		return namespaces;
+	}
+
+	@Override
+	public Optional<Namespace> getNamespace(String prefix) {
+		return namespaces.stream().filter(namespace -> namespace.getPrefix().equals(prefix)).findAny();
+	}
+
+	@Override
+	public Namespace setNamespace(String prefix, String name) {
+		Namespace namespace = new SimpleNamespace(prefix, name);
+		setNamespace(namespace);
+		return namespace;
+	}
+
+	@Override
+	public void setNamespace(Namespace namespace) {
+		removeNamespace(namespace.getPrefix());
+		namespaces.add(namespace);
+	}
+
+	@Override
+	public Optional<Namespace> removeNamespace(String prefix) {
+		Optional<Namespace> namespace = getNamespace(prefix);
+		namespace.ifPresent(namespaces::remove);
+		return namespace;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean add(Resource subj, IRI pred, Value obj, Resource... contexts) {
+		if (contexts == null || contexts.length == 0) {
+			contexts = new Resource[] { null };
+		}
+		int subjID = storeValue(subj);
+		int predID = storeValue(pred);
+		int objID = storeValue(obj);
+		boolean added = false;
+		for (Resource context : contexts) {
+			int contextID = storeValue(context);
+			if (!containsQuad(subjID, predID, objID, contextID)) {
+				addBuffered(subjID, predID, objID, contextID);
+				added = true;
+			}
+		}
+		return added;
+	}
+
+	@Override
+	public boolean contains(Resource subj, IRI pred, Value obj, Resource... contexts) {
+		if (subj != null && pred != null && obj != null && contexts != null && contexts.length == 1) {
+			int subjID = lookupValue(subj);
+			int predID = lookupValue(pred);
+			int objID = lookupValue(obj);
+			int contextID = lookupValue(contexts[0]);
+			return subjID > 0 && predID > 0 && objID > 0 && contextID >= 0
+					&& containsQuad(subjID, predID, objID, contextID);
+		}
+		return match(subj, pred, obj, contexts).hasNext();
+	}
+
+	@Override
+	public boolean remove(Resource subj, IRI pred, Value obj, Resource... contexts) {
+		boolean removed = false;
+		for (Iterator<Statement> iter = match(subj, pred, obj, contexts); iter.hasNext();) {
+			iter.next();
+			iter.remove();
+			removed = true;
+		}
+		return removed;
+	}
+
+	@Override
+	public boolean clear(Resource... contexts) {
+		return remove(null, null, null, contexts);
+	}
+
+	@Override
+	public void clear() {
+		values = new Value[16];
+		valueCount = 1;
+		valueTable = new int[32];
+		bufferEntries = 0;
+		Arrays.fill(bufferTable, 0);
+		runs.clear();
+		directMemory = 0;
+		size = 0;
+		modCount++;
+	}
+
+	@Override
+	public Iterator<Statement> iterator() {
+		return match(null, null, null);
+	}
+
+	@Override
+	public Model filter(Resource subj, IRI pred, Value obj, Resource... contexts) {
+		return new FilteredModel(this, subj, pred, obj, contexts) {
+
+			private static final long serialVersionUID = 4462127516484224137L;
+
+			@Override
+			public Iterator<Statement> iterator() {
+				return match(subj, pred, obj, contexts);
+			}
+
+			@Override
+			protected void removeFilteredTermIteration(Iterator<Statement> iter, Resource subj, IRI pred, Value obj,
+					Resource... contexts) {
+				OffHeapChangesetModel.this.removeTermIteration(iter, subj, pred, obj, contexts);
+			}
+		};
+	}
+
+	@Override
+	public void removeTermIteration(Iterator<Statement> iter, Resource subj, IRI pred, Value obj,
+			Resource... contexts) {
+		remove(subj, pred, obj, contexts);
+	}
+
+	/**
+	 * @return the value with the given ID, or null for the default graph.
+	 */
+	Value getValue(int id) {
+		return values[id];
+	}
+
+	/**
+	 * @return one more than the highest value ID.
+	 */
+	int getValueCount() {
+		return valueCount;
+	}
+
+	/**
+	 * Passes all tuples to the consumer in subject, predicate, object, context order. The runs and a sorted copy of the
+	 * buffer are merged while reading, so the model is not modified.
+	 */
+	void forEachQuad(QuadConsumer consumer) throws IOException {
+		List<Run> sources = new ArrayList<>(runs);
+		int[] buffered = sortedBuffer();
+		if (buffered.length > 0) {
+			sources.add(new Run(IntBuffer.wrap(buffered), buffered.length / 4, false));
+		}
+		mergeRuns(sources, consumer);
+	}
+
+	/**
+	 * Passes all tuples to the consumer with their IDs mapped by the mapper, in subject, predicate, object, context
+	 * order of the mapped IDs. The mapped tuples are sorted into temporary runs that are merged while reading, so the
+	 * model is not modified. Distinct IDs must be mapped to distinct IDs, and ID 0 (the default graph) to 0.
+	 */
+	void forEachMappedQuad(IdMapper mapper, QuadConsumer consumer) throws IOException {
+		List<Run> mappedRuns = new ArrayList<>();
+		try {
+			int[] mapped = new int[bufferCapacity * 4];
+			int[] entries = { 0 };
+			forEachQuad((subj, pred, obj, context) -> {
+				int offset = entries[0] * 4;
+				mapped[offset] = mapper.map(subj);
+				mapped[offset + 1] = mapper.map(pred);
+				mapped[offset + 2] = mapper.map(obj);
+				mapped[offset + 3] = mapper.map(context);
+				if (++entries[0] == bufferCapacity) {
+					addRun(mappedRuns, sortedRun(mapped, entries[0]));
+					entries[0] = 0;
+				}
+			});
+			if (entries[0] > 0) {
+				addRun(mappedRuns, sortedRun(mapped, entries[0]));
+			}
+			mergeRuns(mappedRuns, consumer);
+		} finally {
+			mappedRuns.forEach(this::release);
+		}
+	}
+
+	/**
+	 * Passes the live tuples of the runs to the consumer in sorted order.
+	 */
+	private static void mergeRuns(List<Run> sources, QuadConsumer consumer) throws IOException {
+		int[] positions = new int[sources.size()];
+		for (int i = 0; i < sources.size(); i++) {
+			positions[i] = sources.get(i).nextLive(0);
+		}
+		while (true) {
+			int min = -1;
+			for (int i = 0; i < positions.length; i++) {
+				if (positions[i] < sources.get(i).count
+						&& (min < 0 || compare(sources.get(i), positions[i], sources.get(min), positions[min]) < 0)) {
+					min = i;
+				}
+			}
+			if (min < 0) {
+				return;
+			}
+			Run run = sources.get(min);
+			int offset = positions[min] * 4;
+			consumer.accept(run.quads.get(offset), run.quads.get(offset + 1), run.quads.get(offset + 2),
+					run.quads.get(offset + 3));
+			positions[min] = run.nextLive(positions[min] + 1);
+		}
+	}
+
+	private int lookupValue(Value value) {
+		if (value == null) {
+			return 0;
+		}
+		int mask = valueTable.length - 1;
+		for (int i = mix(value.hashCode()) & mask;; i = (i + 1) & mask) {
+			int id = valueTable[i];
+			if (id == 0) {
+				return -1;
+			} else if (values[id].equals(value)) {
+				return id;
+			}
+		}
+	}
+
+	private int storeValue(Value value) {
+		if (value == null) {
+			return 0;
+		}
+		int mask = valueTable.length - 1;
+		int i = mix(value.hashCode()) & mask;
+		for (int id = valueTable[i]; id != 0; id = valueTable[i]) {
+			if (values[id].equals(value)) {
+				return id;
+			}
+			i = (i + 1) & mask;
+		}
+
+		int id = valueCount++;
+		if (id == values.length) {
+			values = Arrays.copyOf(values, id * 2);
+		}
+		values[id] = value;
+		valueTable[i] = id;
+		if (valueCount * 2 > valueTable.length) {
+			rehashValues();
+		}
+		return id;
+	}
+
+	private void rehashValues() {
+		int[] table = new int[valueTable.length * 2];
+		int mask = table.length - 1;
+		for (int id = 1; id < valueCount; id++) {
+			int i = mix(values[id].hashCode()) & mask;
+			while (table[i] != 0) {
+				i = (i + 1) & mask;
+			}
+			table[i] = id;
+		}
+		valueTable = table;
+	}
+
+	private boolean containsQuad(int subj, int pred, int obj, int context) {
+		if (findBufferSlot(subj, pred, obj, context) >= 0) {
+			return true;
+		}
+		for (Run run : runs) {
+			int index = run.find(subj, pred, obj, context);
+			if (index >= 0 && !run.isRemoved(index)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private int findBufferSlot(int subj, int pred, int obj, int context) {
+		int mask = bufferTable.length - 1;
+		for (int i = hash(subj, pred, obj, context) & mask;; i = (i + 1) & mask) {
+			int entry = bufferTable[i];
+			if (entry == 0) {
+				return -1;
+			} else if (entry > 0) {
+				int offset = (entry - 1) * 4;
+				if (buffer[offset] == subj && buffer[offset + 1] == pred && buffer[offset + 2] == obj
+						&& buffer[offset + 3] == context) {
+					return i;
+				}
+			}
+		}
+	}
+
+	private void addBuffered(int subj, int pred, int obj, int context) {
+		if (bufferEntries == bufferCapacity) {
+			spill();
+		}
+		int entry = bufferEntries++;
+		int offset = entry * 4;
+		buffer[offset] = subj;
+		buffer[offset + 1] = pred;
+		buffer[offset + 2] = obj;
+		buffer[offset + 3] = context;
+
+		int mask = bufferTable.length - 1;
+		int i = hash(subj, pred, obj, context) & mask;
+		while (bufferTable[i] != 0) {
+			i = (i + 1) & mask;
+		}
+		bufferTable[i] = entry + 1;
+		size++;
+		modCount++;
+	}
+
+	private void removeBuffered(int entry) {
+		int offset = entry * 4;
+		int slot = findBufferSlot(buffer[offset], buffer[offset + 1], buffer[offset + 2], buffer[offset + 3]);
+		bufferTable[slot] = -1;
+		buffer[offset] = REMOVED;
+		size--;
+		modCount++;
+	}
+
+	/**
+	 * Moves the buffered tuples into a new run and merges the newest runs while they are of similar size.
+	 */
+	private void spill() {
+		int[] quads = sortedBuffer();
+		bufferEntries = 0;
+		Arrays.fill(bufferTable, 0);
+		modCount++;
+		if (quads.length == 0) {
+			return;
+		}
+
+		Run run = newRun(quads.length / 4);
+		run.quads.put(0, quads);
+		addRun(runs, run);
+	}
+
+	private Run sortedRun(int[] quads, int entries) {
+		sort(quads, 0, entries);
+		Run run = newRun(entries);
+		run.quads.put(0, quads, 0, entries * 4);
+		return run;
+	}
+
+	/**
+	 * Adds a run and merges the newest runs while they are of similar size.
+	 */
+	private void addRun(List<Run> runs, Run run) {
+		runs.add(run);
+		while (runs.size() > 1) {
+			Run last = runs.get(runs.size() - 1);
+			Run previous = runs.get(runs.size() - 2);
+			if (last.live() * 2L < previous.live()) {
+				break;
+			}
+			runs.remove(runs.size() - 1);
+			runs.set(runs.size() - 1, merge(previous, last));
+		}
+	}
+
+	private int[] sortedBuffer() {
+		int live = 0;
+		int[] quads = new int[bufferEntries * 4];
+		for (int entry = 0; entry < bufferEntries; entry++) {
+			int offset = entry * 4;
+			if (buffer[offset] != REMOVED) {
+				System.arraycopy(buffer, offset, quads, live * 4, 4);
+				live++;
+			}
+		}
+		quads = Arrays.copyOf(quads, live * 4);
+		sort(quads, 0, live);
+		return quads;
+	}
+
+	private Run merge(Run first, Run second) {
+		Run merged = newRun(first.live() + second.live());
+		int i = first.nextLive(0);
+		int j = second.nextLive(0);
+		int out = 0;
+		while (i < first.count || j < second.count) {
+			Run from;
+			int index;
+			if (j >= second.count || i < first.count && compare(first, i, second, j) < 0) {
+				from = first;
+				index = i;
+				i = first.nextLive(i + 1);
+			} else {
+				from = second;
+				index = j;
+				j = second.nextLive(j + 1);
+			}
+			for (int k = 0; k < 4; k++) {
+				merged.quads.put(out++, from.quads.get(index * 4 + k));
+			}
+		}
+		release(first);
+		release(second);
+		return merged;
+	}
+
+	private Run newRun(int count) {
+		long bytes = count * 16L;
+		if (bytes > Integer.MAX_VALUE) {
+			throw new ModelException("Transaction too large: " + count + " statements in one run");
+		}
+		ByteBuffer bytesBuffer;
+		boolean direct = directMemory + bytes <= maxDirectMemory;
+		if (direct) {
+			bytesBuffer = ByteBuffer.allocateDirect((int) bytes);
+			directMemory += bytes;
+		} else {
+			bytesBuffer = mapTemporaryFile((int) bytes);
+		}
+		return new Run(bytesBuffer.order(ByteOrder.nativeOrder()).asIntBuffer(), count, direct);
+	}
+
+	private void release(Run run) {
+		if (run.direct) {
+			directMemory -= run.count * 16L;
+		}
+	}
+
+	private static ByteBuffer mapTemporaryFile(int bytes) {
+		try {
+			Path file = Files.createTempFile("rdf4j-changeset", ".run");
+			try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+				return channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+			} finally {
+				// the mapping stays valid after the file is deleted, except on platforms that refuse to delete it
+				if (!file.toFile().delete()) {
+					file.toFile().deleteOnExit();
+				}
+			}
+		} catch (IOException e) {
+			throw new ModelException(e);
+		}
+	}
+
+	/**
+	 * Iterates over the tuples that match the pattern, first in the runs and then in the buffer.
+	 */
+	private Iterator<Statement> match(Resource subj, IRI pred, Value obj, Resource... contexts) {
+		// the leading bound terms are searched for in the runs, the others are checked per tuple
+		Value[] terms = { subj, pred, obj };
+		int[] bound = new int[3];
+		int prefix = 0;
+		for (int i = 0; i < 3; i++) {
+			if (terms[i] != null) {
+				bound[i] = lookupValue(terms[i]);
+				if (bound[i] <= 0) {
+					return Collections.emptyIterator();
+				}
+				if (prefix == i) {
+					prefix++;
+				}
+			}
+		}
+
+		int[] contextIDs = null;
+		if (contexts == null) {
+			contextIDs = new int[] { 0 };
+		} else if (contexts.length > 0) {
+			contextIDs = new int[contexts.length];
+			int known = 0;
+			for (Resource context : contexts) {
+				int id = lookupValue(context);
+				if (id >= 0) {
+					contextIDs[known++] = id;
+				}
+			}
+			if (known == 0) {
+				return Collections.emptyIterator();
+			}
+			contextIDs = Arrays.copyOf(contextIDs, known);
+		}
+		return new QuadIterator(bound, prefix, contextIDs);
+	}
+
+	private final class QuadIterator implements Iterator<Statement> {
+
+		private final int[] bound;
+
+		private final int prefix;
+
+		private final int[] contextIDs;
+
+		private int expectedModCount = modCount;
+
+		/**
+		 * Index of the current run, {@link #runs}.size() for the buffer.
+		 */
+		private int source = -1;
+
+		private int position;
+
+		private int end;
+
+		private Statement next;
+
+		private int nextSource;
+
+		private int nextPosition;
+
+		private int lastSource = -1;
+
+		private int lastPosition;
+
+		QuadIterator(int[] bound, int prefix, int[] contextIDs) {
+			this.bound = bound;
+			this.prefix = prefix;
+			this.contextIDs = contextIDs;
+			advanceSource();
+		}
+
+		private void advanceSource() {
+			source++;
+			if (source < runs.size()) {
+				Run run = runs.get(source);
+				position = run.lowerBound(bound, prefix);
+				end = run.upperBound(bound, prefix);
+			} else {
+				position = 0;
+				end = bufferEntries;
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (next != null) {
+				return true;
+			}
+			if (source > runs.size()) {
+				return false;
+			}
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			while (source <= runs.size()) {
+				while (position < end) {
+					int index = position++;
+					IntBuffer quads;
+					int offset = index * 4;
+					if (source < runs.size()) {
+						Run run = runs.get(source);
+						if (run.isRemoved(index)) {
+							continue;
+						}
+						quads = run.quads;
+					} else {
+						if (buffer[offset] == REMOVED) {
+							continue;
+						}
+						quads = bufferView;
+					}
+					if (matches(quads, offset)) {
+						nextSource = source;
+						nextPosition = index;
+						next = createStatement(quads.get(offset), quads.get(offset + 1), quads.get(offset + 2),
+								quads.get(offset + 3));
+						return true;
+					}
+				}
+				advanceSource();
+			}
+			return false;
+		}
+
+		private boolean matches(IntBuffer quads, int offset) {
+			for (int i = 0; i < 3; i++) {
+				if (bound[i] != 0 && quads.get(offset + i) != bound[i]) {
+					return false;
+				}
+			}
+			if (contextIDs == null) {
+				return true;
+			}
+			int context = quads.get(offset + 3);
+			for (int contextID : contextIDs) {
+				if (contextID == context) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public Statement next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			Statement result = next;
+			next = null;
+			lastSource = nextSource;
+			lastPosition = nextPosition;
+			return result;
+		}
+
+		@Override
+		public void remove() {
+			if (lastSource < 0) {
+				throw new IllegalStateException();
+			}
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (lastSource < runs.size()) {
+				runs.get(lastSource).remove(lastPosition);
+				size--;
+				modCount++;
+			} else {
+				removeBuffered(lastPosition);
+			}
+			expectedModCount = modCount;
+			lastSource = -1;
+		}
+	}
+
+	private Statement createStatement(int subj, int pred, int obj, int context) {
+		if (context == 0) {
+			return VF.createStatement((Resource) values[subj], (IRI) values[pred], values[obj]);
+		}
+		return VF.createStatement((Resource) values[subj], (IRI) values[pred], values[obj],
+				(Resource) values[context]);
+	}
+
+	/**
+	 * A sorted array of tuples, with a bit set of removed tuples.
+	 */
+	private static final class Run {
+
+		final IntBuffer quads;
+
+		final int count;
+
+		final boolean direct;
+
+		private long[] removed;
+
+		private int removedCount;
+
+		Run(IntBuffer quads, int count, boolean direct) {
+			this.quads = quads;
+			this.count = count;
+			this.direct = direct;
+		}
+
+		int live() {
+			return count - removedCount;
+		}
+
+		boolean isRemoved(int index) {
+			return removed != null && (removed[index >>> 6] & (1L << index)) != 0;
+		}
+
+		void remove(int index) {
+			if (removed == null) {
+				removed = new long[(count + 63) >>> 6];
+			}
+			removed[index >>> 6] |= 1L << index;
+			removedCount++;
+		}
+
+		int nextLive(int index) {
+			while (index < count && isRemoved(index)) {
+				index++;
+			}
+			return index;
+		}
+
+		int find(int subj, int pred, int obj, int context) {
+			int low = 0;
+			int high = count - 1;
+			while (low <= high) {
+				int mid = (low + high) >>> 1;
+				int offset = mid * 4;
+				int cmp = Integer.compare(quads.get(offset), subj);
+				if (cmp == 0) {
+					cmp = Integer.compare(quads.get(offset + 1), pred);
+				}
+				if (cmp == 0) {
+					cmp = Integer.compare(quads.get(offset + 2), obj);
+				}
+				if (cmp == 0) {
+					cmp = Integer.compare(quads.get(offset + 3), context);
+				}
+				if (cmp < 0) {
+					low = mid + 1;
+				} else if (cmp > 0) {
+					high = mid - 1;
+				} else {
+					return mid;
+				}
+			}
+			return -1;
+		}
+
+		/**
+		 * @return the first index whose first prefix IDs are not less than the key.
+		 */
+		int lowerBound(int[] key, int prefix) {
+			return search(key, prefix, false);
+		}
+
+		/**
+		 * @return the first index whose first prefix IDs are greater than the key.
+		 */
+		int upperBound(int[] key, int prefix) {
+			return prefix == 0 ? count : search(key, prefix, true);
+		}
+
+		private int search(int[] key, int prefix, boolean upper) {
+			int low = 0;
+			int high = count;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				int cmp = 0;
+				for (int i = 0; i < prefix && cmp == 0; i++) {
+					cmp = Integer.compare(quads.get(mid * 4 + i), key[i]);
+				}
+				if (cmp < 0 || upper && cmp == 0) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+	}
+
+	private static int compare(Run first, int i, Run second, int j) {
+		for (int k = 0; k < 4; k++) {
+			int cmp = Integer.compare(first.quads.get(i * 4 + k), second.quads.get(j * 4 + k));
+			if (cmp != 0) {
+				return cmp;
+			}
+		}
+		return 0;
+	}
+
+	private static int compare(int[] quads, int i, int j) {
+		for (int k = 0; k < 4; k++) {
+			int cmp = Integer.compare(quads[i * 4 + k], quads[j * 4 + k]);
+			if (cmp != 0) {
+				return cmp;
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * Sorts the tuples from index from (inclusive) to index to (exclusive).
+	 */
+	private static void sort(int[] quads, int from, int to) {
+		while (to - from > 16) {
+			int pivot = medianOfThree(quads, from, (from + to) >>> 1, to - 1);
+			swap(quads, pivot, to - 1);
+			int store = from;
+			for (int i = from; i < to - 1; i++) {
+				if (compare(quads, i, to - 1) < 0) {
+					swap(quads, i, store++);
+				}
+			}
+			swap(quads, store, to - 1);
+			// recurse into the smaller part to bound the stack depth
+			if (store - from < to - store - 1) {
+				sort(quads, from, store);
+				from = store + 1;
+			} else {
+				sort(quads, store + 1, to);
+				to = store;
+			}
+		}
+		for (int i = from + 1; i < to; i++) {
+			for (int j = i; j > from && compare(quads, j - 1, j) > 0; j--) {
+				swap(quads, j - 1, j);
+			}
+		}
+	}
+
+	private static int medianOfThree(int[] quads, int a, int b, int c) {
+		if (compare(quads, a, b) < 0) {
+			return compare(quads, b, c) < 0 ? b : compare(quads, a, c) < 0 ? c : a;
+		}
+		return compare(quads, a, c) < 0 ? a : compare(quads, b, c) < 0 ? c : b;
+	}
+
+	private static void swap(int[] quads, int i, int j) {
+		for (int k = 0; k < 4; k++) {
+			int tmp = quads[i * 4 + k];
+			quads[i * 4 + k] = quads[j * 4 + k];
+			quads[j * 4 + k] = tmp;
+		}
+	}
+
+	private static int hash(int subj, int pred, int obj, int context) {
+		int hash = subj;
+		hash = 31 * hash + pred;
+		hash = 31 * hash + obj;
+		hash = 31 * hash + context;
+		return mix(hash);
+	}
+
+	private static int mix(int hash) {
+		hash *= 0x9E3779B9;
+		return hash ^ (hash >>> 16);
+	}
+}
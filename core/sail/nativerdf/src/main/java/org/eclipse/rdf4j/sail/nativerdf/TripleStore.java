@@ -80,6 +80,11 @@ class TripleStore implements Closeable {
 	 */
 	private static final String INDEXES_KEY = "triple-indexes";
 
+	/**
+	 * The key used to store whether the indexes may contain tombstones in the properties file.
+	 */
+	private static final String TOMBSTONES_KEY = "tombstones";
+
 	/**
 	 * System property that enables the experimental {@link MemoryMappedTxnStatusFile} implementation instead of the
 	 * default {@link TxnStatusFile}.
@@ -136,6 +141,13 @@ class TripleStore implements Closeable {
 	 */
 	static final byte TOGGLE_EXPLICIT_FLAG = (byte) 0x8; // 0000 1000
 
+	/**
+	 * Bit field indicating that a statement has been removed by a committed transaction, but is kept as a tombstone for
+	 * readers of an earlier version, see {@link TripleVersions}. A tombstone that is added again in a (currently
+	 * active) transaction also has the {@link #ADDED_FLAG} set.
+	 */
+	static final byte DELETED_FLAG = (byte) 0x10; // 0001 0000
+
 	/*-----------*
 	 * Variables *
 	 *-----------*/
@@ -163,6 +175,11 @@ class TripleStore implements Closeable {
 
 	private volatile SortedRecordCache updatedTriplesCache;
 
+	/**
+	 * Non-null if readers can be pinned to a version of this store.
+	 */
+	private volatile TripleVersions versions;
+
 	/*--------------*
 	 * Constructors *
 	 *--------------*/
@@ -208,6 +225,13 @@ class TripleStore implements Closeable {
 				processUncompletedTransaction(txnStatus);
 			}
 
+			if (Boolean.parseBoolean(properties.getProperty(TOMBSTONES_KEY))) {
+				// tombstones of versions that were pinned when the store was closed
+				removeTombstones();
+				properties.remove(TOMBSTONES_KEY);
+				storeProperties(propFile);
+			}
+
 			// Compare the existing indexes with the requested indexes
 			Set<String> reqIndexSpecs = parseIndexSpecList(indexSpecStr);
 
@@ -526,16 +550,16 @@ class TripleStore implements Closeable {
 
 	public RecordIterator getTriples(int subj, int pred, int obj, int context) {
 		// Return all triples except those that were added but not yet committed
-		return getTriples(subj, pred, obj, context, 0, ADDED_FLAG);
+		return getTriples(subj, pred, obj, context, 0, ADDED_FLAG | DELETED_FLAG);
 	}
 
 	public RecordIterator getTriples(int subj, int pred, int obj, int context, boolean readTransaction) {
 		if (readTransaction) {
 			// Don't read removed statements
-			return getTriples(subj, pred, obj, context, 0, TripleStore.REMOVED_FLAG);
+			return skipTombstones(getTriples(subj, pred, obj, context, 0, TripleStore.REMOVED_FLAG));
 		} else {
 			// Don't read added statements
-			return getTriples(subj, pred, obj, context, 0, TripleStore.ADDED_FLAG);
+			return getTriples(subj, pred, obj, context, 0, TripleStore.ADDED_FLAG | TripleStore.DELETED_FLAG);
 		}
 	}
 
@@ -548,10 +572,11 @@ class TripleStore implements Closeable {
 	public RecordIterator getAllTriplesSortedByContext(boolean readTransaction) {
 		if (readTransaction) {
 			// Don't read removed statements
-			return getAllTriplesSortedByContext(0, TripleStore.REMOVED_FLAG);
+			RecordIterator iter = getAllTriplesSortedByContext(0, TripleStore.REMOVED_FLAG);
+			return iter == null ? null : skipTombstones(iter);
 		} else {
 			// Don't read added statements
-			return getAllTriplesSortedByContext(0, TripleStore.ADDED_FLAG);
+			return getAllTriplesSortedByContext(0, TripleStore.ADDED_FLAG | TripleStore.DELETED_FLAG);
 		}
 	}
 
@@ -564,7 +589,7 @@ class TripleStore implements Closeable {
 			flagsMask |= TripleStore.REMOVED_FLAG;
 			// 'explicit' is handled through an ExplicitStatementFilter
 		} else {
-			flagsMask |= TripleStore.ADDED_FLAG;
+			flagsMask |= TripleStore.ADDED_FLAG | TripleStore.DELETED_FLAG;
 
 			if (explicit) {
 				flags |= TripleStore.EXPLICIT_FLAG;
@@ -573,6 +598,9 @@ class TripleStore implements Closeable {
 		}
 
 		RecordIterator btreeIter = getTriples(subj, pred, obj, context, flags, flagsMask);
+		if (readTransaction) {
+			btreeIter = skipTombstones(btreeIter);
+		}
 
 		if (readTransaction && explicit) {
 			// Filter implicit statements from the result
@@ -585,10 +613,229 @@ class TripleStore implements Closeable {
 		return btreeIter;
 	}
 
+	/**
+	 * Gets the triples that match a pattern at a version that was pinned by {@link #pinVersion()}.
+	 *
+	 * @param subj     The subject for the pattern, or <var>-1</var> for a wildcard.
+	 * @param pred     The predicate for the pattern, or <var>-1</var> for a wildcard.
+	 * @param obj      The object for the pattern, or <var>-1</var> for a wildcard.
+	 * @param context  The context for the pattern, or <var>-1</var> for a wildcard.
+	 * @param explicit Flag indicating whether explicit or inferred statements should be returned.
+	 * @param version  The pinned version.
+	 */
+	public RecordIterator getTriples(int subj, int pred, int obj, int context, boolean explicit, long version) {
+		// Tombstones and uncommitted statements can be part of the version
+		return new VersionFilter(getTriples(subj, pred, obj, context, 0, 0), versions, explicit, version);
+	}
+
 	public void disableTxnStatus() {
 		txnStatusFile.disable();
 	}
 
+	/**
+	 * Keeps the states of the triples that are changed by commits while a reader has pinned a version, so that readers
+	 * can read the triples of a version while later transactions are committed.
+	 */
+	void enableVersions() {
+		if (versions == null) {
+			versions = new TripleVersions();
+		}
+	}
+
+	boolean isVersioned() {
+		return versions != null;
+	}
+
+	/**
+	 * Pins the last committed version, see {@link #getTriples(int, int, int, int, boolean, long)}.
+	 *
+	 * @return The pinned version.
+	 */
+	long pinVersion() {
+		return versions.pin();
+	}
+
+	/**
+	 * Pins a version that is already pinned once more.
+	 *
+	 * @param version A version pinned by {@link #pinVersion()}.
+	 */
+	void pinVersion(long version) {
+		versions.pin(version);
+	}
+
+	/**
+	 * Releases a version that was pinned by {@link #pinVersion()}.
+	 *
+	 * @return true if the oldest pinned version was released, so that {@link #collectVersions()} can free up space.
+	 */
+	boolean unpinVersion(long version) {
+		return versions.unpin(version);
+	}
+
+	/**
+	 * @return true if the last committed version is still the same as the given version.
+	 */
+	boolean isLatestVersion(long version) {
+		return versions.getVersion() == version;
+	}
+
+	/**
+	 * Drops the states of the triples that are no longer needed by any pinned version and removes their tombstones. Must
+	 * not be called at the same time as the methods that modify triples.
+	 */
+	void collectVersions() throws IOException {
+		TripleVersions versions = this.versions;
+		if (versions == null || versions.isEmpty()) {
+			return;
+		}
+		boolean[] removed = new boolean[1];
+		versions.collect((subj, pred, obj, context) -> {
+			byte[] data = getData(subj, pred, obj, context, 0);
+			byte[] storedData = indexes.get(0).getBTree().get(data);
+			if (storedData != null && isTombstone(storedData[FLAG_IDX])) {
+				for (TripleIndex index : indexes) {
+					index.getBTree().remove(storedData);
+				}
+				removed[0] = true;
+			}
+		});
+		if (versions.isEmpty() && Boolean.parseBoolean(properties.getProperty(TOMBSTONES_KEY))) {
+			// all tombstones have been removed
+			sync();
+			properties.remove(TOMBSTONES_KEY);
+			storeProperties(new File(dir, PROPERTIES_FILE));
+		} else if (removed[0] && forceSync) {
+			sync();
+		}
+	}
+
+	private static boolean isTombstone(byte flags) {
+		return (flags & (DELETED_FLAG | ADDED_FLAG)) == DELETED_FLAG;
+	}
+
+	private RecordIterator skipTombstones(RecordIterator iter) {
+		return versions == null ? iter : new TombstoneFilter(iter);
+	}
+
+	private void removeTombstones() throws IOException {
+		for (TripleIndex index : indexes) {
+			BTree btree = index.getBTree();
+			RecordCache tombstones = new SequentialRecordCache(dir, RECORD_LENGTH);
+			try {
+				try (RecordIterator iter = btree.iterateValues(getSearchKey(-1, -1, -1, -1, DELETED_FLAG),
+						getSearchMask(-1, -1, -1, -1, DELETED_FLAG | ADDED_FLAG))) {
+					byte[] data;
+					while ((data = iter.next()) != null) {
+						tombstones.storeRecord(data);
+					}
+				}
+				try (RecordIterator iter = tombstones.getRecords()) {
+					byte[] data;
+					while ((data = iter.next()) != null) {
+						btree.remove(data);
+					}
+				}
+			} finally {
+				tombstones.discard();
+			}
+		}
+		sync();
+	}
+
+	/*---------------------------*
+	 * Inner class VersionFilter *
+	 *---------------------------*/
+
+	/**
+	 * Returns the records of the triples that were present at a pinned version.
+	 */
+	private static class VersionFilter implements RecordIterator {
+
+		private final RecordIterator wrappedIter;
+
+		private final TripleVersions versions;
+
+		private final boolean explicit;
+
+		private final long version;
+
+		public VersionFilter(RecordIterator wrappedIter, TripleVersions versions, boolean explicit, long version) {
+			this.wrappedIter = wrappedIter;
+			this.versions = versions;
+			this.explicit = explicit;
+			this.version = version;
+		}
+
+		@Override
+		public byte[] next() throws IOException {
+			byte[] result;
+
+			while ((result = wrappedIter.next()) != null) {
+				int state = versions.getState(result, version);
+				boolean present;
+				boolean wasExplicit;
+				if (state == TripleVersions.UNCHANGED) {
+					// the committed state, ignoring any changes of an active transaction
+					byte flags = result[TripleStore.FLAG_IDX];
+					present = (flags & (TripleStore.ADDED_FLAG | TripleStore.DELETED_FLAG)) == 0;
+					wasExplicit = (flags & TripleStore.EXPLICIT_FLAG) != 0;
+				} else {
+					present = (state & TripleVersions.PRESENT) != 0;
+					wasExplicit = (state & TripleVersions.EXPLICIT) != 0;
+				}
+
+				if (present && wasExplicit == explicit) {
+					break;
+				}
+			}
+
+			return result;
+		}
+
+		@Override
+		public void set(byte[] value) throws IOException {
+			wrappedIter.set(value);
+		}
+
+		@Override
+		public void close() throws IOException {
+			wrappedIter.close();
+		}
+	} // end inner class VersionFilter
+
+	private static class TombstoneFilter implements RecordIterator {
+
+		private final RecordIterator wrappedIter;
+
+		public TombstoneFilter(RecordIterator wrappedIter) {
+			this.wrappedIter = wrappedIter;
+		}
+
+		@Override
+		public byte[] next() throws IOException {
+			byte[] result;
+
+			while ((result = wrappedIter.next()) != null) {
+				if (!isTombstone(result[TripleStore.FLAG_IDX])) {
+					break;
+				}
+			}
+
+			return result;
+		}
+
+		@Override
+		public void set(byte[] value) throws IOException {
+			wrappedIter.set(value);
+		}
+
+		@Override
+		public void close() throws IOException {
+			wrappedIter.close();
+		}
+	} // end inner class TombstoneFilter
+
 	/*-------------------------------------*
 	 * Inner class ExplicitStatementFilter *
 	 *-------------------------------------*/
@@ -749,12 +996,16 @@ class TripleStore implements Closeable {
 		byte[] data = getData(subj, pred, obj, context, 0);
 		byte[] storedData = indexes.get(0).getBTree().get(data);
 
-		if (storedData == null) {
+		if (storedData == null || isTombstone(storedData[FLAG_IDX])) {
 			// Statement does not yet exist
 			data[FLAG_IDX] |= ADDED_FLAG;
 			if (explicit) {
 				data[FLAG_IDX] |= EXPLICIT_FLAG;
 			}
+			if (storedData != null) {
+				// keep the tombstone in case the transaction is rolled back
+				data[FLAG_IDX] |= DELETED_FLAG;
+			}
 
 			stAdded = true;
 		} else {
@@ -769,7 +1020,7 @@ class TripleStore implements Closeable {
 			if (wasAdded) {
 				// Statement has been added in the current transaction and is
 				// invisible to other connections, we can simply modify its flags
-				data[FLAG_IDX] |= ADDED_FLAG;
+				data[FLAG_IDX] |= ADDED_FLAG | (flags & DELETED_FLAG);
 				if (explicit || wasExplicit) {
 					data[FLAG_IDX] |= EXPLICIT_FLAG;
 				}
@@ -840,7 +1091,7 @@ class TripleStore implements Closeable {
 	 * @since 2.5.3
 	 */
 	public Map<Integer, Long> removeTriplesByContext(int subj, int pred, int obj, int context) throws IOException {
-		RecordIterator iter = getTriples(subj, pred, obj, context, 0, 0);
+		RecordIterator iter = skipTombstones(getTriples(subj, pred, obj, context, 0, 0));
 		return removeTriples(iter);
 	}
 
@@ -878,7 +1129,7 @@ class TripleStore implements Closeable {
 	public Map<Integer, Long> removeTriplesByContext(int subj, int pred, int obj, int context, boolean explicit)
 			throws IOException {
 		byte flags = explicit ? EXPLICIT_FLAG : 0;
-		try (RecordIterator iter = getTriples(subj, pred, obj, context, flags, EXPLICIT_FLAG)) {
+		try (RecordIterator iter = skipTombstones(getTriples(subj, pred, obj, context, flags, EXPLICIT_FLAG))) {
 			return removeTriples(iter);
 		}
 	}
@@ -973,6 +1224,72 @@ class TripleStore implements Closeable {
 		// updatedTriplesCache will be null when recovering from a crashed commit
 		boolean validCache = updatedTriplesCache != null && updatedTriplesCache.isValid();
 
+		TripleVersions versions = this.versions;
+		boolean recordVersions = versions != null && versions.beginCommit();
+		try {
+			if (recordVersions) {
+				recordVersions(versions, validCache);
+			}
+			commitIndexes(validCache, recordVersions ? versions : null);
+		} finally {
+			if (versions != null) {
+				versions.endCommit();
+			}
+		}
+
+		if (updatedTriplesCache != null) {
+			updatedTriplesCache.clear();
+		}
+
+		sync();
+
+		txnStatusFile.setTxnStatus(TxnStatus.NONE, forceSync);
+		// checkAllCommitted();
+	}
+
+	/**
+	 * Records the states that the triples of the transaction had before it is committed, before any index is updated.
+	 */
+	private void recordVersions(TripleVersions versions, boolean validCache) throws IOException {
+		if (!Boolean.parseBoolean(properties.getProperty(TOMBSTONES_KEY))) {
+			properties.setProperty(TOMBSTONES_KEY, "true");
+			storeProperties(new File(dir, PROPERTIES_FILE));
+		}
+
+		long commitVersion = versions.getVersion() + 1;
+		BTree btree = indexes.get(0).getBTree();
+		RecordIterator iter = validCache ? updatedTriplesCache.getRecords() : btree.iterateAll();
+		try (iter) {
+			byte[] data;
+			while ((data = iter.next()) != null) {
+				byte[] storedData = validCache ? btree.get(data) : data;
+				if (storedData == null) {
+					continue;
+				}
+				byte flags = storedData[FLAG_IDX];
+				boolean wasAdded = (flags & ADDED_FLAG) != 0;
+				boolean wasRemoved = (flags & REMOVED_FLAG) != 0;
+				boolean wasToggled = (flags & TOGGLE_EXPLICIT_FLAG) != 0;
+				if (!wasAdded && (wasRemoved || wasToggled)) {
+					// the triple was present before the commit
+					byte state = TripleVersions.PRESENT;
+					if ((flags & EXPLICIT_FLAG) != 0) {
+						state |= TripleVersions.EXPLICIT;
+					}
+					versions.record(data, commitVersion, state);
+				} else if (wasAdded && !wasRemoved) {
+					versions.record(data, commitVersion, (byte) 0);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Applies the changes of the transaction to each index.
+	 *
+	 * @param versions Non-null if removed triples must be kept as tombstones.
+	 */
+	private void commitIndexes(boolean validCache, TripleVersions versions) throws IOException {
 		for (TripleIndex index : indexes) {
 			BTree btree = index.getBTree();
 
@@ -993,14 +1310,22 @@ class TripleStore implements Closeable {
 					boolean wasRemoved = (flags & REMOVED_FLAG) != 0;
 					boolean wasToggled = (flags & TOGGLE_EXPLICIT_FLAG) != 0;
 
-					if (wasRemoved) {
+					if (wasRemoved && versions != null && (!wasAdded || versions.hasEntries(data))) {
+						// keep a tombstone for the readers of earlier versions
+						data[FLAG_IDX] = DELETED_FLAG;
+						if (validCache) {
+							btree.insert(data);
+						} else {
+							iter.set(data);
+						}
+					} else if (wasRemoved) {
 						btree.remove(data);
 					} else if (wasAdded || wasToggled) {
 						if (wasToggled) {
 							data[FLAG_IDX] ^= EXPLICIT_FLAG;
 						}
 						if (wasAdded) {
-							data[FLAG_IDX] ^= ADDED_FLAG;
+							data[FLAG_IDX] &= ~(ADDED_FLAG | DELETED_FLAG);
 						}
 
 						if (validCache) {
@@ -1016,15 +1341,6 @@ class TripleStore implements Closeable {
 				iter.close();
 			}
 		}
-
-		if (updatedTriplesCache != null) {
-			updatedTriplesCache.clear();
-		}
-
-		sync();
-
-		txnStatusFile.setTxnStatus(TxnStatus.NONE, forceSync);
-		// checkAllCommitted();
 	}
 
 	private void checkAllCommitted() throws IOException {
@@ -1073,7 +1389,15 @@ class TripleStore implements Closeable {
 					boolean wasRemoved = (flags & REMOVED_FLAG) != 0;
 					boolean wasToggled = (flags & TOGGLE_EXPLICIT_FLAG) != 0;
 
-					if (wasAdded) {
+					if (wasAdded && (flags & DELETED_FLAG) != 0 && versions != null && versions.hasEntries(data)) {
+						// restore the tombstone
+						data[FLAG_IDX] = DELETED_FLAG;
+						if (validCache) {
+							btree.insert(data);
+						} else {
+							iter.set(data);
+						}
+					} else if (wasAdded) {
 						btree.remove(data);
 					} else {
 						if (wasRemoved || wasToggled) {
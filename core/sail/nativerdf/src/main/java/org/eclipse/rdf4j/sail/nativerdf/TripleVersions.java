@@ -0,0 +1,398 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.nativerdf;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.eclipse.rdf4j.common.io.ByteArrayUtil;
+
+/**
+ * Version chains of the triples of a {@link TripleStore}. Every commit creates a new version of the store. Readers pin
+ * the version that was committed last when they start, and keep reading that version while later commits write into the
+ * same indexes. For this, every commit that happens while a version is pinned records the state that each changed
+ * triple had before the commit, and removed triples are kept in the indexes as tombstones. The state of a triple at a
+ * pinned version is the state before the first commit after that version that changed it, or its current state if no
+ * later commit changed it.
+ * <p>
+ * Entries that are not needed by any pinned version any more are dropped by {@link #collect(TripleConsumer)}, which
+ * reports the triples whose tombstones can be removed. Commits that happen while no version is pinned record nothing,
+ * readers that try to pin a version during such a commit wait until it is done.
+ */
+class TripleVersions {
+
+	/**
+	 * State bit indicating that a triple was present.
+	 */
+	static final byte PRESENT = 0x1;
+
+	/**
+	 * State bit indicating that a present triple was explicit.
+	 */
+	static final byte EXPLICIT = 0x2;
+
+	/**
+	 * State returned by {@link #getState(byte[], long)} if the triple has not been changed after the version.
+	 */
+	static final int UNCHANGED = -1;
+
+	private static final int INITIAL_CAPACITY = 1024;
+
+	/**
+	 * Pinned versions and the number of readers that pinned them, guarded by <var>this</var>.
+	 */
+	private final TreeMap<Long, Integer> pins = new TreeMap<>();
+
+	/**
+	 * The last committed version, guarded by <var>this</var>.
+	 */
+	private long version;
+
+	/**
+	 * True while a commit that does not record the states of the triples it changes is in progress, guarded by
+	 * <var>this</var>.
+	 */
+	private boolean unrecordedCommit;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	/**
+	 * Subject, predicate, object and context of each entry, guarded by {@link #lock}.
+	 */
+	private int[] triples = new int[INITIAL_CAPACITY * 4];
+
+	/**
+	 * The version of the commit that changed the triple of each entry.
+	 */
+	private long[] versions = new long[INITIAL_CAPACITY];
+
+	/**
+	 * The state of the triple of each entry before the commit.
+	 */
+	private byte[] states = new byte[INITIAL_CAPACITY];
+
+	/**
+	 * The index + 1 of the next entry in the same bucket, or 0.
+	 */
+	private int[] bucketNext = new int[INITIAL_CAPACITY];
+
+	/**
+	 * The index + 1 of the last added entry of each bucket, or 0.
+	 */
+	private int[] buckets = new int[INITIAL_CAPACITY];
+
+	private volatile int size;
+
+	/**
+	 * @return The last committed version.
+	 */
+	synchronized long getVersion() {
+		return version;
+	}
+
+	/**
+	 * Pins the last committed version, so that the states of the triples at that version are kept until it is
+	 * {@link #unpin(long) unpinned}.
+	 *
+	 * @return The pinned version.
+	 */
+	synchronized long pin() {
+		boolean interrupted = false;
+		try {
+			while (unrecordedCommit) {
+				try {
+					wait();
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+		} finally {
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		pins.merge(version, 1, Integer::sum);
+		return version;
+	}
+
+	/**
+	 * Pins a version that is already pinned once more, so that it stays pinned until it is unpinned as often as it was
+	 * pinned.
+	 *
+	 * @param pinned A version that was pinned by {@link #pin()} and is not yet unpinned.
+	 */
+	synchronized void pin(long pinned) {
+		if (pins.computeIfPresent(pinned, (v, count) -> count + 1) == null) {
+			throw new IllegalStateException("Version " + pinned + " is not pinned");
+		}
+	}
+
+	/**
+	 * Releases a version that was pinned by {@link #pin()}.
+	 *
+	 * @return true if the oldest pinned version was released, so that entries may be {@link #collect(TripleConsumer)
+	 *         collected}.
+	 */
+	synchronized boolean unpin(long pinned) {
+		Integer count = pins.get(pinned);
+		if (count == null) {
+			throw new IllegalStateException("Version " + pinned + " is not pinned");
+		}
+		boolean oldest = pins.firstKey() == pinned;
+		if (count == 1) {
+			pins.remove(pinned);
+			return oldest;
+		}
+		pins.put(pinned, count - 1);
+		return false;
+	}
+
+	/**
+	 * Starts a commit, which creates version {@link #getVersion()} + 1.
+	 *
+	 * @return true if the commit must {@link #record(byte[], long, byte) record} the states of the triples it changes
+	 *         and keep tombstones, false if no version is pinned.
+	 */
+	synchronized boolean beginCommit() {
+		if (pins.isEmpty()) {
+			unrecordedCommit = true;
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Ends a commit that was started by {@link #beginCommit()}.
+	 */
+	synchronized void endCommit() {
+		version++;
+		unrecordedCommit = false;
+		notifyAll();
+	}
+
+	/**
+	 * Records the state that a triple had before the commit that creates the given version.
+	 *
+	 * @param record The triple record, as stored in the indexes.
+	 * @param commit The version that is created by the commit.
+	 * @param state  The state of the triple before the commit, see {@link #PRESENT} and {@link #EXPLICIT}.
+	 */
+	void record(byte[] record, long commit, byte state) {
+		int subj = ByteArrayUtil.getInt(record, TripleStore.SUBJ_IDX);
+		int pred = ByteArrayUtil.getInt(record, TripleStore.PRED_IDX);
+		int obj = ByteArrayUtil.getInt(record, TripleStore.OBJ_IDX);
+		int context = ByteArrayUtil.getInt(record, TripleStore.CONTEXT_IDX);
+
+		lock.writeLock().lock();
+		try {
+			int entry = size;
+			if (entry == versions.length) {
+				grow();
+			}
+			triples[entry * 4] = subj;
+			triples[entry * 4 + 1] = pred;
+			triples[entry * 4 + 2] = obj;
+			triples[entry * 4 + 3] = context;
+			versions[entry] = commit;
+			states[entry] = state;
+			int bucket = bucket(subj, pred, obj, context, buckets.length);
+			bucketNext[entry] = buckets[bucket];
+			buckets[bucket] = entry + 1;
+			size = entry + 1;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Gets the state of a triple at a pinned version.
+	 *
+	 * @return The state of the triple at the version, see {@link #PRESENT} and {@link #EXPLICIT}, or
+	 *         {@link #UNCHANGED} if its current state is also its state at that version.
+	 */
+	int getState(byte[] record, long pinned) {
+		if (size == 0) {
+			return UNCHANGED;
+		}
+		int subj = ByteArrayUtil.getInt(record, TripleStore.SUBJ_IDX);
+		int pred = ByteArrayUtil.getInt(record, TripleStore.PRED_IDX);
+		int obj = ByteArrayUtil.getInt(record, TripleStore.OBJ_IDX);
+		int context = ByteArrayUtil.getInt(record, TripleStore.CONTEXT_IDX);
+
+		lock.readLock().lock();
+		try {
+			int state = UNCHANGED;
+			long first = Long.MAX_VALUE;
+			for (int next = buckets[bucket(subj, pred, obj, context, buckets.length)]; next != 0;) {
+				int entry = next - 1;
+				if (versions[entry] > pinned && versions[entry] < first && matches(entry, subj, pred, obj, context)) {
+					first = versions[entry];
+					state = states[entry];
+				}
+				next = bucketNext[entry];
+			}
+			return state;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * @return true if there are entries for the triple, so that its tombstone may still be needed.
+	 */
+	boolean hasEntries(byte[] record) {
+		if (size == 0) {
+			return false;
+		}
+		int subj = ByteArrayUtil.getInt(record, TripleStore.SUBJ_IDX);
+		int pred = ByteArrayUtil.getInt(record, TripleStore.PRED_IDX);
+		int obj = ByteArrayUtil.getInt(record, TripleStore.OBJ_IDX);
+		int context = ByteArrayUtil.getInt(record, TripleStore.CONTEXT_IDX);
+
+		lock.readLock().lock();
+		try {
+			return find(subj, pred, obj, context) >= 0;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * @return true if no entries are kept.
+	 */
+	boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Drops the entries that are not needed by any pinned version, that is all entries of commits up to the oldest
+	 * pinned version, or all entries if no version is pinned.
+	 *
+	 * @param dropped Receives the triples that have no entries left, possibly more than once.
+	 */
+	void collect(TripleConsumer dropped) throws IOException {
+		long oldest;
+		synchronized (this) {
+			oldest = pins.isEmpty() ? version : pins.firstKey();
+		}
+
+		int[] droppedTriples;
+		int droppedCount = 0;
+		lock.writeLock().lock();
+		try {
+			int count = size;
+			droppedTriples = new int[count * 4];
+			int kept = 0;
+			for (int entry = 0; entry < count; entry++) {
+				if (versions[entry] <= oldest) {
+					System.arraycopy(triples, entry * 4, droppedTriples, droppedCount * 4, 4);
+					droppedCount++;
+				} else {
+					if (kept != entry) {
+						System.arraycopy(triples, entry * 4, triples, kept * 4, 4);
+						versions[kept] = versions[entry];
+						states[kept] = states[entry];
+					}
+					kept++;
+				}
+			}
+			if (droppedCount == 0) {
+				return;
+			}
+			if (kept < INITIAL_CAPACITY && versions.length > INITIAL_CAPACITY) {
+				triples = Arrays.copyOf(triples, INITIAL_CAPACITY * 4);
+				versions = Arrays.copyOf(versions, INITIAL_CAPACITY);
+				states = Arrays.copyOf(states, INITIAL_CAPACITY);
+				bucketNext = new int[INITIAL_CAPACITY];
+				buckets = new int[INITIAL_CAPACITY];
+			}
+			size = kept;
+			rehash();
+		} finally {
+			lock.writeLock().unlock();
+		}
+
+		for (int i = 0; i < droppedCount; i++) {
+			int subj = droppedTriples[i * 4];
+			int pred = droppedTriples[i * 4 + 1];
+			int obj = droppedTriples[i * 4 + 2];
+			int context = droppedTriples[i * 4 + 3];
+			boolean hasEntries;
+			lock.readLock().lock();
+			try {
+				hasEntries = find(subj, pred, obj, context) >= 0;
+			} finally {
+				lock.readLock().unlock();
+			}
+			if (!hasEntries) {
+				dropped.accept(subj, pred, obj, context);
+			}
+		}
+	}
+
+	private void grow() {
+		int capacity = versions.length * 2;
+		triples = Arrays.copyOf(triples, capacity * 4);
+		versions = Arrays.copyOf(versions, capacity);
+		states = Arrays.copyOf(states, capacity);
+		bucketNext = new int[capacity];
+		buckets = new int[capacity];
+		rehash();
+	}
+
+	private void rehash() {
+		Arrays.fill(buckets, 0);
+		for (int entry = 0; entry < size; entry++) {
+			int bucket = bucket(triples[entry * 4], triples[entry * 4 + 1], triples[entry * 4 + 2],
+					triples[entry * 4 + 3], buckets.length);
+			bucketNext[entry] = buckets[bucket];
+			buckets[bucket] = entry + 1;
+		}
+	}
+
+	private int find(int subj, int pred, int obj, int context) {
+		for (int next = buckets[bucket(subj, pred, obj, context, buckets.length)]; next != 0;) {
+			int entry = next - 1;
+			if (matches(entry, subj, pred, obj, context)) {
+				return entry;
+			}
+			next = bucketNext[entry];
+		}
+		return -1;
+	}
+
+	private boolean matches(int entry, int subj, int pred, int obj, int context) {
+		int offset = entry * 4;
+		return triples[offset] == subj && triples[offset + 1] == pred && triples[offset + 2] == obj
+				&& triples[offset + 3] == context;
+	}
+
+	private static int bucket(int subj, int pred, int obj, int context, int bucketCount) {
+		int hash = subj;
+		hash = hash * 31 + pred;
+		hash = hash * 31 + obj;
+		hash = hash * 31 + context;
+		hash ^= hash >>> 16;
+		hash *= 0x85ebca6b;
+		hash ^= hash >>> 13;
+		return hash & (bucketCount - 1);
+	}
+
+	/**
+	 * Receives the IDs of a triple.
+	 */
+	interface TripleConsumer {
+
+		void accept(int subj, int pred, int obj, int context) throws IOException;
+	}
+}
@@ -58,6 +58,12 @@ public class NativeStoreConfig extends BaseSailConfig {
 	// When false, completely disable the ValueStore WAL
 	private boolean walEnabled = true;
 
+	// When true, keep transaction changes in off-heap runs of value IDs
+	private boolean offHeapChangesets = false;
+
+	// When true, commit to the triple indexes while readers keep reading earlier versions
+	private boolean versionedIndexes = false;
+
 	public NativeStoreConfig() {
 		super(NativeStoreFactory.SAIL_TYPE);
 	}
@@ -204,6 +210,22 @@ public class NativeStoreConfig extends BaseSailConfig {
 		this.walEnabled = walEnabled;
 	}
 
+	public boolean getOffHeapChangesets() {
+		return offHeapChangesets;
+	}
+
+	public void setOffHeapChangesets(boolean offHeapChangesets) {
+		this.offHeapChangesets = offHeapChangesets;
+	}
+
+	public boolean getVersionedIndexes() {
+		return versionedIndexes;
+	}
+
+	public void setVersionedIndexes(boolean versionedIndexes) {
+		this.versionedIndexes = versionedIndexes;
+	}
+
 	@Override
 	public Resource export(Model m) {
 		if (Configurations.useLegacyConfig()) {
@@ -263,6 +285,12 @@ public class NativeStoreConfig extends BaseSailConfig {
 		if (!walEnabled) {
 			m.add(implNode, CONFIG.Native.walEnabled, literal(false));
 		}
+		if (offHeapChangesets) {
+			m.add(implNode, CONFIG.Native.offHeapChangesets, literal(true));
+		}
+		if (versionedIndexes) {
+			m.add(implNode, CONFIG.Native.versionedIndexes, literal(true));
+		}
 
 		return implNode;
 	}
@@ -445,6 +473,26 @@ public class NativeStoreConfig extends BaseSailConfig {
 											+ lit);
 						}
 					});
+
+			Configurations.getLiteralValue(m, implNode, CONFIG.Native.offHeapChangesets)
+					.ifPresent(lit -> {
+						try {
+							setOffHeapChangesets(lit.booleanValue());
+						} catch (IllegalArgumentException e) {
+							throw new SailConfigException("Boolean value required for "
+									+ CONFIG.Native.offHeapChangesets + " property, found " + lit);
+						}
+					});
+
+			Configurations.getLiteralValue(m, implNode, CONFIG.Native.versionedIndexes)
+					.ifPresent(lit -> {
+						try {
+							setVersionedIndexes(lit.booleanValue());
+						} catch (IllegalArgumentException e) {
+							throw new SailConfigException("Boolean value required for "
+									+ CONFIG.Native.versionedIndexes + " property, found " + lit);
+						}
+					});
 		} catch (ModelException e) {
 			throw new SailConfigException(e.getMessage(), e);
 		}
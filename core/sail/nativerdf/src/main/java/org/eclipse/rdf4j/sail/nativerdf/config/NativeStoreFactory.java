@@ -108,6 +108,8 @@ public class NativeStoreFactory implements SailFactory {
 			// New: allow configuring auto-recovery of ValueStore from WAL during open
 			nativeStore.setWalAutoRecoverOnOpen(nativeConfig.getWalAutoRecoverOnOpen());
 			nativeStore.setWalEnabled(nativeConfig.getWalEnabled());
+			nativeStore.setOffHeapChangesets(nativeConfig.getOffHeapChangesets());
+			nativeStore.setVersionedIndexes(nativeConfig.getVersionedIndexes());
 
 			EvaluationStrategyFactory evalStratFactory = nativeConfig.getEvaluationStrategyFactory();
 			if (evalStratFactory != null) {
@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.nativerdf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.rdf4j.common.transaction.IsolationLevels;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.sail.NotifyingSail;
+import org.eclipse.rdf4j.sail.SailException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * An extension of {@link NativeStoreTest} for a {@link NativeStore} with off-heap changesets.
+ */
+public class NativeStoreOffHeapChangesetsTest extends NativeStoreTest {
+
+	@Override
+	protected NotifyingSail createSail() throws SailException {
+		NativeStore sail = new NativeStore(dataDir, "spoc,posc");
+		sail.setOffHeapChangesets(true);
+		sail.init();
+		return sail;
+	}
+
+	@Test
+	public void testLargeTransaction() {
+		IRI context = vf.createIRI("urn:context");
+		con.begin(IsolationLevels.SNAPSHOT_READ);
+		for (int i = 0; i < 50_000; i++) {
+			con.addStatement(vf.createIRI("urn:s" + i % 1000), RDF.VALUE, vf.createLiteral(i), context);
+		}
+		for (int i = 0; i < 50_000; i += 2) {
+			con.removeStatements(vf.createIRI("urn:s" + i % 1000), RDF.VALUE, vf.createLiteral(i), context);
+		}
+		assertThat(con.size()).isEqualTo(25_000);
+		assertThat(con.hasStatement(vf.createIRI("urn:s1"), RDF.VALUE, vf.createLiteral(1), false, context))
+				.isTrue();
+		assertThat(con.hasStatement(vf.createIRI("urn:s2"), RDF.VALUE, vf.createLiteral(2), false, context))
+				.isFalse();
+		con.commit();
+
+		assertThat(con.size()).isEqualTo(25_000);
+		assertThat(con.size(context)).isEqualTo(25_000);
+		assertThat(con.hasStatement(vf.createIRI("urn:s1"), RDF.VALUE, vf.createLiteral(1), false, context))
+				.isTrue();
+		assertThat(con.hasStatement(vf.createIRI("urn:s2"), RDF.VALUE, vf.createLiteral(2), false, context))
+				.isFalse();
+	}
+}
@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.nativerdf;
+
+import java.io.File;
+
+import org.eclipse.rdf4j.sail.NotifyingSail;
+import org.eclipse.rdf4j.sail.SailException;
+import org.eclipse.rdf4j.testsuite.sail.SailIsolationLevelTest;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * An extension of {@link SailIsolationLevelTest} for a {@link NativeStore} with versioned indexes.
+ */
+public class NativeStoreVersionedIndexesIsolationLevelTest extends SailIsolationLevelTest {
+
+	@TempDir
+	public File tempDir;
+
+	@Override
+	protected NotifyingSail createSail() throws SailException {
+		NativeStore sail = new NativeStore(tempDir, "spoc,posc");
+		sail.setVersionedIndexes(true);
+		return sail;
+	}
+}
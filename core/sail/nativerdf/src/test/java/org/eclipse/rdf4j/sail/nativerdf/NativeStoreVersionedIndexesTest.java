@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.nativerdf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.eclipse.rdf4j.common.transaction.IsolationLevels;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.model.vocabulary.RDFS;
+import org.eclipse.rdf4j.sail.NotifyingSail;
+import org.eclipse.rdf4j.sail.SailConnection;
+import org.eclipse.rdf4j.sail.SailConflictException;
+import org.eclipse.rdf4j.sail.SailException;
+import org.eclipse.rdf4j.sail.base.SerializableConflictStatistics;
+import org.eclipse.rdf4j.sail.inferencer.InferencerConnection;
+import org.junit.jupiter.api.Test;
+
+/**
+ * An extension of {@link NativeStoreTest} for a {@link NativeStore} with versioned indexes.
+ */
+public class NativeStoreVersionedIndexesTest extends NativeStoreTest {
+
+	@Override
+	protected NotifyingSail createSail() throws SailException {
+		NativeStore sail = new NativeStore(dataDir, "spoc,posc");
+		sail.setVersionedIndexes(true);
+		sail.init();
+		return sail;
+	}
+
+	@Test
+	public void testLongReadDuringBulkWrites() {
+		IRI context = vf.createIRI("urn:context");
+		con.begin();
+		for (int i = 0; i < 1000; i++) {
+			con.addStatement(vf.createIRI("urn:s" + i), RDF.VALUE, vf.createLiteral(i), context);
+		}
+		con.commit();
+
+		try (SailConnection reader = sail.getConnection()) {
+			reader.begin(IsolationLevels.SNAPSHOT);
+			assertThat(reader.size()).isEqualTo(1000);
+
+			for (int round = 0; round < 5; round++) {
+				con.begin();
+				for (int i = 0; i < 1000; i += 2) {
+					con.removeStatements(vf.createIRI("urn:s" + i), RDF.VALUE, vf.createLiteral(i), context);
+				}
+				for (int i = 0; i < 1000; i++) {
+					con.addStatement(vf.createIRI("urn:s" + i), RDF.TYPE, vf.createLiteral(round));
+				}
+				con.commit();
+			}
+			con.begin();
+			con.clear(context);
+			con.commit();
+
+			assertThat(reader.size()).isEqualTo(1000);
+			assertThat(reader.size(context)).isEqualTo(1000);
+			assertThat(reader.hasStatement(vf.createIRI("urn:s0"), RDF.VALUE, vf.createLiteral(0), false, context))
+					.isTrue();
+			assertThat(reader.hasStatement(null, RDF.TYPE, null, false)).isFalse();
+			assertThat(reader.getContextIDs().stream().count()).isEqualTo(1);
+			reader.commit();
+
+			assertThat(reader.size()).isEqualTo(5000);
+			assertThat(reader.size(context)).isZero();
+			assertThat(reader.getContextIDs().stream().count()).isZero();
+		}
+
+		assertThat(con.size()).isEqualTo(5000);
+	}
+
+	@Test
+	public void testExplicitAndInferredSnapshotsShowSameVersion() {
+		IRI subj = vf.createIRI("urn:s");
+		try (SailConnection reader = sail.getConnection()) {
+			reader.begin(IsolationLevels.SNAPSHOT);
+			// opens the explicit snapshot of the transaction
+			assertThat(reader.hasStatement(subj, null, null, false)).isFalse();
+
+			con.begin();
+			con.addStatement(subj, RDF.VALUE, vf.createLiteral(1));
+			((InferencerConnection) con).addInferredStatement(subj, RDF.TYPE, RDFS.RESOURCE);
+			con.commit();
+
+			// opens the inferred snapshot of the transaction
+			assertThat(reader.hasStatement(subj, null, null, true)).isFalse();
+			assertThat(reader.size()).isZero();
+			reader.commit();
+
+			assertThat(reader.hasStatement(subj, RDF.TYPE, RDFS.RESOURCE, true)).isTrue();
+		}
+	}
+
+	@Test
+	public void testSerializableConflict() {
+		IRI subj = vf.createIRI("urn:s");
+		con.begin();
+		con.addStatement(subj, RDF.VALUE, vf.createLiteral(1));
+		con.commit();
+
+		try (SailConnection other = sail.getConnection()) {
+			con.begin(IsolationLevels.SERIALIZABLE);
+			other.begin(IsolationLevels.SERIALIZABLE);
+			assertThat(con.hasStatement(subj, RDF.VALUE, null, false)).isTrue();
+			assertThat(other.hasStatement(subj, RDF.VALUE, null, false)).isTrue();
+			con.removeStatements(subj, RDF.VALUE, null);
+			other.removeStatements(subj, RDF.VALUE, null);
+			other.addStatement(subj, RDF.VALUE, vf.createLiteral(2));
+			other.commit();
+
+			assertThat(con.hasStatement(subj, RDF.VALUE, vf.createLiteral(1), false)).isFalse();
+			assertThatThrownBy(con::commit).isInstanceOf(SailConflictException.class);
+			con.rollback();
+		}
+
+		SerializableConflictStatistics statistics = ((NativeStore) sail).getSerializableConflictStatistics();
+		assertThat(statistics.getConflicts()).isEqualTo(1);
+
+		assertThat(con.hasStatement(subj, RDF.VALUE, vf.createLiteral(2), false)).isTrue();
+	}
+}
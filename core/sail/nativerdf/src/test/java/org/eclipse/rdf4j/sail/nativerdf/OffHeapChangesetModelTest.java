@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.nativerdf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.testsuite.model.ModelTest;
+import org.junit.jupiter.api.Test;
+
+public class OffHeapChangesetModelTest extends ModelTest {
+
+	private static final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	@Test
+	public void testRunsWithRemovals() {
+		OffHeapChangesetModel model = new OffHeapChangesetModel(256, 64 * 1024);
+		IRI pred = vf.createIRI("urn:p");
+		IRI graph = vf.createIRI("urn:g");
+		for (int i = 0; i < 10_000; i++) {
+			assertThat(model.add(vf.createIRI("urn:s" + i % 100), pred, vf.createLiteral(i), graph)).isTrue();
+		}
+		for (int i = 0; i < 10_000; i += 3) {
+			assertThat(model.remove(vf.createIRI("urn:s" + i % 100), pred, vf.createLiteral(i), graph)).isTrue();
+		}
+
+		assertThat(model.size()).isEqualTo(6_666);
+		for (int i = 0; i < 10_000; i++) {
+			boolean expected = i % 3 != 0;
+			assertThat(model.contains(vf.createIRI("urn:s" + i % 100), pred, vf.createLiteral(i), graph))
+					.isEqualTo(expected);
+			assertThat(model.contains(vf.createIRI("urn:s" + i % 100), pred, vf.createLiteral(i)))
+					.isEqualTo(expected);
+		}
+		assertThat(model.contains(vf.createIRI("urn:s1"), pred, vf.createLiteral(1), (IRI) null)).isFalse();
+		assertThat(model.filter(vf.createIRI("urn:s1"), null, null)).hasSize(67);
+		assertThat(model.filter(null, null, vf.createLiteral(2))).hasSize(1);
+		assertThat(model.filter(null, null, vf.createLiteral(3))).isEmpty();
+		assertThat(model).hasSize(6_666);
+
+		// re-adding a removed statement
+		assertThat(model.add(vf.createIRI("urn:s0"), pred, vf.createLiteral(0), graph)).isTrue();
+		assertThat(model.add(vf.createIRI("urn:s1"), pred, vf.createLiteral(1), graph)).isFalse();
+		assertThat(model.size()).isEqualTo(6_667);
+	}
+
+	@Test
+	public void testForEachQuadIsSorted() throws Exception {
+		OffHeapChangesetModel model = new OffHeapChangesetModel(256, 64 * 1024);
+		IRI pred = vf.createIRI("urn:p");
+		for (int i = 1_000; i > 0; i--) {
+			model.add(vf.createIRI("urn:s" + i % 10), pred, vf.createLiteral(i));
+		}
+		model.remove(null, null, vf.createLiteral(500));
+
+		List<int[]> quads = new ArrayList<>();
+		model.forEachQuad((subj, pred1, obj, context) -> quads.add(new int[] { subj, pred1, obj, context }));
+
+		assertThat(quads).hasSize(999);
+		for (int i = 1; i < quads.size(); i++) {
+			assertThat(Arrays.compare(quads.get(i - 1), quads.get(i))).isNegative();
+		}
+		assertThat(quads).noneMatch(quad -> model.getValue(quad[2]).equals(vf.createLiteral(500)));
+	}
+
+	@Test
+	public void testForEachMappedQuadIsSortedByMappedIds() throws Exception {
+		OffHeapChangesetModel model = new OffHeapChangesetModel(256, 64 * 1024);
+		IRI pred = vf.createIRI("urn:p");
+		for (int i = 1; i <= 1_000; i++) {
+			model.add(vf.createIRI("urn:s" + i % 10), pred, vf.createLiteral(i));
+		}
+		model.remove(null, null, vf.createLiteral(500));
+
+		// reverses the order of the value IDs
+		int offset = model.getValueCount();
+		List<int[]> quads = new ArrayList<>();
+		model.forEachMappedQuad(id -> id == 0 ? 0 : offset - id,
+				(subj, pred1, obj, context) -> quads.add(new int[] { subj, pred1, obj, context }));
+
+		assertThat(quads).hasSize(999);
+		for (int i = 1; i < quads.size(); i++) {
+			assertThat(Arrays.compare(quads.get(i - 1), quads.get(i))).isNegative();
+		}
+		assertThat(quads).allMatch(quad -> quad[3] == 0)
+				.allMatch(quad -> model.getValue(offset - quad[1]).equals(pred))
+				.noneMatch(quad -> model.getValue(offset - quad[2]).equals(vf.createLiteral(500)));
+	}
+
+	@Override
+	protected OffHeapChangesetModel getNewModel() {
+		// tiny runs and direct memory, so that runs are merged and memory mapped
+		return new OffHeapChangesetModel(4, 256);
+	}
+}
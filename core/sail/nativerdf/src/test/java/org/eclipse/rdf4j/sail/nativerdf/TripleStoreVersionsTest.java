@@ -0,0 +1,207 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.sail.nativerdf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.rdf4j.common.io.ByteArrayUtil;
+import org.eclipse.rdf4j.sail.nativerdf.btree.RecordIterator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TripleStoreVersionsTest {
+
+	@TempDir
+	File dataDir;
+
+	private TripleStore tripleStore;
+
+	@BeforeEach
+	public void setUp() throws Exception {
+		tripleStore = new TripleStore(dataDir, "spoc,posc");
+		tripleStore.enableVersions();
+	}
+
+	@AfterEach
+	public void tearDown() throws Exception {
+		tripleStore.close();
+	}
+
+	@Test
+	public void testPinnedVersionIsNotAffectedByCommits() throws Exception {
+		store(true, 1, 2);
+		long version = tripleStore.pinVersion();
+
+		tripleStore.startTransaction();
+		tripleStore.removeTriplesByContext(1, -1, -1, -1, true);
+		tripleStore.storeTriple(3, 2, 3, 0, true);
+		tripleStore.storeTriple(2, 2, 3, 0, false);
+		tripleStore.commit();
+
+		assertThat(read(-1, true, version)).containsExactly(1, 2);
+		assertThat(read(-1, false, version)).isEmpty();
+		assertThat(read(2, true, version)).containsExactly(2);
+		assertThat(read(-1, true, -1)).containsExactly(2, 3);
+		assertThat(read(-1, false, -1)).isEmpty();
+
+		long latest = tripleStore.pinVersion();
+		assertThat(read(-1, true, latest)).containsExactly(2, 3);
+
+		tripleStore.unpinVersion(latest);
+		tripleStore.unpinVersion(version);
+	}
+
+	@Test
+	public void testRemoveAndAddAgain() throws Exception {
+		store(true, 1);
+		long first = tripleStore.pinVersion();
+
+		tripleStore.startTransaction();
+		tripleStore.removeTriplesByContext(-1, -1, -1, -1, true);
+		tripleStore.commit();
+		long second = tripleStore.pinVersion();
+
+		store(false, 1);
+		long third = tripleStore.pinVersion();
+
+		assertThat(read(-1, true, first)).containsExactly(1);
+		assertThat(read(-1, false, first)).isEmpty();
+		assertThat(read(-1, true, second)).isEmpty();
+		assertThat(read(-1, false, second)).isEmpty();
+		assertThat(read(-1, true, third)).isEmpty();
+		assertThat(read(-1, false, third)).containsExactly(1);
+
+		tripleStore.unpinVersion(first);
+		tripleStore.unpinVersion(second);
+		tripleStore.unpinVersion(third);
+	}
+
+	@Test
+	public void testRollbackKeepsTombstone() throws Exception {
+		store(true, 1);
+		long version = tripleStore.pinVersion();
+
+		tripleStore.startTransaction();
+		tripleStore.removeTriplesByContext(-1, -1, -1, -1, true);
+		tripleStore.commit();
+
+		tripleStore.startTransaction();
+		tripleStore.storeTriple(1, 2, 3, 0, true);
+		assertThat(read(-1, true, version)).containsExactly(1);
+		tripleStore.rollback();
+
+		assertThat(read(-1, true, version)).containsExactly(1);
+		assertThat(read(-1, true, -1)).isEmpty();
+		tripleStore.unpinVersion(version);
+	}
+
+	@Test
+	public void testUncommittedChangesAreNotRead() throws Exception {
+		store(true, 1);
+		long version = tripleStore.pinVersion();
+
+		tripleStore.startTransaction();
+		tripleStore.removeTriplesByContext(-1, -1, -1, -1, true);
+		tripleStore.storeTriple(2, 2, 3, 0, true);
+
+		assertThat(read(-1, true, version)).containsExactly(1);
+		tripleStore.commit();
+		assertThat(read(-1, true, version)).containsExactly(1);
+		tripleStore.unpinVersion(version);
+	}
+
+	@Test
+	public void testCollectRemovesTombstones() throws Exception {
+		store(true, 1, 2);
+		long version = tripleStore.pinVersion();
+
+		tripleStore.startTransaction();
+		tripleStore.removeTriplesByContext(-1, -1, -1, -1, true);
+		tripleStore.commit();
+		assertThat(hasTombstonesProperty()).isTrue();
+
+		tripleStore.collectVersions();
+		assertThat(read(-1, true, version)).containsExactly(1, 2);
+
+		assertThat(tripleStore.unpinVersion(version)).isTrue();
+		tripleStore.collectVersions();
+		assertThat(hasTombstonesProperty()).isFalse();
+		assertThat(read(-1, true, -1)).isEmpty();
+
+		store(true, 1);
+		assertThat(read(-1, true, -1)).containsExactly(1);
+	}
+
+	@Test
+	public void testTombstonesAreRemovedOnOpen() throws Exception {
+		store(true, 1, 2);
+		tripleStore.pinVersion();
+
+		tripleStore.startTransaction();
+		tripleStore.removeTriplesByContext(1, -1, -1, -1, true);
+		tripleStore.commit();
+		tripleStore.close();
+
+		tripleStore = new TripleStore(dataDir, "spoc,posc");
+		assertThat(hasTombstonesProperty()).isFalse();
+		assertThat(read(-1, true, -1)).containsExactly(2);
+		try (RecordIterator iter = tripleStore.getTriples(-1, -1, -1, -1, true)) {
+			assertThat(iter.next()).isNotNull();
+			assertThat(iter.next()).isNull();
+		}
+	}
+
+	@Test
+	public void testCommitWithoutPinnedVersionRemovesTriples() throws Exception {
+		store(true, 1, 2);
+
+		tripleStore.startTransaction();
+		tripleStore.removeTriplesByContext(1, -1, -1, -1, true);
+		tripleStore.commit();
+
+		assertThat(hasTombstonesProperty()).isFalse();
+		long version = tripleStore.pinVersion();
+		assertThat(read(-1, true, version)).containsExactly(2);
+		tripleStore.unpinVersion(version);
+	}
+
+	private void store(boolean explicit, int... subjects) throws IOException {
+		tripleStore.startTransaction();
+		for (int subj : subjects) {
+			tripleStore.storeTriple(subj, 2, 3, 0, explicit);
+		}
+		tripleStore.commit();
+	}
+
+	private List<Integer> read(int subj, boolean explicit, long version) throws IOException {
+		List<Integer> subjects = new ArrayList<>();
+		try (RecordIterator iter = version < 0 ? tripleStore.getTriples(subj, -1, -1, -1, explicit, false)
+				: tripleStore.getTriples(subj, -1, -1, -1, explicit, version)) {
+			byte[] data;
+			while ((data = iter.next()) != null) {
+				subjects.add(ByteArrayUtil.getInt(data, TripleStore.SUBJ_IDX));
+			}
+		}
+		return subjects;
+	}
+
+	private boolean hasTombstonesProperty() throws IOException {
+		return Files.readString(new File(dataDir, "triples.prop").toPath()).contains("tombstones");
+	}
+}
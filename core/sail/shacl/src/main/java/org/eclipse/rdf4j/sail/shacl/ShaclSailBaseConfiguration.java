@@ -43,6 +43,7 @@ abstract class ShaclSailBaseConfiguration extends NotifyingSailWrapper {
 	private long validationResultsLimitTotal = ShaclSailConfig.VALIDATION_RESULTS_LIMIT_TOTAL_DEFAULT;
 	private long validationResultsLimitPerConstraint = ShaclSailConfig.VALIDATION_RESULTS_LIMIT_PER_CONSTRAINT_DEFAULT;
 	private long transactionalValidationLimit = ShaclSailConfig.TRANSACTIONAL_VALIDATION_LIMIT_DEFAULT;
+	private boolean bulkValidationFallback = ShaclSailConfig.BULK_VALIDATION_FALLBACK_DEFAULT;
 	private boolean logValidationExecution = false;
 	private Set<IRI> shapesGraphs = ShaclSailConfig.SHAPES_GRAPHS_DEFAULT;
 
@@ -388,6 +389,27 @@ abstract class ShaclSailBaseConfiguration extends NotifyingSailWrapper {
 		this.transactionalValidationLimit = transactionalValidationLimit;
 	}
 
+	/**
+	 * @return true if transactions that exceed the transactional validation limit are validated in bulk
+	 * @see #setBulkValidationFallback(boolean)
+	 */
+	public boolean isBulkValidationFallback() {
+		return bulkValidationFallback;
+	}
+
+	/**
+	 * By default a transaction that changes more statements than the
+	 * {@link #setTransactionalValidationLimit(long) transactional validation limit} stops tracking its changes and is
+	 * validated in bulk, which validates the entire store against every shape. When this is disabled, the changes are
+	 * tracked in memory stores instead, and every shape is validated only for the focus nodes that are affected by the
+	 * added and removed statements, however large the transaction is. Serializable validation is not affected.
+	 *
+	 * @param bulkValidationFallback default true
+	 */
+	public void setBulkValidationFallback(boolean bulkValidationFallback) {
+		this.bulkValidationFallback = bulkValidationFallback;
+	}
+
 	public Set<IRI> getShapesGraphs() {
 		return shapesGraphs;
 	}
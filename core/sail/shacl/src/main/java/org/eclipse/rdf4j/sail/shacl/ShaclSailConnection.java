@@ -92,6 +92,8 @@ public class ShaclSailConnection extends NotifyingSailConnectionWrapper implemen
 	private final HashSet<Statement> removedStatementsSet = new HashSet<>();
 	private final HashSet<Statement> addedStatementsInferredSet = new HashSet<>();
 	private final HashSet<Statement> removedStatementsInferredSet = new HashSet<>();
+	// the changes of a transaction that exceeded the transactional validation limit when bulk validation is disabled
+	private SpilledChanges spilledChanges;
 
 	private boolean shapeRefreshNeeded = false;
 	private boolean legacyStatementAddedWithoutInferredFlagObserved = false;
@@ -483,6 +485,11 @@ public class ShaclSailConnection extends NotifyingSailConnectionWrapper implemen
 				removedStatementsWithInferredAndRdfs = null;
 			}
 
+			if (spilledChanges != null) {
+				spilledChanges.shutDown();
+				spilledChanges = null;
+			}
+
 			addedStatementsSet.clear();
 			removedStatementsSet.clear();
 			addedStatementsInferredSet.clear();
@@ -961,6 +968,15 @@ public class ShaclSailConnection extends NotifyingSailConnectionWrapper implemen
 
 		resetCombinedStatementStores();
 
+		if (spilledChanges != null) {
+			fillAddedAndRemovedStatementRepositoriesFromSpilledChanges();
+			if (sail.isPerformanceLogging()) {
+				logger.info("fillAddedAndRemovedStatementRepositories() took {} ms",
+						System.currentTimeMillis() - before);
+			}
+			return;
+		}
+
 		try {
 			Stream.of(addedStatementsSet, removedStatementsSet)
 					.map(set -> (Callable<Object>) () -> {
@@ -1118,6 +1134,68 @@ public class ShaclSailConnection extends NotifyingSailConnectionWrapper implemen
 
 	}
 
+	/**
+	 * Uses the stores that the changes were spilled into as the added and removed statements, instead of copying the
+	 * changes into new stores.
+	 */
+	private void fillAddedAndRemovedStatementRepositoriesFromSpilledChanges() throws InterruptedException {
+		spilledChanges.commit();
+
+		addedStatements = replaceStore(addedStatements, spilledChanges.getAddedStatements());
+		removedStatements = replaceStore(removedStatements, spilledChanges.getRemovedStatements());
+		addedStatementsInferred = replaceStore(addedStatementsInferred, spilledChanges.getAddedInferredStatements());
+		removedStatementsInferred = replaceStore(removedStatementsInferred,
+				spilledChanges.getRemovedInferredStatements());
+
+		if (spilledChanges.hasAdded()) {
+			stats.added(null);
+		}
+		if (spilledChanges.hasRemoved()) {
+			stats.removed(null);
+		}
+
+		if (addedStatementsRdfsInferred != null) {
+			addedStatementsRdfsInferred.shutDown();
+			addedStatementsRdfsInferred = null;
+		}
+		if (removedStatementsRdfsInferred != null) {
+			removedStatementsRdfsInferred.shutDown();
+			removedStatementsRdfsInferred = null;
+		}
+		if (rdfsSubClassOfReasoner != null) {
+			addedStatementsRdfsInferred = forwardChain(addedStatements);
+			removedStatementsRdfsInferred = forwardChain(removedStatements);
+		}
+	}
+
+	private Sail replaceStore(Sail current, Sail replacement) {
+		if (current != null && current != replacement && current != sail.getBaseSail()) {
+			current.shutDown();
+		}
+		return replacement;
+	}
+
+	private Sail forwardChain(Sail explicitRepository) throws InterruptedException {
+		Sail inferredRepository = getNewMemorySail();
+		try (SailConnection explicitConnection = explicitRepository.getConnection();
+				SailConnection inferredConnection = inferredRepository.getConnection();
+				CloseableIteration<? extends Statement> statements = explicitConnection.getStatements(null, null,
+						null, false)) {
+			inferredConnection.begin(IsolationLevels.NONE);
+			while (statements.hasNext()) {
+				if (Thread.interrupted()) {
+					throw new InterruptedException();
+				}
+				rdfsSubClassOfReasoner.forwardChain(statements.next())
+						.forEach(inferredStatement -> inferredConnection.addStatement(inferredStatement.getSubject(),
+								inferredStatement.getPredicate(), inferredStatement.getObject(),
+								inferredStatement.getContext()));
+			}
+			inferredConnection.commit();
+		}
+		return inferredRepository;
+	}
+
 	private void fillInferredStatementRepository(Set<Statement> sourceSet, Set<Statement> otherSet,
 			boolean added) throws InterruptedException {
 		if (sourceSet.isEmpty()) {
@@ -1345,7 +1423,7 @@ public class ShaclSailConnection extends NotifyingSailConnectionWrapper implemen
 
 			if (!shapeRefreshNeeded && !isBulkValidation() && addedStatementsSet.isEmpty()
 					&& removedStatementsSet.isEmpty() && addedStatementsInferredSet.isEmpty()
-					&& removedStatementsInferredSet.isEmpty()) {
+					&& removedStatementsInferredSet.isEmpty() && (spilledChanges == null || spilledChanges.isEmpty())) {
 				logger.debug("Nothing has changed, nothing to validate.");
 				return;
 			}
@@ -1511,6 +1589,10 @@ public class ShaclSailConnection extends NotifyingSailConnectionWrapper implemen
 			throw new IllegalStateException("Detected changes after prepare() has been called.");
 		}
 		checkIfShapesRefreshIsNeeded(statement);
+		if (spilledChanges != null) {
+			spilledChanges.added(statement, inferred);
+			return;
+		}
 		if (inferred) {
 			boolean add = addedStatementsInferredSet.add(statement);
 			if (!add) {
@@ -1539,6 +1621,10 @@ public class ShaclSailConnection extends NotifyingSailConnectionWrapper implemen
 			throw new IllegalStateException("Detected changes after prepare() has been called.");
 		}
 		checkIfShapesRefreshIsNeeded(statement);
+		if (spilledChanges != null) {
+			spilledChanges.removed(statement, inferred);
+			return;
+		}
 
 		if (inferred) {
 			boolean add = removedStatementsInferredSet.add(statement);
@@ -1653,6 +1739,15 @@ public class ShaclSailConnection extends NotifyingSailConnectionWrapper implemen
 			if (shouldUseSerializableValidation()) {
 				logger.debug(
 						"Transaction size limit exceeded, could not switch to bulk validation because serializable validation is enabled.");
+			} else if (!sail.isBulkValidationFallback()) {
+				logger.debug("Transaction size limit exceeded, tracking the changes in memory stores.");
+				spilledChanges = new SpilledChanges(this::getNewMemorySail);
+				spilledChanges.addAll(addedStatementsSet, removedStatementsSet, addedStatementsInferredSet,
+						removedStatementsInferredSet);
+				removedStatementsSet.clear();
+				addedStatementsSet.clear();
+				removedStatementsInferredSet.clear();
+				addedStatementsInferredSet.clear();
 			} else {
 				logger.debug("Transaction size limit exceeded, reverting to bulk validation.");
 				removeConnectionListener(this);
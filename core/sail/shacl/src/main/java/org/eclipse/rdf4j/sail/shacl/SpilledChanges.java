@@ -0,0 +1,225 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+
+package org.eclipse.rdf4j.sail.shacl;
+
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.eclipse.rdf4j.common.transaction.IsolationLevels;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.sail.Sail;
+import org.eclipse.rdf4j.sail.SailConnection;
+
+/**
+ * The changes of a transaction that exceeded the transactional validation limit while
+ * {@link ShaclSailBaseConfiguration#isBulkValidationFallback() falling back to bulk validation} is disabled. The changes
+ * are tracked directly in the memory stores that are later used as the added and removed statements for validation,
+ * instead of in statement sets that are copied into such stores before validating. A statement that is added and
+ * removed again within the transaction cancels out.
+ */
+class SpilledChanges {
+
+	private final Changes explicit;
+	private final Changes inferred;
+
+	private boolean committed;
+
+	SpilledChanges(Supplier<Sail> storeFactory) {
+		explicit = new Changes(storeFactory);
+		inferred = new Changes(storeFactory);
+	}
+
+	/**
+	 * Moves the given change sets into the stores, statements contained in both the added and the removed set cancel
+	 * out.
+	 */
+	void addAll(Set<Statement> added, Set<Statement> removed, Set<Statement> addedInferred,
+			Set<Statement> removedInferred) {
+		explicit.addAll(added, removed);
+		inferred.addAll(addedInferred, removedInferred);
+	}
+
+	void added(Statement statement, boolean inferredStatement) {
+		assert !committed;
+		(inferredStatement ? inferred : explicit).added(statement);
+	}
+
+	void removed(Statement statement, boolean inferredStatement) {
+		assert !committed;
+		(inferredStatement ? inferred : explicit).removed(statement);
+	}
+
+	boolean isEmpty() {
+		return explicit.isEmpty() && inferred.isEmpty();
+	}
+
+	/**
+	 * Commits the changes to the stores, after which they can be read from other connections and no further changes
+	 * can be tracked.
+	 */
+	void commit() {
+		if (!committed) {
+			committed = true;
+			explicit.commit();
+			inferred.commit();
+		}
+	}
+
+	Sail getAddedStatements() {
+		assert committed;
+		return explicit.addedStore;
+	}
+
+	Sail getRemovedStatements() {
+		assert committed;
+		return explicit.removedStore;
+	}
+
+	/**
+	 * @return the added inferred statements, or null if there are none
+	 */
+	Sail getAddedInferredStatements() {
+		assert committed;
+		return inferred.addedSize > 0 ? inferred.addedStore : null;
+	}
+
+	/**
+	 * @return the removed inferred statements, or null if there are none
+	 */
+	Sail getRemovedInferredStatements() {
+		assert committed;
+		return inferred.removedSize > 0 ? inferred.removedStore : null;
+	}
+
+	boolean hasAdded() {
+		return explicit.addedSize > 0 || inferred.addedSize > 0;
+	}
+
+	boolean hasRemoved() {
+		return explicit.removedSize > 0 || inferred.removedSize > 0;
+	}
+
+	void shutDown() {
+		try {
+			explicit.shutDown();
+		} finally {
+			inferred.shutDown();
+		}
+	}
+
+	private static final class Changes {
+
+		private final Sail addedStore;
+		private final Sail removedStore;
+		private final SailConnection addedConnection;
+		private final SailConnection removedConnection;
+
+		private long addedSize;
+		private long removedSize;
+
+		private Changes(Supplier<Sail> storeFactory) {
+			addedStore = storeFactory.get();
+			removedStore = storeFactory.get();
+			addedConnection = addedStore.getConnection();
+			removedConnection = removedStore.getConnection();
+			addedConnection.begin(IsolationLevels.NONE);
+			removedConnection.begin(IsolationLevels.NONE);
+		}
+
+		private void addAll(Set<Statement> added, Set<Statement> removed) {
+			for (Statement statement : added) {
+				if (!removed.contains(statement)) {
+					add(addedConnection, statement);
+					addedSize++;
+				}
+			}
+			for (Statement statement : removed) {
+				if (!added.contains(statement)) {
+					add(removedConnection, statement);
+					removedSize++;
+				}
+			}
+		}
+
+		private void added(Statement statement) {
+			if (contains(removedConnection, statement)) {
+				remove(removedConnection, statement);
+				removedSize--;
+			} else {
+				add(addedConnection, statement);
+				addedSize++;
+			}
+		}
+
+		private void removed(Statement statement) {
+			if (contains(addedConnection, statement)) {
+				remove(addedConnection, statement);
+				addedSize--;
+			} else {
+				add(removedConnection, statement);
+				removedSize++;
+			}
+		}
+
+		private boolean isEmpty() {
+			return addedSize == 0 && removedSize == 0;
+		}
+
+		private void commit() {
+			try {
+				addedConnection.commit();
+				removedConnection.commit();
+			} finally {
+				closeConnections();
+			}
+		}
+
+		private void shutDown() {
+			try {
+				closeConnections();
+			} finally {
+				try {
+					addedStore.shutDown();
+				} finally {
+					removedStore.shutDown();
+				}
+			}
+		}
+
+		private void closeConnections() {
+			try {
+				if (addedConnection.isOpen()) {
+					addedConnection.close();
+				}
+			} finally {
+				if (removedConnection.isOpen()) {
+					removedConnection.close();
+				}
+			}
+		}
+
+		private static boolean contains(SailConnection connection, Statement statement) {
+			return connection.hasStatement(statement.getSubject(), statement.getPredicate(), statement.getObject(),
+					false, statement.getContext());
+		}
+
+		private static void add(SailConnection connection, Statement statement) {
+			connection.addStatement(statement.getSubject(), statement.getPredicate(), statement.getObject(),
+					statement.getContext());
+		}
+
+		private static void remove(SailConnection connection, Statement statement) {
+			connection.removeStatements(statement.getSubject(), statement.getPredicate(), statement.getObject(),
+					statement.getContext());
+		}
+	}
+}
@@ -71,13 +71,16 @@ public class BufferedSplitter implements PlanNodeProvider {
 
 	private synchronized void init() {
 		if (tuplesBuffer == null) {
-			tuplesBuffer = new ArrayList<>();
+			// the buffer is only published once it is complete, since it may be shared between the plans of several
+			// shapes and must not be left partially filled if the shape that fills it is interrupted
+			List<ValidationTuple> tuplesBuffer = new ArrayList<>();
 			try (CloseableIteration<? extends ValidationTuple> iterator = parent.iterator()) {
 				while (iterator.hasNext()) {
 					ValidationTuple next = iterator.next();
 					tuplesBuffer.add(next);
 				}
 			}
+			this.tuplesBuffer = tuplesBuffer;
 		}
 
 	}
@@ -15,6 +15,7 @@ import java.util.Objects;
 
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.model.base.CoreDatatype;
 import org.eclipse.rdf4j.model.datatypes.XMLDatatypeUtil;
 import org.eclipse.rdf4j.sail.shacl.wrapper.data.ConnectionsGroup;
@@ -32,6 +33,11 @@ public class DatatypeFilter extends FilterPlanNode {
 	private final CoreDatatype.XSD xsdDatatype;
 	private StackTraceElement[] stackTrace;
 
+	// the tuples are usually sorted, so consecutive tuples often have the same value and the result for the previous
+	// value is reused instead of reading the value from the store and validating it again
+	private Value previousValue;
+	private boolean previousResult;
+
 	public DatatypeFilter(PlanNode parent, IRI datatype, ConnectionsGroup connectionsGroup) {
 		super(parent, connectionsGroup);
 		this.datatype = datatype;
@@ -40,6 +46,15 @@ public class DatatypeFilter extends FilterPlanNode {
 
 	@Override
 	boolean checkTuple(Reference t) {
+		Value value = t.get().getValue();
+		if (previousValue == null || !previousValue.equals(value)) {
+			previousResult = checkTupleUncached(t);
+			previousValue = value;
+		}
+		return previousResult;
+	}
+
+	private boolean checkTupleUncached(Reference t) {
 		if (!(t.get().getValue().isLiteral())) {
 			logger.debug("Tuple rejected because it's not a literal. Tuple: {}", t);
 			return false;
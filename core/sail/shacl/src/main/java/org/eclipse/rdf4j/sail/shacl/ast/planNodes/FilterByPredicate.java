@@ -69,6 +69,11 @@ public class FilterByPredicate implements PlanNode {
 
 			List<IRI> filterOnPredicates = null;
 
+			// the tuples are usually sorted by their target, so the previous target is remembered to avoid looking up
+			// the same target in the store again
+			Value previousNode;
+			IRI previousMatchedPredicate;
+
 			@Override
 			protected void init() {
 				parentIterator = parent.iterator();
@@ -119,6 +124,14 @@ public class FilterByPredicate implements PlanNode {
 			}
 
 			private IRI matchesFilter(Value node) {
+				if (previousNode == null || !previousNode.equals(node)) {
+					previousMatchedPredicate = matchesFilterUncached(node);
+					previousNode = node;
+				}
+				return previousMatchedPredicate;
+			}
+
+			private IRI matchesFilterUncached(Value node) {
 
 				if (node.isResource() && on == On.Subject) {
 
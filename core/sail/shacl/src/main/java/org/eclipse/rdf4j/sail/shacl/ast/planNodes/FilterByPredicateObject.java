@@ -102,6 +102,11 @@ public class FilterByPredicateObject implements PlanNode {
 			Resource[] filterOnObject = null;
 			IRI filterOnPredicate = null;
 
+			// the tuples are usually sorted by their target, so the previous value is remembered to avoid looking it up
+			// in the store or the cache again
+			Value previousValue;
+			boolean previousMatches;
+
 			@Override
 			protected void init() {
 				parentIterator = parent.iterator();
@@ -144,7 +149,14 @@ public class FilterByPredicateObject implements PlanNode {
 						return;
 					}
 
-					boolean matches = matches(value, filterOnPredicate, filterOnObject);
+					boolean matches;
+					if (previousValue != null && previousValue.equals(value)) {
+						matches = previousMatches;
+					} else {
+						matches = matches(value, filterOnPredicate, filterOnObject);
+						previousValue = value;
+						previousMatches = matches;
+					}
 
 					if (returnMatching) {
 						if (matches) {
@@ -35,12 +35,14 @@ public class PlanNodeHelper {
 	public static PlanNode handleSorting(boolean requiresSorted, PlanNode parent, ConnectionsGroup connectionsGroup) {
 		if (requiresSorted) {
 			if (!parent.producesSorted()) {
-//				if (connectionsGroup != null && (parent instanceof BufferedSplitter.BufferedSplitterPlaneNode ||
-//						parent instanceof UnorderedSelect)) {
-//					parent = connectionsGroup.getCachedNodeFor(new Sort(parent, connectionsGroup));
-//				} else {
-				parent = new Sort(parent, connectionsGroup);
-//				}
+				if (connectionsGroup != null && (parent instanceof BufferedSplitter.BufferedSplitterPlaneNode
+						|| parent instanceof UnorderedSelect)) {
+					// sorting a shared or a plain select node may be repeated for other shapes, in which case the
+					// sorted tuples are shared as well instead of sorting the same tuples once per shape
+					parent = connectionsGroup.getCachedNodeIfShared(new Sort(parent, connectionsGroup));
+				} else {
+					parent = new Sort(parent, connectionsGroup);
+				}
 			}
 		}
 		return parent;
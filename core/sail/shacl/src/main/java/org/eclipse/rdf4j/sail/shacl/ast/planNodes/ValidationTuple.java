@@ -164,7 +164,7 @@ public class ValidationTuple {
 		Value left = getActiveTarget();
 		Value right = other.getActiveTarget();
 
-		return valueComparator.compare(left, right);
+		return compare(left, right);
 	}
 
 	public int compareFullTarget(ValidationTuple other) {
@@ -183,7 +183,7 @@ public class ValidationTuple {
 
 		for (int i = 0; i < min; i++) {
 			Value value = iterator.next();
-			int compare = valueComparator.compare(value, otherTargetChain.get(i));
+			int compare = compare(value, otherTargetChain.get(i));
 			if (compare != 0) {
 				return compare;
 			}
@@ -192,6 +192,16 @@ public class ValidationTuple {
 		return Integer.compare(getFullChainSize(true), other.getFullChainSize(true));
 	}
 
+	private static int compare(Value left, Value right) {
+		// Values from the NativeStore and the LmdbStore are compared by their internal id in equals(), so checking for
+		// equality first avoids reading the lexical form of equal values from disk. Sorted tuples are mostly compared
+		// to tuples with the same target.
+		if (left.equals(right)) {
+			return 0;
+		}
+		return valueComparator.compare(left, right);
+	}
+
 	public List<ValidationResult> getValidationResult() {
 		return validationResults;
 	}
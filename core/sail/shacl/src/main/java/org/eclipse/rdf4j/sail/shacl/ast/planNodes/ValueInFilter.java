@@ -24,6 +24,11 @@ public class ValueInFilter extends FilterPlanNode {
 
 	private final Set<Value> valueSet;
 
+	// the tuples are usually sorted, so consecutive tuples often have the same value and the result for the previous
+	// value is reused instead of reading the value from the store to compute its hash code
+	private Value previousValue;
+	private boolean previousResult;
+
 	public ValueInFilter(PlanNode parent, Set<Value> valueSet, ConnectionsGroup connectionsGroup) {
 		super(parent, connectionsGroup);
 		this.valueSet = valueSet;
@@ -31,7 +36,12 @@ public class ValueInFilter extends FilterPlanNode {
 
 	@Override
 	boolean checkTuple(Reference t) {
-		return valueSet.contains(t.get().getValue());
+		Value value = t.get().getValue();
+		if (previousValue == null || !previousValue.equals(value)) {
+			previousResult = valueSet.contains(value);
+			previousValue = value;
+		}
+		return previousResult;
 	}
 
 	@Override
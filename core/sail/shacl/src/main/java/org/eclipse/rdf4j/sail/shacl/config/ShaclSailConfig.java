@@ -61,6 +61,7 @@ public class ShaclSailConfig extends AbstractDelegatingSailImplConfig {
 	public final static long VALIDATION_RESULTS_LIMIT_TOTAL_DEFAULT = 1_000_000;
 	public final static long VALIDATION_RESULTS_LIMIT_PER_CONSTRAINT_DEFAULT = 1_000;
 	public final static long TRANSACTIONAL_VALIDATION_LIMIT_DEFAULT = 500_000;
+	public final static boolean BULK_VALIDATION_FALLBACK_DEFAULT = true;
 	public final static Set<IRI> SHAPES_GRAPHS_DEFAULT = Set.of(RDF4J.SHACL_SHAPE_GRAPH);
 
 	private boolean parallelValidation = PARALLEL_VALIDATION_DEFAULT;
@@ -78,6 +79,7 @@ public class ShaclSailConfig extends AbstractDelegatingSailImplConfig {
 	private long validationResultsLimitTotal = VALIDATION_RESULTS_LIMIT_TOTAL_DEFAULT;
 	private long validationResultsLimitPerConstraint = VALIDATION_RESULTS_LIMIT_PER_CONSTRAINT_DEFAULT;
 	private long transactionalValidationLimit = TRANSACTIONAL_VALIDATION_LIMIT_DEFAULT;
+	private boolean bulkValidationFallback = BULK_VALIDATION_FALLBACK_DEFAULT;
 	private Set<IRI> shapesGraphs = SHAPES_GRAPHS_DEFAULT;
 
 	public ShaclSailConfig() {
@@ -212,6 +214,14 @@ public class ShaclSailConfig extends AbstractDelegatingSailImplConfig {
 		this.transactionalValidationLimit = transactionalValidationLimit;
 	}
 
+	public boolean isBulkValidationFallback() {
+		return bulkValidationFallback;
+	}
+
+	public void setBulkValidationFallback(boolean bulkValidationFallback) {
+		this.bulkValidationFallback = bulkValidationFallback;
+	}
+
 	public Set<IRI> getShapesGraphs() {
 		return shapesGraphs;
 	}
@@ -243,6 +253,7 @@ public class ShaclSailConfig extends AbstractDelegatingSailImplConfig {
 		m.add(implNode, CONFIG.Shacl.validationResultsLimitPerConstraint,
 				literal(getValidationResultsLimitPerConstraint()));
 		m.add(implNode, CONFIG.Shacl.transactionalValidationLimit, literal(getTransactionalValidationLimit()));
+		m.add(implNode, CONFIG.Shacl.bulkValidationFallback, BooleanLiteral.valueOf(isBulkValidationFallback()));
 
 		for (IRI shapesGraph : shapesGraphs) {
 			m.add(implNode, CONFIG.Shacl.shapesGraph, shapesGraph);
@@ -313,6 +324,9 @@ public class ShaclSailConfig extends AbstractDelegatingSailImplConfig {
 							ShaclSailSchema.TRANSACTIONAL_VALIDATION_LIMIT)
 					.ifPresent(l -> setTransactionalValidationLimit(l.longValue()));
 
+			Configurations.getLiteralValue(m, implNode, CONFIG.Shacl.bulkValidationFallback)
+					.ifPresent(l -> setBulkValidationFallback(l.booleanValue()));
+
 			if (m.contains(implNode, CONFIG.Shacl.shapesGraph, null) || m.contains(implNode, SHAPES_GRAPH, null)) {
 				setShapesGraphs(
 						Configurations
@@ -70,6 +70,8 @@ public class ShaclSailFactory implements SailFactory {
 			sail.setDashDataShapes(shaclSailConfig.isDashDataShapes());
 			sail.setValidationResultsLimitTotal(shaclSailConfig.getValidationResultsLimitTotal());
 			sail.setValidationResultsLimitPerConstraint(shaclSailConfig.getValidationResultsLimitPerConstraint());
+			sail.setTransactionalValidationLimit(shaclSailConfig.getTransactionalValidationLimit());
+			sail.setBulkValidationFallback(shaclSailConfig.isBulkValidationFallback());
 			sail.setShapesGraphs(shaclSailConfig.getShapesGraphs());
 
 		}
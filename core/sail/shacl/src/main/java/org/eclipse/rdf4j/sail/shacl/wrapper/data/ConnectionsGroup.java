@@ -12,6 +12,7 @@
 package org.eclipse.rdf4j.sail.shacl.wrapper.data;
 
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 
@@ -28,6 +29,7 @@ import org.eclipse.rdf4j.sail.shacl.ShaclSailConnection;
 import org.eclipse.rdf4j.sail.shacl.Stats;
 import org.eclipse.rdf4j.sail.shacl.ast.planNodes.BufferedSplitter;
 import org.eclipse.rdf4j.sail.shacl.ast.planNodes.PlanNode;
+import org.eclipse.rdf4j.sail.shacl.ast.planNodes.Sort;
 import org.eclipse.rdf4j.sail.shacl.ast.planNodes.UnBufferedPlanNode;
 import org.eclipse.rdf4j.sail.shacl.ast.planNodes.UnorderedSelect;
 import org.slf4j.Logger;
@@ -63,6 +65,9 @@ public class ConnectionsGroup implements AutoCloseable {
 	// used to cache Select plan nodes so that we don't query a store for the same data during the same validation step.
 	private final Map<PlanNode, BufferedSplitter> nodeCache = new ConcurrentHashMap<>();
 
+	// plan nodes that have been requested through getCachedNodeIfShared(), but are not cached (yet)
+	private final Set<PlanNode> requestedNodes = ConcurrentHashMap.newKeySet();
+
 	private final Cache<Value, Value> INTERNED_VALUE_CACHE = CacheBuilder.newBuilder()
 			.concurrencyLevel(Runtime.getRuntime().availableProcessors() * 2)
 			.maximumSize(10000)
@@ -193,6 +198,7 @@ public class ConnectionsGroup implements AutoCloseable {
 		}
 
 		nodeCache.clear();
+		requestedNodes.clear();
 	}
 
 	public SailConnection getBaseConnection() {
@@ -229,6 +235,21 @@ public class ConnectionsGroup implements AutoCloseable {
 
 	}
 
+	/**
+	 * Like {@link #getCachedNodeFor(PlanNode)}, but the node is only cached once an equal node is requested a second
+	 * time. This is meant for nodes which buffer all their tuples anyway, such as a {@link Sort}, so that a node which
+	 * is only used by a single shape is not kept in memory for the whole validation.
+	 *
+	 * @param planNode the plan node
+	 * @return the given plan node on the first request, a cached plan node otherwise
+	 */
+	public PlanNode getCachedNodeIfShared(PlanNode planNode) {
+		if (!transactionSettings.isCacheSelectNodes() || requestedNodes.add(planNode)) {
+			return planNode;
+		}
+		return getCachedNodeFor(planNode);
+	}
+
 	/**
 	 * Returns the RdfsSubClassOfReasoner if it is enabled. If it is not enabled this method will return null.
 	 *
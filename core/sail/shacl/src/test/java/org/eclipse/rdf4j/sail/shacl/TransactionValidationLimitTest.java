@@ -153,6 +153,90 @@ public class TransactionValidationLimitTest {
 
 	}
 
+	@Test
+	public void testIncrementalValidationWithoutBulkFallback() throws Exception {
+
+		SailRepository shaclRepository = Utils.getInitializedShaclRepository("shacl.trig");
+
+		((ShaclSail) shaclRepository.getSail()).setTransactionalValidationLimit(3);
+		((ShaclSail) shaclRepository.getSail()).setBulkValidationFallback(false);
+
+		try (SailRepositoryConnection connection = shaclRepository.getConnection()) {
+			ShaclSailConnection shaclSailConnection = (ShaclSailConnection) connection.getSailConnection();
+
+			connection.begin();
+			connection.add(RDFS.CLASS, RDFS.LABEL, connection.getValueFactory().createLiteral("a"));
+			connection.commit();
+
+			connection.begin();
+			connection.add(RDFS.RESOURCE, RDF.TYPE, RDFS.RESOURCE);
+			connection.add(RDFS.RESOURCE, RDFS.LABEL, connection.getValueFactory().createLiteral("a"));
+			connection.add(RDFS.CLASS, RDF.TYPE, RDFS.RESOURCE);
+			connection.add(RDFS.CLASS, RDFS.LABEL, connection.getValueFactory().createLiteral("4th statement"));
+			connection.remove(RDFS.CLASS, RDFS.LABEL, connection.getValueFactory().createLiteral("a"));
+
+			assertEquals(ShaclSail.TransactionSettings.ValidationApproach.Auto,
+					shaclSailConnection.getTransactionSettings().getValidationApproach(),
+					"Falling back to bulk validation is disabled so the validation approach should not change.");
+
+			connection.commit();
+
+			assertEquals(4, connection.size());
+			assertFalse(connection.hasStatement(RDFS.CLASS, RDFS.LABEL,
+					connection.getValueFactory().createLiteral("a"), false));
+
+		} finally {
+			shaclRepository.shutDown();
+		}
+
+	}
+
+	@Test
+	public void testIncrementalValidationWithoutBulkFallbackTriggersValidation() throws Exception {
+
+		SailRepository shaclRepository = Utils.getInitializedShaclRepository("shacl.trig");
+
+		((ShaclSail) shaclRepository.getSail()).setTransactionalValidationLimit(3);
+		((ShaclSail) shaclRepository.getSail()).setBulkValidationFallback(false);
+
+		try (SailRepositoryConnection connection = shaclRepository.getConnection()) {
+			connection.begin();
+			connection.add(RDFS.CLASS, RDFS.COMMENT, connection.getValueFactory().createLiteral("a"));
+			connection.commit();
+
+			connection.begin();
+			connection.add(RDFS.RESOURCE, RDF.TYPE, RDFS.RESOURCE);
+			connection.add(RDFS.RESOURCE, RDFS.LABEL, connection.getValueFactory().createLiteral("a"));
+			connection.add(RDFS.CLASS, RDF.TYPE, RDFS.RESOURCE);
+			connection.add(RDFS.CLASS, RDFS.COMMENT, connection.getValueFactory().createLiteral("4th statement"));
+			connection.add(RDFS.CLASS, RDFS.COMMENT, connection.getValueFactory().createLiteral("5th statement"));
+
+			assertThrows(ShaclSailValidationException.class, () -> {
+				try {
+					connection.commit();
+				} catch (RepositoryException repositoryException) {
+					connection.rollback();
+					throw repositoryException.getCause();
+				}
+			});
+
+			// the change that violated the shape is cancelled out by removing it again
+			connection.begin();
+			connection.add(RDFS.RESOURCE, RDF.TYPE, RDFS.RESOURCE);
+			connection.add(RDFS.RESOURCE, RDFS.LABEL, connection.getValueFactory().createLiteral("a"));
+			connection.add(RDFS.CLASS, RDF.TYPE, RDFS.RESOURCE);
+			connection.add(RDFS.CLASS, RDFS.COMMENT, connection.getValueFactory().createLiteral("4th statement"));
+			connection.remove(RDFS.CLASS, RDF.TYPE, RDFS.RESOURCE);
+			connection.commit();
+
+			assertEquals(4, connection.size());
+
+		} finally {
+			shaclRepository.shutDown();
+		}
+
+	}
+
 	@Test
 	public void testBulkValidationForEmptySail() throws Exception {
 
@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+
+package org.eclipse.rdf4j.sail.shacl.ast.planNodes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.transaction.IsolationLevels;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.sail.SailConnection;
+import org.eclipse.rdf4j.sail.SailException;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
+import org.eclipse.rdf4j.sail.shacl.ShaclSailConnection;
+import org.eclipse.rdf4j.sail.shacl.Stats;
+import org.eclipse.rdf4j.sail.shacl.ast.constraintcomponents.ConstraintComponent;
+import org.eclipse.rdf4j.sail.shacl.wrapper.data.ConnectionsGroup;
+import org.junit.jupiter.api.Test;
+
+public class BufferedSplitterTest {
+
+	private static final Resource[] CONTEXTS = { null };
+
+	@Test
+	public void testSortIsSharedBetweenPlans() {
+		MemoryStore memoryStore = new MemoryStore();
+		try (SailConnection connection = memoryStore.getConnection();
+				ConnectionsGroup connectionsGroup = new ConnectionsGroup(connection, null, null, null, new Stats(),
+						null, false, new ShaclSailConnection.Settings(true, true, false, IsolationLevels.NONE),
+						false)) {
+
+			AtomicInteger iterations = new AtomicInteger();
+
+			// three shapes which select the same unsorted tuples
+			PlanNode first = PlanNodeHelper.handleSorting(true,
+					connectionsGroup.getCachedNodeFor(new UnsortedNode(iterations, 3, 1, 2)), connectionsGroup);
+			PlanNode second = PlanNodeHelper.handleSorting(true,
+					connectionsGroup.getCachedNodeFor(new UnsortedNode(iterations, 3, 1, 2)), connectionsGroup);
+			PlanNode third = PlanNodeHelper.handleSorting(true,
+					connectionsGroup.getCachedNodeFor(new UnsortedNode(iterations, 3, 1, 2)), connectionsGroup);
+
+			// the sort is only cached once it is shared
+			assertThat(first).isInstanceOf(Sort.class);
+			assertThat(second).isInstanceOf(BufferedSplitter.BufferedSplitterPlaneNode.class);
+			assertThat(third).isEqualTo(second);
+
+			List<ValidationTuple> firstTuples = toList(first);
+			assertThat(firstTuples).isSortedAccordingTo(ValidationTuple::compareActiveTarget);
+			assertThat(toList(second)).isEqualTo(firstTuples);
+			assertThat(toList(third)).isEqualTo(firstTuples);
+			assertThat(iterations).hasValue(1);
+		} finally {
+			memoryStore.shutDown();
+		}
+	}
+
+	@Test
+	public void testFailedBufferingIsRetried() {
+		AtomicInteger iterations = new AtomicInteger();
+		UnsortedNode failingNode = new UnsortedNode(iterations, 3, 1, 2) {
+			@Override
+			public CloseableIteration<? extends ValidationTuple> iterator() {
+				if (iterations.get() == 0) {
+					iterations.incrementAndGet();
+					throw new SailException("interrupted");
+				}
+				return super.iterator();
+			}
+		};
+
+		PlanNode planNode = BufferedSplitter.getInstance(failingNode).getPlanNode();
+
+		assertThatThrownBy(() -> toList(planNode)).isInstanceOf(SailException.class);
+		assertThat(toList(planNode)).hasSize(3);
+	}
+
+	private static List<ValidationTuple> toList(PlanNode planNode) {
+		planNode.receiveLogger(ValidationExecutionLogger.getInstance(false));
+		List<ValidationTuple> tuples = new ArrayList<>();
+		try (CloseableIteration<? extends ValidationTuple> iterator = planNode.iterator()) {
+			iterator.forEachRemaining(tuples::add);
+		}
+		return tuples;
+	}
+
+	private static class UnsortedNode implements PlanNode {
+
+		private final AtomicInteger iterations;
+		private final List<ValidationTuple> tuples = new ArrayList<>();
+
+		private UnsortedNode(AtomicInteger iterations, int... values) {
+			this.iterations = iterations;
+			for (int value : values) {
+				tuples.add(new ValidationTuple(SimpleValueFactory.getInstance().createLiteral(value),
+						ConstraintComponent.Scope.nodeShape, false, CONTEXTS));
+			}
+		}
+
+		@Override
+		public CloseableIteration<? extends ValidationTuple> iterator() {
+			iterations.incrementAndGet();
+			Iterator<ValidationTuple> iterator = tuples.iterator();
+			return new CloseableIteration<>() {
+				@Override
+				public boolean hasNext() {
+					return iterator.hasNext();
+				}
+
+				@Override
+				public ValidationTuple next() {
+					return iterator.next();
+				}
+
+				@Override
+				public void remove() {
+					throw new UnsupportedOperationException();
+				}
+
+				@Override
+				public void close() {
+				}
+			};
+		}
+
+		@Override
+		public int depth() {
+			return 0;
+		}
+
+		@Override
+		public void getPlanAsGraphvizDot(StringBuilder stringBuilder) {
+		}
+
+		@Override
+		public String getId() {
+			return System.identityHashCode(this) + "";
+		}
+
+		@Override
+		public void receiveLogger(ValidationExecutionLogger validationExecutionLogger) {
+		}
+
+		@Override
+		public boolean producesSorted() {
+			return false;
+		}
+
+		@Override
+		public boolean requiresSorted() {
+			return false;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof UnsortedNode && tuples.equals(((UnsortedNode) o).tuples);
+		}
+
+		@Override
+		public int hashCode() {
+			return tuples.hashCode();
+		}
+	}
+}
@@ -0,0 +1,227 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+
+package org.eclipse.rdf4j.sail.shacl.ast.planNodes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.transaction.IsolationLevels;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.model.vocabulary.XSD;
+import org.eclipse.rdf4j.sail.SailConnection;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
+import org.eclipse.rdf4j.sail.shacl.ShaclSailConnection;
+import org.eclipse.rdf4j.sail.shacl.Stats;
+import org.eclipse.rdf4j.sail.shacl.ast.constraintcomponents.ConstraintComponent;
+import org.eclipse.rdf4j.sail.shacl.wrapper.data.ConnectionsGroup;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The filters remember the result for the previous value, these tests check that repeated values produce the same
+ * results as filtering every tuple on its own.
+ */
+public class FilterMemoizationTest {
+
+	private static final Resource[] CONTEXTS = { null };
+
+	private static final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	private static final IRI a = vf.createIRI("http://example.com/a");
+	private static final IRI b = vf.createIRI("http://example.com/b");
+	private static final IRI c = vf.createIRI("http://example.com/c");
+	private static final IRI p = vf.createIRI("http://example.com/p");
+	private static final IRI type = vf.createIRI("http://example.com/Type");
+
+	private MemoryStore memoryStore;
+	private SailConnection connection;
+	private ConnectionsGroup connectionsGroup;
+
+	@BeforeEach
+	public void before() {
+		memoryStore = new MemoryStore();
+		connection = memoryStore.getConnection();
+		connection.begin(IsolationLevels.NONE);
+		connection.addStatement(a, p, vf.createLiteral("a"));
+		connection.addStatement(c, p, vf.createLiteral("c"));
+		connection.addStatement(a, RDF.TYPE, type);
+		connection.addStatement(c, RDF.TYPE, type);
+		connection.commit();
+		connectionsGroup = new ConnectionsGroup(connection, null, null, null, new Stats(), null, false,
+				new ShaclSailConnection.Settings(true, true, false, IsolationLevels.NONE), false);
+	}
+
+	@AfterEach
+	public void after() {
+		connectionsGroup.close();
+		connection.close();
+		memoryStore.shutDown();
+	}
+
+	@Test
+	public void testFilterByPredicate() {
+		List<ValidationTuple> tuples = targets(a, a, b, b, c, c, c);
+
+		assertSameAsFilteringEachTuple(tuples, parent -> new FilterByPredicate(connection, Set.of(p), parent,
+				FilterByPredicate.On.Subject, CONTEXTS, connectionsGroup));
+	}
+
+	@Test
+	public void testFilterByPredicateObject() {
+		List<ValidationTuple> tuples = targets(a, a, b, b, c, c, c);
+
+		for (boolean returnMatching : new boolean[] { true, false }) {
+			assertSameAsFilteringEachTuple(tuples,
+					parent -> new FilterByPredicateObject(connection, CONTEXTS, RDF.TYPE, Set.of(type), parent,
+							returnMatching, FilterByPredicateObject.FilterOn.activeTarget, false, connectionsGroup));
+		}
+	}
+
+	@Test
+	public void testDatatypeFilter() {
+		List<ValidationTuple> tuples = values(vf.createLiteral("1", XSD.INT), vf.createLiteral("1", XSD.INT),
+				vf.createLiteral("one", XSD.INT), vf.createLiteral("one", XSD.INT), vf.createLiteral("1"),
+				vf.createLiteral("1"), a, a, vf.createLiteral("2", XSD.INT));
+
+		for (IRI datatype : new IRI[] { XSD.INT, XSD.STRING, type }) {
+			assertSameAsFilteringEachTuple(tuples, parent -> new DatatypeFilter(parent, datatype, connectionsGroup)
+					.getTrueNode(UnBufferedPlanNode.class));
+			assertSameAsFilteringEachTuple(tuples, parent -> new DatatypeFilter(parent, datatype, connectionsGroup)
+					.getFalseNode(UnBufferedPlanNode.class));
+		}
+	}
+
+	@Test
+	public void testValueInFilter() {
+		List<ValidationTuple> tuples = values(a, a, b, b, vf.createLiteral("1"), vf.createLiteral("1"), c, a);
+
+		assertSameAsFilteringEachTuple(tuples, parent -> new ValueInFilter(parent, Set.of(a, vf.createLiteral("1")),
+				connectionsGroup).getTrueNode(UnBufferedPlanNode.class));
+		assertSameAsFilteringEachTuple(tuples, parent -> new ValueInFilter(parent, Set.of(a, vf.createLiteral("1")),
+				connectionsGroup).getFalseNode(UnBufferedPlanNode.class));
+	}
+
+	private static void assertSameAsFilteringEachTuple(List<ValidationTuple> tuples,
+			Function<PlanNode, PlanNode> filter) {
+		List<ValidationTuple> expected = new ArrayList<>();
+		for (ValidationTuple tuple : tuples) {
+			expected.addAll(toList(filter.apply(new ListNode(List.of(tuple)))));
+		}
+
+		List<ValidationTuple> actual = toList(filter.apply(new ListNode(tuples)));
+
+		assertThat(actual).isEqualTo(expected);
+	}
+
+	private static List<ValidationTuple> targets(Resource... targets) {
+		List<ValidationTuple> tuples = new ArrayList<>();
+		for (int i = 0; i < targets.length; i++) {
+			// the target repeats while the value differs between tuples
+			tuples.add(new ValidationTuple(targets[i], vf.createLiteral(i), ConstraintComponent.Scope.propertyShape,
+					true, CONTEXTS));
+		}
+		return tuples;
+	}
+
+	private static List<ValidationTuple> values(Value... values) {
+		List<ValidationTuple> tuples = new ArrayList<>();
+		for (int i = 0; i < values.length; i++) {
+			// the value repeats while the target differs between tuples
+			tuples.add(new ValidationTuple(vf.createIRI("http://example.com/target" + i), values[i],
+					ConstraintComponent.Scope.propertyShape, true, CONTEXTS));
+		}
+		return tuples;
+	}
+
+	private static List<ValidationTuple> toList(PlanNode planNode) {
+		planNode.receiveLogger(ValidationExecutionLogger.getInstance(false));
+		List<ValidationTuple> tuples = new ArrayList<>();
+		try (CloseableIteration<? extends ValidationTuple> iterator = planNode.iterator()) {
+			iterator.forEachRemaining(tuples::add);
+		}
+		return tuples;
+	}
+
+	private static class ListNode implements PlanNode {
+
+		private final List<ValidationTuple> tuples;
+
+		private ListNode(List<ValidationTuple> tuples) {
+			this.tuples = tuples;
+		}
+
+		@Override
+		public CloseableIteration<? extends ValidationTuple> iterator() {
+			Iterator<ValidationTuple> iterator = tuples.iterator();
+			return new CloseableIteration<>() {
+				@Override
+				public boolean hasNext() {
+					return iterator.hasNext();
+				}
+
+				@Override
+				public ValidationTuple next() {
+					return iterator.next();
+				}
+
+				@Override
+				public void remove() {
+					throw new UnsupportedOperationException();
+				}
+
+				@Override
+				public void close() {
+				}
+			};
+		}
+
+		@Override
+		public int depth() {
+			return 0;
+		}
+
+		@Override
+		public void getPlanAsGraphvizDot(StringBuilder stringBuilder) {
+		}
+
+		@Override
+		public String getId() {
+			return System.identityHashCode(this) + "";
+		}
+
+		@Override
+		public void receiveLogger(ValidationExecutionLogger validationExecutionLogger) {
+		}
+
+		@Override
+		public boolean producesSorted() {
+			return true;
+		}
+
+		@Override
+		public boolean requiresSorted() {
+			return false;
+		}
+	}
+}
@@ -12,8 +12,11 @@ package org.eclipse.rdf4j.sail.shacl.ast.planNodes;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.base.AbstractIRI;
 import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
 import org.eclipse.rdf4j.model.vocabulary.RDF;
 import org.eclipse.rdf4j.sail.shacl.ast.constraintcomponents.ConstraintComponent;
@@ -41,4 +44,66 @@ public class ValidationTupleTest {
 
 	}
 
+	@Test
+	public void testCompareEqualTargetsWithoutLexicalForm() {
+		AtomicInteger lexicalFormReads = new AtomicInteger();
+
+		ValidationTuple left = new ValidationTuple(new StoreIRI(1, lexicalFormReads),
+				ConstraintComponent.Scope.nodeShape, false, CONTEXTS);
+		ValidationTuple right = new ValidationTuple(new StoreIRI(1, lexicalFormReads),
+				ConstraintComponent.Scope.nodeShape, false, CONTEXTS);
+
+		Assertions.assertEquals(0, left.compareActiveTarget(right));
+		Assertions.assertEquals(0, left.compareFullTarget(right));
+		Assertions.assertEquals(0, lexicalFormReads.get());
+
+		ValidationTuple other = new ValidationTuple(new StoreIRI(2, lexicalFormReads),
+				ConstraintComponent.Scope.nodeShape, false, CONTEXTS);
+		Assertions.assertTrue(left.compareActiveTarget(other) < 0);
+	}
+
+	/**
+	 * Mimics the values of a disk based store, which are compared by their internal id and only read their lexical form
+	 * when it is needed.
+	 */
+	private static class StoreIRI extends AbstractIRI {
+
+		private final int id;
+		private final AtomicInteger lexicalFormReads;
+
+		private StoreIRI(int id, AtomicInteger lexicalFormReads) {
+			this.id = id;
+			this.lexicalFormReads = lexicalFormReads;
+		}
+
+		@Override
+		public String stringValue() {
+			lexicalFormReads.incrementAndGet();
+			return "http://example.com/" + id;
+		}
+
+		@Override
+		public String getNamespace() {
+			return "http://example.com/";
+		}
+
+		@Override
+		public String getLocalName() {
+			return String.valueOf(id);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (o instanceof StoreIRI) {
+				return id == ((StoreIRI) o).id;
+			}
+			return o instanceof IRI && stringValue().equals(((IRI) o).stringValue());
+		}
+
+		@Override
+		public int hashCode() {
+			return stringValue().hashCode();
+		}
+	}
+
 }
@@ -67,6 +67,7 @@ public class ShaclSailConfigTest {
 		assertThat(shaclSailConfig.getValidationResultsLimitTotal()).isEqualTo(1000000);
 		assertThat(shaclSailConfig.getValidationResultsLimitPerConstraint()).isEqualTo(1000);
 		assertThat(shaclSailConfig.getTransactionalValidationLimit()).isEqualTo(500000);
+		assertThat(shaclSailConfig.isBulkValidationFallback()).isTrue();
 		assertThat(shaclSailConfig.getShapesGraphs()).isEqualTo(Set.of(RDF4J.SHACL_SHAPE_GRAPH));
 
 	}
@@ -120,6 +121,7 @@ public class ShaclSailConfigTest {
 		mb.add(CONFIG.Shacl.validationResultsLimitTotal, 1000);
 		mb.add(CONFIG.Shacl.validationResultsLimitPerConstraint, 30);
 		mb.add(CONFIG.Shacl.transactionalValidationLimit, 90);
+		mb.add(CONFIG.Shacl.bulkValidationFallback, false);
 
 		mb.add(PARALLEL_VALIDATION, true);
 		mb.add(LOG_VALIDATION_PLANS, true);
@@ -160,6 +162,7 @@ public class ShaclSailConfigTest {
 		assertThat(shaclSailConfig.getValidationResultsLimitTotal()).isEqualTo(1000);
 		assertThat(shaclSailConfig.getValidationResultsLimitPerConstraint()).isEqualTo(30);
 		assertThat(shaclSailConfig.getTransactionalValidationLimit()).isEqualTo(90);
+		assertThat(shaclSailConfig.isBulkValidationFallback()).isFalse();
 		assertThat(shaclSailConfig.getShapesGraphs()).isEqualTo(shapesGraphs);
 
 	}
@@ -226,6 +229,7 @@ public class ShaclSailConfigTest {
 		Assertions.assertTrue(m.contains(node, CONFIG.Shacl.validationResultsLimitPerConstraint, null));
 		Assertions.assertTrue(m.contains(node, CONFIG.Shacl.validationResultsLimitTotal, null));
 		Assertions.assertTrue(m.contains(node, CONFIG.Shacl.transactionalValidationLimit, null));
+		Assertions.assertTrue(m.contains(node, CONFIG.Shacl.bulkValidationFallback, null));
 		Assertions.assertTrue(m.contains(node, CONFIG.Shacl.shapesGraph, null));
 
 	}
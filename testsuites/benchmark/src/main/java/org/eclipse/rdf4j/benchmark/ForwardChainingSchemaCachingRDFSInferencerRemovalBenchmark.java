@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+
+package org.eclipse.rdf4j.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.model.vocabulary.RDFS;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.repository.sail.SailRepositoryConnection;
+import org.eclipse.rdf4j.sail.inferencer.fc.SchemaCachingRDFSInferencer;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of removing a few instance statements from a {@link SchemaCachingRDFSInferencer}, comparing
+ * incremental maintenance of the inferred statements with a full recomputation (incrementalRemovalLimit = 0).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = { "-Xms2G", "-Xmx2G" })
+public class ForwardChainingSchemaCachingRDFSInferencerRemovalBenchmark {
+
+	private static final ValueFactory vf = SimpleValueFactory.getInstance();
+
+	private static final String NS = "http://example.org/";
+
+	private static final int CLASSES = 100;
+
+	private static final int REMOVED = 10;
+
+	@Param({ "0", "" + SchemaCachingRDFSInferencer.DEFAULT_INCREMENTAL_REMOVAL_LIMIT })
+	public int incrementalRemovalLimit;
+
+	@Param({ "10000", "100000" })
+	public int instances;
+
+	private final IRI knows = vf.createIRI(NS, "knows");
+
+	private SailRepository repository;
+
+	private int iteration;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		SchemaCachingRDFSInferencer sail = new SchemaCachingRDFSInferencer(new MemoryStore());
+		sail.setIncrementalRemovalLimit(incrementalRemovalLimit);
+		repository = new SailRepository(sail);
+
+		try (SailRepositoryConnection connection = repository.getConnection()) {
+			connection.begin();
+			IRI person = vf.createIRI(NS, "Person");
+			connection.add(knows, RDFS.DOMAIN, person);
+			connection.add(knows, RDFS.RANGE, person);
+			for (int i = 1; i < CLASSES; i++) {
+				connection.add(clazz(i), RDFS.SUBCLASSOF, clazz(i / 2));
+			}
+			connection.commit();
+
+			connection.begin();
+			for (int i = 0; i < instances; i++) {
+				connection.add(instance(i), RDF.TYPE, clazz(i % CLASSES));
+				connection.add(instance(i), knows, instance((i + 1) % instances));
+				connection.add(instance(i), RDFS.LABEL, vf.createLiteral("instance " + i));
+			}
+			connection.commit();
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		repository.shutDown();
+	}
+
+	@Benchmark
+	public void removeStatements() {
+		int offset = (iteration++ * REMOVED) % instances;
+		try (SailRepositoryConnection connection = repository.getConnection()) {
+			connection.begin();
+			for (int i = offset; i < offset + REMOVED; i++) {
+				connection.remove(instance(i), knows, instance((i + 1) % instances));
+			}
+			connection.commit();
+
+			// restore the removed statements so that every invocation starts from the same state
+			connection.begin();
+			for (int i = offset; i < offset + REMOVED; i++) {
+				connection.add(instance(i), knows, instance((i + 1) % instances));
+			}
+			connection.commit();
+		}
+	}
+
+	private static IRI clazz(int i) {
+		return vf.createIRI(NS, "Class" + i);
+	}
+
+	private static IRI instance(int i) {
+		return vf.createIRI(NS, "instance" + i);
+	}
+
+}
@@ -16,11 +16,17 @@ import org.eclipse.rdf4j.collection.factory.api.CollectionFactory;
 import org.eclipse.rdf4j.federated.cache.SourceSelectionCache;
 import org.eclipse.rdf4j.federated.cache.SourceSelectionCacheFactory;
 import org.eclipse.rdf4j.federated.cache.SourceSelectionMemoryCache;
+import org.eclipse.rdf4j.federated.cache.SubqueryResultCache;
 import org.eclipse.rdf4j.federated.evaluation.concurrent.ControlledWorkerScheduler;
+import org.eclipse.rdf4j.federated.evaluation.concurrent.SchedulerFactory;
 import org.eclipse.rdf4j.federated.evaluation.concurrent.TaskWrapper;
+import org.eclipse.rdf4j.federated.evaluation.concurrent.VirtualThreadSchedulerFactory;
 import org.eclipse.rdf4j.federated.evaluation.iterator.ConsumingIteration;
+import org.eclipse.rdf4j.federated.evaluation.join.BindJoinBlockSizeTuner;
+import org.eclipse.rdf4j.federated.evaluation.join.SymmetricHashJoin;
 import org.eclipse.rdf4j.federated.monitoring.QueryLog;
 import org.eclipse.rdf4j.federated.monitoring.QueryPlanLog;
+import org.eclipse.rdf4j.federated.summary.FederationSummary;
 import org.eclipse.rdf4j.query.Operation;
 import org.eclipse.rdf4j.query.Query;
 
@@ -43,6 +49,14 @@ public class FedXConfig {
 
 	private int boundJoinBlockSize = 25;
 
+	private boolean enableAdaptiveBoundJoinBlockSize = false;
+
+	private int boundJoinMaxBlockSize = 200;
+
+	private int boundJoinTargetLatency = 1000;
+
+	private boolean enableSymmetricHashJoin = false;
+
 	private int enforceMaxQueryTime = 30;
 
 	private boolean enableServiceAsBoundJoin = true;
@@ -69,6 +83,22 @@ public class FedXConfig {
 
 	private int consumingIterationMax = 1000;
 
+	private boolean enableFederationSummary = false;
+
+	private int federationSummaryRefreshInterval = 86400;
+
+	private boolean enableFederationSummaryStatisticsQueries = false;
+
+	private boolean enableSubqueryResultCache = false;
+
+	private String subqueryResultCacheSpec = null;
+
+	private boolean enableVirtualThreadScheduler = false;
+
+	private int maxConcurrentRequestsPerEndpoint = 0;
+
+	private boolean enableFairScheduling = true;
+
 	/* factory like setters */
 
 	/**
@@ -157,6 +187,69 @@ public class FedXConfig {
 		return this;
 	}
 
+	/**
+	 * Set whether the bound join block size is adapted per endpoint at runtime. See
+	 * {@link #isEnableAdaptiveBoundJoinBlockSize()}.
+	 *
+	 * <p>
+	 * Can only be set before federation initialization.
+	 * </p>
+	 *
+	 * @param flag
+	 * @return the current config
+	 */
+	public FedXConfig withEnableAdaptiveBoundJoinBlockSize(boolean flag) {
+		this.enableAdaptiveBoundJoinBlockSize = flag;
+		return this;
+	}
+
+	/**
+	 * Set the maximum bound join block size for adaptive block sizes. See {@link #getBoundJoinMaxBlockSize()}.
+	 *
+	 * <p>
+	 * Can only be set before federation initialization.
+	 * </p>
+	 *
+	 * @param boundJoinMaxBlockSize
+	 * @return the current config
+	 */
+	public FedXConfig withBoundJoinMaxBlockSize(int boundJoinMaxBlockSize) {
+		this.boundJoinMaxBlockSize = boundJoinMaxBlockSize;
+		return this;
+	}
+
+	/**
+	 * Set the target latency (in milliseconds) for adaptive bound join block sizes. See
+	 * {@link #getBoundJoinTargetLatency()}.
+	 *
+	 * <p>
+	 * Can only be set before federation initialization.
+	 * </p>
+	 *
+	 * @param boundJoinTargetLatency
+	 * @return the current config
+	 */
+	public FedXConfig withBoundJoinTargetLatency(int boundJoinTargetLatency) {
+		this.boundJoinTargetLatency = boundJoinTargetLatency;
+		return this;
+	}
+
+	/**
+	 * Set whether joins which cannot be executed as bind join are executed as symmetric hash join. See
+	 * {@link #isEnableSymmetricHashJoin()}.
+	 *
+	 * <p>
+	 * Can be set after federation construction and initialize.
+	 * </p>
+	 *
+	 * @param flag
+	 * @return the current config
+	 */
+	public FedXConfig withEnableSymmetricHashJoin(boolean flag) {
+		this.enableSymmetricHashJoin = flag;
+		return this;
+	}
+
 	/**
 	 * Set the number of join worker threads. See {@link #getJoinWorkerThreads()}.
 	 *
@@ -280,6 +373,130 @@ public class FedXConfig {
 		return this;
 	}
 
+	/**
+	 * Set whether source selection and join ordering shall use statistics about the federation members. See
+	 * {@link #isEnableFederationSummary()}.
+	 *
+	 * <p>
+	 * Can only be set before federation initialization.
+	 * </p>
+	 *
+	 * @param flag
+	 * @return the current config
+	 */
+	public FedXConfig withEnableFederationSummary(boolean flag) {
+		this.enableFederationSummary = flag;
+		return this;
+	}
+
+	/**
+	 * Set the interval (in seconds) after which the statistics of a federation member are harvested again. See
+	 * {@link #getFederationSummaryRefreshInterval()}.
+	 *
+	 * <p>
+	 * Can only be set before federation initialization.
+	 * </p>
+	 *
+	 * @param seconds the refresh interval in seconds, 0 to never refresh existing statistics
+	 * @return the current config
+	 */
+	public FedXConfig withFederationSummaryRefreshInterval(int seconds) {
+		this.federationSummaryRefreshInterval = seconds;
+		return this;
+	}
+
+	/**
+	 * Set whether statistics of federation members without a VoID description are computed with aggregate queries.
+	 * See {@link #isEnableFederationSummaryStatisticsQueries()}.
+	 *
+	 * <p>
+	 * Can only be set before federation initialization.
+	 * </p>
+	 *
+	 * @param flag
+	 * @return the current config
+	 */
+	public FedXConfig withEnableFederationSummaryStatisticsQueries(boolean flag) {
+		this.enableFederationSummaryStatisticsQueries = flag;
+		return this;
+	}
+
+	/**
+	 * Set whether results of remote subqueries shall be cached. See {@link #isEnableSubqueryResultCache()}.
+	 *
+	 * <p>
+	 * Can only be set before federation initialization.
+	 * </p>
+	 *
+	 * @param flag
+	 * @return the current config
+	 */
+	public FedXConfig withEnableSubqueryResultCache(boolean flag) {
+		this.enableSubqueryResultCache = flag;
+		return this;
+	}
+
+	/**
+	 * The cache specification for the {@link SubqueryResultCache}. If not set explicitly, the
+	 * {@link SubqueryResultCache#DEFAULT_CACHE_SPEC} is used.
+	 *
+	 * <p>
+	 * Can only be set before federation initialization.
+	 * </p>
+	 *
+	 * @param cacheSpec the {@link CacheBuilderSpec} for the {@link SubqueryResultCache}
+	 * @return the current config
+	 */
+	public FedXConfig withSubqueryResultCacheSpec(String cacheSpec) {
+		this.subqueryResultCacheSpec = cacheSpec;
+		return this;
+	}
+
+	/**
+	 * Set whether tasks are executed in virtual threads. See {@link #isEnableVirtualThreadScheduler()}.
+	 *
+	 * <p>
+	 * Can only be set before federation initialization.
+	 * </p>
+	 *
+	 * @param flag
+	 * @return the current config
+	 */
+	public FedXConfig withEnableVirtualThreadScheduler(boolean flag) {
+		this.enableVirtualThreadScheduler = flag;
+		return this;
+	}
+
+	/**
+	 * Set the maximum number of concurrent requests per endpoint. See {@link #getMaxConcurrentRequestsPerEndpoint()}.
+	 *
+	 * <p>
+	 * Can only be set before federation initialization.
+	 * </p>
+	 *
+	 * @param maxConcurrentRequestsPerEndpoint the maximum number of requests, 0 for no limit
+	 * @return the current config
+	 */
+	public FedXConfig withMaxConcurrentRequestsPerEndpoint(int maxConcurrentRequestsPerEndpoint) {
+		this.maxConcurrentRequestsPerEndpoint = maxConcurrentRequestsPerEndpoint;
+		return this;
+	}
+
+	/**
+	 * Set whether endpoints are shared fairly among queries. See {@link #isEnableFairScheduling()}.
+	 *
+	 * <p>
+	 * Can only be set before federation initialization.
+	 * </p>
+	 *
+	 * @param flag
+	 * @return the current config
+	 */
+	public FedXConfig withEnableFairScheduling(boolean flag) {
+		this.enableFairScheduling = flag;
+		return this;
+	}
+
 	/**
 	 * Sets a {@link TaskWrapper} which may be used for wrapping any background {@link Runnable}s. If no such wrapper is
 	 * explicitly configured, the unmodified task is returned. See {@link TaskWrapper} for more information.
@@ -333,6 +550,55 @@ public class FedXConfig {
 		return boundJoinBlockSize;
 	}
 
+	/**
+	 * Whether the bound join block size is adapted per endpoint at runtime, starting from
+	 * {@link #getBoundJoinBlockSize()}. Endpoints which respond fast get larger blocks (i.e. fewer requests), while the
+	 * block size is reduced for slow endpoints and for blocks with many results. Default is false.
+	 *
+	 * @return whether adaptive bound join block sizes are enabled
+	 * @see BindJoinBlockSizeTuner
+	 */
+	public boolean isEnableAdaptiveBoundJoinBlockSize() {
+		return enableAdaptiveBoundJoinBlockSize;
+	}
+
+	/**
+	 * The maximum block size for a bound join if adaptive block sizes are enabled. Default is 200.
+	 *
+	 * @return the maximum bound join block size
+	 * @see #isEnableAdaptiveBoundJoinBlockSize()
+	 */
+	public int getBoundJoinMaxBlockSize() {
+		return boundJoinMaxBlockSize;
+	}
+
+	/**
+	 * The latency (in milliseconds) of a bound join request that adaptive block sizes aim for: blocks with a higher
+	 * latency result in smaller blocks, blocks with less than half of this latency result in larger blocks. Default is
+	 * 1000.
+	 *
+	 * @return the target latency in milliseconds
+	 * @see #isEnableAdaptiveBoundJoinBlockSize()
+	 */
+	public int getBoundJoinTargetLatency() {
+		return boundJoinTargetLatency;
+	}
+
+	/**
+	 * Whether joins which cannot be executed as bind join are executed as {@link SymmetricHashJoin}, i.e. both join
+	 * arguments are evaluated concurrently and results are produced as soon as matching bindings arrive from either
+	 * side. If disabled, such joins are executed as nested loop join. Default is false.
+	 *
+	 * <p>
+	 * Note that the symmetric hash join keeps the bindings of both arguments in memory.
+	 * </p>
+	 *
+	 * @return whether the symmetric hash join is enabled
+	 */
+	public boolean isEnableSymmetricHashJoin() {
+		return enableSymmetricHashJoin;
+	}
+
 	/**
 	 * Returns a flag indicating whether vectored evaluation using the VALUES clause shall be applied for SERVICE
 	 * expressions.
@@ -497,6 +763,99 @@ public class FedXConfig {
 		return consumingIterationMax;
 	}
 
+	/**
+	 * Whether source selection and join ordering use statistics (VoID property and class partitions) about the
+	 * federation members. If enabled, the statistics are harvested in the background and persisted in the data
+	 * directory of the federation. Sources which cannot contribute to a statement pattern according to the statistics
+	 * are pruned without a remote request. Default is false.
+	 *
+	 * @return whether federation summaries are enabled
+	 * @see FederationSummary
+	 */
+	public boolean isEnableFederationSummary() {
+		return enableFederationSummary;
+	}
+
+	/**
+	 * The interval (in seconds) after which the statistics of a federation member are considered stale and harvested
+	 * again. A value of 0 means that statistics are only harvested for members without any statistics. Default is
+	 * 86400 (one day).
+	 *
+	 * @return the refresh interval in seconds
+	 */
+	public int getFederationSummaryRefreshInterval() {
+		return federationSummaryRefreshInterval;
+	}
+
+	/**
+	 * Whether the statistics of federation members which do not publish a VoID description are computed with
+	 * aggregate (<code>GROUP BY</code>) queries over their data. These queries scan all data of a member and are
+	 * evaluated with {@link #getEnforceMaxQueryTime()} as maximum execution time. Only statistics computed this way
+	 * are complete, i.e. can be used to prune members. Default is false.
+	 *
+	 * @return whether statistics queries are enabled
+	 * @see org.eclipse.rdf4j.federated.summary.VoidSummaryHarvester
+	 */
+	public boolean isEnableFederationSummaryStatisticsQueries() {
+		return enableFederationSummaryStatisticsQueries;
+	}
+
+	/**
+	 * Whether the results of subqueries sent to remote federation members are cached. If enabled, repeated subqueries
+	 * are answered from the {@link SubqueryResultCache} without a remote request until the entry expires or is
+	 * invalidated, e.g. by a write operation through the federation. Default is false.
+	 *
+	 * @return whether the subquery result cache is enabled
+	 * @see FederationManager#invalidateSubqueryResultCache()
+	 */
+	public boolean isEnableSubqueryResultCache() {
+		return enableSubqueryResultCache;
+	}
+
+	/**
+	 * Returns the configured {@link CacheBuilderSpec} (if any) for the {@link SubqueryResultCache}. If not defined, the
+	 * {@link SubqueryResultCache#DEFAULT_CACHE_SPEC} is used.
+	 *
+	 * @return the {@link CacheBuilderSpec} or <code>null</code>
+	 */
+	public String getSubqueryResultCacheSpec() {
+		return subqueryResultCacheSpec;
+	}
+
+	/**
+	 * Whether tasks of joins and unions are executed in virtual threads using the {@link VirtualThreadSchedulerFactory}
+	 * instead of fixed thread pools. If enabled, the number of worker threads (e.g. {@link #getJoinWorkerThreads()})
+	 * defines the maximum number of concurrent tasks per query. This setting has no effect if a custom
+	 * {@link SchedulerFactory} is set on the federation. Default is false.
+	 *
+	 * @return whether the virtual thread scheduler is enabled
+	 */
+	public boolean isEnableVirtualThreadScheduler() {
+		return enableVirtualThreadScheduler;
+	}
+
+	/**
+	 * The maximum number of concurrent requests sent to a single endpoint by the {@link VirtualThreadSchedulerFactory}
+	 * schedulers, shared among all queries. A value of 0 means that the number is not limited. Default is 0.
+	 *
+	 * @return the maximum number of concurrent requests per endpoint
+	 */
+	public int getMaxConcurrentRequestsPerEndpoint() {
+		return maxConcurrentRequestsPerEndpoint;
+	}
+
+	/**
+	 * Whether the concurrent requests to an endpoint (see {@link #getMaxConcurrentRequestsPerEndpoint()}) are shared
+	 * fairly among queries by the {@link VirtualThreadSchedulerFactory} schedulers. If enabled, a free request slot of
+	 * an endpoint is granted to the queries waiting for it in round-robin order, such that a query with many waiting
+	 * tasks cannot starve other queries. Otherwise waiting tasks are granted a slot in FIFO order. Default is true.
+	 *
+	 * @return whether fair scheduling is enabled
+	 */
+	public boolean isEnableFairScheduling() {
+		return enableFairScheduling;
+	}
+
 	/**
 	 * Set the CollectionFactory to be used by the federation
 	 *
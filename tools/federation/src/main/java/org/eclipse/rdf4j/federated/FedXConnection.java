@@ -192,6 +192,7 @@ public class FedXConnection extends AbstractSailConnection {
 	protected void clearInternal(Resource... contexts) throws SailException {
 		try {
 			getWriteStrategyInternal().clear(contexts);
+			federationContext.getManager().invalidateSubqueryResultCache();
 		} catch (RepositoryException e) {
 			throw new SailException(e);
 		}
@@ -228,6 +229,7 @@ public class FedXConnection extends AbstractSailConnection {
 	protected void commitInternal() throws SailException {
 		try {
 			getWriteStrategyInternal().commit();
+			federationContext.getManager().invalidateSubqueryResultCache();
 		} catch (RepositoryException e) {
 			throw new SailException(e);
 		}
@@ -10,11 +10,18 @@
  *******************************************************************************/
 package org.eclipse.rdf4j.federated;
 
+import java.util.Optional;
+
 import org.eclipse.rdf4j.federated.cache.SourceSelectionCache;
 import org.eclipse.rdf4j.federated.cache.SourceSelectionMemoryCache;
+import org.eclipse.rdf4j.federated.cache.SubqueryResultCache;
 import org.eclipse.rdf4j.federated.evaluation.DelegateFederatedServiceResolver;
 import org.eclipse.rdf4j.federated.evaluation.FederationEvalStrategy;
+import org.eclipse.rdf4j.federated.evaluation.join.BindJoinBlockSizeTuner;
 import org.eclipse.rdf4j.federated.monitoring.Monitoring;
+import org.eclipse.rdf4j.federated.summary.FederationSummary;
+import org.eclipse.rdf4j.federated.summary.SummarySourceSelectionCache;
+import org.eclipse.rdf4j.federated.summary.VoidSummaryHarvester;
 import org.eclipse.rdf4j.query.Dataset;
 import org.eclipse.rdf4j.query.algebra.evaluation.TripleSource;
 import org.eclipse.rdf4j.query.algebra.evaluation.impl.EvaluationStatistics;
@@ -41,6 +48,12 @@ public class FederationContext {
 
 	private final SourceSelectionCache sourceSelectionCache;
 
+	private final FederationSummary federationSummary;
+
+	private final BindJoinBlockSizeTuner bindJoinBlockSizeTuner;
+
+	private final SubqueryResultCache subqueryResultCache;
+
 	public FederationContext(FederationManager manager, EndpointManager endpointManager, QueryManager queryManager,
 			DelegateFederatedServiceResolver federatedServiceResolver,
 			Monitoring monitoring, FedXConfig fedXConfig) {
@@ -51,7 +64,12 @@ public class FederationContext {
 		this.serviceResolver = federatedServiceResolver;
 		this.monitoring = monitoring;
 		this.fedXConfig = fedXConfig;
+		this.federationSummary = createFederationSummary();
 		this.sourceSelectionCache = createSourceSelectionCache();
+		this.bindJoinBlockSizeTuner = new BindJoinBlockSizeTuner(fedXConfig);
+		this.subqueryResultCache = fedXConfig.isEnableSubqueryResultCache()
+				? new SubqueryResultCache(fedXConfig.getSubqueryResultCacheSpec())
+				: null;
 	}
 
 	public FedX getFederation() {
@@ -86,6 +104,32 @@ public class FederationContext {
 		return this.sourceSelectionCache;
 	}
 
+	/**
+	 *
+	 * @return the {@link FederationSummary}, an empty {@link Optional} if summaries are not enabled
+	 * @see FedXConfig#isEnableFederationSummary()
+	 */
+	public Optional<FederationSummary> getFederationSummary() {
+		return Optional.ofNullable(this.federationSummary);
+	}
+
+	/**
+	 *
+	 * @return the {@link BindJoinBlockSizeTuner} which determines the block sizes of bind joins
+	 */
+	public BindJoinBlockSizeTuner getBindJoinBlockSizeTuner() {
+		return this.bindJoinBlockSizeTuner;
+	}
+
+	/**
+	 *
+	 * @return the {@link SubqueryResultCache}, an empty {@link Optional} if the cache is not enabled
+	 * @see FedXConfig#isEnableSubqueryResultCache()
+	 */
+	public Optional<SubqueryResultCache> getSubqueryResultCache() {
+		return Optional.ofNullable(this.subqueryResultCache);
+	}
+
 	/**
 	 * Create a fresh {@link FederationEvalStrategy} using information from this federation context.
 	 */
@@ -102,13 +146,29 @@ public class FederationContext {
 	 * @return the {@link SourceSelectionCache}
 	 * @see FedXConfig#getSourceSelectionCacheSpec()
 	 * @see FedXConfig#getSourceSelectionCacheFactory()
+	 * @see FedXConfig#isEnableFederationSummary()
 	 */
 	private SourceSelectionCache createSourceSelectionCache() {
+		SourceSelectionCache cache;
 		var factory = getConfig().getSourceSelectionCacheFactory();
 		if (factory != null) {
-			return factory.create();
+			cache = factory.create();
+		} else {
+			String cacheSpec = getConfig().getSourceSelectionCacheSpec();
+			cache = new SourceSelectionMemoryCache(cacheSpec);
+		}
+		if (federationSummary != null) {
+			cache = new SummarySourceSelectionCache(cache, federationSummary);
+		}
+		return cache;
+	}
+
+	private FederationSummary createFederationSummary() {
+		if (!getConfig().isEnableFederationSummary()) {
+			return null;
 		}
-		String cacheSpec = getConfig().getSourceSelectionCacheSpec();
-		return new SourceSelectionMemoryCache(cacheSpec);
+		VoidSummaryHarvester harvester = new VoidSummaryHarvester(
+				getConfig().isEnableFederationSummaryStatisticsQueries(), getConfig().getEnforceMaxQueryTime());
+		return new FederationSummary(harvester, getConfig().getFederationSummaryRefreshInterval());
 	}
 }
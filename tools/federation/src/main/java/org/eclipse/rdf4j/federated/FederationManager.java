@@ -18,16 +18,19 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
+import org.eclipse.rdf4j.federated.cache.SubqueryResultCache;
 import org.eclipse.rdf4j.federated.endpoint.Endpoint;
 import org.eclipse.rdf4j.federated.endpoint.EndpointClassification;
 import org.eclipse.rdf4j.federated.evaluation.FederationEvaluationStrategyFactory;
 import org.eclipse.rdf4j.federated.evaluation.SailFederationEvalStrategy;
 import org.eclipse.rdf4j.federated.evaluation.SparqlFederationEvalStrategy;
 import org.eclipse.rdf4j.federated.evaluation.concurrent.ControlledWorkerScheduler;
+import org.eclipse.rdf4j.federated.evaluation.concurrent.DefaultSchedulerFactory;
 import org.eclipse.rdf4j.federated.evaluation.concurrent.NamingThreadFactory;
 import org.eclipse.rdf4j.federated.evaluation.concurrent.Scheduler;
 import org.eclipse.rdf4j.federated.evaluation.concurrent.SchedulerFactory;
 import org.eclipse.rdf4j.federated.evaluation.concurrent.TaskWrapper;
+import org.eclipse.rdf4j.federated.evaluation.concurrent.VirtualThreadSchedulerFactory;
 import org.eclipse.rdf4j.federated.evaluation.union.ControlledWorkerUnion;
 import org.eclipse.rdf4j.federated.evaluation.union.SynchronousWorkerUnion;
 import org.eclipse.rdf4j.federated.evaluation.union.WorkerUnionBase;
@@ -120,6 +123,10 @@ public class FederationManager {
 		}
 
 		SchedulerFactory schedulerFactory = federation.getSchedulerFactory();
+		if (schedulerFactory == DefaultSchedulerFactory.INSTANCE
+				&& federationContext.getConfig().isEnableVirtualThreadScheduler()) {
+			schedulerFactory = new VirtualThreadSchedulerFactory();
+		}
 
 		Optional<TaskWrapper> taskWrapper = federationContext.getConfig().getTaskWrapper();
 		if (joinScheduler != null) {
@@ -204,6 +211,7 @@ public class FederationManager {
 
 		federation.addMember(e);
 		federationContext.getEndpointManager().addEndpoint(e);
+		federationContext.getFederationSummary().ifPresent(summary -> summary.scheduleHarvest(e));
 
 		if (updateStrategy == null || updateStrategy.length == 0
 				|| (updateStrategy.length == 1 && updateStrategy[0])) {
@@ -242,6 +250,8 @@ public class FederationManager {
 
 		federation.removeMember(e);
 		federationContext.getEndpointManager().removeEndpoint(e);
+		federationContext.getFederationSummary().ifPresent(summary -> summary.remove(e.getId()));
+		federationContext.getSubqueryResultCache().ifPresent(cache -> cache.invalidate(e.getId()));
 
 		if (updateStrategy == null || updateStrategy.length == 0
 				|| (updateStrategy.length == 1 && updateStrategy[0])) {
@@ -265,6 +275,27 @@ public class FederationManager {
 		updateFederationType();
 	}
 
+	/**
+	 * Invalidate all cached subquery results, e.g. after the data of federation members has been changed externally.
+	 * This is a no-op if the {@link SubqueryResultCache} is not enabled.
+	 *
+	 * @see FedXConfig#isEnableSubqueryResultCache()
+	 */
+	public void invalidateSubqueryResultCache() {
+		federationContext.getSubqueryResultCache().ifPresent(SubqueryResultCache::invalidate);
+	}
+
+	/**
+	 * Invalidate the cached subquery results of the given endpoint, e.g. after its data has been changed externally.
+	 * This is a no-op if the {@link SubqueryResultCache} is not enabled.
+	 *
+	 * @param e the endpoint
+	 * @see FedXConfig#isEnableSubqueryResultCache()
+	 */
+	public void invalidateSubqueryResultCache(Endpoint e) {
+		federationContext.getSubqueryResultCache().ifPresent(cache -> cache.invalidate(e.getId()));
+	}
+
 	/**
 	 * Shutdown the federation including the following operations:
 	 * <p>
@@ -0,0 +1,287 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.federated.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.eclipse.rdf4j.common.iteration.AbstractCloseableIteration;
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.federated.endpoint.Endpoint;
+import org.eclipse.rdf4j.federated.util.QueryStringUtil;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.query.BindingSet;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheBuilderSpec;
+import com.google.common.cache.CacheStats;
+
+/**
+ * An in memory cache for the results of subqueries sent to remote federation members, e.g. the queries produced by
+ * {@link QueryStringUtil#selectQueryString}. Entries are keyed by the endpoint and the rendered subquery, such that
+ * repeated federated queries can be answered from the cache without any remote request.
+ *
+ * <p>
+ * Results are only cached once they have been consumed completely, i.e. results of aborted or partially consumed
+ * subqueries are never cached. Subqueries with non-deterministic functions (e.g. <code>RAND()</code> or
+ * <code>NOW()</code>) are not cached at all.
+ * </p>
+ *
+ * <p>
+ * The cache is bounded according to a Guava compatible {@link CacheBuilderSpec}. If the specification defines a
+ * <code>maximumWeight</code>, the weight of an entry is its number of binding sets. Single results with more than
+ * {@link #getMaxEntrySize()} binding sets are not cached.
+ * </p>
+ *
+ * <p>
+ * The subquery of a bind join block depends on the order of its bindings, which is the order in which the intermediate
+ * results arrived. To obtain the same subquery for the same block, the bindings of a block are rendered in
+ * {@link #inCanonicalOrder(List) canonical order} if the cache is enabled.
+ * </p>
+ *
+ * <p>
+ * Entries can be invalidated per endpoint or as a whole, see
+ * {@link org.eclipse.rdf4j.federated.FederationManager#invalidateSubqueryResultCache()}.
+ * </p>
+ *
+ * @see org.eclipse.rdf4j.federated.FedXConfig#isEnableSubqueryResultCache()
+ */
+public class SubqueryResultCache {
+
+	public static final String DEFAULT_CACHE_SPEC = "maximumWeight=100000,expireAfterWrite=5m";
+
+	private static final String[] NON_DETERMINISTIC_FUNCTIONS = { "RAND(", "NOW(", "UUID(", "STRUUID(", "BNODE(" };
+
+	private final Cache<Key, List<BindingSet>> cache;
+
+	private final long maxEntrySize;
+
+	public SubqueryResultCache() {
+		this(DEFAULT_CACHE_SPEC);
+	}
+
+	/**
+	 *
+	 * @param cacheSpec a Guava compatible {@link CacheBuilderSpec}, if <code>null</code> the
+	 *                  {@link #DEFAULT_CACHE_SPEC} is used
+	 */
+	public SubqueryResultCache(String cacheSpec) {
+		cacheSpec = cacheSpec == null ? DEFAULT_CACHE_SPEC : cacheSpec;
+		CacheBuilder<Object, Object> builder = CacheBuilder.from(CacheBuilderSpec.parse(cacheSpec)).recordStats();
+		long maxWeight = parseMaximumWeight(cacheSpec);
+		if (maxWeight >= 0) {
+			this.cache = builder.<Key, List<BindingSet>>weigher((key, value) -> value.size()).build();
+			// a single entry may use at most a tenth of the cache
+			this.maxEntrySize = Math.max(1, maxWeight / 10);
+		} else {
+			this.cache = builder.build();
+			this.maxEntrySize = 10000;
+		}
+	}
+
+	/**
+	 *
+	 * @param endpoint        the endpoint
+	 * @param query           the rendered subquery
+	 * @param includeInferred whether inferred statements are included
+	 * @return the cached result, <code>null</code> if no result is cached
+	 */
+	public List<BindingSet> get(Endpoint endpoint, String query, boolean includeInferred) {
+		return cache.getIfPresent(new Key(endpoint.getId(), query, includeInferred));
+	}
+
+	/**
+	 * Wrap the remote result of a subquery such that it is put into the cache once it has been consumed completely.
+	 * Subqueries which cannot be cached are returned as is.
+	 *
+	 * @param endpoint        the endpoint
+	 * @param query           the rendered subquery
+	 * @param includeInferred whether inferred statements are included
+	 * @param result          the remote result
+	 * @return the (wrapped) result
+	 */
+	public CloseableIteration<BindingSet> cache(Endpoint endpoint, String query, boolean includeInferred,
+			CloseableIteration<BindingSet> result) {
+		if (!isCacheable(query)) {
+			return result;
+		}
+		return new CachingIteration(new Key(endpoint.getId(), query, includeInferred), result);
+	}
+
+	/**
+	 * Invalidate all cached results of the given endpoint.
+	 *
+	 * @param endpointId
+	 */
+	public void invalidate(String endpointId) {
+		cache.asMap().keySet().removeIf(key -> key.endpointId.equals(endpointId));
+	}
+
+	/**
+	 * Invalidate all cached results.
+	 */
+	public void invalidate() {
+		cache.invalidateAll();
+	}
+
+	/**
+	 *
+	 * @return the maximum number of binding sets of a single cached result
+	 */
+	public long getMaxEntrySize() {
+		return maxEntrySize;
+	}
+
+	/**
+	 *
+	 * @return the approximate number of cached results
+	 */
+	public long size() {
+		return cache.size();
+	}
+
+	/**
+	 *
+	 * @return the hit and miss statistics of this cache
+	 */
+	public CacheStats getStats() {
+		return cache.stats();
+	}
+
+	/**
+	 *
+	 * @param query
+	 * @return whether the result of the given subquery may be cached
+	 */
+	protected boolean isCacheable(String query) {
+		String upper = query.toUpperCase(Locale.ROOT);
+		for (String function : NON_DETERMINISTIC_FUNCTIONS) {
+			if (upper.contains(function)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Sorts the given bindings, e.g. the bindings of a bind join block, into an order that does not depend on their
+	 * current order, such that the same bindings are always rendered as the same subquery.
+	 *
+	 * @param bindings
+	 * @return a new list with the given bindings in canonical order
+	 */
+	public static List<BindingSet> inCanonicalOrder(List<BindingSet> bindings) {
+		List<Map.Entry<String, BindingSet>> keyed = new ArrayList<>(bindings.size());
+		for (BindingSet bs : bindings) {
+			keyed.add(Map.entry(canonicalKey(bs), bs));
+		}
+		keyed.sort(Map.Entry.comparingByKey());
+		List<BindingSet> res = new ArrayList<>(keyed.size());
+		for (Map.Entry<String, BindingSet> entry : keyed) {
+			res.add(entry.getValue());
+		}
+		return res;
+	}
+
+	private static String canonicalKey(BindingSet bs) {
+		List<String> names = new ArrayList<>(bs.getBindingNames());
+		Collections.sort(names);
+		StringBuilder sb = new StringBuilder();
+		for (String name : names) {
+			Value value = bs.getValue(name);
+			if (value != null) {
+				sb.append(name).append('=').append(value).append(' ');
+			}
+		}
+		return sb.toString();
+	}
+
+	private static long parseMaximumWeight(String cacheSpec) {
+		for (String part : cacheSpec.split(",")) {
+			String[] keyValue = part.trim().split("=");
+			if (keyValue.length == 2 && keyValue[0].trim().equals("maximumWeight")) {
+				return Long.parseLong(keyValue[1].trim());
+			}
+		}
+		return -1;
+	}
+
+	private record Key(String endpointId, String query, boolean includeInferred) {
+	}
+
+	/**
+	 * Iteration which records the binding sets of the wrapped result and puts them into the cache after the result
+	 * was consumed completely.
+	 */
+	private class CachingIteration extends AbstractCloseableIteration<BindingSet> {
+
+		private final Key key;
+
+		private final CloseableIteration<BindingSet> delegate;
+
+		private List<BindingSet> buffer = new ArrayList<>();
+
+		private boolean exhausted = false;
+
+		CachingIteration(Key key, CloseableIteration<BindingSet> delegate) {
+			this.key = key;
+			this.delegate = delegate;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (isClosed()) {
+				return false;
+			}
+			boolean res = delegate.hasNext();
+			if (!res) {
+				exhausted = true;
+				close();
+			}
+			return res;
+		}
+
+		@Override
+		public BindingSet next() {
+			BindingSet next = delegate.next();
+			if (buffer != null) {
+				if (buffer.size() < maxEntrySize) {
+					buffer.add(next);
+				} else {
+					// too large to be cached
+					buffer = null;
+				}
+			}
+			return next;
+		}
+
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		protected void handleClose() {
+			try {
+				delegate.close();
+			} finally {
+				if (exhausted && buffer != null) {
+					cache.put(key, List.copyOf(buffer));
+				}
+				buffer = null;
+			}
+		}
+	}
+}
@@ -51,6 +51,7 @@ import org.eclipse.rdf4j.federated.algebra.StatementSourcePattern;
 import org.eclipse.rdf4j.federated.algebra.StatementTupleExpr;
 import org.eclipse.rdf4j.federated.cache.CacheUtils;
 import org.eclipse.rdf4j.federated.cache.SourceSelectionCache;
+import org.eclipse.rdf4j.federated.cache.SubqueryResultCache;
 import org.eclipse.rdf4j.federated.endpoint.Endpoint;
 import org.eclipse.rdf4j.federated.evaluation.concurrent.ControlledWorkerScheduler;
 import org.eclipse.rdf4j.federated.evaluation.concurrent.ParallelServiceExecutor;
@@ -61,6 +62,7 @@ import org.eclipse.rdf4j.federated.evaluation.iterator.FilteringIteration;
 import org.eclipse.rdf4j.federated.evaluation.iterator.SingleBindingSetIteration;
 import org.eclipse.rdf4j.federated.evaluation.join.ControlledWorkerBindJoin;
 import org.eclipse.rdf4j.federated.evaluation.join.ControlledWorkerJoin;
+import org.eclipse.rdf4j.federated.evaluation.join.SymmetricHashJoin;
 import org.eclipse.rdf4j.federated.evaluation.union.ControlledWorkerUnion;
 import org.eclipse.rdf4j.federated.evaluation.union.ParallelGetStatementsTask;
 import org.eclipse.rdf4j.federated.evaluation.union.ParallelPreparedAlgebraUnionTask;
@@ -73,6 +75,7 @@ import org.eclipse.rdf4j.federated.exception.FedXRuntimeException;
 import org.eclipse.rdf4j.federated.exception.IllegalQueryException;
 import org.eclipse.rdf4j.federated.optimizer.DefaultFedXCostModel;
 import org.eclipse.rdf4j.federated.optimizer.ExclusiveTupleExprOptimizer;
+import org.eclipse.rdf4j.federated.optimizer.FedXCostModel;
 import org.eclipse.rdf4j.federated.optimizer.FilterOptimizer;
 import org.eclipse.rdf4j.federated.optimizer.GenericInfoOptimizer;
 import org.eclipse.rdf4j.federated.optimizer.LimitOptimizer;
@@ -407,7 +410,10 @@ public abstract class FederationEvalStrategy extends StrictEvaluationStrategy {
 
 	protected void optimizeJoinOrder(TupleExpr query, QueryInfo queryInfo, GenericInfoOptimizer info) {
 		// optimize statement groups and join order
-		new StatementGroupAndJoinOptimizer(queryInfo, DefaultFedXCostModel.INSTANCE).optimize(query);
+		FedXCostModel costModel = federationContext.getFederationSummary()
+				.<FedXCostModel>map(DefaultFedXCostModel::new)
+				.orElse(DefaultFedXCostModel.INSTANCE);
+		new StatementGroupAndJoinOptimizer(queryInfo, costModel).optimize(query);
 	}
 
 	/**
@@ -889,10 +895,12 @@ public abstract class FederationEvalStrategy extends StrictEvaluationStrategy {
 	 * <ul>
 	 * <li>{@link ControlledWorkerJoin}</li>
 	 * <li>{@link ControlledWorkerBindJoin}</li>
+	 * <li>{@link SymmetricHashJoin}</li>
 	 * </ul>
 	 *
 	 * For endpoint federation use controlled worker bound join, for local federation use controlled worker join. The
-	 * other operators are there for completeness.
+	 * other operators are there for completeness. Joins which are not executed as bind join may be executed as
+	 * symmetric hash join, see {@link #isSymmetricHashJoinApplicable(TupleExpr, Set, QueryInfo)}.
 	 *
 	 * Use {@link FederationEvalStrategy#executor} to execute the join (it is a runnable).
 	 *
@@ -909,6 +917,22 @@ public abstract class FederationEvalStrategy extends StrictEvaluationStrategy {
 			CloseableIteration<BindingSet> leftIter, TupleExpr rightArg,
 			Set<String> joinVariables, BindingSet bindings, QueryInfo queryInfo) throws QueryEvaluationException;
 
+	/**
+	 * Whether a join which is not executed as bind join can be executed as {@link SymmetricHashJoin}. This is the case
+	 * if {@link FedXConfig#isEnableSymmetricHashJoin()} is enabled and the join has join variables (i.e. it is not a
+	 * cross product).
+	 *
+	 * @param rightArg
+	 * @param joinVariables
+	 * @param queryInfo
+	 * @return whether the join can be executed as symmetric hash join
+	 */
+	protected boolean isSymmetricHashJoinApplicable(TupleExpr rightArg, Set<String> joinVariables,
+			QueryInfo queryInfo) {
+		return queryInfo.getFederationContext().getConfig().isEnableSymmetricHashJoin() && joinVariables != null
+				&& !joinVariables.isEmpty();
+	}
+
 	/**
 	 * Execute the left join in a separate thread using some join executor.
 	 *
@@ -1021,7 +1045,9 @@ public abstract class FederationEvalStrategy extends StrictEvaluationStrategy {
 	 * @see {@link BindLeftJoinIteration}
 	 */
 	public CloseableIteration<BindingSet> evaluateLeftBoundJoinStatementPattern(
-			StatementTupleExpr stmt, final List<BindingSet> bindings) throws QueryEvaluationException {
+			StatementTupleExpr stmt, List<BindingSet> bindings) throws QueryEvaluationException {
+
+		bindings = orderBoundJoinBindings(bindings);
 
 		FilterValueExpr filterExpr = null;
 		if (stmt instanceof FilterTuple) {
@@ -1060,6 +1086,21 @@ public abstract class FederationEvalStrategy extends StrictEvaluationStrategy {
 		}
 	}
 
+	/**
+	 * Brings the bindings of a bind join block into {@link SubqueryResultCache#inCanonicalOrder(List) canonical order}
+	 * if subquery results are cached, such that the subquery of a block does not depend on the order in which the
+	 * intermediate results arrived.
+	 *
+	 * @param bindings the bindings of a bind join block
+	 * @return the bindings in the order in which they are rendered into the subquery
+	 */
+	protected List<BindingSet> orderBoundJoinBindings(List<BindingSet> bindings) {
+		if (federationContext.getSubqueryResultCache().isEmpty()) {
+			return bindings;
+		}
+		return SubqueryResultCache.inCanonicalOrder(bindings);
+	}
+
 	/**
 	 * Evaluate a SERVICE using vectored evaluation, taking the provided bindings as input.
 	 *
@@ -17,6 +17,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import org.eclipse.rdf4j.common.iteration.CloseableIteration;
 import org.eclipse.rdf4j.common.iteration.EmptyIteration;
 import org.eclipse.rdf4j.federated.FederationContext;
+import org.eclipse.rdf4j.federated.algebra.BoundJoinTupleExpr;
 import org.eclipse.rdf4j.federated.algebra.CheckStatementPattern;
 import org.eclipse.rdf4j.federated.algebra.ExclusiveGroup;
 import org.eclipse.rdf4j.federated.algebra.FilterTuple;
@@ -28,6 +29,8 @@ import org.eclipse.rdf4j.federated.evaluation.iterator.FilteringIteration;
 import org.eclipse.rdf4j.federated.evaluation.iterator.GroupedCheckConversionIteration;
 import org.eclipse.rdf4j.federated.evaluation.join.ControlledWorkerJoin;
 import org.eclipse.rdf4j.federated.evaluation.join.ControlledWorkerLeftJoin;
+import org.eclipse.rdf4j.federated.evaluation.join.JoinExecutorBase;
+import org.eclipse.rdf4j.federated.evaluation.join.SymmetricHashJoin;
 import org.eclipse.rdf4j.federated.structures.QueryInfo;
 import org.eclipse.rdf4j.federated.util.QueryAlgebraUtil;
 import org.eclipse.rdf4j.query.BindingSet;
@@ -115,8 +118,13 @@ public class SailFederationEvalStrategy extends FederationEvalStrategy {
 			TupleExpr rightArg, Set<String> joinVars, BindingSet bindings, QueryInfo queryInfo)
 			throws QueryEvaluationException {
 
-		ControlledWorkerJoin join = new ControlledWorkerJoin(joinScheduler, this, leftIter, rightArg, bindings,
-				queryInfo);
+		JoinExecutorBase<BindingSet> join;
+		if (!(rightArg instanceof BoundJoinTupleExpr) && isSymmetricHashJoinApplicable(rightArg, joinVars, queryInfo)) {
+			// statements are evaluated efficiently with bound values by the local stores
+			join = new SymmetricHashJoin(this, leftIter, rightArg, joinVars, bindings, queryInfo);
+		} else {
+			join = new ControlledWorkerJoin(joinScheduler, this, leftIter, rightArg, bindings, queryInfo);
+		}
 		join.setJoinVars(joinVars);
 		executor.execute(join);
 		return join;
@@ -36,6 +36,7 @@ import org.eclipse.rdf4j.federated.evaluation.join.ControlledWorkerBindLeftJoin;
 import org.eclipse.rdf4j.federated.evaluation.join.ControlledWorkerJoin;
 import org.eclipse.rdf4j.federated.evaluation.join.ControlledWorkerLeftJoin;
 import org.eclipse.rdf4j.federated.evaluation.join.JoinExecutorBase;
+import org.eclipse.rdf4j.federated.evaluation.join.SymmetricHashJoin;
 import org.eclipse.rdf4j.federated.exception.ExceptionUtil;
 import org.eclipse.rdf4j.federated.exception.IllegalQueryException;
 import org.eclipse.rdf4j.federated.structures.QueryInfo;
@@ -79,6 +80,8 @@ public class SparqlFederationEvalStrategy extends FederationEvalStrategy {
 			return evaluate(stmt, bindings.get(0));
 		}
 
+		bindings = orderBoundJoinBindings(bindings);
+
 		FilterValueExpr filterExpr = null;
 		if (stmt instanceof FilterTuple) {
 			filterExpr = ((FilterTuple) stmt).getFilterExpr();
@@ -196,6 +199,8 @@ public class SparqlFederationEvalStrategy extends FederationEvalStrategy {
 		if (executeAsBindJoin) {
 			join = new ControlledWorkerBindJoin(joinScheduler, this, leftIter, rightArg,
 					bindings, queryInfo);
+		} else if (isSymmetricHashJoinApplicable(rightArg, joinVars, queryInfo)) {
+			join = new SymmetricHashJoin(this, leftIter, rightArg, joinVars, bindings, queryInfo);
 		} else {
 			join = new ControlledWorkerJoin(joinScheduler, this, leftIter, rightArg, bindings,
 					queryInfo);
@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.eclipse.rdf4j.federated.evaluation;
 
+import java.util.List;
 import java.util.function.Supplier;
 
 import org.eclipse.rdf4j.common.iteration.CloseableIteration;
@@ -17,7 +18,9 @@ import org.eclipse.rdf4j.common.iteration.EmptyIteration;
 import org.eclipse.rdf4j.federated.FederationContext;
 import org.eclipse.rdf4j.federated.algebra.ExclusiveTupleExpr;
 import org.eclipse.rdf4j.federated.algebra.FilterValueExpr;
+import org.eclipse.rdf4j.federated.cache.SubqueryResultCache;
 import org.eclipse.rdf4j.federated.endpoint.Endpoint;
+import org.eclipse.rdf4j.federated.endpoint.EndpointClassification;
 import org.eclipse.rdf4j.federated.evaluation.iterator.CloseDependentConnectionIteration;
 import org.eclipse.rdf4j.federated.evaluation.iterator.ConsumingIteration;
 import org.eclipse.rdf4j.federated.evaluation.iterator.FilteringInsertBindingsIteration;
@@ -50,6 +53,7 @@ import org.eclipse.rdf4j.query.TupleQueryResult;
 import org.eclipse.rdf4j.query.impl.EmptyBindingSet;
 import org.eclipse.rdf4j.repository.RepositoryConnection;
 import org.eclipse.rdf4j.repository.RepositoryException;
+import org.eclipse.rdf4j.repository.sparql.federation.CollectionIteration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -147,6 +151,17 @@ public abstract class TripleSourceBase implements TripleSource {
 			throws RepositoryException, MalformedQueryException,
 			QueryEvaluationException {
 
+		SubqueryResultCache resultCache = getSubqueryResultCache();
+		if (resultCache != null) {
+			List<BindingSet> cached = resultCache.get(endpoint, preparedQuery, queryInfo.getIncludeInferred());
+			if (cached != null) {
+				// answer from the cache without any remote request
+				CloseableIteration<BindingSet> res = applyFilterAndBindings(new CollectionIteration<>(cached),
+						bindings, filterExpr, queryInfo);
+				return res != null ? res : new EmptyIteration<>();
+			}
+		}
+
 		return withConnection((conn, resultHolder) -> {
 
 			TupleQuery query = conn.prepareTupleQuery(QueryLanguage.SPARQL, preparedQuery, null);
@@ -158,25 +173,18 @@ public abstract class TripleSourceBase implements TripleSource {
 			CloseableIteration<BindingSet> res = null;
 			try {
 				res = query.evaluate();
+				if (resultCache != null) {
+					res = resultCache.cache(endpoint, preparedQuery, queryInfo.getIncludeInferred(), res);
+				}
 
 				resultHolder.set(res);
 
 				// apply filter and/or insert original bindings
-				if (filterExpr != null) {
-					if (!bindings.isEmpty()) {
-						res = new FilteringInsertBindingsIteration(filterExpr, bindings, res,
-								queryInfo.getStrategy());
-					} else {
-						res = new FilteringIteration(filterExpr, res, queryInfo.getStrategy());
-					}
-					if (!res.hasNext()) {
-						res.close();
-						conn.close();
-						resultHolder.set(new EmptyIteration<>());
-						return;
-					}
-				} else if (!bindings.isEmpty()) {
-					res = new InsertBindingsIteration(res, bindings);
+				res = applyFilterAndBindings(res, bindings, filterExpr, queryInfo);
+				if (res == null) {
+					conn.close();
+					resultHolder.set(new EmptyIteration<>());
+					return;
 				}
 
 				res = new ConsumingIteration(res, federationContext.getConfig().getConsumingIterationMax());
@@ -192,6 +200,42 @@ public abstract class TripleSourceBase implements TripleSource {
 		});
 	}
 
+	/**
+	 * Apply the filter and/or insert the original bindings into the given result.
+	 *
+	 * @return the resulting iteration, or <code>null</code> if the (closed) result is empty after filtering
+	 */
+	private CloseableIteration<BindingSet> applyFilterAndBindings(CloseableIteration<BindingSet> res,
+			BindingSet bindings, FilterValueExpr filterExpr, QueryInfo queryInfo) {
+		if (filterExpr != null) {
+			if (!bindings.isEmpty()) {
+				res = new FilteringInsertBindingsIteration(filterExpr, bindings, res, queryInfo.getStrategy());
+			} else {
+				res = new FilteringIteration(filterExpr, res, queryInfo.getStrategy());
+			}
+			if (!res.hasNext()) {
+				res.close();
+				return null;
+			}
+		} else if (!bindings.isEmpty()) {
+			res = new InsertBindingsIteration(res, bindings);
+		}
+		return res;
+	}
+
+	/**
+	 * The {@link SubqueryResultCache} to be used for subqueries of this triple source. Only results of remote endpoints
+	 * are cached.
+	 *
+	 * @return the cache, or <code>null</code> if results are not to be cached
+	 */
+	protected SubqueryResultCache getSubqueryResultCache() {
+		if (endpoint.getEndpointClassification() != EndpointClassification.Remote) {
+			return null;
+		}
+		return federationContext.getSubqueryResultCache().orElse(null);
+	}
+
 	@Override
 	public boolean hasStatements(Resource subj,
 			IRI pred, Value obj, QueryInfo queryInfo, Resource... contexts) throws RepositoryException {
@@ -0,0 +1,200 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.federated.evaluation.concurrent;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Limits the number of concurrent operations per key (e.g. per query or per endpoint). Limits are created on demand
+ * and removed once they are no longer used, so the limiter does not retain keys of finished queries.
+ *
+ * <p>
+ * Operations waiting for a permit are grouped by their owner (e.g. the query an operation belongs to). If the limiter
+ * is fair, a released permit is granted to the owners in round-robin order, such that an owner with many waiting
+ * operations cannot starve other owners waiting for the same key. Operations of the same owner are granted a permit
+ * in FIFO order. If the limiter is not fair, owners are ignored and all waiting operations are granted a permit in
+ * FIFO order.
+ * </p>
+ *
+ * @see VirtualThreadScheduler
+ */
+class ConcurrencyLimiter {
+
+	private final int permits;
+
+	private final boolean fair;
+
+	private final Map<Object, Limit> limits = new HashMap<>();
+
+	/**
+	 *
+	 * @param permits the maximum number of concurrent operations per key, a value &lt;= 0 means unlimited
+	 * @param fair    whether released permits are shared among the owners of waiting operations in round-robin order
+	 */
+	ConcurrencyLimiter(int permits, boolean fair) {
+		this.permits = permits;
+		this.fair = fair;
+	}
+
+	/**
+	 * Acquire a permit for the given key, blocking until one is available.
+	 *
+	 * @param key the key, may be <code>null</code> in which case no limit applies
+	 * @return whether a permit was acquired (and thus has to be {@link #release(Object) released})
+	 * @throws InterruptedException if the current thread is interrupted while waiting
+	 */
+	boolean acquire(Object key) throws InterruptedException {
+		return acquire(key, null);
+	}
+
+	/**
+	 * Acquire a permit for the given key on behalf of the given owner, blocking until one is available.
+	 *
+	 * @param key   the key, may be <code>null</code> in which case no limit applies
+	 * @param owner the owner of the operation (e.g. the query), may be <code>null</code>
+	 * @return whether a permit was acquired (and thus has to be {@link #release(Object) released})
+	 * @throws InterruptedException if the current thread is interrupted while waiting
+	 */
+	boolean acquire(Object key, Object owner) throws InterruptedException {
+		if (key == null || permits <= 0) {
+			return false;
+		}
+		Object queue = fair ? owner : null;
+		Limit limit;
+		Semaphore waiter;
+		synchronized (limits) {
+			limit = limits.computeIfAbsent(key, k -> new Limit(permits));
+			limit.users++;
+			if (limit.available > 0 && limit.waiting.isEmpty()) {
+				limit.available--;
+				return true;
+			}
+			waiter = new Semaphore(0);
+			limit.waiting.computeIfAbsent(queue, k -> new ArrayDeque<>()).add(waiter);
+		}
+		try {
+			waiter.acquire();
+			return true;
+		} catch (InterruptedException e) {
+			synchronized (limits) {
+				if (!limit.remove(queue, waiter)) {
+					// the permit was granted concurrently, pass it on
+					limit.grantNext();
+				}
+				unregister(key, limit);
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Release a permit previously acquired for the given key.
+	 *
+	 * @param key the key
+	 */
+	void release(Object key) {
+		synchronized (limits) {
+			Limit limit = limits.get(key);
+			if (limit == null) {
+				throw new IllegalStateException("No permit acquired for " + key);
+			}
+			limit.grantNext();
+			unregister(key, limit);
+		}
+	}
+
+	/**
+	 *
+	 * @return the number of keys with running or waiting operations
+	 */
+	int size() {
+		synchronized (limits) {
+			return limits.size();
+		}
+	}
+
+	/**
+	 *
+	 * @param key
+	 * @return the number of operations waiting for a permit for the given key
+	 */
+	int waiting(Object key) {
+		synchronized (limits) {
+			Limit limit = limits.get(key);
+			return limit == null ? 0 : limit.waiting.values().stream().mapToInt(ArrayDeque::size).sum();
+		}
+	}
+
+	private void unregister(Object key, Limit limit) {
+		if (--limit.users == 0) {
+			limits.remove(key, limit);
+		}
+	}
+
+	/**
+	 * The state of a single key, guarded by the lock on {@link ConcurrencyLimiter#limits}.
+	 */
+	private static class Limit {
+
+		private int available;
+
+		private int users;
+
+		/**
+		 * The waiting operations per owner, in the order in which the owners are granted the next permit
+		 */
+		private final Map<Object, ArrayDeque<Semaphore>> waiting = new LinkedHashMap<>();
+
+		Limit(int permits) {
+			this.available = permits;
+		}
+
+		/**
+		 * Grant a permit to the next waiting operation, or make it available if no operation is waiting. The owner of
+		 * the operation is moved to the end of the round-robin order.
+		 */
+		void grantNext() {
+			Iterator<Map.Entry<Object, ArrayDeque<Semaphore>>> it = waiting.entrySet().iterator();
+			if (!it.hasNext()) {
+				available++;
+				return;
+			}
+			Map.Entry<Object, ArrayDeque<Semaphore>> next = it.next();
+			it.remove();
+			Semaphore waiter = next.getValue().poll();
+			if (!next.getValue().isEmpty()) {
+				waiting.put(next.getKey(), next.getValue());
+			}
+			waiter.release();
+		}
+
+		/**
+		 * Remove a waiting operation.
+		 *
+		 * @return <code>false</code> if the operation is no longer waiting, i.e. it has been granted a permit
+		 */
+		boolean remove(Object owner, Semaphore waiter) {
+			ArrayDeque<Semaphore> queue = waiting.get(owner);
+			if (queue == null || !queue.remove(waiter)) {
+				return false;
+			}
+			if (queue.isEmpty()) {
+				waiting.remove(owner);
+			}
+			return true;
+		}
+	}
+}
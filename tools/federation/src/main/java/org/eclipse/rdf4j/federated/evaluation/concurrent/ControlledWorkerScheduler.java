@@ -73,7 +73,7 @@ public class ControlledWorkerScheduler<T> implements Scheduler<T>, TaskWrapperAw
 	@Override
 	public void schedule(ParallelTask<T> task) {
 		assert !task.getControl().isFinished();
-		Runnable runnable = new WorkerRunnable(task);
+		Runnable runnable = createRunnable(task);
 
 		// Note: for specific use-cases the runnable may be wrapped (e.g. to allow injection of thread-contexts). By
 		// default the unmodified runnable is used
@@ -122,6 +122,18 @@ public class ControlledWorkerScheduler<T> implements Scheduler<T>, TaskWrapperAw
 		return _taskQueue.size();
 	}
 
+	/**
+	 * Create the {@link Runnable} which performs the given task and passes its result to the controlling instance.
+	 * Subclasses may decorate the runnable, e.g. to limit the concurrency of tasks.
+	 *
+	 * @param task the task to perform
+	 * @return the runnable to be submitted to the executor
+	 */
+	@Experimental
+	protected Runnable createRunnable(ParallelTask<T> task) {
+		return new WorkerRunnable(task);
+	}
+
 	/**
 	 * Create the {@link BlockingQueue} used for the thread pool. The default implementation creates a
 	 * {@link LinkedBlockingQueue}.
@@ -39,6 +39,16 @@ public interface ParallelTask<T> {
 		return getControl().getQueryInfo();
 	}
 
+	/**
+	 * The id of the endpoint to which this task sends its request, if the task targets a single endpoint. Schedulers
+	 * may use this information to limit the number of concurrent requests per endpoint.
+	 *
+	 * @return the endpoint id, or <code>null</code> if the task does not target a single endpoint
+	 */
+	default String getEndpointId() {
+		return null;
+	}
+
 	/**
 	 * Optional implementation to cancel this task on a best effort basis
 	 */
@@ -10,10 +10,13 @@
  *******************************************************************************/
 package org.eclipse.rdf4j.federated.evaluation.concurrent;
 
+import java.util.List;
 import java.util.concurrent.Future;
 
 import org.eclipse.rdf4j.common.iteration.CloseableIteration;
 import org.eclipse.rdf4j.common.iteration.EmptyIteration;
+import org.eclipse.rdf4j.federated.algebra.StatementSource;
+import org.eclipse.rdf4j.federated.algebra.StatementTupleExpr;
 import org.eclipse.rdf4j.query.QueryEvaluationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -83,6 +86,16 @@ public abstract class ParallelTaskBase<T> implements ParallelTask<T> {
 
 	protected abstract CloseableIteration<T> performTaskInternal() throws Exception;
 
+	/**
+	 *
+	 * @param expr
+	 * @return the id of the single source of the given expression, <code>null</code> if there are multiple sources
+	 */
+	protected static String singleEndpointId(StatementTupleExpr expr) {
+		List<StatementSource> sources = expr.getStatementSources();
+		return sources.size() == 1 ? sources.get(0).getEndpointID() : null;
+	}
+
 	public void setScheduledFuture(Future<?> future) {
 		this.scheduledFuture = future;
 	}
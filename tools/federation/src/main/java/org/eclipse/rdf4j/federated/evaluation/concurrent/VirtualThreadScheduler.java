@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.federated.evaluation.concurrent;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * A {@link ControlledWorkerScheduler} which executes every task in its own virtual thread instead of using a fixed pool
+ * of platform threads. Since tasks typically block on remote requests, a fixed pool causes head-of-line blocking if
+ * many federated queries are evaluated concurrently. With virtual threads blocking is cheap, and the concurrency is
+ * instead limited by semaphores:
+ *
+ * <ul>
+ * <li>per query: at most {@link #getTotalNumberOfWorkers()} tasks of the same query are executed concurrently</li>
+ * <li>per endpoint: tasks which target a single endpoint (see {@link ParallelTask#getEndpointId()}) are limited by a
+ * {@link ConcurrencyLimiter} which is typically shared among all schedulers of the federation</li>
+ * </ul>
+ *
+ * <p>
+ * If fair scheduling is enabled, the permits of an endpoint are shared among the queries waiting for it in round-robin
+ * order, and tasks of the same query obtain their permits in FIFO order. This prevents a query submitting many tasks
+ * from starving other queries which are waiting for the same endpoint. Otherwise all tasks waiting for an endpoint
+ * obtain their permits in FIFO order.
+ * </p>
+ *
+ * @see VirtualThreadSchedulerFactory
+ */
+public class VirtualThreadScheduler<T> extends ControlledWorkerScheduler<T> {
+
+	private final ConcurrencyLimiter queryLimiter;
+
+	private final ConcurrencyLimiter endpointLimiter;
+
+	/**
+	 *
+	 * @param maxConcurrentTasksPerQuery the maximum number of concurrent tasks per query, a value &lt;= 0 means
+	 *                                   unlimited
+	 * @param endpointLimiter            the limiter for concurrent requests per endpoint
+	 * @param fair                       whether the permits of an endpoint are shared among the waiting queries in
+	 *                                   round-robin order
+	 * @param name                       the base name for the threads
+	 */
+	VirtualThreadScheduler(int maxConcurrentTasksPerQuery, ConcurrencyLimiter endpointLimiter, boolean fair,
+			String name) {
+		super(maxConcurrentTasksPerQuery, name);
+		this.queryLimiter = new ConcurrencyLimiter(maxConcurrentTasksPerQuery, fair);
+		this.endpointLimiter = endpointLimiter;
+	}
+
+	@Override
+	protected ExecutorService createExecutorService(int nWorkers, String name) {
+		return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + " Virtual Thread #", 1).factory());
+	}
+
+	@Override
+	protected Runnable createRunnable(ParallelTask<T> task) {
+		Runnable runnable = super.createRunnable(task);
+		Object queryKey = task.getQueryInfo();
+		String endpointId = task.getEndpointId();
+		return () -> {
+			boolean queryPermit = false;
+			boolean endpointPermit = false;
+			try {
+				queryPermit = queryLimiter.acquire(queryKey);
+				endpointPermit = endpointLimiter.acquire(endpointId, queryKey);
+			} catch (InterruptedException e) {
+				// the worker runnable observes the interrupt and informs the controlling instance
+				Thread.currentThread().interrupt();
+			}
+			try {
+				runnable.run();
+			} finally {
+				if (endpointPermit) {
+					endpointLimiter.release(endpointId);
+				}
+				if (queryPermit) {
+					queryLimiter.release(queryKey);
+				}
+			}
+		};
+	}
+}
@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.federated.evaluation.concurrent;
+
+import org.eclipse.rdf4j.federated.FedXConfig;
+import org.eclipse.rdf4j.federated.FederationContext;
+import org.eclipse.rdf4j.query.BindingSet;
+
+/**
+ * A {@link SchedulerFactory} which creates {@link VirtualThreadScheduler}s. The number of workers passed to the
+ * factory methods (e.g. {@link FedXConfig#getJoinWorkerThreads()}) is used as the maximum number of concurrent tasks
+ * per query. The number of concurrent requests per endpoint ({@link FedXConfig#getMaxConcurrentRequestsPerEndpoint()})
+ * is limited across all schedulers created by the same factory instance.
+ *
+ * <p>
+ * A factory instance is meant to be used by a single federation.
+ * </p>
+ *
+ * @see FedXConfig#isEnableVirtualThreadScheduler()
+ */
+public class VirtualThreadSchedulerFactory implements SchedulerFactory {
+
+	private ConcurrencyLimiter endpointLimiter;
+
+	@Override
+	public ControlledWorkerScheduler<BindingSet> createJoinScheduler(FederationContext federationContext,
+			int nWorkers) {
+		return createScheduler(federationContext, nWorkers, "Join Scheduler");
+	}
+
+	@Override
+	public ControlledWorkerScheduler<BindingSet> createUnionScheduler(FederationContext federationContext,
+			int nWorkers) {
+		return createScheduler(federationContext, nWorkers, "Union Scheduler");
+	}
+
+	@Override
+	public ControlledWorkerScheduler<BindingSet> createLeftJoinScheduler(FederationContext federationContext,
+			int nWorkers) {
+		return createScheduler(federationContext, nWorkers, "Left Join Scheduler");
+	}
+
+	private ControlledWorkerScheduler<BindingSet> createScheduler(FederationContext federationContext, int nWorkers,
+			String name) {
+		FedXConfig config = federationContext.getConfig();
+		return new VirtualThreadScheduler<>(nWorkers, getEndpointLimiter(config), config.isEnableFairScheduling(),
+				name);
+	}
+
+	private synchronized ConcurrencyLimiter getEndpointLimiter(FedXConfig config) {
+		if (endpointLimiter == null) {
+			endpointLimiter = new ConcurrencyLimiter(config.getMaxConcurrentRequestsPerEndpoint(),
+					config.isEnableFairScheduling());
+		}
+		return endpointLimiter;
+	}
+}
@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.federated.evaluation.join;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.ConvertingIteration;
+import org.eclipse.rdf4j.federated.FedXConfig;
+import org.eclipse.rdf4j.federated.algebra.StatementSource;
+import org.eclipse.rdf4j.federated.algebra.StatementTupleExpr;
+import org.eclipse.rdf4j.federated.endpoint.Endpoint;
+import org.eclipse.rdf4j.federated.monitoring.Monitoring;
+import org.eclipse.rdf4j.federated.structures.QueryInfo;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+
+/**
+ * Determines the block size of bind joins per endpoint from the observed behavior of previous blocks.
+ *
+ * <p>
+ * For every endpoint the tuner maintains a block size which starts at {@link FedXConfig#getBoundJoinBlockSize()}. After
+ * each block the size is adjusted based on the latency of the request (i.e. the time until the endpoint starts to
+ * respond) and the number of results:
+ * </p>
+ *
+ * <ul>
+ * <li>if the latency exceeds {@link FedXConfig#getBoundJoinTargetLatency()}, the size is reduced proportionally (at
+ * most halved)</li>
+ * <li>if the latency is below half of the target latency, the size is increased by 50%</li>
+ * <li>if a block produced more than {@value #MAX_RESULTS_PER_BLOCK} results, the size is reduced such that blocks
+ * stay below this limit</li>
+ * </ul>
+ *
+ * <p>
+ * The size is always between 1 and {@link FedXConfig#getBoundJoinMaxBlockSize()}. For statements with multiple sources
+ * the smallest block size among the sources is used. If adaptive block sizes are disabled, the configured block size is
+ * used and the tuner only reports the block statistics to {@link Monitoring}.
+ * </p>
+ *
+ * @see FedXConfig#isEnableAdaptiveBoundJoinBlockSize()
+ */
+public class BindJoinBlockSizeTuner {
+
+	/**
+	 * The maximum number of results of a single block before its size is reduced
+	 */
+	static final int MAX_RESULTS_PER_BLOCK = 10000;
+
+	private final boolean enabled;
+
+	private final int initialBlockSize;
+
+	private final int maxBlockSize;
+
+	private final long targetLatencyMs;
+
+	private final Map<String, Double> blockSizes = new ConcurrentHashMap<>();
+
+	public BindJoinBlockSizeTuner(FedXConfig config) {
+		this(config.isEnableAdaptiveBoundJoinBlockSize(), config.getBoundJoinBlockSize(),
+				config.getBoundJoinMaxBlockSize(), config.getBoundJoinTargetLatency());
+	}
+
+	BindJoinBlockSizeTuner(boolean enabled, int initialBlockSize, int maxBlockSize, long targetLatencyMs) {
+		this.enabled = enabled;
+		this.initialBlockSize = initialBlockSize;
+		this.maxBlockSize = Math.max(initialBlockSize, maxBlockSize);
+		this.targetLatencyMs = targetLatencyMs;
+	}
+
+	/**
+	 *
+	 * @param expr                   the right argument of the bind join
+	 * @param configuredBindJoinSize the configured block size
+	 * @return the size of the next block to be sent for the given expression
+	 */
+	public int getBlockSize(TupleExpr expr, int configuredBindJoinSize) {
+		if (!enabled || !(expr instanceof StatementTupleExpr)) {
+			return configuredBindJoinSize;
+		}
+		List<StatementSource> sources = ((StatementTupleExpr) expr).getStatementSources();
+		if (sources.isEmpty()) {
+			return configuredBindJoinSize;
+		}
+		int res = Integer.MAX_VALUE;
+		for (StatementSource source : sources) {
+			res = Math.min(res, getBlockSize(source.getEndpointID()));
+		}
+		return res;
+	}
+
+	/**
+	 *
+	 * @param endpointId
+	 * @return the current block size for the given endpoint
+	 */
+	public int getBlockSize(String endpointId) {
+		if (!enabled) {
+			return initialBlockSize;
+		}
+		return (int) Math.round(blockSizes.getOrDefault(endpointId, (double) initialBlockSize));
+	}
+
+	/**
+	 * Update the block size of the given endpoint with the observations of a block.
+	 *
+	 * @param endpointId      the endpoint
+	 * @param blockSize       the number of bindings of the block
+	 * @param latencyMs       the time until the endpoint started to respond
+	 * @param numberOfResults the number of results of the block
+	 */
+	public void update(String endpointId, int blockSize, long latencyMs, long numberOfResults) {
+		if (!enabled) {
+			return;
+		}
+		blockSizes.compute(endpointId, (id, current) -> {
+			double size = current == null ? initialBlockSize : current;
+			// only adjust based on blocks which were representative for the current size
+			if (blockSize < size / 2) {
+				return size;
+			}
+			if (latencyMs > targetLatencyMs) {
+				size *= Math.max(0.5, (double) targetLatencyMs / latencyMs);
+			} else if (latencyMs < targetLatencyMs / 2 && numberOfResults <= MAX_RESULTS_PER_BLOCK) {
+				size *= 1.5;
+			}
+			if (numberOfResults > MAX_RESULTS_PER_BLOCK) {
+				size = Math.min(size, (double) blockSize * MAX_RESULTS_PER_BLOCK / numberOfResults);
+			}
+			return Math.max(1, Math.min(maxBlockSize, size));
+		});
+	}
+
+	/**
+	 * Instrument the result of a bind join block: the number of results is counted and reported together with the
+	 * latency once the result is closed, both to this tuner and to the {@link Monitoring} of the federation.
+	 *
+	 * @param expr       the right argument of the bind join
+	 * @param blockSize  the number of bindings of the block
+	 * @param startNanos the {@link System#nanoTime()} when the request was submitted
+	 * @param result     the result of the block
+	 * @return the instrumented result, or the given result if there is nothing to report to
+	 */
+	public CloseableIteration<BindingSet> instrument(StatementTupleExpr expr, int blockSize, long startNanos,
+			CloseableIteration<BindingSet> result) {
+		QueryInfo queryInfo = expr.getQueryInfo();
+		if (!enabled && !queryInfo.getFederationContext().getConfig().isEnableMonitoring()) {
+			return result;
+		}
+		long latencyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+		Monitoring monitoring = queryInfo.getFederationContext().getMonitoringService();
+		return new ConvertingIteration<BindingSet, BindingSet>(result) {
+
+			private long numberOfResults = 0;
+
+			@Override
+			protected BindingSet convert(BindingSet sourceObject) {
+				numberOfResults++;
+				return sourceObject;
+			}
+
+			@Override
+			protected void handleClose() {
+				try {
+					super.handleClose();
+				} finally {
+					for (StatementSource source : expr.getStatementSources()) {
+						update(source.getEndpointID(), blockSize, latencyMs, numberOfResults);
+						Endpoint e = queryInfo.getFederationContext()
+								.getEndpointManager()
+								.getEndpoint(source.getEndpointID());
+						if (e != null) {
+							monitoring.monitorBindJoinBlock(e, blockSize, latencyMs, numberOfResults);
+						}
+					}
+				}
+			}
+		};
+	}
+}
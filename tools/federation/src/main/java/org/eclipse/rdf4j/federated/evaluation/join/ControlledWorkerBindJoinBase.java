@@ -16,6 +16,7 @@ import java.util.concurrent.Phaser;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.federated.FedXConfig;
 import org.eclipse.rdf4j.federated.algebra.BoundJoinTupleExpr;
 import org.eclipse.rdf4j.federated.evaluation.FederationEvalStrategy;
 import org.eclipse.rdf4j.federated.evaluation.concurrent.ControlledWorkerScheduler;
@@ -137,24 +138,20 @@ public abstract class ControlledWorkerBindJoinBase extends JoinExecutorBase<Bind
 
 	/**
 	 * Return the size of the next bind join block.
+	 * <p>
+	 * The size is determined by the {@link BindJoinBlockSizeTuner} of the federation, which adapts the block size per
+	 * endpoint if {@link FedXConfig#isEnableAdaptiveBoundJoinBlockSize()} is enabled and otherwise returns the
+	 * configured size.
+	 * </p>
 	 *
 	 * @param configuredBindJoinSize the configured bind join size
 	 * @param totalBindings          the current process bindings from the intermediate result set
 	 * @return
 	 */
 	protected int getNextBindJoinSize(int configuredBindJoinSize, int totalBindings) {
-
-		/*
-		 * XXX idea:
-		 *
-		 * make nBindings dependent on the number of intermediate results of the left argument.
-		 *
-		 * If many intermediate results, increase the number of bindings. This will result in less remote SPARQL
-		 * requests.
-		 *
-		 */
-
-		return configuredBindJoinSize;
+		return queryInfo.getFederationContext()
+				.getBindJoinBlockSizeTuner()
+				.getBlockSize(rightArg, configuredBindJoinSize);
 	}
 
 	protected interface TaskCreator {
@@ -45,9 +45,19 @@ public class ParallelBindLeftJoinTask extends ParallelTaskBase<BindingSet> {
 		return joinControl;
 	}
 
+	@Override
+	public String getEndpointId() {
+		return singleEndpointId(rightArg);
+	}
+
 	@Override
 	protected CloseableIteration<BindingSet> performTaskInternal() throws Exception {
-		return strategy.evaluateLeftBoundJoinStatementPattern(rightArg, bindings);
+		long start = System.nanoTime();
+		CloseableIteration<BindingSet> res = strategy.evaluateLeftBoundJoinStatementPattern(rightArg, bindings);
+		return rightArg.getQueryInfo()
+				.getFederationContext()
+				.getBindJoinBlockSizeTuner()
+				.instrument(rightArg, bindings.size(), start, res);
 	}
 
 }
@@ -43,7 +43,12 @@ public class ParallelBoundJoinTask extends ParallelTaskBase<BindingSet> {
 
 	@Override
 	protected CloseableIteration<BindingSet> performTaskInternal() throws Exception {
-		return strategy.evaluateBoundJoinStatementPattern(expr, bindings);
+		long start = System.nanoTime();
+		CloseableIteration<BindingSet> res = strategy.evaluateBoundJoinStatementPattern(expr, bindings);
+		return expr.getQueryInfo()
+				.getFederationContext()
+				.getBindJoinBlockSizeTuner()
+				.instrument(expr, bindings.size(), start, res);
 	}
 
 	@Override
@@ -51,4 +56,9 @@ public class ParallelBoundJoinTask extends ParallelTaskBase<BindingSet> {
 		return joinControl;
 	}
 
+	@Override
+	public String getEndpointId() {
+		return singleEndpointId(expr);
+	}
+
 }
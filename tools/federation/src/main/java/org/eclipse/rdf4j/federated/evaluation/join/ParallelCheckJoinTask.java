@@ -51,4 +51,9 @@ public class ParallelCheckJoinTask extends ParallelTaskBase<BindingSet> {
 	public ParallelExecutor<BindingSet> getControl() {
 		return joinControl;
 	}
+
+	@Override
+	public String getEndpointId() {
+		return singleEndpointId(expr);
+	}
 }
@@ -0,0 +1,241 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.federated.evaluation.join;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.federated.evaluation.FederationEvalStrategy;
+import org.eclipse.rdf4j.federated.structures.QueryInfo;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.query.Binding;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.QueryEvaluationException;
+import org.eclipse.rdf4j.query.QueryInterruptedException;
+import org.eclipse.rdf4j.query.QueryResults;
+import org.eclipse.rdf4j.query.algebra.TupleExpr;
+import org.eclipse.rdf4j.query.algebra.evaluation.QueryBindingSet;
+import org.eclipse.rdf4j.repository.sparql.federation.CollectionIteration;
+
+/**
+ * Operator for a non-blocking symmetric hash join of tuple expressions.
+ *
+ * <p>
+ * Both join arguments are evaluated concurrently: the left argument is consumed by the thread executing this join, the
+ * right argument (evaluated independently of the left bindings) is consumed by a worker of the federation executor.
+ * Every incoming binding set is inserted into the hash table of its side (hashed by the join variables) and probed
+ * against the hash table of the other side, such that join results are produced as soon as matching bindings are
+ * available from either side. Binding sets which do not bind all join variables are kept aside and checked against all
+ * bindings of the other side.
+ * </p>
+ *
+ * <p>
+ * Note that the bindings of both join arguments are kept in memory until the join is finished.
+ * </p>
+ *
+ * @see org.eclipse.rdf4j.federated.FedXConfig#isEnableSymmetricHashJoin()
+ */
+public class SymmetricHashJoin extends JoinExecutorBase<BindingSet> {
+
+	private final String[] joinAttributes;
+
+	private final HashTable leftTable = new HashTable();
+
+	private final HashTable rightTable = new HashTable();
+
+	private final Object tableLock = new Object();
+
+	private final AtomicReference<Throwable> rightError = new AtomicReference<>();
+
+	private volatile CloseableIteration<BindingSet> rightArgIter;
+
+	private long numberOfResults = 0; // guarded by tableLock
+
+	public SymmetricHashJoin(FederationEvalStrategy strategy, CloseableIteration<BindingSet> leftIter,
+			TupleExpr rightArg, Set<String> joinVars, BindingSet bindings, QueryInfo queryInfo)
+			throws QueryEvaluationException {
+		super(strategy, leftIter, rightArg, bindings, queryInfo);
+		setJoinVars(joinVars);
+		this.joinAttributes = joinVars == null ? new String[0] : joinVars.toArray(new String[0]);
+	}
+
+	@Override
+	protected void handleBindings() throws Exception {
+
+		long start = System.currentTimeMillis();
+
+		rightArgIter = strategy.evaluate(rightArg, bindings);
+
+		CountDownLatch rightDone = new CountDownLatch(1);
+		queryInfo.getFederationContext().getManager().getExecutor().execute(() -> {
+			try {
+				consume(rightArgIter, rightTable, leftTable, false);
+			} catch (Throwable t) {
+				rightError.set(t);
+			} finally {
+				rightDone.countDown();
+			}
+		});
+
+		try {
+			consume(leftIter, leftTable, rightTable, true);
+
+			if (!rightDone.await(queryInfo.getMaxRemainingTimeMS(), TimeUnit.MILLISECONDS)) {
+				throw new QueryInterruptedException("Query evaluation has run into a timeout");
+			}
+			if (rightError.get() != null) {
+				throw rightError.get() instanceof Exception ? (Exception) rightError.get()
+						: new QueryEvaluationException(rightError.get());
+			}
+		} finally {
+			rightArgIter.close();
+		}
+
+		queryInfo.getFederationContext()
+				.getMonitoringService()
+				.monitorHashJoin(getDisplayId(), leftTable.size, rightTable.size, numberOfResults,
+						System.currentTimeMillis() - start);
+
+		if (log.isDebugEnabled()) {
+			log.debug("JoinStats: " + getDisplayId() + " had " + leftTable.size + " left, " + rightTable.size
+					+ " right bindings and " + numberOfResults + " results.");
+		}
+	}
+
+	private void consume(CloseableIteration<BindingSet> iter, HashTable own, HashTable other, boolean isLeft) {
+		// stop consuming if the other side has failed
+		while (!isClosed() && rightError.get() == null && iter.hasNext()) {
+			BindingSet bs = iter.next();
+			List<BindingSet> res = insertAndProbe(bs, own, other, isLeft);
+			if (!res.isEmpty()) {
+				addResult(new CollectionIteration<>(res));
+			}
+		}
+	}
+
+	/**
+	 * Insert the binding set into its own hash table and determine the join results with the bindings of the other side
+	 * seen so far. Both steps are performed atomically, such that every pair of matching binding sets is produced
+	 * exactly once.
+	 */
+	private List<BindingSet> insertAndProbe(BindingSet bs, HashTable own, HashTable other, boolean isLeft) {
+		List<Value> key = key(bs);
+		List<BindingSet> res = null;
+		synchronized (tableLock) {
+			own.add(key, bs);
+			for (BindingSet candidate : other.candidates(key)) {
+				if (QueryResults.bindingSetsCompatible(bs, candidate)) {
+					if (res == null) {
+						res = new ArrayList<>();
+					}
+					res.add(isLeft ? merge(bs, candidate) : merge(candidate, bs));
+				}
+			}
+			if (res == null) {
+				return Collections.emptyList();
+			}
+			numberOfResults += res.size();
+		}
+		return res;
+	}
+
+	/**
+	 *
+	 * @return the values of the join attributes, <code>null</code> if not all join attributes are bound
+	 */
+	private List<Value> key(BindingSet bs) {
+		if (joinAttributes.length == 0) {
+			return null;
+		}
+		Value[] values = new Value[joinAttributes.length];
+		for (int i = 0; i < joinAttributes.length; i++) {
+			values[i] = bs.getValue(joinAttributes[i]);
+			if (values[i] == null) {
+				return null;
+			}
+		}
+		return Arrays.asList(values);
+	}
+
+	private static BindingSet merge(BindingSet left, BindingSet right) {
+		QueryBindingSet res = new QueryBindingSet(left.size() + right.size());
+		res.addAll(left);
+		for (Binding b : right) {
+			res.setBinding(b);
+		}
+		return res;
+	}
+
+	@Override
+	public void handleClose() throws QueryEvaluationException {
+		try {
+			super.handleClose();
+		} finally {
+			CloseableIteration<BindingSet> iter = rightArgIter;
+			if (iter != null) {
+				iter.close();
+			}
+		}
+	}
+
+	/**
+	 * The bindings of one side of the join, hashed by the values of the join attributes.
+	 */
+	private static class HashTable {
+
+		private final Map<List<Value>, List<BindingSet>> table = new HashMap<>();
+
+		/**
+		 * Bindings which do not bind all join attributes
+		 */
+		private final List<BindingSet> partial = new ArrayList<>();
+
+		private long size = 0;
+
+		void add(List<Value> key, BindingSet bs) {
+			if (key == null) {
+				partial.add(bs);
+			} else {
+				table.computeIfAbsent(key, k -> new ArrayList<>(1)).add(bs);
+			}
+			size++;
+		}
+
+		/**
+		 *
+		 * @return the bindings which may be compatible with bindings having the given key
+		 */
+		Iterable<BindingSet> candidates(List<Value> key) {
+			if (key == null) {
+				List<BindingSet> res = new ArrayList<>(partial);
+				table.values().forEach(res::addAll);
+				return res;
+			}
+			List<BindingSet> matches = table.getOrDefault(key, Collections.emptyList());
+			if (partial.isEmpty()) {
+				return matches;
+			}
+			List<BindingSet> res = new ArrayList<>(matches.size() + partial.size());
+			res.addAll(matches);
+			res.addAll(partial);
+			return res;
+		}
+	}
+}
@@ -57,6 +57,11 @@ public class ParallelGetStatementsTask extends ParallelTaskBase<Statement> {
 		return unionControl;
 	}
 
+	@Override
+	public String getEndpointId() {
+		return endpoint.getId();
+	}
+
 	@Override
 	protected CloseableIteration<Statement> performTaskInternal() throws Exception {
 		TripleSource tripleSource = endpoint.getTripleSource();
@@ -56,6 +56,11 @@ public class ParallelPreparedAlgebraUnionTask extends ParallelTaskBase<BindingSe
 		return unionControl;
 	}
 
+	@Override
+	public String getEndpointId() {
+		return endpoint.getId();
+	}
+
 	@Override
 	public String toString() {
 		return this.getClass().getSimpleName() + " @" + endpoint.getId() + ": " + preparedQuery.toString();
@@ -55,6 +55,11 @@ public class ParallelPreparedUnionTask extends ParallelTaskBase<BindingSet> {
 		return unionControl;
 	}
 
+	@Override
+	public String getEndpointId() {
+		return endpoint.getId();
+	}
+
 	@Override
 	public String toString() {
 		return this.getClass().getSimpleName() + " @" + endpoint.getId() + ": " + preparedQuery;
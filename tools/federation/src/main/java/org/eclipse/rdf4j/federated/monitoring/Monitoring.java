@@ -23,4 +23,28 @@ public interface Monitoring {
 	void monitorQuery(QueryInfo query);
 
 	void logQueryPlan(TupleExpr tupleExpr);
+
+	/**
+	 * Monitor the execution of a single bind join block at the given endpoint.
+	 *
+	 * @param e               the endpoint
+	 * @param blockSize       the number of bindings in the block
+	 * @param latencyMs       the time (in milliseconds) until the endpoint started to respond
+	 * @param numberOfResults the number of results of the block
+	 */
+	default void monitorBindJoinBlock(Endpoint e, int blockSize, long latencyMs, long numberOfResults) {
+	}
+
+	/**
+	 * Monitor a completed hash join.
+	 *
+	 * @param joinId       the display id of the join
+	 * @param leftResults  the number of bindings of the left argument
+	 * @param rightResults the number of bindings of the right argument
+	 * @param results      the number of join results
+	 * @param durationMs   the execution time in milliseconds
+	 */
+	default void monitorHashJoin(String joinId, long leftResults, long rightResults, long results,
+			long durationMs) {
+	}
 }
@@ -15,6 +15,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.rdf4j.federated.FedXConfig;
 import org.eclipse.rdf4j.federated.endpoint.Endpoint;
@@ -24,7 +25,7 @@ import org.eclipse.rdf4j.query.algebra.TupleExpr;
 /**
  * Implementation supporting the following monitoring features:
  *
- * - monitor remote requests per endpoint - maintain a query backlog using {@link QueryLog}
+ * - monitor remote requests and bind join blocks per endpoint - maintain a query backlog using {@link QueryLog}
  *
  *
  * @author andreas_s
@@ -55,6 +56,22 @@ public class MonitoringImpl implements MonitoringService {
 		m.increaseRequests();
 	}
 
+	@Override
+	public void monitorBindJoinBlock(Endpoint e, int blockSize, long latencyMs, long numberOfResults) {
+		MonitoringInformation m = requestMap.computeIfAbsent(e, (endpoint) -> new MonitoringInformation(endpoint));
+		m.addBindJoinBlock(blockSize, latencyMs);
+		if (queryLog != null) {
+			queryLog.logBindJoinBlock(e, blockSize, latencyMs, numberOfResults);
+		}
+	}
+
+	@Override
+	public void monitorHashJoin(String joinId, long leftResults, long rightResults, long results, long durationMs) {
+		if (queryLog != null) {
+			queryLog.logHashJoin(joinId, leftResults, rightResults, results, durationMs);
+		}
+	}
+
 	@Override
 	public MonitoringInformation getMonitoringInformation(Endpoint e) {
 		return requestMap.get(e);
@@ -73,6 +90,9 @@ public class MonitoringImpl implements MonitoringService {
 	public static class MonitoringInformation {
 		private final Endpoint e;
 		private AtomicInteger numberOfRequests = new AtomicInteger(0);
+		private final AtomicInteger numberOfBindJoinBlocks = new AtomicInteger(0);
+		private final AtomicLong numberOfBindJoinBindings = new AtomicLong(0);
+		private final AtomicLong bindJoinLatency = new AtomicLong(0);
 
 		public MonitoringInformation(Endpoint e) {
 			this.e = e;
@@ -82,6 +102,12 @@ public class MonitoringImpl implements MonitoringService {
 			numberOfRequests.incrementAndGet();
 		}
 
+		private void addBindJoinBlock(int blockSize, long latencyMs) {
+			numberOfBindJoinBlocks.incrementAndGet();
+			numberOfBindJoinBindings.addAndGet(blockSize);
+			bindJoinLatency.addAndGet(latencyMs);
+		}
+
 		@Override
 		public String toString() {
 			return e.getName() + " => " + numberOfRequests.get();
@@ -94,6 +120,32 @@ public class MonitoringImpl implements MonitoringService {
 		public int getNumberOfRequests() {
 			return numberOfRequests.get();
 		}
+
+		/**
+		 *
+		 * @return the number of bind join blocks sent to the endpoint
+		 */
+		public int getNumberOfBindJoinBlocks() {
+			return numberOfBindJoinBlocks.get();
+		}
+
+		/**
+		 *
+		 * @return the average number of bindings per bind join block, 0 if no blocks were sent
+		 */
+		public double getAverageBindJoinBlockSize() {
+			int blocks = numberOfBindJoinBlocks.get();
+			return blocks == 0 ? 0 : (double) numberOfBindJoinBindings.get() / blocks;
+		}
+
+		/**
+		 *
+		 * @return the average latency of bind join blocks in milliseconds, 0 if no blocks were sent
+		 */
+		public double getAverageBindJoinLatency() {
+			int blocks = numberOfBindJoinBlocks.get();
+			return blocks == 0 ? 0 : (double) bindJoinLatency.get() / blocks;
+		}
 	}
 
 	@Override
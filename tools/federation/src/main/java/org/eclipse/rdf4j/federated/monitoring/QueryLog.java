@@ -13,6 +13,7 @@ package org.eclipse.rdf4j.federated.monitoring;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.rdf4j.federated.FedXConfig;
+import org.eclipse.rdf4j.federated.endpoint.Endpoint;
 import org.eclipse.rdf4j.federated.structures.QueryInfo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -60,4 +61,24 @@ public class QueryLog {
 		}
 	}
 
+	/**
+	 * Log the statistics of a bind join block (on debug level).
+	 */
+	public void logBindJoinBlock(Endpoint e, int blockSize, long latencyMs, long numberOfResults) {
+		if (active.get() && queryLog.isDebugEnabled()) {
+			queryLog.debug("BindJoin block at {}: {} bindings, {} results, latency {}ms", e.getId(), blockSize,
+					numberOfResults, latencyMs);
+		}
+	}
+
+	/**
+	 * Log the statistics of a completed hash join (on debug level).
+	 */
+	public void logHashJoin(String joinId, long leftResults, long rightResults, long results, long durationMs) {
+		if (active.get() && queryLog.isDebugEnabled()) {
+			queryLog.debug("HashJoin {}: {} left, {} right, {} results, duration {}ms", joinId, leftResults,
+					rightResults, results, durationMs);
+		}
+	}
+
 }
@@ -17,11 +17,17 @@ import org.eclipse.rdf4j.federated.algebra.ExclusiveGroup;
 import org.eclipse.rdf4j.federated.algebra.ExclusiveStatement;
 import org.eclipse.rdf4j.federated.algebra.ExclusiveTupleExpr;
 import org.eclipse.rdf4j.federated.algebra.FedXService;
+import org.eclipse.rdf4j.federated.algebra.FedXStatementPattern;
 import org.eclipse.rdf4j.federated.algebra.NJoin;
 import org.eclipse.rdf4j.federated.algebra.NUnion;
+import org.eclipse.rdf4j.federated.algebra.StatementSource;
 import org.eclipse.rdf4j.federated.algebra.StatementSourcePattern;
+import org.eclipse.rdf4j.federated.summary.EndpointSummary;
+import org.eclipse.rdf4j.federated.summary.FederationSummary;
 import org.eclipse.rdf4j.federated.util.QueryAlgebraUtil;
 import org.eclipse.rdf4j.federated.util.QueryStringUtil;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.query.algebra.ArbitraryLengthPath;
 import org.eclipse.rdf4j.query.algebra.BindingSetAssignment;
 import org.eclipse.rdf4j.query.algebra.Extension;
@@ -33,6 +39,12 @@ import org.slf4j.LoggerFactory;
 /**
  * Default implementation of the {@link FedXCostModel}
  *
+ * <p>
+ * If a {@link FederationSummary} is available, the estimated cardinality of statement patterns is used as a tie-breaker
+ * between patterns which are otherwise considered equally expensive, i.e. patterns with fewer expected results are
+ * evaluated first.
+ * </p>
+ *
  * @author Andreas Schwarte
  *
  */
@@ -42,6 +54,26 @@ public class DefaultFedXCostModel implements FedXCostModel {
 
 	private static final Logger log = LoggerFactory.getLogger(DefaultFedXCostModel.class);
 
+	/**
+	 * The cost added for patterns without cardinality information. Chosen as the cost of ~100k results, such that
+	 * patterns with known cardinality are preferred unless they are large.
+	 */
+	private static final double UNKNOWN_CARDINALITY_COST = 0.5;
+
+	private final FederationSummary summary;
+
+	public DefaultFedXCostModel() {
+		this(null);
+	}
+
+	/**
+	 *
+	 * @param summary the {@link FederationSummary} used for cardinality estimates, may be <code>null</code>
+	 */
+	public DefaultFedXCostModel(FederationSummary summary) {
+		this.summary = summary;
+	}
+
 	@Override
 	public double estimateCost(TupleExpr tupleExpr, Set<String> joinVars) {
 
@@ -172,7 +204,7 @@ public class DefaultFedXCostModel implements FedXCostModel {
 			}
 		}
 
-		return count;
+		return count + estimateCardinalityCost(owned);
 	}
 
 	private double estimateCost(FedXService service, Set<String> joinVars) {
@@ -214,7 +246,33 @@ public class DefaultFedXCostModel implements FedXCostModel {
 			}
 		}
 
-		return count;
+		return count + estimateCardinalityCost(stmt);
+	}
+
+	/**
+	 * Estimate an additional cost in the range [0,1) based on the number of results expected from all sources of the
+	 * statement, as obtained from the {@link FederationSummary}. The cost grows logarithmically with the cardinality,
+	 * such that it only orders patterns with the same number of free variables.
+	 *
+	 * @return the additional cost, 0 if no {@link FederationSummary} is available
+	 */
+	private double estimateCardinalityCost(FedXStatementPattern stmt) {
+		if (summary == null || !stmt.getPredicateVar().hasValue()) {
+			return 0;
+		}
+		IRI predicate = (IRI) stmt.getPredicateVar().getValue();
+		Value object = stmt.getObjectVar().getValue();
+		long cardinality = 0;
+		for (StatementSource source : stmt.getStatementSources()) {
+			long estimate = summary.get(source.getEndpointID())
+					.map(s -> s.estimateCardinality(predicate, object))
+					.orElse(EndpointSummary.UNKNOWN_COUNT);
+			if (estimate == EndpointSummary.UNKNOWN_COUNT) {
+				return UNKNOWN_CARDINALITY_COST;
+			}
+			cardinality += estimate;
+		}
+		return Math.min(0.99, Math.log10(1 + cardinality) / 10);
 	}
 
 	private double estimateCost(NUnion nunion, Set<String> joinVars) {
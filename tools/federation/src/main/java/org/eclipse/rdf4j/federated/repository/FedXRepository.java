@@ -22,6 +22,7 @@ import org.eclipse.rdf4j.federated.evaluation.DelegateFederatedServiceResolver;
 import org.eclipse.rdf4j.federated.exception.FedXException;
 import org.eclipse.rdf4j.federated.monitoring.Monitoring;
 import org.eclipse.rdf4j.federated.monitoring.MonitoringFactory;
+import org.eclipse.rdf4j.federated.summary.FederationSummary;
 import org.eclipse.rdf4j.query.algebra.evaluation.federation.FederatedServiceResolver;
 import org.eclipse.rdf4j.repository.RepositoryException;
 import org.eclipse.rdf4j.repository.sail.SailRepository;
@@ -94,6 +95,9 @@ public class FedXRepository extends SailRepository {
 
 		super.initializeInternal();
 
+		federationContext.getFederationSummary()
+				.ifPresent(summary -> summary.start(federation.getDataDir(), federation::getMembers));
+
 		queryManager.init(this, federationContext);
 		fedxServiceResolver.initialize();
 	}
@@ -101,6 +105,7 @@ public class FedXRepository extends SailRepository {
 	@Override
 	protected void shutDownInternal() throws RepositoryException {
 		try {
+			federationContext.getFederationSummary().ifPresent(FederationSummary::shutDown);
 			federationContext.getManager().shutDown();
 		} catch (FedXException e) {
 			throw new SailException(e);
@@ -125,6 +125,27 @@ public class FedXRepositoryConfig extends AbstractRepositoryImplConfig {
 	 */
 	public static final IRI CONFIG_BOUND_JOIN_BLOCK_SIZE = vf.createIRI(NAMESPACE, "boundJoinBlockSize");
 
+	/**
+	 * IRI of the property populating {@link FedXConfig#isEnableAdaptiveBoundJoinBlockSize()}
+	 */
+	public static final IRI CONFIG_ENABLE_ADAPTIVE_BOUND_JOIN_BLOCK_SIZE = vf.createIRI(NAMESPACE,
+			"enableAdaptiveBoundJoinBlockSize");
+
+	/**
+	 * IRI of the property populating {@link FedXConfig#getBoundJoinMaxBlockSize()}
+	 */
+	public static final IRI CONFIG_BOUND_JOIN_MAX_BLOCK_SIZE = vf.createIRI(NAMESPACE, "boundJoinMaxBlockSize");
+
+	/**
+	 * IRI of the property populating {@link FedXConfig#getBoundJoinTargetLatency()}
+	 */
+	public static final IRI CONFIG_BOUND_JOIN_TARGET_LATENCY = vf.createIRI(NAMESPACE, "boundJoinTargetLatency");
+
+	/**
+	 * IRI of the property populating {@link FedXConfig#isEnableSymmetricHashJoin()}
+	 */
+	public static final IRI CONFIG_ENABLE_SYMMETRIC_HASH_JOIN = vf.createIRI(NAMESPACE, "enableSymmetricHashJoin");
+
 	/**
 	 * IRI of the property populating {@link FedXConfig#getEnforceMaxQueryTime()}
 	 */
@@ -180,6 +201,50 @@ public class FedXRepositoryConfig extends AbstractRepositoryImplConfig {
 	 */
 	public static final IRI CONFIG_CONSUMING_ITERATION_MAX = vf.createIRI(NAMESPACE, "consumingIterationMax");
 
+	/**
+	 * IRI of the property populating {@link FedXConfig#isEnableFederationSummary()}
+	 */
+	public static final IRI CONFIG_ENABLE_FEDERATION_SUMMARY = vf.createIRI(NAMESPACE, "enableFederationSummary");
+
+	/**
+	 * IRI of the property populating {@link FedXConfig#getFederationSummaryRefreshInterval()}
+	 */
+	public static final IRI CONFIG_FEDERATION_SUMMARY_REFRESH_INTERVAL = vf.createIRI(NAMESPACE,
+			"federationSummaryRefreshInterval");
+
+	/**
+	 * IRI of the property populating {@link FedXConfig#isEnableFederationSummaryStatisticsQueries()}
+	 */
+	public static final IRI CONFIG_ENABLE_FEDERATION_SUMMARY_STATISTICS_QUERIES = vf.createIRI(NAMESPACE,
+			"enableFederationSummaryStatisticsQueries");
+
+	/**
+	 * IRI of the property populating {@link FedXConfig#isEnableSubqueryResultCache()}
+	 */
+	public static final IRI CONFIG_ENABLE_SUBQUERY_RESULT_CACHE = vf.createIRI(NAMESPACE, "enableSubqueryResultCache");
+
+	/**
+	 * IRI of the property populating {@link FedXConfig#getSubqueryResultCacheSpec()}
+	 */
+	public static final IRI CONFIG_SUBQUERY_RESULT_CACHE_SPEC = vf.createIRI(NAMESPACE, "subqueryResultCacheSpec");
+
+	/**
+	 * IRI of the property populating {@link FedXConfig#isEnableVirtualThreadScheduler()}
+	 */
+	public static final IRI CONFIG_ENABLE_VIRTUAL_THREAD_SCHEDULER = vf.createIRI(NAMESPACE,
+			"enableVirtualThreadScheduler");
+
+	/**
+	 * IRI of the property populating {@link FedXConfig#getMaxConcurrentRequestsPerEndpoint()}
+	 */
+	public static final IRI CONFIG_MAX_CONCURRENT_REQUESTS_PER_ENDPOINT = vf.createIRI(NAMESPACE,
+			"maxConcurrentRequestsPerEndpoint");
+
+	/**
+	 * IRI of the property populating {@link FedXConfig#isEnableFairScheduling()}
+	 */
+	public static final IRI CONFIG_ENABLE_FAIR_SCHEDULING = vf.createIRI(NAMESPACE, "enableFairScheduling");
+
 	/**
 	 * the location of the data configuration
 	 */
@@ -330,6 +395,18 @@ public class FedXRepositoryConfig extends AbstractRepositoryImplConfig {
 		Models.objectLiteral(m.getStatements(confNode, CONFIG_BOUND_JOIN_BLOCK_SIZE, null))
 				.ifPresent(value -> config.withBoundJoinBlockSize(value.intValue()));
 
+		Models.objectLiteral(m.getStatements(confNode, CONFIG_ENABLE_ADAPTIVE_BOUND_JOIN_BLOCK_SIZE, null))
+				.ifPresent(value -> config.withEnableAdaptiveBoundJoinBlockSize(value.booleanValue()));
+
+		Models.objectLiteral(m.getStatements(confNode, CONFIG_BOUND_JOIN_MAX_BLOCK_SIZE, null))
+				.ifPresent(value -> config.withBoundJoinMaxBlockSize(value.intValue()));
+
+		Models.objectLiteral(m.getStatements(confNode, CONFIG_BOUND_JOIN_TARGET_LATENCY, null))
+				.ifPresent(value -> config.withBoundJoinTargetLatency(value.intValue()));
+
+		Models.objectLiteral(m.getStatements(confNode, CONFIG_ENABLE_SYMMETRIC_HASH_JOIN, null))
+				.ifPresent(value -> config.withEnableSymmetricHashJoin(value.booleanValue()));
+
 		Models.objectLiteral(m.getStatements(confNode, CONFIG_ENFORCE_MAX_QUERY_TIME, null))
 				.ifPresent(value -> config.withEnforceMaxQueryTime(value.intValue()));
 
@@ -363,6 +440,30 @@ public class FedXRepositoryConfig extends AbstractRepositoryImplConfig {
 		Models.objectLiteral(m.getStatements(confNode, CONFIG_CONSUMING_ITERATION_MAX, null))
 				.ifPresent(value -> config.withConsumingIterationMax(value.intValue()));
 
+		Models.objectLiteral(m.getStatements(confNode, CONFIG_ENABLE_FEDERATION_SUMMARY, null))
+				.ifPresent(value -> config.withEnableFederationSummary(value.booleanValue()));
+
+		Models.objectLiteral(m.getStatements(confNode, CONFIG_FEDERATION_SUMMARY_REFRESH_INTERVAL, null))
+				.ifPresent(value -> config.withFederationSummaryRefreshInterval(value.intValue()));
+
+		Models.objectLiteral(m.getStatements(confNode, CONFIG_ENABLE_FEDERATION_SUMMARY_STATISTICS_QUERIES, null))
+				.ifPresent(value -> config.withEnableFederationSummaryStatisticsQueries(value.booleanValue()));
+
+		Models.objectLiteral(m.getStatements(confNode, CONFIG_ENABLE_SUBQUERY_RESULT_CACHE, null))
+				.ifPresent(value -> config.withEnableSubqueryResultCache(value.booleanValue()));
+
+		Models.objectLiteral(m.getStatements(confNode, CONFIG_SUBQUERY_RESULT_CACHE_SPEC, null))
+				.ifPresent(value -> config.withSubqueryResultCacheSpec(value.stringValue()));
+
+		Models.objectLiteral(m.getStatements(confNode, CONFIG_ENABLE_VIRTUAL_THREAD_SCHEDULER, null))
+				.ifPresent(value -> config.withEnableVirtualThreadScheduler(value.booleanValue()));
+
+		Models.objectLiteral(m.getStatements(confNode, CONFIG_MAX_CONCURRENT_REQUESTS_PER_ENDPOINT, null))
+				.ifPresent(value -> config.withMaxConcurrentRequestsPerEndpoint(value.intValue()));
+
+		Models.objectLiteral(m.getStatements(confNode, CONFIG_ENABLE_FAIR_SCHEDULING, null))
+				.ifPresent(value -> config.withEnableFairScheduling(value.booleanValue()));
+
 	}
 
 	/**
@@ -387,6 +488,15 @@ public class FedXRepositoryConfig extends AbstractRepositoryImplConfig {
 
 		model.add(confNode, CONFIG_BOUND_JOIN_BLOCK_SIZE, vf.createLiteral(config.getBoundJoinBlockSize()));
 
+		model.add(confNode, CONFIG_ENABLE_ADAPTIVE_BOUND_JOIN_BLOCK_SIZE,
+				vf.createLiteral(config.isEnableAdaptiveBoundJoinBlockSize()));
+
+		model.add(confNode, CONFIG_BOUND_JOIN_MAX_BLOCK_SIZE, vf.createLiteral(config.getBoundJoinMaxBlockSize()));
+
+		model.add(confNode, CONFIG_BOUND_JOIN_TARGET_LATENCY, vf.createLiteral(config.getBoundJoinTargetLatency()));
+
+		model.add(confNode, CONFIG_ENABLE_SYMMETRIC_HASH_JOIN, vf.createLiteral(config.isEnableSymmetricHashJoin()));
+
 		model.add(confNode, CONFIG_ENFORCE_MAX_QUERY_TIME, vf.createLiteral(config.getEnforceMaxQueryTime()));
 
 		model.add(confNode, CONFIG_ENABLE_SERVICE_AS_BOUND_JOIN,
@@ -417,6 +527,30 @@ public class FedXRepositoryConfig extends AbstractRepositoryImplConfig {
 
 		model.add(confNode, CONFIG_CONSUMING_ITERATION_MAX, vf.createLiteral(config.getConsumingIterationMax()));
 
+		model.add(confNode, CONFIG_ENABLE_FEDERATION_SUMMARY, vf.createLiteral(config.isEnableFederationSummary()));
+
+		model.add(confNode, CONFIG_FEDERATION_SUMMARY_REFRESH_INTERVAL,
+				vf.createLiteral(config.getFederationSummaryRefreshInterval()));
+
+		model.add(confNode, CONFIG_ENABLE_FEDERATION_SUMMARY_STATISTICS_QUERIES,
+				vf.createLiteral(config.isEnableFederationSummaryStatisticsQueries()));
+
+		model.add(confNode, CONFIG_ENABLE_SUBQUERY_RESULT_CACHE,
+				vf.createLiteral(config.isEnableSubqueryResultCache()));
+
+		if (config.getSubqueryResultCacheSpec() != null) {
+			model.add(confNode, CONFIG_SUBQUERY_RESULT_CACHE_SPEC,
+					vf.createLiteral(config.getSubqueryResultCacheSpec()));
+		}
+
+		model.add(confNode, CONFIG_ENABLE_VIRTUAL_THREAD_SCHEDULER,
+				vf.createLiteral(config.isEnableVirtualThreadScheduler()));
+
+		model.add(confNode, CONFIG_MAX_CONCURRENT_REQUESTS_PER_ENDPOINT,
+				vf.createLiteral(config.getMaxConcurrentRequestsPerEndpoint()));
+
+		model.add(confNode, CONFIG_ENABLE_FAIR_SCHEDULING, vf.createLiteral(config.isEnableFairScheduling()));
+
 		model.add(implNode, FEDX_CONFIG, confNode);
 	}
 }
@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.federated.summary;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+
+/**
+ * Statistics about the data of a single federation member, comparable to a VoID description with property and class
+ * partitions. Summaries are immutable and replaced as a whole when an endpoint is harvested again.
+ *
+ * <p>
+ * Counts may be {@link #UNKNOWN_COUNT} if the source of the summary only indicated that a predicate or class occurs,
+ * e.g. a VoID partition without <code>void:triples</code>.
+ * </p>
+ *
+ * <p>
+ * A summary is {@link #isComplete() complete} if it lists all predicates and classes of the endpoint, i.e. if it was
+ * computed from the data itself. A published VoID description may only describe part of the data, hence predicates and
+ * classes missing from an incomplete summary are treated as unknown rather than as absent.
+ * </p>
+ *
+ * @see SummaryHarvester
+ */
+public class EndpointSummary {
+
+	/**
+	 * Marker for predicates or classes that are known to occur, but whose cardinality is unknown.
+	 */
+	public static final long UNKNOWN_COUNT = -1;
+
+	private final String endpointId;
+
+	private final long harvestedAt;
+
+	private final long totalTriples;
+
+	private final Map<IRI, Long> predicateCounts;
+
+	private final Map<IRI, Long> classCounts;
+
+	private final boolean complete;
+
+	/**
+	 * Create an incomplete summary, see {@link #isComplete()}.
+	 *
+	 * @param endpointId      the id of the summarized endpoint
+	 * @param harvestedAt     the time (in milliseconds since the epoch) when the information was obtained
+	 * @param totalTriples    the total number of triples, {@link #UNKNOWN_COUNT} if unknown
+	 * @param predicateCounts the number of triples per predicate
+	 * @param classCounts     the number of instances per class
+	 */
+	public EndpointSummary(String endpointId, long harvestedAt, long totalTriples, Map<IRI, Long> predicateCounts,
+			Map<IRI, Long> classCounts) {
+		this(endpointId, harvestedAt, totalTriples, predicateCounts, classCounts, false);
+	}
+
+	/**
+	 *
+	 * @param endpointId      the id of the summarized endpoint
+	 * @param harvestedAt     the time (in milliseconds since the epoch) when the information was obtained
+	 * @param totalTriples    the total number of triples, {@link #UNKNOWN_COUNT} if unknown
+	 * @param predicateCounts the number of triples per predicate
+	 * @param classCounts     the number of instances per class
+	 * @param complete        whether the counts cover all predicates and classes of the endpoint
+	 */
+	public EndpointSummary(String endpointId, long harvestedAt, long totalTriples, Map<IRI, Long> predicateCounts,
+			Map<IRI, Long> classCounts, boolean complete) {
+		this.endpointId = endpointId;
+		this.harvestedAt = harvestedAt;
+		this.totalTriples = totalTriples;
+		this.predicateCounts = Collections.unmodifiableMap(new HashMap<>(predicateCounts));
+		this.classCounts = Collections.unmodifiableMap(new HashMap<>(classCounts));
+		this.complete = complete;
+	}
+
+	public String getEndpointId() {
+		return endpointId;
+	}
+
+	/**
+	 *
+	 * @return the time (in milliseconds since the epoch) when the summary was harvested
+	 */
+	public long getHarvestedAt() {
+		return harvestedAt;
+	}
+
+	/**
+	 *
+	 * @return the total number of triples, {@link #UNKNOWN_COUNT} if unknown
+	 */
+	public long getTotalTriples() {
+		return totalTriples;
+	}
+
+	public Map<IRI, Long> getPredicateCounts() {
+		return predicateCounts;
+	}
+
+	public Map<IRI, Long> getClassCounts() {
+		return classCounts;
+	}
+
+	/**
+	 *
+	 * @return whether the summary lists all predicates and classes of the endpoint, such that a missing predicate or
+	 *         class means that the endpoint has no such triples
+	 */
+	public boolean isComplete() {
+		return complete;
+	}
+
+	/**
+	 *
+	 * @param predicate
+	 * @return whether the endpoint has at least one triple with the given predicate
+	 */
+	public boolean hasPredicate(IRI predicate) {
+		Long count = predicateCounts.get(predicate);
+		return count != null && count != 0;
+	}
+
+	/**
+	 *
+	 * @param type
+	 * @return whether the endpoint has at least one instance of the given class
+	 */
+	public boolean hasClass(IRI type) {
+		Long count = classCounts.get(type);
+		return count != null && count != 0;
+	}
+
+	/**
+	 * Whether this summary excludes any triples for a pattern with the given predicate and object. This is the case if
+	 * the summary is {@link #isComplete() complete} and the predicate does not occur at all, or if the pattern is a
+	 * <code>rdf:type</code> pattern for a class without instances (provided that class information is available at
+	 * all). An incomplete summary never excludes a pattern.
+	 *
+	 * @param predicate the predicate, must not be <code>null</code>
+	 * @param object    the object, may be <code>null</code>
+	 * @return <code>true</code> if the endpoint cannot provide any matching triple
+	 */
+	public boolean excludes(IRI predicate, Value object) {
+		if (!complete) {
+			return false;
+		}
+		if (!hasPredicate(predicate)) {
+			return true;
+		}
+		return isClassPattern(predicate, object) && !hasClass((IRI) object);
+	}
+
+	/**
+	 * Estimate the number of triples matching a pattern with the given predicate and object.
+	 *
+	 * @param predicate the predicate, must not be <code>null</code>
+	 * @param object    the object, may be <code>null</code>
+	 * @return the estimated cardinality, {@link #UNKNOWN_COUNT} if no estimate is possible
+	 */
+	public long estimateCardinality(IRI predicate, Value object) {
+		if (excludes(predicate, object)) {
+			return 0;
+		}
+		if (isClassPattern(predicate, object)) {
+			return classCounts.getOrDefault(object, UNKNOWN_COUNT);
+		}
+		return predicateCounts.getOrDefault(predicate, UNKNOWN_COUNT);
+	}
+
+	private boolean isClassPattern(IRI predicate, Value object) {
+		return RDF.TYPE.equals(predicate) && object instanceof IRI && !classCounts.isEmpty();
+	}
+
+	@Override
+	public String toString() {
+		return "EndpointSummary [endpointId=" + endpointId + ", totalTriples=" + totalTriples + ", predicates="
+				+ predicateCounts.size() + ", classes=" + classCounts.size() + ", complete=" + complete + "]";
+	}
+}
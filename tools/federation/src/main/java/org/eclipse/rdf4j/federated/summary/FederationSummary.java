@@ -0,0 +1,351 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.federated.summary;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.eclipse.rdf4j.federated.endpoint.Endpoint;
+import org.eclipse.rdf4j.federated.evaluation.concurrent.NamingThreadFactory;
+import org.eclipse.rdf4j.federated.util.Vocabulary.FEDX;
+import org.eclipse.rdf4j.model.BNode;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.util.Models;
+import org.eclipse.rdf4j.model.util.Values;
+import org.eclipse.rdf4j.model.vocabulary.DCTERMS;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.model.vocabulary.VOID;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.Rio;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Maintains the {@link EndpointSummary} statistics of all federation members.
+ *
+ * <p>
+ * Summaries are harvested in the background by a {@link SummaryHarvester} and persisted as VoID description in the
+ * file {@value #SUMMARY_FILE} of the federation's data directory, such that they are available immediately after a
+ * restart. If the federation does not have a data directory, summaries are only kept in memory. Summaries older than
+ * the configured refresh interval are harvested again; a failed harvest keeps the previous summary.
+ * </p>
+ *
+ * <p>
+ * While no summary is available for an endpoint, source selection and join ordering behave as without statistics.
+ * Endpoints are only pruned based on summaries which are {@link EndpointSummary#isComplete() complete} and
+ * {@link #isFresh(EndpointSummary) fresh}.
+ * </p>
+ *
+ * @see org.eclipse.rdf4j.federated.FedXConfig#isEnableFederationSummary()
+ */
+public class FederationSummary {
+
+	private static final Logger log = LoggerFactory.getLogger(FederationSummary.class);
+
+	/**
+	 * Name of the file in the data directory of the federation in which summaries are persisted
+	 */
+	public static final String SUMMARY_FILE = "federation-summary.ttl";
+
+	private final Map<String, EndpointSummary> summaries = new ConcurrentHashMap<>();
+
+	private final SummaryHarvester harvester;
+
+	private final long refreshIntervalMs;
+
+	private volatile File summaryFile;
+
+	private volatile ScheduledExecutorService scheduler;
+
+	/**
+	 *
+	 * @param harvester              the harvester used to obtain the summaries
+	 * @param refreshIntervalSeconds the interval after which summaries are harvested again, 0 to never refresh
+	 */
+	public FederationSummary(SummaryHarvester harvester, int refreshIntervalSeconds) {
+		this.harvester = harvester;
+		this.refreshIntervalMs = TimeUnit.SECONDS.toMillis(refreshIntervalSeconds);
+	}
+
+	/**
+	 * Load persisted summaries (if any) and start harvesting in the background.
+	 *
+	 * @param dataDir the data directory of the federation, may be <code>null</code>
+	 * @param members supplier for the current federation members
+	 */
+	public void start(File dataDir, Supplier<List<Endpoint>> members) {
+		if (dataDir != null) {
+			summaryFile = new File(dataDir, SUMMARY_FILE);
+			load();
+		}
+		scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread t = new NamingThreadFactory("FedX Summary Harvester").newThread(r);
+			t.setDaemon(true);
+			return t;
+		});
+		scheduler.execute(() -> harvestAll(members.get()));
+		if (refreshIntervalMs > 0) {
+			scheduler.scheduleWithFixedDelay(() -> harvestAll(members.get()), refreshIntervalMs, refreshIntervalMs,
+					TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * Stop background harvesting and persist the current summaries.
+	 */
+	public void shutDown() {
+		if (scheduler != null) {
+			scheduler.shutdownNow();
+			try {
+				scheduler.awaitTermination(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			scheduler = null;
+		}
+		persist();
+	}
+
+	/**
+	 *
+	 * @param endpointId
+	 * @return the summary of the given endpoint, an empty {@link Optional} if none is available (yet)
+	 */
+	public Optional<EndpointSummary> get(String endpointId) {
+		return Optional.ofNullable(summaries.get(endpointId));
+	}
+
+	/**
+	 * Set the summary of an endpoint, replacing any previous summary.
+	 *
+	 * @param summary
+	 */
+	public void put(EndpointSummary summary) {
+		summaries.put(summary.getEndpointId(), summary);
+	}
+
+	/**
+	 * Remove the summary of the given endpoint, e.g. if the endpoint is removed from the federation.
+	 *
+	 * @param endpointId
+	 */
+	public void remove(String endpointId) {
+		summaries.remove(endpointId);
+	}
+
+	/**
+	 * Remove all summaries. They are harvested again with the next refresh.
+	 */
+	public void invalidate() {
+		summaries.clear();
+	}
+
+	/**
+	 * Schedule a harvest of the given endpoint, e.g. if it has been added to the federation. Does nothing if the
+	 * harvester is not running.
+	 *
+	 * @param endpoint
+	 */
+	public void scheduleHarvest(Endpoint endpoint) {
+		ScheduledExecutorService s = scheduler;
+		if (s != null && !s.isShutdown()) {
+			s.execute(() -> {
+				harvest(endpoint);
+				persist();
+			});
+		}
+	}
+
+	/**
+	 * Harvest all endpoints without a summary or with a stale summary.
+	 */
+	void harvestAll(List<Endpoint> endpoints) {
+		boolean changed = false;
+		for (Endpoint e : endpoints) {
+			if (Thread.currentThread().isInterrupted()) {
+				return;
+			}
+			if (isStale(summaries.get(e.getId()))) {
+				changed |= harvest(e);
+			}
+		}
+		if (changed) {
+			persist();
+		}
+	}
+
+	/**
+	 *
+	 * @param summary
+	 * @return whether the summary was harvested within the refresh interval, always <code>true</code> if summaries are
+	 *         never refreshed
+	 */
+	public boolean isFresh(EndpointSummary summary) {
+		return !isStale(summary);
+	}
+
+	private boolean isStale(EndpointSummary summary) {
+		if (summary == null) {
+			return true;
+		}
+		return refreshIntervalMs > 0 && System.currentTimeMillis() - summary.getHarvestedAt() >= refreshIntervalMs;
+	}
+
+	private boolean harvest(Endpoint e) {
+		try {
+			EndpointSummary summary = harvester.harvest(e);
+			put(summary);
+			log.debug("Harvested summary for endpoint {}: {}", e.getId(), summary);
+			return true;
+		} catch (Exception ex) {
+			log.warn("Failed to harvest summary for endpoint " + e.getId() + ": " + ex.getMessage());
+			log.debug("Details:", ex);
+			return false;
+		}
+	}
+
+	/**
+	 * Write the summaries to the summary file, if any. The file is replaced atomically.
+	 */
+	synchronized void persist() {
+		if (summaryFile == null) {
+			return;
+		}
+		try {
+			File tmp = new File(summaryFile.getParentFile(), SUMMARY_FILE + ".tmp");
+			Files.createDirectories(tmp.getParentFile().toPath());
+			try (OutputStream out = Files.newOutputStream(tmp.toPath())) {
+				Rio.write(toModel(summaries.values()), out, RDFFormat.TURTLE);
+			}
+			Files.move(tmp.toPath(), summaryFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			log.warn("Failed to persist federation summary to " + summaryFile + ": " + e.getMessage());
+			log.debug("Details:", e);
+		}
+	}
+
+	private void load() {
+		if (!summaryFile.isFile()) {
+			return;
+		}
+		try (InputStream in = Files.newInputStream(summaryFile.toPath())) {
+			Model model = Rio.parse(in, RDFFormat.TURTLE);
+			for (EndpointSummary summary : fromModel(model)) {
+				put(summary);
+			}
+			log.debug("Loaded {} endpoint summaries from {}", summaries.size(), summaryFile);
+		} catch (Exception e) {
+			log.warn("Failed to load federation summary from " + summaryFile + ": " + e.getMessage());
+			log.debug("Details:", e);
+		}
+	}
+
+	static Model toModel(Iterable<EndpointSummary> summaries) {
+		Model model = new LinkedHashModel();
+		model.setNamespace(VOID.NS);
+		model.setNamespace(DCTERMS.NS);
+		for (EndpointSummary summary : summaries) {
+			BNode dataset = Values.bnode();
+			model.add(dataset, RDF.TYPE, VOID.DATASET);
+			model.add(dataset, DCTERMS.IDENTIFIER, Values.literal(summary.getEndpointId()));
+			model.add(dataset, DCTERMS.MODIFIED, Values.literal(
+					OffsetDateTime.ofInstant(Instant.ofEpochMilli(summary.getHarvestedAt()), ZoneOffset.UTC)));
+			if (summary.isComplete()) {
+				model.add(dataset, FEDX.COMPLETE_SUMMARY, Values.literal(true));
+			}
+			if (summary.getTotalTriples() != EndpointSummary.UNKNOWN_COUNT) {
+				model.add(dataset, VOID.TRIPLES, Values.literal(summary.getTotalTriples()));
+			}
+			for (Map.Entry<IRI, Long> e : summary.getPredicateCounts().entrySet()) {
+				BNode partition = Values.bnode();
+				model.add(dataset, VOID.PROPERTY_PARTITION, partition);
+				model.add(partition, VOID.PROPERTY, e.getKey());
+				if (e.getValue() != EndpointSummary.UNKNOWN_COUNT) {
+					model.add(partition, VOID.TRIPLES, Values.literal(e.getValue().longValue()));
+				}
+			}
+			for (Map.Entry<IRI, Long> e : summary.getClassCounts().entrySet()) {
+				BNode partition = Values.bnode();
+				model.add(dataset, VOID.CLASS_PARTITION, partition);
+				model.add(partition, VOID.CLASS, e.getKey());
+				if (e.getValue() != EndpointSummary.UNKNOWN_COUNT) {
+					model.add(partition, VOID.ENTITIES, Values.literal(e.getValue().longValue()));
+				}
+			}
+		}
+		return model;
+	}
+
+	static List<EndpointSummary> fromModel(Model model) {
+		return model.filter(null, DCTERMS.IDENTIFIER, null)
+				.stream()
+				.map(st -> {
+					Resource dataset = st.getSubject();
+					String endpointId = st.getObject().stringValue();
+					long harvestedAt = Models.objectLiteral(model.filter(dataset, DCTERMS.MODIFIED, null))
+							.map(l -> l.calendarValue().toGregorianCalendar().getTimeInMillis())
+							.orElse(0L);
+					long totalTriples = count(model, dataset, VOID.TRIPLES);
+					Map<IRI, Long> predicateCounts = partitions(model, dataset, VOID.PROPERTY_PARTITION,
+							VOID.PROPERTY, VOID.TRIPLES);
+					Map<IRI, Long> classCounts = partitions(model, dataset, VOID.CLASS_PARTITION, VOID.CLASS,
+							VOID.ENTITIES);
+					boolean complete = Models.objectLiteral(model.filter(dataset, FEDX.COMPLETE_SUMMARY, null))
+							.map(Literal::booleanValue)
+							.orElse(false);
+					return new EndpointSummary(endpointId, harvestedAt, totalTriples, predicateCounts,
+							classCounts, complete);
+				})
+				.collect(Collectors.toList());
+	}
+
+	private static Map<IRI, Long> partitions(Model model, Resource dataset, IRI partitionProperty, IRI keyProperty,
+			IRI countProperty) {
+		Map<IRI, Long> res = new HashMap<>();
+		for (Value partition : model.filter(dataset, partitionProperty, null).objects()) {
+			if (!(partition instanceof Resource)) {
+				continue;
+			}
+			Models.objectIRI(model.filter((Resource) partition, keyProperty, null))
+					.ifPresent(key -> res.put(key, count(model, (Resource) partition, countProperty)));
+		}
+		return res;
+	}
+
+	private static long count(Model model, Resource subject, IRI property) {
+		return Models.objectLiteral(model.filter(subject, property, null))
+				.map(Literal::longValue)
+				.orElse(EndpointSummary.UNKNOWN_COUNT);
+	}
+}
@@ -0,0 +1,35 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.federated.summary;
+
+import org.eclipse.rdf4j.federated.endpoint.Endpoint;
+import org.eclipse.rdf4j.repository.RepositoryException;
+
+/**
+ * Obtains an {@link EndpointSummary} for a federation member.
+ *
+ * <p>
+ * Implementations are invoked from a background thread of the {@link FederationSummary} and must be thread-safe.
+ * </p>
+ *
+ * @see VoidSummaryHarvester
+ */
+public interface SummaryHarvester {
+
+	/**
+	 * Harvest the statistics of the given (initialized) endpoint.
+	 *
+	 * @param endpoint the endpoint
+	 * @return the {@link EndpointSummary}
+	 * @throws RepositoryException if the statistics cannot be obtained
+	 */
+	EndpointSummary harvest(Endpoint endpoint) throws RepositoryException;
+}
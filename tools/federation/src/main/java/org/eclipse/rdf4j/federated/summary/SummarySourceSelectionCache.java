@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.federated.summary;
+
+import java.util.Optional;
+
+import org.eclipse.rdf4j.federated.cache.SourceSelectionCache;
+import org.eclipse.rdf4j.federated.endpoint.Endpoint;
+import org.eclipse.rdf4j.federated.structures.SubQuery;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+
+/**
+ * A {@link SourceSelectionCache} which answers from the {@link FederationSummary} where possible and otherwise
+ * consults the wrapped cache.
+ *
+ * <ul>
+ * <li>If the summary of an endpoint is {@link EndpointSummary#isComplete() complete} and
+ * {@link FederationSummary#isFresh(EndpointSummary) fresh}, and does not contain the predicate (or the class of a
+ * <code>rdf:type</code> pattern), the endpoint is pruned, i.e. {@link StatementSourceAssurance#NONE} is returned.</li>
+ * <li>If the summary contains the predicate and neither subject, object (except for the class of a
+ * <code>rdf:type</code> pattern) nor contexts are bound, {@link StatementSourceAssurance#HAS_REMOTE_STATEMENTS} is
+ * returned.</li>
+ * <li>Otherwise the wrapped cache is consulted, e.g. for predicates missing from an incomplete summary.</li>
+ * </ul>
+ *
+ * <p>
+ * Note that pruning relies on the summary being up to date: data added to an endpoint after its last harvest (but
+ * within the refresh interval) may not be considered until the summary is refreshed.
+ * </p>
+ */
+public class SummarySourceSelectionCache implements SourceSelectionCache {
+
+	private final SourceSelectionCache delegate;
+
+	private final FederationSummary summary;
+
+	public SummarySourceSelectionCache(SourceSelectionCache delegate, FederationSummary summary) {
+		this.delegate = delegate;
+		this.summary = summary;
+	}
+
+	@Override
+	public StatementSourceAssurance getAssurance(SubQuery subQuery, Endpoint endpoint) {
+		if (subQuery.predicate() == null) {
+			return delegate.getAssurance(subQuery, endpoint);
+		}
+		Optional<EndpointSummary> endpointSummary = summary.get(endpoint.getId());
+		if (endpointSummary.isEmpty()) {
+			return delegate.getAssurance(subQuery, endpoint);
+		}
+		EndpointSummary s = endpointSummary.get();
+		if (summary.isFresh(s) && s.excludes(subQuery.predicate(), subQuery.object())) {
+			return StatementSourceAssurance.NONE;
+		}
+		if (s.hasPredicate(subQuery.predicate()) && subQuery.subject() == null && subQuery.contexts().length == 0
+				&& (subQuery.object() == null || isKnownClassPattern(s, subQuery))) {
+			return StatementSourceAssurance.HAS_REMOTE_STATEMENTS;
+		}
+		return delegate.getAssurance(subQuery, endpoint);
+	}
+
+	private boolean isKnownClassPattern(EndpointSummary s, SubQuery subQuery) {
+		return RDF.TYPE.equals(subQuery.predicate()) && !s.getClassCounts().isEmpty()
+				&& subQuery.object().isIRI() && s.hasClass((IRI) subQuery.object());
+	}
+
+	@Override
+	public void updateInformation(SubQuery subQuery, Endpoint endpoint, boolean hasStatements) {
+		delegate.updateInformation(subQuery, endpoint, hasStatements);
+	}
+
+	@Override
+	public void invalidate() {
+		delegate.invalidate();
+	}
+
+	/**
+	 *
+	 * @return the wrapped {@link SourceSelectionCache}
+	 */
+	public SourceSelectionCache getDelegate() {
+		return delegate;
+	}
+}
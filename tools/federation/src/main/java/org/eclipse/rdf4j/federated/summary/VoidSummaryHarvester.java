@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.federated.summary;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.rdf4j.federated.endpoint.Endpoint;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.QueryLanguage;
+import org.eclipse.rdf4j.query.TupleQuery;
+import org.eclipse.rdf4j.query.TupleQueryResult;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.RepositoryException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link SummaryHarvester} which obtains the statistics of an endpoint from its VoID description, i.e. from
+ * <code>void:propertyPartition</code> and <code>void:classPartition</code> resources. A published VoID description
+ * may only describe part of the data, hence the resulting summary is not {@link EndpointSummary#isComplete() complete}.
+ *
+ * <p>
+ * If the endpoint does not publish such a description and statistics queries are enabled, the statistics are computed
+ * with aggregate queries over the data, resulting in a complete summary. Note that the aggregate queries scan the
+ * complete data of the endpoint and can be expensive for large endpoints, hence they are opt-in and evaluated with a
+ * maximum execution time. If they are disabled, the summary of such an endpoint is empty.
+ * </p>
+ */
+public class VoidSummaryHarvester implements SummaryHarvester {
+
+	private static final Logger log = LoggerFactory.getLogger(VoidSummaryHarvester.class);
+
+	private static final String VOID_PROPERTY_PARTITIONS = "PREFIX void: <http://rdfs.org/ns/void#> "
+			+ "SELECT ?p ?c WHERE { ?d void:propertyPartition ?pp . ?pp void:property ?p . "
+			+ "OPTIONAL { ?pp void:triples ?c } }";
+
+	private static final String VOID_CLASS_PARTITIONS = "PREFIX void: <http://rdfs.org/ns/void#> "
+			+ "SELECT ?t ?c WHERE { ?d void:classPartition ?cp . ?cp void:class ?t . "
+			+ "OPTIONAL { ?cp void:entities ?c } }";
+
+	private static final String VOID_TRIPLES = "PREFIX void: <http://rdfs.org/ns/void#> "
+			+ "SELECT ?c WHERE { ?d void:propertyPartition ?pp ; void:triples ?c }";
+
+	private static final String COUNT_PREDICATES = "SELECT ?p (COUNT(*) AS ?c) WHERE { ?s ?p ?o } GROUP BY ?p";
+
+	private static final String COUNT_CLASSES = "SELECT ?t (COUNT(*) AS ?c) WHERE { ?s a ?t } GROUP BY ?t";
+
+	private final boolean statisticsQueries;
+
+	private final int maxExecutionTime;
+
+	/**
+	 * Create a harvester which only uses published VoID descriptions.
+	 */
+	public VoidSummaryHarvester() {
+		this(false, 0);
+	}
+
+	/**
+	 *
+	 * @param statisticsQueries whether statistics are computed with aggregate queries for endpoints without a VoID
+	 *                          description
+	 * @param maxExecutionTime  the maximum execution time of each aggregate query in seconds, 0 for no limit
+	 */
+	public VoidSummaryHarvester(boolean statisticsQueries, int maxExecutionTime) {
+		this.statisticsQueries = statisticsQueries;
+		this.maxExecutionTime = maxExecutionTime;
+	}
+
+	@Override
+	public EndpointSummary harvest(Endpoint endpoint) throws RepositoryException {
+		long harvestedAt = System.currentTimeMillis();
+		try (RepositoryConnection conn = endpoint.getConnection()) {
+			Map<IRI, Long> predicateCounts = new HashMap<>();
+			Map<IRI, Long> classCounts = new HashMap<>();
+
+			collectCounts(conn, VOID_PROPERTY_PARTITIONS, "p", predicateCounts, 0);
+			if (!predicateCounts.isEmpty()) {
+				log.debug("Using VoID description of endpoint {}", endpoint.getId());
+				collectCounts(conn, VOID_CLASS_PARTITIONS, "t", classCounts, 0);
+				return new EndpointSummary(endpoint.getId(), harvestedAt, queryTotalTriples(conn), predicateCounts,
+						classCounts, false);
+			}
+			if (!statisticsQueries) {
+				log.debug("No VoID description available for endpoint {}", endpoint.getId());
+				return new EndpointSummary(endpoint.getId(), harvestedAt, EndpointSummary.UNKNOWN_COUNT,
+						predicateCounts, classCounts, false);
+			}
+			log.debug("No VoID description available for endpoint {}, computing statistics", endpoint.getId());
+			collectCounts(conn, COUNT_PREDICATES, "p", predicateCounts, maxExecutionTime);
+			collectCounts(conn, COUNT_CLASSES, "t", classCounts, maxExecutionTime);
+			long totalTriples = predicateCounts.values().stream().mapToLong(Long::longValue).sum();
+			return new EndpointSummary(endpoint.getId(), harvestedAt, totalTriples, predicateCounts, classCounts,
+					true);
+		}
+	}
+
+	/**
+	 * Evaluate the query and add the counts per IRI to the given map. A missing count is recorded as
+	 * {@link EndpointSummary#UNKNOWN_COUNT}, multiple counts for the same IRI (e.g. from several datasets) are summed
+	 * up.
+	 */
+	private void collectCounts(RepositoryConnection conn, String query, String keyBinding, Map<IRI, Long> counts,
+			int maxExecutionTime) {
+		TupleQuery tupleQuery = conn.prepareTupleQuery(QueryLanguage.SPARQL, query);
+		if (maxExecutionTime > 0) {
+			tupleQuery.setMaxExecutionTime(maxExecutionTime);
+		}
+		try (TupleQueryResult res = tupleQuery.evaluate()) {
+			while (res.hasNext()) {
+				BindingSet b = res.next();
+				Value key = b.getValue(keyBinding);
+				if (!(key instanceof IRI)) {
+					continue;
+				}
+				long count = toCount(b.getValue("c"));
+				counts.merge((IRI) key, count, VoidSummaryHarvester::sum);
+			}
+		}
+	}
+
+	private long queryTotalTriples(RepositoryConnection conn) {
+		Long total = null;
+		try (TupleQueryResult res = conn.prepareTupleQuery(QueryLanguage.SPARQL, VOID_TRIPLES).evaluate()) {
+			while (res.hasNext()) {
+				long count = toCount(res.next().getValue("c"));
+				total = total == null ? count : sum(total, count);
+			}
+		}
+		return total == null ? EndpointSummary.UNKNOWN_COUNT : total;
+	}
+
+	private static long toCount(Value value) {
+		if (value instanceof Literal) {
+			try {
+				return ((Literal) value).longValue();
+			} catch (NumberFormatException e) {
+				// ignore malformed counts
+			}
+		}
+		return EndpointSummary.UNKNOWN_COUNT;
+	}
+
+	private static long sum(long a, long b) {
+		if (a == EndpointSummary.UNKNOWN_COUNT || b == EndpointSummary.UNKNOWN_COUNT) {
+			return EndpointSummary.UNKNOWN_COUNT;
+		}
+		return a + b;
+	}
+}
@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.federated.cache;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.Iterations;
+import org.eclipse.rdf4j.federated.SPARQLBaseTest;
+import org.eclipse.rdf4j.federated.endpoint.Endpoint;
+import org.eclipse.rdf4j.federated.endpoint.EndpointFactory;
+import org.eclipse.rdf4j.federated.monitoring.MonitoringImpl.MonitoringInformation;
+import org.eclipse.rdf4j.federated.monitoring.MonitoringService;
+import org.eclipse.rdf4j.model.vocabulary.FOAF;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.TupleQueryResult;
+import org.eclipse.rdf4j.query.impl.ListBindingSet;
+import org.eclipse.rdf4j.repository.sparql.federation.CollectionIteration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SubqueryResultCacheTest extends SPARQLBaseTest {
+
+	private static final String QUERY = "SELECT ?person ?name WHERE { ?person a <" + FOAF.PERSON + "> . ?person <"
+			+ FOAF.NAME + "> ?name }";
+
+	@Override
+	protected void initFedXConfig() {
+		fedxRule.withConfiguration(c -> c.withEnableMonitoring(true).withEnableSubqueryResultCache(true));
+	}
+
+	@Test
+	public void testRepeatedQuery() throws Exception {
+
+		// results are only cached for remote endpoints
+		assumeSparqlEndpoint();
+
+		List<Endpoint> endpoints = prepareTest(
+				Arrays.asList("/tests/medium/data1.ttl", "/tests/medium/data2.ttl", "/tests/medium/data3.ttl",
+						"/tests/medium/data4.ttl"));
+
+		Set<BindingSet> expected = evaluate();
+		Assertions.assertFalse(expected.isEmpty());
+		Assertions.assertTrue(requests(endpoints) > 0);
+
+		// second execution is answered from the caches
+		monitoring().resetMonitoringInformation();
+		Assertions.assertEquals(expected, evaluate());
+		Assertions.assertEquals(0, requests(endpoints));
+
+		// after invalidation the endpoints are queried again
+		federationContext().getManager().invalidateSubqueryResultCache();
+		monitoring().resetMonitoringInformation();
+		Assertions.assertEquals(expected, evaluate());
+		Assertions.assertTrue(requests(endpoints) > 0);
+	}
+
+	@Test
+	public void testOnlyCompleteResultsAreCached() {
+
+		// just execute for one kind of test environment
+		assumeSparqlEndpoint();
+
+		SubqueryResultCache cache = new SubqueryResultCache();
+		Endpoint ep = EndpointFactory.loadResolvableRepository("dummy");
+
+		List<BindingSet> result = Arrays.asList(
+				new ListBindingSet(List.of("x"), l("a")),
+				new ListBindingSet(List.of("x"), l("b")));
+
+		// partially consumed
+		try (CloseableIteration<BindingSet> iter = cache.cache(ep, "query", true,
+				new CollectionIteration<>(result))) {
+			iter.next();
+		}
+		Assertions.assertNull(cache.get(ep, "query", true));
+
+		// completely consumed
+		try (CloseableIteration<BindingSet> iter = cache.cache(ep, "query", true,
+				new CollectionIteration<>(result))) {
+			Assertions.assertEquals(result, Iterations.asList(iter));
+		}
+		Assertions.assertEquals(result, cache.get(ep, "query", true));
+		Assertions.assertNull(cache.get(ep, "query", false));
+
+		cache.invalidate(ep.getId());
+		Assertions.assertNull(cache.get(ep, "query", true));
+	}
+
+	@Test
+	public void testNonDeterministicQueriesAreNotCached() {
+
+		// just execute for one kind of test environment
+		assumeSparqlEndpoint();
+
+		SubqueryResultCache cache = new SubqueryResultCache();
+		Endpoint ep = EndpointFactory.loadResolvableRepository("dummy");
+
+		String query = "SELECT ?x WHERE { BIND(rand() AS ?x) }";
+		List<BindingSet> result = List.of(new ListBindingSet(List.of("x"), l("a")));
+		try (CloseableIteration<BindingSet> iter = cache.cache(ep, query, true, new CollectionIteration<>(result))) {
+			Iterations.asList(iter);
+		}
+		Assertions.assertNull(cache.get(ep, query, true));
+	}
+
+	@Test
+	public void testCanonicalOrderOfBindings() {
+
+		// just execute for one kind of test environment
+		assumeSparqlEndpoint();
+
+		BindingSet a = new ListBindingSet(List.of("x", "y"), l("a"), l("b"));
+		BindingSet b = new ListBindingSet(List.of("x", "y"), l("a"), l("c"));
+		BindingSet c = new ListBindingSet(List.of("x"), l("b"));
+
+		List<BindingSet> expected = SubqueryResultCache.inCanonicalOrder(List.of(a, b, c));
+		Assertions.assertEquals(expected, SubqueryResultCache.inCanonicalOrder(List.of(c, b, a)));
+		Assertions.assertEquals(expected, SubqueryResultCache.inCanonicalOrder(List.of(b, c, a)));
+	}
+
+	private Set<BindingSet> evaluate() {
+		try (TupleQueryResult tqr = federationContext().getQueryManager().prepareTupleQuery(QUERY).evaluate()) {
+			return Iterations.asSet(tqr);
+		}
+	}
+
+	private int requests(List<Endpoint> endpoints) {
+		int res = 0;
+		for (Endpoint e : endpoints) {
+			MonitoringInformation m = monitoring().getMonitoringInformation(e);
+			res += m == null ? 0 : m.getNumberOfRequests();
+		}
+		return res;
+	}
+
+	private MonitoringService monitoring() {
+		return (MonitoringService) federationContext().getMonitoringService();
+	}
+}
@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.federated.evaluation.concurrent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.rdf4j.federated.SPARQLBaseTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class VirtualThreadSchedulerTest extends SPARQLBaseTest {
+
+	private final VirtualThreadCountingTaskWrapper taskWrapper = new VirtualThreadCountingTaskWrapper();
+
+	@Override
+	protected void initFedXConfig() {
+		fedxRule.withConfiguration(c -> c.withTaskWrapper(taskWrapper)
+				.withEnableVirtualThreadScheduler(true)
+				.withMaxConcurrentRequestsPerEndpoint(1)
+				.withJoinWorkerThreads(2)
+				.withUnionWorkerThreads(2));
+	}
+
+	@BeforeEach
+	public void resetTaskCount() {
+		taskWrapper.virtualTaskCount.set(0);
+	}
+
+	@Test
+	public void testJoin() throws Exception {
+		prepareTest(Arrays.asList("/tests/data/data1.ttl", "/tests/data/data2.ttl"));
+		execute("/tests/boundjoin/query01.rq", "/tests/boundjoin/query01.srx", false, true);
+		Assertions.assertTrue(taskWrapper.virtualTaskCount.get() > 0);
+	}
+
+	@Test
+	public void testUnion() throws Exception {
+		prepareTest(Arrays.asList("/tests/medium/data1.ttl", "/tests/medium/data2.ttl", "/tests/medium/data3.ttl",
+				"/tests/medium/data4.ttl"));
+		execute("/tests/medium/query04.rq", "/tests/medium/query04.srx", false, true);
+		execute("/tests/medium/query05.rq", "/tests/medium/query05.srx", false, true);
+		Assertions.assertTrue(taskWrapper.virtualTaskCount.get() > 0);
+	}
+
+	@Test
+	public void testConcurrencyLimiter() throws Exception {
+
+		// just execute for one kind of test environment
+		assumeSparqlEndpoint();
+
+		ConcurrencyLimiter limiter = new ConcurrencyLimiter(2, true);
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		// the first two operations for ep1 wait for each other, such that they are guaranteed to overlap
+		CountDownLatch overlap = new CountDownLatch(2);
+		CountDownLatch done = new CountDownLatch(20);
+
+		ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+		try {
+			for (int i = 0; i < 20; i++) {
+				String key = i % 2 == 0 ? "ep1" : "ep2";
+				executor.execute(() -> {
+					try {
+						Assertions.assertTrue(limiter.acquire(key));
+						try {
+							if (key.equals("ep1")) {
+								maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+								overlap.countDown();
+								Assertions.assertTrue(overlap.await(10, TimeUnit.SECONDS));
+								Thread.sleep(1);
+								running.decrementAndGet();
+							}
+						} finally {
+							limiter.release(key);
+						}
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					} finally {
+						done.countDown();
+					}
+				});
+			}
+			Assertions.assertTrue(done.await(10, TimeUnit.SECONDS));
+		} finally {
+			executor.shutdownNow();
+		}
+
+		Assertions.assertEquals(0, overlap.getCount());
+		Assertions.assertTrue(maxRunning.get() <= 2);
+		// no limits are retained for keys without running operations
+		Assertions.assertEquals(0, limiter.size());
+		// no limit for null keys
+		Assertions.assertFalse(limiter.acquire(null));
+	}
+
+	@Test
+	public void testConcurrencyLimiter_FairAmongOwners() throws Exception {
+
+		// just execute for one kind of test environment
+		assumeSparqlEndpoint();
+
+		Assertions.assertEquals(List.of("q1", "q2", "q1", "q1"), grantOrder(true));
+		Assertions.assertEquals(List.of("q1", "q1", "q1", "q2"), grantOrder(false));
+	}
+
+	/**
+	 * Let owner q1 queue three operations and then owner q2 queue one operation while the only permit is held.
+	 *
+	 * @return the owners in the order in which they were granted the permit
+	 */
+	private List<String> grantOrder(boolean fair) throws Exception {
+		ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, fair);
+		List<String> order = Collections.synchronizedList(new ArrayList<>());
+		List<Thread> threads = new ArrayList<>();
+
+		Assertions.assertTrue(limiter.acquire("ep", "q1"));
+		for (String owner : List.of("q1", "q1", "q1", "q2")) {
+			threads.add(Thread.ofVirtual().start(() -> {
+				try {
+					limiter.acquire("ep", owner);
+					order.add(owner);
+					limiter.release("ep");
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}));
+			// enqueue the operations in a defined order
+			while (limiter.waiting("ep") < threads.size()) {
+				Thread.sleep(1);
+			}
+		}
+		limiter.release("ep");
+
+		for (Thread t : threads) {
+			Assertions.assertTrue(t.join(Duration.ofSeconds(10)));
+		}
+		Assertions.assertEquals(0, limiter.size());
+		return order;
+	}
+
+	static class VirtualThreadCountingTaskWrapper implements TaskWrapper {
+
+		AtomicInteger virtualTaskCount = new AtomicInteger(0);
+
+		@Override
+		public Runnable wrap(Runnable runnable) {
+			return () -> {
+				if (Thread.currentThread().isVirtual()) {
+					virtualTaskCount.incrementAndGet();
+				}
+				runnable.run();
+			};
+		}
+
+		@Override
+		public <T> Callable<T> wrap(Callable<T> callable) {
+			return callable;
+		}
+	}
+}
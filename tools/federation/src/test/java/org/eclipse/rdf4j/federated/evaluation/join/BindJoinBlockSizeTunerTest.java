@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.federated.evaluation.join;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class BindJoinBlockSizeTunerTest {
+
+	@Test
+	public void testDisabled() {
+		BindJoinBlockSizeTuner tuner = new BindJoinBlockSizeTuner(false, 25, 200, 1000);
+
+		tuner.update("ep", 25, 10, 5);
+		Assertions.assertEquals(25, tuner.getBlockSize("ep"));
+	}
+
+	@Test
+	public void testIncreaseForFastEndpoint() {
+		BindJoinBlockSizeTuner tuner = new BindJoinBlockSizeTuner(true, 20, 200, 1000);
+
+		tuner.update("ep", 20, 10, 5);
+		Assertions.assertEquals(30, tuner.getBlockSize("ep"));
+
+		for (int i = 0; i < 20; i++) {
+			tuner.update("ep", tuner.getBlockSize("ep"), 10, 5);
+		}
+		Assertions.assertEquals(200, tuner.getBlockSize("ep"));
+
+		// other endpoints are not affected
+		Assertions.assertEquals(20, tuner.getBlockSize("other"));
+	}
+
+	@Test
+	public void testDecreaseForSlowEndpoint() {
+		BindJoinBlockSizeTuner tuner = new BindJoinBlockSizeTuner(true, 20, 200, 1000);
+
+		// latency of 1.25 times the target
+		tuner.update("ep", 20, 1250, 5);
+		Assertions.assertEquals(16, tuner.getBlockSize("ep"));
+
+		// reduced by at most half
+		tuner.update("ep", 16, 10000, 5);
+		Assertions.assertEquals(8, tuner.getBlockSize("ep"));
+
+		for (int i = 0; i < 20; i++) {
+			tuner.update("ep", tuner.getBlockSize("ep"), 10000, 5);
+		}
+		Assertions.assertEquals(1, tuner.getBlockSize("ep"));
+	}
+
+	@Test
+	public void testDecreaseForLargeResults() {
+		BindJoinBlockSizeTuner tuner = new BindJoinBlockSizeTuner(true, 100, 200, 1000);
+
+		tuner.update("ep", 100, 10, 4 * BindJoinBlockSizeTuner.MAX_RESULTS_PER_BLOCK);
+		Assertions.assertEquals(25, tuner.getBlockSize("ep"));
+	}
+
+	@Test
+	public void testIgnoreSmallBlocks() {
+		BindJoinBlockSizeTuner tuner = new BindJoinBlockSizeTuner(true, 100, 200, 1000);
+
+		// the last block of a join is typically smaller and not representative
+		tuner.update("ep", 10, 5000, 5);
+		Assertions.assertEquals(100, tuner.getBlockSize("ep"));
+	}
+}
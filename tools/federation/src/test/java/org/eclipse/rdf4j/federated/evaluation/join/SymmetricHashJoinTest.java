@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.federated.evaluation.join;
+
+import java.util.Arrays;
+
+import org.eclipse.rdf4j.federated.SPARQLBaseTest;
+import org.eclipse.rdf4j.federated.endpoint.Endpoint;
+import org.eclipse.rdf4j.federated.monitoring.MonitoringImpl.MonitoringInformation;
+import org.eclipse.rdf4j.federated.monitoring.MonitoringService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Join evaluation with adaptive bind join block sizes and symmetric hash joins enabled.
+ */
+public class SymmetricHashJoinTest extends SPARQLBaseTest {
+
+	@Override
+	protected void initFedXConfig() {
+		fedxRule.withConfiguration(c -> c.withEnableMonitoring(true)
+				.withEnableAdaptiveBoundJoinBlockSize(true)
+				.withBoundJoinBlockSize(2)
+				.withEnableSymmetricHashJoin(true));
+	}
+
+	@Test
+	public void testBindJoin() throws Exception {
+
+		// bind joins are only used for SPARQL endpoints
+		assumeSparqlEndpoint();
+
+		prepareTest(Arrays.asList("/tests/data/data1.ttl", "/tests/data/data2.ttl"));
+		execute("/tests/boundjoin/query01.rq", "/tests/boundjoin/query01.srx", false, true);
+
+		int blocks = 0;
+		for (Endpoint e : federationContext().getEndpointManager().getAvailableEndpoints()) {
+			MonitoringInformation m = monitoring().getMonitoringInformation(e);
+			if (m != null) {
+				blocks += m.getNumberOfBindJoinBlocks();
+			}
+		}
+		Assertions.assertTrue(blocks > 0);
+	}
+
+	@Test
+	public void testMediumQueries() throws Exception {
+		prepareTest(Arrays.asList("/tests/medium/data1.ttl", "/tests/medium/data2.ttl", "/tests/medium/data3.ttl",
+				"/tests/medium/data4.ttl"));
+		for (int i = 1; i <= 12; i++) {
+			String query = String.format("/tests/medium/query%02d", i);
+			execute(query + ".rq", query + ".srx", false, true);
+		}
+	}
+
+	@Test
+	public void testSubSelect() throws Exception {
+		prepareTest(Arrays.asList("/tests/medium/data1.ttl", "/tests/medium/data4.ttl"));
+		execute("/tests/subselects/query01.rq", "/tests/subselects/query01.srx", false, true);
+	}
+
+	private MonitoringService monitoring() {
+		return (MonitoringService) federationContext().getMonitoringService();
+	}
+}
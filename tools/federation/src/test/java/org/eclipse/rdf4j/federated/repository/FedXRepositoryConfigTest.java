@@ -159,7 +159,7 @@ public class FedXRepositoryConfigTest {
 					.orElse(null);
 			assertThat(configNode).isNotNull();
 
-			assertThat(export.filter(configNode, null, null)).hasSize(15);
+			assertThat(export.filter(configNode, null, null)).hasSize(27);
 
 			assertThat(
 					Models.objectLiteral(
@@ -178,6 +178,26 @@ public class FedXRepositoryConfigTest {
 					Models.objectLiteral(
 							export.getStatements(configNode, FedXRepositoryConfig.CONFIG_BOUND_JOIN_BLOCK_SIZE, null)))
 					.hasValueSatisfying(v -> assertThat(v.intValue()).isEqualTo(104));
+			assertThat(
+					Models.objectLiteral(
+							export.getStatements(configNode, FedXRepositoryConfig.CONFIG_ENABLE_ADAPTIVE_BOUND_JOIN_BLOCK_SIZE,
+									null)))
+					.hasValueSatisfying(v -> assertThat(v.booleanValue()).isTrue());
+			assertThat(
+					Models.objectLiteral(
+							export.getStatements(configNode, FedXRepositoryConfig.CONFIG_BOUND_JOIN_MAX_BLOCK_SIZE,
+									null)))
+					.hasValueSatisfying(v -> assertThat(v.intValue()).isEqualTo(108));
+			assertThat(
+					Models.objectLiteral(
+							export.getStatements(configNode, FedXRepositoryConfig.CONFIG_BOUND_JOIN_TARGET_LATENCY,
+									null)))
+					.hasValueSatisfying(v -> assertThat(v.intValue()).isEqualTo(109));
+			assertThat(
+					Models.objectLiteral(
+							export.getStatements(configNode, FedXRepositoryConfig.CONFIG_ENABLE_SYMMETRIC_HASH_JOIN,
+									null)))
+					.hasValueSatisfying(v -> assertThat(v.booleanValue()).isTrue());
 			assertThat(
 					Models.objectLiteral(
 							export.getStatements(configNode, FedXRepositoryConfig.CONFIG_ENFORCE_MAX_QUERY_TIME, null)))
@@ -231,6 +251,46 @@ public class FedXRepositoryConfigTest {
 							export.getStatements(configNode, FedXRepositoryConfig.CONFIG_CONSUMING_ITERATION_MAX,
 									null)))
 					.hasValueSatisfying(v -> assertThat(v.intValue()).isEqualTo(106));
+			assertThat(
+					Models.objectLiteral(
+							export.getStatements(configNode, FedXRepositoryConfig.CONFIG_ENABLE_FEDERATION_SUMMARY,
+									null)))
+					.hasValueSatisfying(v -> assertThat(v.booleanValue()).isTrue());
+			assertThat(
+					Models.objectLiteral(
+							export.getStatements(configNode,
+									FedXRepositoryConfig.CONFIG_FEDERATION_SUMMARY_REFRESH_INTERVAL, null)))
+					.hasValueSatisfying(v -> assertThat(v.intValue()).isEqualTo(107));
+			assertThat(
+					Models.objectLiteral(
+							export.getStatements(configNode,
+									FedXRepositoryConfig.CONFIG_ENABLE_FEDERATION_SUMMARY_STATISTICS_QUERIES, null)))
+					.hasValueSatisfying(v -> assertThat(v.booleanValue()).isTrue());
+			assertThat(
+					Models.objectLiteral(
+							export.getStatements(configNode, FedXRepositoryConfig.CONFIG_ENABLE_SUBQUERY_RESULT_CACHE,
+									null)))
+					.hasValueSatisfying(v -> assertThat(v.booleanValue()).isTrue());
+			assertThat(
+					Models.objectLiteral(
+							export.getStatements(configNode, FedXRepositoryConfig.CONFIG_SUBQUERY_RESULT_CACHE_SPEC,
+									null)))
+					.hasValueSatisfying(v -> assertThat(v.stringValue()).isEqualTo("result-spec-goes-here"));
+			assertThat(
+					Models.objectLiteral(
+							export.getStatements(configNode,
+									FedXRepositoryConfig.CONFIG_ENABLE_VIRTUAL_THREAD_SCHEDULER, null)))
+					.hasValueSatisfying(v -> assertThat(v.booleanValue()).isTrue());
+			assertThat(
+					Models.objectLiteral(
+							export.getStatements(configNode,
+									FedXRepositoryConfig.CONFIG_MAX_CONCURRENT_REQUESTS_PER_ENDPOINT, null)))
+					.hasValueSatisfying(v -> assertThat(v.intValue()).isEqualTo(110));
+			assertThat(
+					Models.objectLiteral(
+							export.getStatements(configNode, FedXRepositoryConfig.CONFIG_ENABLE_FAIR_SCHEDULING,
+									null)))
+					.hasValueSatisfying(v -> assertThat(v.booleanValue()).isFalse());
 		}
 
 		@Test
@@ -247,9 +307,9 @@ public class FedXRepositoryConfigTest {
 					.orElse(null);
 			assertThat(configNode).isNotNull();
 
-			// Note: 13 instead of 15 since CONFIG_SOURCE_SELECTION_CACHE_SPEC & CONFIG_PREFIX_DECLARATIONS are null
-			// and thus should not be populated
-			assertThat(export.filter(configNode, null, null)).hasSize(13);
+			// Note: 23 instead of 26 since CONFIG_SOURCE_SELECTION_CACHE_SPEC, CONFIG_PREFIX_DECLARATIONS &
+			// CONFIG_SUBQUERY_RESULT_CACHE_SPEC are null and thus should not be populated
+			assertThat(export.filter(configNode, null, null)).hasSize(24);
 
 			assertThat(
 					Models.objectLiteral(
@@ -268,6 +328,26 @@ public class FedXRepositoryConfigTest {
 					Models.objectLiteral(
 							export.getStatements(configNode, FedXRepositoryConfig.CONFIG_BOUND_JOIN_BLOCK_SIZE, null)))
 					.hasValueSatisfying(v -> assertThat(v.intValue()).isEqualTo(25));
+			assertThat(
+					Models.objectLiteral(
+							export.getStatements(configNode, FedXRepositoryConfig.CONFIG_ENABLE_ADAPTIVE_BOUND_JOIN_BLOCK_SIZE,
+									null)))
+					.hasValueSatisfying(v -> assertThat(v.booleanValue()).isFalse());
+			assertThat(
+					Models.objectLiteral(
+							export.getStatements(configNode, FedXRepositoryConfig.CONFIG_BOUND_JOIN_MAX_BLOCK_SIZE,
+									null)))
+					.hasValueSatisfying(v -> assertThat(v.intValue()).isEqualTo(200));
+			assertThat(
+					Models.objectLiteral(
+							export.getStatements(configNode, FedXRepositoryConfig.CONFIG_BOUND_JOIN_TARGET_LATENCY,
+									null)))
+					.hasValueSatisfying(v -> assertThat(v.intValue()).isEqualTo(1000));
+			assertThat(
+					Models.objectLiteral(
+							export.getStatements(configNode, FedXRepositoryConfig.CONFIG_ENABLE_SYMMETRIC_HASH_JOIN,
+									null)))
+					.hasValueSatisfying(v -> assertThat(v.booleanValue()).isFalse());
 			assertThat(
 					Models.objectLiteral(
 							export.getStatements(configNode, FedXRepositoryConfig.CONFIG_ENFORCE_MAX_QUERY_TIME, null)))
@@ -308,6 +388,36 @@ public class FedXRepositoryConfigTest {
 							export.getStatements(configNode, FedXRepositoryConfig.CONFIG_CONSUMING_ITERATION_MAX,
 									null)))
 					.hasValueSatisfying(v -> assertThat(v.intValue()).isEqualTo(1000));
+			assertThat(
+					Models.objectLiteral(
+							export.getStatements(configNode, FedXRepositoryConfig.CONFIG_ENABLE_FEDERATION_SUMMARY,
+									null)))
+					.hasValueSatisfying(v -> assertThat(v.booleanValue()).isFalse());
+			assertThat(
+					Models.objectLiteral(
+							export.getStatements(configNode,
+									FedXRepositoryConfig.CONFIG_FEDERATION_SUMMARY_REFRESH_INTERVAL, null)))
+					.hasValueSatisfying(v -> assertThat(v.intValue()).isEqualTo(86400));
+			assertThat(
+					Models.objectLiteral(
+							export.getStatements(configNode, FedXRepositoryConfig.CONFIG_ENABLE_SUBQUERY_RESULT_CACHE,
+									null)))
+					.hasValueSatisfying(v -> assertThat(v.booleanValue()).isFalse());
+			assertThat(
+					Models.objectLiteral(
+							export.getStatements(configNode,
+									FedXRepositoryConfig.CONFIG_ENABLE_VIRTUAL_THREAD_SCHEDULER, null)))
+					.hasValueSatisfying(v -> assertThat(v.booleanValue()).isFalse());
+			assertThat(
+					Models.objectLiteral(
+							export.getStatements(configNode,
+									FedXRepositoryConfig.CONFIG_MAX_CONCURRENT_REQUESTS_PER_ENDPOINT, null)))
+					.hasValueSatisfying(v -> assertThat(v.intValue()).isEqualTo(0));
+			assertThat(
+					Models.objectLiteral(
+							export.getStatements(configNode, FedXRepositoryConfig.CONFIG_ENABLE_FAIR_SCHEDULING,
+									null)))
+					.hasValueSatisfying(v -> assertThat(v.booleanValue()).isTrue());
 		}
 	}
 }
@@ -0,0 +1,207 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Eclipse RDF4J contributors.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Distribution License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ *******************************************************************************/
+package org.eclipse.rdf4j.federated.summary;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.rdf4j.common.iteration.Iterations;
+import org.eclipse.rdf4j.federated.SPARQLBaseTest;
+import org.eclipse.rdf4j.federated.cache.SourceSelectionCache.StatementSourceAssurance;
+import org.eclipse.rdf4j.federated.cache.SourceSelectionMemoryCache;
+import org.eclipse.rdf4j.federated.endpoint.Endpoint;
+import org.eclipse.rdf4j.federated.endpoint.EndpointFactory;
+import org.eclipse.rdf4j.federated.monitoring.MonitoringImpl.MonitoringInformation;
+import org.eclipse.rdf4j.federated.monitoring.MonitoringService;
+import org.eclipse.rdf4j.federated.structures.SubQuery;
+import org.eclipse.rdf4j.model.vocabulary.FOAF;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.query.TupleQueryResult;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FederationSummaryTest extends SPARQLBaseTest {
+
+	@TempDir
+	File summaryDir;
+
+	private final FederationSummary summary = new FederationSummary(new VoidSummaryHarvester(true, 30), 0);
+
+	@Override
+	protected void initFedXConfig() {
+		fedxRule.withConfiguration(c -> c.withEnableMonitoring(true)
+				.withSourceSelectionCacheFactory(
+						() -> new SummarySourceSelectionCache(new SourceSelectionMemoryCache(), summary)));
+	}
+
+	@Test
+	public void testAssurance() {
+
+		// just execute for one kind of test environment
+		assumeSparqlEndpoint();
+
+		SummarySourceSelectionCache cache = new SummarySourceSelectionCache(new SourceSelectionMemoryCache(),
+				summary);
+
+		Endpoint ep = EndpointFactory.loadResolvableRepository("dummy");
+
+		SubQuery name = new SubQuery(null, FOAF.NAME, null);
+		SubQuery alan = new SubQuery(null, FOAF.NAME, l("Alan"));
+		SubQuery person = new SubQuery(null, RDF.TYPE, FOAF.PERSON);
+		SubQuery agent = new SubQuery(null, RDF.TYPE, FOAF.AGENT);
+		SubQuery interest = new SubQuery(null, FOAF.INTEREST, null);
+
+		// no summary available yet
+		Assertions.assertEquals(StatementSourceAssurance.POSSIBLY_HAS_STATEMENTS, cache.getAssurance(name, ep));
+
+		summary.put(new EndpointSummary(ep.getId(), System.currentTimeMillis(), 5,
+				Map.of(FOAF.NAME, 2L, RDF.TYPE, 3L), Map.of(FOAF.PERSON, 3L), true));
+
+		Assertions.assertEquals(StatementSourceAssurance.HAS_REMOTE_STATEMENTS, cache.getAssurance(name, ep));
+		Assertions.assertEquals(StatementSourceAssurance.HAS_REMOTE_STATEMENTS, cache.getAssurance(person, ep));
+		Assertions.assertEquals(StatementSourceAssurance.NONE, cache.getAssurance(agent, ep));
+		Assertions.assertEquals(StatementSourceAssurance.NONE, cache.getAssurance(interest, ep));
+
+		// bound object requires a remote check
+		Assertions.assertEquals(StatementSourceAssurance.POSSIBLY_HAS_STATEMENTS, cache.getAssurance(alan, ep));
+
+		summary.remove(ep.getId());
+		Assertions.assertEquals(StatementSourceAssurance.POSSIBLY_HAS_STATEMENTS, cache.getAssurance(interest, ep));
+	}
+
+	@Test
+	public void testAssurance_IncompleteOrStale() {
+
+		// just execute for one kind of test environment
+		assumeSparqlEndpoint();
+
+		FederationSummary refreshed = new FederationSummary(new VoidSummaryHarvester(), 60);
+		SummarySourceSelectionCache cache = new SummarySourceSelectionCache(new SourceSelectionMemoryCache(),
+				refreshed);
+
+		Endpoint ep = EndpointFactory.loadResolvableRepository("dummy");
+
+		SubQuery name = new SubQuery(null, FOAF.NAME, null);
+		SubQuery agent = new SubQuery(null, RDF.TYPE, FOAF.AGENT);
+		SubQuery interest = new SubQuery(null, FOAF.INTEREST, null);
+
+		// e.g. a partial VoID description: missing predicates and classes are unknown
+		refreshed.put(new EndpointSummary(ep.getId(), System.currentTimeMillis(), 5,
+				Map.of(FOAF.NAME, 2L, RDF.TYPE, 3L), Map.of(FOAF.PERSON, 3L)));
+		Assertions.assertEquals(StatementSourceAssurance.HAS_REMOTE_STATEMENTS, cache.getAssurance(name, ep));
+		Assertions.assertEquals(StatementSourceAssurance.POSSIBLY_HAS_STATEMENTS, cache.getAssurance(agent, ep));
+		Assertions.assertEquals(StatementSourceAssurance.POSSIBLY_HAS_STATEMENTS, cache.getAssurance(interest, ep));
+		Assertions.assertEquals(EndpointSummary.UNKNOWN_COUNT,
+				refreshed.get(ep.getId()).orElseThrow().estimateCardinality(FOAF.INTEREST, null));
+
+		// complete, but harvested before the refresh interval
+		refreshed.put(new EndpointSummary(ep.getId(), System.currentTimeMillis() - 120_000, 5,
+				Map.of(FOAF.NAME, 2L, RDF.TYPE, 3L), Map.of(FOAF.PERSON, 3L), true));
+		Assertions.assertEquals(StatementSourceAssurance.POSSIBLY_HAS_STATEMENTS, cache.getAssurance(agent, ep));
+		Assertions.assertEquals(StatementSourceAssurance.POSSIBLY_HAS_STATEMENTS, cache.getAssurance(interest, ep));
+
+		// complete and fresh
+		refreshed.put(new EndpointSummary(ep.getId(), System.currentTimeMillis(), 5,
+				Map.of(FOAF.NAME, 2L, RDF.TYPE, 3L), Map.of(FOAF.PERSON, 3L), true));
+		Assertions.assertEquals(StatementSourceAssurance.NONE, cache.getAssurance(agent, ep));
+		Assertions.assertEquals(StatementSourceAssurance.NONE, cache.getAssurance(interest, ep));
+	}
+
+	@Test
+	public void testPersistence() {
+
+		// just execute for one kind of test environment
+		assumeSparqlEndpoint();
+
+		FederationSummary s1 = new FederationSummary(e -> {
+			throw new IllegalStateException("not expected");
+		}, 0);
+		s1.start(summaryDir, List::of);
+		s1.put(new EndpointSummary("ep1", 1000, 5, Map.of(FOAF.NAME, 2L, RDF.TYPE, EndpointSummary.UNKNOWN_COUNT),
+				Map.of(FOAF.PERSON, 3L), true));
+		s1.put(new EndpointSummary("ep2", 1000, EndpointSummary.UNKNOWN_COUNT, Map.of(FOAF.NAME, 2L), Map.of()));
+		s1.shutDown();
+
+		Assertions.assertTrue(new File(summaryDir, FederationSummary.SUMMARY_FILE).isFile());
+
+		FederationSummary s2 = new FederationSummary(e -> {
+			throw new IllegalStateException("not expected");
+		}, 0);
+		s2.start(summaryDir, List::of);
+		try {
+			EndpointSummary loaded = s2.get("ep1").orElseThrow();
+			Assertions.assertEquals(1000, loaded.getHarvestedAt());
+			Assertions.assertEquals(5, loaded.getTotalTriples());
+			Assertions.assertEquals(Map.of(FOAF.NAME, 2L, RDF.TYPE, EndpointSummary.UNKNOWN_COUNT),
+					loaded.getPredicateCounts());
+			Assertions.assertEquals(Map.of(FOAF.PERSON, 3L), loaded.getClassCounts());
+			Assertions.assertEquals(EndpointSummary.UNKNOWN_COUNT, loaded.estimateCardinality(RDF.TYPE, null));
+			Assertions.assertEquals(3, loaded.estimateCardinality(RDF.TYPE, FOAF.PERSON));
+			Assertions.assertTrue(loaded.isComplete());
+			Assertions.assertFalse(s2.get("ep2").orElseThrow().isComplete());
+		} finally {
+			s2.shutDown();
+		}
+	}
+
+	@Test
+	public void testPruning_Integration() throws Exception {
+
+		// just execute for one kind of test environment
+		assumeSparqlEndpoint();
+
+		List<Endpoint> endpoints = prepareTest(
+				Arrays.asList("/tests/basic/data01endpoint1.ttl", "/tests/basic/data01endpoint2.ttl"));
+
+		summary.harvestAll(endpoints);
+		Assertions.assertTrue(summary.get(endpoints.get(1).getId()).orElseThrow().isComplete());
+		Assertions.assertTrue(summary.get(endpoints.get(0).getId()).orElseThrow().hasPredicate(FOAF.NAME));
+		Assertions.assertFalse(summary.get(endpoints.get(1).getId()).orElseThrow().hasPredicate(FOAF.NAME));
+		monitoring().resetMonitoringInformation();
+
+		String query = "SELECT * WHERE { ?person <" + FOAF.NAME + "> ?name }";
+		try (TupleQueryResult tqr = federationContext().getQueryManager().prepareTupleQuery(query).evaluate()) {
+			Assertions.assertEquals(2, Iterations.asList(tqr).size());
+		}
+
+		// source selection answered from the summary, only fetching data
+		Assertions.assertEquals(1, requestsForEndpoint(endpoints.get(0)));
+		// pruned by the summary
+		Assertions.assertEquals(0, requestsForEndpoint(endpoints.get(1)));
+	}
+
+	@Test
+	public void testStatisticsQueriesAreOptIn() throws Exception {
+
+		// just execute for one kind of test environment
+		assumeSparqlEndpoint();
+
+		List<Endpoint> endpoints = prepareTest(
+				Arrays.asList("/tests/basic/data01endpoint1.ttl", "/tests/basic/data01endpoint2.ttl"));
+
+		EndpointSummary s = new VoidSummaryHarvester().harvest(endpoints.get(0));
+		Assertions.assertFalse(s.isComplete());
+		Assertions.assertTrue(s.getPredicateCounts().isEmpty());
+		Assertions.assertFalse(s.excludes(FOAF.NAME, null));
+	}
+
+	private int requestsForEndpoint(Endpoint endpoint) {
+		MonitoringInformation m = monitoring().getMonitoringInformation(endpoint);
+		return m == null ? 0 : m.getNumberOfRequests();
+	}
+
+	private MonitoringService monitoring() {
+		return (MonitoringService) federationContext().getMonitoringService();
+	}
+}